@@ -0,0 +1,1847 @@
+NAME          mixed-100
+ROWS
+ N  COST
+ G  R1
+ G  R2
+ E  R3
+ L  R4
+ L  R5
+ L  R6
+ L  R7
+ G  R8
+ G  R9
+ G  R10
+ E  R11
+ L  R12
+ L  R13
+ L  R14
+ L  R15
+ L  R16
+ E  R17
+ L  R18
+ G  R19
+ E  R20
+ L  R21
+ G  R22
+ E  R23
+ L  R24
+ E  R25
+ L  R26
+ L  R27
+ G  R28
+ L  R29
+ G  R30
+ L  R31
+ E  R32
+ L  R33
+ L  R34
+ L  R35
+ L  R36
+ E  R37
+ L  R38
+ E  R39
+ L  R40
+ G  R41
+ G  R42
+ L  R43
+ E  R44
+ L  R45
+ E  R46
+ L  R47
+ G  R48
+ L  R49
+ L  R50
+ L  R51
+ G  R52
+ E  R53
+ L  R54
+ G  R55
+ G  R56
+ G  R57
+ E  R58
+ L  R59
+ L  R60
+ L  R61
+ E  R62
+ L  R63
+ G  R64
+ L  R65
+ L  R66
+ E  R67
+ L  R68
+ L  R69
+ G  R70
+ G  R71
+ L  R72
+ L  R73
+ E  R74
+ L  R75
+ L  R76
+ L  R77
+ L  R78
+ L  R79
+ L  R80
+ L  R81
+ G  R82
+ L  R83
+ G  R84
+ L  R85
+ G  R86
+ L  R87
+ L  R88
+ G  R89
+ G  R90
+ G  R91
+ G  R92
+ L  R93
+ E  R94
+ G  R95
+ L  R96
+ E  R97
+ E  R98
+ G  R99
+ E  R100
+COLUMNS
+    C1        COST      8
+    C1        R31       -1
+    C1        R40       -3
+    C1        R43       -7
+    C1        R52       6
+    C1        R53       -2
+    C1        R55       -5
+    C1        R72       -2
+    C1        R89       3
+    C2        COST      6
+    C2        R33       2
+    C2        R41       4
+    C2        R50       -3
+    C2        R61       9
+    C2        R73       8
+    C2        R74       -8
+    C3        COST      20
+    C3        R15       7
+    C3        R41       10
+    C3        R52       4
+    C3        R55       3
+    C3        R80       -2
+    C3        R92       5
+    C3        R96       10
+    C3        R97       -10
+    C4        COST      30
+    C4        R6        10
+    C4        R26       2
+    C4        R32       -3
+    C4        R60       9
+    C4        R66       -5
+    C4        R94       -10
+    C4        R96       5
+    C5        COST      19
+    C5        R7        4
+    C5        R12       -3
+    C5        R38       7
+    C5        R57       9
+    C5        R84       -10
+    C5        R94       -7
+    C6        COST      20
+    C6        R12       -1
+    C6        R16       1
+    C6        R79       1
+    C6        R90       3
+    C7        COST      -6
+    C7        R1        -8
+    C7        R2        -6
+    C7        R29       6
+    C7        R65       -5
+    C7        R71       1
+    C7        R81       -1
+    C7        R89       7
+    C8        COST      -15
+    C8        R42       2
+    C8        R46       -10
+    C8        R75       -2
+    C9        COST      28
+    C9        R6        -7
+    C9        R34       7
+    C9        R42       -9
+    C9        R50       7
+    C9        R63       -4
+    C9        R79       -3
+    C9        R84       9
+    C9        R97       -7
+    C10       R14       8
+    C10       R17       -6
+    C10       R53       7
+    C10       R56       7
+    C10       R68       9
+    C11       COST      5
+    C11       R2        1
+    C11       R15       9
+    C11       R37       -3
+    C11       R57       1
+    C11       R67       -3
+    C11       R77       -7
+    C11       R86       4
+    C11       R98       9
+    C12       COST      25
+    C12       R47       -3
+    C12       R59       1
+    C12       R96       -10
+    C12       R97       6
+    C13       COST      8
+    C13       R10       -8
+    C13       R12       -10
+    C13       R20       -9
+    C13       R21       5
+    C13       R41       -9
+    C13       R51       -8
+    C13       R54       6
+    C13       R58       6
+    C13       R81       -5
+    C13       R92       9
+    C13       R95       6
+    C14       R11       5
+    C14       R33       5
+    C14       R62       4
+    C14       R65       -2
+    C14       R69       -4
+    C14       R79       -9
+    C14       R90       7
+    C15       COST      -29
+    C15       R2        3
+    C15       R4        8
+    C15       R18       -8
+    C15       R20       -1
+    C15       R43       7
+    C15       R58       -5
+    C15       R68       9
+    C15       R85       9
+    C16       COST      20
+    C16       R35       6
+    C16       R44       -8
+    C16       R67       2
+    C16       R84       -10
+    C16       R87       -1
+    C17       COST      25
+    C17       R7        5
+    C17       R29       -10
+    C17       R76       -1
+    C17       R81       -6
+    C17       R91       3
+    C18       COST      6
+    C18       R20       -9
+    C18       R68       -7
+    C18       R81       -10
+    C18       R92       -6
+    C18       R93       10
+    C19       COST      11
+    C19       R3        -6
+    C19       R28       2
+    C19       R46       7
+    C19       R65       2
+    C19       R68       -1
+    C19       R77       -5
+    C20       COST      -22
+    C20       R54       -8
+    C20       R56       -9
+    C20       R63       4
+    C20       R67       -5
+    C20       R85       -3
+    C20       R97       -5
+    C21       COST      -3
+    C21       R76       10
+    C21       R83       7
+    C21       R95       3
+    C22       COST      5
+    C22       R12       -7
+    C22       R28       -1
+    C22       R56       -10
+    C22       R65       -8
+    C22       R73       6
+    C22       R91       -6
+    C22       R99       7
+    C23       COST      2
+    C23       R14       3
+    C23       R31       -3
+    C23       R42       -9
+    C23       R47       -2
+    C23       R73       -2
+    C24       COST      27
+    C24       R3        2
+    C24       R5        8
+    C24       R14       -9
+    C24       R37       9
+    C24       R43       6
+    C24       R51       -1
+    C24       R57       -6
+    C24       R77       -7
+    C25       COST      -4
+    C25       R5        10
+    C25       R22       -1
+    C25       R29       4
+    C25       R41       -1
+    C26       COST      3
+    C26       R10       -3
+    C26       R15       4
+    C26       R16       10
+    C26       R59       6
+    C26       R73       6
+    C27       COST      -20
+    C27       R6        -3
+    C27       R33       1
+    C27       R39       -1
+    C27       R61       -4
+    C27       R83       2
+    C28       COST      -2
+    C28       R7        -7
+    C28       R8        -4
+    C28       R31       -3
+    C28       R32       -2
+    C28       R42       -9
+    C28       R57       -8
+    C28       R94       4
+    C29       COST      -29
+    C29       R13       7
+    C29       R19       6
+    C29       R26       2
+    C29       R82       -8
+    C29       R85       -6
+    C29       R86       -9
+    C30       COST      2
+    C30       R39       -9
+    C30       R70       6
+    C30       R76       -9
+    C30       R84       -4
+    C30       R93       3
+    C30       R99       10
+    C31       COST      -7
+    C31       R12       -4
+    C31       R22       9
+    C31       R26       3
+    C31       R34       7
+    C31       R62       -6
+    C31       R73       1
+    C31       R78       -4
+    C31       R98       10
+    C32       COST      30
+    C32       R8        -9
+    C32       R41       5
+    C32       R55       1
+    C32       R67       6
+    C32       R73       -1
+    C32       R77       2
+    C33       COST      -15
+    C33       R7        -8
+    C33       R9        -5
+    C33       R16       2
+    C33       R24       2
+    C33       R32       2
+    C33       R90       -9
+    C33       R91       -5
+    C34       COST      25
+    C34       R36       2
+    C34       R72       5
+    C34       R79       -3
+    C34       R86       8
+    C34       R98       9
+    C35       COST      -3
+    C35       R10       -9
+    C35       R12       10
+    C35       R13       1
+    C35       R77       3
+    C35       R91       -4
+    C35       R98       8
+    C36       COST      30
+    C36       R1        1
+    C36       R10       2
+    C36       R20       -8
+    C36       R26       6
+    C36       R28       -2
+    C36       R34       3
+    C36       R87       -10
+    C37       COST      -6
+    C37       R17       -3
+    C37       R23       -5
+    C37       R59       8
+    C37       R64       10
+    C37       R85       -5
+    C37       R92       -4
+    C37       R99       -8
+    C38       COST      -16
+    C38       R10       -5
+    C38       R18       2
+    C38       R52       -4
+    C38       R64       -9
+    C38       R86       -6
+    C38       R87       5
+    C38       R88       8
+    C39       COST      -21
+    C39       R3        10
+    C39       R7        4
+    C39       R37       -4
+    C39       R49       -10
+    C39       R57       10
+    C39       R58       -7
+    C39       R67       -6
+    C39       R97       9
+    C40       COST      8
+    C40       R17       3
+    C40       R30       7
+    C40       R71       10
+    C40       R79       10
+    C40       R80       -8
+    C40       R86       -8
+    C41       COST      20
+    C41       R6        -4
+    C41       R7        -8
+    C41       R14       -9
+    C41       R27       1
+    C41       R28       -5
+    C41       R37       2
+    C41       R42       9
+    C41       R45       5
+    C41       R58       5
+    C41       R65       -9
+    C41       R90       4
+    C41       R97       -9
+    C42       COST      23
+    C42       R7        9
+    C42       R8        4
+    C42       R11       -6
+    C42       R40       -1
+    C43       COST      29
+    C43       R14       6
+    C43       R48       -8
+    C44       COST      -30
+    C44       R7        -7
+    C44       R9        3
+    C44       R11       -3
+    C44       R85       -2
+    C44       R87       -2
+    C45       COST      5
+    C45       R32       -6
+    C45       R40       8
+    C45       R71       -6
+    C46       COST      -11
+    C46       R3        8
+    C46       R22       5
+    C46       R24       7
+    C46       R52       -2
+    C46       R68       -3
+    C46       R95       6
+    C47       COST      -10
+    C47       R2        -6
+    C47       R24       -8
+    C47       R34       2
+    C47       R45       -5
+    C47       R53       -1
+    C47       R80       2
+    C48       COST      1
+    C48       R33       -1
+    C48       R35       6
+    C48       R50       7
+    C48       R96       -9
+    C49       COST      -20
+    C49       R5        7
+    C49       R29       -8
+    C49       R64       1
+    C49       R72       2
+    C50       COST      -20
+    C50       R10       9
+    C50       R11       8
+    C50       R49       10
+    C50       R70       6
+    C50       R76       -2
+    C50       R85       -6
+    C50       R93       4
+    C51       COST      19
+    C51       R6        -4
+    C51       R7        2
+    C51       R40       7
+    C51       R69       6
+    C52       COST      19
+    C52       R9        -1
+    C52       R33       3
+    C52       R34       4
+    C52       R35       10
+    C52       R70       -5
+    C53       COST      -4
+    C53       R21       -3
+    C53       R39       2
+    C53       R50       6
+    C53       R57       4
+    C53       R85       1
+    C53       R95       9
+    C54       COST      -12
+    C54       R23       10
+    C54       R29       -8
+    C55       COST      6
+    C55       R11       10
+    C55       R29       7
+    C55       R46       5
+    C55       R60       8
+    C55       R69       -6
+    C56       COST      -14
+    C56       R46       10
+    C56       R74       -10
+    C56       R84       -3
+    C57       COST      12
+    C57       R3        2
+    C57       R4        1
+    C57       R9        -5
+    C57       R48       -5
+    C57       R76       10
+    C58       COST      -26
+    C58       R9        -7
+    C58       R12       -4
+    C58       R18       -9
+    C58       R37       3
+    C58       R57       5
+    C59       COST      18
+    C59       R19       3
+    C59       R27       -10
+    C59       R53       3
+    C59       R62       -2
+    C59       R66       -8
+    C59       R69       1
+    C59       R83       1
+    C60       COST      5
+    C60       R3        8
+    C60       R62       7
+    C60       R79       10
+    C61       COST      -12
+    C61       R9        9
+    C61       R44       5
+    C61       R55       6
+    C61       R64       -2
+    C61       R82       4
+    C61       R85       7
+    C62       COST      -12
+    C62       R20       -10
+    C62       R29       -10
+    C62       R57       -5
+    C62       R60       -5
+    C62       R61       -8
+    C62       R78       5
+    C62       R87       2
+    C63       COST      -10
+    C63       R1        5
+    C63       R6        -6
+    C63       R18       3
+    C63       R50       4
+    C63       R77       9
+    C63       R85       -4
+    C63       R92       4
+    C64       COST      9
+    C64       R2        8
+    C64       R7        3
+    C64       R33       -1
+    C64       R42       -5
+    C64       R46       -8
+    C64       R50       -4
+    C64       R65       8
+    C65       COST      -13
+    C65       R1        3
+    C65       R31       1
+    C65       R37       10
+    C65       R39       -8
+    C65       R90       6
+    C66       COST      27
+    C66       R8        5
+    C66       R14       4
+    C66       R43       -9
+    C66       R77       -2
+    C66       R87       3
+    C66       R88       8
+    C67       COST      20
+    C67       R9        4
+    C67       R12       -10
+    C67       R17       4
+    C67       R62       -10
+    C67       R72       -6
+    C67       R77       -1
+    C67       R88       -4
+    C68       COST      -9
+    C68       R3        8
+    C68       R10       3
+    C68       R29       -9
+    C68       R35       -2
+    C68       R47       -5
+    C69       COST      20
+    C69       R7        -3
+    C69       R16       -10
+    C69       R32       4
+    C69       R52       -7
+    C69       R73       -8
+    C69       R90       7
+    C70       COST      -27
+    C70       R12       9
+    C70       R37       -10
+    C70       R39       8
+    C70       R45       8
+    C70       R81       -9
+    C70       R93       7
+    C71       COST      -23
+    C71       R15       3
+    C71       R31       5
+    C71       R65       7
+    C71       R88       -9
+    C72       COST      18
+    C72       R17       -1
+    C72       R92       -2
+    C73       COST      -11
+    C73       R15       1
+    C73       R38       -2
+    C73       R51       2
+    C73       R60       1
+    C74       COST      -14
+    C74       R7        5
+    C74       R22       -4
+    C74       R31       -9
+    C74       R38       -7
+    C74       R55       -7
+    C74       R68       -10
+    C74       R73       -5
+    C74       R93       -9
+    C74       R94       -7
+    C75       COST      29
+    C75       R8        -4
+    C75       R26       -1
+    C75       R39       4
+    C75       R43       -5
+    C75       R68       3
+    C75       R71       5
+    C75       R82       8
+    C76       COST      -23
+    C76       R4        7
+    C76       R7        9
+    C76       R17       2
+    C76       R20       5
+    C76       R26       6
+    C76       R28       -2
+    C76       R54       6
+    C76       R59       -1
+    C76       R60       -2
+    C77       COST      -1
+    C77       R9        -8
+    C77       R22       9
+    C77       R25       8
+    C77       R43       4
+    C77       R48       1
+    C77       R69       9
+    C77       R77       9
+    C77       R100      -7
+    C78       COST      1
+    C78       R3        1
+    C78       R15       -9
+    C78       R38       10
+    C78       R51       -5
+    C79       COST      -5
+    C79       R11       -3
+    C79       R25       -3
+    C79       R49       -10
+    C79       R77       -7
+    C79       R81       1
+    C79       R96       -10
+    C80       COST      -6
+    C80       R5        7
+    C80       R18       -3
+    C80       R34       1
+    C80       R35       9
+    C80       R73       9
+    C80       R88       -9
+    C81       COST      30
+    C81       R7        6
+    C81       R30       -4
+    C81       R45       -6
+    C81       R59       -2
+    C81       R62       -4
+    C81       R75       8
+    C81       R83       -5
+    C81       R93       -9
+    C81       R98       -4
+    C82       COST      25
+    C82       R6        10
+    C82       R15       -4
+    C82       R17       -9
+    C82       R49       1
+    C82       R51       7
+    C82       R65       -4
+    C82       R74       2
+    C83       COST      29
+    C83       R33       -6
+    C83       R44       -2
+    C83       R93       -6
+    C83       R94       2
+    C84       COST      29
+    C84       R25       2
+    C84       R36       3
+    C84       R47       2
+    C84       R50       -6
+    C84       R57       -6
+    C84       R63       2
+    C84       R81       7
+    C84       R87       8
+    C85       COST      2
+    C85       R3        2
+    C85       R17       -9
+    C85       R40       -1
+    C85       R45       -2
+    C85       R71       -5
+    C86       COST      2
+    C86       R17       7
+    C86       R27       6
+    C86       R40       -10
+    C86       R41       1
+    C86       R63       -6
+    C86       R65       -5
+    C86       R99       -1
+    C87       COST      -15
+    C87       R9        -8
+    C87       R42       6
+    C87       R75       -6
+    C87       R96       -1
+    C87       R98       -4
+    C87       R99       9
+    C88       COST      -18
+    C88       R16       3
+    C88       R20       9
+    C88       R87       10
+    C88       R100      5
+    C89       COST      -19
+    C89       R10       -2
+    C89       R13       4
+    C89       R48       8
+    C89       R51       6
+    C89       R74       -7
+    C90       COST      24
+    C90       R39       -6
+    C90       R50       -4
+    C90       R63       2
+    C90       R71       -1
+    C90       R84       -6
+    C91       COST      -28
+    C91       R11       6
+    C91       R25       4
+    C91       R29       -3
+    C91       R32       -3
+    C91       R42       5
+    C91       R49       8
+    C91       R78       -1
+    C92       COST      -14
+    C92       R16       -1
+    C92       R24       1
+    C92       R34       3
+    C92       R35       -3
+    C92       R52       -4
+    C92       R61       -3
+    C92       R68       9
+    C92       R74       3
+    C92       R81       8
+    C92       R82       7
+    C92       R91       -4
+    C92       R92       -4
+    C93       COST      -15
+    C93       R2        -8
+    C93       R3        4
+    C93       R20       -10
+    C93       R31       7
+    C93       R41       -2
+    C93       R76       3
+    C93       R99       -10
+    C94       COST      26
+    C94       R11       9
+    C94       R23       10
+    C94       R46       2
+    C94       R47       2
+    C94       R49       8
+    C94       R89       -6
+    C94       R91       -1
+    C95       COST      -8
+    C95       R35       8
+    C95       R48       -7
+    C95       R50       -9
+    C96       COST      12
+    C96       R11       -6
+    C96       R14       2
+    C96       R24       -10
+    C96       R32       3
+    C96       R53       6
+    C96       R100      7
+    C97       COST      8
+    C97       R11       -4
+    C97       R14       1
+    C97       R50       3
+    C97       R56       -1
+    C97       R66       -5
+    C97       R70       5
+    C97       R85       -6
+    C98       COST      -22
+    C98       R15       -8
+    C98       R21       8
+    C98       R23       -1
+    C98       R25       10
+    C98       R52       -1
+    C98       R68       -5
+    C98       R78       -3
+    C98       R90       -10
+    C99       COST      5
+    C99       R24       4
+    C99       R50       8
+    C99       R56       -7
+    C99       R58       8
+    C99       R91       -4
+    C99       R93       9
+    C99       R96       5
+    C100      COST      23
+    C100      R16       2
+    C100      R25       1
+    C100      R38       -9
+    C100      R40       -9
+    C100      R55       2
+    C100      R66       -1
+    C100      R78       -4
+    C101      COST      -14
+    C101      R10       -3
+    C101      R12       -4
+    C101      R29       9
+    C101      R35       2
+    C101      R63       8
+    C101      R74       9
+    C102      COST      2
+    C102      R1        8
+    C102      R2        -5
+    C102      R24       8
+    C102      R45       -7
+    C102      R69       4
+    C103      COST      22
+    C103      R3        -3
+    C103      R4        3
+    C103      R5        -10
+    C103      R7        -6
+    C103      R40       7
+    C103      R50       -2
+    C103      R64       -3
+    C103      R71       2
+    C103      R74       -7
+    C103      R77       -8
+    C103      R79       -1
+    C104      COST      15
+    C104      R1        -9
+    C104      R2        2
+    C104      R29       -3
+    C104      R31       1
+    C104      R69       3
+    C104      R93       -7
+    C105      COST      17
+    C105      R14       5
+    C105      R95       1
+    C106      COST      -22
+    C106      R9        1
+    C106      R47       -2
+    C106      R51       -6
+    C106      R61       -7
+    C106      R89       7
+    C107      COST      -18
+    C107      R13       3
+    C107      R41       7
+    C107      R55       1
+    C107      R62       7
+    C108      COST      7
+    C108      R9        -2
+    C108      R25       8
+    C108      R27       9
+    C108      R33       8
+    C108      R48       -1
+    C109      COST      -15
+    C109      R27       3
+    C109      R30       2
+    C109      R31       -6
+    C109      R39       -4
+    C109      R43       7
+    C109      R51       -10
+    C109      R70       -2
+    C109      R79       6
+    C109      R82       2
+    C109      R87       4
+    C110      COST      -8
+    C110      R6        10
+    C110      R25       -2
+    C110      R30       -3
+    C110      R92       -1
+    C110      R96       -8
+    C111      COST      -23
+    C111      R24       4
+    C111      R54       5
+    C111      R58       10
+    C111      R65       -10
+    C111      R67       8
+    C111      R78       2
+    C111      R80       1
+    C111      R81       -10
+    C112      COST      -27
+    C112      R10       -3
+    C112      R15       -1
+    C112      R30       7
+    C112      R31       3
+    C113      COST      -15
+    C113      R17       -4
+    C113      R55       -6
+    C113      R94       -7
+    C113      R96       -10
+    C114      COST      7
+    C114      R8        -7
+    C114      R20       8
+    C114      R54       6
+    C114      R68       -4
+    C114      R80       -6
+    C114      R93       7
+    C114      R98       -6
+    C115      COST      -22
+    C115      R16       -10
+    C115      R56       7
+    C115      R58       4
+    C115      R87       10
+    C115      R91       3
+    C115      R93       4
+    C116      COST      9
+    C116      R23       2
+    C116      R33       3
+    C116      R44       4
+    C116      R47       -3
+    C116      R53       7
+    C116      R67       9
+    C116      R88       -1
+    C116      R97       8
+    C116      R99       -6
+    C117      COST      -30
+    C117      R5        10
+    C117      R24       -4
+    C117      R38       10
+    C117      R73       3
+    C117      R81       -1
+    C117      R96       4
+    C117      R98       10
+    C118      COST      23
+    C118      R3        -2
+    C118      R54       -4
+    C119      COST      -18
+    C119      R41       3
+    C119      R56       -4
+    C119      R70       4
+    C119      R86       -7
+    C120      COST      12
+    C120      R6        -3
+    C120      R9        8
+    C120      R63       7
+    C120      R64       10
+    C120      R79       -1
+    C120      R90       -9
+    C120      R94       5
+    C121      COST      6
+    C121      R11       7
+    C121      R38       7
+    C121      R41       5
+    C121      R48       3
+    C121      R58       -10
+    C122      COST      2
+    C122      R42       -2
+    C122      R49       -1
+    C122      R63       10
+    C122      R93       6
+    C123      COST      -9
+    C123      R7        -1
+    C123      R24       3
+    C123      R44       -3
+    C123      R64       6
+    C123      R79       2
+    C123      R99       2
+    C124      COST      14
+    C124      R30       1
+    C124      R56       9
+    C124      R64       4
+    C124      R69       -6
+    C125      COST      22
+    C125      R2        4
+    C125      R24       8
+    C125      R26       6
+    C125      R39       3
+    C125      R54       5
+    C125      R68       -9
+    C125      R76       -8
+    C125      R77       -1
+    C126      COST      -11
+    C126      R7        -3
+    C126      R18       -5
+    C126      R28       -9
+    C126      R48       -5
+    C126      R54       -10
+    C126      R75       -2
+    C126      R84       7
+    C126      R85       -8
+    C126      R92       -8
+    C127      COST      28
+    C127      R2        8
+    C127      R33       6
+    C127      R41       9
+    C127      R49       1
+    C127      R78       4
+    C127      R88       -2
+    C127      R91       9
+    C127      R92       1
+    C127      R98       7
+    C128      COST      2
+    C128      R28       -4
+    C128      R30       -4
+    C128      R33       6
+    C128      R86       2
+    C128      R89       1
+    C129      COST      25
+    C129      R29       -4
+    C129      R32       -10
+    C129      R39       8
+    C129      R67       -10
+    C129      R78       -10
+    C130      COST      15
+    C130      R5        5
+    C130      R41       -1
+    C130      R42       -4
+    C130      R85       -7
+    C130      R88       1
+    C131      COST      -20
+    C131      R23       -10
+    C131      R25       1
+    C131      R51       3
+    C131      R64       -2
+    C132      COST      -18
+    C132      R5        3
+    C132      R18       4
+    C132      R21       -2
+    C132      R23       -9
+    C132      R25       -9
+    C132      R47       1
+    C132      R52       -4
+    C132      R74       4
+    C133      COST      -30
+    C133      R18       8
+    C133      R22       -6
+    C133      R55       -8
+    C133      R99       2
+    C134      COST      -14
+    C134      R23       -6
+    C134      R29       3
+    C134      R53       -4
+    C134      R59       -7
+    C134      R72       -3
+    C134      R83       -5
+    C135      COST      -23
+    C135      R13       2
+    C135      R30       -3
+    C135      R54       9
+    C135      R80       -1
+    C135      R97       5
+    C135      R98       9
+    C136      COST      29
+    C136      R16       3
+    C136      R34       -8
+    C136      R42       9
+    C136      R54       -5
+    C136      R79       1
+    C136      R81       8
+    C136      R91       10
+    C136      R96       9
+    C137      COST      6
+    C137      R13       -5
+    C137      R38       9
+    C137      R45       10
+    C137      R52       1
+    C137      R53       3
+    C137      R80       -3
+    C137      R94       -10
+    C137      R96       -8
+    C138      COST      -29
+    C138      R1        -4
+    C138      R13       6
+    C138      R16       4
+    C138      R21       -1
+    C138      R29       -4
+    C138      R32       3
+    C138      R53       -6
+    C138      R62       -9
+    C138      R72       8
+    C138      R88       9
+    C139      COST      -12
+    C139      R37       -5
+    C139      R38       1
+    C139      R44       5
+    C139      R55       -6
+    C139      R61       10
+    C139      R68       -4
+    C139      R94       4
+    C140      COST      22
+    C140      R10       6
+    C140      R37       -5
+    C140      R56       3
+    C140      R65       2
+    C140      R70       -3
+    C140      R73       5
+    C140      R76       10
+    C141      COST      -13
+    C141      R25       1
+    C141      R31       10
+    C141      R38       9
+    C141      R56       3
+    C141      R74       -5
+    C141      R76       -10
+    C141      R83       1
+    C141      R84       -6
+    C141      R87       2
+    C141      R92       3
+    C141      R95       4
+    C142      COST      -9
+    C142      R1        -3
+    C142      R11       8
+    C142      R23       -5
+    C142      R32       -6
+    C142      R55       -6
+    C142      R94       8
+    C142      R96       7
+    C143      COST      25
+    C143      R6        7
+    C143      R42       -9
+    C143      R87       9
+    C143      R98       -10
+    C144      COST      14
+    C144      R25       -10
+    C144      R37       3
+    C144      R48       8
+    C144      R57       5
+    C144      R86       -6
+    C145      COST      29
+    C145      R20       -8
+    C145      R38       -2
+    C145      R40       1
+    C145      R51       -3
+    C145      R54       1
+    C145      R85       2
+    C146      COST      2
+    C146      R5        -6
+    C146      R25       10
+    C146      R37       8
+    C146      R45       -3
+    C146      R80       -1
+    C146      R81       -1
+    C146      R88       8
+    C146      R93       4
+    C147      COST      18
+    C147      R13       -8
+    C147      R51       -10
+    C147      R94       2
+    C147      R95       -7
+    C148      COST      -14
+    C148      R16       -1
+    C148      R35       -6
+    C148      R38       1
+    C149      COST      2
+    C149      R15       -1
+    C149      R39       8
+    C149      R53       -9
+    C150      COST      23
+    C150      R15       6
+    C150      R32       1
+    C150      R56       5
+    C150      R92       2
+    C150      R94       6
+    C151      COST      4
+    C151      R15       2
+    C151      R37       6
+    C151      R39       7
+    C151      R54       -8
+    C151      R63       5
+    C151      R82       2
+    C152      COST      17
+    C152      R12       10
+    C152      R16       5
+    C152      R88       6
+    C153      R61       -1
+    C153      R65       -1
+    C153      R69       -5
+    C153      R100      4
+    C154      COST      -12
+    C154      R32       5
+    C154      R34       9
+    C154      R53       4
+    C154      R55       -3
+    C154      R59       9
+    C154      R65       3
+    C154      R72       2
+    C154      R75       10
+    C154      R81       -2
+    C155      COST      -13
+    C155      R1        -3
+    C155      R2        4
+    C155      R7        6
+    C155      R9        1
+    C155      R48       10
+    C156      COST      -6
+    C156      R3        1
+    C156      R43       -2
+    C156      R57       6
+    C156      R58       -4
+    C156      R72       1
+    C156      R73       10
+    C157      COST      -25
+    C157      R3        -7
+    C157      R4        -1
+    C157      R8        -1
+    C157      R13       -7
+    C157      R25       -6
+    C157      R38       5
+    C157      R45       5
+    C157      R49       6
+    C157      R58       -6
+    C157      R72       5
+    C157      R97       8
+    C158      COST      -25
+    C158      R4        -1
+    C158      R24       3
+    C158      R42       -5
+    C158      R58       9
+    C158      R83       8
+    C158      R86       -7
+    C158      R89       -10
+    C159      COST      4
+    C159      R49       -5
+    C159      R56       5
+    C159      R97       -5
+    C160      COST      -13
+    C160      R12       -2
+    C160      R15       9
+    C160      R55       -10
+    C160      R59       3
+    C161      COST      20
+    C161      R7        -5
+    C161      R13       -6
+    C161      R36       -8
+    C161      R49       8
+    C161      R54       -9
+    C161      R75       7
+    C161      R78       4
+    C161      R82       9
+    C161      R84       10
+    C162      COST      10
+    C162      R7        8
+    C162      R24       -9
+    C162      R43       -3
+    C162      R70       7
+    C162      R85       -2
+    C162      R86       6
+    C163      COST      16
+    C163      R1        5
+    C163      R22       -2
+    C163      R38       -5
+    C163      R59       7
+    C163      R63       -3
+    C163      R72       6
+    C163      R75       -8
+    C164      COST      -20
+    C164      R54       6
+    C164      R58       -4
+    C164      R90       4
+    C164      R100      10
+    C165      COST      -25
+    C165      R13       2
+    C165      R17       1
+    C165      R23       -8
+    C165      R70       3
+    C165      R90       -9
+    C166      COST      -28
+    C166      R8        10
+    C166      R11       7
+    C166      R30       -7
+    C166      R34       -8
+    C166      R46       6
+    C166      R52       -10
+    C166      R55       -3
+    C166      R64       2
+    C167      COST      11
+    C167      R24       7
+    C167      R43       3
+    C167      R55       7
+    C168      COST      -30
+    C168      R9        5
+    C168      R22       6
+    C168      R40       8
+    C168      R53       1
+    C168      R54       5
+    C168      R76       -2
+    C168      R100      -7
+    C169      COST      9
+    C169      R11       3
+    C169      R47       3
+    C169      R54       -7
+    C169      R78       -4
+    C170      COST      12
+    C170      R10       5
+    C170      R11       -5
+    C170      R26       7
+    C170      R27       9
+    C170      R100      -8
+    C171      COST      -1
+    C171      R28       8
+    C171      R47       1
+    C172      COST      10
+    C172      R85       1
+    C172      R100      -9
+    C173      COST      -7
+    C173      R18       10
+    C173      R19       4
+    C173      R40       -8
+    C173      R41       -7
+    C173      R53       -7
+    C173      R91       -8
+    C173      R96       -3
+    C174      COST      4
+    C174      R4        3
+    C174      R30       -10
+    C174      R34       -10
+    C174      R39       1
+    C174      R48       -5
+    C174      R55       3
+    C174      R56       3
+    C174      R99       -1
+    C175      COST      27
+    C175      R14       -10
+    C175      R17       -3
+    C175      R24       -7
+    C175      R25       -1
+    C175      R34       -9
+    C175      R39       4
+    C175      R50       1
+    C175      R51       -10
+    C175      R68       2
+    C175      R76       7
+    C175      R83       4
+    C175      R91       -8
+    C176      COST      -6
+    C176      R3        -5
+    C176      R29       7
+    C176      R52       4
+    C177      COST      2
+    C177      R6        10
+    C177      R15       1
+    C177      R44       4
+    C177      R53       2
+    C177      R70       -1
+    C177      R80       6
+    C177      R89       -5
+    C178      COST      12
+    C178      R11       -7
+    C178      R37       8
+    C178      R49       5
+    C178      R79       -1
+    C178      R84       9
+    C178      R95       -6
+    C179      COST      -19
+    C179      R23       4
+    C179      R26       8
+    C179      R28       -7
+    C179      R47       9
+    C179      R75       6
+    C179      R85       7
+    C179      R86       -1
+    C179      R99       2
+    C180      COST      -7
+    C180      R48       -10
+    C180      R59       -2
+    C180      R75       4
+    C180      R94       9
+    C181      COST      -9
+    C181      R10       4
+    C181      R15       10
+    C181      R21       2
+    C181      R27       -4
+    C181      R48       -5
+    C181      R76       3
+    C181      R86       -1
+    C182      COST      8
+    C182      R29       3
+    C182      R31       -8
+    C182      R74       -5
+    C182      R75       -5
+    C183      COST      14
+    C183      R15       7
+    C183      R41       -1
+    C183      R58       6
+    C183      R59       -4
+    C183      R64       6
+    C183      R72       -8
+    C183      R93       -2
+    C183      R96       10
+    C184      COST      25
+    C184      R14       -2
+    C184      R50       -2
+    C184      R59       2
+    C184      R64       10
+    C184      R89       -6
+    C184      R99       -5
+    C185      COST      3
+    C185      R22       -1
+    C185      R27       -5
+    C185      R84       2
+    C185      R92       -2
+    C186      COST      -7
+    C186      R33       9
+    C186      R59       -8
+    C186      R63       3
+    C186      R75       -1
+    C187      COST      11
+    C187      R12       5
+    C187      R19       -2
+    C187      R29       9
+    C187      R33       6
+    C187      R41       -7
+    C187      R45       4
+    C187      R58       6
+    C187      R68       3
+    C187      R73       -6
+    C187      R85       -9
+    C187      R97       -3
+    C188      COST      5
+    C188      R17       4
+    C188      R33       8
+    C189      COST      20
+    C189      R28       6
+    C189      R29       3
+    C189      R34       -7
+    C189      R57       1
+    C189      R71       -10
+    C189      R100      6
+    C190      COST      -26
+    C190      R6        -8
+    C190      R38       -10
+    C190      R54       5
+    C190      R55       -5
+    C190      R77       2
+    C190      R87       7
+    C190      R89       9
+    C191      COST      -19
+    C191      R41       1
+    C191      R76       9
+    C191      R80       -6
+    C191      R88       1
+    C192      COST      -28
+    C192      R11       -4
+    C192      R37       8
+    C192      R43       5
+    C193      COST      -18
+    C193      R38       10
+    C193      R60       9
+    C193      R76       3
+    C193      R81       5
+    C193      R96       4
+    C194      COST      8
+    C194      R30       5
+    C194      R40       4
+    C194      R46       -7
+    C194      R58       6
+    C194      R81       5
+    C194      R84       4
+    C194      R94       4
+    C195      COST      22
+    C195      R10       -5
+    C195      R23       -7
+    C195      R37       -4
+    C195      R43       -8
+    C195      R79       6
+    C195      R80       -8
+    C195      R89       -7
+    C196      COST      -14
+    C196      R9        4
+    C196      R12       -5
+    C196      R43       6
+    C196      R75       6
+    C196      R94       -2
+    C197      COST      7
+    C197      R41       2
+    C197      R67       4
+    C197      R82       10
+    C198      COST      16
+    C198      R3        -8
+    C198      R11       -9
+    C198      R16       2
+    C198      R18       -4
+    C198      R43       -2
+    C198      R52       10
+    C198      R69       10
+    C198      R96       2
+    C198      R98       6
+    C199      COST      15
+    C199      R3        9
+    C199      R31       6
+    C199      R37       -4
+    C199      R64       -10
+    C199      R67       -9
+    C199      R77       1
+    C200      COST      -12
+    C200      R14       -2
+    C200      R17       -8
+    C200      R31       -10
+    C200      R39       6
+    C200      R57       8
+    C200      R59       9
+    C200      R79       2
+    C200      R84       -4
+RHS
+    RHS       R1        26
+    RHS       R2        13
+    RHS       R3        1017
+    RHS       R4        409
+    RHS       R5        369
+    RHS       R6        421
+    RHS       R7        464
+    RHS       R8        36
+    RHS       R9        -15
+    RHS       R10       -314
+    RHS       R11       -420
+    RHS       R12       -571
+    RHS       R13       325
+    RHS       R14       74
+    RHS       R15       425
+    RHS       R16       192
+    RHS       R17       37
+    RHS       R18       -387
+    RHS       R19       77
+    RHS       R20       -240
+    RHS       R21       277
+    RHS       R22       243
+    RHS       R23       -839
+    RHS       R24       60
+    RHS       R25       349
+    RHS       R26       356
+    RHS       R27       157
+    RHS       R28       2
+    RHS       R29       26
+    RHS       R30       -55
+    RHS       R31       -166
+    RHS       R32       211
+    RHS       R33       299
+    RHS       R34       201
+    RHS       R35       24
+    RHS       R36       55
+    RHS       R37       435
+    RHS       R38       185
+    RHS       R39       -65
+    RHS       R40       153
+    RHS       R41       595
+    RHS       R42       -362
+    RHS       R43       -76
+    RHS       R44       -14
+    RHS       R45       -119
+    RHS       R46       211
+    RHS       R47       65
+    RHS       R48       -166
+    RHS       R49       -142
+    RHS       R50       -81
+    RHS       R51       300
+    RHS       R52       -354
+    RHS       R53       165
+    RHS       R54       430
+    RHS       R55       -600
+    RHS       R56       -234
+    RHS       R57       561
+    RHS       R58       487
+    RHS       R59       289
+    RHS       R60       63
+    RHS       R61       145
+    RHS       R62       -37
+    RHS       R63       613
+    RHS       R64       251
+    RHS       R65       -363
+    RHS       R66       -125
+    RHS       R67       -46
+    RHS       R68       -272
+    RHS       R69       -121
+    RHS       R70       377
+    RHS       R71       243
+    RHS       R72       -265
+    RHS       R73       419
+    RHS       R74       -168
+    RHS       R75       559
+    RHS       R76       337
+    RHS       R77       -286
+    RHS       R78       44
+    RHS       R79       758
+    RHS       R80       -451
+    RHS       R81       -396
+    RHS       R82       429
+    RHS       R83       99
+    RHS       R84       -63
+    RHS       R85       -475
+    RHS       R86       -350
+    RHS       R87       744
+    RHS       R88       -94
+    RHS       R89       -58
+    RHS       R90       -414
+    RHS       R91       -554
+    RHS       R92       -342
+    RHS       R93       572
+    RHS       R94       81
+    RHS       R95       -148
+    RHS       R96       -79
+    RHS       R97       81
+    RHS       R98       412
+    RHS       R99       -7
+    RHS       R100      420
+BOUNDS
+ UP BND       C1        33
+ UP BND       C2        33
+ UP BND       C3        39
+ UP BND       C4        45
+ LO BND       C5        -2
+ UP BND       C5        28
+ UP BND       C6        20
+ LO BND       C7        -17
+ UP BND       C7        0
+ UP BND       C8        31
+ LO BND       C9        -4
+ UP BND       C9        1
+ LO BND       C10       -14
+ UP BND       C10       -4
+ LO BND       C11       -7
+ UP BND       C11       40
+ LO BND       C12       -8
+ UP BND       C12       27
+ UP BND       C13       11
+ UP BND       C14       31
+ UP BND       C15       29
+ UP BND       C16       16
+ UP BND       C17       39
+ UP BND       C18       41
+ UP BND       C19       30
+ UP BND       C20       18
+ UP BND       C21       15
+ UP BND       C22       26
+ LO BND       C23       -16
+ UP BND       C23       16
+ UP BND       C24       10
+ LO BND       C25       -10
+ UP BND       C25       19
+ UP BND       C26       33
+ UP BND       C27       40
+ UP BND       C28       34
+ UP BND       C29       42
+ LO BND       C30       -16
+ UP BND       C30       28
+ UP BND       C31       34
+ UP BND       C32       21
+ UP BND       C33       36
+ UP BND       C34       19
+ UP BND       C35       26
+ LO BND       C36       -4
+ UP BND       C36       37
+ UP BND       C37       15
+ UP BND       C38       33
+ UP BND       C39       43
+ UP BND       C40       38
+ UP BND       C41       8
+ UP BND       C42       38
+ LO BND       C43       -5
+ UP BND       C43       41
+ UP BND       C44       43
+ UP BND       C45       31
+ UP BND       C46       19
+ UP BND       C47       29
+ LO BND       C48       -17
+ UP BND       C48       -4
+ UP BND       C49       47
+ UP BND       C50       30
+ UP BND       C51       6
+ LO BND       C52       -9
+ UP BND       C52       11
+ UP BND       C53       7
+ LO BND       C54       -6
+ UP BND       C54       28
+ UP BND       C55       32
+ UP BND       C56       9
+ UP BND       C57       48
+ LO BND       C58       -5
+ UP BND       C58       35
+ UP BND       C59       29
+ UP BND       C60       44
+ LO BND       C61       -5
+ UP BND       C61       10
+ UP BND       C62       18
+ LO BND       C63       -6
+ UP BND       C63       0
+ UP BND       C64       9
+ UP BND       C65       32
+ UP BND       C66       26
+ UP BND       C67       48
+ UP BND       C68       45
+ UP BND       C69       33
+ LO BND       C70       -7
+ UP BND       C70       17
+ UP BND       C71       41
+ UP BND       C72       34
+ UP BND       C73       8
+ UP BND       C74       9
+ UP BND       C75       35
+ LO BND       C76       -5
+ UP BND       C76       44
+ UP BND       C77       15
+ UP BND       C78       20
+ LO BND       C79       -9
+ UP BND       C79       38
+ UP BND       C80       21
+ LO BND       C81       -3
+ UP BND       C81       16
+ UP BND       C82       40
+ UP BND       C83       45
+ LO BND       C84       -17
+ UP BND       C84       23
+ UP BND       C85       13
+ UP BND       C86       19
+ LO BND       C87       -4
+ UP BND       C87       2
+ UP BND       C88       20
+ UP BND       C89       47
+ UP BND       C90       12
+ LO BND       C91       -7
+ UP BND       C91       28
+ UP BND       C92       39
+ LO BND       C93       -10
+ UP BND       C93       15
+ UP BND       C94       28
+ UP BND       C95       39
+ UP BND       C96       45
+ UP BND       C97       18
+ UP BND       C98       38
+ UP BND       C99       42
+ LO BND       C100      -10
+ UP BND       C100      -1
+ UP BND       C101      47
+ UP BND       C102      8
+ UP BND       C103      24
+ UP BND       C104      13
+ UP BND       C105      12
+ LO BND       C106      -14
+ UP BND       C106      -2
+ UP BND       C107      44
+ UP BND       C108      15
+ UP BND       C109      20
+ UP BND       C110      47
+ UP BND       C111      41
+ UP BND       C112      12
+ UP BND       C113      39
+ LO BND       C114      -3
+ UP BND       C114      12
+ UP BND       C115      18
+ UP BND       C116      24
+ UP BND       C117      22
+ UP BND       C118      11
+ LO BND       C119      -13
+ UP BND       C119      19
+ UP BND       C120      37
+ LO BND       C121      -5
+ UP BND       C121      6
+ UP BND       C122      7
+ LO BND       C123      -18
+ UP BND       C123      -4
+ UP BND       C124      38
+ UP BND       C125      29
+ UP BND       C126      32
+ LO BND       C127      -2
+ UP BND       C127      34
+ UP BND       C128      11
+ LO BND       C129      -6
+ UP BND       C129      8
+ UP BND       C130      48
+ UP BND       C131      48
+ LO BND       C132      -15
+ UP BND       C132      8
+ UP BND       C133      13
+ UP BND       C134      15
+ LO BND       C135      -1
+ UP BND       C135      46
+ UP BND       C136      29
+ LO BND       C137      -6
+ UP BND       C137      0
+ UP BND       C138      20
+ UP BND       C139      34
+ UP BND       C140      22
+ LO BND       C141      -18
+ UP BND       C141      6
+ LO BND       C142      -5
+ UP BND       C142      13
+ UP BND       C143      44
+ LO BND       C144      -7
+ UP BND       C144      29
+ UP BND       C145      22
+ LO BND       C146      -3
+ UP BND       C146      32
+ UP BND       C147      21
+ LO BND       C148      -3
+ UP BND       C148      41
+ LO BND       C149      -17
+ UP BND       C149      17
+ UP BND       C150      20
+ UP BND       C151      43
+ UP BND       C152      12
+ UP BND       C153      33
+ UP BND       C154      40
+ LO BND       C155      -5
+ UP BND       C155      37
+ LO BND       C156      -10
+ UP BND       C156      26
+ UP BND       C157      49
+ UP BND       C158      29
+ UP BND       C159      5
+ UP BND       C160      10
+ UP BND       C161      34
+ UP BND       C162      21
+ LO BND       C163      -3
+ UP BND       C163      15
+ UP BND       C164      40
+ UP BND       C165      7
+ LO BND       C166      -3
+ UP BND       C166      42
+ UP BND       C167      47
+ UP BND       C168      20
+ UP BND       C169      17
+ UP BND       C170      48
+ UP BND       C171      25
+ UP BND       C172      12
+ LO BND       C173      -10
+ UP BND       C173      21
+ LO BND       C174      -5
+ UP BND       C174      13
+ UP BND       C175      17
+ LO BND       C176      -2
+ UP BND       C176      5
+ UP BND       C177      5
+ UP BND       C178      34
+ UP BND       C179      32
+ UP BND       C180      40
+ UP BND       C181      23
+ UP BND       C182      15
+ UP BND       C183      26
+ UP BND       C184      12
+ UP BND       C185      30
+ UP BND       C186      26
+ UP BND       C187      12
+ UP BND       C188      10
+ UP BND       C189      34
+ UP BND       C190      42
+ LO BND       C191      -11
+ UP BND       C191      -5
+ UP BND       C192      41
+ LO BND       C193      -2
+ UP BND       C193      33
+ UP BND       C194      45
+ UP BND       C195      31
+ UP BND       C196      16
+ UP BND       C197      20
+ UP BND       C198      14
+ UP BND       C199      20
+ UP BND       C200      16
+ENDATA
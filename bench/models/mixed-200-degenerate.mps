@@ -0,0 +1,5767 @@
+NAME          mixed-200-degenerate
+ROWS
+ N  COST
+ E  R1
+ L  R2
+ E  R3
+ G  R4
+ L  R5
+ G  R6
+ G  R7
+ L  R8
+ L  R9
+ L  R10
+ L  R11
+ L  R12
+ G  R13
+ L  R14
+ L  R15
+ G  R16
+ E  R17
+ L  R18
+ L  R19
+ L  R20
+ E  R21
+ G  R22
+ L  R23
+ G  R24
+ L  R25
+ L  R26
+ G  R27
+ L  R28
+ L  R29
+ G  R30
+ L  R31
+ G  R32
+ E  R33
+ L  R34
+ L  R35
+ L  R36
+ G  R37
+ L  R38
+ L  R39
+ L  R40
+ G  R41
+ L  R42
+ L  R43
+ L  R44
+ E  R45
+ G  R46
+ G  R47
+ L  R48
+ L  R49
+ L  R50
+ L  R51
+ L  R52
+ G  R53
+ L  R54
+ L  R55
+ E  R56
+ L  R57
+ G  R58
+ G  R59
+ L  R60
+ L  R61
+ E  R62
+ G  R63
+ L  R64
+ L  R65
+ G  R66
+ L  R67
+ L  R68
+ E  R69
+ L  R70
+ G  R71
+ L  R72
+ L  R73
+ L  R74
+ L  R75
+ G  R76
+ L  R77
+ G  R78
+ E  R79
+ E  R80
+ G  R81
+ L  R82
+ L  R83
+ G  R84
+ L  R85
+ L  R86
+ E  R87
+ L  R88
+ L  R89
+ E  R90
+ L  R91
+ L  R92
+ G  R93
+ L  R94
+ E  R95
+ L  R96
+ L  R97
+ L  R98
+ L  R99
+ E  R100
+ L  R101
+ E  R102
+ E  R103
+ G  R104
+ L  R105
+ E  R106
+ G  R107
+ G  R108
+ E  R109
+ L  R110
+ L  R111
+ L  R112
+ G  R113
+ L  R114
+ E  R115
+ G  R116
+ L  R117
+ L  R118
+ E  R119
+ G  R120
+ L  R121
+ L  R122
+ L  R123
+ E  R124
+ E  R125
+ G  R126
+ G  R127
+ L  R128
+ E  R129
+ G  R130
+ G  R131
+ L  R132
+ L  R133
+ G  R134
+ L  R135
+ L  R136
+ L  R137
+ G  R138
+ L  R139
+ E  R140
+ L  R141
+ L  R142
+ L  R143
+ E  R144
+ G  R145
+ G  R146
+ L  R147
+ E  R148
+ L  R149
+ L  R150
+ L  R151
+ L  R152
+ E  R153
+ G  R154
+ L  R155
+ E  R156
+ L  R157
+ L  R158
+ L  R159
+ E  R160
+ L  R161
+ L  R162
+ G  R163
+ L  R164
+ E  R165
+ L  R166
+ L  R167
+ G  R168
+ G  R169
+ L  R170
+ L  R171
+ L  R172
+ G  R173
+ L  R174
+ L  R175
+ E  R176
+ L  R177
+ L  R178
+ L  R179
+ E  R180
+ G  R181
+ G  R182
+ L  R183
+ L  R184
+ G  R185
+ G  R186
+ G  R187
+ G  R188
+ G  R189
+ G  R190
+ G  R191
+ G  R192
+ L  R193
+ G  R194
+ G  R195
+ L  R196
+ L  R197
+ G  R198
+ L  R199
+ E  R200
+COLUMNS
+    C1        COST      8
+    C1        R6        -2
+    C1        R55       -5
+    C1        R70       -2
+    C1        R118      -2
+    C1        R151      3
+    C1        R155      -5
+    C1        R166      -9
+    C1        R181      -3
+    C2        COST      6
+    C2        R43       -5
+    C2        R70       2
+    C2        R74       -8
+    C2        R76       10
+    C2        R111      -2
+    C2        R143      10
+    C2        R179      8
+    C2        R195      2
+    C3        COST      20
+    C3        R26       6
+    C3        R27       -5
+    C3        R28       -5
+    C3        R59       3
+    C3        R75       -10
+    C3        R96       4
+    C3        R117      9
+    C3        R150      -5
+    C3        R197      -10
+    C4        COST      30
+    C4        R8        -3
+    C4        R87       -10
+    C4        R105      -4
+    C4        R160      9
+    C4        R169      9
+    C4        R198      -1
+    C5        COST      19
+    C5        R3        9
+    C5        R7        4
+    C5        R15       4
+    C5        R16       -9
+    C5        R20       -9
+    C5        R22       7
+    C5        R67       -8
+    C5        R106      -2
+    C5        R131      -10
+    C5        R133      -4
+    C5        R160      8
+    C5        R195      -1
+    C6        COST      20
+    C6        R3        2
+    C6        R12       6
+    C6        R16       1
+    C6        R25       -5
+    C6        R54       7
+    C6        R78       8
+    C6        R108      4
+    C6        R118      7
+    C6        R130      -5
+    C6        R142      -10
+    C6        R143      3
+    C6        R150      -8
+    C6        R160      9
+    C6        R168      1
+    C7        COST      -6
+    C7        R23       -8
+    C7        R37       -1
+    C7        R46       -10
+    C7        R62       9
+    C7        R92       1
+    C7        R99       -2
+    C7        R101      -8
+    C7        R111      5
+    C7        R170      -10
+    C7        R177      -10
+    C8        COST      -15
+    C8        R13       -2
+    C8        R19       -7
+    C8        R41       -10
+    C8        R46       -7
+    C8        R59       3
+    C8        R81       -9
+    C8        R101      5
+    C8        R122      4
+    C8        R125      5
+    C8        R139      -10
+    C8        R146      9
+    C8        R148      -2
+    C8        R177      -4
+    C8        R199      -1
+    C9        COST      28
+    C9        R3        5
+    C9        R60       -5
+    C9        R79       10
+    C9        R84       9
+    C9        R131      3
+    C9        R138      8
+    C9        R141      -6
+    C9        R143      10
+    C9        R172      -9
+    C9        R176      -6
+    C10       R7        -9
+    C10       R49       -10
+    C10       R80       9
+    C10       R83       -8
+    C10       R113      -6
+    C10       R117      -6
+    C11       COST      5
+    C11       R11       6
+    C11       R37       10
+    C11       R47       -10
+    C11       R56       6
+    C11       R81       9
+    C11       R103      10
+    C11       R134      3
+    C11       R147      8
+    C11       R161      -10
+    C11       R191      8
+    C11       R198      9
+    C12       COST      25
+    C12       R38       1
+    C12       R59       -1
+    C12       R84       1
+    C12       R96       -10
+    C12       R116      8
+    C12       R144      4
+    C12       R153      7
+    C12       R154      4
+    C13       COST      8
+    C13       R47       -8
+    C13       R49       -2
+    C13       R54       6
+    C13       R71       9
+    C13       R80       4
+    C13       R84       -2
+    C13       R85       8
+    C13       R89       10
+    C13       R107      6
+    C13       R121      -4
+    C13       R149      3
+    C13       R160      -6
+    C13       R164      2
+    C13       R171      -2
+    C13       R182      -7
+    C14       R4        -2
+    C14       R33       5
+    C14       R35       -8
+    C14       R49       2
+    C14       R101      -7
+    C14       R105      9
+    C14       R106      -5
+    C14       R123      2
+    C14       R141      4
+    C14       R167      -9
+    C15       COST      -29
+    C15       R14       -4
+    C15       R22       5
+    C15       R36       2
+    C15       R49       -7
+    C15       R52       -2
+    C15       R85       -5
+    C15       R86       6
+    C15       R104      8
+    C15       R108      3
+    C15       R156      -3
+    C15       R172      2
+    C15       R176      3
+    C15       R195      2
+    C16       COST      20
+    C16       R16       -6
+    C16       R34       6
+    C16       R42       4
+    C16       R47       3
+    C16       R52       -8
+    C16       R130      3
+    C16       R132      10
+    C16       R134      4
+    C16       R139      -5
+    C16       R158      -1
+    C16       R167      -8
+    C17       COST      25
+    C17       R11       -5
+    C17       R29       4
+    C17       R40       -6
+    C17       R76       6
+    C17       R91       7
+    C17       R128      -2
+    C17       R132      4
+    C17       R134      4
+    C17       R170      -6
+    C17       R198      6
+    C17       R199      -8
+    C18       COST      6
+    C18       R20       -9
+    C18       R31       10
+    C18       R40       -8
+    C18       R43       2
+    C18       R44       -4
+    C18       R74       -2
+    C18       R115      9
+    C18       R157      -10
+    C18       R183      -10
+    C19       COST      11
+    C19       R20       -8
+    C19       R21       -5
+    C19       R24       6
+    C19       R31       -9
+    C19       R33       5
+    C19       R40       8
+    C19       R41       -10
+    C19       R49       -2
+    C19       R65       2
+    C19       R66       5
+    C19       R88       -9
+    C19       R91       7
+    C19       R103      2
+    C19       R140      -4
+    C19       R160      5
+    C19       R187      4
+    C19       R188      8
+    C20       COST      -22
+    C20       R18       -2
+    C20       R21       9
+    C20       R37       -9
+    C20       R55       3
+    C20       R62       4
+    C20       R76       -4
+    C20       R89       -4
+    C20       R104      9
+    C20       R125      -4
+    C20       R163      4
+    C20       R188      2
+    C20       R194      -10
+    C20       R195      3
+    C21       COST      -3
+    C21       R18       -7
+    C21       R22       -4
+    C21       R23       -5
+    C21       R45       -7
+    C21       R74       -3
+    C21       R97       -10
+    C21       R104      9
+    C21       R108      -10
+    C21       R124      -4
+    C21       R142      1
+    C21       R149      6
+    C21       R182      6
+    C21       R195      3
+    C21       R198      -10
+    C22       COST      5
+    C22       R11       -10
+    C22       R65       -8
+    C22       R82       -3
+    C22       R84       -5
+    C22       R152      10
+    C22       R154      5
+    C22       R166      -3
+    C22       R190      4
+    C22       R192      -6
+    C23       COST      2
+    C23       R16       7
+    C23       R40       -8
+    C23       R47       -2
+    C23       R112      6
+    C23       R170      -3
+    C24       COST      27
+    C24       R40       6
+    C24       R53       4
+    C24       R61       -5
+    C24       R101      7
+    C24       R109      -7
+    C24       R135      4
+    C24       R143      6
+    C24       R162      -9
+    C24       R178      -9
+    C25       COST      -4
+    C25       R3        7
+    C25       R41       -1
+    C25       R43       -1
+    C25       R72       8
+    C25       R92       2
+    C25       R97       6
+    C25       R136      1
+    C25       R153      6
+    C25       R154      -8
+    C25       R168      -1
+    C25       R173      -7
+    C25       R187      8
+    C25       R192      -9
+    C26       COST      3
+    C26       R4        -3
+    C26       R38       -3
+    C26       R43       9
+    C26       R105      -2
+    C26       R106      -4
+    C26       R108      1
+    C26       R110      -3
+    C26       R122      -4
+    C26       R131      -10
+    C26       R134      4
+    C26       R143      10
+    C26       R148      7
+    C26       R152      -2
+    C26       R160      -6
+    C26       R189      -8
+    C27       COST      -20
+    C27       R6        -3
+    C27       R15       -3
+    C27       R28       -7
+    C27       R50       1
+    C27       R63       3
+    C27       R64       -5
+    C27       R65       8
+    C27       R73       9
+    C27       R93       1
+    C27       R106      8
+    C27       R136      10
+    C27       R185      8
+    C27       R197      4
+    C28       COST      -2
+    C28       R8        -4
+    C28       R21       -4
+    C28       R43       1
+    C28       R48       10
+    C28       R62       6
+    C28       R73       -7
+    C28       R105      4
+    C28       R114      -10
+    C28       R120      1
+    C28       R171      9
+    C28       R183      -3
+    C28       R191      -4
+    C29       COST      -29
+    C29       R17       3
+    C29       R24       4
+    C29       R28       5
+    C29       R67       -5
+    C29       R81       2
+    C29       R93       9
+    C29       R97       -3
+    C29       R116      -3
+    C29       R119      6
+    C29       R135      -9
+    C30       COST      2
+    C30       R24       -4
+    C30       R43       4
+    C30       R45       6
+    C30       R84       -4
+    C30       R118      -7
+    C30       R130      5
+    C30       R166      2
+    C30       R167      5
+    C30       R169      1
+    C31       COST      -7
+    C31       R9        3
+    C31       R38       -10
+    C31       R46       4
+    C31       R65       10
+    C31       R88       8
+    C31       R137      -1
+    C31       R148      -3
+    C31       R163      -4
+    C31       R173      1
+    C32       COST      30
+    C32       R15       3
+    C32       R30       6
+    C32       R48       8
+    C32       R67       6
+    C32       R92       -7
+    C32       R93       -6
+    C32       R182      -1
+    C33       COST      -15
+    C33       R3        2
+    C33       R9        5
+    C33       R52       -6
+    C33       R56       -4
+    C33       R78       7
+    C33       R141      -10
+    C33       R145      -1
+    C33       R162      10
+    C33       R193      -1
+    C34       COST      25
+    C34       R42       -9
+    C34       R52       5
+    C34       R60       6
+    C34       R70       5
+    C34       R73       2
+    C34       R98       9
+    C34       R122      -7
+    C34       R125      -3
+    C34       R156      10
+    C34       R179      -9
+    C35       COST      -3
+    C35       R27       2
+    C35       R38       -1
+    C35       R44       5
+    C35       R45       -8
+    C35       R59       5
+    C35       R83       -10
+    C35       R104      -6
+    C35       R112      10
+    C35       R117      10
+    C35       R157      7
+    C35       R175      4
+    C35       R177      2
+    C35       R179      -2
+    C36       COST      30
+    C36       R25       -6
+    C36       R34       6
+    C36       R36       2
+    C36       R83       -8
+    C36       R84       -3
+    C36       R88       8
+    C36       R95       -2
+    C36       R121      7
+    C36       R126      6
+    C36       R168      -2
+    C36       R197      -2
+    C37       COST      -6
+    C37       R4        -3
+    C37       R19       6
+    C37       R81       -5
+    C37       R86       7
+    C37       R99       -8
+    C37       R133      -6
+    C37       R135      -10
+    C37       R157      -7
+    C37       R171      2
+    C37       R178      2
+    C37       R182      10
+    C37       R183      10
+    C37       R189      -6
+    C37       R195      4
+    C38       COST      -16
+    C38       R5        3
+    C38       R16       2
+    C38       R34       -5
+    C38       R45       1
+    C38       R52       -4
+    C38       R78       -2
+    C38       R198      -8
+    C39       COST      -21
+    C39       R5        -8
+    C39       R26       -6
+    C39       R30       -3
+    C39       R38       8
+    C39       R42       8
+    C39       R47       8
+    C39       R67       -7
+    C39       R107      4
+    C39       R138      5
+    C39       R172      -4
+    C39       R183      -1
+    C39       R190      -8
+    C40       COST      8
+    C40       R30       7
+    C40       R35       -7
+    C40       R37       -2
+    C40       R50       -6
+    C40       R59       8
+    C40       R77       -3
+    C40       R78       -8
+    C40       R144      8
+    C40       R183      -5
+    C40       R192      2
+    C41       COST      20
+    C41       R9        1
+    C41       R23       1
+    C41       R37       2
+    C41       R71       9
+    C41       R115      -10
+    C41       R126      -10
+    C41       R161      1
+    C41       R176      -3
+    C42       COST      23
+    C42       R11       -6
+    C42       R26       -6
+    C42       R31       -2
+    C42       R32       -8
+    C42       R35       -2
+    C42       R39       -2
+    C42       R47       -10
+    C42       R54       4
+    C42       R88       -5
+    C42       R94       -9
+    C42       R109      8
+    C42       R113      6
+    C42       R128      -1
+    C42       R132      10
+    C42       R156      9
+    C42       R158      8
+    C42       R174      -6
+    C42       R188      3
+    C42       R199      -7
+    C43       COST      29
+    C43       R14       2
+    C43       R42       -6
+    C43       R78       -7
+    C43       R137      3
+    C43       R174      9
+    C44       COST      -30
+    C44       R14       -3
+    C44       R51       10
+    C44       R92       6
+    C44       R97       7
+    C44       R107      -7
+    C44       R117      -10
+    C44       R163      2
+    C44       R193      -6
+    C45       COST      5
+    C45       R29       3
+    C45       R32       -4
+    C45       R42       -8
+    C45       R51       -8
+    C45       R66       -1
+    C45       R98       -3
+    C45       R109      -9
+    C45       R114      -2
+    C45       R146      -6
+    C45       R192      -7
+    C45       R199      10
+    C46       COST      -11
+    C46       R14       7
+    C46       R21       -1
+    C46       R61       -8
+    C46       R76       -9
+    C46       R94       -2
+    C46       R103      8
+    C46       R154      -1
+    C46       R156      5
+    C46       R166      -7
+    C47       COST      -10
+    C47       R6        9
+    C47       R18       -9
+    C47       R33       1
+    C47       R37       10
+    C47       R53       -1
+    C47       R124      9
+    C47       R172      2
+    C47       R190      -8
+    C48       COST      1
+    C48       R21       1
+    C48       R39       1
+    C48       R50       7
+    C48       R60       -5
+    C48       R64       -2
+    C48       R147      8
+    C48       R162      -1
+    C49       COST      -20
+    C49       R62       -10
+    C49       R66       -10
+    C49       R81       -8
+    C49       R88       7
+    C49       R126      -8
+    C49       R164      1
+    C49       R165      -7
+    C50       COST      -20
+    C50       R8        -5
+    C50       R9        -5
+    C50       R24       -6
+    C50       R27       -8
+    C50       R47       2
+    C50       R58       9
+    C50       R76       3
+    C50       R84       10
+    C50       R89       6
+    C50       R103      7
+    C50       R114      10
+    C50       R159      1
+    C50       R185      -6
+    C50       R187      3
+    C50       R199      3
+    C51       COST      19
+    C51       R3        2
+    C51       R36       -6
+    C51       R45       10
+    C51       R69       6
+    C51       R84       -2
+    C51       R105      -8
+    C51       R111      -2
+    C51       R114      1
+    C51       R137      -9
+    C51       R166      -5
+    C51       R173      3
+    C51       R196      10
+    C51       R199      -5
+    C51       R200      5
+    C52       COST      19
+    C52       R45       -7
+    C52       R68       4
+    C52       R99       10
+    C52       R133      3
+    C52       R145      2
+    C52       R149      -7
+    C52       R161      -5
+    C52       R175      7
+    C53       COST      -4
+    C53       R5        7
+    C53       R23       8
+    C53       R54       3
+    C53       R57       4
+    C53       R72       -7
+    C53       R95       -10
+    C53       R112      -6
+    C53       R113      2
+    C53       R121      -6
+    C53       R138      -10
+    C53       R178      -8
+    C54       COST      -12
+    C54       R43       9
+    C54       R56       5
+    C54       R129      -8
+    C54       R136      10
+    C54       R139      4
+    C54       R163      -9
+    C54       R168      -9
+    C54       R173      -4
+    C55       COST      6
+    C55       R11       10
+    C55       R12       6
+    C55       R40       -2
+    C55       R47       -9
+    C55       R75       9
+    C55       R78       -2
+    C55       R131      -2
+    C55       R153      8
+    C55       R164      4
+    C55       R169      -7
+    C56       COST      -14
+    C56       R5        -4
+    C56       R8        4
+    C56       R24       -4
+    C56       R29       -2
+    C56       R54       -4
+    C56       R77       2
+    C56       R96       -8
+    C56       R101      -2
+    C56       R127      -1
+    C56       R128      -10
+    C56       R172      7
+    C56       R174      -10
+    C56       R175      -6
+    C56       R186      -1
+    C56       R190      -8
+    C57       COST      12
+    C57       R8        8
+    C57       R9        8
+    C57       R10       -6
+    C57       R64       3
+    C57       R70       -7
+    C57       R77       -7
+    C57       R85       -10
+    C57       R86       -4
+    C57       R88       1
+    C57       R109      -5
+    C57       R121      -2
+    C57       R124      -2
+    C57       R141      -2
+    C57       R157      4
+    C57       R172      6
+    C57       R181      7
+    C58       COST      -26
+    C58       R13       -9
+    C58       R14       1
+    C58       R29       -6
+    C58       R36       6
+    C58       R70       6
+    C58       R71       10
+    C58       R73       -3
+    C58       R112      -4
+    C58       R148      9
+    C58       R155      9
+    C58       R159      3
+    C58       R171      -8
+    C59       COST      18
+    C59       R3        -4
+    C59       R41       -3
+    C59       R69       -7
+    C59       R74       -5
+    C59       R124      -10
+    C59       R134      10
+    C59       R140      6
+    C59       R144      2
+    C59       R149      3
+    C59       R162      -1
+    C60       COST      5
+    C60       R3        10
+    C60       R13       -4
+    C60       R87       -10
+    C60       R88       -3
+    C60       R91       -3
+    C60       R101      8
+    C60       R104      5
+    C60       R109      -5
+    C60       R113      3
+    C60       R140      6
+    C60       R143      5
+    C60       R178      9
+    C60       R179      10
+    C60       R184      -2
+    C60       R186      3
+    C60       R196      -1
+    C61       COST      -12
+    C61       R24       -9
+    C61       R33       1
+    C61       R44       -10
+    C61       R50       -3
+    C61       R52       7
+    C61       R85       9
+    C61       R101      4
+    C61       R109      6
+    C61       R128      9
+    C61       R137      2
+    C61       R181      -7
+    C61       R200      -10
+    C62       COST      -12
+    C62       R14       -4
+    C62       R80       -1
+    C62       R93       -4
+    C62       R100      -8
+    C62       R129      -10
+    C62       R132      -1
+    C62       R143      -3
+    C62       R144      -3
+    C62       R192      -2
+    C63       COST      -10
+    C63       R1        5
+    C63       R24       3
+    C63       R27       10
+    C63       R57       6
+    C63       R63       -1
+    C63       R74       -1
+    C63       R86       -7
+    C63       R111      4
+    C63       R118      9
+    C63       R127      1
+    C63       R155      -5
+    C63       R162      -8
+    C63       R180      -10
+    C64       COST      9
+    C64       R1        -1
+    C64       R18       10
+    C64       R35       -3
+    C64       R40       -8
+    C64       R42       -5
+    C64       R45       1
+    C64       R54       -6
+    C64       R66       -1
+    C64       R110      -6
+    C64       R147      6
+    C64       R168      10
+    C64       R182      3
+    C65       COST      -13
+    C65       R2        4
+    C65       R4        6
+    C65       R15       -10
+    C65       R24       8
+    C65       R26       9
+    C65       R35       3
+    C65       R37       10
+    C65       R49       5
+    C65       R52       6
+    C65       R53       -4
+    C65       R68       -5
+    C65       R77       -10
+    C65       R81       6
+    C65       R87       3
+    C65       R103      3
+    C65       R114      -9
+    C65       R149      -6
+    C65       R161      -5
+    C66       COST      27
+    C66       R7        1
+    C66       R9        -2
+    C66       R29       -6
+    C66       R77       -2
+    C66       R88       -8
+    C66       R109      5
+    C66       R129      7
+    C66       R134      -2
+    C66       R149      4
+    C66       R153      4
+    C66       R159      8
+    C66       R161      -4
+    C66       R162      -2
+    C66       R183      -10
+    C66       R185      -7
+    C67       COST      20
+    C67       R35       2
+    C67       R36       4
+    C67       R49       7
+    C67       R122      7
+    C67       R127      1
+    C67       R172      -6
+    C67       R192      10
+    C67       R193      -8
+    C68       COST      -9
+    C68       R5        10
+    C68       R29       -9
+    C68       R83       -2
+    C68       R97       9
+    C68       R130      7
+    C68       R145      7
+    C68       R180      3
+    C68       R183      4
+    C69       COST      20
+    C69       R9        -2
+    C69       R14       -3
+    C69       R24       -2
+    C69       R47       10
+    C69       R73       -8
+    C69       R81       -3
+    C69       R83       -8
+    C69       R103      -8
+    C69       R140      2
+    C69       R147      -10
+    C69       R151      -8
+    C69       R158      7
+    C69       R195      1
+    C70       COST      -27
+    C70       R5        6
+    C70       R7        -7
+    C70       R19       5
+    C70       R35       7
+    C70       R38       5
+    C70       R40       3
+    C70       R93       7
+    C70       R106      7
+    C70       R126      -1
+    C70       R146      -9
+    C70       R148      -8
+    C70       R155      -4
+    C70       R183      3
+    C70       R188      1
+    C71       COST      -23
+    C71       R33       -7
+    C71       R49       5
+    C71       R61       5
+    C71       R131      9
+    C71       R188      -9
+    C72       COST      18
+    C72       R17       -1
+    C72       R23       -1
+    C72       R36       -9
+    C72       R58       5
+    C72       R59       -4
+    C72       R76       7
+    C72       R81       -8
+    C72       R95       7
+    C72       R118      8
+    C72       R135      1
+    C72       R139      -1
+    C72       R141      -6
+    C72       R149      10
+    C72       R152      -1
+    C72       R157      -7
+    C72       R159      4
+    C72       R174      -8
+    C73       COST      -11
+    C73       R11       2
+    C73       R44       10
+    C73       R105      3
+    C73       R122      -6
+    C73       R125      -3
+    C73       R144      -4
+    C73       R149      10
+    C73       R158      6
+    C73       R160      1
+    C73       R200      7
+    C74       COST      -14
+    C74       R15       3
+    C74       R19       3
+    C74       R25       1
+    C74       R43       6
+    C74       R61       10
+    C74       R77       -5
+    C74       R94       -7
+    C74       R107      8
+    C74       R121      -9
+    C74       R122      9
+    C74       R136      -4
+    C74       R138      -10
+    C74       R168      -8
+    C74       R176      5
+    C75       COST      29
+    C75       R47       -7
+    C75       R61       -4
+    C75       R103      7
+    C75       R109      -10
+    C75       R126      -1
+    C75       R180      -9
+    C75       R181      -10
+    C76       COST      -23
+    C76       R2        5
+    C76       R17       2
+    C76       R26       -8
+    C76       R112      8
+    C76       R130      -2
+    C76       R141      9
+    C76       R147      -9
+    C76       R187      -7
+    C77       COST      -1
+    C77       R51       -5
+    C77       R75       -6
+    C77       R76       2
+    C77       R100      -7
+    C77       R118      1
+    C77       R119      2
+    C77       R143      -4
+    C77       R161      1
+    C77       R199      3
+    C78       COST      1
+    C78       R5        -5
+    C78       R15       -6
+    C78       R35       -1
+    C78       R48       -4
+    C78       R65       1
+    C78       R96       6
+    C78       R101      -4
+    C78       R123      -10
+    C78       R138      10
+    C78       R152      8
+    C78       R163      6
+    C78       R171      -7
+    C78       R197      -4
+    C79       COST      -5
+    C79       R43       1
+    C79       R45       9
+    C79       R79       -4
+    C79       R110      7
+    C79       R133      -8
+    C79       R152      3
+    C79       R177      -7
+    C80       COST      -6
+    C80       R6        -7
+    C80       R55       3
+    C80       R60       -9
+    C80       R61       8
+    C80       R74       -4
+    C80       R78       -7
+    C80       R81       6
+    C80       R102      8
+    C80       R103      -4
+    C80       R144      -7
+    C80       R155      4
+    C80       R158      9
+    C80       R188      -9
+    C80       R192      -7
+    C81       COST      30
+    C81       R1        3
+    C81       R75       8
+    C81       R92       -1
+    C81       R99       3
+    C81       R138      -2
+    C81       R166      4
+    C81       R174      -4
+    C81       R184      -10
+    C81       R187      5
+    C82       COST      25
+    C82       R7        7
+    C82       R95       -1
+    C82       R130      5
+    C82       R135      9
+    C82       R151      7
+    C82       R154      -2
+    C82       R178      2
+    C82       R197      -2
+    C83       COST      29
+    C83       R16       -3
+    C83       R34       5
+    C83       R37       3
+    C83       R45       8
+    C83       R49       -1
+    C83       R63       6
+    C83       R64       5
+    C83       R79       6
+    C83       R109      -1
+    C83       R143      -7
+    C83       R144      -2
+    C83       R156      10
+    C84       COST      29
+    C84       R18       9
+    C84       R25       2
+    C84       R31       -3
+    C84       R45       8
+    C84       R48       -4
+    C84       R87       10
+    C84       R111      9
+    C84       R116      6
+    C84       R122      2
+    C84       R130      -5
+    C84       R173      10
+    C84       R174      -5
+    C84       R179      8
+    C84       R182      -10
+    C84       R188      5
+    C84       R200      2
+    C85       COST      2
+    C85       R23       3
+    C85       R58       -3
+    C85       R70       2
+    C85       R73       2
+    C85       R76       9
+    C85       R95       -1
+    C85       R103      2
+    C85       R116      -8
+    C85       R133      6
+    C85       R135      7
+    C85       R145      -1
+    C85       R183      7
+    C86       COST      2
+    C86       R15       1
+    C86       R27       6
+    C86       R33       1
+    C86       R35       5
+    C86       R46       2
+    C86       R58       5
+    C86       R70       -4
+    C86       R108      -3
+    C86       R192      -10
+    C87       COST      -15
+    C87       R9        -8
+    C87       R10       -2
+    C87       R28       8
+    C87       R43       -8
+    C87       R58       -4
+    C87       R61       -3
+    C87       R75       3
+    C87       R81       -5
+    C87       R98       10
+    C87       R122      -7
+    C87       R123      4
+    C87       R126      -7
+    C87       R143      7
+    C87       R145      -8
+    C87       R148      -8
+    C87       R164      2
+    C87       R173      10
+    C87       R175      -7
+    C87       R179      -9
+    C87       R200      -2
+    C88       COST      -18
+    C88       R5        -2
+    C88       R18       9
+    C88       R19       10
+    C88       R33       -4
+    C88       R56       -9
+    C88       R73       -10
+    C88       R86       -7
+    C88       R96       -10
+    C88       R97       -8
+    C88       R98       4
+    C88       R120      9
+    C88       R126      -2
+    C88       R150      -8
+    C88       R153      1
+    C88       R164      2
+    C88       R165      6
+    C88       R166      -10
+    C88       R171      -6
+    C88       R178      3
+    C88       R190      -7
+    C89       COST      -19
+    C89       R13       4
+    C89       R44       2
+    C89       R66       9
+    C89       R68       3
+    C89       R75       -2
+    C89       R76       7
+    C89       R92       -8
+    C89       R102      -9
+    C89       R154      -2
+    C89       R157      5
+    C89       R171      9
+    C90       COST      24
+    C90       R15       5
+    C90       R21       6
+    C90       R23       -5
+    C90       R29       -7
+    C90       R71       -1
+    C90       R98       1
+    C90       R143      -4
+    C90       R162      -2
+    C90       R166      -1
+    C90       R180      -6
+    C91       COST      -28
+    C91       R80       9
+    C91       R101      6
+    C91       R104      -9
+    C91       R116      -3
+    C91       R138      -3
+    C91       R149      8
+    C91       R186      8
+    C91       R194      -7
+    C91       R198      7
+    C92       COST      -14
+    C92       R6        -5
+    C92       R10       6
+    C92       R18       -2
+    C92       R34       -10
+    C92       R56       -9
+    C92       R90       10
+    C92       R106      1
+    C92       R133      10
+    C92       R140      -10
+    C92       R155      -7
+    C92       R180      -5
+    C93       COST      -15
+    C93       R2        -8
+    C93       R41       -6
+    C93       R44       6
+    C93       R58       3
+    C93       R87       1
+    C93       R125      10
+    C93       R160      -8
+    C93       R173      -7
+    C93       R190      7
+    C94       COST      26
+    C94       R46       -8
+    C94       R63       7
+    C94       R72       2
+    C94       R80       4
+    C94       R101      2
+    C95       COST      -8
+    C95       R18       1
+    C95       R34       -2
+    C95       R48       -7
+    C95       R82       7
+    C95       R92       -3
+    C95       R127      8
+    C95       R128      -7
+    C95       R169      -10
+    C95       R194      -7
+    C96       COST      12
+    C96       R6        -5
+    C96       R26       7
+    C96       R33       -5
+    C96       R73       8
+    C96       R86       9
+    C96       R114      2
+    C96       R123      10
+    C96       R163      2
+    C97       COST      8
+    C97       R8        10
+    C97       R19       8
+    C97       R20       8
+    C97       R25       5
+    C97       R66       -5
+    C97       R69       -2
+    C97       R78       -1
+    C97       R92       10
+    C97       R108      -4
+    C97       R114      -9
+    C97       R117      3
+    C97       R154      6
+    C97       R167      -6
+    C97       R168      -4
+    C97       R178      3
+    C97       R191      5
+    C98       COST      -22
+    C98       R6        -10
+    C98       R7        7
+    C98       R33       9
+    C98       R39       -5
+    C98       R125      10
+    C98       R134      7
+    C98       R136      -3
+    C99       COST      5
+    C99       R7        -3
+    C99       R24       4
+    C99       R66       -10
+    C99       R91       -4
+    C99       R93       4
+    C99       R94       -5
+    C99       R153      7
+    C99       R159      7
+    C99       R171      1
+    C99       R181      4
+    C99       R197      -10
+    C100      COST      23
+    C100      R12       7
+    C100      R14       -7
+    C100      R49       4
+    C100      R51       -9
+    C100      R54       2
+    C100      R78       3
+    C100      R97       7
+    C100      R102      4
+    C100      R103      -6
+    C100      R118      -5
+    C100      R144      -10
+    C100      R150      -7
+    C100      R153      -6
+    C100      R154      2
+    C100      R156      -9
+    C100      R166      -1
+    C100      R189      -2
+    C100      R190      -9
+    C101      COST      -14
+    C101      R12       -4
+    C101      R31       10
+    C101      R66       -4
+    C101      R83       -4
+    C101      R99       -10
+    C101      R183      -1
+    C101      R196      -9
+    C102      COST      2
+    C102      R49       -3
+    C102      R57       4
+    C102      R69       1
+    C102      R80       -3
+    C102      R82       8
+    C102      R104      -4
+    C102      R107      3
+    C102      R121      -2
+    C102      R161      -7
+    C102      R165      -6
+    C102      R166      3
+    C102      R182      6
+    C102      R183      9
+    C103      COST      22
+    C103      R28       4
+    C103      R81       7
+    C103      R104      3
+    C103      R181      6
+    C103      R197      -10
+    C104      COST      15
+    C104      R18       5
+    C104      R31       6
+    C104      R99       10
+    C104      R121      10
+    C104      R128      6
+    C104      R147      8
+    C104      R179      -6
+    C104      R193      -7
+    C105      COST      17
+    C105      R14       5
+    C105      R34       4
+    C105      R47       9
+    C105      R60       7
+    C105      R63       1
+    C105      R67       9
+    C105      R76       9
+    C105      R116      -5
+    C105      R119      -2
+    C105      R139      -4
+    C105      R145      4
+    C105      R167      -5
+    C105      R172      3
+    C105      R174      6
+    C105      R189      1
+    C106      COST      -22
+    C106      R17       -8
+    C106      R35       8
+    C106      R38       4
+    C106      R78       -1
+    C106      R87       8
+    C106      R104      6
+    C106      R109      1
+    C106      R157      9
+    C106      R184      2
+    C107      COST      -18
+    C107      R3        4
+    C107      R19       -1
+    C107      R90       4
+    C107      R101      7
+    C107      R111      2
+    C107      R117      5
+    C107      R128      -4
+    C107      R129      3
+    C107      R137      -3
+    C107      R153      6
+    C107      R162      7
+    C107      R167      8
+    C107      R171      -9
+    C107      R195      -2
+    C108      COST      7
+    C108      R23       8
+    C108      R26       10
+    C108      R27       9
+    C108      R47       -6
+    C108      R54       -5
+    C108      R64       1
+    C108      R79       -4
+    C108      R118      -4
+    C108      R144      3
+    C108      R190      -8
+    C109      COST      -15
+    C109      R10       -1
+    C109      R12       8
+    C109      R22       -9
+    C109      R28       -10
+    C109      R67       5
+    C109      R76       -3
+    C109      R78       -4
+    C109      R120      9
+    C109      R139      -4
+    C110      COST      -8
+    C110      R6        -5
+    C110      R9        -7
+    C110      R18       -5
+    C110      R50       4
+    C110      R78       -3
+    C110      R119      4
+    C110      R131      -4
+    C110      R149      5
+    C110      R155      -9
+    C110      R186      -4
+    C111      COST      -23
+    C111      R13       -7
+    C111      R20       2
+    C111      R44       -4
+    C111      R48       -6
+    C111      R64       10
+    C111      R65       -6
+    C111      R74       -3
+    C111      R92       7
+    C111      R118      -3
+    C111      R123      -9
+    C111      R144      10
+    C111      R149      4
+    C111      R158      7
+    C111      R178      1
+    C111      R193      8
+    C112      COST      -27
+    C112      R7        -8
+    C112      R15       -1
+    C112      R21       -5
+    C112      R31       -2
+    C112      R51       -4
+    C112      R94       3
+    C112      R105      -7
+    C112      R134      5
+    C112      R136      4
+    C112      R139      9
+    C112      R159      10
+    C112      R193      10
+    C112      R200      8
+    C113      COST      -15
+    C113      R11       4
+    C113      R58       -8
+    C113      R64       4
+    C113      R66       5
+    C113      R69       -1
+    C113      R89       9
+    C113      R152      -3
+    C113      R158      10
+    C113      R167      -3
+    C113      R172      2
+    C113      R193      3
+    C113      R196      -10
+    C113      R197      -3
+    C114      COST      7
+    C114      R48       10
+    C114      R64       -3
+    C114      R68       -1
+    C114      R69       10
+    C114      R71       4
+    C114      R87       2
+    C114      R92       5
+    C114      R120      -10
+    C114      R184      9
+    C114      R189      -5
+    C114      R199      4
+    C115      COST      -22
+    C115      R3        7
+    C115      R33       -6
+    C115      R37       -8
+    C115      R49       -7
+    C115      R52       5
+    C115      R91       -5
+    C115      R93       4
+    C115      R96       -2
+    C115      R138      9
+    C115      R141      4
+    C115      R154      -10
+    C115      R200      7
+    C116      COST      9
+    C116      R7        10
+    C116      R22       4
+    C116      R23       2
+    C116      R35       -5
+    C116      R46       -7
+    C116      R55       7
+    C116      R61       -7
+    C116      R149      2
+    C116      R187      10
+    C116      R200      3
+    C117      COST      -30
+    C117      R3        -9
+    C117      R75       2
+    C117      R79       7
+    C117      R81       -1
+    C117      R83       -6
+    C117      R84       -5
+    C117      R98       5
+    C117      R108      2
+    C117      R123      -7
+    C117      R136      -6
+    C117      R137      -2
+    C117      R143      -10
+    C117      R148      9
+    C117      R180      -1
+    C117      R181      9
+    C117      R182      -7
+    C117      R189      -10
+    C118      COST      23
+    C118      R3        -2
+    C118      R7        -6
+    C118      R70       -10
+    C118      R71       -10
+    C118      R83       -3
+    C118      R85       10
+    C118      R93       -4
+    C118      R140      4
+    C118      R166      -3
+    C118      R183      -1
+    C118      R193      -10
+    C119      COST      -18
+    C119      R22       6
+    C119      R23       10
+    C119      R29       2
+    C119      R71       -8
+    C119      R87       4
+    C119      R140      6
+    C119      R162      10
+    C119      R173      -2
+    C119      R178      -9
+    C119      R180      4
+    C119      R186      -7
+    C119      R200      3
+    C120      COST      12
+    C120      R19       9
+    C120      R22       6
+    C120      R84       -1
+    C120      R87       2
+    C120      R106      -3
+    C120      R118      1
+    C120      R123      1
+    C120      R135      -1
+    C120      R136      -9
+    C120      R164      -8
+    C120      R178      -10
+    C120      R182      9
+    C120      R184      -3
+    C120      R193      -7
+    C120      R196      7
+    C121      COST      6
+    C121      R6        6
+    C121      R27       5
+    C121      R36       -10
+    C121      R44       6
+    C121      R53       10
+    C121      R68       -9
+    C121      R109      -9
+    C121      R129      7
+    C121      R138      7
+    C121      R149      8
+    C121      R153      -9
+    C121      R180      2
+    C121      R187      5
+    C121      R197      2
+    C122      COST      2
+    C122      R5        9
+    C122      R8        -4
+    C122      R20       -5
+    C122      R49       -1
+    C122      R64       1
+    C122      R94       -2
+    C122      R150      -1
+    C122      R177      -10
+    C122      R180      2
+    C122      R187      -10
+    C122      R196      3
+    C122      R199      9
+    C123      COST      -9
+    C123      R24       3
+    C123      R29       -7
+    C123      R46       5
+    C123      R53       4
+    C123      R64       10
+    C123      R69       7
+    C123      R75       -6
+    C123      R135      10
+    C123      R136      3
+    C123      R149      -10
+    C123      R164      -10
+    C123      R184      10
+    C124      COST      14
+    C124      R45       -9
+    C124      R48       7
+    C124      R60       10
+    C124      R64       4
+    C124      R66       9
+    C124      R84       -3
+    C124      R102      7
+    C124      R103      -1
+    C124      R116      4
+    C124      R117      5
+    C124      R145      4
+    C124      R150      -2
+    C124      R164      9
+    C124      R172      -1
+    C124      R173      -9
+    C124      R178      9
+    C124      R180      9
+    C124      R192      6
+    C124      R195      -8
+    C125      COST      22
+    C125      R52       -2
+    C125      R54       8
+    C125      R84       2
+    C125      R91       -1
+    C125      R105      -4
+    C125      R140      3
+    C125      R146      -2
+    C126      COST      -11
+    C126      R2        6
+    C126      R10       -3
+    C126      R34       -3
+    C126      R38       10
+    C126      R54       10
+    C126      R96       5
+    C126      R108      -2
+    C126      R135      9
+    C126      R147      2
+    C126      R180      -8
+    C127      COST      28
+    C127      R4        -1
+    C127      R7        -4
+    C127      R61       -10
+    C127      R62       -5
+    C127      R67       2
+    C127      R71       -5
+    C127      R72       5
+    C127      R78       4
+    C127      R83       -7
+    C127      R86       -8
+    C127      R107      -1
+    C127      R126      -3
+    C127      R130      -5
+    C127      R160      9
+    C127      R196      -2
+    C127      R197      7
+    C128      COST      2
+    C128      R14       5
+    C128      R30       10
+    C128      R68       -1
+    C128      R76       -5
+    C128      R80       -3
+    C128      R82       8
+    C128      R129      -6
+    C128      R133      6
+    C128      R143      8
+    C128      R181      10
+    C128      R196      -6
+    C129      COST      25
+    C129      R19       -5
+    C129      R41       7
+    C129      R49       2
+    C129      R72       -2
+    C129      R86       4
+    C129      R93       -3
+    C129      R94       9
+    C129      R96       -4
+    C129      R114      8
+    C129      R129      -4
+    C129      R133      -8
+    C129      R135      -4
+    C129      R146      -9
+    C129      R147      3
+    C130      COST      15
+    C130      R37       10
+    C130      R47       -1
+    C130      R50       1
+    C130      R62       5
+    C130      R69       -10
+    C130      R85       -7
+    C130      R112      -4
+    C130      R114      7
+    C130      R141      -6
+    C130      R161      -6
+    C130      R168      -5
+    C130      R184      3
+    C131      COST      -20
+    C131      R3        -4
+    C131      R37       -10
+    C131      R52       2
+    C131      R70       -1
+    C131      R86       -2
+    C131      R125      1
+    C131      R137      5
+    C131      R170      -3
+    C131      R173      -10
+    C131      R180      -9
+    C131      R184      4
+    C131      R193      5
+    C131      R194      -6
+    C132      COST      -18
+    C132      R39       3
+    C132      R48       9
+    C132      R51       9
+    C132      R52       -10
+    C132      R134      1
+    C132      R159      4
+    C132      R161      -8
+    C132      R170      5
+    C132      R185      9
+    C133      COST      -30
+    C133      R1        8
+    C133      R5        7
+    C133      R42       2
+    C133      R54       -1
+    C133      R55       -8
+    C133      R126      8
+    C133      R131      -5
+    C133      R137      10
+    C133      R142      10
+    C133      R156      4
+    C133      R157      -9
+    C133      R195      5
+    C133      R198      6
+    C134      COST      -14
+    C134      R1        10
+    C134      R23       -6
+    C134      R56       3
+    C134      R73       -4
+    C134      R131      10
+    C134      R143      -8
+    C134      R165      7
+    C134      R166      10
+    C134      R181      6
+    C135      COST      -23
+    C135      R63       -5
+    C135      R93       9
+    C135      R97       5
+    C135      R104      6
+    C135      R115      7
+    C135      R136      5
+    C135      R158      -5
+    C135      R187      6
+    C135      R192      -4
+    C136      COST      29
+    C136      R9        5
+    C136      R63       8
+    C136      R71       4
+    C136      R78       -1
+    C136      R91       -9
+    C136      R127      8
+    C136      R142      9
+    C136      R161      -2
+    C137      COST      6
+    C137      R14       -1
+    C137      R18       -10
+    C137      R21       5
+    C137      R54       -7
+    C137      R64       -8
+    C137      R86       1
+    C137      R89       -1
+    C137      R101      1
+    C137      R164      9
+    C137      R175      -6
+    C137      R180      -3
+    C137      R193      6
+    C138      COST      -29
+    C138      R5        6
+    C138      R23       -5
+    C138      R53       -4
+    C138      R63       -8
+    C138      R72       8
+    C138      R82       8
+    C138      R149      6
+    C138      R174      5
+    C138      R179      3
+    C139      COST      -12
+    C139      R5        1
+    C139      R15       -2
+    C139      R30       -9
+    C139      R38       1
+    C139      R82       2
+    C139      R93       10
+    C139      R111      9
+    C139      R131      5
+    C139      R146      1
+    C139      R184      1
+    C140      COST      22
+    C140      R4        5
+    C140      R18       10
+    C140      R30       1
+    C140      R46       -10
+    C140      R48       -10
+    C140      R71       -2
+    C140      R75       2
+    C140      R80       -6
+    C140      R86       -4
+    C140      R100      -2
+    C140      R117      -3
+    C140      R134      -1
+    C140      R137      -5
+    C140      R139      6
+    C140      R147      -4
+    C140      R179      6
+    C140      R194      9
+    C141      COST      -13
+    C141      R5        -4
+    C141      R13       6
+    C141      R24       1
+    C141      R49       4
+    C141      R93       -5
+    C141      R102      -6
+    C141      R104      7
+    C141      R127      -7
+    C141      R131      10
+    C141      R157      1
+    C141      R163      5
+    C141      R173      -7
+    C141      R176      5
+    C142      COST      -9
+    C142      R36       6
+    C142      R46       4
+    C142      R51       3
+    C142      R57       -2
+    C142      R81       3
+    C142      R91       -7
+    C142      R94       8
+    C142      R127      -5
+    C142      R155      6
+    C142      R165      3
+    C142      R168      1
+    C142      R172      -2
+    C142      R192      3
+    C143      COST      25
+    C143      R6        7
+    C143      R68       -8
+    C143      R79       -5
+    C143      R84       -3
+    C143      R101      -3
+    C143      R105      -4
+    C143      R152      -9
+    C144      COST      14
+    C144      R28       -4
+    C144      R41       -6
+    C144      R57       5
+    C144      R106      -4
+    C144      R110      -2
+    C144      R123      -3
+    C144      R127      -2
+    C145      COST      29
+    C145      R23       -5
+    C145      R28       -6
+    C145      R38       -1
+    C145      R40       3
+    C145      R51       9
+    C145      R69       -1
+    C145      R73       -2
+    C145      R84       -10
+    C145      R97       3
+    C145      R123      6
+    C145      R146      3
+    C145      R150      -8
+    C145      R151      -1
+    C145      R190      -3
+    C146      COST      2
+    C146      R28       9
+    C146      R38       -3
+    C146      R73       10
+    C146      R76       4
+    C146      R85       -8
+    C146      R98       -1
+    C146      R165      4
+    C146      R188      8
+    C146      R189      1
+    C147      COST      18
+    C147      R39       9
+    C147      R47       7
+    C147      R51       -10
+    C147      R63       -7
+    C147      R98       -9
+    C147      R154      6
+    C147      R155      4
+    C147      R156      -8
+    C148      COST      -14
+    C148      R16       -1
+    C148      R34       7
+    C148      R68       -3
+    C148      R129      -1
+    C148      R180      8
+    C148      R186      4
+    C149      COST      2
+    C149      R42       -6
+    C149      R99       -7
+    C149      R135      -3
+    C149      R153      -9
+    C149      R158      -1
+    C149      R161      5
+    C149      R175      2
+    C149      R187      -3
+    C149      R191      9
+    C149      R194      2
+    C150      COST      23
+    C150      R15       -7
+    C150      R24       -2
+    C150      R46       2
+    C150      R63       -3
+    C150      R68       10
+    C150      R75       -5
+    C150      R89       3
+    C150      R92       2
+    C150      R128      10
+    C150      R192      -5
+    C150      R197      7
+    C151      COST      4
+    C151      R11       -10
+    C151      R13       -10
+    C151      R34       3
+    C151      R38       -4
+    C151      R45       7
+    C151      R59       -6
+    C151      R71       -3
+    C151      R98       10
+    C151      R104      -3
+    C151      R121      2
+    C151      R132      3
+    C151      R145      10
+    C151      R154      -8
+    C151      R157      10
+    C151      R175      -10
+    C151      R196      6
+    C151      R200      -3
+    C152      COST      17
+    C152      R51       -9
+    C152      R87       6
+    C152      R125      5
+    C152      R139      5
+    C152      R188      6
+    C152      R195      5
+    C152      R200      -4
+    C153      R22       4
+    C153      R33       2
+    C153      R46       6
+    C153      R54       -3
+    C153      R66       -7
+    C153      R67       3
+    C153      R96       -2
+    C153      R111      -2
+    C153      R122      -6
+    C153      R133      8
+    C153      R141      -6
+    C153      R146      10
+    C153      R152      3
+    C153      R169      -5
+    C154      COST      -12
+    C154      R43       -1
+    C154      R47       -7
+    C154      R55       -3
+    C154      R63       -1
+    C154      R68       6
+    C154      R73       10
+    C154      R81       5
+    C154      R118      5
+    C154      R139      6
+    C154      R140      5
+    C154      R185      10
+    C155      COST      -13
+    C155      R1        -3
+    C155      R65       5
+    C155      R90       1
+    C155      R133      6
+    C155      R148      -9
+    C155      R155      10
+    C156      COST      -6
+    C156      R3        1
+    C156      R47       -6
+    C156      R75       4
+    C156      R76       6
+    C156      R77       4
+    C156      R106      -3
+    C156      R134      5
+    C156      R137      -4
+    C156      R150      -8
+    C156      R151      4
+    C156      R160      -1
+    C156      R184      10
+    C156      R193      -5
+    C157      COST      -25
+    C157      R38       9
+    C157      R55       -6
+    C157      R110      -8
+    C157      R111      10
+    C157      R113      -7
+    C157      R157      -9
+    C157      R185      2
+    C157      R188      -9
+    C157      R198      -2
+    C157      R200      -9
+    C158      COST      -25
+    C158      R1        7
+    C158      R4        -1
+    C158      R17       -3
+    C158      R27       -8
+    C158      R37       -2
+    C158      R77       -4
+    C158      R80       6
+    C158      R94       2
+    C158      R142      7
+    C158      R166      3
+    C159      COST      4
+    C159      R13       4
+    C159      R14       -3
+    C159      R49       -5
+    C159      R91       -5
+    C159      R100      5
+    C159      R102      4
+    C159      R182      7
+    C159      R185      -2
+    C159      R198      1
+    C160      COST      -13
+    C160      R7        2
+    C160      R30       2
+    C160      R47       -3
+    C160      R55       -10
+    C160      R58       10
+    C160      R68       -8
+    C160      R74       -5
+    C160      R155      9
+    C160      R157      7
+    C160      R163      -9
+    C160      R168      -6
+    C160      R176      -9
+    C160      R180      8
+    C161      COST      20
+    C161      R38       -6
+    C161      R44       2
+    C161      R56       5
+    C161      R64       -5
+    C161      R68       -4
+    C161      R95       -7
+    C161      R124      -7
+    C161      R170      -1
+    C161      R172      3
+    C161      R173      -5
+    C161      R175      7
+    C161      R179      -2
+    C161      R199      -1
+    C162      COST      10
+    C162      R6        -9
+    C162      R10       -5
+    C162      R19       -5
+    C162      R29       -3
+    C162      R35       9
+    C162      R40       -3
+    C162      R43       4
+    C162      R54       4
+    C162      R72       1
+    C162      R76       -7
+    C162      R108      4
+    C162      R113      5
+    C162      R124      -4
+    C162      R146      -5
+    C162      R147      9
+    C162      R167      -6
+    C163      COST      16
+    C163      R2        6
+    C163      R26       -4
+    C163      R34       -1
+    C163      R36       -4
+    C163      R42       -7
+    C163      R47       -1
+    C163      R50       10
+    C163      R58       -2
+    C163      R63       -3
+    C163      R120      -9
+    C163      R123      -3
+    C163      R132      10
+    C163      R138      -4
+    C164      COST      -20
+    C164      R7        5
+    C164      R14       -3
+    C164      R19       -2
+    C164      R20       6
+    C164      R26       9
+    C164      R31       6
+    C164      R41       10
+    C164      R75       9
+    C164      R87       -8
+    C164      R117      -4
+    C164      R122      1
+    C164      R127      7
+    C164      R134      -8
+    C164      R140      -6
+    C164      R158      -4
+    C164      R161      -5
+    C164      R168      -5
+    C164      R173      5
+    C164      R189      8
+    C164      R192      -4
+    C165      COST      -25
+    C165      R13       2
+    C165      R31       10
+    C165      R37       7
+    C165      R71       -1
+    C165      R73       8
+    C165      R90       -6
+    C165      R132      -7
+    C165      R156      -8
+    C165      R161      3
+    C166      COST      -28
+    C166      R55       -9
+    C166      R58       2
+    C166      R68       5
+    C166      R69       -5
+    C166      R81       -9
+    C166      R99       8
+    C166      R104      -1
+    C166      R164      2
+    C166      R171      -1
+    C167      COST      11
+    C167      R19       -3
+    C167      R25       -2
+    C167      R33       4
+    C167      R42       6
+    C167      R86       -10
+    C167      R102      -3
+    C167      R125      -1
+    C167      R127      7
+    C167      R143      3
+    C167      R152      -9
+    C167      R155      -5
+    C167      R185      -9
+    C167      R187      -6
+    C168      COST      -30
+    C168      R11       -10
+    C168      R16       4
+    C168      R30       8
+    C168      R39       8
+    C168      R54       5
+    C168      R62       4
+    C168      R102      -7
+    C168      R104      8
+    C168      R110      7
+    C168      R128      3
+    C168      R134      -9
+    C169      COST      9
+    C169      R3        -9
+    C169      R35       -2
+    C169      R39       3
+    C169      R55       8
+    C169      R62       -4
+    C169      R73       -8
+    C169      R76       1
+    C169      R82       -8
+    C169      R90       -7
+    C169      R118      -6
+    C169      R128      -3
+    C169      R154      -7
+    C169      R168      -5
+    C169      R187      6
+    C170      COST      12
+    C170      R4        -3
+    C170      R10       5
+    C170      R51       -9
+    C170      R98       4
+    C170      R116      -10
+    C170      R126      4
+    C170      R160      5
+    C170      R167      -5
+    C170      R182      -3
+    C170      R200      1
+    C171      COST      -1
+    C171      R17       9
+    C171      R25       -7
+    C171      R28       6
+    C171      R37       3
+    C171      R55       -8
+    C171      R58       -4
+    C171      R89       4
+    C171      R100      9
+    C171      R114      7
+    C171      R117      4
+    C171      R128      8
+    C171      R133      4
+    C171      R163      -8
+    C171      R174      9
+    C171      R184      -7
+    C171      R190      -6
+    C171      R191      5
+    C172      COST      10
+    C172      R15       9
+    C172      R19       -6
+    C172      R33       -3
+    C172      R35       7
+    C172      R61       -5
+    C172      R62       5
+    C172      R67       10
+    C172      R69       5
+    C172      R104      -3
+    C172      R117      -3
+    C172      R119      9
+    C172      R149      9
+    C172      R152      4
+    C172      R173      -5
+    C172      R178      7
+    C172      R185      2
+    C172      R200      -9
+    C173      COST      -7
+    C173      R7        8
+    C173      R12       1
+    C173      R30       -2
+    C173      R40       -8
+    C173      R60       -8
+    C173      R71       -7
+    C173      R89       3
+    C173      R108      5
+    C173      R150      8
+    C173      R165      6
+    C173      R174      8
+    C173      R180      2
+    C173      R181      2
+    C173      R195      -2
+    C174      COST      4
+    C174      R30       -10
+    C174      R81       4
+    C174      R93       2
+    C174      R110      8
+    C174      R176      -1
+    C174      R189      8
+    C175      COST      27
+    C175      R11       1
+    C175      R28       6
+    C175      R38       5
+    C175      R53       -4
+    C175      R61       -1
+    C175      R115      4
+    C175      R117      -3
+    C175      R121      -10
+    C175      R196      4
+    C176      COST      -6
+    C176      R2        -10
+    C176      R4        8
+    C176      R9        -3
+    C176      R18       -1
+    C176      R22       -3
+    C176      R44       2
+    C176      R99       -1
+    C176      R100      2
+    C176      R129      7
+    C176      R134      -9
+    C176      R135      9
+    C176      R166      1
+    C176      R171      6
+    C176      R200      2
+    C177      COST      2
+    C177      R44       4
+    C177      R45       3
+    C177      R52       -4
+    C177      R72       5
+    C177      R75       -2
+    C177      R136      -10
+    C177      R138      6
+    C177      R141      1
+    C177      R173      -3
+    C177      R193      1
+    C178      COST      12
+    C178      R2        -8
+    C178      R57       10
+    C178      R63       -10
+    C178      R71       2
+    C178      R98       6
+    C178      R146      9
+    C178      R176      -3
+    C178      R179      -1
+    C178      R185      4
+    C178      R199      -9
+    C179      COST      -19
+    C179      R10       10
+    C179      R18       -9
+    C179      R69       9
+    C179      R87       -5
+    C179      R113      5
+    C179      R123      4
+    C179      R125      2
+    C179      R131      2
+    C179      R136      -9
+    C180      COST      -7
+    C180      R31       -10
+    C180      R48       -10
+    C180      R82       9
+    C180      R86       3
+    C180      R102      -9
+    C180      R125      5
+    C180      R153      -1
+    C180      R156      -2
+    C180      R192      -6
+    C181      COST      -9
+    C181      R24       -8
+    C181      R27       -8
+    C181      R41       9
+    C181      R44       -3
+    C181      R61       -5
+    C181      R68       10
+    C181      R77       -3
+    C181      R86       -10
+    C181      R102      2
+    C181      R110      -3
+    C181      R123      -7
+    C181      R168      -1
+    C181      R177      9
+    C181      R196      9
+    C181      R197      -1
+    C182      COST      8
+    C182      R28       6
+    C182      R29       3
+    C182      R76       1
+    C182      R81       -5
+    C182      R89       -8
+    C182      R95       -9
+    C182      R147      6
+    C182      R163      -5
+    C182      R190      -8
+    C182      R193      -4
+    C182      R199      -2
+    C183      COST      14
+    C183      R11       -6
+    C183      R13       -8
+    C183      R37       3
+    C183      R40       8
+    C183      R46       9
+    C183      R59       -4
+    C183      R84       6
+    C183      R130      -7
+    C183      R153      -2
+    C183      R186      -6
+    C184      COST      25
+    C184      R33       9
+    C184      R39       9
+    C184      R42       -1
+    C184      R56       -2
+    C184      R71       5
+    C184      R89       -6
+    C184      R101      6
+    C184      R104      -2
+    C184      R113      -7
+    C184      R116      -5
+    C184      R133      -10
+    C184      R155      -6
+    C184      R157      -4
+    C184      R163      3
+    C184      R176      -6
+    C184      R188      10
+    C184      R195      4
+    C185      COST      3
+    C185      R8        3
+    C185      R20       3
+    C185      R56       5
+    C185      R64       -9
+    C185      R68       -10
+    C185      R71       -4
+    C185      R73       -4
+    C185      R77       7
+    C185      R92       -2
+    C185      R146      8
+    C185      R157      4
+    C185      R162      5
+    C185      R197      4
+    C186      COST      -7
+    C186      R5        2
+    C186      R17       -4
+    C186      R42       -1
+    C186      R47       -1
+    C186      R59       1
+    C186      R81       -5
+    C186      R108      -6
+    C186      R134      -5
+    C186      R144      3
+    C186      R159      -7
+    C187      COST      11
+    C187      R11       -6
+    C187      R27       8
+    C187      R45       7
+    C187      R60       10
+    C187      R80       4
+    C187      R81       7
+    C187      R133      6
+    C187      R178      8
+    C188      COST      5
+    C188      R36       -4
+    C188      R41       2
+    C188      R58       9
+    C188      R61       -3
+    C188      R65       1
+    C188      R115      3
+    C188      R118      3
+    C188      R121      -7
+    C188      R125      5
+    C188      R133      8
+    C188      R136      1
+    C188      R162      -5
+    C188      R192      9
+    C189      COST      20
+    C189      R1        7
+    C189      R13       7
+    C189      R50       -4
+    C189      R52       -4
+    C189      R67       -8
+    C189      R70       6
+    C189      R128      6
+    C189      R149      10
+    C190      COST      -26
+    C190      R30       -4
+    C190      R31       -5
+    C190      R87       7
+    C190      R101      -6
+    C190      R117      -4
+    C190      R133      1
+    C190      R138      10
+    C190      R142      10
+    C190      R147      9
+    C190      R193      -7
+    C190      R195      -3
+    C191      COST      -19
+    C191      R12       -10
+    C191      R57       9
+    C191      R60       6
+    C191      R73       8
+    C191      R76       2
+    C191      R80       6
+    C191      R108      -5
+    C191      R114      -5
+    C191      R122      6
+    C191      R125      5
+    C191      R128      -3
+    C191      R135      9
+    C191      R172      -1
+    C191      R188      -4
+    C191      R199      -5
+    C191      R200      -3
+    C192      COST      -28
+    C192      R24       -1
+    C192      R26       -2
+    C192      R28       -4
+    C192      R68       6
+    C192      R137      8
+    C192      R186      1
+    C192      R191      4
+    C192      R192      -4
+    C193      COST      -18
+    C193      R49       -1
+    C193      R60       9
+    C193      R155      -5
+    C193      R156      -1
+    C193      R158      -2
+    C193      R162      -5
+    C194      COST      8
+    C194      R78       -9
+    C194      R118      -10
+    C194      R120      1
+    C194      R141      2
+    C194      R143      10
+    C194      R161      3
+    C194      R194      4
+    C195      COST      22
+    C195      R10       -5
+    C195      R34       1
+    C195      R48       6
+    C195      R51       2
+    C195      R55       9
+    C195      R56       -6
+    C195      R64       -9
+    C195      R109      6
+    C195      R111      6
+    C195      R145      -10
+    C195      R153      3
+    C196      COST      -14
+    C196      R6        -3
+    C196      R26       10
+    C196      R29       6
+    C196      R32       -3
+    C196      R105      -3
+    C196      R150      10
+    C196      R167      -3
+    C196      R172      -3
+    C196      R173      -7
+    C196      R175      6
+    C196      R185      -6
+    C196      R190      -1
+    C197      COST      7
+    C197      R2        -7
+    C197      R31       -2
+    C197      R41       4
+    C197      R52       10
+    C197      R59       -3
+    C197      R60       -5
+    C197      R67       9
+    C197      R76       5
+    C197      R82       10
+    C197      R144      -3
+    C197      R193      1
+    C197      R194      -8
+    C197      R198      3
+    C197      R199      3
+    C198      COST      16
+    C198      R36       -2
+    C198      R47       7
+    C198      R57       3
+    C198      R60       -9
+    C198      R64       -7
+    C198      R69       -3
+    C198      R74       -4
+    C198      R92       -4
+    C198      R100      3
+    C198      R130      3
+    C198      R176      -8
+    C198      R178      -8
+    C198      R195      8
+    C199      COST      15
+    C199      R46       -2
+    C199      R63       -1
+    C199      R73       4
+    C199      R96       -6
+    C199      R112      -4
+    C199      R119      5
+    C199      R137      -4
+    C199      R164      9
+    C200      COST      -12
+    C200      R15       6
+    C200      R31       -10
+    C200      R51       10
+    C200      R84       10
+    C200      R102      -10
+    C200      R117      4
+    C200      R162      1
+    C200      R197      -9
+    C201      COST      29
+    C201      R14       1
+    C201      R32       2
+    C201      R55       -4
+    C201      R61       3
+    C201      R70       8
+    C201      R82       3
+    C201      R88       1
+    C201      R110      -1
+    C201      R132      -7
+    C201      R167      -3
+    C201      R170      10
+    C201      R173      -4
+    C201      R174      -10
+    C202      COST      14
+    C202      R15       8
+    C202      R18       2
+    C202      R77       -10
+    C202      R80       5
+    C202      R81       10
+    C202      R115      -8
+    C202      R170      -6
+    C202      R188      3
+    C202      R199      2
+    C203      COST      -22
+    C203      R26       -6
+    C203      R27       1
+    C203      R37       -7
+    C203      R41       -4
+    C203      R43       3
+    C203      R55       4
+    C203      R66       10
+    C203      R72       1
+    C203      R83       -4
+    C203      R107      -1
+    C203      R110      9
+    C203      R128      2
+    C203      R137      -7
+    C203      R169      -9
+    C203      R193      -8
+    C203      R194      -4
+    C204      COST      -19
+    C204      R2        -3
+    C204      R20       4
+    C204      R51       -9
+    C204      R143      4
+    C204      R173      -4
+    C204      R184      -1
+    C204      R197      -10
+    C205      COST      -12
+    C205      R4        -3
+    C205      R17       3
+    C205      R21       5
+    C205      R23       -10
+    C205      R32       -5
+    C205      R59       -1
+    C205      R73       -4
+    C205      R84       7
+    C205      R179      -9
+    C205      R193      10
+    C205      R198      -8
+    C206      COST      21
+    C206      R15       2
+    C206      R16       6
+    C206      R43       -6
+    C206      R66       -7
+    C206      R68       10
+    C206      R76       4
+    C206      R138      -5
+    C206      R146      1
+    C206      R148      6
+    C206      R152      4
+    C206      R184      -4
+    C206      R189      -3
+    C207      COST      28
+    C207      R14       5
+    C207      R16       -4
+    C207      R33       10
+    C207      R92       1
+    C207      R97       -4
+    C207      R109      8
+    C207      R117      -7
+    C207      R122      4
+    C207      R124      8
+    C207      R128      -3
+    C207      R177      5
+    C208      COST      13
+    C208      R50       -10
+    C208      R80       6
+    C208      R94       -6
+    C208      R96       -8
+    C208      R100      6
+    C208      R143      -8
+    C209      COST      22
+    C209      R40       -5
+    C209      R45       10
+    C209      R116      6
+    C209      R134      4
+    C209      R144      9
+    C209      R157      -5
+    C209      R175      3
+    C209      R179      -9
+    C210      COST      22
+    C210      R14       -9
+    C210      R15       -4
+    C210      R74       9
+    C210      R86       5
+    C210      R89       -2
+    C210      R98       -10
+    C210      R131      3
+    C210      R132      -8
+    C210      R142      6
+    C210      R164      -8
+    C210      R167      8
+    C210      R178      9
+    C210      R185      -4
+    C210      R194      6
+    C210      R195      8
+    C211      COST      -6
+    C211      R3        6
+    C211      R6        6
+    C211      R21       -5
+    C211      R37       -5
+    C211      R53       -9
+    C211      R93       -2
+    C211      R138      -2
+    C211      R192      9
+    C212      COST      21
+    C212      R1        -10
+    C212      R26       8
+    C212      R33       -4
+    C212      R47       -5
+    C212      R92       -2
+    C212      R105      -10
+    C212      R113      -1
+    C212      R158      3
+    C213      COST      7
+    C213      R15       3
+    C213      R37       7
+    C213      R84       -4
+    C213      R101      -4
+    C213      R136      -10
+    C213      R146      -9
+    C213      R185      8
+    C214      COST      4
+    C214      R11       9
+    C214      R18       -8
+    C214      R40       -10
+    C214      R54       6
+    C214      R66       6
+    C214      R87       2
+    C214      R155      4
+    C214      R181      -8
+    C215      COST      27
+    C215      R52       -8
+    C215      R67       7
+    C215      R80       6
+    C215      R141      10
+    C215      R172      5
+    C216      COST      -14
+    C216      R23       10
+    C216      R37       -7
+    C216      R40       -10
+    C216      R47       10
+    C216      R50       -7
+    C216      R71       -3
+    C216      R81       3
+    C216      R99       -9
+    C216      R114      9
+    C216      R117      4
+    C216      R135      10
+    C216      R152      10
+    C216      R163      2
+    C217      COST      4
+    C217      R4        6
+    C217      R17       -10
+    C217      R29       -4
+    C217      R62       8
+    C217      R67       -6
+    C217      R90       6
+    C217      R101      2
+    C217      R117      5
+    C217      R149      10
+    C217      R168      -9
+    C217      R193      3
+    C217      R198      5
+    C218      COST      9
+    C218      R25       -8
+    C218      R51       9
+    C218      R89       -7
+    C218      R106      1
+    C218      R108      10
+    C218      R124      9
+    C218      R140      9
+    C218      R160      -10
+    C218      R170      -4
+    C218      R174      -9
+    C219      COST      -6
+    C219      R7        -3
+    C219      R10       10
+    C219      R18       8
+    C219      R66       -10
+    C219      R74       -5
+    C219      R82       6
+    C219      R87       1
+    C219      R95       6
+    C219      R151      -8
+    C219      R157      -2
+    C220      COST      19
+    C220      R4        9
+    C220      R7        1
+    C220      R23       -3
+    C220      R35       6
+    C220      R40       -8
+    C220      R41       9
+    C220      R75       -2
+    C220      R191      3
+    C221      COST      -30
+    C221      R9        8
+    C221      R25       -2
+    C221      R60       -7
+    C221      R65       3
+    C221      R86       9
+    C221      R94       -6
+    C221      R120      5
+    C221      R126      -5
+    C221      R140      -9
+    C221      R145      -5
+    C221      R155      2
+    C221      R156      7
+    C221      R157      1
+    C221      R163      -9
+    C221      R174      -7
+    C221      R186      7
+    C221      R187      5
+    C221      R200      9
+    C222      COST      13
+    C222      R4        -6
+    C222      R21       8
+    C222      R44       -2
+    C222      R53       -7
+    C222      R61       7
+    C222      R77       -6
+    C222      R112      2
+    C222      R126      6
+    C222      R146      1
+    C222      R157      6
+    C222      R179      1
+    C222      R197      -2
+    C223      COST      -15
+    C223      R4        -4
+    C223      R10       -1
+    C223      R42       -1
+    C223      R48       -8
+    C223      R71       2
+    C223      R77       -1
+    C223      R81       -1
+    C223      R109      -1
+    C223      R138      4
+    C223      R173      2
+    C223      R177      -1
+    C223      R183      -9
+    C223      R190      8
+    C223      R197      4
+    C224      COST      26
+    C224      R18       4
+    C224      R31       -9
+    C224      R32       -6
+    C224      R33       4
+    C224      R36       4
+    C224      R37       2
+    C224      R48       10
+    C224      R54       6
+    C224      R80       8
+    C224      R119      6
+    C224      R167      4
+    C224      R171      -3
+    C224      R187      4
+    C224      R190      -5
+    C225      COST      -12
+    C225      R5        2
+    C225      R13       -3
+    C225      R41       -3
+    C225      R88       -2
+    C225      R93       -4
+    C225      R97       -4
+    C225      R113      -1
+    C225      R128      5
+    C225      R146      -5
+    C225      R170      -6
+    C225      R192      -3
+    C226      COST      -5
+    C226      R1        10
+    C226      R27       8
+    C226      R66       -5
+    C226      R89       2
+    C226      R93       -1
+    C226      R106      6
+    C226      R117      7
+    C226      R122      -2
+    C226      R147      -10
+    C226      R154      -7
+    C226      R161      9
+    C226      R169      3
+    C226      R179      9
+    C226      R183      3
+    C226      R191      -3
+    C226      R200      4
+    C227      COST      -26
+    C227      R37       3
+    C227      R65       9
+    C227      R74       -2
+    C227      R77       -3
+    C227      R115      -10
+    C227      R146      3
+    C227      R149      -1
+    C227      R156      -8
+    C227      R175      2
+    C227      R187      4
+    C227      R193      -2
+    C228      COST      13
+    C228      R27       -9
+    C228      R34       10
+    C228      R53       2
+    C228      R65       3
+    C228      R89       7
+    C228      R100      1
+    C228      R117      -2
+    C228      R133      10
+    C228      R139      4
+    C228      R169      6
+    C229      COST      -5
+    C229      R14       7
+    C229      R15       4
+    C229      R16       4
+    C229      R38       -8
+    C229      R62       -10
+    C229      R68       -5
+    C229      R130      10
+    C229      R138      10
+    C229      R147      -8
+    C230      COST      10
+    C230      R7        3
+    C230      R52       6
+    C230      R58       6
+    C230      R82       -9
+    C230      R104      -10
+    C230      R132      7
+    C230      R139      7
+    C230      R163      8
+    C230      R167      -9
+    C230      R187      8
+    C230      R191      -8
+    C231      COST      15
+    C231      R18       -7
+    C231      R67       9
+    C231      R75       10
+    C231      R89       -7
+    C231      R173      -8
+    C231      R200      -2
+    C232      COST      -30
+    C232      R18       -2
+    C232      R22       -5
+    C232      R33       -4
+    C232      R39       8
+    C232      R49       1
+    C232      R58       -5
+    C232      R108      -10
+    C232      R124      -10
+    C232      R132      -2
+    C232      R140      -4
+    C232      R154      8
+    C232      R168      -10
+    C232      R169      -8
+    C232      R174      -8
+    C232      R188      1
+    C232      R199      -7
+    C233      COST      -13
+    C233      R34       -6
+    C233      R45       -9
+    C233      R52       9
+    C233      R84       -4
+    C233      R90       -2
+    C233      R93       3
+    C233      R103      -1
+    C233      R110      -2
+    C233      R180      1
+    C233      R199      -10
+    C234      COST      -10
+    C234      R6        -8
+    C234      R7        7
+    C234      R21       8
+    C234      R41       -6
+    C234      R79       4
+    C234      R138      -9
+    C234      R145      3
+    C234      R159      -2
+    C234      R184      -2
+    C235      COST      14
+    C235      R13       9
+    C235      R43       9
+    C235      R46       1
+    C235      R61       6
+    C235      R74       -7
+    C235      R88       7
+    C235      R102      1
+    C235      R106      -3
+    C235      R110      -3
+    C235      R128      -4
+    C235      R130      -4
+    C235      R161      -3
+    C235      R169      1
+    C235      R191      -8
+    C236      COST      -15
+    C236      R6        -1
+    C236      R13       1
+    C236      R75       -2
+    C236      R128      -4
+    C236      R163      7
+    C236      R166      3
+    C237      COST      3
+    C237      R52       -4
+    C237      R71       -6
+    C237      R73       2
+    C237      R89       -9
+    C237      R100      -2
+    C237      R132      9
+    C237      R139      10
+    C237      R149      -3
+    C237      R166      -5
+    C237      R190      1
+    C238      COST      10
+    C238      R6        -1
+    C238      R13       -3
+    C238      R52       6
+    C238      R53       9
+    C238      R73       -7
+    C238      R82       -7
+    C238      R93       -3
+    C238      R135      8
+    C238      R187      2
+    C239      COST      -19
+    C239      R1        5
+    C239      R18       -6
+    C239      R46       -8
+    C239      R73       -8
+    C239      R85       -10
+    C239      R88       -6
+    C239      R94       1
+    C239      R117      -10
+    C239      R135      8
+    C239      R144      9
+    C239      R156      -4
+    C239      R162      -3
+    C240      COST      -28
+    C240      R14       1
+    C240      R22       -1
+    C240      R77       -6
+    C240      R81       3
+    C240      R89       4
+    C240      R108      -4
+    C240      R120      5
+    C240      R131      -9
+    C240      R137      3
+    C240      R145      1
+    C240      R164      7
+    C240      R200      5
+    C241      COST      -24
+    C241      R1        3
+    C241      R12       3
+    C241      R24       2
+    C241      R53       8
+    C241      R73       5
+    C241      R140      10
+    C241      R152      -10
+    C241      R155      -3
+    C241      R179      8
+    C241      R189      -7
+    C242      COST      -22
+    C242      R41       -5
+    C242      R47       -6
+    C242      R57       -3
+    C242      R74       7
+    C242      R86       1
+    C242      R118      -6
+    C242      R151      1
+    C242      R153      -1
+    C242      R164      8
+    C242      R170      -7
+    C242      R177      -2
+    C242      R184      -7
+    C242      R195      5
+    C242      R199      10
+    C243      COST      2
+    C243      R42       -10
+    C243      R81       1
+    C243      R83       9
+    C243      R90       -1
+    C243      R107      -5
+    C243      R133      -8
+    C243      R135      10
+    C243      R158      8
+    C243      R166      5
+    C243      R173      3
+    C244      COST      -10
+    C244      R35       -7
+    C244      R61       4
+    C244      R80       6
+    C244      R103      7
+    C244      R113      4
+    C244      R131      6
+    C244      R134      4
+    C244      R136      -7
+    C244      R143      2
+    C245      COST      16
+    C245      R5        -6
+    C245      R12       -5
+    C245      R14       -6
+    C245      R21       -6
+    C245      R23       -10
+    C245      R40       6
+    C245      R42       5
+    C245      R100      -5
+    C245      R109      3
+    C245      R150      5
+    C245      R162      -7
+    C245      R172      -8
+    C245      R174      4
+    C245      R175      -2
+    C245      R185      -5
+    C246      COST      -30
+    C246      R24       -5
+    C246      R49       7
+    C246      R53       2
+    C246      R88       -2
+    C246      R89       -9
+    C246      R147      8
+    C246      R149      -10
+    C246      R162      9
+    C246      R185      4
+    C247      COST      -14
+    C247      R4        7
+    C247      R5        -3
+    C247      R31       8
+    C247      R39       -7
+    C247      R61       -4
+    C247      R102      -4
+    C247      R123      10
+    C247      R124      7
+    C247      R137      5
+    C247      R173      -7
+    C247      R177      -9
+    C248      COST      2
+    C248      R14       3
+    C248      R20       2
+    C248      R22       2
+    C248      R23       1
+    C248      R53       5
+    C248      R81       9
+    C248      R94       1
+    C248      R110      4
+    C248      R131      -4
+    C248      R138      7
+    C248      R175      -6
+    C248      R198      -5
+    C249      COST      -3
+    C249      R21       -2
+    C249      R41       -2
+    C249      R51       6
+    C249      R67       -10
+    C249      R84       8
+    C249      R89       3
+    C249      R113      -4
+    C249      R127      -2
+    C249      R130      -5
+    C249      R155      3
+    C249      R179      7
+    C249      R181      -9
+    C250      COST      9
+    C250      R5        6
+    C250      R50       9
+    C250      R54       -4
+    C250      R65       6
+    C250      R143      -2
+    C250      R151      5
+    C250      R186      4
+    C250      R188      8
+    C250      R191      8
+    C250      R196      4
+    C250      R199      4
+    C251      COST      -22
+    C251      R26       10
+    C251      R33       1
+    C251      R42       -2
+    C251      R48       9
+    C251      R59       8
+    C251      R72       -2
+    C251      R77       -5
+    C251      R92       -7
+    C251      R110      -1
+    C251      R130      -4
+    C251      R142      -3
+    C251      R171      4
+    C251      R188      1
+    C252      COST      -21
+    C252      R7        6
+    C252      R10       2
+    C252      R39       -4
+    C252      R99       -6
+    C252      R102      -7
+    C252      R133      9
+    C252      R144      3
+    C252      R180      -5
+    C252      R188      10
+    C253      COST      -18
+    C253      R63       1
+    C253      R71       -7
+    C253      R94       -10
+    C253      R108      -2
+    C253      R125      -8
+    C253      R136      2
+    C253      R144      -1
+    C253      R147      5
+    C253      R162      3
+    C254      COST      12
+    C254      R2        6
+    C254      R27       -9
+    C254      R31       7
+    C254      R57       -8
+    C254      R66       3
+    C254      R70       6
+    C254      R74       9
+    C254      R98       -8
+    C254      R109      -4
+    C254      R138      6
+    C254      R149      3
+    C254      R152      -8
+    C254      R153      7
+    C254      R180      1
+    C254      R185      10
+    C254      R195      4
+    C254      R200      -8
+    C255      COST      11
+    C255      R1        -6
+    C255      R9        -2
+    C255      R26       -3
+    C255      R37       9
+    C255      R55       -7
+    C255      R64       9
+    C255      R100      -1
+    C255      R122      2
+    C255      R168      -9
+    C255      R190      5
+    C256      COST      1
+    C256      R10       -10
+    C256      R51       -1
+    C256      R54       6
+    C256      R58       -9
+    C256      R69       10
+    C256      R70       9
+    C256      R92       -7
+    C256      R101      -5
+    C256      R125      1
+    C256      R133      -3
+    C256      R139      5
+    C256      R146      10
+    C256      R151      6
+    C256      R198      -6
+    C257      COST      8
+    C257      R5        -5
+    C257      R10       -9
+    C257      R24       6
+    C257      R54       -4
+    C257      R56       -1
+    C257      R62       8
+    C257      R98       -9
+    C257      R133      5
+    C257      R136      3
+    C257      R138      4
+    C257      R150      6
+    C257      R153      1
+    C257      R173      -8
+    C258      COST      -13
+    C258      R22       2
+    C258      R41       1
+    C258      R48       -6
+    C258      R53       8
+    C258      R60       -3
+    C258      R121      3
+    C258      R147      3
+    C258      R148      -4
+    C258      R154      3
+    C259      COST      5
+    C259      R26       -1
+    C259      R29       10
+    C259      R33       -4
+    C259      R37       -1
+    C259      R46       2
+    C259      R53       -10
+    C259      R95       -2
+    C259      R120      4
+    C259      R124      4
+    C259      R149      -7
+    C259      R153      -7
+    C259      R161      -4
+    C259      R164      1
+    C259      R166      -10
+    C259      R183      5
+    C260      COST      7
+    C260      R2        9
+    C260      R23       8
+    C260      R48       -4
+    C260      R74       -10
+    C260      R81       5
+    C260      R84       7
+    C260      R131      4
+    C260      R144      1
+    C260      R163      3
+    C260      R177      6
+    C260      R193      -1
+    C260      R196      10
+    C261      COST      11
+    C261      R9        -1
+    C261      R19       -5
+    C261      R45       -6
+    C261      R62       -1
+    C261      R68       9
+    C261      R94       4
+    C261      R111      -4
+    C261      R151      4
+    C261      R154      4
+    C261      R168      -5
+    C261      R176      -1
+    C261      R197      5
+    C261      R200      9
+    C262      R4        7
+    C262      R6        9
+    C262      R11       -4
+    C262      R106      5
+    C262      R108      -1
+    C262      R112      2
+    C262      R116      3
+    C262      R123      6
+    C262      R142      -7
+    C262      R168      -2
+    C262      R188      -4
+    C262      R192      -8
+    C263      COST      19
+    C263      R29       -6
+    C263      R34       5
+    C263      R58       -6
+    C263      R66       6
+    C263      R76       -10
+    C263      R94       -8
+    C263      R122      5
+    C263      R129      2
+    C263      R147      -1
+    C263      R148      6
+    C263      R150      -10
+    C263      R181      1
+    C263      R189      -7
+    C264      COST      -28
+    C264      R45       -5
+    C264      R52       -8
+    C264      R56       6
+    C264      R69       7
+    C264      R73       8
+    C264      R75       -5
+    C264      R117      -2
+    C264      R121      -7
+    C264      R136      -3
+    C264      R158      3
+    C264      R186      5
+    C265      COST      -16
+    C265      R25       8
+    C265      R26       10
+    C265      R30       2
+    C265      R31       -4
+    C265      R45       -1
+    C265      R48       -4
+    C265      R61       2
+    C265      R76       8
+    C265      R84       -6
+    C265      R94       -9
+    C265      R113      2
+    C265      R116      -5
+    C265      R173      -5
+    C265      R181      3
+    C266      COST      -3
+    C266      R21       -7
+    C266      R41       7
+    C266      R44       -10
+    C266      R88       3
+    C266      R98       -9
+    C266      R135      5
+    C266      R151      -7
+    C266      R152      -2
+    C266      R169      -8
+    C266      R174      1
+    C266      R186      -9
+    C267      COST      11
+    C267      R10       -5
+    C267      R26       9
+    C267      R28       3
+    C267      R30       -6
+    C267      R47       10
+    C267      R72       -10
+    C267      R74       4
+    C267      R94       7
+    C267      R95       7
+    C267      R109      -3
+    C267      R126      4
+    C267      R141      -8
+    C267      R146      8
+    C267      R152      -5
+    C267      R180      9
+    C267      R199      4
+    C268      COST      9
+    C268      R4        8
+    C268      R13       3
+    C268      R41       -4
+    C268      R51       5
+    C268      R57       1
+    C268      R87       1
+    C268      R89       -9
+    C268      R98       8
+    C268      R117      -1
+    C268      R129      -1
+    C268      R135      10
+    C268      R156      -2
+    C268      R165      3
+    C268      R194      10
+    C269      COST      -5
+    C269      R31       -5
+    C269      R37       9
+    C269      R42       2
+    C269      R60       7
+    C269      R62       4
+    C269      R104      -4
+    C269      R108      -5
+    C269      R115      -7
+    C269      R149      2
+    C269      R175      5
+    C269      R200      -6
+    C270      COST      -14
+    C270      R15       -9
+    C270      R22       -2
+    C270      R81       2
+    C270      R156      7
+    C270      R162      -8
+    C270      R164      10
+    C270      R193      10
+    C271      COST      -14
+    C271      R7        2
+    C271      R29       -8
+    C271      R30       2
+    C271      R38       10
+    C271      R55       -7
+    C271      R56       -4
+    C271      R75       -1
+    C271      R94       -2
+    C271      R95       8
+    C271      R98       -7
+    C271      R110      -4
+    C271      R115      -1
+    C271      R129      7
+    C271      R143      -9
+    C271      R173      4
+    C271      R198      6
+    C272      COST      -29
+    C272      R13       -4
+    C272      R31       -6
+    C272      R87       -4
+    C272      R111      -5
+    C272      R132      3
+    C272      R165      6
+    C273      COST      22
+    C273      R34       -5
+    C273      R42       3
+    C273      R66       -5
+    C273      R67       4
+    C273      R93       -4
+    C273      R128      5
+    C273      R141      -9
+    C273      R151      10
+    C273      R190      8
+    C274      COST      -25
+    C274      R18       3
+    C274      R24       -6
+    C274      R46       9
+    C274      R48       6
+    C274      R54       2
+    C274      R128      -7
+    C274      R129      -5
+    C274      R158      -2
+    C275      COST      24
+    C275      R40       5
+    C275      R101      8
+    C275      R109      -6
+    C275      R122      -9
+    C275      R125      9
+    C275      R140      3
+    C275      R145      9
+    C275      R153      1
+    C275      R193      6
+    C276      COST      1
+    C276      R27       -7
+    C276      R90       10
+    C276      R117      4
+    C276      R153      8
+    C276      R160      -10
+    C276      R166      7
+    C276      R184      -9
+    C277      COST      -2
+    C277      R24       -10
+    C277      R36       -6
+    C277      R55       -4
+    C277      R68       -6
+    C277      R72       -4
+    C277      R82       -6
+    C277      R83       3
+    C277      R110      -1
+    C277      R112      10
+    C277      R165      -2
+    C277      R171      6
+    C277      R178      -6
+    C277      R185      2
+    C278      COST      3
+    C278      R18       8
+    C278      R27       -1
+    C278      R40       -7
+    C278      R85       -7
+    C278      R132      9
+    C278      R188      -8
+    C278      R194      9
+    C278      R195      8
+    C279      COST      28
+    C279      R26       -6
+    C279      R38       6
+    C279      R68       -1
+    C279      R82       -10
+    C279      R96       -2
+    C279      R139      -1
+    C279      R155      3
+    C279      R171      4
+    C279      R173      -3
+    C279      R175      4
+    C279      R194      -2
+    C280      COST      23
+    C280      R22       -3
+    C280      R106      5
+    C280      R107      -8
+    C280      R150      10
+    C280      R160      2
+    C280      R177      4
+    C281      COST      29
+    C281      R48       8
+    C281      R71       -1
+    C281      R78       10
+    C281      R90       10
+    C281      R121      -7
+    C281      R124      4
+    C281      R151      -4
+    C281      R184      10
+    C282      COST      7
+    C282      R26       -2
+    C282      R30       8
+    C282      R45       7
+    C282      R56       -8
+    C282      R64       2
+    C282      R150      -2
+    C282      R171      -9
+    C282      R186      4
+    C282      R189      8
+    C283      COST      -12
+    C283      R74       -3
+    C283      R91       9
+    C283      R119      9
+    C283      R145      -1
+    C283      R152      -1
+    C283      R164      -7
+    C283      R170      1
+    C284      COST      6
+    C284      R16       -8
+    C284      R29       10
+    C284      R33       -7
+    C284      R143      10
+    C284      R163      -9
+    C284      R182      8
+    C285      COST      17
+    C285      R51       -3
+    C285      R77       -10
+    C285      R127      -9
+    C285      R157      -8
+    C285      R181      -6
+    C286      COST      4
+    C286      R17       -5
+    C286      R54       -8
+    C286      R56       -1
+    C286      R71       -10
+    C286      R107      -3
+    C286      R123      -9
+    C286      R158      -3
+    C286      R173      5
+    C286      R182      -4
+    C286      R183      -10
+    C286      R185      -10
+    C286      R194      7
+    C287      COST      -17
+    C287      R11       -6
+    C287      R27       -10
+    C287      R56       5
+    C287      R67       5
+    C287      R78       -9
+    C287      R92       -2
+    C287      R99       5
+    C287      R115      6
+    C287      R116      4
+    C287      R132      -10
+    C287      R137      8
+    C287      R155      5
+    C287      R165      -3
+    C287      R167      -4
+    C287      R197      -8
+    C287      R198      7
+    C288      R16       10
+    C288      R45       -2
+    C288      R50       7
+    C288      R55       6
+    C288      R70       5
+    C288      R95       6
+    C288      R130      -2
+    C288      R138      2
+    C289      COST      23
+    C289      R16       -1
+    C289      R50       8
+    C289      R64       -6
+    C289      R111      -1
+    C289      R148      -4
+    C289      R156      9
+    C289      R175      -7
+    C289      R177      -3
+    C289      R179      4
+    C289      R190      2
+    C289      R199      8
+    C290      COST      15
+    C290      R10       -8
+    C290      R49       -9
+    C290      R66       6
+    C290      R92       6
+    C290      R101      7
+    C290      R118      -6
+    C290      R151      -4
+    C290      R154      10
+    C290      R155      -7
+    C290      R158      -4
+    C290      R184      -9
+    C290      R187      -2
+    C290      R195      9
+    C291      COST      -9
+    C291      R17       3
+    C291      R34       2
+    C291      R42       8
+    C291      R43       -4
+    C291      R55       4
+    C291      R90       -2
+    C291      R91       -9
+    C291      R107      4
+    C291      R123      -8
+    C291      R135      -1
+    C291      R161      -1
+    C291      R162      -9
+    C292      COST      -12
+    C292      R4        7
+    C292      R32       -7
+    C292      R56       -8
+    C292      R100      9
+    C292      R108      -2
+    C292      R183      9
+    C293      COST      -26
+    C293      R15       7
+    C293      R17       8
+    C293      R23       1
+    C293      R58       -6
+    C293      R82       7
+    C293      R126      -9
+    C293      R130      7
+    C293      R147      8
+    C293      R159      -2
+    C293      R164      2
+    C294      COST      1
+    C294      R15       2
+    C294      R31       -10
+    C294      R49       5
+    C294      R65       7
+    C294      R90       -1
+    C294      R107      1
+    C294      R125      7
+    C294      R128      5
+    C294      R140      3
+    C294      R168      -7
+    C294      R184      -10
+    C294      R189      -5
+    C295      COST      -17
+    C295      R4        3
+    C295      R25       3
+    C295      R37       -8
+    C295      R42       10
+    C295      R45       4
+    C295      R52       4
+    C295      R64       -5
+    C295      R69       8
+    C295      R99       2
+    C295      R120      4
+    C295      R151      -10
+    C295      R154      1
+    C296      COST      17
+    C296      R4        -5
+    C296      R22       1
+    C296      R32       8
+    C296      R50       -10
+    C296      R75       4
+    C296      R85       -3
+    C296      R90       3
+    C296      R108      2
+    C296      R113      9
+    C296      R136      6
+    C296      R148      -9
+    C296      R165      3
+    C296      R168      -7
+    C296      R176      -7
+    C296      R178      3
+    C296      R179      1
+    C296      R185      -3
+    C296      R199      -7
+    C297      COST      -26
+    C297      R28       -6
+    C297      R62       3
+    C297      R73       -10
+    C297      R89       9
+    C297      R92       -6
+    C297      R103      7
+    C297      R107      2
+    C297      R121      4
+    C297      R172      1
+    C297      R195      5
+    C297      R199      5
+    C298      COST      -13
+    C298      R17       6
+    C298      R18       8
+    C298      R27       -2
+    C298      R29       -8
+    C298      R36       -6
+    C298      R73       -6
+    C298      R97       -7
+    C298      R130      -4
+    C298      R133      -10
+    C298      R146      -6
+    C298      R162      -1
+    C298      R172      -3
+    C299      COST      24
+    C299      R8        4
+    C299      R15       6
+    C299      R24       3
+    C299      R43       6
+    C299      R46       -8
+    C299      R54       3
+    C299      R57       -2
+    C299      R68       -8
+    C299      R69       -1
+    C299      R109      -6
+    C299      R113      -6
+    C299      R136      9
+    C299      R194      7
+    C300      COST      -9
+    C300      R6        1
+    C300      R18       7
+    C300      R19       -4
+    C300      R88       9
+    C300      R98       -5
+    C300      R100      6
+    C300      R103      1
+    C300      R124      2
+    C300      R189      -6
+    C300      R194      8
+    C300      R199      -8
+    C301      COST      -27
+    C301      R21       10
+    C301      R30       7
+    C301      R32       9
+    C301      R60       10
+    C301      R77       6
+    C301      R78       -3
+    C302      COST      1
+    C302      R12       9
+    C302      R41       -6
+    C302      R49       -10
+    C302      R55       2
+    C302      R66       -4
+    C302      R71       -3
+    C302      R85       6
+    C302      R111      -3
+    C302      R137      -9
+    C302      R150      2
+    C302      R159      1
+    C303      COST      28
+    C303      R26       8
+    C303      R30       10
+    C303      R55       5
+    C303      R76       -5
+    C303      R100      4
+    C303      R114      -5
+    C303      R115      -1
+    C303      R122      -9
+    C303      R127      -4
+    C303      R137      1
+    C303      R153      8
+    C303      R180      -9
+    C303      R183      4
+    C303      R199      9
+    C304      COST      -15
+    C304      R4        -7
+    C304      R7        8
+    C304      R9        2
+    C304      R45       -6
+    C304      R63       3
+    C304      R94       -4
+    C304      R132      3
+    C304      R147      6
+    C304      R155      -5
+    C304      R165      -4
+    C304      R184      10
+    C305      COST      3
+    C305      R40       -8
+    C305      R54       6
+    C305      R66       -1
+    C305      R77       -1
+    C305      R103      -4
+    C305      R106      -6
+    C305      R120      -10
+    C305      R135      10
+    C305      R138      1
+    C305      R182      -8
+    C306      COST      -21
+    C306      R20       -10
+    C306      R74       9
+    C306      R101      7
+    C306      R111      3
+    C306      R112      -4
+    C306      R118      -10
+    C306      R121      8
+    C306      R133      1
+    C306      R141      -6
+    C306      R168      -4
+    C306      R170      10
+    C306      R192      -1
+    C307      COST      -4
+    C307      R155      -9
+    C307      R179      -4
+    C307      R186      5
+    C308      COST      -2
+    C308      R33       -8
+    C308      R86       -2
+    C308      R113      6
+    C308      R122      -2
+    C308      R130      -2
+    C308      R150      10
+    C308      R177      2
+    C309      COST      16
+    C309      R7        9
+    C309      R9        8
+    C309      R50       4
+    C309      R91       8
+    C309      R99       8
+    C309      R103      -5
+    C309      R148      3
+    C309      R194      1
+    C310      COST      6
+    C310      R21       -3
+    C310      R25       -3
+    C310      R66       3
+    C310      R78       -2
+    C310      R88       -1
+    C310      R92       -5
+    C310      R93       1
+    C310      R125      -5
+    C310      R151      5
+    C310      R164      -10
+    C310      R169      3
+    C310      R185      -10
+    C310      R192      4
+    C311      COST      -29
+    C311      R79       -6
+    C311      R90       -1
+    C311      R94       -1
+    C311      R98       10
+    C311      R100      2
+    C311      R111      4
+    C311      R123      -3
+    C311      R126      -6
+    C311      R129      3
+    C311      R134      -8
+    C311      R151      7
+    C311      R155      -9
+    C311      R190      -9
+    C311      R191      -3
+    C312      COST      15
+    C312      R43       6
+    C312      R59       1
+    C312      R115      5
+    C312      R137      -9
+    C312      R155      4
+    C312      R156      2
+    C312      R170      5
+    C312      R195      2
+    C313      COST      -30
+    C313      R8        -2
+    C313      R12       -4
+    C313      R16       5
+    C313      R24       -3
+    C313      R27       -9
+    C313      R52       -1
+    C313      R109      8
+    C313      R116      -6
+    C313      R150      -2
+    C313      R178      2
+    C313      R180      -10
+    C313      R183      10
+    C313      R187      -6
+    C314      COST      13
+    C314      R32       -10
+    C314      R33       2
+    C314      R41       -2
+    C314      R52       -7
+    C314      R80       -2
+    C314      R86       5
+    C314      R90       4
+    C314      R93       -4
+    C314      R95       8
+    C314      R165      1
+    C314      R194      6
+    C314      R199      10
+    C315      COST      15
+    C315      R1        10
+    C315      R5        1
+    C315      R40       2
+    C315      R58       -2
+    C315      R78       -4
+    C315      R79       9
+    C315      R145      -2
+    C315      R161      10
+    C315      R162      6
+    C316      COST      14
+    C316      R36       -2
+    C316      R38       -2
+    C316      R42       4
+    C316      R56       -1
+    C316      R81       3
+    C316      R97       2
+    C316      R102      9
+    C316      R124      -9
+    C316      R138      2
+    C316      R152      -2
+    C316      R155      6
+    C316      R164      -2
+    C316      R172      -3
+    C316      R189      2
+    C317      COST      -22
+    C317      R12       -5
+    C317      R26       4
+    C317      R37       -1
+    C317      R52       -9
+    C317      R83       10
+    C317      R93       9
+    C317      R96       1
+    C317      R119      -2
+    C317      R128      4
+    C317      R154      -1
+    C317      R157      -9
+    C317      R166      8
+    C317      R187      -4
+    C317      R198      8
+    C318      COST      16
+    C318      R4        -4
+    C318      R14       -8
+    C318      R51       -5
+    C318      R67       -1
+    C318      R82       6
+    C318      R89       9
+    C318      R131      -2
+    C318      R153      -1
+    C318      R156      7
+    C318      R167      7
+    C318      R179      5
+    C318      R186      2
+    C319      COST      24
+    C319      R12       -6
+    C319      R53       -3
+    C319      R81       -1
+    C319      R107      2
+    C319      R133      -3
+    C319      R134      -9
+    C319      R154      1
+    C320      COST      -30
+    C320      R1        -7
+    C320      R10       -7
+    C320      R62       5
+    C320      R66       -6
+    C320      R79       -1
+    C320      R105      -7
+    C320      R116      -5
+    C320      R130      -8
+    C320      R169      7
+    C320      R186      1
+    C320      R198      3
+    C321      COST      -10
+    C321      R2        9
+    C321      R13       9
+    C321      R16       -1
+    C321      R21       5
+    C321      R29       -5
+    C321      R39       -2
+    C321      R56       7
+    C321      R85       -3
+    C321      R88       -1
+    C321      R129      1
+    C322      COST      -4
+    C322      R11       1
+    C322      R28       -6
+    C322      R42       10
+    C322      R55       5
+    C322      R66       9
+    C322      R75       -6
+    C322      R94       3
+    C322      R112      8
+    C322      R113      -3
+    C322      R119      8
+    C322      R139      10
+    C322      R152      6
+    C322      R181      -10
+    C322      R182      6
+    C323      COST      -17
+    C323      R10       7
+    C323      R13       3
+    C323      R18       1
+    C323      R19       -1
+    C323      R23       6
+    C323      R31       2
+    C323      R108      6
+    C323      R118      -5
+    C323      R136      10
+    C323      R160      7
+    C323      R172      -10
+    C323      R194      -8
+    C324      COST      14
+    C324      R4        -9
+    C324      R5        9
+    C324      R18       4
+    C324      R59       2
+    C324      R64       7
+    C324      R95       -7
+    C324      R108      -1
+    C324      R169      -4
+    C324      R183      2
+    C324      R199      -5
+    C325      COST      -14
+    C325      R2        4
+    C325      R17       8
+    C325      R20       8
+    C325      R72       -10
+    C325      R80       -6
+    C325      R93       -9
+    C325      R129      4
+    C325      R141      6
+    C325      R144      -1
+    C325      R154      8
+    C325      R180      6
+    C326      COST      -2
+    C326      R29       3
+    C326      R100      -1
+    C326      R101      2
+    C326      R111      -2
+    C326      R117      4
+    C326      R118      -9
+    C326      R138      -3
+    C327      COST      -22
+    C327      R5        -7
+    C327      R23       8
+    C327      R38       6
+    C327      R39       -10
+    C327      R47       -5
+    C327      R55       -10
+    C327      R77       9
+    C327      R111      6
+    C327      R137      1
+    C327      R140      -7
+    C327      R142      -9
+    C327      R147      1
+    C327      R149      4
+    C327      R158      2
+    C327      R159      -6
+    C328      COST      -18
+    C328      R3        -8
+    C328      R45       6
+    C328      R68       8
+    C328      R88       3
+    C328      R97       -4
+    C328      R102      -1
+    C328      R125      3
+    C328      R128      4
+    C328      R136      -8
+    C328      R146      -9
+    C328      R169      -6
+    C328      R171      -3
+    C328      R172      10
+    C328      R189      8
+    C329      COST      -3
+    C329      R15       5
+    C329      R71       6
+    C329      R78       -4
+    C329      R82       2
+    C329      R118      4
+    C329      R159      -9
+    C329      R188      5
+    C330      COST      -11
+    C330      R46       8
+    C330      R48       -4
+    C330      R64       7
+    C330      R68       5
+    C330      R69       7
+    C330      R75       -2
+    C330      R92       -7
+    C330      R106      -5
+    C330      R110      -7
+    C330      R112      2
+    C330      R117      -1
+    C330      R124      4
+    C330      R128      8
+    C330      R136      9
+    C330      R145      -4
+    C330      R147      -3
+    C330      R153      -4
+    C330      R164      -7
+    C331      COST      24
+    C331      R5        -6
+    C331      R41       -8
+    C331      R54       -7
+    C331      R66       6
+    C331      R88       2
+    C331      R122      4
+    C331      R155      6
+    C331      R167      -10
+    C331      R180      5
+    C331      R189      -9
+    C331      R193      9
+    C332      COST      -10
+    C332      R29       -2
+    C332      R30       5
+    C332      R52       2
+    C332      R71       3
+    C332      R98       2
+    C332      R107      9
+    C332      R130      -2
+    C332      R138      -3
+    C332      R143      8
+    C332      R144      1
+    C332      R147      7
+    C332      R148      -5
+    C332      R150      -4
+    C332      R155      -9
+    C332      R186      -5
+    C333      COST      -17
+    C333      R22       3
+    C333      R46       -8
+    C333      R84       -6
+    C333      R102      -5
+    C333      R129      8
+    C333      R135      2
+    C333      R182      -7
+    C333      R187      7
+    C334      COST      -13
+    C334      R40       -5
+    C334      R44       6
+    C334      R75       2
+    C334      R79       8
+    C334      R81       8
+    C334      R90       -8
+    C334      R101      5
+    C334      R109      8
+    C334      R113      -10
+    C334      R118      7
+    C334      R148      -9
+    C334      R150      6
+    C334      R162      -10
+    C335      COST      13
+    C335      R14       6
+    C335      R22       1
+    C335      R52       5
+    C335      R54       6
+    C335      R63       -7
+    C335      R77       -6
+    C335      R84       9
+    C335      R85       -8
+    C335      R88       3
+    C335      R116      6
+    C335      R149      10
+    C335      R161      -9
+    C336      COST      1
+    C336      R11       2
+    C336      R31       -1
+    C336      R65       -7
+    C336      R78       -7
+    C336      R108      -9
+    C336      R126      10
+    C336      R195      1
+    C337      COST      5
+    C337      R31       3
+    C337      R49       -9
+    C337      R65       9
+    C337      R83       3
+    C337      R109      5
+    C337      R120      10
+    C337      R148      -10
+    C337      R160      8
+    C337      R165      -1
+    C337      R179      3
+    C337      R184      -6
+    C337      R193      -9
+    C338      COST      23
+    C338      R43       -9
+    C338      R47       8
+    C338      R49       5
+    C338      R75       2
+    C338      R85       4
+    C338      R107      4
+    C338      R137      -8
+    C338      R168      -6
+    C338      R170      -3
+    C338      R174      -5
+    C339      COST      4
+    C339      R3        9
+    C339      R43       -7
+    C339      R44       -2
+    C339      R57       2
+    C339      R71       -3
+    C339      R75       -8
+    C339      R129      3
+    C339      R131      1
+    C339      R143      -5
+    C339      R152      4
+    C339      R161      -5
+    C339      R162      -2
+    C340      COST      -19
+    C340      R5        3
+    C340      R20       10
+    C340      R27       -8
+    C340      R48       7
+    C340      R64       -5
+    C340      R82       -10
+    C340      R84       -2
+    C340      R102      -2
+    C340      R108      8
+    C340      R138      -9
+    C340      R150      4
+    C340      R162      -3
+    C340      R171      -8
+    C340      R187      -10
+    C340      R191      10
+    C340      R192      -10
+    C341      COST      -20
+    C341      R4        -1
+    C341      R7        -8
+    C341      R8        -9
+    C341      R29       5
+    C341      R43       -3
+    C341      R50       -5
+    C341      R62       -4
+    C341      R63       8
+    C341      R74       -8
+    C341      R85       -5
+    C341      R89       10
+    C341      R91       2
+    C341      R111      8
+    C341      R137      3
+    C341      R142      10
+    C341      R162      -6
+    C341      R189      5
+    C341      R191      1
+    C342      COST      -14
+    C342      R4        5
+    C342      R10       3
+    C342      R14       -3
+    C342      R17       -4
+    C342      R26       4
+    C342      R54       -7
+    C342      R71       -9
+    C342      R88       10
+    C342      R96       6
+    C342      R100      -2
+    C342      R109      5
+    C342      R122      -8
+    C342      R134      -10
+    C342      R144      6
+    C342      R168      -4
+    C342      R173      -5
+    C342      R174      -6
+    C342      R197      9
+    C343      COST      -6
+    C343      R8        -1
+    C343      R20       2
+    C343      R22       9
+    C343      R24       -10
+    C343      R29       4
+    C343      R50       -7
+    C343      R54       3
+    C343      R60       -1
+    C343      R74       -3
+    C343      R77       -4
+    C343      R78       -1
+    C343      R89       -7
+    C343      R108      -4
+    C343      R110      -2
+    C343      R180      5
+    C344      COST      -19
+    C344      R23       5
+    C344      R36       10
+    C344      R69       -6
+    C344      R79       -7
+    C344      R83       10
+    C344      R96       -6
+    C344      R99       -1
+    C344      R107      -8
+    C344      R113      5
+    C344      R116      8
+    C344      R137      -4
+    C344      R153      -9
+    C344      R196      -7
+    C345      COST      15
+    C345      R28       -6
+    C345      R54       4
+    C345      R91       6
+    C345      R147      -2
+    C345      R188      4
+    C345      R189      6
+    C345      R193      9
+    C346      COST      -13
+    C346      R40       -2
+    C346      R50       -9
+    C346      R87       -9
+    C346      R155      7
+    C346      R177      10
+    C347      COST      -1
+    C347      R40       4
+    C347      R53       -3
+    C347      R66       9
+    C347      R101      9
+    C347      R103      8
+    C347      R114      3
+    C347      R118      4
+    C347      R140      -5
+    C347      R146      -5
+    C347      R172      9
+    C347      R175      3
+    C347      R180      -2
+    C347      R188      1
+    C348      COST      -5
+    C348      R4        -1
+    C348      R42       2
+    C348      R56       5
+    C348      R58       10
+    C348      R69       7
+    C348      R74       -3
+    C348      R104      -3
+    C348      R118      8
+    C348      R147      -9
+    C348      R156      -4
+    C348      R170      -3
+    C349      COST      -1
+    C349      R18       6
+    C349      R28       -5
+    C349      R83       6
+    C349      R89       1
+    C349      R99       2
+    C349      R105      -4
+    C349      R106      3
+    C349      R114      -6
+    C349      R123      -1
+    C349      R126      -1
+    C349      R138      -2
+    C349      R140      -5
+    C349      R189      7
+    C349      R193      10
+    C350      COST      22
+    C350      R4        -7
+    C350      R9        -1
+    C350      R41       2
+    C350      R42       9
+    C350      R114      -7
+    C350      R142      -1
+    C350      R148      6
+    C350      R159      -8
+    C350      R175      -8
+    C350      R188      10
+    C350      R190      10
+    C351      COST      -12
+    C351      R21       4
+    C351      R53       -1
+    C351      R66       6
+    C351      R68       -10
+    C351      R123      1
+    C351      R150      -7
+    C351      R160      10
+    C351      R198      -2
+    C352      COST      -21
+    C352      R1        -4
+    C352      R46       8
+    C352      R70       -9
+    C352      R84       -7
+    C352      R87       -5
+    C352      R118      3
+    C352      R119      -4
+    C352      R134      -8
+    C352      R150      8
+    C352      R151      6
+    C353      COST      -22
+    C353      R12       2
+    C353      R18       -1
+    C353      R36       -8
+    C353      R50       6
+    C353      R55       -3
+    C353      R92       -8
+    C353      R116      -1
+    C353      R151      7
+    C353      R152      -4
+    C353      R153      4
+    C353      R156      6
+    C353      R160      9
+    C353      R166      -7
+    C353      R177      -4
+    C353      R185      -7
+    C353      R189      -6
+    C353      R196      -7
+    C353      R200      -4
+    C354      COST      7
+    C354      R26       -3
+    C354      R35       -8
+    C354      R44       -3
+    C354      R57       8
+    C354      R64       3
+    C354      R80       8
+    C354      R104      10
+    C354      R118      -7
+    C354      R127      -7
+    C354      R130      -1
+    C354      R151      -3
+    C354      R174      -9
+    C355      COST      -20
+    C355      R44       10
+    C355      R54       -3
+    C355      R92       7
+    C355      R122      -6
+    C355      R169      10
+    C355      R173      1
+    C355      R177      6
+    C356      COST      24
+    C356      R9        9
+    C356      R12       -1
+    C356      R20       9
+    C356      R26       6
+    C356      R75       -6
+    C356      R85       -3
+    C356      R116      3
+    C356      R173      -8
+    C356      R184      -3
+    C357      COST      6
+    C357      R28       9
+    C357      R43       -3
+    C357      R50       -7
+    C357      R61       -10
+    C357      R63       1
+    C357      R70       -1
+    C357      R74       2
+    C357      R102      7
+    C357      R109      -9
+    C357      R160      -3
+    C358      COST      -7
+    C358      R18       4
+    C358      R90       -1
+    C358      R105      7
+    C358      R128      -2
+    C358      R139      -4
+    C358      R150      -3
+    C358      R168      -4
+    C358      R169      5
+    C358      R195      7
+    C359      COST      21
+    C359      R4        -10
+    C359      R5        4
+    C359      R28       -8
+    C359      R35       10
+    C359      R59       7
+    C359      R85       -7
+    C359      R88       -6
+    C359      R108      -1
+    C359      R144      -6
+    C359      R170      -8
+    C359      R181      -5
+    C359      R200      -2
+    C360      COST      4
+    C360      R18       3
+    C360      R43       -6
+    C360      R57       7
+    C360      R78       2
+    C360      R115      1
+    C360      R134      9
+    C360      R158      -10
+    C360      R159      2
+    C360      R176      5
+    C360      R188      -8
+    C360      R198      4
+    C360      R199      7
+    C361      COST      13
+    C361      R7        -3
+    C361      R10       8
+    C361      R11       2
+    C361      R43       5
+    C361      R76       -6
+    C361      R84       -5
+    C361      R86       -1
+    C361      R98       -10
+    C361      R111      6
+    C361      R157      -10
+    C361      R185      4
+    C362      COST      14
+    C362      R1        -4
+    C362      R6        -10
+    C362      R156      -10
+    C362      R167      -5
+    C362      R195      2
+    C363      COST      -27
+    C363      R11       3
+    C363      R47       -10
+    C363      R76       -7
+    C363      R77       -9
+    C363      R80       1
+    C363      R84       -8
+    C363      R86       -8
+    C363      R105      -9
+    C363      R109      -9
+    C363      R117      -9
+    C363      R151      -4
+    C363      R159      -9
+    C364      COST      -2
+    C364      R7        2
+    C364      R8        -8
+    C364      R27       -1
+    C364      R40       -10
+    C364      R48       -10
+    C364      R148      -6
+    C364      R176      -9
+    C365      COST      -8
+    C365      R45       -4
+    C365      R60       3
+    C365      R105      2
+    C365      R116      -9
+    C365      R155      10
+    C366      COST      -12
+    C366      R14       -2
+    C366      R38       10
+    C366      R49       2
+    C366      R99       5
+    C366      R149      -4
+    C366      R152      -9
+    C366      R170      5
+    C366      R175      2
+    C366      R186      1
+    C367      COST      10
+    C367      R30       3
+    C367      R41       -2
+    C367      R65       4
+    C367      R134      -8
+    C367      R142      -6
+    C367      R144      -6
+    C367      R151      3
+    C368      COST      -16
+    C368      R19       4
+    C368      R78       -5
+    C368      R79       -8
+    C368      R150      10
+    C368      R161      -5
+    C368      R194      2
+    C369      COST      22
+    C369      R22       -4
+    C369      R36       6
+    C369      R59       8
+    C369      R62       -1
+    C369      R73       5
+    C369      R89       6
+    C369      R94       8
+    C369      R109      -8
+    C369      R110      3
+    C369      R184      -10
+    C369      R197      -1
+    C370      COST      -7
+    C370      R4        -3
+    C370      R12       -2
+    C370      R23       -3
+    C370      R36       4
+    C370      R55       7
+    C370      R60       5
+    C370      R74       8
+    C370      R77       -10
+    C370      R99       6
+    C370      R130      -9
+    C370      R143      -2
+    C370      R144      2
+    C370      R158      -7
+    C370      R160      8
+    C370      R190      9
+    C370      R191      1
+    C371      COST      16
+    C371      R9        5
+    C371      R14       2
+    C371      R24       6
+    C371      R79       3
+    C371      R132      -1
+    C371      R153      -6
+    C371      R163      3
+    C371      R180      -7
+    C371      R190      2
+    C372      COST      23
+    C372      R2        -3
+    C372      R36       -5
+    C372      R46       -8
+    C372      R52       -4
+    C372      R55       5
+    C372      R57       -7
+    C372      R75       1
+    C372      R80       6
+    C372      R97       7
+    C372      R119      -9
+    C372      R132      7
+    C372      R147      1
+    C372      R165      4
+    C373      COST      -29
+    C373      R24       4
+    C373      R43       2
+    C373      R52       6
+    C373      R53       -10
+    C373      R62       -2
+    C373      R63       7
+    C373      R103      3
+    C373      R109      8
+    C373      R122      6
+    C373      R142      -7
+    C373      R146      -8
+    C373      R148      -7
+    C373      R179      -3
+    C373      R180      5
+    C373      R185      9
+    C373      R189      -10
+    C373      R197      1
+    C374      COST      3
+    C374      R1        -6
+    C374      R21       -10
+    C374      R29       -4
+    C374      R52       3
+    C374      R67       10
+    C374      R195      5
+    C375      COST      -23
+    C375      R12       -5
+    C375      R27       -7
+    C375      R48       -2
+    C375      R61       10
+    C375      R63       3
+    C375      R66       4
+    C375      R79       -2
+    C375      R88       -5
+    C375      R93       -9
+    C375      R97       8
+    C375      R119      3
+    C375      R123      -8
+    C375      R155      10
+    C375      R158      10
+    C375      R198      -1
+    C376      COST      10
+    C376      R36       -1
+    C376      R61       -4
+    C376      R137      9
+    C376      R139      -7
+    C376      R149      1
+    C376      R158      -2
+    C376      R184      7
+    C376      R187      -10
+    C376      R190      6
+    C376      R191      -6
+    C377      COST      -11
+    C377      R23       7
+    C377      R29       -6
+    C377      R34       -10
+    C377      R41       1
+    C377      R48       -6
+    C377      R51       -2
+    C377      R55       2
+    C377      R86       -1
+    C377      R92       -6
+    C377      R100      8
+    C377      R101      9
+    C377      R114      1
+    C378      COST      5
+    C378      R2        2
+    C378      R26       6
+    C378      R43       -8
+    C378      R44       6
+    C378      R60       -8
+    C378      R70       6
+    C378      R72       -7
+    C378      R76       4
+    C378      R87       3
+    C378      R111      3
+    C378      R121      7
+    C378      R122      -6
+    C378      R149      10
+    C378      R158      6
+    C378      R173      5
+    C379      COST      22
+    C379      R5        5
+    C379      R51       -6
+    C379      R74       -6
+    C379      R85       5
+    C379      R88       4
+    C379      R89       -9
+    C379      R90       3
+    C379      R91       -4
+    C379      R102      9
+    C379      R153      -2
+    C379      R156      -2
+    C380      COST      -13
+    C380      R19       9
+    C380      R28       -1
+    C380      R73       -4
+    C380      R87       -1
+    C380      R99       -9
+    C380      R108      10
+    C380      R110      8
+    C380      R145      -2
+    C380      R148      -5
+    C380      R152      4
+    C380      R161      -1
+    C380      R177      7
+    C380      R180      -6
+    C380      R181      8
+    C380      R183      2
+    C380      R187      2
+    C380      R198      -4
+    C381      COST      15
+    C381      R56       10
+    C381      R61       3
+    C381      R113      -1
+    C381      R158      10
+    C381      R189      -6
+    C381      R197      1
+    C382      COST      20
+    C382      R19       -6
+    C382      R32       4
+    C382      R37       2
+    C382      R83       4
+    C382      R88       7
+    C382      R101      7
+    C382      R105      2
+    C382      R110      2
+    C382      R130      -5
+    C382      R144      -10
+    C382      R160      6
+    C382      R167      -2
+    C382      R184      -9
+    C382      R189      -4
+    C382      R192      10
+    C382      R195      2
+    C383      COST      15
+    C383      R14       -6
+    C383      R60       -2
+    C383      R68       5
+    C383      R69       7
+    C383      R70       -7
+    C383      R72       2
+    C383      R78       6
+    C383      R108      6
+    C383      R117      7
+    C383      R148      7
+    C383      R152      -8
+    C383      R174      6
+    C383      R183      -4
+    C383      R193      -2
+    C384      COST      16
+    C384      R7        -9
+    C384      R27       9
+    C384      R32       -9
+    C384      R41       7
+    C384      R65       -6
+    C384      R110      4
+    C384      R135      9
+    C384      R145      9
+    C384      R157      8
+    C384      R160      -6
+    C384      R163      5
+    C384      R165      -5
+    C385      R2        8
+    C385      R21       7
+    C385      R47       5
+    C385      R71       8
+    C385      R84       3
+    C385      R94       -5
+    C385      R151      2
+    C385      R195      2
+    C386      COST      -19
+    C386      R51       -4
+    C386      R106      -4
+    C386      R119      -5
+    C386      R143      -9
+    C386      R171      -9
+    C386      R185      -2
+    C386      R194      -2
+    C387      COST      8
+    C387      R21       -3
+    C387      R39       -7
+    C387      R55       2
+    C387      R64       -3
+    C387      R71       -10
+    C387      R79       5
+    C387      R111      -6
+    C387      R121      9
+    C387      R132      -10
+    C387      R155      -4
+    C387      R157      9
+    C387      R170      8
+    C387      R182      5
+    C387      R183      7
+    C387      R189      6
+    C388      COST      22
+    C388      R43       -6
+    C388      R53       9
+    C388      R59       -5
+    C388      R76       10
+    C388      R77       2
+    C388      R81       -9
+    C388      R116      -1
+    C388      R132      7
+    C388      R141      10
+    C388      R158      2
+    C388      R165      6
+    C388      R191      4
+    C389      COST      1
+    C389      R7        3
+    C389      R10       6
+    C389      R31       -5
+    C389      R44       -6
+    C389      R65       -5
+    C389      R89       -3
+    C389      R91       4
+    C389      R96       -3
+    C389      R117      2
+    C389      R128      2
+    C389      R147      -4
+    C389      R155      10
+    C389      R158      4
+    C390      COST      -18
+    C390      R3        -3
+    C390      R8        -10
+    C390      R26       5
+    C390      R38       -3
+    C390      R45       -5
+    C390      R47       7
+    C390      R48       -8
+    C390      R53       -2
+    C390      R110      -3
+    C390      R126      -6
+    C390      R161      3
+    C390      R163      1
+    C390      R178      -9
+    C390      R182      3
+    C390      R183      -10
+    C390      R195      1
+    C390      R196      1
+    C391      COST      6
+    C391      R34       -2
+    C391      R37       1
+    C391      R80       -10
+    C391      R85       9
+    C391      R95       -2
+    C391      R126      -7
+    C391      R164      -3
+    C391      R171      -4
+    C391      R173      4
+    C391      R180      -2
+    C392      COST      -6
+    C392      R3        9
+    C392      R17       -8
+    C392      R39       -8
+    C392      R41       -9
+    C392      R57       -7
+    C392      R65       -4
+    C392      R71       3
+    C392      R93       -9
+    C392      R94       4
+    C392      R107      -9
+    C392      R123      6
+    C392      R125      1
+    C392      R127      -8
+    C392      R133      -6
+    C392      R134      -5
+    C392      R154      8
+    C392      R188      -4
+    C392      R193      -8
+    C393      COST      21
+    C393      R1        10
+    C393      R10       -6
+    C393      R38       -9
+    C393      R39       -6
+    C393      R71       -9
+    C393      R106      7
+    C393      R129      -7
+    C393      R147      10
+    C393      R155      -3
+    C393      R166      8
+    C393      R188      -5
+    C393      R192      -3
+    C394      COST      -22
+    C394      R67       -7
+    C394      R70       -2
+    C394      R71       3
+    C394      R72       2
+    C394      R91       10
+    C394      R113      -8
+    C394      R115      10
+    C394      R132      -2
+    C394      R155      6
+    C394      R185      10
+    C394      R189      -8
+    C395      COST      7
+    C395      R18       -3
+    C395      R44       6
+    C395      R45       -10
+    C395      R52       10
+    C395      R65       -8
+    C395      R72       2
+    C395      R81       -2
+    C395      R93       -1
+    C395      R110      8
+    C395      R112      -1
+    C395      R114      -2
+    C395      R137      -7
+    C395      R142      9
+    C395      R152      2
+    C395      R168      -6
+    C395      R183      7
+    C396      COST      -2
+    C396      R64       1
+    C396      R76       2
+    C396      R122      4
+    C396      R128      10
+    C396      R134      3
+    C396      R139      -7
+    C396      R149      -9
+    C396      R158      -4
+    C396      R189      -10
+    C397      COST      14
+    C397      R5        -5
+    C397      R43       2
+    C397      R47       1
+    C397      R50       1
+    C397      R59       -6
+    C397      R103      -6
+    C397      R153      2
+    C397      R162      -7
+    C397      R174      -3
+    C397      R192      3
+    C397      R196      10
+    C398      COST      4
+    C398      R6        6
+    C398      R29       10
+    C398      R46       1
+    C398      R49       7
+    C398      R79       -2
+    C398      R83       4
+    C398      R89       9
+    C398      R93       6
+    C398      R145      8
+    C398      R154      6
+    C398      R174      -9
+    C398      R178      1
+    C399      COST      -15
+    C399      R3        1
+    C399      R9        -4
+    C399      R32       5
+    C399      R35       4
+    C399      R43       1
+    C399      R53       7
+    C399      R76       4
+    C399      R116      -4
+    C399      R118      2
+    C399      R127      -2
+    C399      R129      -7
+    C399      R139      9
+    C399      R151      -7
+    C399      R173      -7
+    C399      R176      -2
+    C399      R190      1
+    C400      COST      6
+    C400      R5        1
+    C400      R10       8
+    C400      R46       -2
+    C400      R63       -9
+    C400      R69       -4
+    C400      R81       2
+    C400      R82       -3
+    C400      R94       2
+    C400      R115      -7
+    C400      R117      -4
+    C400      R122      -10
+    C400      R135      -10
+    C400      R164      9
+RHS
+    RHS       R1        108
+    RHS       R2        676
+    RHS       R3        300
+    RHS       R4        340
+    RHS       R5        19
+    RHS       R6        -1100
+    RHS       R7        1053
+    RHS       R8        51
+    RHS       R9        111
+    RHS       R10       53
+    RHS       R11       -113
+    RHS       R12       26
+    RHS       R13       -814
+    RHS       R14       -50
+    RHS       R15       30
+    RHS       R16       -131
+    RHS       R17       159
+    RHS       R18       414
+    RHS       R19       465
+    RHS       R20       394
+    RHS       R21       477
+    RHS       R22       620
+    RHS       R23       911
+    RHS       R24       49
+    RHS       R25       38
+    RHS       R26       639
+    RHS       R27       -974
+    RHS       R28       -394
+    RHS       R29       30
+    RHS       R30       322
+    RHS       R31       363
+    RHS       R32       -668
+    RHS       R33       -133
+    RHS       R34       -286
+    RHS       R35       -179
+    RHS       R36       572
+    RHS       R37       -264
+    RHS       R38       521
+    RHS       R39       -824
+    RHS       R40       -1447
+    RHS       R41       -649
+    RHS       R42       60
+    RHS       R43       -385
+    RHS       R44       -440
+    RHS       R45       440
+    RHS       R46       345
+    RHS       R47       87
+    RHS       R48       -41
+    RHS       R49       156
+    RHS       R50       -518
+    RHS       R51       44
+    RHS       R52       -13
+    RHS       R53       -16
+    RHS       R54       449
+    RHS       R55       -71
+    RHS       R56       -919
+    RHS       R57       449
+    RHS       R58       147
+    RHS       R59       204
+    RHS       R60       567
+    RHS       R61       240
+    RHS       R62       137
+    RHS       R63       -345
+    RHS       R64       265
+    RHS       R65       550
+    RHS       R66       371
+    RHS       R67       150
+    RHS       R68       540
+    RHS       R69       -79
+    RHS       R70       168
+    RHS       R71       -100
+    RHS       R72       -138
+    RHS       R73       9
+    RHS       R74       -641
+    RHS       R75       -260
+    RHS       R76       1191
+    RHS       R77       -1258
+    RHS       R78       -870
+    RHS       R79       8
+    RHS       R80       615
+    RHS       R81       -4
+    RHS       R82       -365
+    RHS       R83       437
+    RHS       R84       593
+    RHS       R85       -1018
+    RHS       R86       -137
+    RHS       R87       -83
+    RHS       R88       156
+    RHS       R89       628
+    RHS       R90       327
+    RHS       R91       -54
+    RHS       R92       -354
+    RHS       R93       133
+    RHS       R94       -900
+    RHS       R95       101
+    RHS       R96       -865
+    RHS       R97       -18
+    RHS       R98       255
+    RHS       R99       -338
+    RHS       R100      620
+    RHS       R101      578
+    RHS       R102      -653
+    RHS       R103      778
+    RHS       R104      448
+    RHS       R105      -263
+    RHS       R106      -239
+    RHS       R107      -238
+    RHS       R108      502
+    RHS       R109      -755
+    RHS       R110      -59
+    RHS       R111      483
+    RHS       R112      370
+    RHS       R113      244
+    RHS       R114      504
+    RHS       R115      312
+    RHS       R116      287
+    RHS       R117      41
+    RHS       R118      -138
+    RHS       R119      388
+    RHS       R120      311
+    RHS       R121      140
+    RHS       R122      -110
+    RHS       R123      -425
+    RHS       R124      635
+    RHS       R125      349
+    RHS       R126      -327
+    RHS       R127      -49
+    RHS       R128      513
+    RHS       R129      156
+    RHS       R130      -320
+    RHS       R131      -282
+    RHS       R132      248
+    RHS       R133      465
+    RHS       R134      -123
+    RHS       R135      1581
+    RHS       R136      156
+    RHS       R137      145
+    RHS       R138      55
+    RHS       R139      282
+    RHS       R140      330
+    RHS       R141      500
+    RHS       R142      254
+    RHS       R143      -91
+    RHS       R144      890
+    RHS       R145      56
+    RHS       R146      -20
+    RHS       R147      -32
+    RHS       R148      -13
+    RHS       R149      944
+    RHS       R150      188
+    RHS       R151      272
+    RHS       R152      -198
+    RHS       R153      299
+    RHS       R154      248
+    RHS       R155      -144
+    RHS       R156      380
+    RHS       R157      173
+    RHS       R158      1003
+    RHS       R159      222
+    RHS       R160      695
+    RHS       R161      -954
+    RHS       R162      -143
+    RHS       R163      105
+    RHS       R164      -316
+    RHS       R165      419
+    RHS       R166      -307
+    RHS       R167      -444
+    RHS       R168      -817
+    RHS       R169      -205
+    RHS       R170      103
+    RHS       R171      -1168
+    RHS       R172      211
+    RHS       R173      -698
+    RHS       R174      -428
+    RHS       R175      127
+    RHS       R176      -187
+    RHS       R177      251
+    RHS       R178      465
+    RHS       R179      895
+    RHS       R180      -613
+    RHS       R181      -171
+    RHS       R182      140
+    RHS       R183      130
+    RHS       R184      -367
+    RHS       R185      -87
+    RHS       R186      -97
+    RHS       R187      -331
+    RHS       R188      -51
+    RHS       R189      -396
+    RHS       R190      -1268
+    RHS       R191      925
+    RHS       R192      -246
+    RHS       R193      -443
+    RHS       R194      688
+    RHS       R195      972
+    RHS       R196      165
+    RHS       R197      -1191
+    RHS       R198      525
+    RHS       R199      254
+    RHS       R200      51
+BOUNDS
+ UP BND       C1        33
+ UP BND       C2        33
+ UP BND       C3        39
+ UP BND       C4        45
+ LO BND       C5        -2
+ UP BND       C5        28
+ UP BND       C6        20
+ LO BND       C7        -17
+ UP BND       C7        0
+ UP BND       C8        31
+ LO BND       C9        -4
+ UP BND       C9        1
+ LO BND       C10       -14
+ UP BND       C10       -4
+ LO BND       C11       -7
+ UP BND       C11       40
+ LO BND       C12       -8
+ UP BND       C12       27
+ UP BND       C13       11
+ UP BND       C14       31
+ UP BND       C15       29
+ UP BND       C16       16
+ UP BND       C17       39
+ UP BND       C18       41
+ UP BND       C19       30
+ UP BND       C20       18
+ UP BND       C21       15
+ UP BND       C22       26
+ LO BND       C23       -16
+ UP BND       C23       16
+ UP BND       C24       10
+ LO BND       C25       -10
+ UP BND       C25       19
+ UP BND       C26       33
+ UP BND       C27       40
+ UP BND       C28       34
+ UP BND       C29       42
+ LO BND       C30       -16
+ UP BND       C30       28
+ UP BND       C31       34
+ UP BND       C32       21
+ UP BND       C33       36
+ UP BND       C34       19
+ UP BND       C35       26
+ LO BND       C36       -4
+ UP BND       C36       37
+ UP BND       C37       15
+ UP BND       C38       33
+ UP BND       C39       43
+ UP BND       C40       38
+ UP BND       C41       8
+ UP BND       C42       38
+ LO BND       C43       -5
+ UP BND       C43       41
+ UP BND       C44       43
+ UP BND       C45       31
+ UP BND       C46       19
+ UP BND       C47       29
+ LO BND       C48       -17
+ UP BND       C48       -4
+ UP BND       C49       47
+ UP BND       C50       30
+ UP BND       C51       6
+ LO BND       C52       -9
+ UP BND       C52       11
+ UP BND       C53       7
+ LO BND       C54       -6
+ UP BND       C54       28
+ UP BND       C55       32
+ UP BND       C56       9
+ UP BND       C57       48
+ LO BND       C58       -5
+ UP BND       C58       35
+ UP BND       C59       29
+ UP BND       C60       44
+ LO BND       C61       -5
+ UP BND       C61       10
+ UP BND       C62       18
+ LO BND       C63       -6
+ UP BND       C63       0
+ UP BND       C64       9
+ UP BND       C65       32
+ UP BND       C66       26
+ UP BND       C67       48
+ UP BND       C68       45
+ UP BND       C69       33
+ LO BND       C70       -7
+ UP BND       C70       17
+ UP BND       C71       41
+ UP BND       C72       34
+ UP BND       C73       8
+ UP BND       C74       9
+ UP BND       C75       35
+ LO BND       C76       -5
+ UP BND       C76       44
+ UP BND       C77       15
+ UP BND       C78       20
+ LO BND       C79       -9
+ UP BND       C79       38
+ UP BND       C80       21
+ LO BND       C81       -3
+ UP BND       C81       16
+ UP BND       C82       40
+ UP BND       C83       45
+ LO BND       C84       -17
+ UP BND       C84       23
+ UP BND       C85       13
+ UP BND       C86       19
+ LO BND       C87       -4
+ UP BND       C87       2
+ UP BND       C88       20
+ UP BND       C89       47
+ UP BND       C90       12
+ LO BND       C91       -7
+ UP BND       C91       28
+ UP BND       C92       39
+ LO BND       C93       -10
+ UP BND       C93       15
+ UP BND       C94       28
+ UP BND       C95       39
+ UP BND       C96       45
+ UP BND       C97       18
+ UP BND       C98       38
+ UP BND       C99       42
+ LO BND       C100      -10
+ UP BND       C100      -1
+ UP BND       C101      47
+ UP BND       C102      8
+ UP BND       C103      24
+ UP BND       C104      13
+ UP BND       C105      12
+ LO BND       C106      -14
+ UP BND       C106      -2
+ UP BND       C107      44
+ UP BND       C108      15
+ UP BND       C109      20
+ UP BND       C110      47
+ UP BND       C111      41
+ UP BND       C112      12
+ UP BND       C113      39
+ LO BND       C114      -3
+ UP BND       C114      12
+ UP BND       C115      18
+ UP BND       C116      24
+ UP BND       C117      22
+ UP BND       C118      11
+ LO BND       C119      -13
+ UP BND       C119      19
+ UP BND       C120      37
+ LO BND       C121      -5
+ UP BND       C121      6
+ UP BND       C122      7
+ LO BND       C123      -18
+ UP BND       C123      -4
+ UP BND       C124      38
+ UP BND       C125      29
+ UP BND       C126      32
+ LO BND       C127      -2
+ UP BND       C127      34
+ UP BND       C128      11
+ LO BND       C129      -6
+ UP BND       C129      8
+ UP BND       C130      48
+ UP BND       C131      48
+ LO BND       C132      -15
+ UP BND       C132      8
+ UP BND       C133      13
+ UP BND       C134      15
+ LO BND       C135      -1
+ UP BND       C135      46
+ UP BND       C136      29
+ LO BND       C137      -6
+ UP BND       C137      0
+ UP BND       C138      20
+ UP BND       C139      34
+ UP BND       C140      22
+ LO BND       C141      -18
+ UP BND       C141      6
+ LO BND       C142      -5
+ UP BND       C142      13
+ UP BND       C143      44
+ LO BND       C144      -7
+ UP BND       C144      29
+ UP BND       C145      22
+ LO BND       C146      -3
+ UP BND       C146      32
+ UP BND       C147      21
+ LO BND       C148      -3
+ UP BND       C148      41
+ LO BND       C149      -17
+ UP BND       C149      17
+ UP BND       C150      20
+ UP BND       C151      43
+ UP BND       C152      12
+ UP BND       C153      33
+ UP BND       C154      40
+ LO BND       C155      -5
+ UP BND       C155      37
+ LO BND       C156      -10
+ UP BND       C156      26
+ UP BND       C157      49
+ UP BND       C158      29
+ UP BND       C159      5
+ UP BND       C160      10
+ UP BND       C161      34
+ UP BND       C162      21
+ LO BND       C163      -3
+ UP BND       C163      15
+ UP BND       C164      40
+ UP BND       C165      7
+ LO BND       C166      -3
+ UP BND       C166      42
+ UP BND       C167      47
+ UP BND       C168      20
+ UP BND       C169      17
+ UP BND       C170      48
+ UP BND       C171      25
+ UP BND       C172      12
+ LO BND       C173      -10
+ UP BND       C173      21
+ LO BND       C174      -5
+ UP BND       C174      13
+ UP BND       C175      17
+ LO BND       C176      -2
+ UP BND       C176      5
+ UP BND       C177      5
+ UP BND       C178      34
+ UP BND       C179      32
+ UP BND       C180      40
+ UP BND       C181      23
+ UP BND       C182      15
+ UP BND       C183      26
+ UP BND       C184      12
+ UP BND       C185      30
+ UP BND       C186      26
+ UP BND       C187      12
+ UP BND       C188      10
+ UP BND       C189      34
+ UP BND       C190      42
+ LO BND       C191      -11
+ UP BND       C191      -5
+ UP BND       C192      41
+ LO BND       C193      -2
+ UP BND       C193      33
+ UP BND       C194      45
+ UP BND       C195      31
+ UP BND       C196      16
+ UP BND       C197      20
+ UP BND       C198      14
+ UP BND       C199      20
+ UP BND       C200      16
+ LO BND       C201      -5
+ UP BND       C201      12
+ LO BND       C202      -6
+ UP BND       C202      8
+ UP BND       C203      17
+ UP BND       C204      41
+ UP BND       C205      48
+ UP BND       C206      8
+ LO BND       C207      -3
+ UP BND       C207      26
+ UP BND       C208      46
+ UP BND       C209      14
+ UP BND       C210      38
+ UP BND       C211      14
+ UP BND       C212      9
+ UP BND       C213      5
+ UP BND       C214      45
+ UP BND       C215      41
+ UP BND       C216      31
+ UP BND       C217      8
+ UP BND       C218      24
+ UP BND       C219      16
+ UP BND       C220      32
+ LO BND       C221      -11
+ UP BND       C221      6
+ UP BND       C222      43
+ LO BND       C223      -6
+ UP BND       C223      36
+ UP BND       C224      15
+ UP BND       C225      13
+ UP BND       C226      5
+ UP BND       C227      19
+ UP BND       C228      27
+ UP BND       C229      19
+ UP BND       C230      38
+ LO BND       C231      -14
+ UP BND       C231      8
+ LO BND       C232      -10
+ UP BND       C232      1
+ UP BND       C233      31
+ UP BND       C234      39
+ UP BND       C235      8
+ UP BND       C236      22
+ UP BND       C237      19
+ LO BND       C238      -9
+ UP BND       C238      35
+ UP BND       C239      27
+ LO BND       C240      -12
+ UP BND       C240      1
+ UP BND       C241      28
+ UP BND       C242      39
+ LO BND       C243      -13
+ UP BND       C243      35
+ LO BND       C244      -1
+ UP BND       C244      32
+ UP BND       C245      16
+ UP BND       C246      25
+ LO BND       C247      -9
+ UP BND       C247      31
+ UP BND       C248      22
+ UP BND       C249      34
+ UP BND       C250      30
+ LO BND       C251      -8
+ UP BND       C251      6
+ UP BND       C252      47
+ UP BND       C253      7
+ LO BND       C254      -1
+ UP BND       C254      20
+ LO BND       C255      -1
+ UP BND       C255      6
+ LO BND       C256      -4
+ UP BND       C256      24
+ UP BND       C257      39
+ UP BND       C258      48
+ LO BND       C259      -12
+ UP BND       C259      31
+ UP BND       C260      40
+ UP BND       C261      26
+ LO BND       C262      -5
+ UP BND       C262      21
+ UP BND       C263      31
+ UP BND       C264      16
+ UP BND       C265      23
+ UP BND       C266      30
+ UP BND       C267      36
+ UP BND       C268      37
+ UP BND       C269      6
+ UP BND       C270      15
+ UP BND       C271      36
+ LO BND       C272      -8
+ UP BND       C272      17
+ UP BND       C273      35
+ UP BND       C274      45
+ UP BND       C275      17
+ LO BND       C276      -15
+ UP BND       C276      -9
+ LO BND       C277      -7
+ UP BND       C277      11
+ UP BND       C278      44
+ UP BND       C279      16
+ UP BND       C280      11
+ LO BND       C281      -13
+ UP BND       C281      26
+ UP BND       C282      48
+ UP BND       C283      13
+ UP BND       C284      37
+ LO BND       C285      -2
+ UP BND       C285      27
+ UP BND       C286      34
+ UP BND       C287      49
+ UP BND       C288      47
+ UP BND       C289      17
+ UP BND       C290      33
+ UP BND       C291      12
+ UP BND       C292      40
+ UP BND       C293      8
+ LO BND       C294      -9
+ UP BND       C294      16
+ UP BND       C295      43
+ UP BND       C296      19
+ UP BND       C297      48
+ UP BND       C298      16
+ UP BND       C299      49
+ UP BND       C300      17
+ LO BND       C301      -1
+ UP BND       C301      46
+ UP BND       C302      36
+ LO BND       C303      -1
+ UP BND       C303      41
+ UP BND       C304      46
+ LO BND       C305      -3
+ UP BND       C305      37
+ UP BND       C306      11
+ UP BND       C307      45
+ UP BND       C308      32
+ UP BND       C309      10
+ UP BND       C310      46
+ UP BND       C311      35
+ LO BND       C312      -12
+ UP BND       C312      13
+ UP BND       C313      34
+ UP BND       C314      23
+ UP BND       C315      14
+ LO BND       C316      -11
+ UP BND       C316      23
+ UP BND       C317      24
+ LO BND       C318      -8
+ UP BND       C318      27
+ UP BND       C319      34
+ UP BND       C320      23
+ UP BND       C321      30
+ LO BND       C322      -2
+ UP BND       C322      13
+ UP BND       C323      39
+ UP BND       C324      46
+ UP BND       C325      34
+ LO BND       C326      -19
+ UP BND       C326      0
+ UP BND       C327      27
+ LO BND       C328      -7
+ UP BND       C328      37
+ UP BND       C329      39
+ LO BND       C330      -1
+ UP BND       C330      38
+ UP BND       C331      37
+ LO BND       C332      -7
+ UP BND       C332      7
+ LO BND       C333      -4
+ UP BND       C333      17
+ LO BND       C334      -5
+ UP BND       C334      32
+ LO BND       C335      -4
+ UP BND       C335      43
+ LO BND       C336      -9
+ UP BND       C336      24
+ UP BND       C337      16
+ UP BND       C338      32
+ UP BND       C339      41
+ UP BND       C340      44
+ LO BND       C341      -11
+ UP BND       C341      34
+ UP BND       C342      5
+ UP BND       C343      33
+ UP BND       C344      45
+ LO BND       C345      -17
+ UP BND       C345      29
+ UP BND       C346      14
+ LO BND       C347      -3
+ UP BND       C347      43
+ UP BND       C348      25
+ UP BND       C349      47
+ LO BND       C350      -15
+ UP BND       C350      -6
+ UP BND       C351      33
+ UP BND       C352      23
+ LO BND       C353      -4
+ UP BND       C353      20
+ LO BND       C354      -2
+ UP BND       C354      41
+ UP BND       C355      32
+ LO BND       C356      -14
+ UP BND       C356      15
+ LO BND       C357      -2
+ UP BND       C357      24
+ UP BND       C358      30
+ UP BND       C359      24
+ UP BND       C360      22
+ UP BND       C361      13
+ LO BND       C362      -8
+ UP BND       C362      20
+ UP BND       C363      41
+ UP BND       C364      18
+ UP BND       C365      32
+ LO BND       C366      -17
+ UP BND       C366      13
+ LO BND       C367      -19
+ UP BND       C367      30
+ UP BND       C368      15
+ UP BND       C369      41
+ UP BND       C370      9
+ UP BND       C371      16
+ UP BND       C372      24
+ UP BND       C373      14
+ UP BND       C374      23
+ UP BND       C375      29
+ LO BND       C376      -10
+ UP BND       C376      22
+ UP BND       C377      15
+ UP BND       C378      6
+ LO BND       C379      -13
+ UP BND       C379      8
+ UP BND       C380      22
+ LO BND       C381      -17
+ UP BND       C381      2
+ UP BND       C382      23
+ UP BND       C383      42
+ UP BND       C384      12
+ UP BND       C385      39
+ UP BND       C386      42
+ UP BND       C387      46
+ LO BND       C388      -3
+ UP BND       C388      45
+ UP BND       C389      37
+ UP BND       C390      9
+ LO BND       C391      -17
+ UP BND       C391      24
+ UP BND       C392      28
+ UP BND       C393      45
+ LO BND       C394      -18
+ UP BND       C394      5
+ UP BND       C395      16
+ UP BND       C396      5
+ UP BND       C397      14
+ UP BND       C398      34
+ UP BND       C399      7
+ UP BND       C400      34
+ENDATA
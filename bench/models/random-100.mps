@@ -0,0 +1,1585 @@
+NAME          random-100
+OBJSENSE
+    MAX
+ROWS
+ N  COST
+ L  R1
+ L  R2
+ L  R3
+ L  R4
+ L  R5
+ L  R6
+ L  R7
+ L  R8
+ L  R9
+ L  R10
+ L  R11
+ L  R12
+ L  R13
+ L  R14
+ L  R15
+ L  R16
+ L  R17
+ L  R18
+ L  R19
+ L  R20
+ L  R21
+ L  R22
+ L  R23
+ L  R24
+ L  R25
+ L  R26
+ L  R27
+ L  R28
+ L  R29
+ L  R30
+ L  R31
+ L  R32
+ L  R33
+ L  R34
+ L  R35
+ L  R36
+ L  R37
+ L  R38
+ L  R39
+ L  R40
+ L  R41
+ L  R42
+ L  R43
+ L  R44
+ L  R45
+ L  R46
+ L  R47
+ L  R48
+ L  R49
+ L  R50
+ L  R51
+ L  R52
+ L  R53
+ L  R54
+ L  R55
+ L  R56
+ L  R57
+ L  R58
+ L  R59
+ L  R60
+ L  R61
+ L  R62
+ L  R63
+ L  R64
+ L  R65
+ L  R66
+ L  R67
+ L  R68
+ L  R69
+ L  R70
+ L  R71
+ L  R72
+ L  R73
+ L  R74
+ L  R75
+ L  R76
+ L  R77
+ L  R78
+ L  R79
+ L  R80
+ L  R81
+ L  R82
+ L  R83
+ L  R84
+ L  R85
+ L  R86
+ L  R87
+ L  R88
+ L  R89
+ L  R90
+ L  R91
+ L  R92
+ L  R93
+ L  R94
+ L  R95
+ L  R96
+ L  R97
+ L  R98
+ L  R99
+ L  R100
+COLUMNS
+    C1        COST      8
+    C1        R1        9
+    C1        R9        5
+    C1        R52       8
+    C1        R57       17
+    C1        R79       2
+    C1        R86       9
+    C1        R93       1
+    C2        COST      5
+    C2        R6        15
+    C2        R14       15
+    C2        R61       7
+    C2        R63       1
+    C2        R68       16
+    C2        R91       6
+    C2        R100      18
+    C3        COST      29
+    C3        R6        14
+    C3        R21       7
+    C3        R35       7
+    C3        R49       15
+    C3        R92       17
+    C4        COST      14
+    C4        R2        3
+    C4        R15       17
+    C4        R23       20
+    C4        R32       18
+    C4        R37       17
+    C4        R49       10
+    C4        R50       16
+    C4        R51       13
+    C4        R66       20
+    C4        R68       12
+    C4        R77       6
+    C4        R80       5
+    C5        COST      13
+    C5        R4        3
+    C5        R8        8
+    C5        R18       4
+    C5        R52       5
+    C5        R57       13
+    C5        R73       4
+    C6        COST      13
+    C6        R35       13
+    C6        R45       1
+    C6        R49       14
+    C6        R59       11
+    C6        R82       11
+    C7        COST      27
+    C7        R20       13
+    C7        R64       6
+    C7        R94       9
+    C7        R97       10
+    C8        COST      30
+    C8        R33       11
+    C8        R56       15
+    C8        R64       2
+    C8        R92       12
+    C9        COST      29
+    C9        R58       17
+    C9        R69       2
+    C9        R75       20
+    C10       COST      3
+    C10       R27       6
+    C10       R54       18
+    C10       R100      11
+    C11       COST      1
+    C11       R6        15
+    C11       R9        20
+    C11       R14       18
+    C11       R35       6
+    C11       R43       3
+    C11       R76       5
+    C11       R85       9
+    C12       COST      16
+    C12       R7        4
+    C12       R12       1
+    C12       R27       11
+    C12       R52       20
+    C12       R69       18
+    C12       R84       13
+    C12       R89       20
+    C13       COST      16
+    C13       R16       12
+    C13       R43       11
+    C13       R78       2
+    C13       R80       1
+    C13       R81       7
+    C13       R82       7
+    C13       R90       1
+    C13       R96       9
+    C13       R99       7
+    C14       COST      21
+    C14       R23       3
+    C14       R35       16
+    C14       R52       10
+    C14       R75       20
+    C14       R85       16
+    C15       COST      28
+    C15       R19       20
+    C15       R48       15
+    C15       R50       16
+    C15       R78       18
+    C16       COST      19
+    C16       R7        1
+    C16       R16       5
+    C16       R27       15
+    C16       R77       6
+    C16       R90       12
+    C16       R93       1
+    C17       COST      23
+    C17       R1        18
+    C17       R2        7
+    C17       R16       16
+    C17       R20       4
+    C17       R36       1
+    C17       R56       1
+    C17       R58       15
+    C17       R97       18
+    C18       COST      16
+    C18       R28       9
+    C18       R31       2
+    C18       R34       17
+    C18       R74       16
+    C18       R84       12
+    C18       R88       14
+    C19       COST      9
+    C19       R30       5
+    C19       R37       6
+    C19       R53       6
+    C19       R57       14
+    C19       R96       12
+    C20       COST      15
+    C20       R28       14
+    C20       R29       9
+    C20       R30       5
+    C20       R57       3
+    C20       R62       8
+    C20       R73       16
+    C20       R87       18
+    C21       COST      17
+    C21       R1        12
+    C21       R51       13
+    C21       R53       17
+    C21       R58       10
+    C21       R68       18
+    C22       COST      7
+    C22       R2        9
+    C22       R4        16
+    C22       R35       3
+    C22       R57       3
+    C22       R59       8
+    C22       R84       19
+    C22       R93       1
+    C22       R96       10
+    C23       COST      6
+    C23       R9        15
+    C23       R27       18
+    C23       R53       8
+    C23       R72       11
+    C23       R98       6
+    C24       COST      17
+    C24       R6        8
+    C24       R29       20
+    C24       R34       1
+    C24       R89       9
+    C25       COST      13
+    C25       R16       19
+    C25       R23       8
+    C26       COST      2
+    C26       R4        16
+    C26       R65       3
+    C26       R70       2
+    C26       R88       13
+    C26       R90       17
+    C27       COST      9
+    C27       R2        18
+    C27       R15       10
+    C27       R26       20
+    C27       R58       9
+    C27       R90       20
+    C28       COST      19
+    C28       R2        4
+    C28       R63       2
+    C28       R86       15
+    C29       COST      30
+    C29       R44       5
+    C29       R47       15
+    C29       R55       19
+    C29       R76       17
+    C29       R86       10
+    C29       R89       7
+    C30       COST      1
+    C30       R2        11
+    C30       R20       6
+    C30       R31       6
+    C30       R38       16
+    C30       R44       9
+    C30       R65       20
+    C30       R96       20
+    C31       COST      15
+    C31       R4        13
+    C31       R18       7
+    C31       R21       15
+    C31       R42       1
+    C31       R44       12
+    C31       R52       5
+    C31       R64       7
+    C31       R89       2
+    C32       COST      6
+    C32       R15       15
+    C32       R21       14
+    C32       R51       4
+    C32       R62       14
+    C33       COST      27
+    C33       R2        2
+    C33       R21       14
+    C33       R34       17
+    C33       R36       16
+    C33       R49       14
+    C33       R73       11
+    C33       R94       20
+    C33       R100      8
+    C34       COST      23
+    C34       R34       19
+    C34       R51       15
+    C34       R75       10
+    C34       R80       19
+    C34       R90       7
+    C34       R94       5
+    C34       R96       3
+    C35       COST      25
+    C35       R15       2
+    C35       R23       15
+    C35       R35       4
+    C35       R46       6
+    C35       R95       16
+    C36       COST      4
+    C36       R13       17
+    C36       R25       9
+    C36       R45       4
+    C36       R62       4
+    C36       R72       20
+    C37       COST      8
+    C37       R4        8
+    C37       R19       1
+    C37       R21       14
+    C37       R32       13
+    C37       R33       9
+    C37       R72       1
+    C38       COST      24
+    C38       R1        4
+    C38       R8        20
+    C38       R45       9
+    C38       R53       16
+    C38       R67       2
+    C38       R69       18
+    C38       R81       12
+    C39       COST      18
+    C39       R1        6
+    C39       R18       11
+    C39       R19       4
+    C39       R50       14
+    C39       R58       7
+    C39       R59       6
+    C39       R89       17
+    C40       COST      20
+    C40       R5        6
+    C40       R34       14
+    C40       R46       11
+    C40       R53       15
+    C40       R65       17
+    C40       R82       4
+    C40       R89       4
+    C41       COST      21
+    C41       R9        4
+    C41       R19       17
+    C41       R24       20
+    C41       R54       1
+    C41       R97       17
+    C42       COST      17
+    C42       R15       12
+    C42       R44       11
+    C42       R67       8
+    C42       R77       17
+    C42       R90       9
+    C42       R92       5
+    C43       COST      15
+    C43       R11       4
+    C43       R22       20
+    C43       R24       12
+    C43       R48       14
+    C43       R50       17
+    C43       R73       9
+    C43       R82       13
+    C43       R89       1
+    C43       R95       4
+    C43       R98       4
+    C44       COST      22
+    C44       R20       9
+    C44       R54       1
+    C44       R65       8
+    C44       R67       16
+    C44       R91       20
+    C45       COST      16
+    C45       R4        1
+    C45       R37       9
+    C45       R42       4
+    C45       R51       6
+    C45       R53       9
+    C46       COST      22
+    C46       R30       3
+    C46       R38       16
+    C46       R49       18
+    C46       R57       5
+    C46       R60       15
+    C46       R68       3
+    C46       R89       14
+    C46       R100      14
+    C47       COST      29
+    C47       R3        11
+    C47       R10       19
+    C47       R17       17
+    C47       R40       9
+    C48       COST      23
+    C48       R8        4
+    C48       R14       14
+    C48       R29       12
+    C48       R45       9
+    C48       R80       2
+    C49       COST      20
+    C49       R1        6
+    C49       R2        16
+    C49       R40       3
+    C49       R60       3
+    C49       R64       11
+    C49       R90       3
+    C50       COST      14
+    C50       R14       7
+    C50       R25       16
+    C50       R26       20
+    C50       R35       4
+    C50       R46       7
+    C50       R75       15
+    C50       R86       6
+    C50       R96       13
+    C51       COST      24
+    C51       R9        6
+    C51       R25       13
+    C51       R38       2
+    C51       R55       20
+    C51       R83       8
+    C51       R95       3
+    C52       COST      16
+    C52       R43       1
+    C52       R45       9
+    C52       R80       10
+    C52       R94       5
+    C52       R98       2
+    C53       COST      18
+    C53       R7        18
+    C53       R19       5
+    C53       R34       7
+    C53       R36       6
+    C53       R58       5
+    C53       R99       9
+    C54       COST      17
+    C54       R9        5
+    C54       R26       11
+    C54       R58       10
+    C54       R99       16
+    C55       COST      24
+    C55       R58       10
+    C55       R62       3
+    C55       R72       9
+    C55       R80       10
+    C55       R100      8
+    C56       COST      7
+    C56       R3        17
+    C56       R23       8
+    C56       R37       1
+    C56       R46       13
+    C56       R47       12
+    C56       R49       10
+    C56       R54       6
+    C56       R83       20
+    C56       R95       12
+    C57       COST      8
+    C57       R35       3
+    C57       R81       9
+    C57       R89       16
+    C58       COST      26
+    C58       R9        3
+    C58       R35       10
+    C58       R42       12
+    C58       R63       16
+    C59       COST      11
+    C59       R2        12
+    C59       R17       10
+    C59       R30       5
+    C59       R77       5
+    C59       R85       18
+    C59       R96       18
+    C59       R97       11
+    C60       COST      19
+    C60       R30       16
+    C60       R33       12
+    C60       R74       6
+    C61       COST      6
+    C61       R41       1
+    C61       R63       7
+    C61       R67       7
+    C62       COST      18
+    C62       R7        19
+    C62       R15       5
+    C62       R26       5
+    C62       R29       16
+    C62       R35       3
+    C62       R50       13
+    C62       R59       14
+    C62       R69       20
+    C62       R87       17
+    C63       COST      13
+    C63       R2        10
+    C63       R4        16
+    C63       R17       5
+    C63       R29       10
+    C63       R42       16
+    C63       R72       11
+    C63       R75       10
+    C63       R93       1
+    C63       R94       16
+    C64       COST      21
+    C64       R37       7
+    C64       R99       2
+    C64       R100      12
+    C65       COST      6
+    C65       R12       8
+    C65       R35       14
+    C65       R39       14
+    C65       R80       10
+    C65       R94       9
+    C66       COST      6
+    C66       R4        11
+    C66       R13       1
+    C66       R14       4
+    C66       R28       14
+    C66       R33       2
+    C66       R36       14
+    C66       R53       3
+    C66       R74       15
+    C67       COST      7
+    C67       R10       7
+    C67       R59       13
+    C67       R73       7
+    C67       R84       12
+    C67       R86       18
+    C68       COST      19
+    C68       R8        4
+    C68       R17       12
+    C68       R24       6
+    C68       R31       9
+    C68       R37       3
+    C68       R53       10
+    C68       R71       18
+    C68       R73       4
+    C68       R90       14
+    C69       COST      23
+    C69       R3        8
+    C69       R5        15
+    C69       R20       11
+    C69       R41       12
+    C69       R81       19
+    C69       R84       12
+    C70       COST      6
+    C70       R18       30
+    C70       R19       17
+    C70       R38       4
+    C70       R42       8
+    C70       R74       4
+    C71       COST      7
+    C71       R14       19
+    C71       R31       16
+    C71       R52       8
+    C71       R78       12
+    C71       R82       15
+    C71       R90       4
+    C71       R95       12
+    C71       R96       16
+    C72       COST      9
+    C72       R33       20
+    C72       R43       7
+    C72       R80       9
+    C72       R94       2
+    C73       COST      5
+    C73       R14       4
+    C73       R27       12
+    C73       R40       8
+    C73       R53       7
+    C73       R61       16
+    C73       R65       10
+    C73       R84       15
+    C73       R88       2
+    C74       COST      10
+    C74       R1        15
+    C74       R12       8
+    C74       R16       1
+    C74       R28       1
+    C74       R59       3
+    C74       R69       5
+    C74       R78       9
+    C74       R81       18
+    C74       R93       6
+    C75       COST      11
+    C75       R18       20
+    C75       R49       18
+    C75       R67       4
+    C75       R70       13
+    C75       R93       3
+    C76       COST      17
+    C76       R2        8
+    C76       R3        13
+    C76       R7        19
+    C76       R8        14
+    C76       R12       9
+    C76       R15       19
+    C76       R38       13
+    C76       R45       19
+    C76       R58       4
+    C76       R59       24
+    C76       R68       12
+    C77       COST      17
+    C77       R32       9
+    C77       R33       11
+    C78       COST      21
+    C78       R17       5
+    C78       R36       18
+    C78       R56       2
+    C78       R62       14
+    C78       R72       4
+    C78       R74       12
+    C78       R76       11
+    C78       R78       7
+    C79       COST      30
+    C79       R7        7
+    C79       R32       7
+    C79       R37       12
+    C79       R47       20
+    C79       R74       14
+    C79       R75       2
+    C79       R79       16
+    C80       COST      7
+    C80       R4        8
+    C80       R5        12
+    C80       R9        5
+    C80       R13       10
+    C80       R25       12
+    C80       R29       6
+    C80       R56       20
+    C80       R65       2
+    C80       R91       11
+    C81       COST      29
+    C81       R10       9
+    C81       R22       14
+    C81       R42       20
+    C81       R62       1
+    C81       R63       16
+    C81       R66       10
+    C82       COST      9
+    C82       R27       3
+    C82       R32       3
+    C82       R56       7
+    C82       R70       18
+    C83       COST      7
+    C83       R20       18
+    C83       R48       5
+    C83       R59       3
+    C83       R60       18
+    C84       COST      2
+    C84       R17       2
+    C84       R48       20
+    C84       R81       19
+    C84       R94       3
+    C84       R99       9
+    C84       R100      16
+    C85       COST      9
+    C85       R6        1
+    C85       R10       19
+    C85       R53       5
+    C85       R54       18
+    C85       R56       2
+    C85       R87       16
+    C85       R98       5
+    C86       COST      23
+    C86       R21       7
+    C86       R26       20
+    C86       R58       5
+    C86       R60       13
+    C86       R85       2
+    C86       R89       4
+    C86       R90       19
+    C87       COST      16
+    C87       R65       1
+    C87       R100      6
+    C88       COST      11
+    C88       R9        6
+    C88       R14       1
+    C88       R35       7
+    C88       R42       12
+    C88       R63       13
+    C88       R74       14
+    C88       R89       15
+    C89       COST      9
+    C89       R7        8
+    C89       R17       16
+    C89       R52       16
+    C89       R65       5
+    C90       COST      10
+    C90       R18       7
+    C90       R22       4
+    C90       R25       10
+    C90       R71       1
+    C90       R82       5
+    C91       COST      21
+    C91       R4        3
+    C91       R28       16
+    C91       R39       9
+    C91       R69       12
+    C91       R73       8
+    C91       R80       13
+    C92       COST      1
+    C92       R9        12
+    C92       R20       4
+    C92       R28       6
+    C92       R41       3
+    C92       R52       14
+    C92       R73       12
+    C92       R75       1
+    C92       R81       8
+    C92       R86       2
+    C92       R90       20
+    C92       R96       15
+    C93       COST      3
+    C93       R6        4
+    C93       R8        15
+    C93       R16       18
+    C93       R24       2
+    C93       R67       5
+    C93       R80       1
+    C93       R83       10
+    C94       COST      14
+    C94       R30       7
+    C94       R47       15
+    C94       R61       11
+    C94       R63       19
+    C94       R79       15
+    C94       R89       14
+    C95       COST      19
+    C95       R22       12
+    C95       R35       20
+    C95       R69       2
+    C95       R72       6
+    C95       R89       12
+    C96       COST      30
+    C96       R4        6
+    C96       R12       19
+    C96       R89       11
+    C96       R90       6
+    C96       R94       14
+    C97       COST      12
+    C97       R11       3
+    C97       R37       19
+    C97       R41       9
+    C97       R42       16
+    C97       R43       11
+    C97       R73       12
+    C98       COST      29
+    C98       R9        5
+    C98       R14       7
+    C98       R17       19
+    C98       R23       7
+    C99       COST      17
+    C99       R6        19
+    C99       R8        6
+    C99       R10       3
+    C99       R14       17
+    C99       R19       12
+    C99       R37       12
+    C99       R42       10
+    C99       R51       18
+    C99       R52       10
+    C99       R59       16
+    C99       R86       14
+    C99       R95       13
+    C100      COST      12
+    C100      R51       10
+    C100      R82       11
+    C100      R85       9
+    C100      R90       4
+    C101      COST      6
+    C101      R9        10
+    C101      R43       16
+    C101      R46       19
+    C101      R86       18
+    C101      R87       11
+    C101      R95       11
+    C102      COST      6
+    C102      R5        8
+    C102      R16       13
+    C102      R54       3
+    C102      R100      1
+    C103      COST      15
+    C103      R19       4
+    C103      R22       11
+    C103      R25       11
+    C103      R32       8
+    C103      R88       3
+    C103      R93       19
+    C103      R95       12
+    C104      COST      25
+    C104      R6        17
+    C104      R14       16
+    C104      R33       14
+    C104      R49       15
+    C104      R72       4
+    C104      R89       1
+    C104      R95       16
+    C104      R98       20
+    C105      COST      4
+    C105      R1        19
+    C105      R9        13
+    C105      R21       4
+    C105      R30       14
+    C106      COST      7
+    C106      R9        7
+    C106      R16       13
+    C106      R21       9
+    C106      R49       4
+    C106      R58       12
+    C106      R60       18
+    C106      R61       1
+    C106      R96       17
+    C107      COST      27
+    C107      R14       14
+    C107      R15       7
+    C107      R24       7
+    C107      R29       7
+    C107      R30       9
+    C107      R36       9
+    C107      R52       8
+    C107      R62       16
+    C107      R98       19
+    C108      COST      12
+    C108      R8        17
+    C108      R11       9
+    C108      R14       20
+    C108      R79       19
+    C108      R92       8
+    C108      R96       6
+    C109      COST      30
+    C109      R63       2
+    C109      R64       4
+    C110      COST      20
+    C110      R3        12
+    C110      R7        7
+    C110      R13       3
+    C110      R22       7
+    C110      R52       20
+    C110      R81       18
+    C110      R90       20
+    C111      COST      14
+    C111      R2        20
+    C111      R3        8
+    C111      R57       8
+    C111      R100      10
+    C112      COST      30
+    C112      R11       17
+    C112      R20       10
+    C112      R37       8
+    C112      R55       16
+    C112      R62       11
+    C112      R76       13
+    C112      R94       19
+    C113      COST      1
+    C113      R3        8
+    C113      R27       4
+    C113      R29       7
+    C113      R43       9
+    C113      R51       5
+    C113      R67       13
+    C113      R76       5
+    C113      R86       8
+    C113      R94       5
+    C113      R97       20
+    C114      COST      18
+    C114      R49       18
+    C114      R51       6
+    C114      R57       6
+    C114      R95       6
+    C115      COST      21
+    C115      R24       19
+    C115      R59       17
+    C115      R61       19
+    C115      R87       5
+    C115      R96       16
+    C116      COST      15
+    C116      R10       5
+    C116      R26       17
+    C116      R29       18
+    C116      R50       7
+    C117      COST      4
+    C117      R53       6
+    C117      R61       18
+    C117      R69       3
+    C118      COST      11
+    C118      R8        20
+    C118      R45       16
+    C118      R63       1
+    C118      R68       4
+    C118      R79       2
+    C118      R100      10
+    C119      COST      26
+    C119      R5        17
+    C119      R25       13
+    C119      R35       12
+    C119      R60       19
+    C119      R62       16
+    C119      R83       11
+    C119      R88       7
+    C119      R99       16
+    C119      R100      20
+    C120      COST      15
+    C120      R8        13
+    C120      R25       3
+    C120      R26       7
+    C120      R46       12
+    C120      R91       16
+    C120      R94       4
+    C120      R98       10
+    C121      COST      8
+    C121      R20       18
+    C121      R25       9
+    C121      R30       8
+    C121      R33       7
+    C121      R66       14
+    C121      R67       7
+    C122      COST      3
+    C122      R12       3
+    C122      R31       17
+    C122      R92       9
+    C123      COST      6
+    C123      R9        17
+    C123      R22       9
+    C123      R30       5
+    C123      R35       5
+    C123      R53       9
+    C123      R69       6
+    C123      R78       10
+    C123      R80       18
+    C123      R87       5
+    C124      COST      1
+    C124      R37       13
+    C124      R69       2
+    C124      R70       10
+    C124      R78       4
+    C124      R80       18
+    C125      COST      13
+    C125      R2        3
+    C125      R9        16
+    C125      R57       16
+    C125      R90       7
+    C126      COST      28
+    C126      R22       2
+    C126      R28       1
+    C126      R55       12
+    C126      R62       1
+    C126      R73       16
+    C126      R82       4
+    C126      R97       9
+    C127      COST      22
+    C127      R6        16
+    C127      R12       13
+    C127      R35       20
+    C127      R53       14
+    C127      R59       5
+    C127      R88       2
+    C127      R96       14
+    C128      COST      25
+    C128      R2        9
+    C128      R4        14
+    C128      R29       8
+    C128      R57       14
+    C128      R59       10
+    C128      R67       3
+    C129      COST      30
+    C129      R20       18
+    C129      R23       20
+    C129      R38       10
+    C129      R56       18
+    C129      R60       1
+    C129      R62       14
+    C129      R68       16
+    C129      R80       7
+    C129      R91       2
+    C129      R98       4
+    C130      COST      9
+    C130      R5        13
+    C130      R9        13
+    C130      R17       19
+    C130      R37       19
+    C130      R44       15
+    C130      R48       5
+    C130      R67       18
+    C130      R69       8
+    C131      COST      25
+    C131      R40       5
+    C131      R48       14
+    C131      R58       11
+    C131      R63       19
+    C132      COST      10
+    C132      R8        15
+    C132      R12       13
+    C132      R18       10
+    C132      R31       17
+    C132      R42       13
+    C132      R76       12
+    C133      COST      15
+    C133      R11       10
+    C133      R51       11
+    C133      R72       12
+    C133      R81       9
+    C133      R84       11
+    C133      R91       1
+    C134      COST      7
+    C134      R24       5
+    C134      R38       6
+    C134      R43       15
+    C134      R91       6
+    C135      COST      30
+    C135      R34       14
+    C136      COST      14
+    C136      R10       19
+    C136      R32       9
+    C136      R33       4
+    C136      R41       2
+    C136      R64       9
+    C136      R68       3
+    C136      R92       18
+    C137      COST      29
+    C137      R9        5
+    C137      R12       1
+    C137      R62       11
+    C137      R79       9
+    C137      R88       16
+    C137      R99       11
+    C138      COST      1
+    C138      R7        13
+    C138      R25       18
+    C138      R26       3
+    C138      R30       9
+    C138      R80       10
+    C138      R96       20
+    C139      COST      4
+    C139      R26       1
+    C139      R60       6
+    C139      R83       2
+    C139      R94       10
+    C140      COST      4
+    C140      R19       3
+    C140      R44       13
+    C140      R64       16
+    C140      R72       12
+    C140      R90       12
+    C141      COST      25
+    C141      R16       15
+    C141      R19       5
+    C141      R32       10
+    C141      R52       20
+    C141      R82       20
+    C141      R83       12
+    C142      COST      22
+    C142      R42       8
+    C142      R49       14
+    C142      R92       6
+    C143      COST      7
+    C143      R4        14
+    C143      R14       10
+    C143      R19       3
+    C143      R34       5
+    C143      R41       15
+    C143      R51       6
+    C144      COST      14
+    C144      R5        12
+    C144      R13       18
+    C144      R15       12
+    C144      R20       2
+    C144      R41       16
+    C144      R56       13
+    C144      R78       6
+    C144      R91       8
+    C144      R94       6
+    C144      R95       13
+    C145      COST      15
+    C145      R34       18
+    C145      R41       12
+    C145      R51       8
+    C145      R79       10
+    C146      COST      26
+    C146      R13       3
+    C146      R34       13
+    C146      R46       7
+    C146      R50       12
+    C146      R54       12
+    C146      R68       10
+    C146      R79       10
+    C146      R82       10
+    C146      R87       18
+    C146      R95       6
+    C146      R97       14
+    C147      COST      24
+    C147      R9        16
+    C147      R13       18
+    C147      R22       8
+    C147      R61       12
+    C147      R72       4
+    C147      R76       19
+    C147      R95       20
+    C148      COST      24
+    C148      R7        20
+    C148      R20       4
+    C148      R22       1
+    C148      R48       7
+    C148      R55       6
+    C148      R80       2
+    C148      R85       9
+    C148      R98       15
+    C149      COST      29
+    C149      R33       15
+    C149      R39       8
+    C149      R55       17
+    C149      R66       10
+    C149      R74       8
+    C150      COST      18
+    C150      R11       6
+    C150      R19       8
+    C150      R29       10
+    C150      R51       9
+    C150      R65       14
+    C150      R77       18
+    C150      R85       2
+    C151      COST      17
+    C151      R16       4
+    C151      R54       7
+    C151      R91       18
+    C151      R94       20
+    C152      COST      11
+    C152      R31       16
+    C152      R39       20
+    C152      R60       8
+    C152      R72       3
+    C152      R76       1
+    C152      R99       6
+    C153      COST      18
+    C153      R12       2
+    C153      R25       8
+    C153      R96       4
+    C154      COST      13
+    C154      R26       12
+    C154      R28       15
+    C154      R45       12
+    C154      R79       17
+    C154      R97       16
+    C155      COST      28
+    C155      R38       15
+    C155      R40       14
+    C155      R42       15
+    C155      R60       20
+    C155      R79       18
+    C156      COST      26
+    C156      R1        3
+    C156      R2        6
+    C156      R25       5
+    C156      R54       7
+    C156      R71       14
+    C157      COST      20
+    C157      R25       34
+    C157      R26       8
+    C157      R42       18
+    C157      R48       8
+    C157      R63       14
+    C157      R100      19
+    C158      COST      22
+    C158      R13       6
+    C158      R36       9
+    C158      R84       13
+    C158      R91       16
+    C159      COST      7
+    C159      R16       5
+    C159      R17       3
+    C159      R30       12
+    C159      R43       11
+    C159      R47       14
+    C159      R50       2
+    C159      R59       12
+    C159      R68       8
+    C159      R69       15
+    C159      R74       16
+    C159      R76       19
+    C159      R81       18
+    C160      COST      1
+    C160      R12       10
+    C160      R61       17
+    C161      COST      14
+    C161      R64       14
+    C161      R84       9
+    C161      R100      12
+    C162      COST      25
+    C162      R13       15
+    C162      R34       16
+    C162      R50       10
+    C162      R72       6
+    C162      R99       2
+    C163      COST      11
+    C163      R1        6
+    C163      R43       18
+    C163      R54       16
+    C163      R95       6
+    C164      COST      19
+    C164      R12       13
+    C164      R13       16
+    C164      R17       3
+    C164      R20       19
+    C164      R51       1
+    C164      R64       9
+    C164      R68       2
+    C164      R76       18
+    C165      COST      29
+    C165      R10       17
+    C165      R11       12
+    C165      R12       13
+    C165      R23       13
+    C165      R69       13
+    C165      R72       24
+    C165      R73       20
+    C165      R75       20
+    C166      COST      13
+    C166      R2        6
+    C166      R5        4
+    C166      R24       7
+    C166      R28       2
+    C166      R76       2
+    C167      COST      30
+    C167      R10       2
+    C167      R17       9
+    C167      R26       7
+    C167      R42       7
+    C167      R48       16
+    C167      R57       6
+    C167      R70       13
+    C167      R80       12
+    C167      R88       14
+    C168      COST      19
+    C168      R18       10
+    C168      R21       3
+    C168      R58       20
+    C168      R70       20
+    C168      R88       5
+    C168      R91       14
+    C168      R96       19
+    C169      COST      27
+    C169      R36       15
+    C169      R44       14
+    C169      R45       18
+    C169      R47       6
+    C169      R50       3
+    C169      R76       13
+    C169      R93       16
+    C170      COST      22
+    C170      R19       4
+    C170      R41       5
+    C170      R73       8
+    C170      R84       11
+    C170      R85       8
+    C170      R97       9
+    C171      COST      28
+    C171      R34       20
+    C171      R42       1
+    C171      R71       19
+    C172      COST      25
+    C172      R19       6
+    C172      R20       4
+    C172      R28       10
+    C172      R35       2
+    C172      R70       2
+    C172      R75       17
+    C173      COST      28
+    C173      R22       10
+    C173      R25       20
+    C173      R35       7
+    C173      R40       18
+    C173      R82       14
+    C173      R84       19
+    C173      R88       7
+    C174      COST      20
+    C174      R17       11
+    C174      R58       7
+    C174      R71       15
+    C175      COST      8
+    C175      R10       19
+    C175      R78       15
+    C176      COST      11
+    C176      R71       9
+    C176      R77       16
+    C176      R82       20
+    C176      R87       5
+    C176      R95       14
+    C177      COST      20
+    C177      R12       11
+    C177      R27       11
+    C177      R45       19
+    C177      R58       1
+    C177      R91       4
+    C177      R97       7
+    C178      COST      4
+    C178      R1        15
+    C178      R46       10
+    C178      R50       5
+    C178      R57       19
+    C178      R94       10
+    C179      COST      20
+    C179      R23       15
+    C179      R75       12
+    C179      R77       10
+    C179      R82       9
+    C180      COST      14
+    C180      R9        6
+    C180      R29       11
+    C180      R66       20
+    C180      R89       13
+    C180      R97       16
+    C181      COST      14
+    C181      R26       11
+    C181      R31       13
+    C181      R60       19
+    C181      R67       20
+    C181      R72       4
+    C181      R82       4
+    C182      COST      30
+    C182      R16       11
+    C182      R34       6
+    C182      R43       18
+    C182      R74       11
+    C182      R93       16
+    C183      COST      27
+    C183      R1        2
+    C183      R18       19
+    C183      R33       4
+    C183      R36       7
+    C183      R42       11
+    C183      R45       12
+    C183      R47       5
+    C183      R48       10
+    C183      R82       16
+    C183      R86       3
+    C183      R96       14
+    C183      R97       12
+    C184      COST      30
+    C184      R5        7
+    C184      R32       20
+    C184      R52       19
+    C184      R98       12
+    C185      COST      29
+    C185      R6        1
+    C185      R26       6
+    C185      R31       2
+    C185      R67       11
+    C185      R76       18
+    C186      COST      14
+    C186      R15       3
+    C186      R55       1
+    C186      R65       6
+    C186      R68       4
+    C186      R100      17
+    C187      COST      29
+    C187      R18       3
+    C187      R20       3
+    C187      R28       16
+    C187      R43       19
+    C187      R54       15
+    C187      R88       8
+    C187      R90       2
+    C187      R92       11
+    C188      COST      10
+    C188      R42       12
+    C188      R63       26
+    C188      R72       20
+    C188      R88       6
+    C188      R100      10
+    C189      COST      30
+    C189      R7        18
+    C189      R14       3
+    C189      R67       18
+    C189      R79       2
+    C189      R83       20
+    C190      COST      5
+    C190      R52       1
+    C190      R53       16
+    C190      R91       15
+    C191      COST      11
+    C191      R2        14
+    C191      R3        5
+    C191      R24       14
+    C191      R47       5
+    C191      R68       9
+    C191      R77       7
+    C191      R78       4
+    C191      R86       12
+    C191      R94       14
+    C192      COST      19
+    C192      R9        12
+    C192      R29       12
+    C192      R40       9
+    C192      R45       15
+    C192      R68       12
+    C193      COST      9
+    C193      R20       19
+    C193      R41       10
+    C193      R46       12
+    C193      R54       8
+    C193      R80       1
+    C194      COST      4
+    C194      R34       2
+    C194      R41       7
+    C194      R45       15
+    C194      R47       16
+    C194      R49       19
+    C194      R73       4
+    C194      R80       13
+    C194      R88       7
+    C195      COST      25
+    C195      R6        17
+    C195      R10       12
+    C196      COST      20
+    C196      R19       13
+    C196      R25       4
+    C196      R31       8
+    C196      R41       20
+    C196      R65       2
+    C196      R71       5
+    C196      R75       8
+    C196      R77       4
+    C196      R97       9
+    C197      COST      17
+    C197      R35       1
+    C197      R42       11
+    C197      R44       7
+    C197      R53       4
+    C197      R63       12
+    C197      R78       8
+    C198      COST      7
+    C198      R29       20
+    C198      R31       14
+    C198      R49       11
+    C198      R81       2
+    C199      COST      11
+    C199      R29       8
+    C199      R58       14
+    C199      R73       16
+    C200      COST      24
+    C200      R44       7
+    C200      R50       1
+    C200      R58       2
+    C200      R86       13
+    C200      R89       12
+    C200      R94       9
+    C200      R97       6
+RHS
+    RHS       R1        172
+    RHS       R2        169
+    RHS       R3        141
+    RHS       R4        180
+    RHS       R5        174
+    RHS       R6        198
+    RHS       R7        105
+    RHS       R8        169
+    RHS       R9        195
+    RHS       R10       188
+    RHS       R11       161
+    RHS       R12       149
+    RHS       R13       118
+    RHS       R14       158
+    RHS       R15       147
+    RHS       R16       107
+    RHS       R17       126
+    RHS       R18       105
+    RHS       R19       176
+    RHS       R20       193
+    RHS       R21       196
+    RHS       R22       186
+    RHS       R23       126
+    RHS       R24       176
+    RHS       R25       118
+    RHS       R26       129
+    RHS       R27       161
+    RHS       R28       151
+    RHS       R29       122
+    RHS       R30       176
+    RHS       R31       187
+    RHS       R32       120
+    RHS       R33       167
+    RHS       R34       189
+    RHS       R35       136
+    RHS       R36       183
+    RHS       R37       165
+    RHS       R38       104
+    RHS       R39       142
+    RHS       R40       126
+    RHS       R41       147
+    RHS       R42       130
+    RHS       R43       129
+    RHS       R44       103
+    RHS       R45       146
+    RHS       R46       156
+    RHS       R47       199
+    RHS       R48       153
+    RHS       R49       191
+    RHS       R50       149
+    RHS       R51       142
+    RHS       R52       134
+    RHS       R53       140
+    RHS       R54       170
+    RHS       R55       157
+    RHS       R56       107
+    RHS       R57       196
+    RHS       R58       199
+    RHS       R59       185
+    RHS       R60       152
+    RHS       R61       168
+    RHS       R62       161
+    RHS       R63       174
+    RHS       R64       191
+    RHS       R65       156
+    RHS       R66       170
+    RHS       R67       100
+    RHS       R68       177
+    RHS       R69       128
+    RHS       R70       158
+    RHS       R71       104
+    RHS       R72       109
+    RHS       R73       106
+    RHS       R74       102
+    RHS       R75       170
+    RHS       R76       103
+    RHS       R77       193
+    RHS       R78       131
+    RHS       R79       174
+    RHS       R80       142
+    RHS       R81       169
+    RHS       R82       186
+    RHS       R83       142
+    RHS       R84       185
+    RHS       R85       101
+    RHS       R86       198
+    RHS       R87       129
+    RHS       R88       136
+    RHS       R89       174
+    RHS       R90       129
+    RHS       R91       188
+    RHS       R92       141
+    RHS       R93       122
+    RHS       R94       135
+    RHS       R95       165
+    RHS       R96       107
+    RHS       R97       187
+    RHS       R98       187
+    RHS       R99       151
+    RHS       R100      144
+BOUNDS
+ENDATA
@@ -0,0 +1,5057 @@
+NAME          random-200-degenerate
+OBJSENSE
+    MAX
+ROWS
+ N  COST
+ L  R1
+ L  R2
+ L  R3
+ L  R4
+ L  R5
+ L  R6
+ L  R7
+ L  R8
+ L  R9
+ L  R10
+ L  R11
+ L  R12
+ L  R13
+ L  R14
+ L  R15
+ L  R16
+ L  R17
+ L  R18
+ L  R19
+ L  R20
+ L  R21
+ L  R22
+ L  R23
+ L  R24
+ L  R25
+ L  R26
+ L  R27
+ L  R28
+ L  R29
+ L  R30
+ L  R31
+ L  R32
+ L  R33
+ L  R34
+ L  R35
+ L  R36
+ L  R37
+ L  R38
+ L  R39
+ L  R40
+ L  R41
+ L  R42
+ L  R43
+ L  R44
+ L  R45
+ L  R46
+ L  R47
+ L  R48
+ L  R49
+ L  R50
+ L  R51
+ L  R52
+ L  R53
+ L  R54
+ L  R55
+ L  R56
+ L  R57
+ L  R58
+ L  R59
+ L  R60
+ L  R61
+ L  R62
+ L  R63
+ L  R64
+ L  R65
+ L  R66
+ L  R67
+ L  R68
+ L  R69
+ L  R70
+ L  R71
+ L  R72
+ L  R73
+ L  R74
+ L  R75
+ L  R76
+ L  R77
+ L  R78
+ L  R79
+ L  R80
+ L  R81
+ L  R82
+ L  R83
+ L  R84
+ L  R85
+ L  R86
+ L  R87
+ L  R88
+ L  R89
+ L  R90
+ L  R91
+ L  R92
+ L  R93
+ L  R94
+ L  R95
+ L  R96
+ L  R97
+ L  R98
+ L  R99
+ L  R100
+ L  R101
+ L  R102
+ L  R103
+ L  R104
+ L  R105
+ L  R106
+ L  R107
+ L  R108
+ L  R109
+ L  R110
+ L  R111
+ L  R112
+ L  R113
+ L  R114
+ L  R115
+ L  R116
+ L  R117
+ L  R118
+ L  R119
+ L  R120
+ L  R121
+ L  R122
+ L  R123
+ L  R124
+ L  R125
+ L  R126
+ L  R127
+ L  R128
+ L  R129
+ L  R130
+ L  R131
+ L  R132
+ L  R133
+ L  R134
+ L  R135
+ L  R136
+ L  R137
+ L  R138
+ L  R139
+ L  R140
+ L  R141
+ L  R142
+ L  R143
+ L  R144
+ L  R145
+ L  R146
+ L  R147
+ L  R148
+ L  R149
+ L  R150
+ L  R151
+ L  R152
+ L  R153
+ L  R154
+ L  R155
+ L  R156
+ L  R157
+ L  R158
+ L  R159
+ L  R160
+ L  R161
+ L  R162
+ L  R163
+ L  R164
+ L  R165
+ L  R166
+ L  R167
+ L  R168
+ L  R169
+ L  R170
+ L  R171
+ L  R172
+ L  R173
+ L  R174
+ L  R175
+ L  R176
+ L  R177
+ L  R178
+ L  R179
+ L  R180
+ L  R181
+ L  R182
+ L  R183
+ L  R184
+ L  R185
+ L  R186
+ L  R187
+ L  R188
+ L  R189
+ L  R190
+ L  R191
+ L  R192
+ L  R193
+ L  R194
+ L  R195
+ L  R196
+ L  R197
+ L  R198
+ L  R199
+ L  R200
+COLUMNS
+    C1        COST      8
+    C1        R7        11
+    C1        R48       12
+    C1        R68       4
+    C1        R74       11
+    C1        R75       9
+    C1        R122      8
+    C1        R142      10
+    C1        R150      2
+    C1        R160      11
+    C1        R163      14
+    C1        R183      19
+    C1        R186      9
+    C1        R187      12
+    C2        COST      5
+    C2        R36       13
+    C2        R41       1
+    C2        R43       15
+    C2        R90       5
+    C2        R102      3
+    C2        R114      15
+    C2        R154      5
+    C2        R189      6
+    C3        COST      29
+    C3        R35       7
+    C3        R45       1
+    C3        R92       13
+    C3        R98       15
+    C3        R128      9
+    C3        R129      17
+    C3        R187      11
+    C4        COST      14
+    C4        R14       1
+    C4        R17       6
+    C4        R48       10
+    C4        R52       10
+    C4        R58       16
+    C4        R62       14
+    C4        R66       5
+    C4        R93       17
+    C4        R107      14
+    C4        R109      8
+    C4        R136      15
+    C4        R149      10
+    C4        R155      17
+    C5        COST      13
+    C5        R8        19
+    C5        R27       12
+    C5        R30       3
+    C5        R73       17
+    C5        R108      3
+    C5        R118      4
+    C5        R130      2
+    C5        R135      12
+    C5        R136      13
+    C5        R170      9
+    C5        R177      17
+    C5        R182      5
+    C5        R187      19
+    C5        R199      14
+    C6        COST      13
+    C6        R35       15
+    C6        R40       19
+    C6        R49       6
+    C6        R59       19
+    C6        R102      3
+    C6        R105      20
+    C6        R136      4
+    C6        R145      5
+    C6        R148      10
+    C6        R150      3
+    C6        R166      16
+    C6        R168      19
+    C6        R172      13
+    C6        R175      4
+    C7        COST      27
+    C7        R11       14
+    C7        R19       4
+    C7        R27       6
+    C7        R59       14
+    C7        R101      12
+    C7        R111      17
+    C7        R155      6
+    C7        R194      13
+    C7        R196      8
+    C7        R197      10
+    C8        COST      30
+    C8        R4        15
+    C8        R7        1
+    C8        R85       16
+    C8        R103      3
+    C8        R129      3
+    C8        R133      11
+    C8        R172      1
+    C9        COST      29
+    C9        R21       8
+    C9        R54       3
+    C9        R57       9
+    C9        R74       7
+    C9        R75       20
+    C9        R100      17
+    C9        R140      4
+    C9        R163      16
+    C9        R169      11
+    C10       COST      3
+    C10       R12       8
+    C10       R29       9
+    C10       R47       13
+    C10       R60       20
+    C10       R67       4
+    C10       R117      20
+    C10       R124      7
+    C10       R144      16
+    C10       R148      13
+    C10       R154      18
+    C10       R160      12
+    C10       R167      17
+    C10       R172      6
+    C11       COST      1
+    C11       R6        15
+    C11       R20       8
+    C11       R45       7
+    C11       R69       16
+    C11       R125      8
+    C11       R126      20
+    C11       R155      13
+    C11       R177      16
+    C11       R186      11
+    C11       R195      13
+    C11       R197      6
+    C12       COST      16
+    C12       R3        19
+    C12       R7        4
+    C12       R36       7
+    C12       R70       4
+    C12       R93       19
+    C12       R118      7
+    C12       R145      6
+    C12       R150      15
+    C12       R180      17
+    C12       R188      19
+    C12       R194      19
+    C12       R198      3
+    C13       COST      16
+    C13       R18       18
+    C13       R19       13
+    C13       R41       4
+    C13       R60       6
+    C13       R67       15
+    C13       R76       5
+    C13       R90       1
+    C13       R103      1
+    C13       R109      9
+    C13       R123      20
+    C13       R124      4
+    C13       R142      17
+    C13       R151      13
+    C13       R173      17
+    C13       R185      20
+    C13       R200      20
+    C14       COST      21
+    C14       R4        6
+    C14       R8        18
+    C14       R13       20
+    C14       R35       16
+    C14       R47       20
+    C14       R61       19
+    C14       R73       3
+    C14       R82       19
+    C14       R94       20
+    C14       R112      18
+    C14       R129      7
+    C14       R133      19
+    C14       R141      17
+    C14       R154      18
+    C14       R161      8
+    C14       R190      11
+    C15       COST      28
+    C15       R16       3
+    C15       R47       5
+    C15       R56       16
+    C15       R63       14
+    C15       R75       8
+    C15       R78       18
+    C15       R118      16
+    C15       R124      14
+    C15       R140      14
+    C15       R168      10
+    C15       R171      7
+    C16       COST      19
+    C16       R5        3
+    C16       R10       4
+    C16       R11       4
+    C16       R41       13
+    C16       R48       3
+    C16       R59       6
+    C16       R78       12
+    C16       R90       7
+    C16       R93       2
+    C16       R94       7
+    C16       R95       16
+    C16       R97       14
+    C16       R126      8
+    C16       R157      17
+    C16       R163      20
+    C16       R166      14
+    C16       R170      14
+    C16       R193      1
+    C17       COST      23
+    C17       R3        17
+    C17       R23       14
+    C17       R72       3
+    C17       R74       10
+    C17       R101      18
+    C17       R108      6
+    C17       R120      12
+    C17       R146      5
+    C17       R171      5
+    C17       R193      13
+    C18       COST      16
+    C18       R7        7
+    C18       R50       8
+    C18       R75       20
+    C18       R89       19
+    C18       R134      17
+    C19       COST      9
+    C19       R7        17
+    C19       R32       12
+    C19       R36       9
+    C19       R45       9
+    C19       R86       1
+    C19       R95       17
+    C19       R111      6
+    C19       R118      7
+    C19       R124      13
+    C19       R137      6
+    C19       R178      17
+    C20       COST      15
+    C20       R12       2
+    C20       R26       8
+    C20       R30       5
+    C20       R40       2
+    C20       R72       19
+    C20       R84       11
+    C20       R106      1
+    C20       R109      18
+    C20       R115      10
+    C20       R143      18
+    C20       R197      4
+    C20       R198      8
+    C21       COST      17
+    C21       R1        32
+    C21       R11       12
+    C21       R14       16
+    C21       R55       2
+    C21       R62       3
+    C21       R64       18
+    C21       R97       2
+    C21       R139      5
+    C22       COST      7
+    C22       R14       6
+    C22       R46       5
+    C22       R61       4
+    C22       R64       14
+    C22       R84       19
+    C22       R117      16
+    C22       R121      20
+    C22       R133      11
+    C23       COST      6
+    C23       R4        17
+    C23       R8        13
+    C23       R70       5
+    C23       R82       18
+    C23       R109      15
+    C23       R135      11
+    C23       R144      6
+    C23       R149      16
+    C23       R161      6
+    C23       R164      10
+    C23       R172      2
+    C23       R176      3
+    C24       COST      17
+    C24       R40       10
+    C24       R43       6
+    C24       R80       16
+    C24       R94       14
+    C24       R105      12
+    C24       R109      14
+    C24       R129      20
+    C24       R138      13
+    C24       R147      6
+    C24       R167      16
+    C24       R175      9
+    C24       R195      5
+    C25       COST      13
+    C25       R16       19
+    C25       R54       7
+    C25       R71       9
+    C25       R87       6
+    C25       R96       7
+    C25       R97       1
+    C25       R100      19
+    C25       R127      1
+    C25       R164      20
+    C25       R171      2
+    C25       R180      5
+    C26       COST      2
+    C26       R24       5
+    C26       R44       20
+    C26       R45       3
+    C26       R49       4
+    C26       R53       10
+    C26       R56       18
+    C26       R88       13
+    C26       R94       9
+    C26       R104      7
+    C26       R134      6
+    C26       R137      19
+    C26       R160      14
+    C26       R161      5
+    C26       R172      3
+    C26       R175      15
+    C27       COST      9
+    C27       R2        18
+    C27       R7        14
+    C27       R8        13
+    C27       R21       12
+    C27       R36       11
+    C27       R40       10
+    C27       R53       15
+    C27       R86       14
+    C27       R103      10
+    C27       R141      10
+    C28       COST      19
+    C28       R7        20
+    C28       R69       11
+    C28       R80       9
+    C28       R93       19
+    C28       R107      17
+    C28       R137      14
+    C28       R163      2
+    C28       R186      12
+    C28       R187      8
+    C29       COST      30
+    C29       R70       8
+    C29       R77       16
+    C29       R80       20
+    C29       R81       2
+    C29       R86       10
+    C29       R111      11
+    C29       R124      19
+    C29       R128      18
+    C29       R131      17
+    C29       R139      8
+    C29       R173      17
+    C29       R179      19
+    C29       R181      20
+    C29       R200      10
+    C30       COST      1
+    C30       R2        15
+    C30       R29       4
+    C30       R54       12
+    C30       R96       20
+    C30       R100      19
+    C30       R101      13
+    C30       R147      4
+    C30       R166      18
+    C30       R168      18
+    C30       R175      15
+    C31       COST      15
+    C31       R18       7
+    C31       R28       2
+    C31       R50       14
+    C31       R51       5
+    C31       R80       9
+    C31       R148      7
+    C31       R187      8
+    C31       R188      20
+    C31       R196      10
+    C32       COST      6
+    C32       R21       14
+    C32       R37       15
+    C32       R71       9
+    C32       R76       17
+    C32       R95       2
+    C32       R104      15
+    C32       R123      7
+    C32       R132      11
+    C32       R133      14
+    C32       R136      7
+    C32       R151      14
+    C32       R154      7
+    C32       R160      12
+    C32       R163      8
+    C32       R166      8
+    C33       COST      27
+    C33       R4        20
+    C33       R5        5
+    C33       R28       20
+    C33       R47       5
+    C33       R100      18
+    C33       R102      2
+    C33       R108      7
+    C33       R109      6
+    C33       R111      17
+    C33       R163      2
+    C33       R184      19
+    C33       R185      7
+    C33       R194      17
+    C34       COST      23
+    C34       R15       12
+    C34       R51       15
+    C34       R54       10
+    C34       R70       19
+    C34       R86       18
+    C34       R88       20
+    C34       R92       4
+    C34       R97       4
+    C34       R155      14
+    C35       COST      25
+    C35       R1        3
+    C35       R4        13
+    C35       R28       7
+    C35       R31       14
+    C35       R42       18
+    C35       R55       3
+    C35       R64       20
+    C35       R81       12
+    C35       R95       16
+    C35       R106      11
+    C35       R165      16
+    C36       COST      4
+    C36       R11       7
+    C36       R16       8
+    C36       R21       16
+    C36       R25       9
+    C36       R27       18
+    C36       R37       4
+    C36       R93       13
+    C36       R122      4
+    C36       R143      7
+    C36       R160      15
+    C36       R185      20
+    C36       R189      9
+    C37       COST      8
+    C37       R40       10
+    C37       R83       20
+    C37       R102      19
+    C37       R104      8
+    C37       R113      3
+    C37       R151      3
+    C37       R187      18
+    C38       COST      24
+    C38       R1        9
+    C38       R15       9
+    C38       R21       10
+    C38       R28       2
+    C38       R31       1
+    C38       R34       12
+    C38       R74       2
+    C38       R75       6
+    C38       R86       18
+    C38       R94       7
+    C38       R95       15
+    C38       R98       2
+    C38       R160      4
+    C38       R181      12
+    C39       COST      18
+    C39       R2        14
+    C39       R30       18
+    C39       R58       7
+    C39       R63       3
+    C39       R90       9
+    C39       R103      14
+    C39       R142      10
+    C39       R148      6
+    C39       R152      12
+    C39       R160      18
+    C39       R165      7
+    C39       R167      20
+    C39       R168      15
+    C39       R195      1
+    C40       COST      20
+    C40       R3        16
+    C40       R29       5
+    C40       R42       12
+    C40       R50       8
+    C40       R53       18
+    C40       R67       4
+    C40       R82       2
+    C40       R94       3
+    C40       R98       16
+    C40       R142      17
+    C40       R146      11
+    C40       R193      8
+    C41       COST      21
+    C41       R9        4
+    C41       R33       10
+    C41       R39       12
+    C41       R43       18
+    C41       R48       18
+    C41       R55       3
+    C41       R81       7
+    C41       R90       6
+    C41       R103      19
+    C41       R108      1
+    C41       R115      6
+    C41       R180      12
+    C41       R199      6
+    C42       COST      17
+    C42       R18       9
+    C42       R23       19
+    C42       R30       13
+    C42       R36       4
+    C42       R42       12
+    C42       R72       1
+    C42       R77       17
+    C42       R84       8
+    C42       R95       1
+    C42       R116      12
+    C42       R119      10
+    C42       R121      8
+    C42       R131      13
+    C42       R137      7
+    C42       R181      14
+    C43       COST      15
+    C43       R22       20
+    C43       R68       1
+    C43       R73       12
+    C43       R78       9
+    C43       R104      18
+    C43       R125      9
+    C43       R136      12
+    C43       R163      13
+    C43       R166      9
+    C43       R177      7
+    C43       R187      8
+    C43       R191      16
+    C44       COST      22
+    C44       R13       17
+    C44       R20       9
+    C44       R22       1
+    C44       R37       12
+    C44       R39       9
+    C44       R41       15
+    C44       R47       16
+    C44       R80       6
+    C44       R99       16
+    C44       R140      4
+    C44       R168      6
+    C45       COST      16
+    C45       R9        20
+    C45       R10       18
+    C45       R37       14
+    C45       R45       14
+    C45       R99       11
+    C45       R151      6
+    C45       R157      18
+    C45       R178      14
+    C46       COST      22
+    C46       R6        13
+    C46       R42       11
+    C46       R47       9
+    C46       R52       4
+    C46       R57       5
+    C46       R58       18
+    C46       R112      1
+    C46       R121      8
+    C46       R125      10
+    C46       R129      1
+    C46       R138      13
+    C46       R164      8
+    C46       R181      19
+    C47       COST      29
+    C47       R17       17
+    C47       R65       19
+    C47       R88       17
+    C47       R94       11
+    C47       R103      6
+    C47       R105      15
+    C47       R118      16
+    C47       R130      18
+    C47       R141      20
+    C47       R153      8
+    C47       R172      19
+    C47       R174      14
+    C47       R182      13
+    C47       R186      20
+    C47       R191      10
+    C48       COST      23
+    C48       R13       7
+    C48       R26       10
+    C48       R29       12
+    C48       R39       7
+    C48       R44       2
+    C48       R45       4
+    C48       R58       6
+    C48       R71       12
+    C48       R77       13
+    C48       R113      17
+    C48       R116      15
+    C48       R147      11
+    C48       R165      2
+    C48       R167      19
+    C48       R173      2
+    C48       R180      2
+    C48       R185      18
+    C49       COST      20
+    C49       R11       9
+    C49       R56       12
+    C49       R64       11
+    C49       R95       1
+    C49       R103      16
+    C49       R129      3
+    C49       R141      18
+    C49       R165      16
+    C49       R174      3
+    C49       R179      8
+    C49       R180      18
+    C49       R199      3
+    C50       COST      14
+    C50       R96       13
+    C50       R161      16
+    C50       R171      6
+    C51       COST      24
+    C51       R6        13
+    C51       R65       3
+    C51       R83       16
+    C51       R87       17
+    C51       R114      10
+    C51       R120      3
+    C51       R139      7
+    C51       R178      17
+    C51       R195      3
+    C52       COST      16
+    C52       R11       2
+    C52       R15       8
+    C52       R60       19
+    C52       R98       2
+    C52       R106      15
+    C52       R144      18
+    C53       COST      18
+    C53       R5        19
+    C53       R9        10
+    C53       R10       18
+    C53       R27       3
+    C53       R47       2
+    C53       R48       16
+    C53       R64       5
+    C53       R68       5
+    C53       R98       1
+    C53       R101      6
+    C53       R118      16
+    C53       R128      11
+    C53       R143      2
+    C53       R144      15
+    C53       R158      5
+    C53       R164      14
+    C54       COST      17
+    C54       R2        14
+    C54       R15       5
+    C54       R37       14
+    C54       R88       3
+    C54       R110      4
+    C54       R116      4
+    C54       R156      8
+    C54       R158      10
+    C55       COST      24
+    C55       R54       12
+    C55       R69       15
+    C55       R70       9
+    C55       R83       13
+    C55       R134      14
+    C55       R146      9
+    C55       R158      10
+    C55       R172      11
+    C56       COST      7
+    C56       R6        1
+    C56       R14       1
+    C56       R26       8
+    C56       R47       12
+    C56       R77       2
+    C56       R105      9
+    C56       R110      14
+    C56       R135      13
+    C56       R140      6
+    C56       R153      12
+    C56       R166      2
+    C56       R184      15
+    C57       COST      8
+    C57       R56       14
+    C57       R88       4
+    C57       R89       16
+    C57       R99       6
+    C57       R127      17
+    C57       R159      19
+    C58       COST      26
+    C58       R69       7
+    C58       R74       8
+    C58       R78       5
+    C58       R109      19
+    C58       R118      2
+    C58       R125      5
+    C58       R159      18
+    C59       COST      11
+    C59       R26       20
+    C59       R36       6
+    C59       R56       3
+    C59       R59       7
+    C59       R73       8
+    C59       R79       19
+    C59       R94       9
+    C59       R97       11
+    C59       R121      3
+    C59       R125      7
+    C59       R131      16
+    C59       R135      16
+    C59       R151      10
+    C59       R179      14
+    C60       COST      19
+    C60       R29       12
+    C60       R30       16
+    C60       R163      9
+    C60       R165      6
+    C60       R167      8
+    C60       R183      12
+    C60       R199      12
+    C61       COST      6
+    C61       R23       12
+    C61       R41       1
+    C61       R51       18
+    C61       R63       1
+    C61       R66       14
+    C61       R67       20
+    C61       R73       20
+    C61       R88       20
+    C61       R101      12
+    C61       R128      16
+    C61       R172      19
+    C61       R175      13
+    C61       R189      17
+    C62       COST      18
+    C62       R7        19
+    C62       R8        15
+    C62       R30       18
+    C62       R72       8
+    C62       R101      8
+    C62       R117      5
+    C62       R141      12
+    C62       R154      9
+    C62       R165      4
+    C63       COST      13
+    C63       R7        10
+    C63       R40       13
+    C63       R41       5
+    C63       R45       19
+    C63       R70       7
+    C63       R129      10
+    C63       R148      10
+    C64       COST      21
+    C64       R31       16
+    C64       R62       16
+    C64       R81       12
+    C64       R84       3
+    C64       R89       16
+    C64       R123      5
+    C64       R171      7
+    C64       R175      17
+    C64       R182      4
+    C64       R200      12
+    C65       COST      6
+    C65       R39       14
+    C65       R40       1
+    C65       R47       3
+    C65       R73       5
+    C65       R80       7
+    C65       R88       19
+    C65       R101      19
+    C65       R116      13
+    C65       R138      5
+    C65       R148      5
+    C65       R162      16
+    C65       R165      16
+    C65       R180      4
+    C65       R182      2
+    C65       R195      19
+    C66       COST      6
+    C66       R1        6
+    C66       R13       3
+    C66       R19       10
+    C66       R33       2
+    C66       R43       2
+    C66       R61       3
+    C66       R90       13
+    C66       R120      20
+    C66       R135      1
+    C66       R153      17
+    C66       R155      5
+    C67       COST      7
+    C67       R99       13
+    C67       R100      16
+    C67       R109      12
+    C67       R110      7
+    C67       R124      12
+    C67       R127      11
+    C67       R192      19
+    C67       R193      3
+    C68       COST      19
+    C68       R8        4
+    C68       R10       2
+    C68       R36       4
+    C68       R49       5
+    C68       R51       10
+    C68       R55       5
+    C68       R67       2
+    C68       R94       11
+    C68       R102      14
+    C68       R112      11
+    C68       R120      1
+    C68       R128      8
+    C68       R155      16
+    C68       R156      5
+    C68       R168      5
+    C69       COST      23
+    C69       R15       9
+    C69       R16       9
+    C69       R20       5
+    C69       R22       15
+    C69       R31       11
+    C69       R45       20
+    C69       R50       16
+    C69       R79       9
+    C69       R98       9
+    C69       R103      8
+    C69       R113      12
+    C69       R115      20
+    C69       R132      11
+    C69       R144      13
+    C69       R165      4
+    C69       R177      1
+    C70       COST      6
+    C70       R18       19
+    C70       R73       17
+    C70       R91       15
+    C70       R97       7
+    C70       R142      7
+    C70       R173      18
+    C70       R188      2
+    C71       COST      7
+    C71       R19       6
+    C71       R21       13
+    C71       R53       19
+    C71       R95       12
+    C71       R107      10
+    C71       R108      19
+    C71       R144      4
+    C71       R152      11
+    C71       R153      14
+    C71       R168      10
+    C72       COST      9
+    C72       R6        2
+    C72       R8        4
+    C72       R10       4
+    C72       R64       17
+    C72       R73       6
+    C72       R74       20
+    C72       R163      20
+    C72       R180      9
+    C72       R186      9
+    C73       COST      5
+    C73       R11       8
+    C73       R24       5
+    C73       R41       11
+    C73       R43       14
+    C73       R45       6
+    C73       R72       18
+    C73       R84       4
+    C73       R107      3
+    C73       R129      18
+    C73       R143      3
+    C73       R144      3
+    C73       R151      19
+    C73       R155      2
+    C73       R178      4
+    C73       R190      9
+    C74       COST      10
+    C74       R1        15
+    C74       R11       1
+    C74       R16       10
+    C74       R48       15
+    C74       R75       4
+    C74       R80       19
+    C74       R97       18
+    C74       R134      6
+    C75       COST      11
+    C75       R30       19
+    C75       R43       18
+    C75       R55       19
+    C75       R56       1
+    C75       R60       11
+    C75       R77       2
+    C75       R84       12
+    C75       R90       8
+    C75       R95       10
+    C75       R97       7
+    C75       R99       1
+    C75       R109      13
+    C75       R116      9
+    C75       R170      13
+    C76       COST      17
+    C76       R1        6
+    C76       R17       5
+    C76       R31       16
+    C76       R53       17
+    C76       R74       12
+    C76       R76       17
+    C76       R79       1
+    C76       R105      20
+    C76       R110      11
+    C76       R117      18
+    C76       R121      16
+    C76       R159      11
+    C76       R167      19
+    C76       R180      8
+    C77       COST      17
+    C77       R32       9
+    C77       R47       14
+    C77       R73       20
+    C77       R75       13
+    C77       R144      20
+    C77       R188      11
+    C78       COST      21
+    C78       R17       18
+    C78       R44       3
+    C78       R56       7
+    C78       R64       8
+    C78       R75       10
+    C78       R76       11
+    C78       R80       13
+    C78       R155      16
+    C78       R172      1
+    C78       R174      7
+    C78       R182      16
+    C78       R187      3
+    C79       COST      30
+    C79       R17       13
+    C79       R22       13
+    C79       R38       13
+    C79       R68       14
+    C79       R75       20
+    C79       R103      10
+    C79       R133      17
+    C79       R141      15
+    C79       R147      20
+    C79       R160      16
+    C79       R177      15
+    C80       COST      7
+    C80       R8        5
+    C80       R9        5
+    C80       R38       5
+    C80       R54       5
+    C80       R56       9
+    C80       R103      6
+    C80       R138      13
+    C80       R152      5
+    C80       R162      10
+    C80       R168      11
+    C80       R181      1
+    C81       COST      29
+    C81       R21       8
+    C81       R61       10
+    C81       R70       9
+    C81       R81       13
+    C81       R100      5
+    C81       R111      4
+    C81       R132      9
+    C81       R142      20
+    C81       R149      20
+    C81       R155      10
+    C81       R164      11
+    C82       COST      9
+    C82       R5        17
+    C82       R13       12
+    C82       R28       18
+    C82       R67       11
+    C82       R70       18
+    C82       R72       19
+    C82       R142      6
+    C82       R146      9
+    C82       R159      6
+    C82       R164      15
+    C82       R165      6
+    C82       R175      15
+    C82       R180      18
+    C82       R196      12
+    C83       COST      7
+    C83       R6        13
+    C83       R31       1
+    C83       R106      6
+    C83       R133      17
+    C83       R145      4
+    C83       R148      6
+    C83       R159      3
+    C83       R161      9
+    C83       R163      12
+    C83       R172      1
+    C83       R182      12
+    C84       COST      2
+    C84       R5        2
+    C84       R6        13
+    C84       R14       15
+    C84       R48       20
+    C84       R90       15
+    C84       R105      13
+    C84       R142      13
+    C84       R180      5
+    C85       COST      9
+    C85       R13       8
+    C85       R29       11
+    C85       R30       1
+    C85       R74       1
+    C85       R110      19
+    C85       R122      20
+    C85       R123      17
+    C85       R128      14
+    C85       R143      8
+    C85       R150      13
+    C85       R158      4
+    C85       R162      6
+    C86       COST      23
+    C86       R31       14
+    C86       R60       3
+    C86       R72       16
+    C86       R77       6
+    C86       R104      10
+    C86       R106      13
+    C86       R111      11
+    C86       R125      5
+    C86       R133      12
+    C86       R137      2
+    C86       R142      16
+    C86       R145      19
+    C86       R161      14
+    C86       R184      14
+    C86       R185      2
+    C86       R197      18
+    C86       R200      18
+    C87       COST      16
+    C87       R23       7
+    C87       R43       8
+    C87       R49       20
+    C87       R50       1
+    C87       R62       5
+    C87       R77       8
+    C87       R100      6
+    C87       R128      16
+    C87       R139      10
+    C87       R166      18
+    C87       R180      2
+    C88       COST      11
+    C88       R10       19
+    C88       R46       8
+    C88       R48       17
+    C88       R52       11
+    C88       R68       19
+    C88       R69       1
+    C88       R75       5
+    C88       R84       19
+    C88       R86       9
+    C88       R94       9
+    C88       R113      4
+    C88       R117      16
+    C88       R135      7
+    C88       R161      5
+    C88       R162      9
+    C88       R169      6
+    C89       COST      9
+    C89       R9        10
+    C89       R52       16
+    C89       R56       1
+    C89       R60       14
+    C89       R74       12
+    C89       R106      6
+    C89       R126      4
+    C89       R128      20
+    C89       R139      5
+    C89       R156      11
+    C89       R163      7
+    C89       R176      3
+    C89       R197      7
+    C90       COST      10
+    C90       R15       12
+    C90       R18       7
+    C90       R48       6
+    C90       R49       19
+    C90       R69       15
+    C90       R73       1
+    C90       R91       9
+    C90       R114      9
+    C90       R137      11
+    C90       R138      11
+    C90       R146      11
+    C90       R180      14
+    C90       R196      15
+    C91       COST      21
+    C91       R24       7
+    C91       R34       16
+    C91       R62       19
+    C91       R79       16
+    C91       R96       9
+    C91       R104      3
+    C91       R112      4
+    C91       R142      3
+    C91       R184      2
+    C92       COST      1
+    C92       R19       15
+    C92       R25       12
+    C92       R51       13
+    C92       R52       14
+    C92       R73       11
+    C92       R94       9
+    C92       R99       10
+    C92       R136      12
+    C92       R159      1
+    C92       R162      4
+    C92       R166      16
+    C92       R170      3
+    C92       R177      10
+    C93       COST      3
+    C93       R6        4
+    C93       R12       7
+    C93       R18       9
+    C93       R20       14
+    C93       R39       10
+    C93       R47       19
+    C93       R52       2
+    C93       R61       1
+    C93       R63       8
+    C93       R68       11
+    C93       R83       19
+    C93       R111      3
+    C93       R145      20
+    C93       R147      6
+    C93       R194      10
+    C94       COST      14
+    C94       R31       11
+    C94       R32       9
+    C94       R39       4
+    C94       R44       7
+    C94       R47       5
+    C94       R54       17
+    C94       R66       18
+    C94       R77       20
+    C94       R82       14
+    C94       R104      19
+    C94       R111      18
+    C94       R114      12
+    C94       R130      7
+    C94       R152      15
+    C94       R155      4
+    C95       COST      19
+    C95       R13       7
+    C95       R17       16
+    C95       R30       6
+    C95       R40       18
+    C95       R51       17
+    C95       R56       12
+    C95       R69       2
+    C95       R81       5
+    C95       R102      10
+    C95       R139      1
+    C95       R149      8
+    C95       R161      19
+    C95       R185      11
+    C95       R186      14
+    C96       COST      30
+    C96       R6        11
+    C96       R10       4
+    C96       R14       2
+    C96       R21       18
+    C96       R40       18
+    C96       R50       10
+    C96       R85       19
+    C96       R97       2
+    C96       R104      6
+    C96       R149      18
+    C96       R152      19
+    C96       R155      6
+    C96       R166      16
+    C96       R173      12
+    C96       R194      16
+    C97       COST      12
+    C97       R27       12
+    C97       R28       13
+    C97       R36       12
+    C97       R48       16
+    C97       R81       12
+    C97       R82       18
+    C97       R85       13
+    C97       R86       18
+    C97       R137      19
+    C97       R144      12
+    C97       R146      14
+    C97       R160      2
+    C97       R181      1
+    C97       R196      15
+    C98       COST      29
+    C98       R3        1
+    C98       R9        5
+    C98       R32       16
+    C98       R34       3
+    C98       R54       17
+    C98       R84       10
+    C98       R90       3
+    C98       R105      11
+    C98       R109      8
+    C98       R116      9
+    C98       R150      20
+    C98       R154      5
+    C98       R174      8
+    C98       R193      4
+    C98       R194      9
+    C99       COST      17
+    C99       R11       10
+    C99       R37       12
+    C99       R38       12
+    C99       R41       4
+    C99       R52       5
+    C99       R54       15
+    C99       R73       4
+    C99       R85       19
+    C99       R88       14
+    C99       R92       11
+    C99       R99       4
+    C99       R156      20
+    C99       R168      4
+    C100      COST      12
+    C100      R24       8
+    C100      R53       12
+    C100      R89       18
+    C100      R106      16
+    C100      R125      1
+    C100      R129      15
+    C100      R154      19
+    C100      R180      9
+    C100      R190      4
+    C101      COST      6
+    C101      R1        14
+    C101      R47       4
+    C101      R80       7
+    C101      R82       10
+    C101      R86       2
+    C101      R95       11
+    C101      R154      20
+    C101      R179      11
+    C101      R181      11
+    C101      R193      14
+    C102      COST      6
+    C102      R5        8
+    C102      R14       10
+    C102      R45       7
+    C102      R46       9
+    C102      R66       1
+    C102      R98       14
+    C103      COST      15
+    C103      R8        11
+    C103      R22       11
+    C103      R50       10
+    C103      R53       9
+    C103      R56       14
+    C103      R144      6
+    C103      R151      10
+    C103      R155      10
+    C103      R167      2
+    C103      R189      15
+    C103      R196      17
+    C103      R200      8
+    C104      COST      25
+    C104      R9        19
+    C104      R14       16
+    C104      R17       20
+    C104      R18       15
+    C104      R36       12
+    C104      R61       2
+    C104      R119      18
+    C104      R128      1
+    C104      R142      17
+    C104      R182      12
+    C105      COST      4
+    C105      R25       2
+    C105      R30       14
+    C105      R127      5
+    C105      R128      2
+    C105      R158      13
+    C106      COST      7
+    C106      R9        7
+    C106      R21       7
+    C106      R42       11
+    C106      R60       5
+    C106      R88       5
+    C106      R97       2
+    C106      R99       3
+    C106      R131      1
+    C106      R161      14
+    C106      R171      17
+    C106      R173      17
+    C106      R180      15
+    C106      R183      11
+    C107      COST      27
+    C107      R27       7
+    C107      R60       5
+    C107      R67       15
+    C107      R76       15
+    C107      R78       14
+    C107      R90       15
+    C107      R99       17
+    C107      R100      2
+    C107      R118      4
+    C107      R124      7
+    C107      R151      8
+    C107      R163      15
+    C107      R164      18
+    C107      R182      5
+    C107      R197      7
+    C108      COST      12
+    C108      R3        17
+    C108      R9        3
+    C108      R22       14
+    C108      R25       10
+    C108      R30       8
+    C108      R34       10
+    C108      R92       19
+    C108      R125      11
+    C108      R127      4
+    C108      R152      10
+    C108      R153      14
+    C108      R157      15
+    C108      R179      19
+    C108      R198      10
+    C109      COST      30
+    C109      R7        3
+    C109      R33       10
+    C109      R48       14
+    C109      R52       8
+    C109      R64       7
+    C109      R76       9
+    C109      R87       13
+    C109      R94       9
+    C109      R126      2
+    C109      R127      14
+    C109      R191      2
+    C110      COST      20
+    C110      R40       10
+    C110      R80       8
+    C110      R87       8
+    C110      R90       20
+    C110      R132      6
+    C110      R175      6
+    C110      R194      13
+    C111      COST      14
+    C111      R10       3
+    C111      R20       18
+    C111      R30       20
+    C111      R36       4
+    C111      R94       1
+    C111      R103      8
+    C111      R109      2
+    C111      R140      8
+    C111      R169      17
+    C111      R186      8
+    C111      R197      18
+    C112      COST      30
+    C112      R44       16
+    C112      R49       4
+    C112      R58       17
+    C112      R78       13
+    C112      R97       9
+    C112      R106      14
+    C112      R120      10
+    C112      R126      7
+    C112      R163      4
+    C113      COST      1
+    C113      R13       6
+    C113      R67       13
+    C113      R70       20
+    C113      R73       5
+    C113      R82       12
+    C113      R99       15
+    C113      R135      7
+    C113      R156      8
+    C113      R172      14
+    C114      COST      18
+    C114      R2        6
+    C114      R27       16
+    C114      R39       6
+    C114      R41       20
+    C114      R121      16
+    C114      R139      10
+    C114      R153      16
+    C114      R158      4
+    C114      R166      10
+    C114      R178      1
+    C114      R194      16
+    C114      R195      6
+    C115      COST      21
+    C115      R3        3
+    C115      R24       19
+    C115      R25       3
+    C115      R79       9
+    C115      R80       19
+    C115      R88       14
+    C115      R105      11
+    C115      R113      14
+    C115      R119      19
+    C115      R184      3
+    C116      COST      15
+    C116      R1        11
+    C116      R36       3
+    C116      R46       18
+    C116      R50       7
+    C116      R51       16
+    C116      R82       6
+    C116      R127      17
+    C116      R128      10
+    C116      R129      17
+    C116      R153      8
+    C116      R169      17
+    C116      R173      6
+    C116      R175      1
+    C116      R197      15
+    C117      COST      4
+    C117      R10       19
+    C117      R69       3
+    C117      R85       1
+    C117      R91       11
+    C117      R97       6
+    C117      R182      1
+    C118      COST      11
+    C118      R12       14
+    C118      R18       7
+    C118      R63       7
+    C118      R168      4
+    C118      R169      4
+    C119      COST      26
+    C119      R23       10
+    C119      R32       14
+    C119      R41       10
+    C119      R71       15
+    C119      R80       17
+    C119      R100      20
+    C119      R163      17
+    C120      COST      15
+    C120      R40       2
+    C120      R47       10
+    C120      R48       20
+    C120      R70       8
+    C120      R91       18
+    C120      R129      4
+    C120      R141      11
+    C120      R148      4
+    C120      R170      13
+    C120      R198      10
+    C121      COST      8
+    C121      R34       8
+    C121      R69       3
+    C121      R71       9
+    C121      R87       8
+    C121      R89       13
+    C121      R92       9
+    C121      R129      8
+    C121      R133      18
+    C121      R143      8
+    C121      R157      1
+    C121      R166      14
+    C122      COST      3
+    C122      R21       11
+    C122      R29       20
+    C122      R46       6
+    C122      R59       15
+    C122      R90       5
+    C122      R112      3
+    C122      R113      20
+    C122      R115      12
+    C122      R153      19
+    C122      R180      2
+    C123      COST      6
+    C123      R69       6
+    C123      R103      8
+    C123      R142      6
+    C123      R144      14
+    C123      R156      12
+    C123      R159      7
+    C123      R174      15
+    C123      R178      13
+    C124      COST      1
+    C124      R6        6
+    C124      R61       2
+    C124      R70       6
+    C124      R126      4
+    C124      R148      13
+    C124      R156      8
+    C124      R170      19
+    C125      COST      13
+    C125      R5        1
+    C125      R37       16
+    C125      R47       6
+    C125      R57       16
+    C125      R77       14
+    C125      R105      3
+    C125      R152      1
+    C125      R156      15
+    C125      R165      11
+    C125      R171      13
+    C125      R174      1
+    C125      R176      9
+    C126      COST      28
+    C126      R24       10
+    C126      R34       2
+    C126      R38       19
+    C126      R85       5
+    C126      R113      5
+    C126      R133      11
+    C126      R146      14
+    C126      R171      16
+    C126      R173      16
+    C126      R177      10
+    C127      COST      22
+    C127      R17       2
+    C127      R21       12
+    C127      R55       12
+    C127      R69       3
+    C127      R88       2
+    C127      R140      12
+    C127      R163      17
+    C127      R168      9
+    C127      R192      2
+    C127      R195      19
+    C128      COST      25
+    C128      R4        20
+    C128      R29       7
+    C128      R57       14
+    C128      R58       7
+    C128      R69       3
+    C128      R86       6
+    C128      R109      4
+    C128      R110      3
+    C128      R123      16
+    C128      R133      2
+    C128      R159      9
+    C128      R182      17
+    C128      R194      6
+    C129      COST      30
+    C129      R36       19
+    C129      R80       7
+    C129      R106      10
+    C129      R107      12
+    C129      R121      11
+    C129      R126      6
+    C129      R133      12
+    C129      R134      12
+    C129      R136      19
+    C129      R151      15
+    C129      R199      14
+    C130      COST      9
+    C130      R3        1
+    C130      R20       9
+    C130      R35       13
+    C130      R69       8
+    C130      R117      14
+    C130      R155      19
+    C130      R162      20
+    C130      R196      1
+    C131      COST      25
+    C131      R29       1
+    C131      R35       20
+    C131      R38       18
+    C131      R42       13
+    C131      R48       14
+    C131      R49       15
+    C131      R70       3
+    C131      R73       12
+    C131      R89       13
+    C131      R116      19
+    C131      R175      14
+    C131      R184      14
+    C132      COST      10
+    C132      R8        15
+    C132      R47       20
+    C132      R53       17
+    C132      R59       15
+    C132      R81       15
+    C132      R94       10
+    C132      R159      13
+    C133      COST      15
+    C133      R11       10
+    C133      R26       19
+    C133      R38       2
+    C133      R79       12
+    C133      R97       4
+    C133      R101      2
+    C133      R105      15
+    C133      R126      10
+    C133      R167      11
+    C133      R193      16
+    C134      COST      7
+    C134      R8        19
+    C134      R23       12
+    C134      R91       11
+    C134      R98       10
+    C134      R123      1
+    C134      R124      5
+    C134      R171      19
+    C135      COST      30
+    C135      R35       2
+    C135      R48       4
+    C135      R55       20
+    C135      R58       9
+    C135      R134      14
+    C135      R158      19
+    C135      R168      7
+    C135      R175      7
+    C135      R191      14
+    C136      COST      14
+    C136      R12       1
+    C136      R22       7
+    C136      R51       10
+    C136      R56       4
+    C136      R80       19
+    C136      R95       8
+    C136      R141      2
+    C136      R142      2
+    C136      R151      4
+    C136      R158      3
+    C136      R168      10
+    C136      R176      20
+    C136      R187      5
+    C137      COST      29
+    C137      R30       19
+    C137      R70       15
+    C137      R109      5
+    C137      R113      18
+    C137      R117      8
+    C137      R121      5
+    C137      R145      19
+    C137      R192      6
+    C138      COST      1
+    C138      R25       18
+    C138      R27       15
+    C138      R66       11
+    C138      R72       6
+    C138      R82       17
+    C138      R121      19
+    C138      R190      19
+    C139      COST      4
+    C139      R26       2
+    C139      R40       12
+    C139      R64       2
+    C139      R90       19
+    C139      R95       8
+    C139      R98       11
+    C139      R101      18
+    C139      R113      6
+    C139      R122      3
+    C139      R147      8
+    C139      R150      19
+    C139      R165      20
+    C139      R185      6
+    C139      R190      3
+    C140      COST      4
+    C140      R58       17
+    C140      R147      5
+    C140      R157      13
+    C140      R162      14
+    C140      R190      12
+    C141      COST      25
+    C141      R52       20
+    C141      R58       9
+    C141      R84       1
+    C141      R92       3
+    C141      R116      17
+    C141      R135      7
+    C141      R146      13
+    C141      R156      8
+    C141      R167      2
+    C141      R183      4
+    C141      R184      19
+    C141      R190      3
+    C142      COST      22
+    C142      R11       3
+    C142      R13       11
+    C142      R44       14
+    C142      R50       19
+    C142      R148      16
+    C142      R149      14
+    C142      R151      3
+    C142      R165      8
+    C142      R196      14
+    C143      COST      7
+    C143      R41       15
+    C143      R42       11
+    C143      R54       1
+    C143      R57       18
+    C143      R74       16
+    C143      R76       11
+    C143      R79       9
+    C143      R80       18
+    C143      R140      20
+    C143      R174      2
+    C144      COST      14
+    C144      R14       16
+    C144      R58       14
+    C144      R66       1
+    C144      R72       10
+    C144      R95       13
+    C144      R110      1
+    C144      R112      11
+    C144      R163      11
+    C144      R167      15
+    C144      R191      5
+    C145      COST      15
+    C145      R36       4
+    C145      R39       15
+    C145      R71       3
+    C145      R96       1
+    C145      R98       7
+    C145      R99       14
+    C145      R115      9
+    C145      R116      2
+    C145      R158      13
+    C145      R172      9
+    C145      R179      10
+    C145      R200      6
+    C146      COST      26
+    C146      R13       15
+    C146      R25       1
+    C146      R41       14
+    C146      R42       19
+    C146      R50       12
+    C146      R56       14
+    C146      R66       14
+    C146      R129      9
+    C146      R130      14
+    C146      R164      18
+    C146      R169      4
+    C146      R173      8
+    C146      R188      19
+    C146      R193      12
+    C146      R195      6
+    C147      COST      24
+    C147      R76       19
+    C147      R98       19
+    C147      R105      13
+    C147      R115      7
+    C147      R124      12
+    C147      R162      9
+    C147      R164      19
+    C147      R168      12
+    C147      R177      8
+    C147      R188      3
+    C147      R200      18
+    C148      COST      24
+    C148      R34       4
+    C148      R37       11
+    C148      R44       7
+    C148      R85       9
+    C148      R122      13
+    C148      R133      2
+    C148      R138      17
+    C148      R196      18
+    C148      R197      13
+    C149      COST      29
+    C149      R7        10
+    C149      R21       16
+    C149      R51       5
+    C149      R68       9
+    C149      R83       4
+    C149      R104      4
+    C149      R116      15
+    C149      R122      15
+    C149      R123      13
+    C149      R127      1
+    C149      R141      12
+    C149      R174      8
+    C149      R177      8
+    C149      R199      16
+    C150      COST      18
+    C150      R48       19
+    C150      R97       17
+    C150      R108      11
+    C150      R129      10
+    C150      R142      10
+    C150      R192      6
+    C151      COST      17
+    C151      R14       9
+    C151      R21       3
+    C151      R24       14
+    C151      R57       20
+    C151      R77       16
+    C151      R89       18
+    C151      R91       2
+    C151      R96       2
+    C151      R126      19
+    C151      R154      13
+    C151      R168      1
+    C151      R192      14
+    C152      COST      11
+    C152      R2        6
+    C152      R36       20
+    C152      R38       18
+    C152      R41       9
+    C152      R98       1
+    C152      R158      3
+    C152      R173      6
+    C152      R176      1
+    C153      COST      18
+    C153      R11       8
+    C153      R13       18
+    C153      R21       11
+    C153      R23       10
+    C153      R25       8
+    C153      R34       9
+    C153      R113      9
+    C153      R153      12
+    C153      R171      16
+    C153      R197      20
+    C154      COST      13
+    C154      R7        15
+    C154      R29       2
+    C154      R34       12
+    C154      R41       4
+    C154      R45       12
+    C154      R60       7
+    C154      R63       11
+    C154      R93       5
+    C154      R140      8
+    C154      R177      15
+    C155      COST      28
+    C155      R42       15
+    C155      R98       9
+    C155      R111      1
+    C155      R135      5
+    C155      R141      14
+    C155      R143      1
+    C155      R144      11
+    C155      R155      12
+    C155      R160      4
+    C156      COST      26
+    C156      R6        17
+    C156      R41       16
+    C156      R101      3
+    C156      R106      15
+    C156      R121      14
+    C156      R124      12
+    C156      R127      6
+    C156      R131      10
+    C156      R154      3
+    C157      COST      20
+    C157      R7        2
+    C157      R10       15
+    C157      R17       3
+    C157      R43       3
+    C157      R69       13
+    C157      R71       9
+    C157      R79       12
+    C157      R84       11
+    C157      R93       4
+    C157      R107      14
+    C157      R109      20
+    C157      R123      5
+    C157      R125      17
+    C157      R142      4
+    C157      R146      14
+    C157      R164      1
+    C158      COST      22
+    C158      R1        11
+    C158      R27       3
+    C158      R30       16
+    C158      R91       16
+    C158      R122      20
+    C158      R142      19
+    C158      R153      10
+    C158      R200      15
+    C159      COST      7
+    C159      R10       14
+    C159      R19       2
+    C159      R30       7
+    C159      R47       10
+    C159      R61       8
+    C159      R77       18
+    C159      R81       18
+    C159      R85       3
+    C159      R158      19
+    C159      R172      8
+    C159      R200      17
+    C160      COST      1
+    C160      R9        1
+    C160      R28       13
+    C160      R58       16
+    C160      R71       19
+    C160      R80       15
+    C160      R85       13
+    C160      R102      17
+    C160      R112      10
+    C160      R120      17
+    C160      R144      10
+    C160      R146      3
+    C160      R149      15
+    C160      R184      12
+    C160      R188      11
+    C160      R192      14
+    C160      R198      9
+    C161      COST      14
+    C161      R5        4
+    C161      R31       3
+    C161      R39       4
+    C161      R56       10
+    C161      R89       20
+    C161      R90       16
+    C161      R102      7
+    C161      R109      15
+    C161      R149      19
+    C161      R184      9
+    C161      R199      6
+    C162      COST      25
+    C162      R9        4
+    C162      R32       20
+    C162      R44       8
+    C162      R80       14
+    C162      R115      13
+    C162      R140      9
+    C162      R163      19
+    C162      R168      11
+    C162      R169      20
+    C162      R172      6
+    C162      R176      17
+    C162      R179      9
+    C162      R180      5
+    C162      R184      16
+    C163      COST      11
+    C163      R10       14
+    C163      R11       15
+    C163      R15       6
+    C163      R44       6
+    C163      R91       20
+    C163      R103      16
+    C163      R191      12
+    C163      R195      6
+    C164      COST      19
+    C164      R7        12
+    C164      R9        17
+    C164      R45       2
+    C164      R61       2
+    C164      R64       9
+    C164      R91       11
+    C164      R98       14
+    C164      R114      16
+    C164      R143      1
+    C164      R158      5
+    C165      COST      29
+    C165      R40       1
+    C165      R43       12
+    C165      R48       14
+    C165      R72       5
+    C165      R87       15
+    C165      R95       4
+    C165      R191      17
+    C166      COST      13
+    C166      R16       14
+    C166      R31       12
+    C166      R40       13
+    C166      R68       5
+    C166      R76       10
+    C166      R104      15
+    C166      R105      4
+    C166      R119      16
+    C166      R121      1
+    C166      R122      15
+    C166      R144      12
+    C166      R160      6
+    C166      R162      3
+    C166      R163      12
+    C166      R168      18
+    C166      R172      13
+    C167      COST      30
+    C167      R1        17
+    C167      R3        18
+    C167      R39       8
+    C167      R46       11
+    C167      R48       16
+    C167      R49       12
+    C167      R78       8
+    C167      R79       6
+    C167      R97       9
+    C167      R126      2
+    C167      R136      10
+    C167      R146      16
+    C167      R185      11
+    C167      R195      19
+    C168      COST      19
+    C168      R4        6
+    C168      R74       2
+    C168      R75       4
+    C168      R111      5
+    C168      R118      5
+    C168      R127      12
+    C168      R131      11
+    C168      R175      16
+    C168      R188      5
+    C168      R199      13
+    C169      COST      27
+    C169      R25       13
+    C169      R44       7
+    C169      R59       4
+    C169      R61       3
+    C169      R76       13
+    C169      R108      14
+    C169      R128      20
+    C169      R173      9
+    C169      R181      15
+    C170      COST      22
+    C170      R17       4
+    C170      R37       6
+    C170      R53       1
+    C170      R84       19
+    C170      R128      14
+    C170      R129      1
+    C170      R169      19
+    C170      R173      8
+    C170      R177      8
+    C171      COST      28
+    C171      R4        5
+    C171      R16       9
+    C171      R23       15
+    C171      R39       12
+    C171      R60       5
+    C171      R85       13
+    C171      R101      1
+    C171      R122      9
+    C171      R142      1
+    C171      R151      1
+    C171      R169      19
+    C171      R191      17
+    C172      COST      25
+    C172      R19       6
+    C172      R26       17
+    C172      R39       2
+    C172      R47       14
+    C172      R77       15
+    C172      R85       16
+    C172      R113      10
+    C172      R127      17
+    C172      R180      5
+    C172      R193      17
+    C173      COST      28
+    C173      R50       10
+    C173      R54       11
+    C173      R55       11
+    C173      R97       8
+    C173      R103      5
+    C173      R111      13
+    C173      R127      13
+    C173      R135      7
+    C173      R149      9
+    C173      R188      14
+    C174      COST      20
+    C174      R17       11
+    C174      R26       8
+    C174      R28       14
+    C174      R42       6
+    C174      R43       13
+    C174      R66       15
+    C174      R79       4
+    C174      R82       8
+    C174      R101      7
+    C174      R149      20
+    C174      R195      13
+    C174      R197      16
+    C175      COST      8
+    C175      R28       3
+    C175      R43       19
+    C175      R57       9
+    C175      R60       14
+    C175      R71       20
+    C175      R96       19
+    C175      R103      8
+    C175      R106      7
+    C175      R110      19
+    C175      R124      2
+    C175      R136      17
+    C175      R177      18
+    C175      R180      11
+    C175      R181      2
+    C176      COST      11
+    C176      R9        5
+    C176      R34       18
+    C176      R65       5
+    C176      R68       2
+    C176      R82       20
+    C176      R106      5
+    C176      R155      10
+    C176      R178      8
+    C176      R185      2
+    C176      R197      13
+    C177      COST      20
+    C177      R22       4
+    C177      R27       11
+    C177      R28       3
+    C177      R53       6
+    C177      R153      16
+    C177      R173      3
+    C177      R182      10
+    C178      COST      4
+    C178      R12       16
+    C178      R24       14
+    C178      R29       8
+    C178      R50       5
+    C178      R80       4
+    C178      R102      12
+    C178      R128      4
+    C178      R155      13
+    C178      R164      17
+    C178      R166      18
+    C179      COST      20
+    C179      R12       13
+    C179      R20       18
+    C179      R22       9
+    C179      R57       17
+    C179      R61       8
+    C179      R77       10
+    C179      R126      2
+    C179      R132      11
+    C179      R145      20
+    C179      R153      18
+    C179      R166      16
+    C179      R199      5
+    C180      COST      14
+    C180      R25       4
+    C180      R72       20
+    C180      R77       14
+    C180      R126      11
+    C180      R162      4
+    C180      R166      20
+    C180      R175      12
+    C181      COST      14
+    C181      R2        15
+    C181      R8        10
+    C181      R27       19
+    C181      R37       20
+    C181      R47       9
+    C181      R68       10
+    C181      R87       2
+    C181      R105      19
+    C181      R111      9
+    C181      R125      9
+    C181      R126      21
+    C181      R174      20
+    C181      R198      3
+    C182      COST      30
+    C182      R18       9
+    C182      R47       16
+    C182      R59       7
+    C182      R63       18
+    C182      R94       18
+    C182      R115      1
+    C182      R122      13
+    C182      R134      6
+    C182      R139      6
+    C182      R177      6
+    C182      R178      19
+    C182      R180      18
+    C182      R194      12
+    C182      R198      15
+    C183      COST      27
+    C183      R33       4
+    C183      R44       10
+    C183      R68       16
+    C183      R115      6
+    C183      R126      14
+    C183      R128      12
+    C183      R130      3
+    C183      R135      20
+    C183      R149      15
+    C183      R161      13
+    C183      R188      6
+    C183      R194      15
+    C183      R195      6
+    C184      COST      30
+    C184      R7        5
+    C184      R11       8
+    C184      R32       20
+    C184      R33       2
+    C184      R92       9
+    C184      R94       3
+    C184      R103      10
+    C184      R115      19
+    C184      R124      14
+    C184      R143      9
+    C184      R151      9
+    C184      R193      9
+    C185      COST      29
+    C185      R8        5
+    C185      R17       4
+    C185      R32       3
+    C185      R38       6
+    C185      R42       9
+    C185      R75       3
+    C185      R76       11
+    C185      R92       9
+    C185      R95       13
+    C185      R131      2
+    C185      R138      15
+    C185      R156      3
+    C185      R161      20
+    C185      R171      7
+    C185      R178      17
+    C185      R191      13
+    C185      R194      20
+    C185      R197      8
+    C186      COST      14
+    C186      R6        1
+    C186      R36       16
+    C186      R54       10
+    C186      R70       9
+    C186      R100      17
+    C186      R106      2
+    C186      R131      11
+    C186      R137      10
+    C186      R155      1
+    C186      R160      1
+    C186      R165      13
+    C186      R173      15
+    C186      R181      19
+    C186      R182      13
+    C186      R194      14
+    C187      COST      29
+    C187      R1        13
+    C187      R28       16
+    C187      R51       14
+    C187      R55       6
+    C187      R67       3
+    C187      R97       19
+    C187      R113      13
+    C187      R128      10
+    C187      R130      11
+    C187      R144      4
+    C187      R145      2
+    C187      R152      19
+    C187      R159      11
+    C187      R162      5
+    C187      R170      9
+    C187      R171      17
+    C187      R189      18
+    C187      R192      15
+    C188      COST      10
+    C188      R42       16
+    C188      R44       20
+    C188      R63       18
+    C188      R116      16
+    C188      R182      2
+    C188      R194      11
+    C189      COST      30
+    C189      R22       9
+    C189      R26       16
+    C189      R32       20
+    C189      R59       10
+    C189      R68       8
+    C189      R96       14
+    C189      R118      10
+    C189      R136      10
+    C189      R150      7
+    C189      R163      9
+    C189      R167      18
+    C189      R174      1
+    C189      R177      13
+    C189      R182      18
+    C189      R194      4
+    C190      COST      5
+    C190      R3        19
+    C190      R8        12
+    C190      R49       18
+    C190      R106      7
+    C190      R140      19
+    C190      R153      16
+    C190      R165      10
+    C190      R197      18
+    C191      COST      11
+    C191      R24       18
+    C191      R26       15
+    C191      R118      17
+    C191      R119      7
+    C191      R144      9
+    C191      R152      8
+    C191      R176      20
+    C191      R177      7
+    C191      R189      3
+    C191      R199      14
+    C192      COST      19
+    C192      R2        12
+    C192      R9        12
+    C192      R17       3
+    C192      R21       1
+    C192      R61       4
+    C192      R75       7
+    C192      R77       13
+    C192      R83       5
+    C192      R182      11
+    C193      COST      9
+    C193      R3        7
+    C193      R9        17
+    C193      R14       16
+    C193      R17       10
+    C193      R18       1
+    C193      R22       9
+    C193      R41       1
+    C193      R51       20
+    C193      R54       8
+    C193      R125      15
+    C193      R146      17
+    C193      R176      15
+    C194      COST      4
+    C194      R16       12
+    C194      R47       16
+    C194      R85       6
+    C194      R122      13
+    C194      R137      18
+    C194      R140      5
+    C194      R152      18
+    C194      R162      8
+    C194      R163      17
+    C194      R169      6
+    C194      R188      19
+    C195      COST      25
+    C195      R10       12
+    C195      R29       6
+    C195      R43       18
+    C195      R64       11
+    C195      R69       17
+    C195      R77       4
+    C195      R113      14
+    C196      COST      20
+    C196      R26       9
+    C196      R75       8
+    C196      R85       17
+    C196      R89       10
+    C196      R92       18
+    C196      R99       15
+    C196      R101      16
+    C196      R109      14
+    C196      R144      20
+    C196      R146      19
+    C196      R157      8
+    C196      R186      8
+    C197      COST      17
+    C197      R17       3
+    C197      R42       11
+    C197      R48       19
+    C197      R49       7
+    C197      R69       7
+    C197      R104      9
+    C197      R109      13
+    C197      R114      11
+    C197      R147      16
+    C197      R163      1
+    C198      COST      7
+    C198      R7        19
+    C198      R49       11
+    C198      R66       15
+    C198      R77       20
+    C198      R97       16
+    C198      R162      17
+    C198      R184      20
+    C198      R185      20
+    C199      COST      11
+    C199      R32       17
+    C199      R33       2
+    C199      R36       11
+    C199      R57       17
+    C199      R58       14
+    C199      R80       13
+    C199      R82       1
+    C199      R86       17
+    C199      R90       8
+    C199      R101      17
+    C199      R117      14
+    C199      R140      9
+    C199      R158      14
+    C199      R180      15
+    C199      R190      10
+    C199      R197      11
+    C200      COST      24
+    C200      R6        10
+    C200      R8        5
+    C200      R17       14
+    C200      R44       9
+    C200      R48       18
+    C200      R59       2
+    C200      R72       9
+    C200      R78       4
+    C200      R81       4
+    C200      R107      1
+    C200      R111      15
+    C200      R141      19
+    C200      R144      9
+    C200      R184      9
+    C201      COST      29
+    C201      R15       9
+    C201      R18       7
+    C201      R24       10
+    C201      R37       10
+    C201      R66       9
+    C201      R77       4
+    C201      R119      12
+    C201      R144      16
+    C201      R148      9
+    C201      R176      16
+    C201      R180      7
+    C201      R192      2
+    C201      R200      9
+    C202      COST      16
+    C202      R34       18
+    C202      R58       16
+    C202      R62       12
+    C202      R63       7
+    C202      R81       18
+    C202      R84       7
+    C202      R92       16
+    C202      R121      10
+    C202      R158      5
+    C202      R169      18
+    C202      R190      10
+    C203      COST      12
+    C203      R3        8
+    C203      R13       12
+    C203      R27       20
+    C203      R32       8
+    C203      R33       8
+    C203      R70       16
+    C203      R80       1
+    C203      R85       5
+    C203      R118      7
+    C203      R130      20
+    C203      R131      8
+    C203      R139      3
+    C203      R154      14
+    C203      R173      7
+    C203      R197      14
+    C204      COST      24
+    C204      R15       16
+    C204      R46       1
+    C204      R50       19
+    C204      R60       10
+    C204      R90       4
+    C204      R100      13
+    C204      R126      18
+    C204      R195      11
+    C205      COST      13
+    C205      R4        6
+    C205      R18       3
+    C205      R33       16
+    C205      R35       3
+    C205      R44       7
+    C205      R52       5
+    C205      R55       1
+    C205      R73       10
+    C205      R82       1
+    C205      R98       9
+    C205      R131      12
+    C205      R147      15
+    C205      R184      4
+    C205      R194      4
+    C206      COST      6
+    C206      R8        2
+    C206      R16       20
+    C206      R50       18
+    C206      R60       14
+    C206      R92       14
+    C206      R122      4
+    C206      R175      11
+    C206      R183      5
+    C207      COST      4
+    C207      R25       19
+    C207      R44       2
+    C207      R50       16
+    C207      R73       4
+    C207      R96       11
+    C207      R105      4
+    C207      R178      19
+    C208      COST      1
+    C208      R12       12
+    C208      R20       12
+    C208      R27       16
+    C208      R54       4
+    C208      R71       1
+    C208      R92       5
+    C208      R102      5
+    C208      R161      4
+    C209      COST      17
+    C209      R4        12
+    C209      R36       9
+    C209      R74       6
+    C209      R84       3
+    C209      R134      7
+    C209      R158      10
+    C209      R173      5
+    C209      R198      6
+    C210      COST      9
+    C210      R53       17
+    C210      R122      15
+    C210      R186      13
+    C210      R191      10
+    C211      COST      2
+    C211      R8        16
+    C211      R14       6
+    C211      R16       11
+    C211      R48       6
+    C211      R56       13
+    C211      R113      17
+    C211      R119      5
+    C211      R133      20
+    C212      COST      19
+    C212      R10       7
+    C212      R13       3
+    C212      R21       7
+    C212      R52       11
+    C212      R71       20
+    C212      R77       18
+    C212      R99       8
+    C212      R111      1
+    C212      R162      18
+    C212      R164      18
+    C212      R166      9
+    C212      R169      2
+    C212      R179      3
+    C212      R180      4
+    C213      COST      14
+    C213      R50       4
+    C213      R52       7
+    C213      R73       7
+    C213      R120      19
+    C213      R122      4
+    C213      R137      10
+    C213      R146      5
+    C213      R170      2
+    C214      COST      30
+    C214      R68       3
+    C214      R115      7
+    C214      R131      16
+    C214      R156      5
+    C214      R177      4
+    C214      R190      18
+    C214      R191      1
+    C215      COST      24
+    C215      R5        3
+    C215      R44       17
+    C215      R93       9
+    C215      R108      17
+    C215      R145      14
+    C215      R149      13
+    C215      R193      15
+    C216      COST      23
+    C216      R18       12
+    C216      R31       16
+    C216      R44       4
+    C216      R83       5
+    C216      R90       10
+    C216      R112      1
+    C216      R114      13
+    C216      R122      10
+    C216      R134      12
+    C216      R143      19
+    C216      R151      7
+    C216      R161      16
+    C217      COST      11
+    C217      R22       19
+    C217      R26       3
+    C217      R37       15
+    C217      R86       6
+    C217      R88       14
+    C217      R105      1
+    C217      R115      13
+    C217      R141      2
+    C217      R146      20
+    C217      R176      9
+    C217      R182      6
+    C218      COST      19
+    C218      R4        10
+    C218      R12       10
+    C218      R29       14
+    C218      R61       17
+    C218      R94       15
+    C218      R98       11
+    C218      R111      15
+    C218      R113      1
+    C218      R116      16
+    C218      R138      6
+    C218      R161      15
+    C218      R163      6
+    C218      R164      1
+    C218      R174      14
+    C218      R177      9
+    C219      COST      7
+    C219      R26       10
+    C219      R31       7
+    C219      R44       1
+    C219      R63       8
+    C219      R66       14
+    C219      R68       7
+    C219      R84       3
+    C219      R87       20
+    C219      R91       20
+    C219      R135      17
+    C219      R143      4
+    C219      R163      11
+    C219      R168      11
+    C219      R174      9
+    C219      R191      9
+    C219      R200      1
+    C220      COST      18
+    C220      R8        19
+    C220      R24       18
+    C220      R54       5
+    C220      R94       9
+    C220      R96       11
+    C220      R99       10
+    C220      R188      20
+    C220      R190      4
+    C221      COST      5
+    C221      R1        12
+    C221      R51       16
+    C221      R82       7
+    C221      R84       16
+    C221      R139      1
+    C221      R180      18
+    C221      R191      7
+    C222      COST      14
+    C222      R4        13
+    C222      R9        12
+    C222      R33       7
+    C222      R44       14
+    C222      R58       13
+    C222      R74       14
+    C222      R75       17
+    C222      R90       2
+    C222      R98       19
+    C222      R105      10
+    C222      R149      8
+    C222      R152      6
+    C223      COST      26
+    C223      R29       13
+    C223      R45       20
+    C223      R53       8
+    C223      R75       7
+    C223      R80       17
+    C223      R83       17
+    C223      R152      6
+    C223      R154      7
+    C223      R184      10
+    C223      R190      8
+    C223      R191      10
+    C224      COST      17
+    C224      R1        8
+    C224      R3        7
+    C224      R26       7
+    C224      R31       1
+    C224      R48       17
+    C224      R111      2
+    C224      R136      1
+    C224      R151      12
+    C224      R171      6
+    C224      R174      14
+    C224      R193      20
+    C225      COST      8
+    C225      R41       8
+    C225      R47       4
+    C225      R55       4
+    C225      R57       14
+    C225      R60       20
+    C225      R78       1
+    C225      R84       16
+    C225      R104      11
+    C225      R165      2
+    C226      COST      24
+    C226      R5        9
+    C226      R9        4
+    C226      R11       7
+    C226      R34       20
+    C226      R65       10
+    C226      R80       12
+    C226      R81       3
+    C226      R95       7
+    C226      R103      6
+    C226      R140      9
+    C226      R145      13
+    C226      R149      10
+    C226      R161      9
+    C226      R189      16
+    C226      R196      20
+    C226      R197      8
+    C227      COST      16
+    C227      R25       8
+    C227      R54       5
+    C227      R65       12
+    C227      R107      9
+    C227      R137      15
+    C227      R148      17
+    C227      R196      7
+    C228      COST      26
+    C228      R38       5
+    C228      R99       5
+    C228      R112      13
+    C228      R126      12
+    C228      R150      1
+    C228      R158      19
+    C228      R159      6
+    C228      R178      10
+    C229      COST      7
+    C229      R7        7
+    C229      R19       9
+    C229      R50       1
+    C229      R52       4
+    C229      R73       8
+    C229      R81       12
+    C229      R97       1
+    C229      R108      15
+    C229      R128      2
+    C229      R130      16
+    C229      R133      7
+    C229      R140      8
+    C229      R149      15
+    C229      R174      10
+    C230      COST      21
+    C230      R5        17
+    C230      R6        3
+    C230      R17       20
+    C230      R29       3
+    C230      R30       16
+    C230      R37       10
+    C230      R41       20
+    C230      R48       17
+    C230      R81       17
+    C230      R92       15
+    C231      COST      14
+    C231      R2        17
+    C231      R10       4
+    C231      R12       11
+    C231      R20       3
+    C231      R24       11
+    C231      R40       9
+    C231      R68       7
+    C231      R78       12
+    C231      R107      14
+    C231      R123      20
+    C231      R140      13
+    C231      R153      7
+    C231      R197      6
+    C232      COST      2
+    C232      R10       9
+    C232      R29       13
+    C232      R32       10
+    C232      R35       18
+    C232      R50       19
+    C232      R63       15
+    C232      R87       16
+    C232      R118      1
+    C232      R180      14
+    C232      R184      17
+    C232      R188      17
+    C232      R198      3
+    C233      COST      29
+    C233      R36       7
+    C233      R42       18
+    C233      R77       2
+    C233      R85       2
+    C233      R86       18
+    C233      R93       6
+    C233      R106      17
+    C233      R107      20
+    C233      R112      3
+    C233      R122      14
+    C233      R137      11
+    C233      R145      7
+    C233      R175      3
+    C233      R195      2
+    C234      COST      16
+    C234      R27       7
+    C234      R36       4
+    C234      R56       4
+    C234      R140      19
+    C234      R169      12
+    C234      R179      7
+    C234      R190      6
+    C234      R193      14
+    C235      COST      6
+    C235      R51       6
+    C235      R66       8
+    C235      R85       3
+    C235      R92       18
+    C235      R102      7
+    C235      R103      20
+    C235      R115      18
+    C235      R125      9
+    C235      R136      19
+    C235      R143      7
+    C235      R154      14
+    C236      COST      7
+    C236      R20       9
+    C236      R23       15
+    C236      R26       5
+    C236      R33       4
+    C236      R90       17
+    C236      R106      5
+    C236      R139      7
+    C236      R145      9
+    C236      R168      17
+    C236      R179      14
+    C237      COST      21
+    C237      R21       11
+    C237      R43       17
+    C237      R49       9
+    C237      R69       7
+    C237      R76       9
+    C237      R112      11
+    C237      R125      10
+    C237      R136      7
+    C237      R158      19
+    C237      R195      14
+    C237      R200      10
+    C238      COST      9
+    C238      R14       7
+    C238      R16       14
+    C238      R34       5
+    C238      R47       12
+    C238      R49       16
+    C238      R70       8
+    C238      R80       8
+    C238      R127      6
+    C238      R128      3
+    C238      R133      19
+    C238      R162      4
+    C238      R178      4
+    C238      R200      8
+    C239      COST      24
+    C239      R31       16
+    C239      R32       2
+    C239      R84       16
+    C239      R98       8
+    C239      R107      1
+    C239      R151      17
+    C240      COST      21
+    C240      R4        17
+    C240      R41       17
+    C240      R91       9
+    C240      R128      18
+    C240      R138      8
+    C240      R187      14
+    C241      COST      7
+    C241      R21       16
+    C241      R77       18
+    C241      R95       6
+    C241      R125      19
+    C241      R135      2
+    C241      R150      13
+    C241      R162      1
+    C241      R197      11
+    C241      R200      1
+    C242      COST      6
+    C242      R2        13
+    C242      R4        16
+    C242      R80       14
+    C242      R88       5
+    C242      R133      4
+    C242      R166      11
+    C242      R190      12
+    C243      COST      30
+    C243      R13       4
+    C243      R40       19
+    C243      R54       9
+    C243      R74       5
+    C243      R86       3
+    C243      R100      2
+    C243      R103      1
+    C243      R111      6
+    C243      R124      19
+    C243      R148      16
+    C243      R186      13
+    C244      COST      14
+    C244      R14       7
+    C244      R51       19
+    C244      R61       12
+    C244      R65       10
+    C244      R91       20
+    C244      R101      3
+    C244      R119      11
+    C244      R131      3
+    C244      R141      1
+    C244      R178      16
+    C245      COST      19
+    C245      R46       1
+    C245      R71       1
+    C245      R86       2
+    C245      R87       9
+    C245      R157      17
+    C245      R169      1
+    C246      COST      19
+    C246      R30       5
+    C246      R31       13
+    C246      R32       1
+    C246      R37       2
+    C246      R50       7
+    C246      R54       13
+    C246      R63       3
+    C246      R65       14
+    C246      R67       13
+    C246      R71       17
+    C246      R91       10
+    C246      R150      16
+    C246      R156      5
+    C246      R164      16
+    C246      R172      4
+    C246      R178      12
+    C246      R196      6
+    C246      R198      2
+    C247      COST      24
+    C247      R4        13
+    C247      R12       13
+    C247      R14       18
+    C247      R25       18
+    C247      R51       12
+    C247      R66       1
+    C247      R157      17
+    C247      R161      14
+    C247      R165      13
+    C248      COST      26
+    C248      R12       3
+    C248      R25       10
+    C248      R32       5
+    C248      R40       18
+    C248      R49       2
+    C248      R53       14
+    C248      R62       15
+    C248      R70       16
+    C248      R72       20
+    C248      R73       11
+    C248      R100      13
+    C248      R158      8
+    C249      COST      27
+    C249      R12       9
+    C249      R18       8
+    C249      R24       15
+    C249      R62       13
+    C249      R88       12
+    C249      R104      13
+    C249      R107      11
+    C249      R124      11
+    C249      R196      17
+    C249      R198      18
+    C249      R199      9
+    C250      COST      8
+    C250      R39       16
+    C250      R68       3
+    C250      R76       10
+    C250      R85       14
+    C250      R88       3
+    C250      R97       11
+    C250      R100      4
+    C250      R123      13
+    C250      R134      13
+    C250      R141      2
+    C250      R154      8
+    C250      R177      14
+    C251      COST      17
+    C251      R24       4
+    C251      R30       11
+    C251      R59       3
+    C251      R65       13
+    C251      R81       2
+    C251      R88       15
+    C251      R136      13
+    C251      R143      10
+    C251      R156      10
+    C251      R159      1
+    C251      R160      8
+    C252      COST      23
+    C252      R3        13
+    C252      R8        19
+    C252      R31       19
+    C252      R73       14
+    C252      R107      2
+    C252      R140      16
+    C252      R152      9
+    C252      R156      8
+    C252      R172      3
+    C253      COST      24
+    C253      R21       9
+    C253      R79       13
+    C253      R84       8
+    C253      R91       11
+    C253      R99       9
+    C253      R101      12
+    C253      R110      17
+    C253      R131      11
+    C253      R145      17
+    C253      R173      16
+    C253      R189      16
+    C254      COST      13
+    C254      R17       12
+    C254      R33       5
+    C254      R35       1
+    C254      R45       10
+    C254      R132      11
+    C254      R137      13
+    C254      R139      10
+    C254      R155      15
+    C254      R178      1
+    C254      R190      4
+    C254      R194      2
+    C255      COST      7
+    C255      R15       17
+    C255      R16       7
+    C255      R29       16
+    C255      R34       12
+    C255      R54       4
+    C255      R80       1
+    C255      R86       8
+    C255      R112      1
+    C255      R114      16
+    C255      R149      14
+    C255      R155      13
+    C255      R161      15
+    C255      R178      7
+    C255      R181      20
+    C256      COST      11
+    C256      R2        12
+    C256      R46       6
+    C256      R56       11
+    C256      R89       6
+    C256      R106      3
+    C256      R115      1
+    C256      R150      9
+    C256      R154      3
+    C256      R167      4
+    C256      R183      20
+    C256      R199      3
+    C257      COST      10
+    C257      R11       20
+    C257      R36       8
+    C257      R46       3
+    C257      R65       17
+    C257      R82       19
+    C257      R91       12
+    C257      R127      9
+    C257      R157      20
+    C257      R169      15
+    C257      R186      15
+    C257      R188      15
+    C257      R200      14
+    C258      COST      2
+    C258      R17       5
+    C258      R36       12
+    C258      R40       19
+    C258      R57       10
+    C258      R67       7
+    C258      R79       2
+    C258      R89       10
+    C258      R94       15
+    C258      R128      13
+    C258      R170      5
+    C259      COST      22
+    C259      R14       8
+    C259      R22       16
+    C259      R24       18
+    C259      R37       1
+    C259      R45       11
+    C259      R53       6
+    C259      R74       8
+    C259      R107      17
+    C259      R134      13
+    C259      R150      18
+    C259      R169      18
+    C259      R174      17
+    C260      COST      9
+    C260      R43       16
+    C260      R51       19
+    C260      R85       9
+    C260      R138      8
+    C260      R147      20
+    C260      R149      12
+    C260      R177      15
+    C260      R179      13
+    C261      COST      4
+    C261      R18       13
+    C261      R25       5
+    C261      R27       9
+    C261      R69       19
+    C261      R77       18
+    C261      R79       9
+    C261      R100      19
+    C261      R117      1
+    C261      R142      1
+    C261      R144      20
+    C261      R192      18
+    C262      COST      3
+    C262      R1        6
+    C262      R3        20
+    C262      R17       20
+    C262      R25       6
+    C262      R44       4
+    C262      R95       2
+    C262      R115      11
+    C262      R129      17
+    C262      R130      15
+    C262      R132      8
+    C262      R145      18
+    C262      R156      18
+    C262      R164      2
+    C262      R187      17
+    C263      COST      4
+    C263      R5        19
+    C263      R9        3
+    C263      R30       1
+    C263      R36       12
+    C263      R66       2
+    C263      R112      2
+    C263      R117      2
+    C263      R150      16
+    C263      R153      1
+    C263      R159      13
+    C263      R173      3
+    C263      R174      4
+    C264      COST      28
+    C264      R4        16
+    C264      R6        18
+    C264      R9        5
+    C264      R27       16
+    C264      R44       15
+    C264      R109      19
+    C264      R122      7
+    C264      R134      17
+    C264      R167      5
+    C264      R173      8
+    C264      R193      2
+    C265      COST      16
+    C265      R15       17
+    C265      R39       15
+    C265      R67       9
+    C265      R116      5
+    C265      R162      20
+    C265      R165      7
+    C266      COST      4
+    C266      R6        3
+    C266      R7        12
+    C266      R9        3
+    C266      R28       8
+    C266      R40       8
+    C266      R51       18
+    C266      R85       12
+    C266      R91       8
+    C266      R100      20
+    C266      R125      1
+    C266      R129      6
+    C266      R164      5
+    C266      R180      6
+    C266      R195      11
+    C267      COST      3
+    C267      R6        18
+    C267      R18       19
+    C267      R31       2
+    C267      R41       10
+    C267      R77       14
+    C267      R95       3
+    C267      R111      7
+    C267      R116      10
+    C267      R120      1
+    C267      R132      20
+    C267      R133      20
+    C267      R139      13
+    C267      R158      3
+    C267      R159      1
+    C267      R165      12
+    C267      R170      9
+    C267      R171      14
+    C267      R185      4
+    C267      R198      10
+    C268      COST      5
+    C268      R5        6
+    C268      R26       6
+    C268      R49       9
+    C268      R53       11
+    C268      R81       6
+    C268      R84       14
+    C268      R85       4
+    C268      R89       1
+    C268      R91       3
+    C268      R105      8
+    C268      R108      18
+    C268      R111      15
+    C268      R158      10
+    C268      R194      5
+    C269      COST      14
+    C269      R24       8
+    C269      R28       6
+    C269      R69       14
+    C269      R111      6
+    C269      R125      15
+    C269      R134      10
+    C269      R179      10
+    C270      COST      11
+    C270      R16       4
+    C270      R44       14
+    C270      R50       15
+    C270      R52       4
+    C270      R72       8
+    C270      R88       3
+    C270      R115      19
+    C270      R124      15
+    C270      R177      17
+    C270      R197      16
+    C271      COST      5
+    C271      R29       17
+    C271      R44       12
+    C271      R50       3
+    C271      R59       15
+    C271      R115      20
+    C271      R134      16
+    C271      R171      17
+    C271      R193      2
+    C272      COST      16
+    C272      R30       19
+    C272      R44       11
+    C272      R54       19
+    C272      R55       15
+    C272      R58       12
+    C272      R69       20
+    C272      R84       12
+    C272      R104      10
+    C272      R114      16
+    C272      R150      19
+    C272      R157      4
+    C272      R175      10
+    C272      R181      4
+    C272      R187      8
+    C273      COST      28
+    C273      R9        8
+    C273      R52       4
+    C273      R60       11
+    C273      R122      7
+    C273      R130      3
+    C273      R149      5
+    C273      R196      18
+    C274      COST      1
+    C274      R21       15
+    C274      R26       9
+    C274      R30       18
+    C274      R42       9
+    C274      R84       11
+    C274      R91       2
+    C274      R136      4
+    C274      R141      20
+    C274      R156      2
+    C274      R166      6
+    C275      COST      20
+    C275      R5        20
+    C275      R54       19
+    C275      R86       8
+    C275      R109      13
+    C275      R161      13
+    C275      R172      8
+    C275      R178      4
+    C275      R182      2
+    C276      COST      29
+    C276      R31       1
+    C276      R43       11
+    C276      R86       8
+    C276      R92       8
+    C276      R98       9
+    C276      R109      10
+    C276      R122      5
+    C276      R149      19
+    C276      R161      13
+    C276      R165      12
+    C276      R169      19
+    C276      R177      17
+    C276      R199      11
+    C277      COST      3
+    C277      R63       2
+    C277      R110      7
+    C277      R127      16
+    C277      R130      11
+    C277      R138      1
+    C277      R157      20
+    C277      R167      11
+    C277      R173      11
+    C277      R191      1
+    C277      R194      16
+    C278      COST      23
+    C278      R6        6
+    C278      R26       14
+    C278      R27       12
+    C278      R34       12
+    C278      R61       9
+    C278      R101      20
+    C278      R130      6
+    C278      R140      1
+    C278      R153      19
+    C278      R184      19
+    C278      R197      18
+    C279      COST      10
+    C279      R65       9
+    C279      R70       18
+    C279      R73       17
+    C279      R93       1
+    C279      R145      14
+    C279      R147      12
+    C279      R150      12
+    C279      R158      1
+    C279      R188      2
+    C280      COST      23
+    C280      R23       12
+    C280      R44       1
+    C280      R85       3
+    C280      R106      9
+    C280      R124      18
+    C280      R147      10
+    C280      R156      8
+    C280      R177      16
+    C281      COST      12
+    C281      R8        3
+    C281      R25       11
+    C281      R47       13
+    C281      R52       10
+    C281      R62       2
+    C281      R63       16
+    C281      R64       15
+    C281      R75       8
+    C281      R85       15
+    C281      R109      10
+    C281      R127      8
+    C281      R135      15
+    C281      R140      3
+    C281      R152      9
+    C281      R164      13
+    C281      R170      3
+    C281      R196      5
+    C282      COST      11
+    C282      R6        15
+    C282      R33       7
+    C282      R58       3
+    C282      R62       1
+    C282      R106      2
+    C282      R110      14
+    C282      R114      3
+    C282      R116      1
+    C282      R134      6
+    C282      R143      5
+    C282      R144      14
+    C283      COST      7
+    C283      R5        12
+    C283      R16       15
+    C283      R20       16
+    C283      R29       5
+    C283      R62       8
+    C283      R73       11
+    C283      R99       2
+    C283      R103      2
+    C283      R108      4
+    C283      R126      17
+    C283      R153      7
+    C283      R161      3
+    C283      R182      3
+    C284      COST      23
+    C284      R6        16
+    C284      R12       5
+    C284      R20       12
+    C284      R29       10
+    C284      R40       18
+    C284      R58       8
+    C284      R84       15
+    C284      R112      19
+    C284      R142      13
+    C284      R183      11
+    C284      R187      2
+    C284      R191      1
+    C285      COST      17
+    C285      R12       17
+    C285      R15       16
+    C285      R46       19
+    C285      R47       12
+    C285      R106      17
+    C285      R121      2
+    C285      R133      10
+    C285      R142      16
+    C285      R172      20
+    C285      R175      13
+    C285      R183      12
+    C285      R197      18
+    C285      R200      2
+    C286      COST      13
+    C286      R8        3
+    C286      R47       16
+    C286      R53       5
+    C286      R57       12
+    C286      R60       6
+    C286      R67       19
+    C286      R69       16
+    C286      R74       3
+    C286      R79       15
+    C286      R86       9
+    C286      R89       8
+    C286      R104      8
+    C286      R114      8
+    C286      R156      12
+    C286      R157      20
+    C287      COST      7
+    C287      R19       8
+    C287      R55       4
+    C287      R64       10
+    C287      R67       5
+    C287      R81       7
+    C287      R111      3
+    C287      R113      17
+    C287      R122      20
+    C287      R156      3
+    C287      R173      6
+    C287      R181      19
+    C287      R191      13
+    C288      COST      18
+    C288      R4        16
+    C288      R34       2
+    C288      R66       12
+    C288      R81       16
+    C288      R86       12
+    C288      R131      14
+    C288      R147      15
+    C289      COST      16
+    C289      R8        9
+    C289      R31       19
+    C289      R33       3
+    C289      R39       2
+    C289      R50       1
+    C289      R55       2
+    C289      R77       7
+    C289      R78       9
+    C289      R99       18
+    C289      R110      17
+    C289      R116      9
+    C289      R130      2
+    C289      R140      8
+    C289      R161      2
+    C289      R181      17
+    C290      COST      22
+    C290      R19       20
+    C290      R43       5
+    C290      R56       20
+    C290      R65       16
+    C290      R73       4
+    C290      R91       7
+    C290      R94       10
+    C290      R112      8
+    C290      R151      12
+    C290      R160      12
+    C290      R193      10
+    C291      COST      7
+    C291      R25       6
+    C291      R33       18
+    C291      R86       17
+    C291      R110      17
+    C291      R123      15
+    C291      R133      9
+    C291      R134      11
+    C291      R155      4
+    C291      R164      8
+    C291      R168      5
+    C292      COST      17
+    C292      R50       14
+    C292      R65       4
+    C292      R78       3
+    C292      R96       5
+    C292      R132      14
+    C292      R140      17
+    C292      R158      19
+    C292      R176      18
+    C292      R189      5
+    C293      COST      18
+    C293      R9        4
+    C293      R11       13
+    C293      R25       8
+    C293      R41       11
+    C293      R73       6
+    C293      R99       2
+    C293      R107      4
+    C293      R125      5
+    C293      R132      17
+    C293      R142      12
+    C293      R155      2
+    C293      R157      5
+    C293      R163      17
+    C293      R182      3
+    C293      R199      18
+    C294      COST      29
+    C294      R10       3
+    C294      R33       15
+    C294      R55       17
+    C294      R70       14
+    C294      R77       10
+    C294      R103      19
+    C294      R108      3
+    C294      R139      17
+    C294      R169      3
+    C294      R179      10
+    C294      R197      2
+    C295      COST      20
+    C295      R90       12
+    C295      R104      14
+    C295      R116      13
+    C295      R124      16
+    C295      R140      19
+    C295      R141      2
+    C295      R147      11
+    C295      R167      3
+    C295      R172      9
+    C295      R187      3
+    C295      R199      9
+    C296      COST      24
+    C296      R2        7
+    C296      R48       20
+    C296      R84       13
+    C296      R93       19
+    C296      R121      13
+    C296      R148      2
+    C296      R168      4
+    C296      R194      6
+    C296      R199      10
+    C297      COST      3
+    C297      R4        6
+    C297      R77       20
+    C297      R82       4
+    C297      R96       11
+    C297      R113      19
+    C297      R118      4
+    C297      R146      19
+    C297      R154      20
+    C297      R181      11
+    C298      COST      19
+    C298      R25       9
+    C298      R43       5
+    C298      R54       17
+    C298      R84       16
+    C298      R96       11
+    C298      R152      18
+    C298      R178      12
+    C298      R187      8
+    C298      R190      2
+    C298      R194      17
+    C299      COST      24
+    C299      R21       11
+    C299      R45       16
+    C299      R80       10
+    C299      R89       15
+    C299      R98       16
+    C299      R120      1
+    C299      R124      3
+    C299      R130      16
+    C299      R143      6
+    C299      R154      6
+    C299      R155      20
+    C299      R169      5
+    C299      R174      4
+    C299      R184      8
+    C299      R185      9
+    C300      COST      27
+    C300      R27       6
+    C300      R88       4
+    C300      R97       8
+    C300      R99       20
+    C300      R105      5
+    C300      R108      6
+    C300      R117      6
+    C300      R130      7
+    C300      R164      10
+    C300      R167      11
+    C300      R168      5
+    C300      R192      17
+    C301      COST      3
+    C301      R12       20
+    C301      R23       14
+    C301      R27       17
+    C301      R50       7
+    C301      R53       10
+    C301      R69       8
+    C301      R90       10
+    C301      R171      1
+    C301      R192      12
+    C302      COST      23
+    C302      R1        5
+    C302      R54       8
+    C302      R75       16
+    C302      R113      19
+    C302      R120      17
+    C302      R146      20
+    C302      R183      8
+    C303      COST      17
+    C303      R3        18
+    C303      R21       18
+    C303      R49       16
+    C303      R62       19
+    C303      R64       18
+    C303      R114      18
+    C303      R133      13
+    C303      R152      11
+    C304      COST      10
+    C304      R30       12
+    C304      R76       3
+    C304      R155      18
+    C304      R177      17
+    C304      R180      11
+    C304      R182      14
+    C305      COST      3
+    C305      R32       20
+    C305      R60       18
+    C305      R96       8
+    C305      R106      1
+    C305      R110      14
+    C305      R113      14
+    C305      R123      6
+    C305      R150      13
+    C305      R156      4
+    C305      R166      10
+    C305      R178      13
+    C305      R191      15
+    C306      COST      22
+    C306      R66       13
+    C306      R70       14
+    C306      R95       17
+    C306      R118      19
+    C306      R123      12
+    C306      R192      20
+    C307      COST      8
+    C307      R11       15
+    C307      R17       2
+    C307      R40       9
+    C307      R67       16
+    C307      R74       9
+    C307      R78       14
+    C307      R83       4
+    C307      R86       13
+    C307      R95       10
+    C307      R180      14
+    C307      R185      3
+    C307      R200      1
+    C308      COST      23
+    C308      R7        3
+    C308      R39       9
+    C308      R45       2
+    C308      R51       16
+    C308      R59       6
+    C308      R68       14
+    C308      R85       5
+    C308      R89       17
+    C308      R117      4
+    C308      R130      16
+    C308      R144      4
+    C308      R184      8
+    C308      R191      17
+    C308      R192      14
+    C309      COST      16
+    C309      R7        13
+    C309      R20       5
+    C309      R32       14
+    C309      R48       9
+    C309      R76       20
+    C309      R82       17
+    C309      R100      18
+    C309      R129      8
+    C309      R148      10
+    C309      R172      13
+    C309      R174      1
+    C310      COST      27
+    C310      R22       18
+    C310      R59       9
+    C310      R81       8
+    C310      R84       3
+    C310      R99       16
+    C310      R105      16
+    C310      R162      17
+    C310      R168      12
+    C311      COST      19
+    C311      R14       11
+    C311      R23       6
+    C311      R50       13
+    C311      R51       11
+    C311      R88       16
+    C311      R102      3
+    C311      R134      16
+    C311      R153      1
+    C312      COST      23
+    C312      R25       1
+    C312      R45       1
+    C312      R63       16
+    C312      R127      12
+    C312      R129      14
+    C312      R138      18
+    C312      R158      2
+    C312      R164      18
+    C312      R171      6
+    C312      R180      13
+    C313      COST      2
+    C313      R23       4
+    C313      R41       2
+    C313      R45       6
+    C313      R78       2
+    C313      R85       3
+    C313      R145      17
+    C313      R157      15
+    C313      R161      3
+    C313      R165      12
+    C313      R178      4
+    C313      R190      17
+    C313      R192      10
+    C314      COST      17
+    C314      R15       13
+    C314      R67       5
+    C314      R83       19
+    C314      R91       16
+    C314      R100      6
+    C314      R103      5
+    C314      R113      16
+    C314      R114      7
+    C314      R122      7
+    C314      R166      16
+    C314      R188      7
+    C314      R191      1
+    C314      R196      11
+    C315      COST      29
+    C315      R29       12
+    C315      R30       13
+    C315      R31       14
+    C315      R41       12
+    C315      R50       15
+    C315      R62       14
+    C315      R78       19
+    C315      R120      16
+    C316      COST      5
+    C316      R54       9
+    C316      R160      11
+    C316      R170      3
+    C316      R176      3
+    C316      R182      5
+    C316      R190      17
+    C317      COST      8
+    C317      R2        14
+    C317      R30       17
+    C317      R39       10
+    C317      R71       15
+    C317      R105      17
+    C317      R114      5
+    C317      R122      11
+    C317      R196      18
+    C318      COST      22
+    C318      R4        16
+    C318      R16       4
+    C318      R22       19
+    C318      R58       7
+    C318      R62       11
+    C318      R108      16
+    C318      R122      4
+    C318      R125      2
+    C318      R143      10
+    C318      R147      17
+    C318      R197      8
+    C319      COST      4
+    C319      R9        13
+    C319      R38       18
+    C319      R99       17
+    C319      R114      3
+    C319      R132      16
+    C319      R145      6
+    C319      R148      12
+    C319      R156      18
+    C319      R159      12
+    C320      COST      24
+    C320      R26       10
+    C320      R35       14
+    C320      R80       10
+    C320      R87       14
+    C320      R165      12
+    C320      R173      6
+    C320      R174      1
+    C320      R192      9
+    C320      R194      5
+    C321      COST      5
+    C321      R43       18
+    C321      R49       11
+    C321      R64       19
+    C321      R66       11
+    C321      R67       11
+    C321      R71       7
+    C321      R90       20
+    C321      R91       2
+    C321      R109      14
+    C321      R113      1
+    C321      R116      13
+    C321      R124      19
+    C321      R144      12
+    C321      R150      4
+    C321      R161      20
+    C321      R188      2
+    C321      R193      1
+    C321      R195      14
+    C322      COST      3
+    C322      R18       8
+    C322      R21       18
+    C322      R28       6
+    C322      R54       10
+    C322      R79       15
+    C322      R86       3
+    C322      R120      3
+    C322      R137      3
+    C322      R188      6
+    C323      COST      18
+    C323      R14       12
+    C323      R34       15
+    C323      R45       8
+    C323      R50       5
+    C323      R65       4
+    C323      R76       14
+    C323      R85       20
+    C323      R116      16
+    C323      R190      14
+    C324      COST      25
+    C324      R8        8
+    C324      R12       4
+    C324      R22       12
+    C324      R23       16
+    C324      R42       2
+    C324      R113      1
+    C324      R119      15
+    C324      R129      6
+    C325      COST      28
+    C325      R23       5
+    C325      R39       17
+    C325      R52       11
+    C325      R55       2
+    C325      R60       4
+    C325      R86       6
+    C325      R96       7
+    C325      R97       4
+    C325      R102      19
+    C325      R122      4
+    C325      R127      5
+    C325      R161      7
+    C325      R178      1
+    C325      R181      7
+    C326      COST      27
+    C326      R7        16
+    C326      R39       18
+    C326      R69       15
+    C326      R70       8
+    C326      R91       18
+    C326      R100      10
+    C326      R106      20
+    C326      R121      7
+    C326      R137      14
+    C326      R144      1
+    C326      R182      13
+    C326      R189      20
+    C326      R198      13
+    C327      COST      6
+    C327      R21       19
+    C327      R58       2
+    C327      R68       8
+    C327      R85       1
+    C327      R136      10
+    C327      R140      11
+    C327      R156      18
+    C327      R161      5
+    C327      R162      17
+    C327      R164      20
+    C327      R167      19
+    C327      R174      16
+    C327      R179      2
+    C327      R188      5
+    C327      R192      5
+    C328      COST      16
+    C328      R63       19
+    C328      R84       16
+    C328      R85       11
+    C328      R103      20
+    C328      R115      2
+    C328      R116      15
+    C328      R139      11
+    C328      R176      5
+    C328      R190      6
+    C328      R193      12
+    C328      R196      15
+    C329      COST      19
+    C329      R14       20
+    C329      R15       8
+    C329      R34       13
+    C329      R47       20
+    C329      R48       14
+    C329      R96       7
+    C329      R107      17
+    C329      R122      1
+    C329      R139      11
+    C329      R142      9
+    C329      R153      14
+    C329      R170      9
+    C329      R171      5
+    C330      COST      17
+    C330      R14       8
+    C330      R45       18
+    C330      R63       18
+    C330      R155      4
+    C330      R159      7
+    C330      R160      6
+    C331      COST      10
+    C331      R15       14
+    C331      R36       20
+    C331      R61       7
+    C331      R87       10
+    C331      R100      6
+    C331      R120      11
+    C331      R173      14
+    C331      R179      12
+    C331      R196      15
+    C332      COST      1
+    C332      R17       1
+    C332      R20       10
+    C332      R37       20
+    C332      R70       19
+    C332      R86       16
+    C332      R105      14
+    C332      R114      9
+    C332      R125      4
+    C332      R131      14
+    C332      R133      2
+    C332      R141      2
+    C332      R154      5
+    C332      R180      16
+    C332      R183      15
+    C333      COST      23
+    C333      R20       7
+    C333      R22       15
+    C333      R23       5
+    C333      R28       19
+    C333      R56       14
+    C333      R109      4
+    C333      R153      1
+    C333      R164      3
+    C333      R174      9
+    C333      R188      11
+    C333      R192      12
+    C334      COST      21
+    C334      R56       2
+    C334      R71       2
+    C334      R72       8
+    C334      R81       10
+    C334      R98       5
+    C334      R107      2
+    C334      R137      10
+    C334      R141      14
+    C334      R144      4
+    C334      R191      9
+    C335      COST      10
+    C335      R1        16
+    C335      R15       7
+    C335      R20       20
+    C335      R22       15
+    C335      R35       19
+    C335      R46       10
+    C335      R59       6
+    C335      R67       12
+    C335      R96       13
+    C335      R129      10
+    C335      R145      5
+    C335      R164      8
+    C336      COST      1
+    C336      R7        12
+    C336      R13       18
+    C336      R49       6
+    C336      R51       18
+    C336      R53       16
+    C336      R55       14
+    C336      R62       18
+    C336      R64       15
+    C336      R86       9
+    C336      R157      6
+    C336      R188      4
+    C337      COST      3
+    C337      R48       16
+    C337      R55       6
+    C337      R67       3
+    C337      R68       16
+    C337      R84       9
+    C337      R126      13
+    C337      R174      5
+    C337      R199      11
+    C338      COST      7
+    C338      R2        8
+    C338      R11       18
+    C338      R15       18
+    C338      R27       1
+    C338      R32       3
+    C338      R35       15
+    C338      R57       14
+    C338      R73       1
+    C338      R85       3
+    C338      R152      18
+    C338      R160      11
+    C338      R188      20
+    C339      COST      19
+    C339      R1        16
+    C339      R7        5
+    C339      R19       3
+    C339      R24       19
+    C339      R37       17
+    C339      R91       1
+    C339      R97       20
+    C339      R105      5
+    C339      R109      16
+    C339      R131      5
+    C339      R161      5
+    C339      R186      20
+    C340      COST      3
+    C340      R7        16
+    C340      R35       9
+    C340      R64       8
+    C340      R80       15
+    C340      R81       3
+    C340      R133      2
+    C340      R150      11
+    C340      R159      10
+    C341      COST      30
+    C341      R12       20
+    C341      R17       9
+    C341      R51       20
+    C341      R54       2
+    C341      R91       5
+    C341      R93       1
+    C341      R94       11
+    C341      R117      12
+    C341      R142      15
+    C341      R148      11
+    C341      R151      20
+    C341      R155      6
+    C341      R198      18
+    C341      R200      7
+    C342      COST      6
+    C342      R9        4
+    C342      R33       20
+    C342      R66       1
+    C342      R75       7
+    C342      R91       6
+    C342      R103      12
+    C342      R108      19
+    C342      R110      12
+    C342      R155      20
+    C342      R194      20
+    C343      COST      26
+    C343      R10       15
+    C343      R57       3
+    C343      R66       5
+    C343      R86       19
+    C343      R109      9
+    C343      R126      2
+    C343      R148      15
+    C343      R164      19
+    C344      COST      17
+    C344      R1        13
+    C344      R42       8
+    C344      R67       3
+    C344      R82       20
+    C344      R86       7
+    C344      R87       4
+    C344      R88       2
+    C344      R94       8
+    C344      R97       4
+    C344      R118      14
+    C344      R146      18
+    C344      R178      11
+    C344      R188      12
+    C345      COST      20
+    C345      R16       20
+    C345      R32       6
+    C345      R38       16
+    C345      R79       6
+    C345      R90       10
+    C345      R95       18
+    C345      R113      6
+    C345      R115      20
+    C345      R131      19
+    C345      R199      16
+    C346      COST      17
+    C346      R18       14
+    C346      R31       8
+    C346      R33       11
+    C346      R37       12
+    C346      R49       2
+    C346      R50       6
+    C346      R56       14
+    C346      R61       8
+    C346      R93       6
+    C346      R112      12
+    C346      R133      10
+    C346      R136      2
+    C346      R179      14
+    C347      COST      18
+    C347      R45       14
+    C347      R53       20
+    C347      R60       20
+    C347      R61       19
+    C347      R64       10
+    C347      R115      3
+    C347      R118      20
+    C347      R133      7
+    C347      R146      19
+    C347      R148      2
+    C347      R157      18
+    C347      R168      3
+    C347      R176      1
+    C348      COST      16
+    C348      R20       11
+    C348      R21       4
+    C348      R26       4
+    C348      R100      15
+    C348      R104      18
+    C348      R110      10
+    C348      R112      19
+    C348      R135      4
+    C348      R136      12
+    C349      COST      27
+    C349      R13       9
+    C349      R57       15
+    C349      R69       9
+    C349      R79       20
+    C349      R105      12
+    C349      R121      6
+    C349      R127      15
+    C349      R157      4
+    C349      R164      9
+    C349      R192      20
+    C350      COST      26
+    C350      R53       9
+    C350      R70       5
+    C350      R74       9
+    C350      R80       17
+    C350      R81       19
+    C350      R86       17
+    C350      R121      5
+    C350      R142      2
+    C350      R157      20
+    C350      R185      18
+    C351      COST      11
+    C351      R13       14
+    C351      R43       5
+    C351      R46       16
+    C351      R73       4
+    C351      R110      5
+    C351      R153      2
+    C351      R174      2
+    C351      R182      18
+    C351      R187      7
+    C352      COST      14
+    C352      R39       14
+    C352      R59       3
+    C352      R69       1
+    C352      R74       2
+    C352      R95       7
+    C352      R104      14
+    C352      R146      5
+    C353      COST      25
+    C353      R17       1
+    C353      R48       9
+    C353      R54       17
+    C353      R63       17
+    C353      R73       12
+    C353      R76       8
+    C353      R79       2
+    C353      R91       9
+    C353      R102      10
+    C353      R114      8
+    C353      R118      7
+    C353      R123      16
+    C353      R135      3
+    C353      R137      14
+    C353      R157      13
+    C353      R194      8
+    C354      COST      17
+    C354      R3        20
+    C354      R78       8
+    C354      R79       8
+    C354      R94       11
+    C354      R95       4
+    C354      R111      6
+    C354      R115      3
+    C354      R124      19
+    C354      R145      20
+    C354      R156      1
+    C354      R188      8
+    C355      COST      19
+    C355      R9        6
+    C355      R25       5
+    C355      R31       12
+    C355      R32       2
+    C355      R53       17
+    C355      R98       2
+    C355      R110      15
+    C355      R164      13
+    C355      R173      3
+    C355      R179      7
+    C355      R195      17
+    C355      R198      10
+    C356      COST      30
+    C356      R12       20
+    C356      R44       13
+    C356      R45       4
+    C356      R93       4
+    C356      R94       11
+    C356      R121      15
+    C356      R167      12
+    C356      R189      10
+    C357      COST      14
+    C357      R12       10
+    C357      R28       5
+    C357      R56       18
+    C357      R79       2
+    C357      R97       2
+    C357      R103      3
+    C357      R116      6
+    C357      R118      15
+    C357      R164      12
+    C357      R195      4
+    C358      COST      15
+    C358      R1        1
+    C358      R30       9
+    C358      R47       14
+    C358      R70       19
+    C358      R98       2
+    C358      R119      1
+    C358      R139      14
+    C358      R141      11
+    C358      R150      13
+    C359      COST      27
+    C359      R16       12
+    C359      R29       11
+    C359      R53       12
+    C359      R58       16
+    C359      R78       3
+    C359      R91       12
+    C359      R144      14
+    C359      R151      16
+    C359      R158      2
+    C359      R164      14
+    C360      COST      30
+    C360      R35       5
+    C360      R36       4
+    C360      R39       2
+    C360      R48       7
+    C360      R70       17
+    C360      R82       3
+    C360      R87       19
+    C360      R141      15
+    C360      R155      18
+    C360      R159      5
+    C360      R185      11
+    C361      COST      23
+    C361      R75       18
+    C361      R124      13
+    C361      R126      7
+    C361      R148      14
+    C361      R162      19
+    C361      R167      14
+    C361      R177      1
+    C362      COST      17
+    C362      R8        11
+    C362      R9        9
+    C362      R24       16
+    C362      R25       20
+    C362      R66       6
+    C362      R73       1
+    C362      R76       17
+    C362      R97       9
+    C362      R155      9
+    C362      R160      17
+    C362      R187      8
+    C362      R191      15
+    C363      COST      25
+    C363      R1        2
+    C363      R41       20
+    C363      R48       16
+    C363      R94       1
+    C363      R102      19
+    C363      R110      14
+    C363      R123      11
+    C363      R133      5
+    C363      R138      17
+    C363      R139      8
+    C363      R166      10
+    C363      R178      13
+    C363      R181      16
+    C364      COST      26
+    C364      R3        4
+    C364      R25       10
+    C364      R46       16
+    C364      R88       14
+    C364      R92       2
+    C364      R94       6
+    C364      R108      13
+    C364      R148      12
+    C364      R150      19
+    C365      COST      23
+    C365      R4        19
+    C365      R28       17
+    C365      R36       16
+    C365      R38       4
+    C365      R60       12
+    C365      R75       4
+    C365      R82       3
+    C365      R97       16
+    C365      R99       9
+    C365      R118      7
+    C365      R130      8
+    C365      R158      9
+    C365      R162      2
+    C365      R188      13
+    C365      R189      4
+    C366      COST      8
+    C366      R48       12
+    C366      R54       19
+    C366      R85       3
+    C366      R90       15
+    C366      R97       10
+    C366      R99       14
+    C366      R120      4
+    C366      R126      17
+    C366      R161      5
+    C367      COST      23
+    C367      R33       12
+    C367      R77       15
+    C367      R118      1
+    C367      R127      10
+    C367      R148      7
+    C368      COST      18
+    C368      R16       17
+    C368      R18       16
+    C368      R31       2
+    C368      R119      13
+    C368      R148      5
+    C368      R167      7
+    C368      R170      15
+    C369      COST      24
+    C369      R16       19
+    C369      R17       16
+    C369      R45       15
+    C369      R59       16
+    C369      R67       19
+    C369      R75       3
+    C369      R86       15
+    C369      R95       15
+    C369      R100      12
+    C369      R123      10
+    C369      R152      3
+    C369      R157      8
+    C369      R161      16
+    C369      R176      7
+    C369      R179      19
+    C369      R196      12
+    C370      COST      14
+    C370      R6        14
+    C370      R11       20
+    C370      R21       5
+    C370      R67       15
+    C370      R88       3
+    C370      R92       11
+    C370      R100      8
+    C370      R138      20
+    C370      R140      19
+    C370      R159      8
+    C370      R177      9
+    C370      R187      20
+    C371      COST      20
+    C371      R15       13
+    C371      R20       1
+    C371      R21       9
+    C371      R27       1
+    C371      R37       8
+    C371      R69       3
+    C371      R85       2
+    C371      R109      12
+    C371      R128      7
+    C371      R148      7
+    C371      R157      12
+    C371      R169      15
+    C371      R177      6
+    C371      R185      16
+    C371      R187      18
+    C371      R195      4
+    C372      COST      25
+    C372      R6        7
+    C372      R11       12
+    C372      R21       12
+    C372      R40       2
+    C372      R51       16
+    C372      R58       16
+    C372      R63       4
+    C372      R69       11
+    C372      R113      16
+    C372      R121      5
+    C372      R130      18
+    C372      R165      2
+    C372      R183      20
+    C372      R188      5
+    C372      R199      20
+    C373      COST      3
+    C373      R28       15
+    C373      R35       13
+    C373      R36       13
+    C373      R55       1
+    C373      R80       15
+    C373      R93       20
+    C373      R137      17
+    C373      R142      3
+    C373      R172      11
+    C374      COST      26
+    C374      R65       1
+    C374      R85       9
+    C374      R133      18
+    C374      R157      15
+    C374      R161      20
+    C375      COST      1
+    C375      R16       14
+    C375      R23       9
+    C375      R58       8
+    C375      R70       10
+    C375      R76       3
+    C375      R77       14
+    C375      R78       13
+    C375      R122      14
+    C375      R133      14
+    C375      R152      8
+    C375      R179      5
+    C375      R181      16
+    C375      R196      16
+    C376      COST      11
+    C376      R1        19
+    C376      R40       3
+    C376      R44       12
+    C376      R55       8
+    C376      R66       11
+    C376      R91       2
+    C376      R113      5
+    C376      R150      7
+    C376      R158      18
+    C376      R193      14
+    C376      R197      19
+    C377      COST      17
+    C377      R22       10
+    C377      R28       10
+    C377      R64       17
+    C377      R74       14
+    C377      R86       11
+    C377      R115      20
+    C377      R126      4
+    C377      R136      3
+    C378      COST      23
+    C378      R30       8
+    C378      R34       8
+    C378      R38       11
+    C378      R77       4
+    C378      R110      18
+    C378      R115      13
+    C378      R144      14
+    C378      R150      3
+    C378      R189      20
+    C379      COST      26
+    C379      R1        23
+    C379      R12       20
+    C379      R14       3
+    C379      R37       5
+    C379      R48       9
+    C379      R59       15
+    C379      R68       11
+    C379      R76       2
+    C379      R82       14
+    C379      R89       20
+    C379      R101      9
+    C379      R132      2
+    C379      R155      15
+    C379      R158      14
+    C379      R164      14
+    C379      R170      12
+    C380      COST      14
+    C380      R58       7
+    C380      R82       4
+    C380      R88       18
+    C380      R100      15
+    C380      R135      11
+    C380      R175      9
+    C380      R177      8
+    C380      R200      9
+    C381      COST      28
+    C381      R25       5
+    C381      R40       11
+    C381      R71       4
+    C381      R113      7
+    C381      R121      18
+    C381      R143      3
+    C381      R166      4
+    C382      COST      8
+    C382      R9        10
+    C382      R56       19
+    C382      R75       19
+    C382      R78       18
+    C382      R89       2
+    C382      R109      18
+    C382      R185      4
+    C382      R190      2
+    C382      R199      8
+    C383      COST      1
+    C383      R12       11
+    C383      R21       15
+    C383      R28       9
+    C383      R48       6
+    C383      R86       6
+    C383      R95       13
+    C383      R182      15
+    C384      COST      1
+    C384      R18       16
+    C384      R33       18
+    C384      R106      8
+    C384      R108      15
+    C384      R128      9
+    C384      R140      6
+    C384      R154      11
+    C384      R161      17
+    C384      R189      9
+    C384      R192      2
+    C385      COST      29
+    C385      R5        8
+    C385      R20       4
+    C385      R36       16
+    C385      R66       1
+    C385      R102      15
+    C385      R115      9
+    C385      R157      17
+    C385      R182      12
+    C385      R184      2
+    C385      R188      20
+    C386      COST      7
+    C386      R19       9
+    C386      R24       14
+    C386      R39       1
+    C386      R46       11
+    C386      R107      20
+    C386      R112      12
+    C386      R128      18
+    C386      R131      14
+    C386      R138      9
+    C386      R139      12
+    C386      R146      4
+    C386      R159      6
+    C386      R174      9
+    C386      R184      19
+    C386      R195      12
+    C387      COST      16
+    C387      R23       14
+    C387      R73       5
+    C387      R108      17
+    C387      R135      19
+    C387      R139      15
+    C387      R140      19
+    C387      R141      5
+    C387      R145      11
+    C387      R165      4
+    C387      R176      10
+    C387      R190      3
+    C388      COST      7
+    C388      R6        4
+    C388      R16       7
+    C388      R19       3
+    C388      R35       11
+    C388      R40       7
+    C388      R41       16
+    C388      R55       10
+    C388      R71       8
+    C388      R83       19
+    C388      R98       4
+    C388      R113      7
+    C388      R124      12
+    C388      R130      9
+    C388      R153      4
+    C388      R172      13
+    C388      R194      8
+    C389      COST      27
+    C389      R17       6
+    C389      R18       2
+    C389      R45       12
+    C389      R53       19
+    C389      R55       13
+    C389      R109      5
+    C389      R120      11
+    C389      R128      8
+    C389      R145      13
+    C389      R156      3
+    C390      COST      7
+    C390      R24       17
+    C390      R27       15
+    C390      R30       14
+    C390      R46       9
+    C390      R52       11
+    C390      R77       18
+    C390      R90       17
+    C390      R113      17
+    C390      R127      19
+    C390      R197      6
+    C391      COST      2
+    C391      R12       5
+    C391      R31       7
+    C391      R34       2
+    C391      R41       19
+    C391      R42       7
+    C391      R55       16
+    C391      R57       1
+    C391      R106      8
+    C391      R135      4
+    C391      R136      2
+    C391      R142      14
+    C391      R188      5
+    C392      COST      3
+    C392      R3        14
+    C392      R14       5
+    C392      R62       11
+    C392      R81       15
+    C392      R115      7
+    C392      R142      7
+    C392      R170      1
+    C393      COST      8
+    C393      R1        8
+    C393      R6        19
+    C393      R8        11
+    C393      R41       12
+    C393      R61       20
+    C393      R74       2
+    C393      R82       17
+    C393      R107      7
+    C393      R109      1
+    C393      R115      12
+    C393      R150      11
+    C393      R167      11
+    C393      R172      5
+    C394      COST      13
+    C394      R5        8
+    C394      R9        11
+    C394      R30       4
+    C394      R48       17
+    C394      R60       20
+    C394      R62       16
+    C394      R71       5
+    C394      R82       4
+    C394      R87       11
+    C394      R106      2
+    C394      R121      7
+    C394      R126      1
+    C394      R164      9
+    C394      R167      12
+    C394      R183      12
+    C394      R187      14
+    C395      COST      13
+    C395      R6        4
+    C395      R64       1
+    C395      R71       11
+    C395      R81       14
+    C395      R97       11
+    C395      R98       12
+    C395      R103      12
+    C395      R141      16
+    C395      R144      16
+    C395      R146      18
+    C395      R162      1
+    C395      R189      3
+    C396      COST      6
+    C396      R5        9
+    C396      R7        2
+    C396      R49       11
+    C396      R56       5
+    C396      R61       8
+    C396      R133      7
+    C396      R150      13
+    C396      R164      12
+    C396      R172      5
+    C396      R180      10
+    C396      R196      12
+    C397      COST      8
+    C397      R7        1
+    C397      R11       6
+    C397      R13       14
+    C397      R26       1
+    C397      R37       17
+    C397      R47       6
+    C397      R51       11
+    C397      R61       6
+    C397      R88       8
+    C397      R93       12
+    C397      R100      10
+    C397      R119      14
+    C397      R134      1
+    C397      R186      7
+    C398      COST      28
+    C398      R8        20
+    C398      R20       12
+    C398      R51       8
+    C398      R53       18
+    C398      R59       11
+    C398      R66       9
+    C398      R80       6
+    C398      R84       2
+    C398      R159      9
+    C398      R164      6
+    C398      R181      13
+    C399      COST      23
+    C399      R2        1
+    C399      R4        9
+    C399      R22       13
+    C399      R58       19
+    C399      R78       15
+    C399      R83       10
+    C399      R90       11
+    C399      R117      11
+    C399      R123      6
+    C399      R137      14
+    C399      R180      19
+    C399      R189      7
+    C400      COST      26
+    C400      R13       12
+    C400      R56       12
+    C400      R107      17
+    C400      R119      11
+    C400      R158      2
+    C400      R186      4
+RHS
+    RHS       R1        188
+    RHS       R5        150
+    RHS       R6        165
+    RHS       R7        173
+    RHS       R8        158
+    RHS       R9        166
+    RHS       R11       142
+    RHS       R14       156
+    RHS       R15       128
+    RHS       R16       136
+    RHS       R17       187
+    RHS       R20       123
+    RHS       R21       154
+    RHS       R22       129
+    RHS       R24       100
+    RHS       R26       185
+    RHS       R28       122
+    RHS       R29       137
+    RHS       R30       159
+    RHS       R31       170
+    RHS       R33       101
+    RHS       R34       188
+    RHS       R36       126
+    RHS       R40       123
+    RHS       R41       184
+    RHS       R43       191
+    RHS       R44       108
+    RHS       R46       166
+    RHS       R47       101
+    RHS       R50       161
+    RHS       R52       197
+    RHS       R53       148
+    RHS       R56       194
+    RHS       R59       145
+    RHS       R61       196
+    RHS       R64       189
+    RHS       R66       121
+    RHS       R67       102
+    RHS       R68       129
+    RHS       R75       162
+    RHS       R77       188
+    RHS       R81       131
+    RHS       R83       109
+    RHS       R84       183
+    RHS       R86       184
+    RHS       R88       194
+    RHS       R89       112
+    RHS       R90       185
+    RHS       R92       172
+    RHS       R94       126
+    RHS       R95       191
+    RHS       R97       115
+    RHS       R98       172
+    RHS       R101      101
+    RHS       R104      143
+    RHS       R106      150
+    RHS       R107      114
+    RHS       R108      133
+    RHS       R109      190
+    RHS       R111      132
+    RHS       R113      186
+    RHS       R115      138
+    RHS       R118      168
+    RHS       R119      189
+    RHS       R120      111
+    RHS       R121      193
+    RHS       R125      178
+    RHS       R126      196
+    RHS       R129      109
+    RHS       R132      134
+    RHS       R133      154
+    RHS       R135      156
+    RHS       R136      121
+    RHS       R137      111
+    RHS       R138      143
+    RHS       R139      129
+    RHS       R142      160
+    RHS       R143      185
+    RHS       R144      103
+    RHS       R145      140
+    RHS       R150      185
+    RHS       R151      115
+    RHS       R153      170
+    RHS       R156      147
+    RHS       R158      143
+    RHS       R159      123
+    RHS       R167      162
+    RHS       R168      118
+    RHS       R169      105
+    RHS       R170      162
+    RHS       R173      170
+    RHS       R177      125
+    RHS       R179      107
+    RHS       R180      111
+    RHS       R181      111
+    RHS       R183      163
+    RHS       R185      178
+    RHS       R186      115
+    RHS       R187      172
+    RHS       R189      164
+    RHS       R190      135
+    RHS       R192      177
+    RHS       R193      153
+    RHS       R194      173
+    RHS       R195      160
+    RHS       R196      191
+    RHS       R197      146
+    RHS       R198      109
+    RHS       R200      163
+BOUNDS
+ENDATA
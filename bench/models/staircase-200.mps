@@ -0,0 +1,1752 @@
+NAME          staircase-200
+OBJSENSE
+    MAX
+ROWS
+ N  COST
+ L  R1
+ L  R2
+ L  R3
+ L  R4
+ L  R5
+ L  R6
+ L  R7
+ L  R8
+ L  R9
+ L  R10
+ L  R11
+ L  R12
+ L  R13
+ L  R14
+ L  R15
+ L  R16
+ L  R17
+ L  R18
+ L  R19
+ L  R20
+ L  R21
+ L  R22
+ L  R23
+ L  R24
+ L  R25
+ L  R26
+ L  R27
+ L  R28
+ L  R29
+ L  R30
+ L  R31
+ L  R32
+ L  R33
+ L  R34
+ L  R35
+ L  R36
+ L  R37
+ L  R38
+ L  R39
+ L  R40
+ L  R41
+ L  R42
+ L  R43
+ L  R44
+ L  R45
+ L  R46
+ L  R47
+ L  R48
+ L  R49
+ L  R50
+ L  R51
+ L  R52
+ L  R53
+ L  R54
+ L  R55
+ L  R56
+ L  R57
+ L  R58
+ L  R59
+ L  R60
+ L  R61
+ L  R62
+ L  R63
+ L  R64
+ L  R65
+ L  R66
+ L  R67
+ L  R68
+ L  R69
+ L  R70
+ L  R71
+ L  R72
+ L  R73
+ L  R74
+ L  R75
+ L  R76
+ L  R77
+ L  R78
+ L  R79
+ L  R80
+ L  R81
+ L  R82
+ L  R83
+ L  R84
+ L  R85
+ L  R86
+ L  R87
+ L  R88
+ L  R89
+ L  R90
+ L  R91
+ L  R92
+ L  R93
+ L  R94
+ L  R95
+ L  R96
+ L  R97
+ L  R98
+ L  R99
+ L  R100
+ L  R101
+ L  R102
+ L  R103
+ L  R104
+ L  R105
+ L  R106
+ L  R107
+ L  R108
+ L  R109
+ L  R110
+ L  R111
+ L  R112
+ L  R113
+ L  R114
+ L  R115
+ L  R116
+ L  R117
+ L  R118
+ L  R119
+ L  R120
+ L  R121
+ L  R122
+ L  R123
+ L  R124
+ L  R125
+ L  R126
+ L  R127
+ L  R128
+ L  R129
+ L  R130
+ L  R131
+ L  R132
+ L  R133
+ L  R134
+ L  R135
+ L  R136
+ L  R137
+ L  R138
+ L  R139
+ L  R140
+ L  R141
+ L  R142
+ L  R143
+ L  R144
+ L  R145
+ L  R146
+ L  R147
+ L  R148
+ L  R149
+ L  R150
+ L  R151
+ L  R152
+ L  R153
+ L  R154
+ L  R155
+ L  R156
+ L  R157
+ L  R158
+ L  R159
+ L  R160
+ L  R161
+ L  R162
+ L  R163
+ L  R164
+ L  R165
+ L  R166
+ L  R167
+ L  R168
+ L  R169
+ L  R170
+ L  R171
+ L  R172
+ L  R173
+ L  R174
+ L  R175
+ L  R176
+ L  R177
+ L  R178
+ L  R179
+ L  R180
+ L  R181
+ L  R182
+ L  R183
+ L  R184
+ L  R185
+ L  R186
+ L  R187
+ L  R188
+ L  R189
+ L  R190
+ L  R191
+ L  R192
+ L  R193
+ L  R194
+ L  R195
+ L  R196
+ L  R197
+ L  R198
+ L  R199
+ L  R200
+COLUMNS
+    C1        COST      8
+    C1        R6        9
+    C1        R10       10
+    C1        R17       10
+    C2        COST      5
+    C2        R14       15
+    C2        R22       -1
+    C2        R35       -1
+    C3        COST      29
+    C3        R4        15
+    C3        R15       7
+    C3        R25       -1
+    C4        COST      14
+    C4        R9        10
+    C4        R19       8
+    C4        R23       -1
+    C5        COST      13
+    C5        R5        16
+    C5        R18       4
+    C5        R20       13
+    C6        COST      13
+    C6        R15       13
+    C6        R30       -1
+    C7        COST      27
+    C7        R17       10
+    C8        COST      30
+    C8        R8        1
+    C8        R12       4
+    C8        R13       11
+    C8        R15       4
+    C9        COST      29
+    C9        R14       19
+    C9        R15       20
+    C10       COST      3
+    C10       R12       11
+    C10       R14       18
+    C11       COST      1
+    C11       R3        5
+    C11       R6        15
+    C11       R15       6
+    C11       R21       -1
+    C12       COST      16
+    C12       R7        4
+    C13       COST      16
+    C13       R2        7
+    C13       R10       1
+    C14       COST      21
+    C14       R15       16
+    C15       COST      28
+    C15       R3        17
+    C15       R13       8
+    C15       R18       18
+    C16       COST      19
+    C16       R13       1
+    C16       R39       -1
+    C17       COST      23
+    C17       R1        18
+    C17       R36       -1
+    C18       COST      16
+    C18       R14       17
+    C19       COST      9
+    C19       R14       20
+    C19       R17       6
+    C20       COST      15
+    C20       R4        12
+    C20       R10       5
+    C20       R16       11
+    C20       R17       11
+    C21       COST      17
+    C21       R1        30
+    C21       R15       6
+    C22       COST      7
+    C22       R4        19
+    C22       R7        9
+    C22       R14       3
+    C23       COST      6
+    C23       R9        15
+    C23       R10       6
+    C24       COST      17
+    C24       R9        20
+    C24       R27       -1
+    C25       COST      13
+    C25       R3        18
+    C25       R14       9
+    C25       R16       19
+    C26       COST      2
+    C26       R3        11
+    C26       R8        13
+    C27       COST      9
+    C27       R2        18
+    C27       R6        9
+    C28       COST      19
+    C28       R3        2
+    C28       R38       -1
+    C29       COST      30
+    C29       R5        20
+    C29       R6        10
+    C29       R12       16
+    C29       R17       17
+    C29       R31       -1
+    C30       COST      1
+    C30       R3        11
+    C30       R16       20
+    C31       COST      15
+    C31       R18       7
+    C31       R32       -1
+    C32       COST      6
+    C32       R1        14
+    C32       R33       -1
+    C33       COST      27
+    C33       R2        2
+    C34       COST      23
+    C34       R7        6
+    C34       R11       15
+    C34       R26       -1
+    C34       R34       -1
+    C34       R40       -1
+    C35       COST      25
+    C35       R15       16
+    C35       R24       -1
+    C35       R28       -1
+    C35       R37       -1
+    C36       COST      4
+    C36       R2        4
+    C36       R5        19
+    C37       COST      8
+    C37       R4        8
+    C37       R29       -1
+    C38       COST      24
+    C38       R1        12
+    C38       R10       15
+    C38       R11       7
+    C39       COST      18
+    C39       R12       12
+    C39       R18       7
+    C40       COST      20
+    C40       R6        11
+    C40       R20       5
+    C41       COST      13
+    C41       R36       19
+    C41       R39       8
+    C42       COST      25
+    C42       R28       12
+    C42       R30       19
+    C42       R33       19
+    C42       R59       -1
+    C43       COST      30
+    C43       R30       12
+    C43       R34       17
+    C44       COST      25
+    C44       R31       18
+    C44       R36       7
+    C45       COST      21
+    C45       R36       3
+    C46       COST      12
+    C46       R28       11
+    C46       R57       -1
+    C47       COST      28
+    C47       R27       1
+    C47       R40       4
+    C48       COST      16
+    C48       R26       3
+    C48       R45       -1
+    C48       R46       -1
+    C49       COST      3
+    C49       R27       2
+    C49       R53       -1
+    C50       COST      22
+    C50       R21       15
+    C50       R23       14
+    C50       R29       3
+    C50       R34       3
+    C51       COST      13
+    C51       R26       15
+    C51       R32       12
+    C52       COST      19
+    C52       R25       19
+    C52       R44       -1
+    C52       R49       -1
+    C53       COST      9
+    C53       R35       10
+    C53       R55       -1
+    C54       COST      20
+    C54       R21       29
+    C54       R36       8
+    C54       R41       -1
+    C55       COST      12
+    C55       R23       19
+    C56       COST      24
+    C56       R28       19
+    C57       COST      29
+    C57       R21       11
+    C57       R24       17
+    C58       COST      27
+    C58       R40       2
+    C59       COST      24
+    C59       R27       17
+    C59       R29       13
+    C59       R31       1
+    C59       R32       16
+    C60       COST      3
+    C60       R29       15
+    C60       R32       1
+    C60       R35       18
+    C61       COST      20
+    C61       R27       7
+    C61       R29       14
+    C61       R37       13
+    C62       COST      14
+    C62       R26       12
+    C62       R36       18
+    C62       R58       -1
+    C63       COST      23
+    C63       R23       3
+    C63       R47       -1
+    C64       COST      25
+    C64       R25       6
+    C64       R40       12
+    C65       COST      14
+    C65       R34       1
+    C65       R36       11
+    C66       COST      26
+    C66       R32       20
+    C67       COST      8
+    C67       R22       5
+    C67       R56       -1
+    C68       COST      23
+    C68       R24       13
+    C69       COST      8
+    C69       R37       17
+    C69       R51       -1
+    C70       COST      21
+    C70       R27       13
+    C70       R33       7
+    C70       R38       18
+    C70       R60       -1
+    C71       COST      27
+    C71       R21       8
+    C71       R33       8
+    C71       R37       20
+    C71       R42       -1
+    C72       COST      26
+    C72       R35       8
+    C73       COST      4
+    C73       R26       10
+    C73       R31       19
+    C73       R48       -1
+    C74       COST      15
+    C74       R34       9
+    C75       COST      9
+    C75       R25       18
+    C75       R33       1
+    C75       R36       7
+    C75       R40       14
+    C76       COST      2
+    C76       R31       16
+    C76       R50       -1
+    C77       COST      18
+    C77       R22       14
+    C77       R28       9
+    C78       COST      2
+    C78       R31       17
+    C78       R37       1
+    C78       R43       -1
+    C79       COST      9
+    C79       R21       12
+    C79       R39       20
+    C80       COST      9
+    C80       R34       9
+    C80       R52       -1
+    C80       R54       -1
+    C81       COST      18
+    C81       R58       18
+    C82       COST      5
+    C82       R49       10
+    C82       R53       4
+    C83       COST      4
+    C83       R47       14
+    C83       R63       -1
+    C84       COST      30
+    C84       R42       8
+    C85       COST      21
+    C85       R46       16
+    C85       R59       19
+    C85       R78       -1
+    C86       COST      14
+    C86       R47       19
+    C86       R66       -1
+    C86       R72       -1
+    C87       COST      15
+    C87       R49       9
+    C87       R51       17
+    C87       R52       5
+    C87       R64       -1
+    C88       COST      28
+    C88       R42       4
+    C88       R50       16
+    C88       R52       1
+    C89       COST      19
+    C89       R42       14
+    C89       R51       2
+    C89       R75       -1
+    C90       COST      3
+    C90       R47       16
+    C90       R50       4
+    C90       R57       5
+    C91       COST      25
+    C91       R42       11
+    C92       COST      10
+    C92       R46       13
+    C93       COST      1
+    C93       R57       6
+    C94       COST      25
+    C94       R44       10
+    C94       R54       3
+    C94       R76       -1
+    C95       COST      8
+    C95       R48       19
+    C95       R59       12
+    C95       R69       -1
+    C95       R77       -1
+    C96       COST      12
+    C96       R45       32
+    C96       R58       8
+    C97       COST      10
+    C97       R44       11
+    C98       COST      3
+    C98       R45       16
+    C98       R55       17
+    C99       COST      23
+    C99       R52       12
+    C100      COST      7
+    C100      R50       19
+    C100      R60       20
+    C100      R67       -1
+    C101      COST      6
+    C101      R50       9
+    C101      R60       2
+    C101      R73       -1
+    C102      COST      21
+    C102      R58       9
+    C102      R70       -1
+    C103      COST      1
+    C103      R44       6
+    C103      R45       13
+    C103      R60       18
+    C104      COST      11
+    C104      R44       20
+    C104      R80       -1
+    C105      COST      7
+    C105      R49       3
+    C105      R54       9
+    C105      R55       6
+    C105      R58       8
+    C105      R60       20
+    C106      COST      21
+    C106      R59       20
+    C106      R68       -1
+    C107      COST      7
+    C107      R44       12
+    C107      R53       10
+    C107      R58       9
+    C108      COST      8
+    C108      R43       6
+    C108      R47       14
+    C109      COST      29
+    C109      R54       17
+    C109      R59       20
+    C110      COST      9
+    C110      R42       20
+    C110      R47       1
+    C111      COST      30
+    C111      R43       5
+    C111      R44       17
+    C111      R46       6
+    C111      R74       -1
+    C112      COST      9
+    C112      R60       24
+    C113      COST      7
+    C113      R43       4
+    C113      R60       13
+    C113      R65       -1
+    C114      COST      22
+    C114      R44       18
+    C115      COST      4
+    C115      R46       9
+    C115      R71       -1
+    C116      COST      25
+    C116      R44       10
+    C116      R49       9
+    C116      R59       13
+    C116      R79       -1
+    C117      COST      21
+    C117      R60       3
+    C118      COST      30
+    C118      R60       5
+    C118      R61       -1
+    C119      COST      25
+    C119      R55       16
+    C119      R62       -1
+    C120      COST      17
+    C120      R44       13
+    C120      R45       16
+    C120      R55       12
+    C120      R58       9
+    C121      COST      18
+    C121      R77       17
+    C121      R79       11
+    C122      COST      3
+    C122      R75       5
+    C122      R78       34
+    C123      COST      20
+    C123      R71       8
+    C124      COST      21
+    C124      R61       17
+    C124      R64       19
+    C124      R78       20
+    C125      COST      23
+    C125      R62       18
+    C125      R77       13
+    C125      R86       -1
+    C126      COST      17
+    C126      R62       10
+    C126      R67       12
+    C127      COST      2
+    C127      R67       1
+    C127      R71       14
+    C127      R82       -1
+    C127      R85       -1
+    C128      COST      5
+    C128      R65       1
+    C129      COST      8
+    C129      R66       14
+    C129      R74       1
+    C129      R77       13
+    C129      R91       -1
+    C130      COST      27
+    C130      R79       1
+    C131      COST      5
+    C131      R66       7
+    C131      R78       12
+    C132      COST      20
+    C132      R72       14
+    C132      R78       4
+    C132      R95       -1
+    C133      COST      3
+    C133      R65       20
+    C133      R73       12
+    C133      R74       3
+    C134      COST      28
+    C134      R69       7
+    C135      COST      23
+    C135      R67       14
+    C135      R71       5
+    C135      R90       -1
+    C136      COST      6
+    C136      R65       13
+    C136      R89       -1
+    C137      COST      20
+    C137      R67       7
+    C137      R80       6
+    C138      COST      10
+    C138      R67       17
+    C138      R68       6
+    C138      R72       7
+    C139      COST      23
+    C139      R76       11
+    C139      R99       -1
+    C140      COST      12
+    C140      R68       10
+    C140      R75       10
+    C140      R78       5
+    C141      COST      9
+    C141      R71       11
+    C142      COST      1
+    C142      R66       17
+    C142      R70       10
+    C143      COST      27
+    C143      R65       11
+    C144      COST      16
+    C144      R69       3
+    C144      R80       10
+    C145      COST      5
+    C145      R63       5
+    C145      R96       -1
+    C146      COST      14
+    C146      R67       14
+    C146      R68       10
+    C146      R94       -1
+    C146      R100      -1
+    C147      COST      14
+    C147      R66       4
+    C147      R67       20
+    C147      R70       15
+    C147      R77       9
+    C147      R84       -1
+    C148      COST      6
+    C148      R63       18
+    C148      R72       8
+    C148      R97       -1
+    C149      COST      7
+    C149      R67       17
+    C149      R71       19
+    C150      COST      23
+    C150      R62       11
+    C150      R63       3
+    C150      R70       2
+    C150      R81       -1
+    C151      COST      13
+    C151      R63       18
+    C151      R74       16
+    C151      R77       16
+    C152      COST      2
+    C152      R66       19
+    C152      R78       19
+    C152      R79       19
+    C153      COST      10
+    C153      R69       17
+    C154      COST      29
+    C154      R61       1
+    C154      R62       20
+    C154      R66       4
+    C154      R93       -1
+    C155      COST      21
+    C155      R77       7
+    C156      COST      26
+    C156      R62       3
+    C156      R69       2
+    C156      R92       -1
+    C157      COST      7
+    C157      R70       12
+    C157      R75       5
+    C157      R80       10
+    C158      COST      30
+    C158      R64       17
+    C158      R76       18
+    C158      R98       -1
+    C159      COST      4
+    C159      R61       19
+    C159      R83       -1
+    C160      COST      15
+    C160      R80       12
+    C160      R87       -1
+    C160      R88       -1
+    C161      COST      24
+    C161      R82       3
+    C161      R97       3
+    C161      R99       19
+    C162      COST      16
+    C162      R86       10
+    C162      R99       10
+    C162      R110      -1
+    C163      COST      6
+    C163      R86       11
+    C163      R91       3
+    C164      COST      8
+    C164      R82       9
+    C164      R90       12
+    C164      R91       5
+    C164      R92       12
+    C165      COST      11
+    C165      R91       20
+    C165      R98       15
+    C165      R117      -1
+    C166      COST      30
+    C166      R91       3
+    C166      R92       9
+    C167      COST      29
+    C167      R92       18
+    C167      R97       19
+    C167      R98       14
+    C168      COST      3
+    C168      R82       11
+    C168      R90       4
+    C168      R94       11
+    C168      R102      -1
+    C168      R106      -1
+    C169      COST      3
+    C169      R81       19
+    C169      R85       3
+    C169      R105      -1
+    C170      COST      12
+    C170      R90       12
+    C170      R104      -1
+    C171      COST      27
+    C171      R85       12
+    C171      R87       19
+    C171      R93       6
+    C171      R98       14
+    C172      COST      18
+    C172      R83       20
+    C172      R107      -1
+    C173      COST      29
+    C173      R84       6
+    C173      R91       8
+    C173      R108      -1
+    C173      R118      -1
+    C174      COST      13
+    C174      R100      3
+    C175      COST      15
+    C175      R87       3
+    C175      R100      2
+    C176      COST      14
+    C176      R91       10
+    C177      COST      6
+    C177      R91       2
+    C177      R92       13
+    C177      R109      -1
+    C178      COST      6
+    C178      R93       17
+    C178      R95       18
+    C178      R99       7
+    C178      R113      -1
+    C179      COST      30
+    C179      R96       17
+    C179      R116      -1
+    C179      R119      -1
+    C180      COST      17
+    C180      R84       2
+    C180      R96       19
+    C181      COST      1
+    C181      R81       12
+    C181      R114      -1
+    C181      R120      -1
+    C182      COST      9
+    C182      R91       8
+    C182      R94       18
+    C182      R112      -1
+    C183      COST      8
+    C183      R100      6
+    C184      COST      21
+    C184      R84       11
+    C184      R90       13
+    C185      COST      10
+    C185      R87       19
+    C185      R88       1
+    C186      COST      13
+    C186      R95       18
+    C186      R98       7
+    C187      COST      6
+    C187      R88       4
+    C187      R98       7
+    C187      R111      -1
+    C188      COST      16
+    C188      R90       9
+    C188      R96       4
+    C189      COST      8
+    C189      R84       20
+    C189      R88       17
+    C189      R97       20
+    C190      COST      6
+    C190      R90       3
+    C191      COST      21
+    C191      R94       4
+    C191      R100      20
+    C192      COST      9
+    C192      R91       1
+    C193      COST      8
+    C193      R91       4
+    C193      R93       20
+    C194      COST      17
+    C194      R88       10
+    C195      COST      27
+    C195      R83       11
+    C195      R96       16
+    C196      COST      15
+    C196      R84       13
+    C197      COST      18
+    C197      R89       11
+    C197      R99       4
+    C198      COST      7
+    C198      R81       3
+    C198      R86       10
+    C198      R95       19
+    C198      R99       9
+    C199      COST      28
+    C199      R82       22
+    C199      R101      -1
+    C199      R103      -1
+    C199      R115      -1
+    C200      COST      16
+    C200      R85       3
+    C200      R92       4
+    C201      COST      14
+    C201      R103      12
+    C201      R104      7
+    C201      R136      -1
+    C202      COST      10
+    C202      R109      15
+    C202      R117      12
+    C202      R118      9
+    C203      COST      20
+    C203      R107      1
+    C204      COST      30
+    C204      R115      2
+    C205      COST      11
+    C205      R107      16
+    C205      R128      -1
+    C206      COST      16
+    C206      R118      16
+    C207      COST      27
+    C207      R106      8
+    C207      R110      4
+    C208      COST      20
+    C208      R106      4
+    C208      R135      -1
+    C209      COST      15
+    C209      R104      18
+    C209      R126      -1
+    C210      COST      23
+    C210      R117      7
+    C210      R120      20
+    C210      R125      -1
+    C210      R134      -1
+    C211      COST      13
+    C211      R101      15
+    C211      R104      8
+    C211      R124      -1
+    C212      COST      19
+    C212      R104      1
+    C212      R117      10
+    C212      R119      21
+    C213      COST      12
+    C213      R114      21
+    C213      R133      -1
+    C213      R140      -1
+    C214      COST      21
+    C214      R111      20
+    C214      R112      23
+    C214      R115      1
+    C214      R116      16
+    C214      R127      -1
+    C214      R130      -1
+    C215      COST      2
+    C215      R105      13
+    C215      R116      13
+    C216      COST      26
+    C216      R103      11
+    C216      R111      12
+    C217      COST      9
+    C217      R106      15
+    C217      R112      16
+    C218      COST      9
+    C218      R108      12
+    C218      R131      -1
+    C218      R139      -1
+    C219      COST      12
+    C219      R108      3
+    C220      COST      22
+    C220      R119      20
+    C221      COST      13
+    C221      R103      5
+    C221      R109      13
+    C222      COST      7
+    C222      R117      13
+    C222      R121      -1
+    C223      COST      12
+    C223      R112      9
+    C224      COST      30
+    C224      R103      20
+    C224      R110      18
+    C224      R112      2
+    C225      COST      3
+    C225      R107      11
+    C225      R117      11
+    C225      R120      20
+    C226      COST      12
+    C226      R111      18
+    C226      R129      -1
+    C227      COST      1
+    C227      R101      11
+    C227      R108      20
+    C227      R122      -1
+    C228      COST      29
+    C228      R109      15
+    C228      R138      -1
+    C229      COST      11
+    C229      R102      14
+    C229      R103      9
+    C229      R118      9
+    C230      COST      8
+    C230      R111      2
+    C231      COST      10
+    C231      R119      1
+    C231      R123      -1
+    C232      COST      30
+    C232      R103      2
+    C232      R106      15
+    C232      R132      -1
+    C233      COST      29
+    C233      R101      5
+    C233      R137      -1
+    C234      COST      2
+    C234      R117      19
+    C235      COST      15
+    C235      R109      15
+    C235      R115      19
+    C235      R119      4
+    C236      COST      27
+    C236      R101      16
+    C237      COST      28
+    C237      R104      10
+    C237      R118      5
+    C237      R120      17
+    C238      COST      16
+    C238      R102      4
+    C238      R105      3
+    C238      R106      8
+    C238      R107      7
+    C238      R111      6
+    C238      R114      14
+    C238      R118      17
+    C239      COST      9
+    C239      R120      20
+    C240      COST      26
+    C240      R111      16
+    C241      COST      3
+    C241      R129      5
+    C242      COST      2
+    C242      R133      18
+    C242      R144      -1
+    C243      COST      29
+    C243      R122      1
+    C243      R126      4
+    C244      COST      20
+    C244      R123      16
+    C244      R126      3
+    C245      COST      22
+    C245      R125      12
+    C245      R132      2
+    C245      R140      17
+    C246      COST      22
+    C246      R140      9
+    C247      COST      17
+    C247      R121      5
+    C247      R131      1
+    C247      R139      5
+    C247      R147      -1
+    C248      COST      18
+    C248      R131      6
+    C248      R145      -1
+    C249      COST      17
+    C249      R122      7
+    C249      R156      -1
+    C250      COST      13
+    C250      R122      12
+    C250      R128      4
+    C250      R137      11
+    C250      R153      -1
+    C251      COST      24
+    C251      R132      26
+    C251      R133      16
+    C251      R142      -1
+    C252      COST      18
+    C252      R123      8
+    C252      R128      18
+    C252      R136      8
+    C253      COST      15
+    C253      R122      8
+    C253      R131      1
+    C253      R140      9
+    C253      R151      -1
+    C254      COST      16
+    C254      R121      17
+    C254      R125      3
+    C254      R130      16
+    C254      R138      6
+    C255      COST      11
+    C255      R130      6
+    C255      R134      14
+    C255      R150      -1
+    C256      COST      21
+    C256      R121      13
+    C257      COST      8
+    C257      R133      2
+    C257      R152      -1
+    C258      COST      23
+    C258      R121      7
+    C258      R133      9
+    C258      R134      16
+    C258      R140      15
+    C258      R154      -1
+    C259      COST      20
+    C259      R139      4
+    C260      COST      21
+    C260      R126      18
+    C261      COST      12
+    C261      R130      16
+    C261      R135      7
+    C261      R148      -1
+    C261      R155      -1
+    C262      COST      24
+    C262      R129      18
+    C262      R137      12
+    C263      COST      20
+    C263      R122      7
+    C263      R134      12
+    C264      COST      19
+    C264      R135      13
+    C265      COST      22
+    C265      R125      11
+    C265      R128      9
+    C266      COST      28
+    C266      R124      14
+    C266      R157      -1
+    C266      R158      -1
+    C267      COST      19
+    C267      R121      19
+    C267      R128      14
+    C267      R135      7
+    C267      R140      8
+    C267      R160      -1
+    C268      COST      22
+    C268      R123      11
+    C268      R125      2
+    C268      R137      20
+    C268      R143      -1
+    C269      COST      28
+    C269      R130      3
+    C269      R137      8
+    C269      R140      5
+    C269      R141      -1
+    C270      COST      8
+    C270      R135      18
+    C270      R140      20
+    C271      COST      12
+    C271      R127      5
+    C271      R129      14
+    C271      R159      -1
+    C272      COST      28
+    C272      R123      15
+    C272      R132      8
+    C273      COST      5
+    C273      R129      6
+    C274      COST      11
+    C274      R124      17
+    C274      R146      -1
+    C275      COST      16
+    C275      R131      27
+    C275      R149      -1
+    C276      COST      9
+    C276      R121      3
+    C276      R134      6
+    C276      R135      13
+    C276      R138      3
+    C277      COST      15
+    C277      R127      11
+    C278      COST      7
+    C278      R126      11
+    C279      COST      26
+    C279      R123      18
+    C279      R129      1
+    C279      R135      9
+    C280      COST      22
+    C280      R124      4
+    C281      COST      9
+    C281      R150      12
+    C282      COST      2
+    C282      R147      9
+    C283      COST      8
+    C283      R142      19
+    C283      R144      17
+    C283      R159      13
+    C284      COST      11
+    C284      R147      20
+    C284      R180      -1
+    C285      COST      29
+    C285      R142      13
+    C286      COST      2
+    C286      R146      5
+    C286      R156      1
+    C286      R177      -1
+    C287      COST      11
+    C287      R152      15
+    C287      R162      -1
+    C287      R165      -1
+    C288      COST      10
+    C288      R152      12
+    C288      R153      5
+    C289      COST      3
+    C289      R141      1
+    C289      R149      9
+    C289      R160      2
+    C290      COST      15
+    C290      R149      5
+    C290      R153      14
+    C291      COST      4
+    C291      R154      9
+    C292      COST      9
+    C292      R147      13
+    C292      R171      -1
+    C293      COST      20
+    C293      R144      17
+    C293      R146      2
+    C294      COST      24
+    C294      R149      10
+    C294      R153      20
+    C295      COST      15
+    C295      R153      10
+    C295      R156      17
+    C295      R166      -1
+    C296      COST      12
+    C296      R147      16
+    C296      R156      19
+    C296      R172      -1
+    C297      COST      7
+    C297      R152      15
+    C298      COST      23
+    C298      R148      8
+    C298      R160      20
+    C299      COST      24
+    C299      R146      11
+    C299      R159      16
+    C300      COST      23
+    C300      R141      3
+    C300      R145      13
+    C300      R152      20
+    C300      R169      -1
+    C301      COST      6
+    C301      R144      20
+    C302      COST      22
+    C302      R151      14
+    C302      R156      14
+    C302      R160      20
+    C303      COST      26
+    C303      R160      10
+    C303      R170      -1
+    C303      R176      -1
+    C304      COST      10
+    C304      R156      10
+    C305      COST      27
+    C305      R151      13
+    C305      R152      11
+    C305      R173      -1
+    C306      COST      11
+    C306      R159      10
+    C307      COST      23
+    C307      R151      9
+    C307      R153      7
+    C307      R156      14
+    C308      COST      25
+    C308      R157      2
+    C308      R159      20
+    C308      R164      -1
+    C308      R175      -1
+    C309      COST      2
+    C309      R152      2
+    C310      COST      3
+    C310      R158      12
+    C311      COST      14
+    C311      R159      19
+    C311      R163      -1
+    C312      COST      19
+    C312      R147      14
+    C312      R167      -1
+    C313      COST      21
+    C313      R142      9
+    C313      R144      16
+    C313      R149      15
+    C313      R174      -1
+    C313      R178      -1
+    C314      COST      24
+    C314      R155      20
+    C314      R160      2
+    C314      R168      -1
+    C315      COST      23
+    C315      R145      8
+    C315      R156      7
+    C315      R159      13
+    C315      R179      -1
+    C316      COST      11
+    C316      R142      16
+    C316      R144      5
+    C316      R146      13
+    C316      R147      7
+    C317      COST      2
+    C317      R141      6
+    C317      R145      14
+    C317      R147      12
+    C318      COST      29
+    C318      R156      18
+    C319      COST      4
+    C319      R146      7
+    C319      R147      3
+    C319      R160      3
+    C319      R161      -1
+    C320      COST      22
+    C320      R141      14
+    C321      COST      3
+    C321      R170      1
+    C321      R175      4
+    C321      R182      -1
+    C322      COST      29
+    C322      R180      12
+    C323      COST      21
+    C323      R165      19
+    C323      R195      -1
+    C324      COST      15
+    C324      R168      2
+    C324      R185      -1
+    C325      COST      2
+    C325      R168      11
+    C326      COST      25
+    C326      R165      6
+    C326      R175      7
+    C326      R196      -1
+    C327      COST      24
+    C327      R162      16
+    C327      R163      2
+    C327      R177      15
+    C328      COST      2
+    C328      R174      16
+    C328      R177      3
+    C329      COST      9
+    C329      R163      8
+    C329      R170      7
+    C330      COST      30
+    C330      R168      7
+    C330      R173      11
+    C331      COST      14
+    C331      R161      8
+    C332      COST      28
+    C332      R167      11
+    C332      R175      13
+    C333      COST      27
+    C333      R161      20
+    C333      R170      3
+    C333      R180      14
+    C334      COST      6
+    C334      R175      3
+    C335      COST      27
+    C335      R167      7
+    C335      R171      8
+    C335      R198      -1
+    C336      COST      17
+    C336      R162      3
+    C336      R186      -1
+    C337      COST      15
+    C337      R163      15
+    C338      COST      27
+    C338      R164      20
+    C338      R166      9
+    C338      R180      9
+    C338      R187      -1
+    C338      R190      -1
+    C339      COST      28
+    C339      R165      14
+    C339      R180      17
+    C339      R194      -1
+    C340      COST      18
+    C340      R180      5
+    C341      COST      4
+    C341      R166      16
+    C341      R184      -1
+    C342      COST      19
+    C342      R162      17
+    C342      R193      -1
+    C343      COST      27
+    C343      R163      14
+    C343      R176      10
+    C344      COST      25
+    C344      R170      28
+    C344      R174      16
+    C345      COST      26
+    C345      R171      20
+    C346      COST      8
+    C346      R166      16
+    C347      COST      15
+    C347      R163      1
+    C347      R167      9
+    C347      R171      13
+    C348      COST      4
+    C348      R164      16
+    C348      R173      14
+    C348      R176      6
+    C348      R179      10
+    C348      R189      -1
+    C349      COST      5
+    C349      R174      2
+    C349      R179      14
+    C350      COST      28
+    C350      R161      17
+    C350      R192      -1
+    C351      COST      29
+    C351      R165      18
+    C351      R166      20
+    C351      R191      -1
+    C352      COST      13
+    C352      R163      1
+    C352      R169      9
+    C352      R178      2
+    C352      R180      18
+    C352      R197      -1
+    C353      COST      6
+    C353      R169      15
+    C353      R171      19
+    C354      COST      26
+    C354      R161      18
+    C354      R188      -1
+    C354      R200      -1
+    C355      COST      18
+    C355      R165      18
+    C355      R181      -1
+    C356      COST      12
+    C356      R171      17
+    C357      COST      22
+    C357      R161      12
+    C357      R174      20
+    C358      COST      14
+    C358      R167      15
+    C358      R174      14
+    C359      COST      22
+    C359      R166      19
+    C359      R183      -1
+    C360      COST      12
+    C360      R171      16
+    C360      R199      -1
+    C361      COST      24
+    C361      R185      7
+    C361      R191      10
+    C362      COST      6
+    C362      R191      7
+    C362      R194      1
+    C363      COST      11
+    C363      R183      2
+    C363      R188      12
+    C364      COST      12
+    C364      R191      20
+    C364      R193      14
+    C365      COST      28
+    C365      R194      16
+    C366      COST      2
+    C366      R189      4
+    C367      COST      27
+    C367      R193      9
+    C368      COST      3
+    C368      R188      14
+    C368      R195      7
+    C368      R199      15
+    C369      COST      13
+    C369      R186      28
+    C369      R196      16
+    C370      COST      5
+    C370      R189      18
+    C370      R197      1
+    C371      COST      25
+    C371      R184      7
+    C371      R196      3
+    C372      COST      5
+    C372      R192      4
+    C372      R193      5
+    C373      COST      16
+    C373      R181      20
+    C373      R193      12
+    C373      R196      11
+    C373      R198      11
+    C374      COST      19
+    C374      R185      14
+    C374      R190      9
+    C374      R200      18
+    C375      COST      27
+    C375      R188      4
+    C375      R194      13
+    C376      COST      30
+    C376      R183      8
+    C376      R187      18
+    C376      R200      18
+    C377      COST      12
+    C377      R191      11
+    C377      R192      8
+    C377      R198      16
+    C378      COST      4
+    C378      R181      13
+    C379      COST      9
+    C379      R182      18
+    C379      R200      19
+    C380      COST      30
+    C380      R190      5
+    C380      R198      7
+    C381      COST      29
+    C381      R190      14
+    C382      COST      16
+    C382      R192      2
+    C382      R193      16
+    C383      COST      28
+    C383      R195      20
+    C384      COST      2
+    C384      R192      19
+    C384      R193      10
+    C384      R195      11
+    C385      COST      16
+    C385      R183      15
+    C385      R192      12
+    C385      R194      8
+    C386      COST      27
+    C386      R188      3
+    C386      R200      7
+    C387      COST      16
+    C387      R181      3
+    C387      R193      4
+    C388      COST      24
+    C388      R195      1
+    C389      COST      10
+    C389      R190      13
+    C389      R195      12
+    C389      R198      9
+    C390      COST      14
+    C390      R187      7
+    C390      R192      16
+    C390      R197      7
+    C391      COST      7
+    C391      R188      9
+    C391      R195      18
+    C392      COST      23
+    C392      R182      9
+    C392      R184      5
+    C392      R185      18
+    C392      R186      20
+    C393      COST      10
+    C393      R191      4
+    C393      R199      11
+    C394      COST      6
+    C394      R182      3
+    C394      R198      13
+    C395      COST      18
+    C395      R194      16
+    C396      COST      7
+    C396      R189      16
+    C396      R191      13
+    C397      COST      16
+    C397      R183      8
+    C397      R189      12
+    C397      R192      8
+    C397      R199      18
+    C398      COST      11
+    C398      R190      19
+    C399      COST      28
+    C399      R191      17
+    C400      COST      4
+    C400      R184      20
+    C400      R191      1
+    C400      R194      18
+    C400      R200      4
+RHS
+    RHS       R1        138
+    RHS       R2        136
+    RHS       R3        115
+    RHS       R4        112
+    RHS       R5        183
+    RHS       R6        125
+    RHS       R7        173
+    RHS       R8        152
+    RHS       R9        161
+    RHS       R10       122
+    RHS       R11       138
+    RHS       R12       112
+    RHS       R13       197
+    RHS       R14       113
+    RHS       R15       148
+    RHS       R16       181
+    RHS       R17       198
+    RHS       R18       145
+    RHS       R19       152
+    RHS       R20       147
+    RHS       R21       131
+    RHS       R22       134
+    RHS       R23       123
+    RHS       R24       161
+    RHS       R25       177
+    RHS       R26       139
+    RHS       R27       144
+    RHS       R28       102
+    RHS       R29       145
+    RHS       R30       180
+    RHS       R31       148
+    RHS       R32       126
+    RHS       R33       107
+    RHS       R34       192
+    RHS       R35       169
+    RHS       R36       135
+    RHS       R37       106
+    RHS       R38       123
+    RHS       R39       149
+    RHS       R40       162
+    RHS       R41       102
+    RHS       R42       180
+    RHS       R43       114
+    RHS       R44       181
+    RHS       R45       168
+    RHS       R46       156
+    RHS       R47       167
+    RHS       R48       184
+    RHS       R49       198
+    RHS       R50       120
+    RHS       R51       117
+    RHS       R52       141
+    RHS       R53       198
+    RHS       R54       109
+    RHS       R55       144
+    RHS       R56       142
+    RHS       R57       101
+    RHS       R58       119
+    RHS       R59       144
+    RHS       R60       170
+    RHS       R61       197
+    RHS       R62       196
+    RHS       R63       150
+    RHS       R64       108
+    RHS       R65       175
+    RHS       R66       150
+    RHS       R67       177
+    RHS       R68       100
+    RHS       R69       176
+    RHS       R70       190
+    RHS       R71       162
+    RHS       R72       100
+    RHS       R73       192
+    RHS       R74       136
+    RHS       R75       125
+    RHS       R76       161
+    RHS       R77       163
+    RHS       R78       171
+    RHS       R79       156
+    RHS       R80       128
+    RHS       R81       174
+    RHS       R82       140
+    RHS       R83       170
+    RHS       R84       149
+    RHS       R85       194
+    RHS       R86       171
+    RHS       R87       118
+    RHS       R88       126
+    RHS       R89       127
+    RHS       R90       181
+    RHS       R91       107
+    RHS       R92       191
+    RHS       R93       196
+    RHS       R94       109
+    RHS       R95       153
+    RHS       R96       121
+    RHS       R97       118
+    RHS       R98       119
+    RHS       R99       192
+    RHS       R100      163
+    RHS       R101      105
+    RHS       R102      151
+    RHS       R103      117
+    RHS       R104      181
+    RHS       R105      166
+    RHS       R106      150
+    RHS       R107      135
+    RHS       R108      103
+    RHS       R109      113
+    RHS       R110      129
+    RHS       R111      158
+    RHS       R112      167
+    RHS       R113      160
+    RHS       R114      158
+    RHS       R115      195
+    RHS       R116      165
+    RHS       R117      117
+    RHS       R118      193
+    RHS       R119      151
+    RHS       R120      104
+    RHS       R121      119
+    RHS       R122      115
+    RHS       R123      128
+    RHS       R124      109
+    RHS       R125      131
+    RHS       R126      149
+    RHS       R127      156
+    RHS       R128      121
+    RHS       R129      166
+    RHS       R130      139
+    RHS       R131      173
+    RHS       R132      196
+    RHS       R133      132
+    RHS       R134      133
+    RHS       R135      158
+    RHS       R136      121
+    RHS       R137      130
+    RHS       R138      191
+    RHS       R139      146
+    RHS       R140      162
+    RHS       R141      158
+    RHS       R142      136
+    RHS       R143      166
+    RHS       R144      180
+    RHS       R145      100
+    RHS       R146      119
+    RHS       R147      141
+    RHS       R148      112
+    RHS       R149      108
+    RHS       R150      189
+    RHS       R151      155
+    RHS       R152      162
+    RHS       R153      155
+    RHS       R154      179
+    RHS       R155      113
+    RHS       R156      185
+    RHS       R157      101
+    RHS       R158      130
+    RHS       R159      112
+    RHS       R160      139
+    RHS       R161      127
+    RHS       R162      180
+    RHS       R163      143
+    RHS       R164      164
+    RHS       R165      197
+    RHS       R166      156
+    RHS       R167      150
+    RHS       R168      175
+    RHS       R169      176
+    RHS       R170      120
+    RHS       R171      165
+    RHS       R172      173
+    RHS       R173      102
+    RHS       R174      108
+    RHS       R175      191
+    RHS       R176      121
+    RHS       R177      194
+    RHS       R178      159
+    RHS       R179      182
+    RHS       R180      109
+    RHS       R181      135
+    RHS       R182      160
+    RHS       R183      162
+    RHS       R184      125
+    RHS       R185      141
+    RHS       R186      126
+    RHS       R187      149
+    RHS       R188      173
+    RHS       R189      157
+    RHS       R190      103
+    RHS       R191      129
+    RHS       R192      161
+    RHS       R193      172
+    RHS       R194      150
+    RHS       R195      182
+    RHS       R196      155
+    RHS       R197      149
+    RHS       R198      191
+    RHS       R199      101
+    RHS       R200      141
+BOUNDS
+ENDATA
@@ -0,0 +1,3355 @@
+NAME          staircase-400-degenerate
+OBJSENSE
+    MAX
+ROWS
+ N  COST
+ L  R1
+ L  R2
+ L  R3
+ L  R4
+ L  R5
+ L  R6
+ L  R7
+ L  R8
+ L  R9
+ L  R10
+ L  R11
+ L  R12
+ L  R13
+ L  R14
+ L  R15
+ L  R16
+ L  R17
+ L  R18
+ L  R19
+ L  R20
+ L  R21
+ L  R22
+ L  R23
+ L  R24
+ L  R25
+ L  R26
+ L  R27
+ L  R28
+ L  R29
+ L  R30
+ L  R31
+ L  R32
+ L  R33
+ L  R34
+ L  R35
+ L  R36
+ L  R37
+ L  R38
+ L  R39
+ L  R40
+ L  R41
+ L  R42
+ L  R43
+ L  R44
+ L  R45
+ L  R46
+ L  R47
+ L  R48
+ L  R49
+ L  R50
+ L  R51
+ L  R52
+ L  R53
+ L  R54
+ L  R55
+ L  R56
+ L  R57
+ L  R58
+ L  R59
+ L  R60
+ L  R61
+ L  R62
+ L  R63
+ L  R64
+ L  R65
+ L  R66
+ L  R67
+ L  R68
+ L  R69
+ L  R70
+ L  R71
+ L  R72
+ L  R73
+ L  R74
+ L  R75
+ L  R76
+ L  R77
+ L  R78
+ L  R79
+ L  R80
+ L  R81
+ L  R82
+ L  R83
+ L  R84
+ L  R85
+ L  R86
+ L  R87
+ L  R88
+ L  R89
+ L  R90
+ L  R91
+ L  R92
+ L  R93
+ L  R94
+ L  R95
+ L  R96
+ L  R97
+ L  R98
+ L  R99
+ L  R100
+ L  R101
+ L  R102
+ L  R103
+ L  R104
+ L  R105
+ L  R106
+ L  R107
+ L  R108
+ L  R109
+ L  R110
+ L  R111
+ L  R112
+ L  R113
+ L  R114
+ L  R115
+ L  R116
+ L  R117
+ L  R118
+ L  R119
+ L  R120
+ L  R121
+ L  R122
+ L  R123
+ L  R124
+ L  R125
+ L  R126
+ L  R127
+ L  R128
+ L  R129
+ L  R130
+ L  R131
+ L  R132
+ L  R133
+ L  R134
+ L  R135
+ L  R136
+ L  R137
+ L  R138
+ L  R139
+ L  R140
+ L  R141
+ L  R142
+ L  R143
+ L  R144
+ L  R145
+ L  R146
+ L  R147
+ L  R148
+ L  R149
+ L  R150
+ L  R151
+ L  R152
+ L  R153
+ L  R154
+ L  R155
+ L  R156
+ L  R157
+ L  R158
+ L  R159
+ L  R160
+ L  R161
+ L  R162
+ L  R163
+ L  R164
+ L  R165
+ L  R166
+ L  R167
+ L  R168
+ L  R169
+ L  R170
+ L  R171
+ L  R172
+ L  R173
+ L  R174
+ L  R175
+ L  R176
+ L  R177
+ L  R178
+ L  R179
+ L  R180
+ L  R181
+ L  R182
+ L  R183
+ L  R184
+ L  R185
+ L  R186
+ L  R187
+ L  R188
+ L  R189
+ L  R190
+ L  R191
+ L  R192
+ L  R193
+ L  R194
+ L  R195
+ L  R196
+ L  R197
+ L  R198
+ L  R199
+ L  R200
+ L  R201
+ L  R202
+ L  R203
+ L  R204
+ L  R205
+ L  R206
+ L  R207
+ L  R208
+ L  R209
+ L  R210
+ L  R211
+ L  R212
+ L  R213
+ L  R214
+ L  R215
+ L  R216
+ L  R217
+ L  R218
+ L  R219
+ L  R220
+ L  R221
+ L  R222
+ L  R223
+ L  R224
+ L  R225
+ L  R226
+ L  R227
+ L  R228
+ L  R229
+ L  R230
+ L  R231
+ L  R232
+ L  R233
+ L  R234
+ L  R235
+ L  R236
+ L  R237
+ L  R238
+ L  R239
+ L  R240
+ L  R241
+ L  R242
+ L  R243
+ L  R244
+ L  R245
+ L  R246
+ L  R247
+ L  R248
+ L  R249
+ L  R250
+ L  R251
+ L  R252
+ L  R253
+ L  R254
+ L  R255
+ L  R256
+ L  R257
+ L  R258
+ L  R259
+ L  R260
+ L  R261
+ L  R262
+ L  R263
+ L  R264
+ L  R265
+ L  R266
+ L  R267
+ L  R268
+ L  R269
+ L  R270
+ L  R271
+ L  R272
+ L  R273
+ L  R274
+ L  R275
+ L  R276
+ L  R277
+ L  R278
+ L  R279
+ L  R280
+ L  R281
+ L  R282
+ L  R283
+ L  R284
+ L  R285
+ L  R286
+ L  R287
+ L  R288
+ L  R289
+ L  R290
+ L  R291
+ L  R292
+ L  R293
+ L  R294
+ L  R295
+ L  R296
+ L  R297
+ L  R298
+ L  R299
+ L  R300
+ L  R301
+ L  R302
+ L  R303
+ L  R304
+ L  R305
+ L  R306
+ L  R307
+ L  R308
+ L  R309
+ L  R310
+ L  R311
+ L  R312
+ L  R313
+ L  R314
+ L  R315
+ L  R316
+ L  R317
+ L  R318
+ L  R319
+ L  R320
+ L  R321
+ L  R322
+ L  R323
+ L  R324
+ L  R325
+ L  R326
+ L  R327
+ L  R328
+ L  R329
+ L  R330
+ L  R331
+ L  R332
+ L  R333
+ L  R334
+ L  R335
+ L  R336
+ L  R337
+ L  R338
+ L  R339
+ L  R340
+ L  R341
+ L  R342
+ L  R343
+ L  R344
+ L  R345
+ L  R346
+ L  R347
+ L  R348
+ L  R349
+ L  R350
+ L  R351
+ L  R352
+ L  R353
+ L  R354
+ L  R355
+ L  R356
+ L  R357
+ L  R358
+ L  R359
+ L  R360
+ L  R361
+ L  R362
+ L  R363
+ L  R364
+ L  R365
+ L  R366
+ L  R367
+ L  R368
+ L  R369
+ L  R370
+ L  R371
+ L  R372
+ L  R373
+ L  R374
+ L  R375
+ L  R376
+ L  R377
+ L  R378
+ L  R379
+ L  R380
+ L  R381
+ L  R382
+ L  R383
+ L  R384
+ L  R385
+ L  R386
+ L  R387
+ L  R388
+ L  R389
+ L  R390
+ L  R391
+ L  R392
+ L  R393
+ L  R394
+ L  R395
+ L  R396
+ L  R397
+ L  R398
+ L  R399
+ L  R400
+COLUMNS
+    C1        COST      8
+    C1        R6        9
+    C2        COST      5
+    C2        R14       15
+    C3        COST      29
+    C3        R15       7
+    C4        COST      14
+    C4        R9        10
+    C4        R11       2
+    C4        R12       9
+    C5        COST      13
+    C5        R17       10
+    C5        R18       4
+    C6        COST      13
+    C6        R5        16
+    C6        R15       13
+    C7        COST      27
+    C7        R17       10
+    C8        COST      30
+    C8        R13       11
+    C8        R19       8
+    C9        COST      29
+    C9        R8        1
+    C9        R15       20
+    C9        R16       14
+    C10       COST      3
+    C10       R12       4
+    C10       R14       18
+    C10       R23       -1
+    C11       COST      1
+    C11       R3        5
+    C11       R6        15
+    C11       R40       -1
+    C12       COST      16
+    C12       R7        4
+    C12       R12       11
+    C12       R14       19
+    C12       R18       13
+    C12       R32       -1
+    C13       COST      16
+    C13       R2        7
+    C13       R10       1
+    C13       R34       -1
+    C14       COST      21
+    C14       R15       16
+    C14       R25       -1
+    C14       R28       -1
+    C15       COST      28
+    C15       R3        17
+    C15       R15       6
+    C15       R18       18
+    C16       COST      19
+    C16       R13       1
+    C17       COST      23
+    C17       R1        18
+    C17       R36       -1
+    C18       COST      16
+    C18       R13       8
+    C18       R14       17
+    C18       R38       -1
+    C19       COST      9
+    C19       R17       6
+    C19       R27       -1
+    C20       COST      15
+    C20       R10       5
+    C21       COST      17
+    C21       R1        30
+    C21       R4        12
+    C21       R37       -1
+    C22       COST      7
+    C22       R4        19
+    C22       R14       20
+    C22       R30       -1
+    C22       R33       -1
+    C22       R35       -1
+    C23       COST      6
+    C23       R7        9
+    C23       R9        15
+    C24       COST      17
+    C24       R6        17
+    C24       R9        20
+    C24       R16       11
+    C24       R17       11
+    C25       COST      13
+    C25       R3        18
+    C25       R10       6
+    C25       R14       3
+    C25       R15       6
+    C25       R16       19
+    C26       COST      2
+    C26       R3        11
+    C26       R8        13
+    C27       COST      9
+    C27       R2        18
+    C28       COST      19
+    C28       R3        2
+    C28       R6        9
+    C28       R14       9
+    C28       R24       -1
+    C28       R31       -1
+    C29       COST      30
+    C29       R6        10
+    C29       R22       -1
+    C29       R29       -1
+    C30       COST      1
+    C30       R3        11
+    C30       R5        20
+    C30       R16       20
+    C30       R26       -1
+    C31       COST      15
+    C31       R12       16
+    C31       R18       7
+    C32       COST      6
+    C32       R1        14
+    C33       COST      27
+    C33       R2        2
+    C33       R17       17
+    C34       COST      23
+    C34       R11       15
+    C35       COST      25
+    C35       R7        6
+    C35       R15       16
+    C35       R39       -1
+    C36       COST      4
+    C36       R2        4
+    C36       R5        9
+    C36       R21       -1
+    C37       COST      8
+    C37       R4        8
+    C37       R5        10
+    C38       COST      24
+    C38       R1        12
+    C39       COST      18
+    C39       R18       7
+    C40       COST      20
+    C40       R6        11
+    C40       R10       15
+    C40       R11       7
+    C41       COST      26
+    C41       R23       14
+    C41       R30       15
+    C41       R34       1
+    C41       R37       7
+    C41       R49       -1
+    C42       COST      9
+    C42       R34       19
+    C42       R53       -1
+    C43       COST      13
+    C43       R29       5
+    C44       COST      19
+    C44       R29       8
+    C44       R40       3
+    C45       COST      13
+    C45       R28       13
+    C45       R40       20
+    C45       R57       -1
+    C45       R59       -1
+    C46       COST      20
+    C46       R39       5
+    C47       COST      21
+    C47       R29       7
+    C47       R30       8
+    C47       R32       10
+    C48       COST      6
+    C48       R38       15
+    C49       COST      28
+    C49       R23       1
+    C49       R28       12
+    C49       R36       19
+    C49       R43       -1
+    C49       R54       -1
+    C49       R55       -1
+    C50       COST      17
+    C50       R31       2
+    C50       R60       -1
+    C51       COST      6
+    C51       R21       8
+    C51       R26       10
+    C51       R27       11
+    C51       R34       17
+    C52       COST      7
+    C52       R23       16
+    C52       R36       7
+    C53       COST      19
+    C53       R22       13
+    C53       R58       -1
+    C54       COST      22
+    C54       R23       2
+    C55       COST      5
+    C55       R32       13
+    C55       R40       4
+    C55       R52       -1
+    C56       COST      25
+    C56       R23       14
+    C56       R39       19
+    C56       R47       -1
+    C57       COST      11
+    C57       R30       19
+    C58       COST      3
+    C58       R26       15
+    C58       R33       10
+    C58       R34       3
+    C59       COST      28
+    C59       R39       2
+    C60       COST      14
+    C60       R21       16
+    C60       R39       4
+    C60       R41       -1
+    C61       COST      30
+    C61       R37       9
+    C62       COST      9
+    C62       R22       7
+    C62       R36       8
+    C62       R46       -1
+    C63       COST      22
+    C63       R21       11
+    C63       R33       4
+    C63       R56       -1
+    C64       COST      7
+    C64       R21       13
+    C65       COST      6
+    C65       R27       10
+    C66       COST      23
+    C66       R27       17
+    C66       R31       1
+    C66       R38       14
+    C67       COST      30
+    C67       R23       13
+    C67       R32       16
+    C68       COST      6
+    C68       R29       14
+    C68       R32       15
+    C68       R35       18
+    C69       COST      2
+    C69       R26       12
+    C69       R31       14
+    C69       R37       13
+    C69       R50       -1
+    C70       COST      22
+    C70       R40       6
+    C71       COST      4
+    C71       R25       18
+    C72       COST      7
+    C72       R27       13
+    C72       R42       -1
+    C72       R45       -1
+    C73       COST      23
+    C73       R34       1
+    C73       R37       18
+    C74       COST      23
+    C74       R24       6
+    C74       R27       11
+    C75       COST      15
+    C75       R28       7
+    C76       COST      26
+    C76       R28       16
+    C77       COST      4
+    C77       R21       8
+    C77       R27       13
+    C77       R30       4
+    C77       R51       -1
+    C78       COST      25
+    C78       R29       5
+    C78       R38       18
+    C78       R44       -1
+    C79       COST      1
+    C79       R37       20
+    C79       R38       19
+    C80       COST      8
+    C80       R31       19
+    C80       R36       2
+    C80       R48       -1
+    C81       COST      14
+    C81       R43       2
+    C81       R54       18
+    C81       R78       -1
+    C81       R79       -1
+    C82       COST      11
+    C82       R59       10
+    C82       R62       -1
+    C83       COST      17
+    C83       R45       10
+    C83       R50       8
+    C83       R66       -1
+    C84       COST      12
+    C84       R49       1
+    C84       R55       19
+    C85       COST      17
+    C85       R60       14
+    C86       COST      8
+    C86       R46       3
+    C86       R71       -1
+    C87       COST      29
+    C87       R45       13
+    C87       R52       14
+    C87       R58       8
+    C87       R65       -1
+    C88       COST      17
+    C88       R50       5
+    C88       R60       13
+    C88       R61       -1
+    C89       COST      2
+    C89       R54       4
+    C90       COST      6
+    C90       R48       10
+    C91       COST      27
+    C91       R43       8
+    C91       R56       23
+    C91       R67       -1
+    C92       COST      2
+    C92       R50       5
+    C92       R59       4
+    C92       R70       -1
+    C93       COST      20
+    C93       R45       15
+    C93       R51       7
+    C93       R60       13
+    C93       R75       -1
+    C94       COST      22
+    C94       R56       18
+    C94       R80       -1
+    C95       COST      7
+    C95       R54       19
+    C96       COST      22
+    C96       R45       3
+    C97       COST      16
+    C97       R51       5
+    C98       COST      7
+    C98       R53       20
+    C98       R57       1
+    C98       R60       1
+    C99       COST      4
+    C99       R46       11
+    C99       R51       17
+    C99       R58       14
+    C100      COST      19
+    C100      R50       15
+    C100      R52       1
+    C100      R72       -1
+    C101      COST      15
+    C101      R47       16
+    C101      R51       2
+    C101      R52       8
+    C101      R64       -1
+    C101      R69       -1
+    C102      COST      4
+    C102      R55       12
+    C102      R63       -1
+    C103      COST      25
+    C103      R51       20
+    C103      R74       -1
+    C104      COST      22
+    C104      R57       13
+    C105      COST      30
+    C105      R45       17
+    C105      R52       3
+    C106      COST      20
+    C106      R48       19
+    C106      R60       7
+    C107      COST      18
+    C107      R45       16
+    C107      R49       6
+    C107      R54       3
+    C108      COST      30
+    C108      R49       1
+    C109      COST      24
+    C109      R58       19
+    C110      COST      30
+    C110      R60       11
+    C111      COST      9
+    C111      R60       7
+    C111      R77       -1
+    C112      COST      13
+    C112      R44       6
+    C112      R45       13
+    C112      R50       19
+    C112      R60       1
+    C112      R68       -1
+    C113      COST      27
+    C113      R50       17
+    C114      COST      9
+    C114      R54       8
+    C114      R60       2
+    C114      R76       -1
+    C115      COST      27
+    C115      R60       19
+    C116      COST      14
+    C116      R41       9
+    C116      R44       12
+    C117      COST      10
+    C117      R43       6
+    C117      R49       3
+    C117      R57       20
+    C118      COST      3
+    C118      R51       19
+    C118      R54       9
+    C118      R55       6
+    C118      R58       8
+    C119      COST      14
+    C119      R42       20
+    C119      R44       7
+    C119      R73       -1
+    C120      COST      26
+    C120      R43       5
+    C120      R58       21
+    C121      COST      11
+    C121      R68       8
+    C121      R70       18
+    C121      R79       11
+    C121      R97       -1
+    C122      COST      16
+    C122      R67       1
+    C123      COST      27
+    C123      R61       13
+    C123      R95       -1
+    C123      R96       -1
+    C124      COST      10
+    C124      R63       13
+    C124      R64       3
+    C124      R76       16
+    C124      R77       19
+    C124      R100      -1
+    C125      COST      12
+    C125      R64       18
+    C125      R72       19
+    C125      R73       2
+    C125      R84       -1
+    C126      COST      14
+    C126      R67       19
+    C126      R71       16
+    C127      COST      5
+    C127      R62       1
+    C127      R65       7
+    C127      R71       2
+    C127      R75       16
+    C127      R80       19
+    C127      R85       -1
+    C128      COST      17
+    C128      R67       4
+    C128      R71       15
+    C129      COST      3
+    C129      R63       3
+    C129      R68       10
+    C130      COST      7
+    C130      R70       11
+    C131      COST      28
+    C131      R77       8
+    C132      COST      1
+    C132      R79       13
+    C132      R94       -1
+    C133      COST      18
+    C133      R68       20
+    C133      R71       12
+    C133      R77       18
+    C133      R89       -1
+    C134      COST      22
+    C134      R80       1
+    C134      R90       -1
+    C135      COST      17
+    C135      R78       13
+    C135      R98       -1
+    C136      COST      21
+    C136      R64       6
+    C136      R72       17
+    C137      COST      5
+    C137      R74       2
+    C137      R75       12
+    C138      COST      4
+    C138      R61       15
+    C138      R79       11
+    C138      R83       -1
+    C139      COST      9
+    C139      R61       8
+    C139      R78       15
+    C140      COST      8
+    C140      R61       7
+    C140      R64       15
+    C140      R75       5
+    C141      COST      22
+    C141      R62       10
+    C141      R72       15
+    C141      R75       16
+    C142      COST      15
+    C142      R64       16
+    C142      R74       20
+    C142      R77       13
+    C143      COST      19
+    C143      R67       1
+    C143      R80       13
+    C144      COST      7
+    C144      R66       14
+    C144      R67       8
+    C144      R82       -1
+    C145      COST      5
+    C145      R74       13
+    C146      COST      30
+    C146      R66       7
+    C146      R73       6
+    C146      R77       13
+    C146      R86       -1
+    C147      COST      18
+    C147      R66       20
+    C147      R88       -1
+    C148      COST      6
+    C148      R66       10
+    C148      R81       -1
+    C148      R93       -1
+    C149      COST      25
+    C149      R70       3
+    C149      R78       4
+    C150      COST      21
+    C150      R70       2
+    C151      COST      26
+    C151      R71       19
+    C151      R73       12
+    C151      R74       3
+    C152      COST      15
+    C152      R77       1
+    C153      COST      30
+    C153      R67       7
+    C153      R71       12
+    C153      R99       -1
+    C154      COST      3
+    C154      R67       17
+    C154      R70       6
+    C155      COST      18
+    C155      R65       5
+    C156      COST      17
+    C156      R70       14
+    C156      R72       7
+    C156      R76       1
+    C157      COST      12
+    C157      R68       10
+    C157      R69       4
+    C157      R78       5
+    C158      COST      27
+    C158      R68       16
+    C158      R91       -1
+    C159      COST      12
+    C159      R70       10
+    C159      R77       7
+    C160      COST      17
+    C160      R71       3
+    C160      R87       -1
+    C160      R92       -1
+    C161      COST      19
+    C161      R85       11
+    C161      R94       16
+    C162      COST      29
+    C162      R88       19
+    C163      COST      20
+    C163      R83       8
+    C163      R87       14
+    C163      R89       13
+    C164      COST      28
+    C164      R97       3
+    C164      R100      10
+    C164      R113      -1
+    C165      COST      11
+    C165      R83       14
+    C165      R84       19
+    C165      R96       18
+    C166      COST      7
+    C166      R85       20
+    C166      R93       12
+    C166      R97       4
+    C166      R104      -1
+    C166      R118      -1
+    C167      COST      11
+    C167      R82       9
+    C167      R88       2
+    C168      COST      29
+    C168      R81       20
+    C168      R89       17
+    C168      R93       13
+    C169      COST      27
+    C169      R95       10
+    C170      COST      27
+    C170      R82       14
+    C170      R95       4
+    C171      COST      24
+    C171      R92       4
+    C171      R94       16
+    C171      R108      -1
+    C172      COST      29
+    C172      R84       11
+    C172      R100      5
+    C173      COST      24
+    C173      R99       19
+    C173      R116      -1
+    C174      COST      16
+    C174      R99       10
+    C175      COST      6
+    C175      R86       11
+    C175      R100      4
+    C175      R105      -1
+    C176      COST      8
+    C176      R83       8
+    C176      R87       16
+    C176      R92       12
+    C176      R100      9
+    C176      R102      -1
+    C176      R106      -1
+    C176      R112      -1
+    C177      COST      11
+    C177      R91       20
+    C178      COST      30
+    C178      R92       9
+    C178      R93       4
+    C179      COST      29
+    C179      R92       18
+    C180      COST      3
+    C180      R82       14
+    C180      R89       5
+    C180      R96       2
+    C181      COST      3
+    C181      R85       3
+    C181      R86       10
+    C181      R97       3
+    C182      COST      12
+    C182      R90       12
+    C182      R109      -1
+    C183      COST      27
+    C183      R82       9
+    C183      R85       12
+    C183      R91       3
+    C184      COST      18
+    C184      R83       20
+    C184      R90       12
+    C184      R91       5
+    C184      R96       4
+    C185      COST      29
+    C185      R84       6
+    C185      R98       15
+    C186      COST      13
+    C186      R91       3
+    C186      R100      3
+    C186      R110      -1
+    C186      R120      -1
+    C187      COST      15
+    C187      R81       19
+    C187      R97       19
+    C187      R98       14
+    C187      R100      2
+    C188      COST      14
+    C188      R90       4
+    C188      R91       10
+    C188      R94       11
+    C189      COST      6
+    C189      R91       2
+    C190      COST      6
+    C190      R93       17
+    C191      COST      30
+    C191      R93       6
+    C191      R96       17
+    C191      R98       14
+    C192      COST      17
+    C192      R84       2
+    C192      R111      -1
+    C193      COST      1
+    C193      R81       12
+    C193      R91       8
+    C194      COST      9
+    C194      R91       8
+    C194      R119      -1
+    C195      COST      8
+    C195      R87       3
+    C195      R100      6
+    C196      COST      21
+    C196      R90       13
+    C197      COST      10
+    C197      R87       19
+    C197      R89       17
+    C197      R92       13
+    C197      R101      -1
+    C197      R103      -1
+    C197      R107      -1
+    C198      COST      13
+    C198      R98       7
+    C198      R99       7
+    C198      R117      -1
+    C199      COST      6
+    C199      R95       18
+    C199      R98       7
+    C200      COST      16
+    C200      R90       9
+    C200      R96       19
+    C200      R114      -1
+    C200      R115      -1
+    C201      COST      14
+    C201      R108      16
+    C202      COST      9
+    C202      R105      3
+    C203      COST      18
+    C203      R105      13
+    C203      R111      6
+    C204      COST      27
+    C204      R103      5
+    C205      COST      15
+    C205      R116      9
+    C206      COST      6
+    C206      R106      20
+    C206      R109      20
+    C206      R117      14
+    C206      R136      -1
+    C206      R137      -1
+    C207      COST      14
+    C207      R103      14
+    C207      R104      9
+    C207      R110      9
+    C208      COST      12
+    C208      R119      8
+    C209      COST      23
+    C209      R117      16
+    C209      R124      -1
+    C210      COST      11
+    C210      R101      14
+    C210      R104      2
+    C211      COST      7
+    C211      R102      17
+    C211      R114      1
+    C211      R117      10
+    C212      COST      19
+    C212      R105      14
+    C213      COST      16
+    C213      R103      6
+    C214      COST      4
+    C214      R104      4
+    C214      R130      -1
+    C214      R138      -1
+    C215      COST      29
+    C215      R105      10
+    C215      R107      4
+    C216      COST      17
+    C216      R103      4
+    C216      R106      3
+    C216      R107      8
+    C216      R115      32
+    C217      COST      15
+    C217      R101      10
+    C218      COST      7
+    C218      R102      20
+    C219      COST      8
+    C219      R116      11
+    C219      R119      5
+    C220      COST      10
+    C220      R115      14
+    C220      R116      16
+    C220      R119      17
+    C220      R121      -1
+    C221      COST      6
+    C221      R103      12
+    C221      R104      17
+    C222      COST      24
+    C222      R104      20
+    C222      R112      6
+    C222      R132      -1
+    C223      COST      17
+    C223      R118      5
+    C223      R125      -1
+    C224      COST      1
+    C224      R107      3
+    C224      R118      13
+    C224      R139      -1
+    C225      COST      9
+    C225      R115      3
+    C225      R118      3
+    C226      COST      14
+    C226      R101      24
+    C226      R117      12
+    C226      R118      9
+    C226      R122      -1
+    C227      COST      12
+    C227      R106      8
+    C227      R114      12
+    C227      R133      -1
+    C227      R135      -1
+    C228      COST      25
+    C228      R115      11
+    C229      COST      23
+    C229      R113      2
+    C230      COST      12
+    C230      R104      16
+    C231      COST      18
+    C231      R104      8
+    C231      R116      9
+    C231      R134      -1
+    C232      COST      28
+    C232      R104      1
+    C232      R112      19
+    C232      R129      -1
+    C233      COST      9
+    C233      R103      12
+    C234      COST      3
+    C234      R120      2
+    C235      COST      7
+    C235      R105      3
+    C235      R120      20
+    C236      COST      12
+    C236      R103      7
+    C236      R113      17
+    C236      R117      10
+    C236      R119      20
+    C236      R123      -1
+    C236      R126      -1
+    C237      COST      3
+    C237      R106      15
+    C237      R109      2
+    C237      R111      20
+    C237      R114      7
+    C237      R127      -1
+    C237      R128      -1
+    C237      R140      -1
+    C238      COST      17
+    C238      R115      1
+    C238      R116      16
+    C238      R120      20
+    C238      R131      -1
+    C239      COST      1
+    C239      R111      25
+    C239      R116      13
+    C240      COST      11
+    C240      R118      2
+    C241      COST      26
+    C241      R122      7
+    C241      R124      13
+    C241      R160      -1
+    C242      COST      2
+    C242      R124      14
+    C242      R134      9
+    C242      R135      16
+    C242      R139      13
+    C243      COST      17
+    C243      R126      9
+    C243      R137      15
+    C243      R142      -1
+    C244      COST      13
+    C244      R122      10
+    C244      R144      -1
+    C244      R154      -1
+    C245      COST      29
+    C245      R132      12
+    C245      R136      7
+    C246      COST      20
+    C246      R129      5
+    C246      R132      2
+    C247      COST      6
+    C247      R134      3
+    C247      R153      -1
+    C248      COST      20
+    C248      R135      4
+    C248      R150      -1
+    C249      COST      23
+    C249      R121      8
+    C249      R129      9
+    C249      R138      10
+    C250      COST      28
+    C250      R124      6
+    C250      R127      4
+    C251      COST      3
+    C251      R127      15
+    C251      R129      14
+    C251      R136      7
+    C252      COST      22
+    C252      R124      11
+    C252      R133      2
+    C252      R137      4
+    C252      R158      -1
+    C253      COST      14
+    C253      R121      8
+    C253      R135      5
+    C253      R138      20
+    C254      COST      4
+    C254      R130      19
+    C254      R133      17
+    C254      R136      18
+    C254      R138      8
+    C255      COST      24
+    C255      R128      17
+    C255      R130      14
+    C255      R156      -1
+    C256      COST      11
+    C256      R124      15
+    C256      R126      12
+    C256      R146      -1
+    C257      COST      7
+    C257      R121      15
+    C258      COST      5
+    C258      R125      9
+    C258      R131      11
+    C258      R143      -1
+    C259      COST      8
+    C259      R122      3
+    C259      R123      13
+    C259      R132      15
+    C259      R145      -1
+    C259      R157      -1
+    C260      COST      21
+    C260      R122      2
+    C260      R135      6
+    C261      COST      23
+    C261      R129      6
+    C261      R139      3
+    C262      COST      7
+    C262      R130      20
+    C262      R147      -1
+    C262      R149      -1
+    C263      COST      19
+    C263      R124      18
+    C263      R130      1
+    C263      R132      20
+    C263      R155      -1
+    C264      COST      5
+    C264      R132      1
+    C265      COST      26
+    C265      R123      6
+    C265      R127      11
+    C265      R141      -1
+    C266      COST      17
+    C266      R128      2
+    C266      R136      8
+    C267      COST      4
+    C267      R137      8
+    C267      R151      -1
+    C268      COST      6
+    C268      R133      12
+    C269      COST      28
+    C269      R124      3
+    C269      R126      4
+    C269      R152      -1
+    C270      COST      21
+    C270      R128      11
+    C271      COST      26
+    C271      R125      30
+    C271      R132      2
+    C272      COST      14
+    C272      R136      14
+    C273      COST      3
+    C273      R131      2
+    C274      COST      22
+    C274      R131      13
+    C274      R139      5
+    C275      COST      15
+    C275      R122      12
+    C275      R128      20
+    C276      COST      24
+    C276      R123      19
+    C276      R137      11
+    C276      R140      12
+    C277      COST      8
+    C277      R130      6
+    C277      R132      10
+    C277      R133      16
+    C278      COST      26
+    C278      R122      8
+    C278      R128      18
+    C278      R131      10
+    C279      COST      8
+    C279      R121      17
+    C279      R132      9
+    C279      R159      -1
+    C280      COST      12
+    C280      R124      14
+    C280      R125      3
+    C280      R130      16
+    C280      R140      9
+    C280      R148      -1
+    C281      COST      20
+    C281      R148      18
+    C282      COST      12
+    C282      R141      8
+    C282      R178      -1
+    C283      COST      23
+    C283      R147      5
+    C283      R153      17
+    C284      COST      10
+    C284      R156      20
+    C285      COST      4
+    C285      R147      20
+    C285      R155      1
+    C285      R167      -1
+    C286      COST      29
+    C286      R149      8
+    C286      R155      9
+    C286      R157      17
+    C287      COST      4
+    C287      R146      5
+    C287      R157      19
+    C287      R161      -1
+    C288      COST      12
+    C288      R156      17
+    C289      COST      1
+    C289      R151      8
+    C289      R160      16
+    C289      R163      -1
+    C290      COST      18
+    C290      R153      20
+    C290      R160      3
+    C290      R172      -1
+    C291      COST      14
+    C291      R141      2
+    C291      R142      2
+    C291      R145      4
+    C291      R179      -1
+    C292      COST      27
+    C292      R151      20
+    C293      COST      26
+    C293      R147      10
+    C293      R157      14
+    C294      COST      4
+    C294      R155      4
+    C295      COST      17
+    C295      R151      14
+    C295      R153      11
+    C295      R162      -1
+    C296      COST      11
+    C296      R141      15
+    C296      R177      -1
+    C296      R180      -1
+    C297      COST      22
+    C297      R152      9
+    C297      R158      17
+    C298      COST      13
+    C298      R149      6
+    C298      R154      7
+    C298      R160      20
+    C299      COST      23
+    C299      R159      12
+    C299      R165      -1
+    C300      COST      9
+    C300      R150      12
+    C301      COST      2
+    C301      R147      9
+    C301      R171      -1
+    C302      COST      8
+    C302      R142      19
+    C303      COST      11
+    C303      R142      6
+    C303      R143      16
+    C303      R147      20
+    C304      COST      29
+    C304      R142      13
+    C304      R146      8
+    C304      R147      13
+    C304      R148      7
+    C305      COST      2
+    C305      R146      5
+    C305      R156      20
+    C306      COST      11
+    C306      R146      14
+    C306      R152      15
+    C306      R157      7
+    C307      COST      10
+    C307      R148      3
+    C307      R153      5
+    C307      R170      -1
+    C308      COST      3
+    C308      R141      1
+    C308      R166      -1
+    C309      COST      15
+    C309      R149      5
+    C309      R175      -1
+    C310      COST      4
+    C310      R146      7
+    C310      R154      9
+    C310      R173      -1
+    C311      COST      9
+    C311      R147      13
+    C311      R174      -1
+    C312      COST      20
+    C312      R144      17
+    C312      R146      2
+    C312      R159      5
+    C312      R176      -1
+    C313      COST      24
+    C313      R146      18
+    C313      R153      20
+    C313      R154      4
+    C314      COST      15
+    C314      R153      10
+    C314      R159      18
+    C315      COST      12
+    C315      R147      16
+    C315      R159      13
+    C316      COST      7
+    C316      R152      15
+    C316      R168      -1
+    C316      R169      -1
+    C317      COST      23
+    C317      R160      20
+    C318      COST      24
+    C318      R146      11
+    C318      R164      -1
+    C319      COST      23
+    C319      R141      3
+    C319      R149      9
+    C319      R156      1
+    C320      COST      6
+    C320      R144      20
+    C320      R152      12
+    C321      COST      6
+    C321      R171      3
+    C321      R173      20
+    C321      R175      20
+    C321      R180      14
+    C322      COST      20
+    C322      R162      20
+    C322      R164      4
+    C322      R186      -1
+    C322      R188      -1
+    C323      COST      19
+    C323      R170      4
+    C323      R172      8
+    C323      R173      17
+    C324      COST      29
+    C324      R172      12
+    C324      R176      8
+    C325      COST      11
+    C325      R169      10
+    C326      COST      20
+    C326      R161      3
+    C326      R166      14
+    C326      R170      8
+    C326      R174      16
+    C326      R190      -1
+    C327      COST      22
+    C327      R161      10
+    C327      R164      8
+    C327      R187      -1
+    C328      COST      11
+    C328      R163      16
+    C329      COST      16
+    C329      R171      20
+    C330      COST      29
+    C330      R164      9
+    C330      R184      -1
+    C331      COST      13
+    C331      R161      3
+    C331      R171      7
+    C332      COST      14
+    C332      R171      12
+    C332      R175      27
+    C332      R194      -1
+    C332      R200      -1
+    C333      COST      16
+    C333      R166      2
+    C334      COST      2
+    C334      R161      14
+    C334      R175      3
+    C334      R199      -1
+    C335      COST      27
+    C335      R168      9
+    C335      R169      19
+    C335      R172      13
+    C336      COST      23
+    C336      R165      11
+    C336      R174      14
+    C336      R177      19
+    C336      R189      -1
+    C336      R198      -1
+    C337      COST      1
+    C337      R161      9
+    C337      R175      2
+    C337      R177      6
+    C338      COST      23
+    C338      R165      8
+    C338      R166      18
+    C338      R168      2
+    C338      R191      -1
+    C339      COST      8
+    C339      R171      20
+    C340      COST      23
+    C340      R164      1
+    C340      R169      7
+    C340      R170      9
+    C341      COST      27
+    C341      R163      3
+    C341      R169      17
+    C341      R172      19
+    C342      COST      30
+    C342      R165      20
+    C342      R179      2
+    C342      R181      -1
+    C343      COST      3
+    C343      R175      4
+    C343      R193      -1
+    C344      COST      29
+    C344      R180      12
+    C345      COST      21
+    C345      R165      19
+    C346      COST      15
+    C346      R162      12
+    C346      R168      17
+    C346      R185      -1
+    C347      COST      2
+    C347      R168      11
+    C348      COST      25
+    C348      R175      3
+    C349      COST      24
+    C349      R162      16
+    C349      R164      9
+    C350      COST      2
+    C350      R162      5
+    C350      R177      3
+    C350      R182      -1
+    C351      COST      9
+    C351      R163      8
+    C351      R170      1
+    C351      R192      -1
+    C352      COST      30
+    C352      R173      11
+    C352      R197      -1
+    C353      COST      14
+    C353      R161      8
+    C354      COST      28
+    C354      R162      20
+    C354      R167      11
+    C354      R196      -1
+    C355      COST      27
+    C355      R165      6
+    C355      R180      14
+    C356      COST      6
+    C356      R175      7
+    C357      COST      27
+    C357      R163      2
+    C357      R167      7
+    C358      COST      17
+    C358      R162      3
+    C358      R174      16
+    C358      R177      15
+    C359      COST      15
+    C359      R163      15
+    C359      R170      7
+    C360      COST      27
+    C360      R164      20
+    C360      R168      7
+    C360      R183      -1
+    C360      R195      -1
+    C361      COST      6
+    C361      R187      7
+    C361      R197      19
+    C362      COST      11
+    C362      R182      11
+    C362      R208      -1
+    C362      R220      -1
+    C363      COST      27
+    C363      R194      18
+    C363      R207      -1
+    C364      COST      19
+    C364      R189      7
+    C364      R196      7
+    C365      COST      20
+    C365      R183      4
+    C365      R186      14
+    C365      R193      12
+    C365      R197      16
+    C365      R201      -1
+    C366      COST      19
+    C366      R183      11
+    C366      R200      15
+    C366      R210      -1
+    C367      COST      15
+    C367      R181      8
+    C367      R197      3
+    C367      R198      8
+    C367      R218      -1
+    C368      COST      25
+    C368      R185      19
+    C368      R190      14
+    C368      R194      12
+    C368      R202      -1
+    C368      R205      -1
+    C368      R213      -1
+    C369      COST      16
+    C369      R182      18
+    C369      R197      11
+    C370      COST      11
+    C370      R181      20
+    C370      R190      20
+    C371      COST      22
+    C371      R187      7
+    C372      COST      30
+    C372      R184      12
+    C373      COST      6
+    C373      R191      5
+    C373      R195      1
+    C374      COST      7
+    C374      R185      10
+    C375      COST      23
+    C375      R181      19
+    C375      R199      16
+    C376      COST      26
+    C376      R200      13
+    C376      R217      -1
+    C377      COST      12
+    C377      R182      3
+    C377      R187      12
+    C377      R194      16
+    C377      R216      -1
+    C378      COST      8
+    C378      R190      19
+    C378      R211      -1
+    C379      COST      22
+    C379      R193      15
+    C379      R194      10
+    C380      COST      3
+    C380      R186      6
+    C380      R193      12
+    C380      R196      11
+    C381      COST      4
+    C381      R190      24
+    C381      R195      8
+    C382      COST      30
+    C382      R183      9
+    C382      R193      17
+    C382      R204      -1
+    C383      COST      24
+    C383      R185      12
+    C383      R186      18
+    C383      R209      -1
+    C384      COST      6
+    C384      R183      3
+    C384      R189      9
+    C384      R194      1
+    C385      COST      11
+    C385      R183      2
+    C385      R193      16
+    C385      R196      12
+    C386      COST      12
+    C386      R193      14
+    C386      R214      -1
+    C387      COST      28
+    C387      R194      16
+    C387      R198      7
+    C387      R199      9
+    C388      COST      2
+    C388      R189      4
+    C389      COST      27
+    C389      R190      16
+    C389      R193      9
+    C389      R206      -1
+    C390      COST      3
+    C390      R188      14
+    C390      R190      12
+    C390      R212      -1
+    C391      COST      13
+    C391      R186      19
+    C391      R200      11
+    C392      COST      5
+    C392      R189      18
+    C392      R193      8
+    C392      R203      -1
+    C393      COST      25
+    C393      R184      7
+    C394      COST      5
+    C394      R192      1
+    C394      R193      5
+    C395      COST      16
+    C395      R181      20
+    C395      R200      18
+    C396      COST      19
+    C396      R190      9
+    C396      R191      10
+    C396      R195      18
+    C397      COST      27
+    C397      R188      16
+    C397      R191      7
+    C398      COST      30
+    C398      R200      18
+    C398      R219      -1
+    C399      COST      12
+    C399      R191      20
+    C399      R192      8
+    C400      COST      4
+    C400      R181      13
+    C400      R215      -1
+    C401      COST      12
+    C401      R215      13
+    C402      COST      24
+    C402      R203      2
+    C402      R205      7
+    C402      R206      12
+    C402      R208      2
+    C402      R220      15
+    C403      COST      19
+    C403      R201      9
+    C403      R214      1
+    C404      COST      2
+    C404      R201      12
+    C404      R217      15
+    C404      R218      11
+    C405      COST      25
+    C405      R206      20
+    C406      COST      3
+    C406      R220      10
+    C407      COST      5
+    C407      R214      17
+    C407      R230      -1
+    C408      COST      30
+    C408      R207      11
+    C409      COST      11
+    C409      R211      7
+    C409      R218      11
+    C409      R233      -1
+    C410      COST      27
+    C410      R209      18
+    C410      R211      1
+    C410      R226      -1
+    C411      COST      15
+    C411      R208      3
+    C411      R216      18
+    C411      R228      -1
+    C411      R229      -1
+    C412      COST      19
+    C412      R215      19
+    C412      R236      -1
+    C413      COST      4
+    C413      R206      16
+    C413      R231      -1
+    C413      R239      -1
+    C414      COST      25
+    C414      R206      9
+    C414      R218      10
+    C414      R223      -1
+    C414      R237      -1
+    C415      COST      30
+    C415      R201      11
+    C415      R202      8
+    C415      R207      18
+    C415      R211      13
+    C415      R225      -1
+    C416      COST      10
+    C416      R203      16
+    C416      R204      14
+    C417      COST      15
+    C417      R207      20
+    C418      COST      2
+    C418      R206      9
+    C418      R207      8
+    C418      R209      19
+    C418      R212      19
+    C418      R219      5
+    C419      COST      13
+    C419      R203      15
+    C419      R207      5
+    C419      R221      -1
+    C420      COST      24
+    C420      R208      5
+    C420      R224      -1
+    C421      COST      12
+    C421      R202      17
+    C421      R213      7
+    C422      COST      29
+    C422      R212      10
+    C423      COST      19
+    C423      R214      14
+    C423      R215      15
+    C424      COST      26
+    C424      R209      12
+    C424      R218      19
+    C425      COST      6
+    C425      R211      19
+    C425      R238      -1
+    C426      COST      14
+    C426      R202      17
+    C427      COST      14
+    C427      R204      14
+    C427      R214      12
+    C427      R218      14
+    C427      R240      -1
+    C428      COST      7
+    C428      R210      2
+    C428      R234      -1
+    C429      COST      28
+    C429      R203      13
+    C429      R219      12
+    C430      COST      13
+    C430      R215      9
+    C430      R220      14
+    C431      COST      2
+    C431      R201      16
+    C431      R232      -1
+    C432      COST      7
+    C432      R202      16
+    C433      COST      10
+    C433      R209      15
+    C433      R213      5
+    C434      COST      22
+    C434      R211      14
+    C434      R222      -1
+    C435      COST      20
+    C435      R206      8
+    C435      R209      15
+    C435      R210      10
+    C436      COST      26
+    C436      R202      1
+    C436      R208      14
+    C437      COST      28
+    C437      R212      12
+    C437      R216      1
+    C437      R218      6
+    C437      R227      -1
+    C438      COST      12
+    C438      R213      18
+    C439      COST      16
+    C439      R205      5
+    C439      R235      -1
+    C440      COST      17
+    C440      R220      5
+    C441      COST      8
+    C441      R228      16
+    C441      R234      15
+    C441      R237      3
+    C442      COST      29
+    C442      R228      14
+    C443      COST      26
+    C443      R230      1
+    C443      R257      -1
+    C444      COST      7
+    C444      R240      17
+    C445      COST      2
+    C445      R221      11
+    C446      COST      9
+    C446      R222      18
+    C446      R223      15
+    C446      R234      13
+    C446      R235      10
+    C446      R251      -1
+    C447      COST      4
+    C447      R230      18
+    C447      R249      -1
+    C448      COST      25
+    C448      R239      6
+    C448      R240      8
+    C448      R242      -1
+    C448      R259      -1
+    C449      COST      4
+    C449      R223      14
+    C449      R231      17
+    C449      R248      -1
+    C450      COST      29
+    C450      R223      2
+    C450      R233      13
+    C450      R236      8
+    C451      COST      7
+    C451      R221      16
+    C451      R239      16
+    C451      R240      20
+    C452      COST      2
+    C452      R224      4
+    C452      R228      16
+    C453      COST      11
+    C453      R233      15
+    C454      COST      16
+    C454      R224      2
+    C454      R238      5
+    C455      COST      5
+    C455      R221      9
+    C455      R232      1
+    C455      R236      9
+    C455      R243      -1
+    C455      R244      -1
+    C455      R256      -1
+    C456      COST      12
+    C456      R240      7
+    C456      R250      -1
+    C457      COST      20
+    C457      R225      1
+    C457      R229      13
+    C457      R231      12
+    C458      COST      18
+    C458      R224      10
+    C458      R227      13
+    C459      COST      25
+    C459      R224      19
+    C459      R235      5
+    C459      R245      -1
+    C460      COST      4
+    C460      R235      6
+    C460      R238      5
+    C461      COST      29
+    C461      R233      4
+    C461      R235      11
+    C462      COST      10
+    C462      R223      11
+    C462      R246      -1
+    C462      R252      -1
+    C463      COST      1
+    C463      R224      15
+    C464      COST      10
+    C464      R225      15
+    C464      R227      15
+    C464      R247      -1
+    C465      COST      9
+    C465      R221      12
+    C466      COST      20
+    C466      R222      10
+    C466      R224      15
+    C466      R225      4
+    C466      R254      -1
+    C467      COST      15
+    C467      R230      13
+    C468      COST      5
+    C468      R240      2
+    C469      COST      2
+    C469      R229      11
+    C469      R232      1
+    C469      R236      1
+    C470      COST      27
+    C470      R231      2
+    C470      R237      5
+    C470      R240      19
+    C471      COST      9
+    C471      R240      18
+    C471      R241      -1
+    C471      R258      -1
+    C471      R260      -1
+    C472      COST      5
+    C472      R226      17
+    C473      COST      18
+    C473      R221      7
+    C473      R231      10
+    C473      R240      19
+    C474      COST      3
+    C474      R225      18
+    C474      R235      18
+    C475      COST      14
+    C475      R222      4
+    C476      COST      29
+    C476      R223      14
+    C476      R228      14
+    C476      R233      20
+    C477      COST      24
+    C477      R224      28
+    C477      R237      20
+    C477      R255      -1
+    C478      COST      9
+    C478      R236      20
+    C478      R253      -1
+    C479      COST      24
+    C479      R229      4
+    C479      R235      11
+    C479      R237      10
+    C480      COST      25
+    C480      R226      8
+    C480      R228      17
+    C480      R231      3
+    C481      COST      20
+    C481      R243      12
+    C481      R244      9
+    C482      COST      1
+    C482      R245      13
+    C482      R251      16
+    C482      R261      -1
+    C483      COST      16
+    C483      R246      18
+    C484      COST      30
+    C484      R258      14
+    C484      R263      -1
+    C485      COST      6
+    C485      R244      14
+    C485      R260      11
+    C485      R278      -1
+    C486      COST      25
+    C486      R242      9
+    C486      R254      18
+    C486      R277      -1
+    C487      COST      13
+    C487      R249      6
+    C487      R269      -1
+    C488      COST      17
+    C488      R247      12
+    C488      R257      7
+    C488      R264      -1
+    C489      COST      28
+    C489      R251      20
+    C490      COST      30
+    C490      R242      20
+    C490      R247      6
+    C490      R265      -1
+    C491      COST      2
+    C491      R242      18
+    C491      R254      17
+    C492      COST      6
+    C492      R260      5
+    C493      COST      21
+    C493      R256      17
+    C494      COST      21
+    C494      R248      3
+    C494      R254      20
+    C494      R276      -1
+    C495      COST      1
+    C495      R244      8
+    C495      R250      15
+    C495      R253      16
+    C495      R268      -1
+    C495      R280      -1
+    C496      COST      22
+    C496      R249      12
+    C496      R251      19
+    C496      R255      15
+    C496      R273      -1
+    C497      COST      8
+    C497      R257      2
+    C497      R258      9
+    C497      R260      17
+    C498      COST      28
+    C498      R249      4
+    C499      COST      26
+    C499      R251      20
+    C499      R257      20
+    C500      COST      21
+    C500      R255      13
+    C500      R274      -1
+    C501      COST      18
+    C501      R257      7
+    C501      R259      11
+    C501      R260      13
+    C502      COST      3
+    C502      R243      3
+    C503      COST      23
+    C503      R241      17
+    C503      R249      20
+    C504      COST      3
+    C504      R241      19
+    C504      R257      2
+    C505      COST      28
+    C505      R241      8
+    C505      R252      6
+    C505      R256      7
+    C505      R270      -1
+    C506      COST      29
+    C506      R248      18
+    C506      R249      7
+    C506      R258      18
+    C506      R279      -1
+    C507      COST      26
+    C507      R242      3
+    C507      R254      10
+    C507      R266      -1
+    C507      R275      -1
+    C508      COST      27
+    C508      R249      3
+    C508      R256      10
+    C508      R262      -1
+    C509      COST      29
+    C509      R242      10
+    C509      R245      5
+    C509      R253      12
+    C509      R272      -1
+    C510      COST      27
+    C510      R251      19
+    C511      COST      1
+    C511      R246      19
+    C512      COST      1
+    C512      R244      7
+    C513      COST      15
+    C513      R243      8
+    C513      R245      4
+    C513      R249      16
+    C514      COST      26
+    C514      R241      16
+    C514      R242      7
+    C515      COST      6
+    C515      R242      18
+    C515      R250      3
+    C515      R260      14
+    C516      COST      1
+    C516      R243      3
+    C516      R260      3
+    C517      COST      7
+    C517      R242      7
+    C517      R243      6
+    C517      R246      1
+    C517      R271      -1
+    C518      COST      16
+    C518      R244      6
+    C518      R251      20
+    C518      R260      3
+    C518      R267      -1
+    C519      COST      19
+    C519      R247      28
+    C520      COST      13
+    C520      R241      16
+    C520      R246      1
+    C520      R255      1
+    C520      R256      19
+    C521      COST      21
+    C521      R262      10
+    C521      R277      8
+    C522      COST      8
+    C522      R272      18
+    C522      R274      14
+    C523      COST      8
+    C523      R267      8
+    C523      R285      -1
+    C523      R298      -1
+    C524      COST      15
+    C524      R270      14
+    C524      R271      8
+    C524      R275      15
+    C524      R276      8
+    C524      R277      20
+    C524      R292      -1
+    C524      R296      -1
+    C525      COST      24
+    C525      R264      15
+    C526      COST      14
+    C526      R268      6
+    C527      COST      1
+    C527      R262      13
+    C527      R286      -1
+    C527      R293      -1
+    C528      COST      12
+    C528      R263      19
+    C528      R269      7
+    C529      COST      12
+    C529      R270      13
+    C529      R279      9
+    C529      R280      8
+    C529      R287      -1
+    C530      COST      4
+    C530      R272      11
+    C530      R276      19
+    C531      COST      19
+    C531      R264      10
+    C531      R278      7
+    C531      R279      6
+    C532      COST      1
+    C532      R266      12
+    C532      R271      15
+    C532      R278      18
+    C533      COST      5
+    C533      R262      19
+    C534      COST      22
+    C534      R264      10
+    C535      COST      8
+    C535      R271      17
+    C535      R278      7
+    C535      R281      -1
+    C535      R299      -1
+    C536      COST      18
+    C536      R270      3
+    C536      R274      5
+    C536      R275      18
+    C537      COST      4
+    C537      R264      9
+    C537      R272      12
+    C537      R277      4
+    C538      COST      6
+    C538      R270      29
+    C539      COST      7
+    C539      R261      13
+    C539      R273      11
+    C539      R275      13
+    C539      R280      11
+    C539      R283      -1
+    C540      COST      21
+    C540      R272      11
+    C540      R276      1
+    C541      COST      2
+    C541      R274      15
+    C541      R280      15
+    C542      COST      3
+    C542      R276      10
+    C542      R282      -1
+    C542      R289      -1
+    C542      R290      -1
+    C543      COST      7
+    C543      R262      16
+    C543      R268      2
+    C543      R269      6
+    C543      R278      4
+    C543      R291      -1
+    C544      COST      7
+    C544      R265      4
+    C544      R274      3
+    C544      R280      11
+    C545      COST      5
+    C545      R261      8
+    C545      R275      15
+    C545      R288      -1
+    C546      COST      3
+    C546      R265      12
+    C547      COST      14
+    C547      R271      5
+    C547      R280      13
+    C547      R297      -1
+    C548      COST      30
+    C548      R261      6
+    C548      R271      10
+    C548      R272      7
+    C549      COST      10
+    C549      R265      1
+    C550      COST      22
+    C550      R264      11
+    C550      R276      6
+    C550      R277      19
+    C551      COST      5
+    C551      R274      12
+    C551      R280      1
+    C552      COST      16
+    C552      R263      5
+    C552      R267      20
+    C552      R277      4
+    C553      COST      8
+    C553      R278      7
+    C554      COST      24
+    C554      R261      18
+    C554      R265      5
+    C555      COST      21
+    C555      R265      3
+    C555      R295      -1
+    C556      COST      2
+    C556      R269      1
+    C557      COST      21
+    C557      R266      11
+    C557      R279      3
+    C557      R294      -1
+    C557      R300      -1
+    C558      COST      15
+    C558      R267      7
+    C558      R277      16
+    C559      COST      2
+    C559      R262      6
+    C559      R274      14
+    C559      R275      18
+    C559      R284      -1
+    C560      COST      14
+    C560      R263      17
+    C560      R273      5
+    C560      R279      16
+    C560      R280      19
+    C561      COST      17
+    C561      R298      12
+    C562      COST      3
+    C562      R295      3
+    C563      COST      21
+    C563      R296      15
+    C563      R298      2
+    C564      COST      12
+    C564      R282      8
+    C564      R292      7
+    C564      R299      1
+    C564      R313      -1
+    C564      R317      -1
+    C565      COST      5
+    C565      R290      1
+    C566      COST      12
+    C566      R298      3
+    C567      COST      30
+    C567      R295      11
+    C567      R300      16
+    C567      R305      -1
+    C568      COST      11
+    C568      R294      13
+    C568      R295      14
+    C568      R309      -1
+    C568      R310      -1
+    C569      COST      25
+    C569      R290      1
+    C569      R296      20
+    C569      R297      8
+    C570      COST      8
+    C570      R283      11
+    C570      R291      12
+    C570      R298      1
+    C571      COST      16
+    C571      R287      7
+    C571      R301      -1
+    C571      R307      -1
+    C572      COST      30
+    C572      R285      8
+    C572      R298      5
+    C573      COST      5
+    C573      R282      17
+    C573      R284      11
+    C573      R289      1
+    C574      COST      1
+    C574      R293      18
+    C575      COST      29
+    C575      R291      1
+    C576      COST      1
+    C576      R282      14
+    C576      R299      18
+    C577      COST      16
+    C577      R290      3
+    C577      R312      -1
+    C578      COST      22
+    C578      R287      5
+    C578      R288      9
+    C579      COST      6
+    C579      R289      16
+    C579      R319      -1
+    C580      COST      15
+    C580      R282      4
+    C580      R283      14
+    C580      R284      16
+    C580      R290      16
+    C581      COST      21
+    C581      R286      13
+    C582      COST      11
+    C582      R281      14
+    C582      R288      5
+    C582      R318      -1
+    C583      COST      18
+    C583      R283      1
+    C583      R291      2
+    C583      R299      5
+    C584      COST      10
+    C584      R286      18
+    C584      R288      13
+    C585      COST      17
+    C585      R293      6
+    C585      R294      9
+    C585      R300      6
+    C586      COST      10
+    C586      R287      9
+    C586      R289      19
+    C587      COST      6
+    C587      R284      1
+    C587      R286      7
+    C588      COST      30
+    C588      R300      6
+    C588      R302      -1
+    C588      R303      -1
+    C589      COST      12
+    C589      R281      5
+    C589      R294      16
+    C590      COST      6
+    C590      R284      31
+    C590      R288      19
+    C590      R320      -1
+    C591      COST      19
+    C591      R291      17
+    C591      R299      14
+    C591      R304      -1
+    C591      R315      -1
+    C591      R316      -1
+    C592      COST      21
+    C592      R287      15
+    C592      R296      3
+    C592      R306      -1
+    C593      COST      8
+    C593      R288      3
+    C594      COST      2
+    C594      R283      7
+    C595      COST      25
+    C595      R300      11
+    C596      COST      13
+    C596      R290      4
+    C596      R296      20
+    C596      R308      -1
+    C596      R314      -1
+    C597      COST      5
+    C597      R298      18
+    C598      COST      20
+    C598      R281      16
+    C598      R284      11
+    C598      R297      10
+    C599      COST      4
+    C599      R282      3
+    C599      R287      7
+    C599      R294      15
+    C600      COST      26
+    C600      R282      13
+    C600      R311      -1
+    C601      COST      17
+    C601      R302      11
+    C601      R330      -1
+    C601      R337      -1
+    C602      COST      12
+    C602      R315      11
+    C603      COST      2
+    C603      R305      12
+    C603      R320      13
+    C603      R327      -1
+    C604      COST      7
+    C604      R303      10
+    C604      R313      11
+    C604      R326      -1
+    C605      COST      2
+    C605      R306      4
+    C605      R313      2
+    C605      R314      18
+    C606      COST      11
+    C606      R315      9
+    C607      COST      16
+    C607      R313      19
+    C608      COST      6
+    C608      R308      14
+    C608      R319      8
+    C609      COST      15
+    C609      R307      7
+    C609      R314      1
+    C609      R316      12
+    C609      R333      -1
+    C610      COST      7
+    C610      R304      18
+    C610      R305      2
+    C610      R309      12
+    C610      R310      5
+    C611      COST      6
+    C611      R312      16
+    C611      R319      9
+    C612      COST      16
+    C612      R317      5
+    C612      R323      -1
+    C613      COST      22
+    C613      R302      12
+    C613      R304      15
+    C613      R314      18
+    C613      R324      -1
+    C614      COST      8
+    C614      R303      7
+    C614      R305      8
+    C614      R339      -1
+    C615      COST      24
+    C615      R309      18
+    C616      COST      3
+    C616      R301      9
+    C616      R305      16
+    C616      R306      13
+    C616      R307      3
+    C617      COST      16
+    C617      R305      9
+    C618      COST      15
+    C618      R306      5
+    C618      R307      18
+    C618      R312      3
+    C619      COST      15
+    C619      R303      14
+    C620      COST      30
+    C620      R301      10
+    C620      R306      9
+    C620      R336      -1
+    C621      COST      16
+    C621      R318      17
+    C621      R319      2
+    C621      R329      -1
+    C621      R340      -1
+    C622      COST      6
+    C622      R311      14
+    C622      R334      -1
+    C622      R338      -1
+    C623      COST      2
+    C623      R301      1
+    C623      R306      5
+    C624      COST      20
+    C624      R316      10
+    C625      COST      20
+    C625      R311      20
+    C625      R331      -1
+    C626      COST      18
+    C626      R315      5
+    C627      COST      26
+    C627      R301      17
+    C627      R308      20
+    C627      R309      18
+    C627      R313      4
+    C628      COST      22
+    C628      R312      10
+    C628      R318      6
+    C629      COST      22
+    C629      R318      17
+    C630      COST      14
+    C630      R315      11
+    C630      R332      -1
+    C631      COST      22
+    C631      R307      1
+    C631      R308      11
+    C632      COST      3
+    C632      R306      3
+    C632      R313      9
+    C633      COST      21
+    C633      R305      7
+    C633      R308      3
+    C633      R313      12
+    C634      COST      26
+    C634      R302      19
+    C634      R315      5
+    C634      R335      -1
+    C635      COST      12
+    C635      R320      5
+    C635      R321      -1
+    C636      COST      7
+    C636      R305      1
+    C636      R317      15
+    C636      R328      -1
+    C637      COST      18
+    C637      R304      2
+    C637      R311      20
+    C637      R325      -1
+    C638      COST      18
+    C638      R307      14
+    C639      COST      7
+    C639      R314      18
+    C639      R320      5
+    C639      R322      -1
+    C640      COST      6
+    C640      R313      11
+    C641      COST      20
+    C641      R334      1
+    C641      R346      -1
+    C642      COST      28
+    C642      R333      18
+    C642      R353      -1
+    C642      R359      -1
+    C643      COST      4
+    C643      R326      17
+    C643      R334      6
+    C644      COST      20
+    C644      R325      14
+    C644      R334      17
+    C644      R344      -1
+    C645      COST      11
+    C645      R322      5
+    C646      COST      18
+    C646      R322      16
+    C646      R326      18
+    C646      R338      6
+    C646      R360      -1
+    C647      COST      4
+    C647      R325      8
+    C647      R328      7
+    C647      R345      -1
+    C647      R357      -1
+    C648      COST      17
+    C648      R340      15
+    C648      R347      -1
+    C649      COST      4
+    C649      R323      3
+    C649      R327      13
+    C649      R332      14
+    C649      R334      12
+    C649      R337      2
+    C650      COST      7
+    C650      R325      8
+    C651      COST      2
+    C651      R338      19
+    C651      R350      -1
+    C652      COST      18
+    C652      R329      6
+    C652      R336      16
+    C652      R338      15
+    C653      COST      23
+    C653      R326      32
+    C654      COST      16
+    C654      R324      20
+    C654      R328      9
+    C654      R330      16
+    C655      COST      10
+    C655      R330      18
+    C655      R332      16
+    C655      R358      -1
+    C656      COST      14
+    C656      R324      1
+    C656      R326      15
+    C656      R330      12
+    C656      R331      4
+    C656      R338      4
+    C656      R339      6
+    C657      COST      2
+    C657      R329      16
+    C658      COST      18
+    C658      R321      13
+    C658      R326      9
+    C658      R337      14
+    C659      COST      18
+    C659      R321      20
+    C659      R332      14
+    C659      R342      -1
+    C659      R355      -1
+    C660      COST      24
+    C660      R326      15
+    C660      R333      7
+    C660      R352      -1
+    C661      COST      2
+    C661      R327      3
+    C661      R329      4
+    C661      R333      4
+    C661      R340      16
+    C662      COST      15
+    C662      R328      11
+    C662      R336      4
+    C662      R338      16
+    C662      R348      -1
+    C662      R351      -1
+    C663      COST      23
+    C663      R321      2
+    C663      R326      5
+    C663      R330      4
+    C663      R331      20
+    C664      COST      2
+    C664      R327      11
+    C664      R337      8
+    C664      R338      12
+    C664      R341      -1
+    C665      COST      25
+    C665      R327      7
+    C665      R338      14
+    C666      COST      25
+    C666      R337      8
+    C667      COST      11
+    C667      R332      5
+    C667      R336      16
+    C668      COST      28
+    C668      R329      13
+    C668      R330      3
+    C668      R332      11
+    C668      R354      -1
+    C669      COST      21
+    C669      R339      5
+    C670      COST      18
+    C670      R340      15
+    C671      COST      28
+    C671      R335      13
+    C671      R343      -1
+    C672      COST      1
+    C672      R336      2
+    C673      COST      27
+    C673      R334      10
+    C673      R349      -1
+    C674      COST      28
+    C674      R331      18
+    C674      R338      14
+    C675      COST      27
+    C675      R333      19
+    C675      R335      20
+    C675      R336      13
+    C676      COST      16
+    C676      R323      18
+    C676      R336      3
+    C676      R356      -1
+    C677      COST      11
+    C677      R327      20
+    C677      R328      4
+    C677      R337      11
+    C678      COST      25
+    C678      R326      5
+    C678      R327      1
+    C678      R331      15
+    C678      R332      9
+    C679      COST      18
+    C679      R330      15
+    C680      COST      14
+    C680      R325      14
+    C680      R340      13
+    C681      COST      8
+    C681      R342      2
+    C681      R345      20
+    C681      R349      7
+    C681      R350      6
+    C682      COST      11
+    C682      R353      19
+    C683      COST      7
+    C683      R344      20
+    C683      R360      18
+    C683      R372      -1
+    C683      R378      -1
+    C684      COST      7
+    C684      R347      15
+    C685      COST      9
+    C685      R351      6
+    C686      COST      2
+    C686      R360      1
+    C686      R361      -1
+    C687      COST      5
+    C687      R346      19
+    C687      R350      6
+    C687      R377      -1
+    C688      COST      2
+    C688      R349      4
+    C688      R351      5
+    C688      R359      4
+    C688      R373      -1
+    C689      COST      16
+    C689      R353      9
+    C690      COST      20
+    C690      R344      17
+    C690      R348      16
+    C690      R353      20
+    C691      COST      10
+    C691      R341      20
+    C691      R346      3
+    C691      R352      3
+    C691      R367      -1
+    C691      R369      -1
+    C692      COST      1
+    C692      R357      6
+    C693      COST      21
+    C693      R356      12
+    C693      R358      18
+    C694      COST      16
+    C694      R342      1
+    C694      R358      10
+    C694      R359      8
+    C695      COST      13
+    C695      R344      10
+    C695      R353      18
+    C696      COST      13
+    C696      R343      18
+    C696      R349      18
+    C696      R356      9
+    C697      COST      6
+    C697      R344      12
+    C697      R347      18
+    C697      R350      10
+    C697      R374      -1
+    C698      COST      12
+    C698      R357      4
+    C698      R359      12
+    C698      R364      -1
+    C699      COST      25
+    C699      R345      10
+    C699      R359      2
+    C700      COST      25
+    C700      R341      8
+    C700      R356      7
+    C701      COST      10
+    C701      R358      1
+    C701      R365      -1
+    C702      COST      22
+    C702      R357      17
+    C703      COST      8
+    C703      R344      7
+    C703      R357      10
+    C704      COST      29
+    C704      R342      10
+    C704      R357      4
+    C704      R368      -1
+    C705      COST      11
+    C705      R356      20
+    C706      COST      20
+    C706      R347      15
+    C706      R366      -1
+    C707      COST      28
+    C707      R341      10
+    C707      R345      17
+    C707      R347      20
+    C708      COST      24
+    C708      R350      12
+    C709      COST      7
+    C709      R353      6
+    C710      COST      12
+    C710      R355      2
+    C710      R375      -1
+    C710      R376      -1
+    C711      COST      15
+    C711      R353      4
+    C711      R362      -1
+    C711      R370      -1
+    C712      COST      29
+    C712      R348      19
+    C712      R353      17
+    C713      COST      13
+    C713      R354      2
+    C714      COST      22
+    C714      R355      10
+    C714      R358      15
+    C715      COST      14
+    C715      R360      1
+    C715      R380      -1
+    C716      COST      9
+    C716      R341      5
+    C716      R363      -1
+    C716      R371      -1
+    C717      COST      1
+    C717      R348      18
+    C717      R352      3
+    C718      COST      20
+    C718      R355      9
+    C719      COST      3
+    C719      R348      2
+    C719      R350      15
+    C719      R379      -1
+    C720      COST      17
+    C720      R350      2
+    C721      COST      15
+    C721      R367      7
+    C721      R400      -1
+    C722      COST      6
+    C722      R365      13
+    C722      R372      16
+    C722      R378      13
+    C723      COST      1
+    C723      R377      17
+    C723      R382      -1
+    C724      COST      17
+    C724      R365      1
+    C724      R378      18
+    C725      COST      16
+    C725      R361      12
+    C725      R364      10
+    C726      COST      21
+    C726      R379      13
+    C727      COST      17
+    C727      R363      1
+    C727      R380      14
+    C728      COST      18
+    C728      R364      10
+    C728      R379      10
+    C728      R380      11
+    C728      R385      -1
+    C729      COST      26
+    C729      R364      17
+    C729      R387      -1
+    C730      COST      18
+    C730      R373      20
+    C731      COST      18
+    C731      R369      17
+    C732      COST      3
+    C732      R377      5
+    C732      R380      3
+    C733      COST      20
+    C733      R361      3
+    C733      R397      -1
+    C734      COST      25
+    C734      R365      4
+    C735      COST      2
+    C735      R370      18
+    C735      R377      12
+    C736      COST      12
+    C736      R369      19
+    C736      R371      2
+    C736      R372      11
+    C736      R390      -1
+    C737      COST      9
+    C737      R370      6
+    C737      R388      -1
+    C738      COST      13
+    C738      R364      10
+    C738      R366      2
+    C738      R379      12
+    C738      R381      -1
+    C738      R394      -1
+    C739      COST      28
+    C739      R369      10
+    C739      R372      2
+    C739      R384      -1
+    C740      COST      26
+    C740      R373      4
+    C740      R375      14
+    C741      COST      8
+    C741      R364      20
+    C741      R367      1
+    C741      R369      18
+    C741      R389      -1
+    C742      COST      6
+    C742      R361      10
+    C742      R367      13
+    C742      R376      2
+    C743      COST      24
+    C743      R362      2
+    C743      R370      2
+    C743      R372      3
+    C743      R373      13
+    C743      R375      4
+    C743      R386      -1
+    C744      COST      11
+    C744      R372      14
+    C744      R378      8
+    C744      R379      10
+    C744      R391      -1
+    C745      COST      7
+    C745      R373      2
+    C746      COST      7
+    C746      R368      2
+    C747      COST      25
+    C747      R367      19
+    C748      COST      27
+    C748      R363      19
+    C748      R367      3
+    C748      R372      11
+    C748      R380      2
+    C749      COST      25
+    C749      R366      18
+    C749      R374      5
+    C749      R376      14
+    C749      R378      20
+    C749      R399      -1
+    C750      COST      24
+    C750      R361      17
+    C750      R380      14
+    C751      COST      15
+    C751      R361      18
+    C751      R369      19
+    C751      R374      9
+    C752      COST      11
+    C752      R372      1
+    C753      COST      2
+    C753      R376      6
+    C753      R396      -1
+    C754      COST      8
+    C754      R365      18
+    C754      R377      1
+    C754      R379      5
+    C755      COST      22
+    C755      R365      18
+    C755      R372      7
+    C755      R373      6
+    C755      R376      9
+    C756      COST      9
+    C756      R368      2
+    C756      R398      -1
+    C757      COST      17
+    C757      R366      12
+    C757      R371      12
+    C757      R376      4
+    C757      R383      -1
+    C757      R392      -1
+    C758      COST      22
+    C758      R370      9
+    C758      R375      20
+    C758      R379      19
+    C759      COST      27
+    C759      R361      3
+    C759      R369      8
+    C759      R374      11
+    C759      R376      16
+    C759      R393      -1
+    C760      COST      8
+    C760      R378      2
+    C760      R395      -1
+    C761      COST      29
+    C761      R390      7
+    C761      R391      15
+    C762      COST      24
+    C762      R381      16
+    C762      R393      8
+    C762      R399      1
+    C763      COST      28
+    C763      R381      11
+    C764      COST      4
+    C764      R383      5
+    C764      R390      12
+    C765      COST      26
+    C765      R381      19
+    C765      R385      2
+    C765      R398      5
+    C766      COST      2
+    C766      R398      5
+    C767      COST      30
+    C767      R381      12
+    C767      R388      11
+    C767      R393      20
+    C767      R395      19
+    C768      COST      18
+    C768      R387      1
+    C769      COST      21
+    C769      R385      15
+    C770      COST      13
+    C770      R382      7
+    C771      COST      25
+    C771      R389      17
+    C772      COST      7
+    C772      R393      19
+    C773      COST      16
+    C773      R399      13
+    C774      COST      24
+    C774      R382      12
+    C774      R384      13
+    C774      R387      17
+    C775      COST      23
+    C775      R386      1
+    C775      R390      13
+    C776      COST      3
+    C776      R382      12
+    C776      R390      9
+    C776      R399      5
+    C777      COST      12
+    C777      R384      2
+    C777      R385      8
+    C778      COST      19
+    C778      R397      20
+    C778      R400      14
+    C779      COST      12
+    C779      R394      7
+    C780      COST      30
+    C780      R382      11
+    C780      R391      14
+    C781      COST      4
+    C781      R392      7
+    C782      COST      26
+    C782      R384      11
+    C782      R393      9
+    C783      COST      26
+    C783      R383      3
+    C783      R385      6
+    C783      R391      6
+    C783      R392      2
+    C784      COST      13
+    C784      R390      4
+    C785      COST      26
+    C785      R386      20
+    C785      R397      11
+    C786      COST      12
+    C786      R389      8
+    C786      R398      10
+    C787      COST      26
+    C787      R383      15
+    C787      R395      18
+    C787      R396      17
+    C788      COST      26
+    C788      R398      18
+    C788      R400      18
+    C789      COST      15
+    C789      R383      15
+    C789      R387      14
+    C790      COST      2
+    C790      R382      11
+    C790      R392      14
+    C790      R394      3
+    C791      COST      24
+    C791      R390      7
+    C791      R400      9
+    C792      COST      17
+    C792      R392      18
+    C792      R397      15
+    C793      COST      3
+    C793      R387      1
+    C794      COST      18
+    C794      R385      9
+    C794      R389      6
+    C795      COST      20
+    C795      R397      16
+    C796      COST      20
+    C796      R391      2
+    C797      COST      25
+    C797      R384      37
+    C797      R385      16
+    C798      COST      26
+    C798      R383      11
+    C798      R387      14
+    C798      R394      12
+    C799      COST      3
+    C799      R387      9
+    C799      R392      18
+    C799      R397      5
+    C800      COST      22
+    C800      R386      18
+    C800      R391      36
+RHS
+    RHS       R1        138
+    RHS       R2        136
+    RHS       R4        144
+    RHS       R6        108
+    RHS       R7        150
+    RHS       R8        131
+    RHS       R13       107
+    RHS       R16       156
+    RHS       R18       164
+    RHS       R20       120
+    RHS       R21       148
+    RHS       R22       158
+    RHS       R23       186
+    RHS       R27       187
+    RHS       R28       163
+    RHS       R29       125
+    RHS       R30       152
+    RHS       R32       185
+    RHS       R33       122
+    RHS       R34       159
+    RHS       R35       187
+    RHS       R36       168
+    RHS       R37       145
+    RHS       R38       111
+    RHS       R40       129
+    RHS       R41       124
+    RHS       R43       112
+    RHS       R44       141
+    RHS       R47       189
+    RHS       R49       106
+    RHS       R54       122
+    RHS       R55       142
+    RHS       R59       159
+    RHS       R61       176
+    RHS       R62       166
+    RHS       R65       199
+    RHS       R67       140
+    RHS       R68       153
+    RHS       R69       111
+    RHS       R71       121
+    RHS       R72       122
+    RHS       R73       167
+    RHS       R74       192
+    RHS       R77       176
+    RHS       R79       178
+    RHS       R84       110
+    RHS       R85       188
+    RHS       R89       122
+    RHS       R90       142
+    RHS       R91       120
+    RHS       R93       169
+    RHS       R95       100
+    RHS       R97       196
+    RHS       R98       123
+    RHS       R99       105
+    RHS       R101      153
+    RHS       R102      181
+    RHS       R103      183
+    RHS       R106      195
+    RHS       R108      195
+    RHS       R109      145
+    RHS       R111      111
+    RHS       R115      102
+    RHS       R121      125
+    RHS       R124      197
+    RHS       R126      116
+    RHS       R127      150
+    RHS       R128      114
+    RHS       R130      163
+    RHS       R132      181
+    RHS       R133      166
+    RHS       R134      152
+    RHS       R135      183
+    RHS       R143      161
+    RHS       R144      172
+    RHS       R147      100
+    RHS       R148      171
+    RHS       R155      174
+    RHS       R156      112
+    RHS       R157      191
+    RHS       R158      117
+    RHS       R159      102
+    RHS       R160      185
+    RHS       R161      147
+    RHS       R162      167
+    RHS       R164      198
+    RHS       R165      137
+    RHS       R167      108
+    RHS       R170      134
+    RHS       R171      121
+    RHS       R175      130
+    RHS       R179      158
+    RHS       R181      123
+    RHS       R185      173
+    RHS       R186      119
+    RHS       R190      145
+    RHS       R193      171
+    RHS       R195      128
+    RHS       R196      123
+    RHS       R199      189
+    RHS       R200      106
+    RHS       R203      156
+    RHS       R204      182
+    RHS       R206      100
+    RHS       R208      121
+    RHS       R209      148
+    RHS       R211      121
+    RHS       R212      180
+    RHS       R216      121
+    RHS       R217      108
+    RHS       R220      105
+    RHS       R221      170
+    RHS       R224      128
+    RHS       R225      132
+    RHS       R228      156
+    RHS       R229      158
+    RHS       R230      129
+    RHS       R232      114
+    RHS       R233      142
+    RHS       R237      114
+    RHS       R240      128
+    RHS       R243      150
+    RHS       R247      163
+    RHS       R248      120
+    RHS       R249      178
+    RHS       R250      152
+    RHS       R252      101
+    RHS       R256      131
+    RHS       R257      125
+    RHS       R260      107
+    RHS       R262      120
+    RHS       R264      140
+    RHS       R265      178
+    RHS       R266      153
+    RHS       R269      135
+    RHS       R270      139
+    RHS       R271      184
+    RHS       R272      166
+    RHS       R276      153
+    RHS       R279      106
+    RHS       R280      173
+    RHS       R281      155
+    RHS       R282      188
+    RHS       R284      104
+    RHS       R291      121
+    RHS       R292      197
+    RHS       R293      131
+    RHS       R294      162
+    RHS       R295      142
+    RHS       R297      106
+    RHS       R298      109
+    RHS       R302      155
+    RHS       R305      111
+    RHS       R306      140
+    RHS       R307      194
+    RHS       R308      173
+    RHS       R311      199
+    RHS       R313      118
+    RHS       R315      175
+    RHS       R318      153
+    RHS       R319      108
+    RHS       R320      140
+    RHS       R322      141
+    RHS       R325      112
+    RHS       R326      184
+    RHS       R328      165
+    RHS       R332      189
+    RHS       R334      181
+    RHS       R335      131
+    RHS       R337      171
+    RHS       R338      198
+    RHS       R339      183
+    RHS       R341      106
+    RHS       R342      168
+    RHS       R343      149
+    RHS       R344      124
+    RHS       R350      146
+    RHS       R353      136
+    RHS       R354      176
+    RHS       R355      163
+    RHS       R356      150
+    RHS       R358      144
+    RHS       R359      169
+    RHS       R360      184
+    RHS       R361      138
+    RHS       R362      171
+    RHS       R364      104
+    RHS       R366      129
+    RHS       R367      194
+    RHS       R369      171
+    RHS       R372      144
+    RHS       R374      166
+    RHS       R377      106
+    RHS       R378      139
+    RHS       R379      124
+    RHS       R381      188
+    RHS       R390      130
+    RHS       R391      132
+    RHS       R392      176
+    RHS       R393      125
+    RHS       R395      127
+    RHS       R397      154
+    RHS       R398      124
+    RHS       R400      131
+BOUNDS
+ENDATA
@@ -0,0 +1,1287 @@
+NAME          transport-40
+ROWS
+ N  COST
+ L  R1
+ L  R2
+ L  R3
+ L  R4
+ L  R5
+ L  R6
+ L  R7
+ L  R8
+ L  R9
+ L  R10
+ L  R11
+ L  R12
+ L  R13
+ L  R14
+ L  R15
+ L  R16
+ L  R17
+ L  R18
+ L  R19
+ L  R20
+ G  R21
+ G  R22
+ G  R23
+ G  R24
+ G  R25
+ G  R26
+ G  R27
+ G  R28
+ G  R29
+ G  R30
+ G  R31
+ G  R32
+ G  R33
+ G  R34
+ G  R35
+ G  R36
+ G  R37
+ G  R38
+ G  R39
+ G  R40
+COLUMNS
+    C1        COST      39
+    C1        R1        1
+    C1        R21       1
+    C2        COST      13
+    C2        R1        1
+    C2        R22       1
+    C3        COST      42
+    C3        R1        1
+    C3        R23       1
+    C4        COST      9
+    C4        R1        1
+    C4        R24       1
+    C5        COST      36
+    C5        R1        1
+    C5        R25       1
+    C6        COST      20
+    C6        R1        1
+    C6        R26       1
+    C7        COST      30
+    C7        R1        1
+    C7        R27       1
+    C8        COST      46
+    C8        R1        1
+    C8        R28       1
+    C9        COST      10
+    C9        R1        1
+    C9        R29       1
+    C10       COST      11
+    C10       R1        1
+    C10       R30       1
+    C11       COST      18
+    C11       R1        1
+    C11       R31       1
+    C12       COST      27
+    C12       R1        1
+    C12       R32       1
+    C13       COST      25
+    C13       R1        1
+    C13       R33       1
+    C14       COST      21
+    C14       R1        1
+    C14       R34       1
+    C15       COST      4
+    C15       R1        1
+    C15       R35       1
+    C16       COST      26
+    C16       R1        1
+    C16       R36       1
+    C17       COST      2
+    C17       R1        1
+    C17       R37       1
+    C18       COST      2
+    C18       R1        1
+    C18       R38       1
+    C19       COST      37
+    C19       R1        1
+    C19       R39       1
+    C20       COST      1
+    C20       R1        1
+    C20       R40       1
+    C21       COST      25
+    C21       R2        1
+    C21       R21       1
+    C22       COST      33
+    C22       R2        1
+    C22       R22       1
+    C23       COST      45
+    C23       R2        1
+    C23       R23       1
+    C24       COST      26
+    C24       R2        1
+    C24       R24       1
+    C25       COST      45
+    C25       R2        1
+    C25       R25       1
+    C26       COST      25
+    C26       R2        1
+    C26       R26       1
+    C27       COST      9
+    C27       R2        1
+    C27       R27       1
+    C28       COST      44
+    C28       R2        1
+    C28       R28       1
+    C29       COST      4
+    C29       R2        1
+    C29       R29       1
+    C30       COST      48
+    C30       R2        1
+    C30       R30       1
+    C31       COST      18
+    C31       R2        1
+    C31       R31       1
+    C32       COST      31
+    C32       R2        1
+    C32       R32       1
+    C33       COST      2
+    C33       R2        1
+    C33       R33       1
+    C34       COST      34
+    C34       R2        1
+    C34       R34       1
+    C35       COST      8
+    C35       R2        1
+    C35       R35       1
+    C36       COST      17
+    C36       R2        1
+    C36       R36       1
+    C37       COST      28
+    C37       R2        1
+    C37       R37       1
+    C38       COST      46
+    C38       R2        1
+    C38       R38       1
+    C39       COST      1
+    C39       R2        1
+    C39       R39       1
+    C40       COST      20
+    C40       R2        1
+    C40       R40       1
+    C41       COST      9
+    C41       R3        1
+    C41       R21       1
+    C42       COST      4
+    C42       R3        1
+    C42       R22       1
+    C43       COST      41
+    C43       R3        1
+    C43       R23       1
+    C44       COST      27
+    C44       R3        1
+    C44       R24       1
+    C45       COST      17
+    C45       R3        1
+    C45       R25       1
+    C46       COST      47
+    C46       R3        1
+    C46       R26       1
+    C47       COST      22
+    C47       R3        1
+    C47       R27       1
+    C48       COST      50
+    C48       R3        1
+    C48       R28       1
+    C49       COST      35
+    C49       R3        1
+    C49       R29       1
+    C50       COST      20
+    C50       R3        1
+    C50       R30       1
+    C51       COST      29
+    C51       R3        1
+    C51       R31       1
+    C52       COST      22
+    C52       R3        1
+    C52       R32       1
+    C53       COST      1
+    C53       R3        1
+    C53       R33       1
+    C54       COST      6
+    C54       R3        1
+    C54       R34       1
+    C55       COST      46
+    C55       R3        1
+    C55       R35       1
+    C56       COST      7
+    C56       R3        1
+    C56       R36       1
+    C57       COST      15
+    C57       R3        1
+    C57       R37       1
+    C58       COST      42
+    C58       R3        1
+    C58       R38       1
+    C59       COST      17
+    C59       R3        1
+    C59       R39       1
+    C60       COST      37
+    C60       R3        1
+    C60       R40       1
+    C61       COST      39
+    C61       R4        1
+    C61       R21       1
+    C62       COST      29
+    C62       R4        1
+    C62       R22       1
+    C63       COST      12
+    C63       R4        1
+    C63       R23       1
+    C64       COST      13
+    C64       R4        1
+    C64       R24       1
+    C65       COST      14
+    C65       R4        1
+    C65       R25       1
+    C66       COST      41
+    C66       R4        1
+    C66       R26       1
+    C67       COST      30
+    C67       R4        1
+    C67       R27       1
+    C68       COST      46
+    C68       R4        1
+    C68       R28       1
+    C69       COST      43
+    C69       R4        1
+    C69       R29       1
+    C70       COST      14
+    C70       R4        1
+    C70       R30       1
+    C71       COST      45
+    C71       R4        1
+    C71       R31       1
+    C72       COST      43
+    C72       R4        1
+    C72       R32       1
+    C73       COST      24
+    C73       R4        1
+    C73       R33       1
+    C74       COST      48
+    C74       R4        1
+    C74       R34       1
+    C75       COST      2
+    C75       R4        1
+    C75       R35       1
+    C76       COST      26
+    C76       R4        1
+    C76       R36       1
+    C77       COST      8
+    C77       R4        1
+    C77       R37       1
+    C78       COST      15
+    C78       R4        1
+    C78       R38       1
+    C79       COST      8
+    C79       R4        1
+    C79       R39       1
+    C80       COST      8
+    C80       R4        1
+    C80       R40       1
+    C81       COST      50
+    C81       R5        1
+    C81       R21       1
+    C82       COST      7
+    C82       R5        1
+    C82       R22       1
+    C83       COST      8
+    C83       R5        1
+    C83       R23       1
+    C84       COST      50
+    C84       R5        1
+    C84       R24       1
+    C85       COST      34
+    C85       R5        1
+    C85       R25       1
+    C86       COST      47
+    C86       R5        1
+    C86       R26       1
+    C87       COST      42
+    C87       R5        1
+    C87       R27       1
+    C88       COST      47
+    C88       R5        1
+    C88       R28       1
+    C89       COST      39
+    C89       R5        1
+    C89       R29       1
+    C90       COST      36
+    C90       R5        1
+    C90       R30       1
+    C91       COST      28
+    C91       R5        1
+    C91       R31       1
+    C92       COST      9
+    C92       R5        1
+    C92       R32       1
+    C93       COST      43
+    C93       R5        1
+    C93       R33       1
+    C94       COST      36
+    C94       R5        1
+    C94       R34       1
+    C95       COST      47
+    C95       R5        1
+    C95       R35       1
+    C96       COST      21
+    C96       R5        1
+    C96       R36       1
+    C97       COST      21
+    C97       R5        1
+    C97       R37       1
+    C98       COST      30
+    C98       R5        1
+    C98       R38       1
+    C99       COST      46
+    C99       R5        1
+    C99       R39       1
+    C100      COST      9
+    C100      R5        1
+    C100      R40       1
+    C101      COST      41
+    C101      R6        1
+    C101      R21       1
+    C102      COST      41
+    C102      R6        1
+    C102      R22       1
+    C103      COST      36
+    C103      R6        1
+    C103      R23       1
+    C104      COST      7
+    C104      R6        1
+    C104      R24       1
+    C105      COST      49
+    C105      R6        1
+    C105      R25       1
+    C106      COST      38
+    C106      R6        1
+    C106      R26       1
+    C107      COST      29
+    C107      R6        1
+    C107      R27       1
+    C108      COST      10
+    C108      R6        1
+    C108      R28       1
+    C109      COST      3
+    C109      R6        1
+    C109      R29       1
+    C110      COST      50
+    C110      R6        1
+    C110      R30       1
+    C111      COST      42
+    C111      R6        1
+    C111      R31       1
+    C112      COST      11
+    C112      R6        1
+    C112      R32       1
+    C113      COST      39
+    C113      R6        1
+    C113      R33       1
+    C114      COST      34
+    C114      R6        1
+    C114      R34       1
+    C115      COST      6
+    C115      R6        1
+    C115      R35       1
+    C116      COST      33
+    C116      R6        1
+    C116      R36       1
+    C117      COST      32
+    C117      R6        1
+    C117      R37       1
+    C118      COST      16
+    C118      R6        1
+    C118      R38       1
+    C119      COST      10
+    C119      R6        1
+    C119      R39       1
+    C120      COST      17
+    C120      R6        1
+    C120      R40       1
+    C121      COST      47
+    C121      R7        1
+    C121      R21       1
+    C122      COST      8
+    C122      R7        1
+    C122      R22       1
+    C123      COST      34
+    C123      R7        1
+    C123      R23       1
+    C124      COST      39
+    C124      R7        1
+    C124      R24       1
+    C125      COST      3
+    C125      R7        1
+    C125      R25       1
+    C126      COST      18
+    C126      R7        1
+    C126      R26       1
+    C127      COST      33
+    C127      R7        1
+    C127      R27       1
+    C128      COST      18
+    C128      R7        1
+    C128      R28       1
+    C129      COST      19
+    C129      R7        1
+    C129      R29       1
+    C130      COST      46
+    C130      R7        1
+    C130      R30       1
+    C131      COST      45
+    C131      R7        1
+    C131      R31       1
+    C132      COST      42
+    C132      R7        1
+    C132      R32       1
+    C133      COST      37
+    C133      R7        1
+    C133      R33       1
+    C134      COST      30
+    C134      R7        1
+    C134      R34       1
+    C135      COST      19
+    C135      R7        1
+    C135      R35       1
+    C136      COST      49
+    C136      R7        1
+    C136      R36       1
+    C137      COST      34
+    C137      R7        1
+    C137      R37       1
+    C138      COST      14
+    C138      R7        1
+    C138      R38       1
+    C139      COST      25
+    C139      R7        1
+    C139      R39       1
+    C140      COST      1
+    C140      R7        1
+    C140      R40       1
+    C141      COST      5
+    C141      R8        1
+    C141      R21       1
+    C142      COST      40
+    C142      R8        1
+    C142      R22       1
+    C143      COST      20
+    C143      R8        1
+    C143      R23       1
+    C144      COST      23
+    C144      R8        1
+    C144      R24       1
+    C145      COST      41
+    C145      R8        1
+    C145      R25       1
+    C146      COST      9
+    C146      R8        1
+    C146      R26       1
+    C147      COST      1
+    C147      R8        1
+    C147      R27       1
+    C148      COST      27
+    C148      R8        1
+    C148      R28       1
+    C149      COST      32
+    C149      R8        1
+    C149      R29       1
+    C150      COST      19
+    C150      R8        1
+    C150      R30       1
+    C151      COST      17
+    C151      R8        1
+    C151      R31       1
+    C152      COST      26
+    C152      R8        1
+    C152      R32       1
+    C153      COST      1
+    C153      R8        1
+    C153      R33       1
+    C154      COST      21
+    C154      R8        1
+    C154      R34       1
+    C155      COST      47
+    C155      R8        1
+    C155      R35       1
+    C156      COST      20
+    C156      R8        1
+    C156      R36       1
+    C157      COST      40
+    C157      R8        1
+    C157      R37       1
+    C158      COST      9
+    C158      R8        1
+    C158      R38       1
+    C159      COST      25
+    C159      R8        1
+    C159      R39       1
+    C160      COST      37
+    C160      R8        1
+    C160      R40       1
+    C161      COST      42
+    C161      R9        1
+    C161      R21       1
+    C162      COST      40
+    C162      R9        1
+    C162      R22       1
+    C163      COST      29
+    C163      R9        1
+    C163      R23       1
+    C164      COST      20
+    C164      R9        1
+    C164      R24       1
+    C165      COST      48
+    C165      R9        1
+    C165      R25       1
+    C166      COST      49
+    C166      R9        1
+    C166      R26       1
+    C167      COST      9
+    C167      R9        1
+    C167      R27       1
+    C168      COST      13
+    C168      R9        1
+    C168      R28       1
+    C169      COST      27
+    C169      R9        1
+    C169      R29       1
+    C170      COST      48
+    C170      R9        1
+    C170      R30       1
+    C171      COST      40
+    C171      R9        1
+    C171      R31       1
+    C172      COST      12
+    C172      R9        1
+    C172      R32       1
+    C173      COST      10
+    C173      R9        1
+    C173      R33       1
+    C174      COST      49
+    C174      R9        1
+    C174      R34       1
+    C175      COST      49
+    C175      R9        1
+    C175      R35       1
+    C176      COST      35
+    C176      R9        1
+    C176      R36       1
+    C177      COST      12
+    C177      R9        1
+    C177      R37       1
+    C178      COST      3
+    C178      R9        1
+    C178      R38       1
+    C179      COST      50
+    C179      R9        1
+    C179      R39       1
+    C180      COST      26
+    C180      R9        1
+    C180      R40       1
+    C181      COST      16
+    C181      R10       1
+    C181      R21       1
+    C182      COST      35
+    C182      R10       1
+    C182      R22       1
+    C183      COST      17
+    C183      R10       1
+    C183      R23       1
+    C184      COST      21
+    C184      R10       1
+    C184      R24       1
+    C185      COST      2
+    C185      R10       1
+    C185      R25       1
+    C186      COST      16
+    C186      R10       1
+    C186      R26       1
+    C187      COST      49
+    C187      R10       1
+    C187      R27       1
+    C188      COST      18
+    C188      R10       1
+    C188      R28       1
+    C189      COST      37
+    C189      R10       1
+    C189      R29       1
+    C190      COST      50
+    C190      R10       1
+    C190      R30       1
+    C191      COST      4
+    C191      R10       1
+    C191      R31       1
+    C192      COST      43
+    C192      R10       1
+    C192      R32       1
+    C193      COST      21
+    C193      R10       1
+    C193      R33       1
+    C194      COST      2
+    C194      R10       1
+    C194      R34       1
+    C195      COST      4
+    C195      R10       1
+    C195      R35       1
+    C196      COST      11
+    C196      R10       1
+    C196      R36       1
+    C197      COST      6
+    C197      R10       1
+    C197      R37       1
+    C198      COST      4
+    C198      R10       1
+    C198      R38       1
+    C199      COST      43
+    C199      R10       1
+    C199      R39       1
+    C200      COST      30
+    C200      R10       1
+    C200      R40       1
+    C201      COST      7
+    C201      R11       1
+    C201      R21       1
+    C202      COST      4
+    C202      R11       1
+    C202      R22       1
+    C203      COST      19
+    C203      R11       1
+    C203      R23       1
+    C204      COST      22
+    C204      R11       1
+    C204      R24       1
+    C205      COST      9
+    C205      R11       1
+    C205      R25       1
+    C206      COST      4
+    C206      R11       1
+    C206      R26       1
+    C207      COST      36
+    C207      R11       1
+    C207      R27       1
+    C208      COST      30
+    C208      R11       1
+    C208      R28       1
+    C209      COST      37
+    C209      R11       1
+    C209      R29       1
+    C210      COST      9
+    C210      R11       1
+    C210      R30       1
+    C211      COST      42
+    C211      R11       1
+    C211      R31       1
+    C212      COST      9
+    C212      R11       1
+    C212      R32       1
+    C213      COST      15
+    C213      R11       1
+    C213      R33       1
+    C214      COST      29
+    C214      R11       1
+    C214      R34       1
+    C215      COST      37
+    C215      R11       1
+    C215      R35       1
+    C216      COST      22
+    C216      R11       1
+    C216      R36       1
+    C217      COST      27
+    C217      R11       1
+    C217      R37       1
+    C218      COST      40
+    C218      R11       1
+    C218      R38       1
+    C219      COST      14
+    C219      R11       1
+    C219      R39       1
+    C220      COST      32
+    C220      R11       1
+    C220      R40       1
+    C221      COST      45
+    C221      R12       1
+    C221      R21       1
+    C222      COST      11
+    C222      R12       1
+    C222      R22       1
+    C223      COST      46
+    C223      R12       1
+    C223      R23       1
+    C224      COST      5
+    C224      R12       1
+    C224      R24       1
+    C225      COST      18
+    C225      R12       1
+    C225      R25       1
+    C226      COST      6
+    C226      R12       1
+    C226      R26       1
+    C227      COST      22
+    C227      R12       1
+    C227      R27       1
+    C228      COST      21
+    C228      R12       1
+    C228      R28       1
+    C229      COST      45
+    C229      R12       1
+    C229      R29       1
+    C230      COST      14
+    C230      R12       1
+    C230      R30       1
+    C231      COST      46
+    C231      R12       1
+    C231      R31       1
+    C232      COST      25
+    C232      R12       1
+    C232      R32       1
+    C233      COST      30
+    C233      R12       1
+    C233      R33       1
+    C234      COST      34
+    C234      R12       1
+    C234      R34       1
+    C235      COST      14
+    C235      R12       1
+    C235      R35       1
+    C236      COST      9
+    C236      R12       1
+    C236      R36       1
+    C237      COST      7
+    C237      R12       1
+    C237      R37       1
+    C238      COST      17
+    C238      R12       1
+    C238      R38       1
+    C239      COST      24
+    C239      R12       1
+    C239      R39       1
+    C240      COST      7
+    C240      R12       1
+    C240      R40       1
+    C241      COST      17
+    C241      R13       1
+    C241      R21       1
+    C242      COST      29
+    C242      R13       1
+    C242      R22       1
+    C243      COST      49
+    C243      R13       1
+    C243      R23       1
+    C244      COST      32
+    C244      R13       1
+    C244      R24       1
+    C245      COST      14
+    C245      R13       1
+    C245      R25       1
+    C246      COST      4
+    C246      R13       1
+    C246      R26       1
+    C247      COST      20
+    C247      R13       1
+    C247      R27       1
+    C248      COST      40
+    C248      R13       1
+    C248      R28       1
+    C249      COST      10
+    C249      R13       1
+    C249      R29       1
+    C250      COST      50
+    C250      R13       1
+    C250      R30       1
+    C251      COST      3
+    C251      R13       1
+    C251      R31       1
+    C252      COST      28
+    C252      R13       1
+    C252      R32       1
+    C253      COST      14
+    C253      R13       1
+    C253      R33       1
+    C254      COST      20
+    C254      R13       1
+    C254      R34       1
+    C255      COST      10
+    C255      R13       1
+    C255      R35       1
+    C256      COST      40
+    C256      R13       1
+    C256      R36       1
+    C257      COST      17
+    C257      R13       1
+    C257      R37       1
+    C258      COST      3
+    C258      R13       1
+    C258      R38       1
+    C259      COST      21
+    C259      R13       1
+    C259      R39       1
+    C260      COST      45
+    C260      R13       1
+    C260      R40       1
+    C261      COST      6
+    C261      R14       1
+    C261      R21       1
+    C262      COST      28
+    C262      R14       1
+    C262      R22       1
+    C263      COST      24
+    C263      R14       1
+    C263      R23       1
+    C264      COST      49
+    C264      R14       1
+    C264      R24       1
+    C265      COST      11
+    C265      R14       1
+    C265      R25       1
+    C266      COST      50
+    C266      R14       1
+    C266      R26       1
+    C267      COST      37
+    C267      R14       1
+    C267      R27       1
+    C268      COST      15
+    C268      R14       1
+    C268      R28       1
+    C269      COST      19
+    C269      R14       1
+    C269      R29       1
+    C270      COST      13
+    C270      R14       1
+    C270      R30       1
+    C271      COST      4
+    C271      R14       1
+    C271      R31       1
+    C272      COST      18
+    C272      R14       1
+    C272      R32       1
+    C273      COST      14
+    C273      R14       1
+    C273      R33       1
+    C274      COST      21
+    C274      R14       1
+    C274      R34       1
+    C275      COST      50
+    C275      R14       1
+    C275      R35       1
+    C276      COST      50
+    C276      R14       1
+    C276      R36       1
+    C277      COST      6
+    C277      R14       1
+    C277      R37       1
+    C278      COST      48
+    C278      R14       1
+    C278      R38       1
+    C279      COST      10
+    C279      R14       1
+    C279      R39       1
+    C280      COST      35
+    C280      R14       1
+    C280      R40       1
+    C281      COST      16
+    C281      R15       1
+    C281      R21       1
+    C282      COST      24
+    C282      R15       1
+    C282      R22       1
+    C283      COST      8
+    C283      R15       1
+    C283      R23       1
+    C284      COST      12
+    C284      R15       1
+    C284      R24       1
+    C285      COST      13
+    C285      R15       1
+    C285      R25       1
+    C286      COST      33
+    C286      R15       1
+    C286      R26       1
+    C287      COST      19
+    C287      R15       1
+    C287      R27       1
+    C288      COST      26
+    C288      R15       1
+    C288      R28       1
+    C289      COST      6
+    C289      R15       1
+    C289      R29       1
+    C290      COST      20
+    C290      R15       1
+    C290      R30       1
+    C291      COST      20
+    C291      R15       1
+    C291      R31       1
+    C292      COST      1
+    C292      R15       1
+    C292      R32       1
+    C293      COST      7
+    C293      R15       1
+    C293      R33       1
+    C294      COST      26
+    C294      R15       1
+    C294      R34       1
+    C295      COST      33
+    C295      R15       1
+    C295      R35       1
+    C296      COST      23
+    C296      R15       1
+    C296      R36       1
+    C297      COST      16
+    C297      R15       1
+    C297      R37       1
+    C298      COST      28
+    C298      R15       1
+    C298      R38       1
+    C299      COST      38
+    C299      R15       1
+    C299      R39       1
+    C300      COST      32
+    C300      R15       1
+    C300      R40       1
+    C301      COST      22
+    C301      R16       1
+    C301      R21       1
+    C302      COST      7
+    C302      R16       1
+    C302      R22       1
+    C303      COST      4
+    C303      R16       1
+    C303      R23       1
+    C304      COST      45
+    C304      R16       1
+    C304      R24       1
+    C305      COST      30
+    C305      R16       1
+    C305      R25       1
+    C306      COST      7
+    C306      R16       1
+    C306      R26       1
+    C307      COST      50
+    C307      R16       1
+    C307      R27       1
+    C308      COST      19
+    C308      R16       1
+    C308      R28       1
+    C309      COST      48
+    C309      R16       1
+    C309      R29       1
+    C310      COST      29
+    C310      R16       1
+    C310      R30       1
+    C311      COST      48
+    C311      R16       1
+    C311      R31       1
+    C312      COST      14
+    C312      R16       1
+    C312      R32       1
+    C313      COST      35
+    C313      R16       1
+    C313      R33       1
+    C314      COST      8
+    C314      R16       1
+    C314      R34       1
+    C315      COST      25
+    C315      R16       1
+    C315      R35       1
+    C316      COST      20
+    C316      R16       1
+    C316      R36       1
+    C317      COST      11
+    C317      R16       1
+    C317      R37       1
+    C318      COST      40
+    C318      R16       1
+    C318      R38       1
+    C319      COST      5
+    C319      R16       1
+    C319      R39       1
+    C320      COST      24
+    C320      R16       1
+    C320      R40       1
+    C321      COST      5
+    C321      R17       1
+    C321      R21       1
+    C322      COST      37
+    C322      R17       1
+    C322      R22       1
+    C323      COST      34
+    C323      R17       1
+    C323      R23       1
+    C324      COST      24
+    C324      R17       1
+    C324      R24       1
+    C325      COST      30
+    C325      R17       1
+    C325      R25       1
+    C326      COST      41
+    C326      R17       1
+    C326      R26       1
+    C327      COST      12
+    C327      R17       1
+    C327      R27       1
+    C328      COST      24
+    C328      R17       1
+    C328      R28       1
+    C329      COST      9
+    C329      R17       1
+    C329      R29       1
+    C330      COST      5
+    C330      R17       1
+    C330      R30       1
+    C331      COST      9
+    C331      R17       1
+    C331      R31       1
+    C332      COST      25
+    C332      R17       1
+    C332      R32       1
+    C333      COST      28
+    C333      R17       1
+    C333      R33       1
+    C334      COST      1
+    C334      R17       1
+    C334      R34       1
+    C335      COST      26
+    C335      R17       1
+    C335      R35       1
+    C336      COST      41
+    C336      R17       1
+    C336      R36       1
+    C337      COST      24
+    C337      R17       1
+    C337      R37       1
+    C338      COST      40
+    C338      R17       1
+    C338      R38       1
+    C339      COST      12
+    C339      R17       1
+    C339      R39       1
+    C340      COST      34
+    C340      R17       1
+    C340      R40       1
+    C341      COST      2
+    C341      R18       1
+    C341      R21       1
+    C342      COST      10
+    C342      R18       1
+    C342      R22       1
+    C343      COST      5
+    C343      R18       1
+    C343      R23       1
+    C344      COST      49
+    C344      R18       1
+    C344      R24       1
+    C345      COST      44
+    C345      R18       1
+    C345      R25       1
+    C346      COST      12
+    C346      R18       1
+    C346      R26       1
+    C347      COST      41
+    C347      R18       1
+    C347      R27       1
+    C348      COST      5
+    C348      R18       1
+    C348      R28       1
+    C349      COST      7
+    C349      R18       1
+    C349      R29       1
+    C350      COST      45
+    C350      R18       1
+    C350      R30       1
+    C351      COST      13
+    C351      R18       1
+    C351      R31       1
+    C352      COST      24
+    C352      R18       1
+    C352      R32       1
+    C353      COST      29
+    C353      R18       1
+    C353      R33       1
+    C354      COST      50
+    C354      R18       1
+    C354      R34       1
+    C355      COST      15
+    C355      R18       1
+    C355      R35       1
+    C356      COST      45
+    C356      R18       1
+    C356      R36       1
+    C357      COST      46
+    C357      R18       1
+    C357      R37       1
+    C358      COST      6
+    C358      R18       1
+    C358      R38       1
+    C359      COST      26
+    C359      R18       1
+    C359      R39       1
+    C360      COST      29
+    C360      R18       1
+    C360      R40       1
+    C361      COST      44
+    C361      R19       1
+    C361      R21       1
+    C362      COST      35
+    C362      R19       1
+    C362      R22       1
+    C363      COST      9
+    C363      R19       1
+    C363      R23       1
+    C364      COST      14
+    C364      R19       1
+    C364      R24       1
+    C365      COST      24
+    C365      R19       1
+    C365      R25       1
+    C366      COST      38
+    C366      R19       1
+    C366      R26       1
+    C367      COST      19
+    C367      R19       1
+    C367      R27       1
+    C368      COST      29
+    C368      R19       1
+    C368      R28       1
+    C369      COST      10
+    C369      R19       1
+    C369      R29       1
+    C370      COST      48
+    C370      R19       1
+    C370      R30       1
+    C371      COST      4
+    C371      R19       1
+    C371      R31       1
+    C372      COST      47
+    C372      R19       1
+    C372      R32       1
+    C373      COST      37
+    C373      R19       1
+    C373      R33       1
+    C374      COST      26
+    C374      R19       1
+    C374      R34       1
+    C375      COST      21
+    C375      R19       1
+    C375      R35       1
+    C376      COST      1
+    C376      R19       1
+    C376      R36       1
+    C377      COST      25
+    C377      R19       1
+    C377      R37       1
+    C378      COST      48
+    C378      R19       1
+    C378      R38       1
+    C379      COST      18
+    C379      R19       1
+    C379      R39       1
+    C380      COST      45
+    C380      R19       1
+    C380      R40       1
+    C381      COST      32
+    C381      R20       1
+    C381      R21       1
+    C382      COST      13
+    C382      R20       1
+    C382      R22       1
+    C383      COST      42
+    C383      R20       1
+    C383      R23       1
+    C384      COST      15
+    C384      R20       1
+    C384      R24       1
+    C385      COST      18
+    C385      R20       1
+    C385      R25       1
+    C386      COST      1
+    C386      R20       1
+    C386      R26       1
+    C387      COST      23
+    C387      R20       1
+    C387      R27       1
+    C388      COST      6
+    C388      R20       1
+    C388      R28       1
+    C389      COST      25
+    C389      R20       1
+    C389      R29       1
+    C390      COST      37
+    C390      R20       1
+    C390      R30       1
+    C391      COST      10
+    C391      R20       1
+    C391      R31       1
+    C392      COST      41
+    C392      R20       1
+    C392      R32       1
+    C393      COST      46
+    C393      R20       1
+    C393      R33       1
+    C394      COST      2
+    C394      R20       1
+    C394      R34       1
+    C395      COST      31
+    C395      R20       1
+    C395      R35       1
+    C396      COST      18
+    C396      R20       1
+    C396      R36       1
+    C397      COST      27
+    C397      R20       1
+    C397      R37       1
+    C398      COST      12
+    C398      R20       1
+    C398      R38       1
+    C399      COST      20
+    C399      R20       1
+    C399      R39       1
+    C400      COST      41
+    C400      R20       1
+    C400      R40       1
+RHS
+    RHS       R1        62
+    RHS       R2        73
+    RHS       R3        68
+    RHS       R4        65
+    RHS       R5        80
+    RHS       R6        78
+    RHS       R7        70
+    RHS       R8        76
+    RHS       R9        67
+    RHS       R10       70
+    RHS       R11       81
+    RHS       R12       78
+    RHS       R13       77
+    RHS       R14       80
+    RHS       R15       64
+    RHS       R16       69
+    RHS       R17       74
+    RHS       R18       73
+    RHS       R19       63
+    RHS       R20       79
+    RHS       R21       47
+    RHS       R22       14
+    RHS       R23       38
+    RHS       R24       53
+    RHS       R25       82
+    RHS       R26       22
+    RHS       R27       66
+    RHS       R28       99
+    RHS       R29       98
+    RHS       R30       72
+    RHS       R31       40
+    RHS       R32       25
+    RHS       R33       55
+    RHS       R34       60
+    RHS       R35       37
+    RHS       R36       58
+    RHS       R37       92
+    RHS       R38       85
+    RHS       R39       48
+    RHS       R40       24
+BOUNDS
+ENDATA
@@ -0,0 +1,4961 @@
+NAME          transport-80-degenerate
+ROWS
+ N  COST
+ L  R1
+ L  R2
+ L  R3
+ L  R4
+ L  R5
+ L  R6
+ L  R7
+ L  R8
+ L  R9
+ L  R10
+ L  R11
+ L  R12
+ L  R13
+ L  R14
+ L  R15
+ L  R16
+ L  R17
+ L  R18
+ L  R19
+ L  R20
+ L  R21
+ L  R22
+ L  R23
+ L  R24
+ L  R25
+ L  R26
+ L  R27
+ L  R28
+ L  R29
+ L  R30
+ L  R31
+ L  R32
+ L  R33
+ L  R34
+ L  R35
+ L  R36
+ L  R37
+ L  R38
+ L  R39
+ L  R40
+ G  R41
+ G  R42
+ G  R43
+ G  R44
+ G  R45
+ G  R46
+ G  R47
+ G  R48
+ G  R49
+ G  R50
+ G  R51
+ G  R52
+ G  R53
+ G  R54
+ G  R55
+ G  R56
+ G  R57
+ G  R58
+ G  R59
+ G  R60
+ G  R61
+ G  R62
+ G  R63
+ G  R64
+ G  R65
+ G  R66
+ G  R67
+ G  R68
+ G  R69
+ G  R70
+ G  R71
+ G  R72
+ G  R73
+ G  R74
+ G  R75
+ G  R76
+ G  R77
+ G  R78
+ G  R79
+ G  R80
+COLUMNS
+    C1        COST      2
+    C1        R1        1
+    C1        R41       1
+    C2        COST      26
+    C2        R1        1
+    C2        R42       1
+    C3        COST      8
+    C3        R1        1
+    C3        R43       1
+    C4        COST      15
+    C4        R1        1
+    C4        R44       1
+    C5        COST      8
+    C5        R1        1
+    C5        R45       1
+    C6        COST      8
+    C6        R1        1
+    C6        R46       1
+    C7        COST      50
+    C7        R1        1
+    C7        R47       1
+    C8        COST      7
+    C8        R1        1
+    C8        R48       1
+    C9        COST      8
+    C9        R1        1
+    C9        R49       1
+    C10       COST      50
+    C10       R1        1
+    C10       R50       1
+    C11       COST      34
+    C11       R1        1
+    C11       R51       1
+    C12       COST      47
+    C12       R1        1
+    C12       R52       1
+    C13       COST      42
+    C13       R1        1
+    C13       R53       1
+    C14       COST      47
+    C14       R1        1
+    C14       R54       1
+    C15       COST      39
+    C15       R1        1
+    C15       R55       1
+    C16       COST      36
+    C16       R1        1
+    C16       R56       1
+    C17       COST      28
+    C17       R1        1
+    C17       R57       1
+    C18       COST      9
+    C18       R1        1
+    C18       R58       1
+    C19       COST      43
+    C19       R1        1
+    C19       R59       1
+    C20       COST      36
+    C20       R1        1
+    C20       R60       1
+    C21       COST      47
+    C21       R1        1
+    C21       R61       1
+    C22       COST      21
+    C22       R1        1
+    C22       R62       1
+    C23       COST      21
+    C23       R1        1
+    C23       R63       1
+    C24       COST      30
+    C24       R1        1
+    C24       R64       1
+    C25       COST      46
+    C25       R1        1
+    C25       R65       1
+    C26       COST      9
+    C26       R1        1
+    C26       R66       1
+    C27       COST      41
+    C27       R1        1
+    C27       R67       1
+    C28       COST      41
+    C28       R1        1
+    C28       R68       1
+    C29       COST      36
+    C29       R1        1
+    C29       R69       1
+    C30       COST      7
+    C30       R1        1
+    C30       R70       1
+    C31       COST      49
+    C31       R1        1
+    C31       R71       1
+    C32       COST      38
+    C32       R1        1
+    C32       R72       1
+    C33       COST      29
+    C33       R1        1
+    C33       R73       1
+    C34       COST      10
+    C34       R1        1
+    C34       R74       1
+    C35       COST      3
+    C35       R1        1
+    C35       R75       1
+    C36       COST      50
+    C36       R1        1
+    C36       R76       1
+    C37       COST      42
+    C37       R1        1
+    C37       R77       1
+    C38       COST      11
+    C38       R1        1
+    C38       R78       1
+    C39       COST      39
+    C39       R1        1
+    C39       R79       1
+    C40       COST      34
+    C40       R1        1
+    C40       R80       1
+    C41       COST      6
+    C41       R2        1
+    C41       R41       1
+    C42       COST      33
+    C42       R2        1
+    C42       R42       1
+    C43       COST      32
+    C43       R2        1
+    C43       R43       1
+    C44       COST      16
+    C44       R2        1
+    C44       R44       1
+    C45       COST      10
+    C45       R2        1
+    C45       R45       1
+    C46       COST      17
+    C46       R2        1
+    C46       R46       1
+    C47       COST      47
+    C47       R2        1
+    C47       R47       1
+    C48       COST      8
+    C48       R2        1
+    C48       R48       1
+    C49       COST      34
+    C49       R2        1
+    C49       R49       1
+    C50       COST      39
+    C50       R2        1
+    C50       R50       1
+    C51       COST      3
+    C51       R2        1
+    C51       R51       1
+    C52       COST      18
+    C52       R2        1
+    C52       R52       1
+    C53       COST      33
+    C53       R2        1
+    C53       R53       1
+    C54       COST      18
+    C54       R2        1
+    C54       R54       1
+    C55       COST      19
+    C55       R2        1
+    C55       R55       1
+    C56       COST      46
+    C56       R2        1
+    C56       R56       1
+    C57       COST      45
+    C57       R2        1
+    C57       R57       1
+    C58       COST      42
+    C58       R2        1
+    C58       R58       1
+    C59       COST      37
+    C59       R2        1
+    C59       R59       1
+    C60       COST      30
+    C60       R2        1
+    C60       R60       1
+    C61       COST      19
+    C61       R2        1
+    C61       R61       1
+    C62       COST      49
+    C62       R2        1
+    C62       R62       1
+    C63       COST      34
+    C63       R2        1
+    C63       R63       1
+    C64       COST      14
+    C64       R2        1
+    C64       R64       1
+    C65       COST      25
+    C65       R2        1
+    C65       R65       1
+    C66       COST      1
+    C66       R2        1
+    C66       R66       1
+    C67       COST      5
+    C67       R2        1
+    C67       R67       1
+    C68       COST      40
+    C68       R2        1
+    C68       R68       1
+    C69       COST      20
+    C69       R2        1
+    C69       R69       1
+    C70       COST      23
+    C70       R2        1
+    C70       R70       1
+    C71       COST      41
+    C71       R2        1
+    C71       R71       1
+    C72       COST      9
+    C72       R2        1
+    C72       R72       1
+    C73       COST      1
+    C73       R2        1
+    C73       R73       1
+    C74       COST      27
+    C74       R2        1
+    C74       R74       1
+    C75       COST      32
+    C75       R2        1
+    C75       R75       1
+    C76       COST      19
+    C76       R2        1
+    C76       R76       1
+    C77       COST      17
+    C77       R2        1
+    C77       R77       1
+    C78       COST      26
+    C78       R2        1
+    C78       R78       1
+    C79       COST      1
+    C79       R2        1
+    C79       R79       1
+    C80       COST      21
+    C80       R2        1
+    C80       R80       1
+    C81       COST      47
+    C81       R3        1
+    C81       R41       1
+    C82       COST      20
+    C82       R3        1
+    C82       R42       1
+    C83       COST      40
+    C83       R3        1
+    C83       R43       1
+    C84       COST      9
+    C84       R3        1
+    C84       R44       1
+    C85       COST      25
+    C85       R3        1
+    C85       R45       1
+    C86       COST      37
+    C86       R3        1
+    C86       R46       1
+    C87       COST      42
+    C87       R3        1
+    C87       R47       1
+    C88       COST      40
+    C88       R3        1
+    C88       R48       1
+    C89       COST      29
+    C89       R3        1
+    C89       R49       1
+    C90       COST      20
+    C90       R3        1
+    C90       R50       1
+    C91       COST      48
+    C91       R3        1
+    C91       R51       1
+    C92       COST      49
+    C92       R3        1
+    C92       R52       1
+    C93       COST      9
+    C93       R3        1
+    C93       R53       1
+    C94       COST      13
+    C94       R3        1
+    C94       R54       1
+    C95       COST      27
+    C95       R3        1
+    C95       R55       1
+    C96       COST      48
+    C96       R3        1
+    C96       R56       1
+    C97       COST      40
+    C97       R3        1
+    C97       R57       1
+    C98       COST      12
+    C98       R3        1
+    C98       R58       1
+    C99       COST      10
+    C99       R3        1
+    C99       R59       1
+    C100      COST      49
+    C100      R3        1
+    C100      R60       1
+    C101      COST      49
+    C101      R3        1
+    C101      R61       1
+    C102      COST      35
+    C102      R3        1
+    C102      R62       1
+    C103      COST      12
+    C103      R3        1
+    C103      R63       1
+    C104      COST      3
+    C104      R3        1
+    C104      R64       1
+    C105      COST      50
+    C105      R3        1
+    C105      R65       1
+    C106      COST      26
+    C106      R3        1
+    C106      R66       1
+    C107      COST      16
+    C107      R3        1
+    C107      R67       1
+    C108      COST      35
+    C108      R3        1
+    C108      R68       1
+    C109      COST      17
+    C109      R3        1
+    C109      R69       1
+    C110      COST      21
+    C110      R3        1
+    C110      R70       1
+    C111      COST      2
+    C111      R3        1
+    C111      R71       1
+    C112      COST      16
+    C112      R3        1
+    C112      R72       1
+    C113      COST      49
+    C113      R3        1
+    C113      R73       1
+    C114      COST      18
+    C114      R3        1
+    C114      R74       1
+    C115      COST      37
+    C115      R3        1
+    C115      R75       1
+    C116      COST      50
+    C116      R3        1
+    C116      R76       1
+    C117      COST      4
+    C117      R3        1
+    C117      R77       1
+    C118      COST      43
+    C118      R3        1
+    C118      R78       1
+    C119      COST      21
+    C119      R3        1
+    C119      R79       1
+    C120      COST      2
+    C120      R3        1
+    C120      R80       1
+    C121      COST      4
+    C121      R4        1
+    C121      R41       1
+    C122      COST      11
+    C122      R4        1
+    C122      R42       1
+    C123      COST      6
+    C123      R4        1
+    C123      R43       1
+    C124      COST      4
+    C124      R4        1
+    C124      R44       1
+    C125      COST      43
+    C125      R4        1
+    C125      R45       1
+    C126      COST      30
+    C126      R4        1
+    C126      R46       1
+    C127      COST      7
+    C127      R4        1
+    C127      R47       1
+    C128      COST      4
+    C128      R4        1
+    C128      R48       1
+    C129      COST      19
+    C129      R4        1
+    C129      R49       1
+    C130      COST      22
+    C130      R4        1
+    C130      R50       1
+    C131      COST      9
+    C131      R4        1
+    C131      R51       1
+    C132      COST      4
+    C132      R4        1
+    C132      R52       1
+    C133      COST      36
+    C133      R4        1
+    C133      R53       1
+    C134      COST      30
+    C134      R4        1
+    C134      R54       1
+    C135      COST      37
+    C135      R4        1
+    C135      R55       1
+    C136      COST      9
+    C136      R4        1
+    C136      R56       1
+    C137      COST      42
+    C137      R4        1
+    C137      R57       1
+    C138      COST      9
+    C138      R4        1
+    C138      R58       1
+    C139      COST      15
+    C139      R4        1
+    C139      R59       1
+    C140      COST      29
+    C140      R4        1
+    C140      R60       1
+    C141      COST      37
+    C141      R4        1
+    C141      R61       1
+    C142      COST      22
+    C142      R4        1
+    C142      R62       1
+    C143      COST      27
+    C143      R4        1
+    C143      R63       1
+    C144      COST      40
+    C144      R4        1
+    C144      R64       1
+    C145      COST      14
+    C145      R4        1
+    C145      R65       1
+    C146      COST      32
+    C146      R4        1
+    C146      R66       1
+    C147      COST      45
+    C147      R4        1
+    C147      R67       1
+    C148      COST      11
+    C148      R4        1
+    C148      R68       1
+    C149      COST      46
+    C149      R4        1
+    C149      R69       1
+    C150      COST      5
+    C150      R4        1
+    C150      R70       1
+    C151      COST      18
+    C151      R4        1
+    C151      R71       1
+    C152      COST      6
+    C152      R4        1
+    C152      R72       1
+    C153      COST      22
+    C153      R4        1
+    C153      R73       1
+    C154      COST      21
+    C154      R4        1
+    C154      R74       1
+    C155      COST      45
+    C155      R4        1
+    C155      R75       1
+    C156      COST      14
+    C156      R4        1
+    C156      R76       1
+    C157      COST      46
+    C157      R4        1
+    C157      R77       1
+    C158      COST      25
+    C158      R4        1
+    C158      R78       1
+    C159      COST      30
+    C159      R4        1
+    C159      R79       1
+    C160      COST      34
+    C160      R4        1
+    C160      R80       1
+    C161      COST      14
+    C161      R5        1
+    C161      R41       1
+    C162      COST      9
+    C162      R5        1
+    C162      R42       1
+    C163      COST      7
+    C163      R5        1
+    C163      R43       1
+    C164      COST      17
+    C164      R5        1
+    C164      R44       1
+    C165      COST      24
+    C165      R5        1
+    C165      R45       1
+    C166      COST      7
+    C166      R5        1
+    C166      R46       1
+    C167      COST      17
+    C167      R5        1
+    C167      R47       1
+    C168      COST      29
+    C168      R5        1
+    C168      R48       1
+    C169      COST      49
+    C169      R5        1
+    C169      R49       1
+    C170      COST      32
+    C170      R5        1
+    C170      R50       1
+    C171      COST      14
+    C171      R5        1
+    C171      R51       1
+    C172      COST      4
+    C172      R5        1
+    C172      R52       1
+    C173      COST      20
+    C173      R5        1
+    C173      R53       1
+    C174      COST      40
+    C174      R5        1
+    C174      R54       1
+    C175      COST      10
+    C175      R5        1
+    C175      R55       1
+    C176      COST      50
+    C176      R5        1
+    C176      R56       1
+    C177      COST      3
+    C177      R5        1
+    C177      R57       1
+    C178      COST      28
+    C178      R5        1
+    C178      R58       1
+    C179      COST      14
+    C179      R5        1
+    C179      R59       1
+    C180      COST      20
+    C180      R5        1
+    C180      R60       1
+    C181      COST      10
+    C181      R5        1
+    C181      R61       1
+    C182      COST      40
+    C182      R5        1
+    C182      R62       1
+    C183      COST      17
+    C183      R5        1
+    C183      R63       1
+    C184      COST      3
+    C184      R5        1
+    C184      R64       1
+    C185      COST      21
+    C185      R5        1
+    C185      R65       1
+    C186      COST      45
+    C186      R5        1
+    C186      R66       1
+    C187      COST      6
+    C187      R5        1
+    C187      R67       1
+    C188      COST      28
+    C188      R5        1
+    C188      R68       1
+    C189      COST      24
+    C189      R5        1
+    C189      R69       1
+    C190      COST      49
+    C190      R5        1
+    C190      R70       1
+    C191      COST      11
+    C191      R5        1
+    C191      R71       1
+    C192      COST      50
+    C192      R5        1
+    C192      R72       1
+    C193      COST      37
+    C193      R5        1
+    C193      R73       1
+    C194      COST      15
+    C194      R5        1
+    C194      R74       1
+    C195      COST      19
+    C195      R5        1
+    C195      R75       1
+    C196      COST      13
+    C196      R5        1
+    C196      R76       1
+    C197      COST      4
+    C197      R5        1
+    C197      R77       1
+    C198      COST      18
+    C198      R5        1
+    C198      R78       1
+    C199      COST      14
+    C199      R5        1
+    C199      R79       1
+    C200      COST      21
+    C200      R5        1
+    C200      R80       1
+    C201      COST      50
+    C201      R6        1
+    C201      R41       1
+    C202      COST      50
+    C202      R6        1
+    C202      R42       1
+    C203      COST      6
+    C203      R6        1
+    C203      R43       1
+    C204      COST      48
+    C204      R6        1
+    C204      R44       1
+    C205      COST      10
+    C205      R6        1
+    C205      R45       1
+    C206      COST      35
+    C206      R6        1
+    C206      R46       1
+    C207      COST      16
+    C207      R6        1
+    C207      R47       1
+    C208      COST      24
+    C208      R6        1
+    C208      R48       1
+    C209      COST      8
+    C209      R6        1
+    C209      R49       1
+    C210      COST      12
+    C210      R6        1
+    C210      R50       1
+    C211      COST      13
+    C211      R6        1
+    C211      R51       1
+    C212      COST      33
+    C212      R6        1
+    C212      R52       1
+    C213      COST      19
+    C213      R6        1
+    C213      R53       1
+    C214      COST      26
+    C214      R6        1
+    C214      R54       1
+    C215      COST      6
+    C215      R6        1
+    C215      R55       1
+    C216      COST      20
+    C216      R6        1
+    C216      R56       1
+    C217      COST      20
+    C217      R6        1
+    C217      R57       1
+    C218      COST      1
+    C218      R6        1
+    C218      R58       1
+    C219      COST      7
+    C219      R6        1
+    C219      R59       1
+    C220      COST      26
+    C220      R6        1
+    C220      R60       1
+    C221      COST      33
+    C221      R6        1
+    C221      R61       1
+    C222      COST      23
+    C222      R6        1
+    C222      R62       1
+    C223      COST      16
+    C223      R6        1
+    C223      R63       1
+    C224      COST      28
+    C224      R6        1
+    C224      R64       1
+    C225      COST      38
+    C225      R6        1
+    C225      R65       1
+    C226      COST      32
+    C226      R6        1
+    C226      R66       1
+    C227      COST      22
+    C227      R6        1
+    C227      R67       1
+    C228      COST      7
+    C228      R6        1
+    C228      R68       1
+    C229      COST      4
+    C229      R6        1
+    C229      R69       1
+    C230      COST      45
+    C230      R6        1
+    C230      R70       1
+    C231      COST      30
+    C231      R6        1
+    C231      R71       1
+    C232      COST      7
+    C232      R6        1
+    C232      R72       1
+    C233      COST      50
+    C233      R6        1
+    C233      R73       1
+    C234      COST      19
+    C234      R6        1
+    C234      R74       1
+    C235      COST      48
+    C235      R6        1
+    C235      R75       1
+    C236      COST      29
+    C236      R6        1
+    C236      R76       1
+    C237      COST      48
+    C237      R6        1
+    C237      R77       1
+    C238      COST      14
+    C238      R6        1
+    C238      R78       1
+    C239      COST      35
+    C239      R6        1
+    C239      R79       1
+    C240      COST      8
+    C240      R6        1
+    C240      R80       1
+    C241      COST      25
+    C241      R7        1
+    C241      R41       1
+    C242      COST      20
+    C242      R7        1
+    C242      R42       1
+    C243      COST      11
+    C243      R7        1
+    C243      R43       1
+    C244      COST      40
+    C244      R7        1
+    C244      R44       1
+    C245      COST      5
+    C245      R7        1
+    C245      R45       1
+    C246      COST      24
+    C246      R7        1
+    C246      R46       1
+    C247      COST      5
+    C247      R7        1
+    C247      R47       1
+    C248      COST      37
+    C248      R7        1
+    C248      R48       1
+    C249      COST      34
+    C249      R7        1
+    C249      R49       1
+    C250      COST      24
+    C250      R7        1
+    C250      R50       1
+    C251      COST      30
+    C251      R7        1
+    C251      R51       1
+    C252      COST      41
+    C252      R7        1
+    C252      R52       1
+    C253      COST      12
+    C253      R7        1
+    C253      R53       1
+    C254      COST      24
+    C254      R7        1
+    C254      R54       1
+    C255      COST      9
+    C255      R7        1
+    C255      R55       1
+    C256      COST      5
+    C256      R7        1
+    C256      R56       1
+    C257      COST      9
+    C257      R7        1
+    C257      R57       1
+    C258      COST      25
+    C258      R7        1
+    C258      R58       1
+    C259      COST      28
+    C259      R7        1
+    C259      R59       1
+    C260      COST      1
+    C260      R7        1
+    C260      R60       1
+    C261      COST      26
+    C261      R7        1
+    C261      R61       1
+    C262      COST      41
+    C262      R7        1
+    C262      R62       1
+    C263      COST      24
+    C263      R7        1
+    C263      R63       1
+    C264      COST      40
+    C264      R7        1
+    C264      R64       1
+    C265      COST      12
+    C265      R7        1
+    C265      R65       1
+    C266      COST      34
+    C266      R7        1
+    C266      R66       1
+    C267      COST      2
+    C267      R7        1
+    C267      R67       1
+    C268      COST      10
+    C268      R7        1
+    C268      R68       1
+    C269      COST      5
+    C269      R7        1
+    C269      R69       1
+    C270      COST      49
+    C270      R7        1
+    C270      R70       1
+    C271      COST      44
+    C271      R7        1
+    C271      R71       1
+    C272      COST      12
+    C272      R7        1
+    C272      R72       1
+    C273      COST      41
+    C273      R7        1
+    C273      R73       1
+    C274      COST      5
+    C274      R7        1
+    C274      R74       1
+    C275      COST      7
+    C275      R7        1
+    C275      R75       1
+    C276      COST      45
+    C276      R7        1
+    C276      R76       1
+    C277      COST      13
+    C277      R7        1
+    C277      R77       1
+    C278      COST      24
+    C278      R7        1
+    C278      R78       1
+    C279      COST      29
+    C279      R7        1
+    C279      R79       1
+    C280      COST      50
+    C280      R7        1
+    C280      R80       1
+    C281      COST      15
+    C281      R8        1
+    C281      R41       1
+    C282      COST      45
+    C282      R8        1
+    C282      R42       1
+    C283      COST      46
+    C283      R8        1
+    C283      R43       1
+    C284      COST      6
+    C284      R8        1
+    C284      R44       1
+    C285      COST      26
+    C285      R8        1
+    C285      R45       1
+    C286      COST      29
+    C286      R8        1
+    C286      R46       1
+    C287      COST      44
+    C287      R8        1
+    C287      R47       1
+    C288      COST      35
+    C288      R8        1
+    C288      R48       1
+    C289      COST      9
+    C289      R8        1
+    C289      R49       1
+    C290      COST      14
+    C290      R8        1
+    C290      R50       1
+    C291      COST      24
+    C291      R8        1
+    C291      R51       1
+    C292      COST      38
+    C292      R8        1
+    C292      R52       1
+    C293      COST      19
+    C293      R8        1
+    C293      R53       1
+    C294      COST      29
+    C294      R8        1
+    C294      R54       1
+    C295      COST      10
+    C295      R8        1
+    C295      R55       1
+    C296      COST      48
+    C296      R8        1
+    C296      R56       1
+    C297      COST      4
+    C297      R8        1
+    C297      R57       1
+    C298      COST      47
+    C298      R8        1
+    C298      R58       1
+    C299      COST      37
+    C299      R8        1
+    C299      R59       1
+    C300      COST      26
+    C300      R8        1
+    C300      R60       1
+    C301      COST      21
+    C301      R8        1
+    C301      R61       1
+    C302      COST      1
+    C302      R8        1
+    C302      R62       1
+    C303      COST      25
+    C303      R8        1
+    C303      R63       1
+    C304      COST      48
+    C304      R8        1
+    C304      R64       1
+    C305      COST      18
+    C305      R8        1
+    C305      R65       1
+    C306      COST      45
+    C306      R8        1
+    C306      R66       1
+    C307      COST      32
+    C307      R8        1
+    C307      R67       1
+    C308      COST      13
+    C308      R8        1
+    C308      R68       1
+    C309      COST      42
+    C309      R8        1
+    C309      R69       1
+    C310      COST      15
+    C310      R8        1
+    C310      R70       1
+    C311      COST      18
+    C311      R8        1
+    C311      R71       1
+    C312      COST      1
+    C312      R8        1
+    C312      R72       1
+    C313      COST      23
+    C313      R8        1
+    C313      R73       1
+    C314      COST      6
+    C314      R8        1
+    C314      R74       1
+    C315      COST      25
+    C315      R8        1
+    C315      R75       1
+    C316      COST      37
+    C316      R8        1
+    C316      R76       1
+    C317      COST      10
+    C317      R8        1
+    C317      R77       1
+    C318      COST      41
+    C318      R8        1
+    C318      R78       1
+    C319      COST      46
+    C319      R8        1
+    C319      R79       1
+    C320      COST      2
+    C320      R8        1
+    C320      R80       1
+    C321      COST      31
+    C321      R9        1
+    C321      R41       1
+    C322      COST      18
+    C322      R9        1
+    C322      R42       1
+    C323      COST      27
+    C323      R9        1
+    C323      R43       1
+    C324      COST      12
+    C324      R9        1
+    C324      R44       1
+    C325      COST      20
+    C325      R9        1
+    C325      R45       1
+    C326      COST      41
+    C326      R9        1
+    C326      R46       1
+    C327      COST      34
+    C327      R9        1
+    C327      R47       1
+    C328      COST      19
+    C328      R9        1
+    C328      R48       1
+    C329      COST      44
+    C329      R9        1
+    C329      R49       1
+    C330      COST      22
+    C330      R9        1
+    C330      R50       1
+    C331      COST      26
+    C331      R9        1
+    C331      R51       1
+    C332      COST      45
+    C332      R9        1
+    C332      R52       1
+    C333      COST      45
+    C333      R9        1
+    C333      R53       1
+    C334      COST      16
+    C334      R9        1
+    C334      R54       1
+    C335      COST      1
+    C335      R9        1
+    C335      R55       1
+    C336      COST      14
+    C336      R9        1
+    C336      R56       1
+    C337      COST      29
+    C337      R9        1
+    C337      R57       1
+    C338      COST      29
+    C338      R9        1
+    C338      R58       1
+    C339      COST      22
+    C339      R9        1
+    C339      R59       1
+    C340      COST      35
+    C340      R9        1
+    C340      R60       1
+    C341      COST      19
+    C341      R9        1
+    C341      R61       1
+    C342      COST      5
+    C342      R9        1
+    C342      R62       1
+    C343      COST      34
+    C343      R9        1
+    C343      R63       1
+    C344      COST      23
+    C344      R9        1
+    C344      R64       1
+    C345      COST      48
+    C345      R9        1
+    C345      R65       1
+    C346      COST      6
+    C346      R9        1
+    C346      R66       1
+    C347      COST      40
+    C347      R9        1
+    C347      R67       1
+    C348      COST      38
+    C348      R9        1
+    C348      R68       1
+    C349      COST      45
+    C349      R9        1
+    C349      R69       1
+    C350      COST      39
+    C350      R9        1
+    C350      R70       1
+    C351      COST      26
+    C351      R9        1
+    C351      R71       1
+    C352      COST      43
+    C352      R9        1
+    C352      R72       1
+    C353      COST      27
+    C353      R9        1
+    C353      R73       1
+    C354      COST      23
+    C354      R9        1
+    C354      R74       1
+    C355      COST      8
+    C355      R9        1
+    C355      R75       1
+    C356      COST      42
+    C356      R9        1
+    C356      R76       1
+    C357      COST      42
+    C357      R9        1
+    C357      R77       1
+    C358      COST      31
+    C358      R9        1
+    C358      R78       1
+    C359      COST      38
+    C359      R9        1
+    C359      R79       1
+    C360      COST      19
+    C360      R9        1
+    C360      R80       1
+    C361      COST      16
+    C361      R10       1
+    C361      R41       1
+    C362      COST      25
+    C362      R10       1
+    C362      R42       1
+    C363      COST      35
+    C363      R10       1
+    C363      R43       1
+    C364      COST      7
+    C364      R10       1
+    C364      R44       1
+    C365      COST      18
+    C365      R10       1
+    C365      R45       1
+    C366      COST      17
+    C366      R10       1
+    C366      R46       1
+    C367      COST      31
+    C367      R10       1
+    C367      R47       1
+    C368      COST      10
+    C368      R10       1
+    C368      R48       1
+    C369      COST      10
+    C369      R10       1
+    C369      R49       1
+    C370      COST      39
+    C370      R10       1
+    C370      R50       1
+    C371      COST      28
+    C371      R10       1
+    C371      R51       1
+    C372      COST      32
+    C372      R10       1
+    C372      R52       1
+    C373      COST      10
+    C373      R10       1
+    C373      R53       1
+    C374      COST      21
+    C374      R10       1
+    C374      R54       1
+    C375      COST      27
+    C375      R10       1
+    C375      R55       1
+    C376      COST      41
+    C376      R10       1
+    C376      R56       1
+    C377      COST      20
+    C377      R10       1
+    C377      R57       1
+    C378      COST      50
+    C378      R10       1
+    C378      R58       1
+    C379      COST      35
+    C379      R10       1
+    C379      R59       1
+    C380      COST      44
+    C380      R10       1
+    C380      R60       1
+    C381      COST      27
+    C381      R10       1
+    C381      R61       1
+    C382      COST      40
+    C382      R10       1
+    C382      R62       1
+    C383      COST      10
+    C383      R10       1
+    C383      R63       1
+    C384      COST      16
+    C384      R10       1
+    C384      R64       1
+    C385      COST      40
+    C385      R10       1
+    C385      R65       1
+    C386      COST      34
+    C386      R10       1
+    C386      R66       1
+    C387      COST      26
+    C387      R10       1
+    C387      R67       1
+    C388      COST      1
+    C388      R10       1
+    C388      R68       1
+    C389      COST      14
+    C389      R10       1
+    C389      R69       1
+    C390      COST      34
+    C390      R10       1
+    C390      R70       1
+    C391      COST      46
+    C391      R10       1
+    C391      R71       1
+    C392      COST      10
+    C392      R10       1
+    C392      R72       1
+    C393      COST      33
+    C393      R10       1
+    C393      R73       1
+    C394      COST      34
+    C394      R10       1
+    C394      R74       1
+    C395      COST      17
+    C395      R10       1
+    C395      R75       1
+    C396      COST      32
+    C396      R10       1
+    C396      R76       1
+    C397      COST      10
+    C397      R10       1
+    C397      R77       1
+    C398      COST      20
+    C398      R10       1
+    C398      R78       1
+    C399      COST      31
+    C399      R10       1
+    C399      R79       1
+    C400      COST      22
+    C400      R10       1
+    C400      R80       1
+    C401      COST      29
+    C401      R11       1
+    C401      R41       1
+    C402      COST      50
+    C402      R11       1
+    C402      R42       1
+    C403      COST      7
+    C403      R11       1
+    C403      R43       1
+    C404      COST      4
+    C404      R11       1
+    C404      R44       1
+    C405      COST      28
+    C405      R11       1
+    C405      R45       1
+    C406      COST      26
+    C406      R11       1
+    C406      R46       1
+    C407      COST      29
+    C407      R11       1
+    C407      R47       1
+    C408      COST      13
+    C408      R11       1
+    C408      R48       1
+    C409      COST      38
+    C409      R11       1
+    C409      R49       1
+    C410      COST      20
+    C410      R11       1
+    C410      R50       1
+    C411      COST      17
+    C411      R11       1
+    C411      R51       1
+    C412      COST      28
+    C412      R11       1
+    C412      R52       1
+    C413      COST      10
+    C413      R11       1
+    C413      R53       1
+    C414      COST      3
+    C414      R11       1
+    C414      R54       1
+    C415      COST      46
+    C415      R11       1
+    C415      R55       1
+    C416      COST      45
+    C416      R11       1
+    C416      R56       1
+    C417      COST      27
+    C417      R11       1
+    C417      R57       1
+    C418      COST      47
+    C418      R11       1
+    C418      R58       1
+    C419      COST      41
+    C419      R11       1
+    C419      R59       1
+    C420      COST      9
+    C420      R11       1
+    C420      R60       1
+    C421      COST      2
+    C421      R11       1
+    C421      R61       1
+    C422      COST      19
+    C422      R11       1
+    C422      R62       1
+    C423      COST      4
+    C423      R11       1
+    C423      R63       1
+    C424      COST      38
+    C424      R11       1
+    C424      R64       1
+    C425      COST      19
+    C425      R11       1
+    C425      R65       1
+    C426      COST      47
+    C426      R11       1
+    C426      R66       1
+    C427      COST      46
+    C427      R11       1
+    C427      R67       1
+    C428      COST      34
+    C428      R11       1
+    C428      R68       1
+    C429      COST      10
+    C429      R11       1
+    C429      R69       1
+    C430      COST      2
+    C430      R11       1
+    C430      R70       1
+    C431      COST      35
+    C431      R11       1
+    C431      R71       1
+    C432      COST      25
+    C432      R11       1
+    C432      R72       1
+    C433      COST      18
+    C433      R11       1
+    C433      R73       1
+    C434      COST      50
+    C434      R11       1
+    C434      R74       1
+    C435      COST      42
+    C435      R11       1
+    C435      R75       1
+    C436      COST      31
+    C436      R11       1
+    C436      R76       1
+    C437      COST      37
+    C437      R11       1
+    C437      R77       1
+    C438      COST      49
+    C438      R11       1
+    C438      R78       1
+    C439      COST      1
+    C439      R11       1
+    C439      R79       1
+    C440      COST      17
+    C440      R11       1
+    C440      R80       1
+    C441      COST      8
+    C441      R12       1
+    C441      R41       1
+    C442      COST      34
+    C442      R12       1
+    C442      R42       1
+    C443      COST      31
+    C443      R12       1
+    C443      R43       1
+    C444      COST      44
+    C444      R12       1
+    C444      R44       1
+    C445      COST      7
+    C445      R12       1
+    C445      R45       1
+    C446      COST      44
+    C446      R12       1
+    C446      R46       1
+    C447      COST      42
+    C447      R12       1
+    C447      R47       1
+    C448      COST      42
+    C448      R12       1
+    C448      R48       1
+    C449      COST      39
+    C449      R12       1
+    C449      R49       1
+    C450      COST      8
+    C450      R12       1
+    C450      R50       1
+    C451      COST      26
+    C451      R12       1
+    C451      R51       1
+    C452      COST      36
+    C452      R12       1
+    C452      R52       1
+    C453      COST      35
+    C453      R12       1
+    C453      R53       1
+    C454      COST      25
+    C454      R12       1
+    C454      R54       1
+    C455      COST      22
+    C455      R12       1
+    C455      R55       1
+    C456      COST      26
+    C456      R12       1
+    C456      R56       1
+    C457      COST      38
+    C457      R12       1
+    C457      R57       1
+    C458      COST      14
+    C458      R12       1
+    C458      R58       1
+    C459      COST      5
+    C459      R12       1
+    C459      R59       1
+    C460      COST      11
+    C460      R12       1
+    C460      R60       1
+    C461      COST      3
+    C461      R12       1
+    C461      R61       1
+    C462      COST      42
+    C462      R12       1
+    C462      R62       1
+    C463      COST      44
+    C463      R12       1
+    C463      R63       1
+    C464      COST      46
+    C464      R12       1
+    C464      R64       1
+    C465      COST      25
+    C465      R12       1
+    C465      R65       1
+    C466      COST      29
+    C466      R12       1
+    C466      R66       1
+    C467      COST      24
+    C467      R12       1
+    C467      R67       1
+    C468      COST      27
+    C468      R12       1
+    C468      R68       1
+    C469      COST      6
+    C469      R12       1
+    C469      R69       1
+    C470      COST      31
+    C470      R12       1
+    C470      R70       1
+    C471      COST      23
+    C471      R12       1
+    C471      R71       1
+    C472      COST      5
+    C472      R12       1
+    C472      R72       1
+    C473      COST      27
+    C473      R12       1
+    C473      R73       1
+    C474      COST      3
+    C474      R12       1
+    C474      R74       1
+    C475      COST      17
+    C475      R12       1
+    C475      R75       1
+    C476      COST      9
+    C476      R12       1
+    C476      R76       1
+    C477      COST      48
+    C477      R12       1
+    C477      R77       1
+    C478      COST      26
+    C478      R12       1
+    C478      R78       1
+    C479      COST      22
+    C479      R12       1
+    C479      R79       1
+    C480      COST      21
+    C480      R12       1
+    C480      R80       1
+    C481      COST      10
+    C481      R13       1
+    C481      R41       1
+    C482      COST      39
+    C482      R13       1
+    C482      R42       1
+    C483      COST      20
+    C483      R13       1
+    C483      R43       1
+    C484      COST      9
+    C484      R13       1
+    C484      R44       1
+    C485      COST      14
+    C485      R13       1
+    C485      R45       1
+    C486      COST      18
+    C486      R13       1
+    C486      R46       1
+    C487      COST      23
+    C487      R13       1
+    C487      R47       1
+    C488      COST      40
+    C488      R13       1
+    C488      R48       1
+    C489      COST      49
+    C489      R13       1
+    C489      R49       1
+    C490      COST      13
+    C490      R13       1
+    C490      R50       1
+    C491      COST      24
+    C491      R13       1
+    C491      R51       1
+    C492      COST      40
+    C492      R13       1
+    C492      R52       1
+    C493      COST      10
+    C493      R13       1
+    C493      R53       1
+    C494      COST      3
+    C494      R13       1
+    C494      R54       1
+    C495      COST      32
+    C495      R13       1
+    C495      R55       1
+    C496      COST      16
+    C496      R13       1
+    C496      R56       1
+    C497      COST      21
+    C497      R13       1
+    C497      R57       1
+    C498      COST      11
+    C498      R13       1
+    C498      R58       1
+    C499      COST      45
+    C499      R13       1
+    C499      R59       1
+    C500      COST      19
+    C500      R13       1
+    C500      R60       1
+    C501      COST      18
+    C501      R13       1
+    C501      R61       1
+    C502      COST      1
+    C502      R13       1
+    C502      R62       1
+    C503      COST      27
+    C503      R13       1
+    C503      R63       1
+    C504      COST      44
+    C504      R13       1
+    C504      R64       1
+    C505      COST      49
+    C505      R13       1
+    C505      R65       1
+    C506      COST      18
+    C506      R13       1
+    C506      R66       1
+    C507      COST      32
+    C507      R13       1
+    C507      R67       1
+    C508      COST      37
+    C508      R13       1
+    C508      R68       1
+    C509      COST      15
+    C509      R13       1
+    C509      R69       1
+    C510      COST      25
+    C510      R13       1
+    C510      R70       1
+    C511      COST      27
+    C511      R13       1
+    C511      R71       1
+    C512      COST      34
+    C512      R13       1
+    C512      R72       1
+    C513      COST      40
+    C513      R13       1
+    C513      R73       1
+    C514      COST      38
+    C514      R13       1
+    C514      R74       1
+    C515      COST      16
+    C515      R13       1
+    C515      R75       1
+    C516      COST      31
+    C516      R13       1
+    C516      R76       1
+    C517      COST      21
+    C517      R13       1
+    C517      R77       1
+    C518      COST      27
+    C518      R13       1
+    C518      R78       1
+    C519      COST      15
+    C519      R13       1
+    C519      R79       1
+    C520      COST      2
+    C520      R13       1
+    C520      R80       1
+    C521      COST      48
+    C521      R14       1
+    C521      R41       1
+    C522      COST      40
+    C522      R14       1
+    C522      R42       1
+    C523      COST      9
+    C523      R14       1
+    C523      R43       1
+    C524      COST      4
+    C524      R14       1
+    C524      R44       1
+    C525      COST      25
+    C525      R14       1
+    C525      R45       1
+    C526      COST      48
+    C526      R14       1
+    C526      R46       1
+    C527      COST      46
+    C527      R14       1
+    C527      R47       1
+    C528      COST      8
+    C528      R14       1
+    C528      R48       1
+    C529      COST      39
+    C529      R14       1
+    C529      R49       1
+    C530      COST      26
+    C530      R14       1
+    C530      R50       1
+    C531      COST      40
+    C531      R14       1
+    C531      R51       1
+    C532      COST      44
+    C532      R14       1
+    C532      R52       1
+    C533      COST      47
+    C533      R14       1
+    C533      R53       1
+    C534      COST      48
+    C534      R14       1
+    C534      R54       1
+    C535      COST      27
+    C535      R14       1
+    C535      R55       1
+    C536      COST      11
+    C536      R14       1
+    C536      R56       1
+    C537      COST      24
+    C537      R14       1
+    C537      R57       1
+    C538      COST      21
+    C538      R14       1
+    C538      R58       1
+    C539      COST      4
+    C539      R14       1
+    C539      R59       1
+    C540      COST      30
+    C540      R14       1
+    C540      R60       1
+    C541      COST      14
+    C541      R14       1
+    C541      R61       1
+    C542      COST      22
+    C542      R14       1
+    C542      R62       1
+    C543      COST      7
+    C543      R14       1
+    C543      R63       1
+    C544      COST      40
+    C544      R14       1
+    C544      R64       1
+    C545      COST      39
+    C545      R14       1
+    C545      R65       1
+    C546      COST      27
+    C546      R14       1
+    C546      R66       1
+    C547      COST      47
+    C547      R14       1
+    C547      R67       1
+    C548      COST      16
+    C548      R14       1
+    C548      R68       1
+    C549      COST      15
+    C549      R14       1
+    C549      R69       1
+    C550      COST      28
+    C550      R14       1
+    C550      R70       1
+    C551      COST      46
+    C551      R14       1
+    C551      R71       1
+    C552      COST      39
+    C552      R14       1
+    C552      R72       1
+    C553      COST      37
+    C553      R14       1
+    C553      R73       1
+    C554      COST      47
+    C554      R14       1
+    C554      R74       1
+    C555      COST      25
+    C555      R14       1
+    C555      R75       1
+    C556      COST      10
+    C556      R14       1
+    C556      R76       1
+    C557      COST      31
+    C557      R14       1
+    C557      R77       1
+    C558      COST      50
+    C558      R14       1
+    C558      R78       1
+    C559      COST      48
+    C559      R14       1
+    C559      R79       1
+    C560      COST      39
+    C560      R14       1
+    C560      R80       1
+    C561      COST      1
+    C561      R15       1
+    C561      R41       1
+    C562      COST      24
+    C562      R15       1
+    C562      R42       1
+    C563      COST      24
+    C563      R15       1
+    C563      R43       1
+    C564      COST      41
+    C564      R15       1
+    C564      R44       1
+    C565      COST      27
+    C565      R15       1
+    C565      R45       1
+    C566      COST      31
+    C566      R15       1
+    C566      R46       1
+    C567      COST      45
+    C567      R15       1
+    C567      R47       1
+    C568      COST      36
+    C568      R15       1
+    C568      R48       1
+    C569      COST      7
+    C569      R15       1
+    C569      R49       1
+    C570      COST      16
+    C570      R15       1
+    C570      R50       1
+    C571      COST      21
+    C571      R15       1
+    C571      R51       1
+    C572      COST      26
+    C572      R15       1
+    C572      R52       1
+    C573      COST      36
+    C573      R15       1
+    C573      R53       1
+    C574      COST      13
+    C574      R15       1
+    C574      R54       1
+    C575      COST      30
+    C575      R15       1
+    C575      R55       1
+    C576      COST      11
+    C576      R15       1
+    C576      R56       1
+    C577      COST      12
+    C577      R15       1
+    C577      R57       1
+    C578      COST      44
+    C578      R15       1
+    C578      R58       1
+    C579      COST      19
+    C579      R15       1
+    C579      R59       1
+    C580      COST      21
+    C580      R15       1
+    C580      R60       1
+    C581      COST      29
+    C581      R15       1
+    C581      R61       1
+    C582      COST      30
+    C582      R15       1
+    C582      R62       1
+    C583      COST      35
+    C583      R15       1
+    C583      R63       1
+    C584      COST      19
+    C584      R15       1
+    C584      R64       1
+    C585      COST      1
+    C585      R15       1
+    C585      R65       1
+    C586      COST      12
+    C586      R15       1
+    C586      R66       1
+    C587      COST      14
+    C587      R15       1
+    C587      R67       1
+    C588      COST      50
+    C588      R15       1
+    C588      R68       1
+    C589      COST      13
+    C589      R15       1
+    C589      R69       1
+    C590      COST      26
+    C590      R15       1
+    C590      R70       1
+    C591      COST      4
+    C591      R15       1
+    C591      R71       1
+    C592      COST      43
+    C592      R15       1
+    C592      R72       1
+    C593      COST      47
+    C593      R15       1
+    C593      R73       1
+    C594      COST      27
+    C594      R15       1
+    C594      R74       1
+    C595      COST      4
+    C595      R15       1
+    C595      R75       1
+    C596      COST      28
+    C596      R15       1
+    C596      R76       1
+    C597      COST      36
+    C597      R15       1
+    C597      R77       1
+    C598      COST      43
+    C598      R15       1
+    C598      R78       1
+    C599      COST      27
+    C599      R15       1
+    C599      R79       1
+    C600      COST      6
+    C600      R15       1
+    C600      R80       1
+    C601      COST      28
+    C601      R16       1
+    C601      R41       1
+    C602      COST      33
+    C602      R16       1
+    C602      R42       1
+    C603      COST      31
+    C603      R16       1
+    C603      R43       1
+    C604      COST      35
+    C604      R16       1
+    C604      R44       1
+    C605      COST      14
+    C605      R16       1
+    C605      R45       1
+    C606      COST      45
+    C606      R16       1
+    C606      R46       1
+    C607      COST      30
+    C607      R16       1
+    C607      R47       1
+    C608      COST      13
+    C608      R16       1
+    C608      R48       1
+    C609      COST      5
+    C609      R16       1
+    C609      R49       1
+    C610      COST      43
+    C610      R16       1
+    C610      R50       1
+    C611      COST      17
+    C611      R16       1
+    C611      R51       1
+    C612      COST      50
+    C612      R16       1
+    C612      R52       1
+    C613      COST      9
+    C613      R16       1
+    C613      R53       1
+    C614      COST      21
+    C614      R16       1
+    C614      R54       1
+    C615      COST      50
+    C615      R16       1
+    C615      R55       1
+    C616      COST      24
+    C616      R16       1
+    C616      R56       1
+    C617      COST      20
+    C617      R16       1
+    C617      R57       1
+    C618      COST      44
+    C618      R16       1
+    C618      R58       1
+    C619      COST      35
+    C619      R16       1
+    C619      R59       1
+    C620      COST      12
+    C620      R16       1
+    C620      R60       1
+    C621      COST      7
+    C621      R16       1
+    C621      R61       1
+    C622      COST      17
+    C622      R16       1
+    C622      R62       1
+    C623      COST      42
+    C623      R16       1
+    C623      R63       1
+    C624      COST      1
+    C624      R16       1
+    C624      R64       1
+    C625      COST      39
+    C625      R16       1
+    C625      R65       1
+    C626      COST      19
+    C626      R16       1
+    C626      R66       1
+    C627      COST      27
+    C627      R16       1
+    C627      R67       1
+    C628      COST      39
+    C628      R16       1
+    C628      R68       1
+    C629      COST      24
+    C629      R16       1
+    C629      R69       1
+    C630      COST      1
+    C630      R16       1
+    C630      R70       1
+    C631      COST      6
+    C631      R16       1
+    C631      R71       1
+    C632      COST      43
+    C632      R16       1
+    C632      R72       1
+    C633      COST      5
+    C633      R16       1
+    C633      R73       1
+    C634      COST      39
+    C634      R16       1
+    C634      R74       1
+    C635      COST      34
+    C635      R16       1
+    C635      R75       1
+    C636      COST      9
+    C636      R16       1
+    C636      R76       1
+    C637      COST      39
+    C637      R16       1
+    C637      R77       1
+    C638      COST      28
+    C638      R16       1
+    C638      R78       1
+    C639      COST      12
+    C639      R16       1
+    C639      R79       1
+    C640      COST      20
+    C640      R16       1
+    C640      R80       1
+    C641      COST      6
+    C641      R17       1
+    C641      R41       1
+    C642      COST      50
+    C642      R17       1
+    C642      R42       1
+    C643      COST      20
+    C643      R17       1
+    C643      R43       1
+    C644      COST      14
+    C644      R17       1
+    C644      R44       1
+    C645      COST      32
+    C645      R17       1
+    C645      R45       1
+    C646      COST      10
+    C646      R17       1
+    C646      R46       1
+    C647      COST      3
+    C647      R17       1
+    C647      R47       1
+    C648      COST      8
+    C648      R17       1
+    C648      R48       1
+    C649      COST      30
+    C649      R17       1
+    C649      R49       1
+    C650      COST      45
+    C650      R17       1
+    C650      R50       1
+    C651      COST      24
+    C651      R17       1
+    C651      R51       1
+    C652      COST      8
+    C652      R17       1
+    C652      R52       1
+    C653      COST      4
+    C653      R17       1
+    C653      R53       1
+    C654      COST      50
+    C654      R17       1
+    C654      R54       1
+    C655      COST      15
+    C655      R17       1
+    C655      R55       1
+    C656      COST      21
+    C656      R17       1
+    C656      R56       1
+    C657      COST      15
+    C657      R17       1
+    C657      R57       1
+    C658      COST      20
+    C658      R17       1
+    C658      R58       1
+    C659      COST      35
+    C659      R17       1
+    C659      R59       1
+    C660      COST      50
+    C660      R17       1
+    C660      R60       1
+    C661      COST      19
+    C661      R17       1
+    C661      R61       1
+    C662      COST      46
+    C662      R17       1
+    C662      R62       1
+    C663      COST      10
+    C663      R17       1
+    C663      R63       1
+    C664      COST      21
+    C664      R17       1
+    C664      R64       1
+    C665      COST      48
+    C665      R17       1
+    C665      R65       1
+    C666      COST      34
+    C666      R17       1
+    C666      R66       1
+    C667      COST      1
+    C667      R17       1
+    C667      R67       1
+    C668      COST      21
+    C668      R17       1
+    C668      R68       1
+    C669      COST      5
+    C669      R17       1
+    C669      R69       1
+    C670      COST      20
+    C670      R17       1
+    C670      R70       1
+    C671      COST      10
+    C671      R17       1
+    C671      R71       1
+    C672      COST      15
+    C672      R17       1
+    C672      R72       1
+    C673      COST      42
+    C673      R17       1
+    C673      R73       1
+    C674      COST      9
+    C674      R17       1
+    C674      R74       1
+    C675      COST      7
+    C675      R17       1
+    C675      R75       1
+    C676      COST      40
+    C676      R17       1
+    C676      R76       1
+    C677      COST      43
+    C677      R17       1
+    C677      R77       1
+    C678      COST      34
+    C678      R17       1
+    C678      R78       1
+    C679      COST      32
+    C679      R17       1
+    C679      R79       1
+    C680      COST      3
+    C680      R17       1
+    C680      R80       1
+    C681      COST      50
+    C681      R18       1
+    C681      R41       1
+    C682      COST      2
+    C682      R18       1
+    C682      R42       1
+    C683      COST      30
+    C683      R18       1
+    C683      R43       1
+    C684      COST      23
+    C684      R18       1
+    C684      R44       1
+    C685      COST      22
+    C685      R18       1
+    C685      R45       1
+    C686      COST      33
+    C686      R18       1
+    C686      R46       1
+    C687      COST      40
+    C687      R18       1
+    C687      R47       1
+    C688      COST      33
+    C688      R18       1
+    C688      R48       1
+    C689      COST      32
+    C689      R18       1
+    C689      R49       1
+    C690      COST      12
+    C690      R18       1
+    C690      R50       1
+    C691      COST      31
+    C691      R18       1
+    C691      R51       1
+    C692      COST      1
+    C692      R18       1
+    C692      R52       1
+    C693      COST      3
+    C693      R18       1
+    C693      R53       1
+    C694      COST      15
+    C694      R18       1
+    C694      R54       1
+    C695      COST      17
+    C695      R18       1
+    C695      R55       1
+    C696      COST      41
+    C696      R18       1
+    C696      R56       1
+    C697      COST      21
+    C697      R18       1
+    C697      R57       1
+    C698      COST      3
+    C698      R18       1
+    C698      R58       1
+    C699      COST      42
+    C699      R18       1
+    C699      R59       1
+    C700      COST      46
+    C700      R18       1
+    C700      R60       1
+    C701      COST      47
+    C701      R18       1
+    C701      R61       1
+    C702      COST      24
+    C702      R18       1
+    C702      R62       1
+    C703      COST      33
+    C703      R18       1
+    C703      R63       1
+    C704      COST      13
+    C704      R18       1
+    C704      R64       1
+    C705      COST      23
+    C705      R18       1
+    C705      R65       1
+    C706      COST      36
+    C706      R18       1
+    C706      R66       1
+    C707      COST      37
+    C707      R18       1
+    C707      R67       1
+    C708      COST      4
+    C708      R18       1
+    C708      R68       1
+    C709      COST      6
+    C709      R18       1
+    C709      R69       1
+    C710      COST      18
+    C710      R18       1
+    C710      R70       1
+    C711      COST      27
+    C711      R18       1
+    C711      R71       1
+    C712      COST      47
+    C712      R18       1
+    C712      R72       1
+    C713      COST      6
+    C713      R18       1
+    C713      R73       1
+    C714      COST      23
+    C714      R18       1
+    C714      R74       1
+    C715      COST      14
+    C715      R18       1
+    C715      R75       1
+    C716      COST      22
+    C716      R18       1
+    C716      R76       1
+    C717      COST      36
+    C717      R18       1
+    C717      R77       1
+    C718      COST      47
+    C718      R18       1
+    C718      R78       1
+    C719      COST      47
+    C719      R18       1
+    C719      R79       1
+    C720      COST      26
+    C720      R18       1
+    C720      R80       1
+    C721      COST      38
+    C721      R19       1
+    C721      R41       1
+    C722      COST      47
+    C722      R19       1
+    C722      R42       1
+    C723      COST      49
+    C723      R19       1
+    C723      R43       1
+    C724      COST      32
+    C724      R19       1
+    C724      R44       1
+    C725      COST      38
+    C725      R19       1
+    C725      R45       1
+    C726      COST      33
+    C726      R19       1
+    C726      R46       1
+    C727      COST      5
+    C727      R19       1
+    C727      R47       1
+    C728      COST      49
+    C728      R19       1
+    C728      R48       1
+    C729      COST      41
+    C729      R19       1
+    C729      R49       1
+    C730      COST      12
+    C730      R19       1
+    C730      R50       1
+    C731      COST      50
+    C731      R19       1
+    C731      R51       1
+    C732      COST      49
+    C732      R19       1
+    C732      R52       1
+    C733      COST      50
+    C733      R19       1
+    C733      R53       1
+    C734      COST      34
+    C734      R19       1
+    C734      R54       1
+    C735      COST      32
+    C735      R19       1
+    C735      R55       1
+    C736      COST      24
+    C736      R19       1
+    C736      R56       1
+    C737      COST      13
+    C737      R19       1
+    C737      R57       1
+    C738      COST      28
+    C738      R19       1
+    C738      R58       1
+    C739      COST      42
+    C739      R19       1
+    C739      R59       1
+    C740      COST      19
+    C740      R19       1
+    C740      R60       1
+    C741      COST      24
+    C741      R19       1
+    C741      R61       1
+    C742      COST      33
+    C742      R19       1
+    C742      R62       1
+    C743      COST      14
+    C743      R19       1
+    C743      R63       1
+    C744      COST      14
+    C744      R19       1
+    C744      R64       1
+    C745      COST      30
+    C745      R19       1
+    C745      R65       1
+    C746      COST      17
+    C746      R19       1
+    C746      R66       1
+    C747      COST      40
+    C747      R19       1
+    C747      R67       1
+    C748      COST      30
+    C748      R19       1
+    C748      R68       1
+    C749      COST      13
+    C749      R19       1
+    C749      R69       1
+    C750      COST      4
+    C750      R19       1
+    C750      R70       1
+    C751      COST      28
+    C751      R19       1
+    C751      R71       1
+    C752      COST      23
+    C752      R19       1
+    C752      R72       1
+    C753      COST      14
+    C753      R19       1
+    C753      R73       1
+    C754      COST      38
+    C754      R19       1
+    C754      R74       1
+    C755      COST      17
+    C755      R19       1
+    C755      R75       1
+    C756      COST      32
+    C756      R19       1
+    C756      R76       1
+    C757      COST      4
+    C757      R19       1
+    C757      R77       1
+    C758      COST      10
+    C758      R19       1
+    C758      R78       1
+    C759      COST      32
+    C759      R19       1
+    C759      R79       1
+    C760      COST      10
+    C760      R19       1
+    C760      R80       1
+    C761      COST      23
+    C761      R20       1
+    C761      R41       1
+    C762      COST      42
+    C762      R20       1
+    C762      R42       1
+    C763      COST      30
+    C763      R20       1
+    C763      R43       1
+    C764      COST      22
+    C764      R20       1
+    C764      R44       1
+    C765      COST      28
+    C765      R20       1
+    C765      R45       1
+    C766      COST      34
+    C766      R20       1
+    C766      R46       1
+    C767      COST      48
+    C767      R20       1
+    C767      R47       1
+    C768      COST      39
+    C768      R20       1
+    C768      R48       1
+    C769      COST      17
+    C769      R20       1
+    C769      R49       1
+    C770      COST      23
+    C770      R20       1
+    C770      R50       1
+    C771      COST      7
+    C771      R20       1
+    C771      R51       1
+    C772      COST      33
+    C772      R20       1
+    C772      R52       1
+    C773      COST      36
+    C773      R20       1
+    C773      R53       1
+    C774      COST      12
+    C774      R20       1
+    C774      R54       1
+    C775      COST      47
+    C775      R20       1
+    C775      R55       1
+    C776      COST      27
+    C776      R20       1
+    C776      R56       1
+    C777      COST      50
+    C777      R20       1
+    C777      R57       1
+    C778      COST      16
+    C778      R20       1
+    C778      R58       1
+    C779      COST      19
+    C779      R20       1
+    C779      R59       1
+    C780      COST      29
+    C780      R20       1
+    C780      R60       1
+    C781      COST      34
+    C781      R20       1
+    C781      R61       1
+    C782      COST      23
+    C782      R20       1
+    C782      R62       1
+    C783      COST      23
+    C783      R20       1
+    C783      R63       1
+    C784      COST      4
+    C784      R20       1
+    C784      R64       1
+    C785      COST      2
+    C785      R20       1
+    C785      R65       1
+    C786      COST      3
+    C786      R20       1
+    C786      R66       1
+    C787      COST      35
+    C787      R20       1
+    C787      R67       1
+    C788      COST      27
+    C788      R20       1
+    C788      R68       1
+    C789      COST      30
+    C789      R20       1
+    C789      R69       1
+    C790      COST      23
+    C790      R20       1
+    C790      R70       1
+    C791      COST      39
+    C791      R20       1
+    C791      R71       1
+    C792      COST      20
+    C792      R20       1
+    C792      R72       1
+    C793      COST      23
+    C793      R20       1
+    C793      R73       1
+    C794      COST      25
+    C794      R20       1
+    C794      R74       1
+    C795      COST      21
+    C795      R20       1
+    C795      R75       1
+    C796      COST      25
+    C796      R20       1
+    C796      R76       1
+    C797      COST      38
+    C797      R20       1
+    C797      R77       1
+    C798      COST      16
+    C798      R20       1
+    C798      R78       1
+    C799      COST      34
+    C799      R20       1
+    C799      R79       1
+    C800      COST      12
+    C800      R20       1
+    C800      R80       1
+    C801      COST      9
+    C801      R21       1
+    C801      R41       1
+    C802      COST      2
+    C802      R21       1
+    C802      R42       1
+    C803      COST      24
+    C803      R21       1
+    C803      R43       1
+    C804      COST      26
+    C804      R21       1
+    C804      R44       1
+    C805      COST      10
+    C805      R21       1
+    C805      R45       1
+    C806      COST      34
+    C806      R21       1
+    C806      R46       1
+    C807      COST      14
+    C807      R21       1
+    C807      R47       1
+    C808      COST      49
+    C808      R21       1
+    C808      R48       1
+    C809      COST      5
+    C809      R21       1
+    C809      R49       1
+    C810      COST      18
+    C810      R21       1
+    C810      R50       1
+    C811      COST      38
+    C811      R21       1
+    C811      R51       1
+    C812      COST      13
+    C812      R21       1
+    C812      R52       1
+    C813      COST      26
+    C813      R21       1
+    C813      R53       1
+    C814      COST      4
+    C814      R21       1
+    C814      R54       1
+    C815      COST      48
+    C815      R21       1
+    C815      R55       1
+    C816      COST      23
+    C816      R21       1
+    C816      R56       1
+    C817      COST      46
+    C817      R21       1
+    C817      R57       1
+    C818      COST      35
+    C818      R21       1
+    C818      R58       1
+    C819      COST      5
+    C819      R21       1
+    C819      R59       1
+    C820      COST      32
+    C820      R21       1
+    C820      R60       1
+    C821      COST      48
+    C821      R21       1
+    C821      R61       1
+    C822      COST      50
+    C822      R21       1
+    C822      R62       1
+    C823      COST      20
+    C823      R21       1
+    C823      R63       1
+    C824      COST      47
+    C824      R21       1
+    C824      R64       1
+    C825      COST      35
+    C825      R21       1
+    C825      R65       1
+    C826      COST      31
+    C826      R21       1
+    C826      R66       1
+    C827      COST      46
+    C827      R21       1
+    C827      R67       1
+    C828      COST      35
+    C828      R21       1
+    C828      R68       1
+    C829      COST      41
+    C829      R21       1
+    C829      R69       1
+    C830      COST      46
+    C830      R21       1
+    C830      R70       1
+    C831      COST      42
+    C831      R21       1
+    C831      R71       1
+    C832      COST      49
+    C832      R21       1
+    C832      R72       1
+    C833      COST      29
+    C833      R21       1
+    C833      R73       1
+    C834      COST      9
+    C834      R21       1
+    C834      R74       1
+    C835      COST      7
+    C835      R21       1
+    C835      R75       1
+    C836      COST      37
+    C836      R21       1
+    C836      R76       1
+    C837      COST      37
+    C837      R21       1
+    C837      R77       1
+    C838      COST      30
+    C838      R21       1
+    C838      R78       1
+    C839      COST      30
+    C839      R21       1
+    C839      R79       1
+    C840      COST      33
+    C840      R21       1
+    C840      R80       1
+    C841      COST      5
+    C841      R22       1
+    C841      R41       1
+    C842      COST      21
+    C842      R22       1
+    C842      R42       1
+    C843      COST      6
+    C843      R22       1
+    C843      R43       1
+    C844      COST      14
+    C844      R22       1
+    C844      R44       1
+    C845      COST      43
+    C845      R22       1
+    C845      R45       1
+    C846      COST      22
+    C846      R22       1
+    C846      R46       1
+    C847      COST      48
+    C847      R22       1
+    C847      R47       1
+    C848      COST      11
+    C848      R22       1
+    C848      R48       1
+    C849      COST      46
+    C849      R22       1
+    C849      R49       1
+    C850      COST      20
+    C850      R22       1
+    C850      R50       1
+    C851      COST      10
+    C851      R22       1
+    C851      R51       1
+    C852      COST      12
+    C852      R22       1
+    C852      R52       1
+    C853      COST      38
+    C853      R22       1
+    C853      R53       1
+    C854      COST      31
+    C854      R22       1
+    C854      R54       1
+    C855      COST      5
+    C855      R22       1
+    C855      R55       1
+    C856      COST      26
+    C856      R22       1
+    C856      R56       1
+    C857      COST      23
+    C857      R22       1
+    C857      R57       1
+    C858      COST      32
+    C858      R22       1
+    C858      R58       1
+    C859      COST      43
+    C859      R22       1
+    C859      R59       1
+    C860      COST      37
+    C860      R22       1
+    C860      R60       1
+    C861      COST      5
+    C861      R22       1
+    C861      R61       1
+    C862      COST      35
+    C862      R22       1
+    C862      R62       1
+    C863      COST      9
+    C863      R22       1
+    C863      R63       1
+    C864      COST      9
+    C864      R22       1
+    C864      R64       1
+    C865      COST      10
+    C865      R22       1
+    C865      R65       1
+    C866      COST      3
+    C866      R22       1
+    C866      R66       1
+    C867      COST      48
+    C867      R22       1
+    C867      R67       1
+    C868      COST      31
+    C868      R22       1
+    C868      R68       1
+    C869      COST      10
+    C869      R22       1
+    C869      R69       1
+    C870      COST      41
+    C870      R22       1
+    C870      R70       1
+    C871      COST      26
+    C871      R22       1
+    C871      R71       1
+    C872      COST      36
+    C872      R22       1
+    C872      R72       1
+    C873      COST      14
+    C873      R22       1
+    C873      R73       1
+    C874      COST      37
+    C874      R22       1
+    C874      R74       1
+    C875      COST      26
+    C875      R22       1
+    C875      R75       1
+    C876      COST      44
+    C876      R22       1
+    C876      R76       1
+    C877      COST      38
+    C877      R22       1
+    C877      R77       1
+    C878      COST      27
+    C878      R22       1
+    C878      R78       1
+    C879      COST      15
+    C879      R22       1
+    C879      R79       1
+    C880      COST      50
+    C880      R22       1
+    C880      R80       1
+    C881      COST      20
+    C881      R23       1
+    C881      R41       1
+    C882      COST      43
+    C882      R23       1
+    C882      R42       1
+    C883      COST      6
+    C883      R23       1
+    C883      R43       1
+    C884      COST      47
+    C884      R23       1
+    C884      R44       1
+    C885      COST      33
+    C885      R23       1
+    C885      R45       1
+    C886      COST      47
+    C886      R23       1
+    C886      R46       1
+    C887      COST      28
+    C887      R23       1
+    C887      R47       1
+    C888      COST      12
+    C888      R23       1
+    C888      R48       1
+    C889      COST      49
+    C889      R23       1
+    C889      R49       1
+    C890      COST      36
+    C890      R23       1
+    C890      R50       1
+    C891      COST      7
+    C891      R23       1
+    C891      R51       1
+    C892      COST      35
+    C892      R23       1
+    C892      R52       1
+    C893      COST      7
+    C893      R23       1
+    C893      R53       1
+    C894      COST      31
+    C894      R23       1
+    C894      R54       1
+    C895      COST      43
+    C895      R23       1
+    C895      R55       1
+    C896      COST      6
+    C896      R23       1
+    C896      R56       1
+    C897      COST      32
+    C897      R23       1
+    C897      R57       1
+    C898      COST      38
+    C898      R23       1
+    C898      R58       1
+    C899      COST      1
+    C899      R23       1
+    C899      R59       1
+    C900      COST      39
+    C900      R23       1
+    C900      R60       1
+    C901      COST      44
+    C901      R23       1
+    C901      R61       1
+    C902      COST      34
+    C902      R23       1
+    C902      R62       1
+    C903      COST      41
+    C903      R23       1
+    C903      R63       1
+    C904      COST      39
+    C904      R23       1
+    C904      R64       1
+    C905      COST      25
+    C905      R23       1
+    C905      R65       1
+    C906      COST      38
+    C906      R23       1
+    C906      R66       1
+    C907      COST      38
+    C907      R23       1
+    C907      R67       1
+    C908      COST      47
+    C908      R23       1
+    C908      R68       1
+    C909      COST      45
+    C909      R23       1
+    C909      R69       1
+    C910      COST      17
+    C910      R23       1
+    C910      R70       1
+    C911      COST      9
+    C911      R23       1
+    C911      R71       1
+    C912      COST      44
+    C912      R23       1
+    C912      R72       1
+    C913      COST      1
+    C913      R23       1
+    C913      R73       1
+    C914      COST      30
+    C914      R23       1
+    C914      R74       1
+    C915      COST      12
+    C915      R23       1
+    C915      R75       1
+    C916      COST      30
+    C916      R23       1
+    C916      R76       1
+    C917      COST      34
+    C917      R23       1
+    C917      R77       1
+    C918      COST      50
+    C918      R23       1
+    C918      R78       1
+    C919      COST      43
+    C919      R23       1
+    C919      R79       1
+    C920      COST      25
+    C920      R23       1
+    C920      R80       1
+    C921      COST      16
+    C921      R24       1
+    C921      R41       1
+    C922      COST      41
+    C922      R24       1
+    C922      R42       1
+    C923      COST      17
+    C923      R24       1
+    C923      R43       1
+    C924      COST      5
+    C924      R24       1
+    C924      R44       1
+    C925      COST      38
+    C925      R24       1
+    C925      R45       1
+    C926      COST      50
+    C926      R24       1
+    C926      R46       1
+    C927      COST      12
+    C927      R24       1
+    C927      R47       1
+    C928      COST      19
+    C928      R24       1
+    C928      R48       1
+    C929      COST      3
+    C929      R24       1
+    C929      R49       1
+    C930      COST      9
+    C930      R24       1
+    C930      R50       1
+    C931      COST      19
+    C931      R24       1
+    C931      R51       1
+    C932      COST      47
+    C932      R24       1
+    C932      R52       1
+    C933      COST      1
+    C933      R24       1
+    C933      R53       1
+    C934      COST      2
+    C934      R24       1
+    C934      R54       1
+    C935      COST      25
+    C935      R24       1
+    C935      R55       1
+    C936      COST      42
+    C936      R24       1
+    C936      R56       1
+    C937      COST      12
+    C937      R24       1
+    C937      R57       1
+    C938      COST      36
+    C938      R24       1
+    C938      R58       1
+    C939      COST      39
+    C939      R24       1
+    C939      R59       1
+    C940      COST      34
+    C940      R24       1
+    C940      R60       1
+    C941      COST      43
+    C941      R24       1
+    C941      R61       1
+    C942      COST      49
+    C942      R24       1
+    C942      R62       1
+    C943      COST      4
+    C943      R24       1
+    C943      R63       1
+    C944      COST      28
+    C944      R24       1
+    C944      R64       1
+    C945      COST      18
+    C945      R24       1
+    C945      R65       1
+    C946      COST      31
+    C946      R24       1
+    C946      R66       1
+    C947      COST      43
+    C947      R24       1
+    C947      R67       1
+    C948      COST      20
+    C948      R24       1
+    C948      R68       1
+    C949      COST      25
+    C949      R24       1
+    C949      R69       1
+    C950      COST      38
+    C950      R24       1
+    C950      R70       1
+    C951      COST      36
+    C951      R24       1
+    C951      R71       1
+    C952      COST      35
+    C952      R24       1
+    C952      R72       1
+    C953      COST      24
+    C953      R24       1
+    C953      R73       1
+    C954      COST      9
+    C954      R24       1
+    C954      R74       1
+    C955      COST      18
+    C955      R24       1
+    C955      R75       1
+    C956      COST      44
+    C956      R24       1
+    C956      R76       1
+    C957      COST      19
+    C957      R24       1
+    C957      R77       1
+    C958      COST      25
+    C958      R24       1
+    C958      R78       1
+    C959      COST      30
+    C959      R24       1
+    C959      R79       1
+    C960      COST      13
+    C960      R24       1
+    C960      R80       1
+    C961      COST      26
+    C961      R25       1
+    C961      R41       1
+    C962      COST      45
+    C962      R25       1
+    C962      R42       1
+    C963      COST      30
+    C963      R25       1
+    C963      R43       1
+    C964      COST      5
+    C964      R25       1
+    C964      R44       1
+    C965      COST      43
+    C965      R25       1
+    C965      R45       1
+    C966      COST      15
+    C966      R25       1
+    C966      R46       1
+    C967      COST      11
+    C967      R25       1
+    C967      R47       1
+    C968      COST      6
+    C968      R25       1
+    C968      R48       1
+    C969      COST      23
+    C969      R25       1
+    C969      R49       1
+    C970      COST      49
+    C970      R25       1
+    C970      R50       1
+    C971      COST      21
+    C971      R25       1
+    C971      R51       1
+    C972      COST      1
+    C972      R25       1
+    C972      R52       1
+    C973      COST      3
+    C973      R25       1
+    C973      R53       1
+    C974      COST      41
+    C974      R25       1
+    C974      R54       1
+    C975      COST      36
+    C975      R25       1
+    C975      R55       1
+    C976      COST      1
+    C976      R25       1
+    C976      R56       1
+    C977      COST      27
+    C977      R25       1
+    C977      R57       1
+    C978      COST      38
+    C978      R25       1
+    C978      R58       1
+    C979      COST      31
+    C979      R25       1
+    C979      R59       1
+    C980      COST      3
+    C980      R25       1
+    C980      R60       1
+    C981      COST      1
+    C981      R25       1
+    C981      R61       1
+    C982      COST      22
+    C982      R25       1
+    C982      R62       1
+    C983      COST      26
+    C983      R25       1
+    C983      R63       1
+    C984      COST      35
+    C984      R25       1
+    C984      R64       1
+    C985      COST      11
+    C985      R25       1
+    C985      R65       1
+    C986      COST      14
+    C986      R25       1
+    C986      R66       1
+    C987      COST      13
+    C987      R25       1
+    C987      R67       1
+    C988      COST      47
+    C988      R25       1
+    C988      R68       1
+    C989      COST      28
+    C989      R25       1
+    C989      R69       1
+    C990      COST      9
+    C990      R25       1
+    C990      R70       1
+    C991      COST      40
+    C991      R25       1
+    C991      R71       1
+    C992      COST      8
+    C992      R25       1
+    C992      R72       1
+    C993      COST      21
+    C993      R25       1
+    C993      R73       1
+    C994      COST      4
+    C994      R25       1
+    C994      R74       1
+    C995      COST      1
+    C995      R25       1
+    C995      R75       1
+    C996      COST      40
+    C996      R25       1
+    C996      R76       1
+    C997      COST      46
+    C997      R25       1
+    C997      R77       1
+    C998      COST      11
+    C998      R25       1
+    C998      R78       1
+    C999      COST      15
+    C999      R25       1
+    C999      R79       1
+    C1000     COST      29
+    C1000     R25       1
+    C1000     R80       1
+    C1001     COST      49
+    C1001     R26       1
+    C1001     R41       1
+    C1002     COST      45
+    C1002     R26       1
+    C1002     R42       1
+    C1003     COST      22
+    C1003     R26       1
+    C1003     R43       1
+    C1004     COST      7
+    C1004     R26       1
+    C1004     R44       1
+    C1005     COST      41
+    C1005     R26       1
+    C1005     R45       1
+    C1006     COST      5
+    C1006     R26       1
+    C1006     R46       1
+    C1007     COST      26
+    C1007     R26       1
+    C1007     R47       1
+    C1008     COST      5
+    C1008     R26       1
+    C1008     R48       1
+    C1009     COST      30
+    C1009     R26       1
+    C1009     R49       1
+    C1010     COST      7
+    C1010     R26       1
+    C1010     R50       1
+    C1011     COST      9
+    C1011     R26       1
+    C1011     R51       1
+    C1012     COST      15
+    C1012     R26       1
+    C1012     R52       1
+    C1013     COST      37
+    C1013     R26       1
+    C1013     R53       1
+    C1014     COST      27
+    C1014     R26       1
+    C1014     R54       1
+    C1015     COST      25
+    C1015     R26       1
+    C1015     R55       1
+    C1016     COST      17
+    C1016     R26       1
+    C1016     R56       1
+    C1017     COST      6
+    C1017     R26       1
+    C1017     R57       1
+    C1018     COST      8
+    C1018     R26       1
+    C1018     R58       1
+    C1019     COST      12
+    C1019     R26       1
+    C1019     R59       1
+    C1020     COST      12
+    C1020     R26       1
+    C1020     R60       1
+    C1021     COST      41
+    C1021     R26       1
+    C1021     R61       1
+    C1022     COST      43
+    C1022     R26       1
+    C1022     R62       1
+    C1023     COST      24
+    C1023     R26       1
+    C1023     R63       1
+    C1024     COST      12
+    C1024     R26       1
+    C1024     R64       1
+    C1025     COST      8
+    C1025     R26       1
+    C1025     R65       1
+    C1026     COST      14
+    C1026     R26       1
+    C1026     R66       1
+    C1027     COST      49
+    C1027     R26       1
+    C1027     R67       1
+    C1028     COST      23
+    C1028     R26       1
+    C1028     R68       1
+    C1029     COST      39
+    C1029     R26       1
+    C1029     R69       1
+    C1030     COST      13
+    C1030     R26       1
+    C1030     R70       1
+    C1031     COST      33
+    C1031     R26       1
+    C1031     R71       1
+    C1032     COST      7
+    C1032     R26       1
+    C1032     R72       1
+    C1033     COST      32
+    C1033     R26       1
+    C1033     R73       1
+    C1034     COST      16
+    C1034     R26       1
+    C1034     R74       1
+    C1035     COST      34
+    C1035     R26       1
+    C1035     R75       1
+    C1036     COST      21
+    C1036     R26       1
+    C1036     R76       1
+    C1037     COST      8
+    C1037     R26       1
+    C1037     R77       1
+    C1038     COST      14
+    C1038     R26       1
+    C1038     R78       1
+    C1039     COST      16
+    C1039     R26       1
+    C1039     R79       1
+    C1040     COST      48
+    C1040     R26       1
+    C1040     R80       1
+    C1041     COST      23
+    C1041     R27       1
+    C1041     R41       1
+    C1042     COST      46
+    C1042     R27       1
+    C1042     R42       1
+    C1043     COST      33
+    C1043     R27       1
+    C1043     R43       1
+    C1044     COST      13
+    C1044     R27       1
+    C1044     R44       1
+    C1045     COST      32
+    C1045     R27       1
+    C1045     R45       1
+    C1046     COST      46
+    C1046     R27       1
+    C1046     R46       1
+    C1047     COST      21
+    C1047     R27       1
+    C1047     R47       1
+    C1048     COST      24
+    C1048     R27       1
+    C1048     R48       1
+    C1049     COST      1
+    C1049     R27       1
+    C1049     R49       1
+    C1050     COST      1
+    C1050     R27       1
+    C1050     R50       1
+    C1051     COST      48
+    C1051     R27       1
+    C1051     R51       1
+    C1052     COST      14
+    C1052     R27       1
+    C1052     R52       1
+    C1053     COST      32
+    C1053     R27       1
+    C1053     R53       1
+    C1054     COST      1
+    C1054     R27       1
+    C1054     R54       1
+    C1055     COST      19
+    C1055     R27       1
+    C1055     R55       1
+    C1056     COST      3
+    C1056     R27       1
+    C1056     R56       1
+    C1057     COST      34
+    C1057     R27       1
+    C1057     R57       1
+    C1058     COST      35
+    C1058     R27       1
+    C1058     R58       1
+    C1059     COST      43
+    C1059     R27       1
+    C1059     R59       1
+    C1060     COST      13
+    C1060     R27       1
+    C1060     R60       1
+    C1061     COST      46
+    C1061     R27       1
+    C1061     R61       1
+    C1062     COST      35
+    C1062     R27       1
+    C1062     R62       1
+    C1063     COST      1
+    C1063     R27       1
+    C1063     R63       1
+    C1064     COST      33
+    C1064     R27       1
+    C1064     R64       1
+    C1065     COST      8
+    C1065     R27       1
+    C1065     R65       1
+    C1066     COST      4
+    C1066     R27       1
+    C1066     R66       1
+    C1067     COST      45
+    C1067     R27       1
+    C1067     R67       1
+    C1068     COST      27
+    C1068     R27       1
+    C1068     R68       1
+    C1069     COST      3
+    C1069     R27       1
+    C1069     R69       1
+    C1070     COST      23
+    C1070     R27       1
+    C1070     R70       1
+    C1071     COST      48
+    C1071     R27       1
+    C1071     R71       1
+    C1072     COST      22
+    C1072     R27       1
+    C1072     R72       1
+    C1073     COST      4
+    C1073     R27       1
+    C1073     R73       1
+    C1074     COST      17
+    C1074     R27       1
+    C1074     R74       1
+    C1075     COST      27
+    C1075     R27       1
+    C1075     R75       1
+    C1076     COST      43
+    C1076     R27       1
+    C1076     R76       1
+    C1077     COST      49
+    C1077     R27       1
+    C1077     R77       1
+    C1078     COST      32
+    C1078     R27       1
+    C1078     R78       1
+    C1079     COST      24
+    C1079     R27       1
+    C1079     R79       1
+    C1080     COST      10
+    C1080     R27       1
+    C1080     R80       1
+    C1081     COST      15
+    C1081     R28       1
+    C1081     R41       1
+    C1082     COST      23
+    C1082     R28       1
+    C1082     R42       1
+    C1083     COST      40
+    C1083     R28       1
+    C1083     R43       1
+    C1084     COST      16
+    C1084     R28       1
+    C1084     R44       1
+    C1085     COST      50
+    C1085     R28       1
+    C1085     R45       1
+    C1086     COST      46
+    C1086     R28       1
+    C1086     R46       1
+    C1087     COST      28
+    C1087     R28       1
+    C1087     R47       1
+    C1088     COST      28
+    C1088     R28       1
+    C1088     R48       1
+    C1089     COST      50
+    C1089     R28       1
+    C1089     R49       1
+    C1090     COST      39
+    C1090     R28       1
+    C1090     R50       1
+    C1091     COST      38
+    C1091     R28       1
+    C1091     R51       1
+    C1092     COST      36
+    C1092     R28       1
+    C1092     R52       1
+    C1093     COST      23
+    C1093     R28       1
+    C1093     R53       1
+    C1094     COST      50
+    C1094     R28       1
+    C1094     R54       1
+    C1095     COST      9
+    C1095     R28       1
+    C1095     R55       1
+    C1096     COST      47
+    C1096     R28       1
+    C1096     R56       1
+    C1097     COST      28
+    C1097     R28       1
+    C1097     R57       1
+    C1098     COST      31
+    C1098     R28       1
+    C1098     R58       1
+    C1099     COST      22
+    C1099     R28       1
+    C1099     R59       1
+    C1100     COST      14
+    C1100     R28       1
+    C1100     R60       1
+    C1101     COST      7
+    C1101     R28       1
+    C1101     R61       1
+    C1102     COST      40
+    C1102     R28       1
+    C1102     R62       1
+    C1103     COST      38
+    C1103     R28       1
+    C1103     R63       1
+    C1104     COST      10
+    C1104     R28       1
+    C1104     R64       1
+    C1105     COST      50
+    C1105     R28       1
+    C1105     R65       1
+    C1106     COST      6
+    C1106     R28       1
+    C1106     R66       1
+    C1107     COST      14
+    C1107     R28       1
+    C1107     R67       1
+    C1108     COST      42
+    C1108     R28       1
+    C1108     R68       1
+    C1109     COST      50
+    C1109     R28       1
+    C1109     R69       1
+    C1110     COST      30
+    C1110     R28       1
+    C1110     R70       1
+    C1111     COST      50
+    C1111     R28       1
+    C1111     R71       1
+    C1112     COST      23
+    C1112     R28       1
+    C1112     R72       1
+    C1113     COST      32
+    C1113     R28       1
+    C1113     R73       1
+    C1114     COST      8
+    C1114     R28       1
+    C1114     R74       1
+    C1115     COST      47
+    C1115     R28       1
+    C1115     R75       1
+    C1116     COST      12
+    C1116     R28       1
+    C1116     R76       1
+    C1117     COST      17
+    C1117     R28       1
+    C1117     R77       1
+    C1118     COST      33
+    C1118     R28       1
+    C1118     R78       1
+    C1119     COST      48
+    C1119     R28       1
+    C1119     R79       1
+    C1120     COST      43
+    C1120     R28       1
+    C1120     R80       1
+    C1121     COST      13
+    C1121     R29       1
+    C1121     R41       1
+    C1122     COST      38
+    C1122     R29       1
+    C1122     R42       1
+    C1123     COST      16
+    C1123     R29       1
+    C1123     R43       1
+    C1124     COST      44
+    C1124     R29       1
+    C1124     R44       1
+    C1125     COST      29
+    C1125     R29       1
+    C1125     R45       1
+    C1126     COST      7
+    C1126     R29       1
+    C1126     R46       1
+    C1127     COST      25
+    C1127     R29       1
+    C1127     R47       1
+    C1128     COST      44
+    C1128     R29       1
+    C1128     R48       1
+    C1129     COST      16
+    C1129     R29       1
+    C1129     R49       1
+    C1130     COST      37
+    C1130     R29       1
+    C1130     R50       1
+    C1131     COST      13
+    C1131     R29       1
+    C1131     R51       1
+    C1132     COST      44
+    C1132     R29       1
+    C1132     R52       1
+    C1133     COST      44
+    C1133     R29       1
+    C1133     R53       1
+    C1134     COST      29
+    C1134     R29       1
+    C1134     R54       1
+    C1135     COST      38
+    C1135     R29       1
+    C1135     R55       1
+    C1136     COST      5
+    C1136     R29       1
+    C1136     R56       1
+    C1137     COST      44
+    C1137     R29       1
+    C1137     R57       1
+    C1138     COST      47
+    C1138     R29       1
+    C1138     R58       1
+    C1139     COST      29
+    C1139     R29       1
+    C1139     R59       1
+    C1140     COST      11
+    C1140     R29       1
+    C1140     R60       1
+    C1141     COST      9
+    C1141     R29       1
+    C1141     R61       1
+    C1142     COST      3
+    C1142     R29       1
+    C1142     R62       1
+    C1143     COST      48
+    C1143     R29       1
+    C1143     R63       1
+    C1144     COST      14
+    C1144     R29       1
+    C1144     R64       1
+    C1145     COST      36
+    C1145     R29       1
+    C1145     R65       1
+    C1146     COST      23
+    C1146     R29       1
+    C1146     R66       1
+    C1147     COST      34
+    C1147     R29       1
+    C1147     R67       1
+    C1148     COST      38
+    C1148     R29       1
+    C1148     R68       1
+    C1149     COST      3
+    C1149     R29       1
+    C1149     R69       1
+    C1150     COST      11
+    C1150     R29       1
+    C1150     R70       1
+    C1151     COST      34
+    C1151     R29       1
+    C1151     R71       1
+    C1152     COST      32
+    C1152     R29       1
+    C1152     R72       1
+    C1153     COST      48
+    C1153     R29       1
+    C1153     R73       1
+    C1154     COST      10
+    C1154     R29       1
+    C1154     R74       1
+    C1155     COST      6
+    C1155     R29       1
+    C1155     R75       1
+    C1156     COST      30
+    C1156     R29       1
+    C1156     R76       1
+    C1157     COST      49
+    C1157     R29       1
+    C1157     R77       1
+    C1158     COST      14
+    C1158     R29       1
+    C1158     R78       1
+    C1159     COST      18
+    C1159     R29       1
+    C1159     R79       1
+    C1160     COST      10
+    C1160     R29       1
+    C1160     R80       1
+    C1161     COST      14
+    C1161     R30       1
+    C1161     R41       1
+    C1162     COST      35
+    C1162     R30       1
+    C1162     R42       1
+    C1163     COST      35
+    C1163     R30       1
+    C1163     R43       1
+    C1164     COST      41
+    C1164     R30       1
+    C1164     R44       1
+    C1165     COST      13
+    C1165     R30       1
+    C1165     R45       1
+    C1166     COST      9
+    C1166     R30       1
+    C1166     R46       1
+    C1167     COST      29
+    C1167     R30       1
+    C1167     R47       1
+    C1168     COST      43
+    C1168     R30       1
+    C1168     R48       1
+    C1169     COST      2
+    C1169     R30       1
+    C1169     R49       1
+    C1170     COST      26
+    C1170     R30       1
+    C1170     R50       1
+    C1171     COST      42
+    C1171     R30       1
+    C1171     R51       1
+    C1172     COST      10
+    C1172     R30       1
+    C1172     R52       1
+    C1173     COST      13
+    C1173     R30       1
+    C1173     R53       1
+    C1174     COST      9
+    C1174     R30       1
+    C1174     R54       1
+    C1175     COST      24
+    C1175     R30       1
+    C1175     R55       1
+    C1176     COST      30
+    C1176     R30       1
+    C1176     R56       1
+    C1177     COST      23
+    C1177     R30       1
+    C1177     R57       1
+    C1178     COST      8
+    C1178     R30       1
+    C1178     R58       1
+    C1179     COST      1
+    C1179     R30       1
+    C1179     R59       1
+    C1180     COST      21
+    C1180     R30       1
+    C1180     R60       1
+    C1181     COST      39
+    C1181     R30       1
+    C1181     R61       1
+    C1182     COST      16
+    C1182     R30       1
+    C1182     R62       1
+    C1183     COST      20
+    C1183     R30       1
+    C1183     R63       1
+    C1184     COST      3
+    C1184     R30       1
+    C1184     R64       1
+    C1185     COST      6
+    C1185     R30       1
+    C1185     R65       1
+    C1186     COST      30
+    C1186     R30       1
+    C1186     R66       1
+    C1187     COST      3
+    C1187     R30       1
+    C1187     R67       1
+    C1188     COST      42
+    C1188     R30       1
+    C1188     R68       1
+    C1189     COST      12
+    C1189     R30       1
+    C1189     R69       1
+    C1190     COST      17
+    C1190     R30       1
+    C1190     R70       1
+    C1191     COST      6
+    C1191     R30       1
+    C1191     R71       1
+    C1192     COST      7
+    C1192     R30       1
+    C1192     R72       1
+    C1193     COST      6
+    C1193     R30       1
+    C1193     R73       1
+    C1194     COST      15
+    C1194     R30       1
+    C1194     R74       1
+    C1195     COST      9
+    C1195     R30       1
+    C1195     R75       1
+    C1196     COST      41
+    C1196     R30       1
+    C1196     R76       1
+    C1197     COST      1
+    C1197     R30       1
+    C1197     R77       1
+    C1198     COST      14
+    C1198     R30       1
+    C1198     R78       1
+    C1199     COST      13
+    C1199     R30       1
+    C1199     R79       1
+    C1200     COST      11
+    C1200     R30       1
+    C1200     R80       1
+    C1201     COST      17
+    C1201     R31       1
+    C1201     R41       1
+    C1202     COST      33
+    C1202     R31       1
+    C1202     R42       1
+    C1203     COST      36
+    C1203     R31       1
+    C1203     R43       1
+    C1204     COST      26
+    C1204     R31       1
+    C1204     R44       1
+    C1205     COST      27
+    C1205     R31       1
+    C1205     R45       1
+    C1206     COST      1
+    C1206     R31       1
+    C1206     R46       1
+    C1207     COST      14
+    C1207     R31       1
+    C1207     R47       1
+    C1208     COST      17
+    C1208     R31       1
+    C1208     R48       1
+    C1209     COST      33
+    C1209     R31       1
+    C1209     R49       1
+    C1210     COST      48
+    C1210     R31       1
+    C1210     R50       1
+    C1211     COST      23
+    C1211     R31       1
+    C1211     R51       1
+    C1212     COST      42
+    C1212     R31       1
+    C1212     R52       1
+    C1213     COST      10
+    C1213     R31       1
+    C1213     R53       1
+    C1214     COST      28
+    C1214     R31       1
+    C1214     R54       1
+    C1215     COST      37
+    C1215     R31       1
+    C1215     R55       1
+    C1216     COST      28
+    C1216     R31       1
+    C1216     R56       1
+    C1217     COST      6
+    C1217     R31       1
+    C1217     R57       1
+    C1218     COST      49
+    C1218     R31       1
+    C1218     R58       1
+    C1219     COST      27
+    C1219     R31       1
+    C1219     R59       1
+    C1220     COST      13
+    C1220     R31       1
+    C1220     R60       1
+    C1221     COST      39
+    C1221     R31       1
+    C1221     R61       1
+    C1222     COST      25
+    C1222     R31       1
+    C1222     R62       1
+    C1223     COST      37
+    C1223     R31       1
+    C1223     R63       1
+    C1224     COST      17
+    C1224     R31       1
+    C1224     R64       1
+    C1225     COST      25
+    C1225     R31       1
+    C1225     R65       1
+    C1226     COST      8
+    C1226     R31       1
+    C1226     R66       1
+    C1227     COST      42
+    C1227     R31       1
+    C1227     R67       1
+    C1228     COST      42
+    C1228     R31       1
+    C1228     R68       1
+    C1229     COST      14
+    C1229     R31       1
+    C1229     R69       1
+    C1230     COST      22
+    C1230     R31       1
+    C1230     R70       1
+    C1231     COST      26
+    C1231     R31       1
+    C1231     R71       1
+    C1232     COST      19
+    C1232     R31       1
+    C1232     R72       1
+    C1233     COST      12
+    C1233     R31       1
+    C1233     R73       1
+    C1234     COST      42
+    C1234     R31       1
+    C1234     R74       1
+    C1235     COST      42
+    C1235     R31       1
+    C1235     R75       1
+    C1236     COST      3
+    C1236     R31       1
+    C1236     R76       1
+    C1237     COST      12
+    C1237     R31       1
+    C1237     R77       1
+    C1238     COST      37
+    C1238     R31       1
+    C1238     R78       1
+    C1239     COST      38
+    C1239     R31       1
+    C1239     R79       1
+    C1240     COST      17
+    C1240     R31       1
+    C1240     R80       1
+    C1241     COST      11
+    C1241     R32       1
+    C1241     R41       1
+    C1242     COST      43
+    C1242     R32       1
+    C1242     R42       1
+    C1243     COST      1
+    C1243     R32       1
+    C1243     R43       1
+    C1244     COST      49
+    C1244     R32       1
+    C1244     R44       1
+    C1245     COST      5
+    C1245     R32       1
+    C1245     R45       1
+    C1246     COST      10
+    C1246     R32       1
+    C1246     R46       1
+    C1247     COST      39
+    C1247     R32       1
+    C1247     R47       1
+    C1248     COST      39
+    C1248     R32       1
+    C1248     R48       1
+    C1249     COST      17
+    C1249     R32       1
+    C1249     R49       1
+    C1250     COST      41
+    C1250     R32       1
+    C1250     R50       1
+    C1251     COST      19
+    C1251     R32       1
+    C1251     R51       1
+    C1252     COST      8
+    C1252     R32       1
+    C1252     R52       1
+    C1253     COST      44
+    C1253     R32       1
+    C1253     R53       1
+    C1254     COST      24
+    C1254     R32       1
+    C1254     R54       1
+    C1255     COST      2
+    C1255     R32       1
+    C1255     R55       1
+    C1256     COST      28
+    C1256     R32       1
+    C1256     R56       1
+    C1257     COST      2
+    C1257     R32       1
+    C1257     R57       1
+    C1258     COST      4
+    C1258     R32       1
+    C1258     R58       1
+    C1259     COST      17
+    C1259     R32       1
+    C1259     R59       1
+    C1260     COST      10
+    C1260     R32       1
+    C1260     R60       1
+    C1261     COST      35
+    C1261     R32       1
+    C1261     R61       1
+    C1262     COST      48
+    C1262     R32       1
+    C1262     R62       1
+    C1263     COST      16
+    C1263     R32       1
+    C1263     R63       1
+    C1264     COST      47
+    C1264     R32       1
+    C1264     R64       1
+    C1265     COST      28
+    C1265     R32       1
+    C1265     R65       1
+    C1266     COST      41
+    C1266     R32       1
+    C1266     R66       1
+    C1267     COST      25
+    C1267     R32       1
+    C1267     R67       1
+    C1268     COST      16
+    C1268     R32       1
+    C1268     R68       1
+    C1269     COST      1
+    C1269     R32       1
+    C1269     R69       1
+    C1270     COST      30
+    C1270     R32       1
+    C1270     R70       1
+    C1271     COST      16
+    C1271     R32       1
+    C1271     R71       1
+    C1272     COST      19
+    C1272     R32       1
+    C1272     R72       1
+    C1273     COST      16
+    C1273     R32       1
+    C1273     R73       1
+    C1274     COST      32
+    C1274     R32       1
+    C1274     R74       1
+    C1275     COST      20
+    C1275     R32       1
+    C1275     R75       1
+    C1276     COST      31
+    C1276     R32       1
+    C1276     R76       1
+    C1277     COST      20
+    C1277     R32       1
+    C1277     R77       1
+    C1278     COST      5
+    C1278     R32       1
+    C1278     R78       1
+    C1279     COST      26
+    C1279     R32       1
+    C1279     R79       1
+    C1280     COST      39
+    C1280     R32       1
+    C1280     R80       1
+    C1281     COST      19
+    C1281     R33       1
+    C1281     R41       1
+    C1282     COST      23
+    C1282     R33       1
+    C1282     R42       1
+    C1283     COST      37
+    C1283     R33       1
+    C1283     R43       1
+    C1284     COST      15
+    C1284     R33       1
+    C1284     R44       1
+    C1285     COST      31
+    C1285     R33       1
+    C1285     R45       1
+    C1286     COST      48
+    C1286     R33       1
+    C1286     R46       1
+    C1287     COST      36
+    C1287     R33       1
+    C1287     R47       1
+    C1288     COST      37
+    C1288     R33       1
+    C1288     R48       1
+    C1289     COST      34
+    C1289     R33       1
+    C1289     R49       1
+    C1290     COST      50
+    C1290     R33       1
+    C1290     R50       1
+    C1291     COST      14
+    C1291     R33       1
+    C1291     R51       1
+    C1292     COST      47
+    C1292     R33       1
+    C1292     R52       1
+    C1293     COST      5
+    C1293     R33       1
+    C1293     R53       1
+    C1294     COST      26
+    C1294     R33       1
+    C1294     R54       1
+    C1295     COST      31
+    C1295     R33       1
+    C1295     R55       1
+    C1296     COST      10
+    C1296     R33       1
+    C1296     R56       1
+    C1297     COST      1
+    C1297     R33       1
+    C1297     R57       1
+    C1298     COST      45
+    C1298     R33       1
+    C1298     R58       1
+    C1299     COST      16
+    C1299     R33       1
+    C1299     R59       1
+    C1300     COST      38
+    C1300     R33       1
+    C1300     R60       1
+    C1301     COST      22
+    C1301     R33       1
+    C1301     R61       1
+    C1302     COST      30
+    C1302     R33       1
+    C1302     R62       1
+    C1303     COST      17
+    C1303     R33       1
+    C1303     R63       1
+    C1304     COST      3
+    C1304     R33       1
+    C1304     R64       1
+    C1305     COST      48
+    C1305     R33       1
+    C1305     R65       1
+    C1306     COST      47
+    C1306     R33       1
+    C1306     R66       1
+    C1307     COST      17
+    C1307     R33       1
+    C1307     R67       1
+    C1308     COST      20
+    C1308     R33       1
+    C1308     R68       1
+    C1309     COST      40
+    C1309     R33       1
+    C1309     R69       1
+    C1310     COST      36
+    C1310     R33       1
+    C1310     R70       1
+    C1311     COST      15
+    C1311     R33       1
+    C1311     R71       1
+    C1312     COST      18
+    C1312     R33       1
+    C1312     R72       1
+    C1313     COST      50
+    C1313     R33       1
+    C1313     R73       1
+    C1314     COST      48
+    C1314     R33       1
+    C1314     R74       1
+    C1315     COST      28
+    C1315     R33       1
+    C1315     R75       1
+    C1316     COST      17
+    C1316     R33       1
+    C1316     R76       1
+    C1317     COST      25
+    C1317     R33       1
+    C1317     R77       1
+    C1318     COST      43
+    C1318     R33       1
+    C1318     R78       1
+    C1319     COST      33
+    C1319     R33       1
+    C1319     R79       1
+    C1320     COST      7
+    C1320     R33       1
+    C1320     R80       1
+    C1321     COST      7
+    C1321     R34       1
+    C1321     R41       1
+    C1322     COST      12
+    C1322     R34       1
+    C1322     R42       1
+    C1323     COST      50
+    C1323     R34       1
+    C1323     R43       1
+    C1324     COST      29
+    C1324     R34       1
+    C1324     R44       1
+    C1325     COST      34
+    C1325     R34       1
+    C1325     R45       1
+    C1326     COST      31
+    C1326     R34       1
+    C1326     R46       1
+    C1327     COST      25
+    C1327     R34       1
+    C1327     R47       1
+    C1328     COST      32
+    C1328     R34       1
+    C1328     R48       1
+    C1329     COST      19
+    C1329     R34       1
+    C1329     R49       1
+    C1330     COST      50
+    C1330     R34       1
+    C1330     R50       1
+    C1331     COST      20
+    C1331     R34       1
+    C1331     R51       1
+    C1332     COST      9
+    C1332     R34       1
+    C1332     R52       1
+    C1333     COST      41
+    C1333     R34       1
+    C1333     R53       1
+    C1334     COST      6
+    C1334     R34       1
+    C1334     R54       1
+    C1335     COST      5
+    C1335     R34       1
+    C1335     R55       1
+    C1336     COST      49
+    C1336     R34       1
+    C1336     R56       1
+    C1337     COST      25
+    C1337     R34       1
+    C1337     R57       1
+    C1338     COST      29
+    C1338     R34       1
+    C1338     R58       1
+    C1339     COST      16
+    C1339     R34       1
+    C1339     R59       1
+    C1340     COST      37
+    C1340     R34       1
+    C1340     R60       1
+    C1341     COST      20
+    C1341     R34       1
+    C1341     R61       1
+    C1342     COST      36
+    C1342     R34       1
+    C1342     R62       1
+    C1343     COST      14
+    C1343     R34       1
+    C1343     R63       1
+    C1344     COST      10
+    C1344     R34       1
+    C1344     R64       1
+    C1345     COST      48
+    C1345     R34       1
+    C1345     R65       1
+    C1346     COST      50
+    C1346     R34       1
+    C1346     R66       1
+    C1347     COST      22
+    C1347     R34       1
+    C1347     R67       1
+    C1348     COST      44
+    C1348     R34       1
+    C1348     R68       1
+    C1349     COST      2
+    C1349     R34       1
+    C1349     R69       1
+    C1350     COST      19
+    C1350     R34       1
+    C1350     R70       1
+    C1351     COST      22
+    C1351     R34       1
+    C1351     R71       1
+    C1352     COST      15
+    C1352     R34       1
+    C1352     R72       1
+    C1353     COST      28
+    C1353     R34       1
+    C1353     R73       1
+    C1354     COST      50
+    C1354     R34       1
+    C1354     R74       1
+    C1355     COST      42
+    C1355     R34       1
+    C1355     R75       1
+    C1356     COST      16
+    C1356     R34       1
+    C1356     R76       1
+    C1357     COST      23
+    C1357     R34       1
+    C1357     R77       1
+    C1358     COST      45
+    C1358     R34       1
+    C1358     R78       1
+    C1359     COST      11
+    C1359     R34       1
+    C1359     R79       1
+    C1360     COST      4
+    C1360     R34       1
+    C1360     R80       1
+    C1361     COST      44
+    C1361     R35       1
+    C1361     R41       1
+    C1362     COST      29
+    C1362     R35       1
+    C1362     R42       1
+    C1363     COST      49
+    C1363     R35       1
+    C1363     R43       1
+    C1364     COST      3
+    C1364     R35       1
+    C1364     R44       1
+    C1365     COST      49
+    C1365     R35       1
+    C1365     R45       1
+    C1366     COST      20
+    C1366     R35       1
+    C1366     R46       1
+    C1367     COST      36
+    C1367     R35       1
+    C1367     R47       1
+    C1368     COST      28
+    C1368     R35       1
+    C1368     R48       1
+    C1369     COST      19
+    C1369     R35       1
+    C1369     R49       1
+    C1370     COST      31
+    C1370     R35       1
+    C1370     R50       1
+    C1371     COST      14
+    C1371     R35       1
+    C1371     R51       1
+    C1372     COST      45
+    C1372     R35       1
+    C1372     R52       1
+    C1373     COST      24
+    C1373     R35       1
+    C1373     R53       1
+    C1374     COST      48
+    C1374     R35       1
+    C1374     R54       1
+    C1375     COST      6
+    C1375     R35       1
+    C1375     R55       1
+    C1376     COST      36
+    C1376     R35       1
+    C1376     R56       1
+    C1377     COST      23
+    C1377     R35       1
+    C1377     R57       1
+    C1378     COST      26
+    C1378     R35       1
+    C1378     R58       1
+    C1379     COST      25
+    C1379     R35       1
+    C1379     R59       1
+    C1380     COST      15
+    C1380     R35       1
+    C1380     R60       1
+    C1381     COST      18
+    C1381     R35       1
+    C1381     R61       1
+    C1382     COST      13
+    C1382     R35       1
+    C1382     R62       1
+    C1383     COST      1
+    C1383     R35       1
+    C1383     R63       1
+    C1384     COST      15
+    C1384     R35       1
+    C1384     R64       1
+    C1385     COST      14
+    C1385     R35       1
+    C1385     R65       1
+    C1386     COST      46
+    C1386     R35       1
+    C1386     R66       1
+    C1387     COST      46
+    C1387     R35       1
+    C1387     R67       1
+    C1388     COST      7
+    C1388     R35       1
+    C1388     R68       1
+    C1389     COST      37
+    C1389     R35       1
+    C1389     R69       1
+    C1390     COST      37
+    C1390     R35       1
+    C1390     R70       1
+    C1391     COST      13
+    C1391     R35       1
+    C1391     R71       1
+    C1392     COST      2
+    C1392     R35       1
+    C1392     R72       1
+    C1393     COST      1
+    C1393     R35       1
+    C1393     R73       1
+    C1394     COST      13
+    C1394     R35       1
+    C1394     R74       1
+    C1395     COST      40
+    C1395     R35       1
+    C1395     R75       1
+    C1396     COST      31
+    C1396     R35       1
+    C1396     R76       1
+    C1397     COST      8
+    C1397     R35       1
+    C1397     R77       1
+    C1398     COST      49
+    C1398     R35       1
+    C1398     R78       1
+    C1399     COST      42
+    C1399     R35       1
+    C1399     R79       1
+    C1400     COST      7
+    C1400     R35       1
+    C1400     R80       1
+    C1401     COST      22
+    C1401     R36       1
+    C1401     R41       1
+    C1402     COST      11
+    C1402     R36       1
+    C1402     R42       1
+    C1403     COST      41
+    C1403     R36       1
+    C1403     R43       1
+    C1404     COST      10
+    C1404     R36       1
+    C1404     R44       1
+    C1405     COST      45
+    C1405     R36       1
+    C1405     R45       1
+    C1406     COST      19
+    C1406     R36       1
+    C1406     R46       1
+    C1407     COST      12
+    C1407     R36       1
+    C1407     R47       1
+    C1408     COST      19
+    C1408     R36       1
+    C1408     R48       1
+    C1409     COST      4
+    C1409     R36       1
+    C1409     R49       1
+    C1410     COST      40
+    C1410     R36       1
+    C1410     R50       1
+    C1411     COST      50
+    C1411     R36       1
+    C1411     R51       1
+    C1412     COST      17
+    C1412     R36       1
+    C1412     R52       1
+    C1413     COST      5
+    C1413     R36       1
+    C1413     R53       1
+    C1414     COST      49
+    C1414     R36       1
+    C1414     R54       1
+    C1415     COST      12
+    C1415     R36       1
+    C1415     R55       1
+    C1416     COST      18
+    C1416     R36       1
+    C1416     R56       1
+    C1417     COST      43
+    C1417     R36       1
+    C1417     R57       1
+    C1418     COST      43
+    C1418     R36       1
+    C1418     R58       1
+    C1419     COST      11
+    C1419     R36       1
+    C1419     R59       1
+    C1420     COST      40
+    C1420     R36       1
+    C1420     R60       1
+    C1421     COST      10
+    C1421     R36       1
+    C1421     R61       1
+    C1422     COST      3
+    C1422     R36       1
+    C1422     R62       1
+    C1423     COST      35
+    C1423     R36       1
+    C1423     R63       1
+    C1424     COST      20
+    C1424     R36       1
+    C1424     R64       1
+    C1425     COST      14
+    C1425     R36       1
+    C1425     R65       1
+    C1426     COST      8
+    C1426     R36       1
+    C1426     R66       1
+    C1427     COST      50
+    C1427     R36       1
+    C1427     R67       1
+    C1428     COST      12
+    C1428     R36       1
+    C1428     R68       1
+    C1429     COST      10
+    C1429     R36       1
+    C1429     R69       1
+    C1430     COST      33
+    C1430     R36       1
+    C1430     R70       1
+    C1431     COST      7
+    C1431     R36       1
+    C1431     R71       1
+    C1432     COST      2
+    C1432     R36       1
+    C1432     R72       1
+    C1433     COST      21
+    C1433     R36       1
+    C1433     R73       1
+    C1434     COST      33
+    C1434     R36       1
+    C1434     R74       1
+    C1435     COST      3
+    C1435     R36       1
+    C1435     R75       1
+    C1436     COST      45
+    C1436     R36       1
+    C1436     R76       1
+    C1437     COST      22
+    C1437     R36       1
+    C1437     R77       1
+    C1438     COST      23
+    C1438     R36       1
+    C1438     R78       1
+    C1439     COST      33
+    C1439     R36       1
+    C1439     R79       1
+    C1440     COST      41
+    C1440     R36       1
+    C1440     R80       1
+    C1441     COST      49
+    C1441     R37       1
+    C1441     R41       1
+    C1442     COST      2
+    C1442     R37       1
+    C1442     R42       1
+    C1443     COST      43
+    C1443     R37       1
+    C1443     R43       1
+    C1444     COST      8
+    C1444     R37       1
+    C1444     R44       1
+    C1445     COST      6
+    C1445     R37       1
+    C1445     R45       1
+    C1446     COST      9
+    C1446     R37       1
+    C1446     R46       1
+    C1447     COST      50
+    C1447     R37       1
+    C1447     R47       1
+    C1448     COST      39
+    C1448     R37       1
+    C1448     R48       1
+    C1449     COST      13
+    C1449     R37       1
+    C1449     R49       1
+    C1450     COST      44
+    C1450     R37       1
+    C1450     R50       1
+    C1451     COST      21
+    C1451     R37       1
+    C1451     R51       1
+    C1452     COST      32
+    C1452     R37       1
+    C1452     R52       1
+    C1453     COST      21
+    C1453     R37       1
+    C1453     R53       1
+    C1454     COST      28
+    C1454     R37       1
+    C1454     R54       1
+    C1455     COST      37
+    C1455     R37       1
+    C1455     R55       1
+    C1456     COST      37
+    C1456     R37       1
+    C1456     R56       1
+    C1457     COST      37
+    C1457     R37       1
+    C1457     R57       1
+    C1458     COST      13
+    C1458     R37       1
+    C1458     R58       1
+    C1459     COST      18
+    C1459     R37       1
+    C1459     R59       1
+    C1460     COST      10
+    C1460     R37       1
+    C1460     R60       1
+    C1461     COST      27
+    C1461     R37       1
+    C1461     R61       1
+    C1462     COST      31
+    C1462     R37       1
+    C1462     R62       1
+    C1463     COST      6
+    C1463     R37       1
+    C1463     R63       1
+    C1464     COST      21
+    C1464     R37       1
+    C1464     R64       1
+    C1465     COST      6
+    C1465     R37       1
+    C1465     R65       1
+    C1466     COST      7
+    C1466     R37       1
+    C1466     R66       1
+    C1467     COST      28
+    C1467     R37       1
+    C1467     R67       1
+    C1468     COST      36
+    C1468     R37       1
+    C1468     R68       1
+    C1469     COST      14
+    C1469     R37       1
+    C1469     R69       1
+    C1470     COST      12
+    C1470     R37       1
+    C1470     R70       1
+    C1471     COST      22
+    C1471     R37       1
+    C1471     R71       1
+    C1472     COST      14
+    C1472     R37       1
+    C1472     R72       1
+    C1473     COST      8
+    C1473     R37       1
+    C1473     R73       1
+    C1474     COST      30
+    C1474     R37       1
+    C1474     R74       1
+    C1475     COST      43
+    C1475     R37       1
+    C1475     R75       1
+    C1476     COST      24
+    C1476     R37       1
+    C1476     R76       1
+    C1477     COST      4
+    C1477     R37       1
+    C1477     R77       1
+    C1478     COST      16
+    C1478     R37       1
+    C1478     R78       1
+    C1479     COST      1
+    C1479     R37       1
+    C1479     R79       1
+    C1480     COST      43
+    C1480     R37       1
+    C1480     R80       1
+    C1481     COST      10
+    C1481     R38       1
+    C1481     R41       1
+    C1482     COST      4
+    C1482     R38       1
+    C1482     R42       1
+    C1483     COST      37
+    C1483     R38       1
+    C1483     R43       1
+    C1484     COST      4
+    C1484     R38       1
+    C1484     R44       1
+    C1485     COST      11
+    C1485     R38       1
+    C1485     R45       1
+    C1486     COST      35
+    C1486     R38       1
+    C1486     R46       1
+    C1487     COST      39
+    C1487     R38       1
+    C1487     R47       1
+    C1488     COST      32
+    C1488     R38       1
+    C1488     R48       1
+    C1489     COST      15
+    C1489     R38       1
+    C1489     R49       1
+    C1490     COST      19
+    C1490     R38       1
+    C1490     R50       1
+    C1491     COST      39
+    C1491     R38       1
+    C1491     R51       1
+    C1492     COST      10
+    C1492     R38       1
+    C1492     R52       1
+    C1493     COST      28
+    C1493     R38       1
+    C1493     R53       1
+    C1494     COST      18
+    C1494     R38       1
+    C1494     R54       1
+    C1495     COST      11
+    C1495     R38       1
+    C1495     R55       1
+    C1496     COST      19
+    C1496     R38       1
+    C1496     R56       1
+    C1497     COST      46
+    C1497     R38       1
+    C1497     R57       1
+    C1498     COST      21
+    C1498     R38       1
+    C1498     R58       1
+    C1499     COST      32
+    C1499     R38       1
+    C1499     R59       1
+    C1500     COST      1
+    C1500     R38       1
+    C1500     R60       1
+    C1501     COST      5
+    C1501     R38       1
+    C1501     R61       1
+    C1502     COST      47
+    C1502     R38       1
+    C1502     R62       1
+    C1503     COST      13
+    C1503     R38       1
+    C1503     R63       1
+    C1504     COST      12
+    C1504     R38       1
+    C1504     R64       1
+    C1505     COST      50
+    C1505     R38       1
+    C1505     R65       1
+    C1506     COST      38
+    C1506     R38       1
+    C1506     R66       1
+    C1507     COST      50
+    C1507     R38       1
+    C1507     R67       1
+    C1508     COST      44
+    C1508     R38       1
+    C1508     R68       1
+    C1509     COST      28
+    C1509     R38       1
+    C1509     R69       1
+    C1510     COST      3
+    C1510     R38       1
+    C1510     R70       1
+    C1511     COST      17
+    C1511     R38       1
+    C1511     R71       1
+    C1512     COST      9
+    C1512     R38       1
+    C1512     R72       1
+    C1513     COST      32
+    C1513     R38       1
+    C1513     R73       1
+    C1514     COST      8
+    C1514     R38       1
+    C1514     R74       1
+    C1515     COST      35
+    C1515     R38       1
+    C1515     R75       1
+    C1516     COST      48
+    C1516     R38       1
+    C1516     R76       1
+    C1517     COST      43
+    C1517     R38       1
+    C1517     R77       1
+    C1518     COST      29
+    C1518     R38       1
+    C1518     R78       1
+    C1519     COST      18
+    C1519     R38       1
+    C1519     R79       1
+    C1520     COST      47
+    C1520     R38       1
+    C1520     R80       1
+    C1521     COST      50
+    C1521     R39       1
+    C1521     R41       1
+    C1522     COST      46
+    C1522     R39       1
+    C1522     R42       1
+    C1523     COST      21
+    C1523     R39       1
+    C1523     R43       1
+    C1524     COST      47
+    C1524     R39       1
+    C1524     R44       1
+    C1525     COST      46
+    C1525     R39       1
+    C1525     R45       1
+    C1526     COST      7
+    C1526     R39       1
+    C1526     R46       1
+    C1527     COST      18
+    C1527     R39       1
+    C1527     R47       1
+    C1528     COST      2
+    C1528     R39       1
+    C1528     R48       1
+    C1529     COST      29
+    C1529     R39       1
+    C1529     R49       1
+    C1530     COST      30
+    C1530     R39       1
+    C1530     R50       1
+    C1531     COST      12
+    C1531     R39       1
+    C1531     R51       1
+    C1532     COST      3
+    C1532     R39       1
+    C1532     R52       1
+    C1533     COST      50
+    C1533     R39       1
+    C1533     R53       1
+    C1534     COST      30
+    C1534     R39       1
+    C1534     R54       1
+    C1535     COST      1
+    C1535     R39       1
+    C1535     R55       1
+    C1536     COST      44
+    C1536     R39       1
+    C1536     R56       1
+    C1537     COST      7
+    C1537     R39       1
+    C1537     R57       1
+    C1538     COST      40
+    C1538     R39       1
+    C1538     R58       1
+    C1539     COST      14
+    C1539     R39       1
+    C1539     R59       1
+    C1540     COST      11
+    C1540     R39       1
+    C1540     R60       1
+    C1541     COST      38
+    C1541     R39       1
+    C1541     R61       1
+    C1542     COST      49
+    C1542     R39       1
+    C1542     R62       1
+    C1543     COST      10
+    C1543     R39       1
+    C1543     R63       1
+    C1544     COST      20
+    C1544     R39       1
+    C1544     R64       1
+    C1545     COST      24
+    C1545     R39       1
+    C1545     R65       1
+    C1546     COST      26
+    C1546     R39       1
+    C1546     R66       1
+    C1547     COST      9
+    C1547     R39       1
+    C1547     R67       1
+    C1548     COST      2
+    C1548     R39       1
+    C1548     R68       1
+    C1549     COST      21
+    C1549     R39       1
+    C1549     R69       1
+    C1550     COST      19
+    C1550     R39       1
+    C1550     R70       1
+    C1551     COST      42
+    C1551     R39       1
+    C1551     R71       1
+    C1552     COST      28
+    C1552     R39       1
+    C1552     R72       1
+    C1553     COST      40
+    C1553     R39       1
+    C1553     R73       1
+    C1554     COST      20
+    C1554     R39       1
+    C1554     R74       1
+    C1555     COST      13
+    C1555     R39       1
+    C1555     R75       1
+    C1556     COST      11
+    C1556     R39       1
+    C1556     R76       1
+    C1557     COST      8
+    C1557     R39       1
+    C1557     R77       1
+    C1558     COST      45
+    C1558     R39       1
+    C1558     R78       1
+    C1559     COST      5
+    C1559     R39       1
+    C1559     R79       1
+    C1560     COST      18
+    C1560     R39       1
+    C1560     R80       1
+    C1561     COST      33
+    C1561     R40       1
+    C1561     R41       1
+    C1562     COST      21
+    C1562     R40       1
+    C1562     R42       1
+    C1563     COST      6
+    C1563     R40       1
+    C1563     R43       1
+    C1564     COST      35
+    C1564     R40       1
+    C1564     R44       1
+    C1565     COST      5
+    C1565     R40       1
+    C1565     R45       1
+    C1566     COST      40
+    C1566     R40       1
+    C1566     R46       1
+    C1567     COST      30
+    C1567     R40       1
+    C1567     R47       1
+    C1568     COST      5
+    C1568     R40       1
+    C1568     R48       1
+    C1569     COST      22
+    C1569     R40       1
+    C1569     R49       1
+    C1570     COST      2
+    C1570     R40       1
+    C1570     R50       1
+    C1571     COST      36
+    C1571     R40       1
+    C1571     R51       1
+    C1572     COST      29
+    C1572     R40       1
+    C1572     R52       1
+    C1573     COST      7
+    C1573     R40       1
+    C1573     R53       1
+    C1574     COST      28
+    C1574     R40       1
+    C1574     R54       1
+    C1575     COST      48
+    C1575     R40       1
+    C1575     R55       1
+    C1576     COST      1
+    C1576     R40       1
+    C1576     R56       1
+    C1577     COST      23
+    C1577     R40       1
+    C1577     R57       1
+    C1578     COST      8
+    C1578     R40       1
+    C1578     R58       1
+    C1579     COST      30
+    C1579     R40       1
+    C1579     R59       1
+    C1580     COST      31
+    C1580     R40       1
+    C1580     R60       1
+    C1581     COST      3
+    C1581     R40       1
+    C1581     R61       1
+    C1582     COST      24
+    C1582     R40       1
+    C1582     R62       1
+    C1583     COST      45
+    C1583     R40       1
+    C1583     R63       1
+    C1584     COST      28
+    C1584     R40       1
+    C1584     R64       1
+    C1585     COST      22
+    C1585     R40       1
+    C1585     R65       1
+    C1586     COST      1
+    C1586     R40       1
+    C1586     R66       1
+    C1587     COST      36
+    C1587     R40       1
+    C1587     R67       1
+    C1588     COST      40
+    C1588     R40       1
+    C1588     R68       1
+    C1589     COST      14
+    C1589     R40       1
+    C1589     R69       1
+    C1590     COST      15
+    C1590     R40       1
+    C1590     R70       1
+    C1591     COST      32
+    C1591     R40       1
+    C1591     R71       1
+    C1592     COST      23
+    C1592     R40       1
+    C1592     R72       1
+    C1593     COST      25
+    C1593     R40       1
+    C1593     R73       1
+    C1594     COST      48
+    C1594     R40       1
+    C1594     R74       1
+    C1595     COST      5
+    C1595     R40       1
+    C1595     R75       1
+    C1596     COST      30
+    C1596     R40       1
+    C1596     R76       1
+    C1597     COST      41
+    C1597     R40       1
+    C1597     R77       1
+    C1598     COST      9
+    C1598     R40       1
+    C1598     R78       1
+    C1599     COST      20
+    C1599     R40       1
+    C1599     R79       1
+    C1600     COST      17
+    C1600     R40       1
+    C1600     R80       1
+RHS
+    RHS       R1        69
+    RHS       R2        58
+    RHS       R3        69
+    RHS       R4        57
+    RHS       R5        62
+    RHS       R6        61
+    RHS       R7        60
+    RHS       R8        55
+    RHS       R9        62
+    RHS       R10       68
+    RHS       R11       68
+    RHS       R12       68
+    RHS       R13       53
+    RHS       R14       71
+    RHS       R15       66
+    RHS       R16       71
+    RHS       R17       60
+    RHS       R18       63
+    RHS       R19       62
+    RHS       R20       57
+    RHS       R21       67
+    RHS       R22       68
+    RHS       R23       56
+    RHS       R24       63
+    RHS       R25       68
+    RHS       R26       68
+    RHS       R27       60
+    RHS       R28       60
+    RHS       R29       63
+    RHS       R30       54
+    RHS       R31       55
+    RHS       R32       62
+    RHS       R33       71
+    RHS       R34       67
+    RHS       R35       64
+    RHS       R36       55
+    RHS       R37       66
+    RHS       R38       54
+    RHS       R39       55
+    RHS       R40       69
+    RHS       R41       47
+    RHS       R42       14
+    RHS       R43       38
+    RHS       R44       53
+    RHS       R45       82
+    RHS       R46       22
+    RHS       R47       66
+    RHS       R48       99
+    RHS       R49       98
+    RHS       R50       72
+    RHS       R51       40
+    RHS       R53       70
+    RHS       R55       17
+    RHS       R57       58
+    RHS       R58       92
+    RHS       R59       85
+    RHS       R60       48
+    RHS       R61       24
+    RHS       R62       26
+    RHS       R64       74
+    RHS       R66       65
+    RHS       R68       41
+    RHS       R69       48
+    RHS       R70       58
+    RHS       R71       39
+    RHS       R72       10
+    RHS       R73       84
+    RHS       R74       45
+    RHS       R75       36
+    RHS       R76       92
+    RHS       R77       94
+    RHS       R78       13
+    RHS       R79       77
+    RHS       R80       63
+BOUNDS
+ENDATA
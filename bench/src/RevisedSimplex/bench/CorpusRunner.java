@@ -0,0 +1,527 @@
+package RevisedSimplex.bench;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import RevisedSimplex.io.BinaryModel;
+import RevisedSimplex.io.LpReader;
+import RevisedSimplex.io.MpsReader;
+import RevisedSimplex.io.MpsWriter;
+import RevisedSimplex.util.LinearProgram;
+import RevisedSimplex.util.RevisedSimplex;
+
+/**
+ * End-to-end benchmark of the solver on a corpus of models, which catches the
+ * regressions that the microbenchmarks of single kernels miss. Every model of
+ * a directory, in MPS, LP or binary format, or every model of the corpus
+ * built in with LpGenerator, is solved from scratch a few times, and the
+ * fastest solve is kept. For each model it records the status, the objective,
+ * the iterations, the time of phase 1 and of phase 2 and the peak memory of
+ * the solve. The latter is the heap allocated by the solve, counted exactly
+ * by the JVM, which bounds its peak from above: the solver allocates its
+ * arrays up front and keeps them, so little else is allocated. Unlike the
+ * heap in use, it doesn't depend on when the garbage collector runs.
+ *
+ * The results are compared with a baseline, and a model is flagged as a
+ * regression if its status or its objective changed, or if its iterations
+ * grew by more than the threshold. Time and memory depend on the machine, so
+ * they're only compared with a baseline given with --baseline, a file
+ * written by an earlier run with --save on the same machine: save one before
+ * changing the solver, and compare after. A model is then also flagged if
+ * its time or its memory grew by more than the threshold. Increases of time
+ * below --min-time and of memory below 256 KB are noise on small models and
+ * are never flagged. The runner exits with 1 if any model regressed, so that
+ * it can gate a build.
+ *
+ * The models in bench/models are the built in corpus written with --write.
+ * Its baseline, bench/models/baseline.tsv, is used when no other is given,
+ * and holds only what every machine gets: the status, the objective and the
+ * iterations. From the root of the project:
+ *
+ * mvn install -DskipTests
+ * mvn -f bench/pom.xml package
+ * java -cp bench/target/benchmarks.jar RevisedSimplex.bench.CorpusRunner [options] [DIR]
+ *
+ * The options are:
+ *
+ * DIR                  directory of the models, bench/models by default
+ * --generated          solve the built in corpus instead of the files of DIR
+ * --write DIR          write the built in corpus to DIR as MPS files and stop
+ * --baseline FILE      compare with FILE, time and memory included,
+ *                      instead of DIR/baseline.tsv
+ * --save FILE          write the results to FILE, as a baseline
+ * --threshold F        relative increase flagged as a regression, 0.25 by
+ *                      default, i.e. 25%
+ * --min-time MS        smallest increase of time flagged, 1 ms by default
+ * --warmup N           solves of every model before the timed ones, 3 by
+ *                      default, so that the JIT is done compiling the solver
+ * --repeat N           timed solves of each model, 5 by default
+ *
+ */
+public class CorpusRunner {
+	public static final String DEFAULT_DIRECTORY = "bench/models";
+	public static final String BASELINE = "baseline.tsv";
+
+	private static final double OBJECTIVE_TOLERANCE = 1e-6;
+	private static final double MIN_MEMORY = 0.25;
+
+	public String directory = DEFAULT_DIRECTORY;
+	public boolean generated = false;
+	public String writeDirectory = null;
+	public String baselineFile = null;
+	public String saveFile = null;
+	public double threshold = 0.25;
+	public double minTime = 1;
+	public int warmup = 3;
+	public int repeat = 5;
+
+	/**
+	 * A model of the corpus.
+	 *
+	 */
+	public static class Model {
+		public String name;
+		public LinearProgram program;
+		public double objectiveConstant = 0;
+
+		public Model(String name, LinearProgram program) {
+			this.name = name;
+			this.program = program;
+		}
+	}
+
+	/**
+	 * What the solve of a model recorded, or what a baseline holds for it.
+	 *
+	 */
+	public static class Result {
+		public String model;
+		public int status;
+		public double objective;
+		public int iterations;
+		public int phaseOneIterations;
+
+		// milliseconds and megabytes, NaN in a baseline without them
+		public double phaseOneTime;
+		public double phaseTwoTime;
+		public double peakMemory;
+
+		// the regressions found against the baseline, empty if there aren't any
+		public List<String> regressions = new ArrayList<String>();
+
+		/**
+		 * @return time of the whole solve in milliseconds
+		 */
+		public double time() {
+			return phaseOneTime + phaseTwoTime;
+		}
+	}
+
+	public static void main(String[] args) throws IOException {
+		CorpusRunner runner = new CorpusRunner();
+		try {
+			runner.parseArguments(args);
+		} catch (IllegalArgumentException e) {
+			System.err.println("Error: " + e.getMessage());
+			System.err.println(
+					"Usage: java RevisedSimplex.bench.CorpusRunner [--generated] [--write DIR] [--baseline FILE] [--save FILE] [--threshold F] [--min-time MS] [--warmup N] [--repeat N] [DIR]");
+			System.exit(2);
+		}
+
+		if (runner.writeDirectory != null) {
+			for (Model model : corpus()) {
+				String fileName = new File(runner.writeDirectory, model.name + ".mps").getPath();
+				MpsWriter.write(model.program, model.name, null, null, model.objectiveConstant, fileName);
+				System.out.println("Wrote " + fileName);
+			}
+			return;
+		}
+
+		List<Model> models = runner.generated ? corpus() : read(runner.directory);
+		if (models.isEmpty()) {
+			System.err.println("Error: no models in " + runner.directory);
+			System.exit(2);
+		}
+		List<Result> results = runner.run(models);
+		System.exit(runner.hasRegressions(results) ? 1 : 0);
+	}
+
+	/**
+	 * @param args
+	 *            the options described above
+	 */
+	public void parseArguments(String[] args) {
+		for (int i = 0; i < args.length; i++) {
+			String option = args[i];
+			if (!option.startsWith("-")) {
+				directory = option;
+				continue;
+			}
+			if (option.equals("--generated")) {
+				generated = true;
+				continue;
+			}
+			if (++i == args.length)
+				throw new IllegalArgumentException(option + " needs a value");
+			String value = args[i];
+
+			switch (option) {
+			case "--write":
+				writeDirectory = value;
+				break;
+			case "--baseline":
+				baselineFile = value;
+				break;
+			case "--save":
+				saveFile = value;
+				break;
+			case "--threshold":
+				threshold = Double.parseDouble(value);
+				break;
+			case "--min-time":
+				minTime = Double.parseDouble(value);
+				break;
+			case "--warmup":
+				warmup = Integer.parseInt(value);
+				break;
+			case "--repeat":
+				repeat = Integer.parseInt(value);
+				if (repeat < 1)
+					throw new IllegalArgumentException("--repeat needs at least 1");
+				break;
+			default:
+				throw new IllegalArgumentException("unknown option " + option);
+			}
+		}
+	}
+
+	/**
+	 * Solves every model, compares the results with the baseline, if there is
+	 * one, prints them and saves them, if asked to.
+	 *
+	 * @param models
+	 * @return the results, in the order of the models
+	 * @throws IOException
+	 */
+	public List<Result> run(List<Model> models) throws IOException {
+		String baselineName = baselineFile;
+		if (baselineName == null && new File(directory, BASELINE).isFile())
+			baselineName = new File(directory, BASELINE).getPath();
+		boolean comparesMeasurements = (baselineFile != null);
+		Map<String, Result> baseline = (baselineName == null) ? new HashMap<String, Result>() : readBaseline(baselineName);
+
+		// the whole corpus is solved first, so that the first models aren't
+		// timed while the JIT is still compiling the solver
+		for (int w = 0; w < warmup; w++)
+			for (Model model : models)
+				model.program.newSolver().solve();
+
+		// the timed solves go round the corpus, so that a slow spell of the
+		// machine slows down one solve of many models rather than every solve
+		// of one, and the fastest solve of each model is kept
+		Result[] best = new Result[models.size()];
+		for (int r = 0; r < repeat; r++)
+			for (int k = 0; k < models.size(); k++) {
+				Result result = this.solve(models.get(k));
+				if (best[k] == null || result.time() < best[k].time())
+					best[k] = result;
+			}
+
+		List<Result> results = new ArrayList<Result>();
+		for (Result result : best) {
+			Result base = baseline.get(result.model);
+			if (base != null)
+				this.compare(result, base, comparesMeasurements);
+			results.add(result);
+		}
+
+		this.printTable(models, results, baseline);
+		if (baselineName != null)
+			System.out.println("Baseline: " + baselineName + (comparesMeasurements ? "" : ", without time and memory"));
+		int regressed = 0;
+		for (Result result : results)
+			if (!result.regressions.isEmpty())
+				regressed++;
+		System.out.printf("%d of %d models regressed by more than %.0f%%%n", regressed, results.size(), 100 * threshold);
+
+		if (saveFile != null) {
+			writeBaseline(results, saveFile);
+			System.out.println("Saved as " + saveFile);
+		}
+		return results;
+	}
+
+	/**
+	 * @param results
+	 * @return whether any model regressed
+	 */
+	public boolean hasRegressions(List<Result> results) {
+		for (Result result : results)
+			if (!result.regressions.isEmpty())
+				return true;
+		return false;
+	}
+
+	/**
+	 * Solves the model from scratch. The heap is collected before, so that
+	 * collections of earlier garbage don't slow the solve down.
+	 *
+	 * @param model
+	 * @return the result of the solve
+	 */
+	Result solve(Model model) {
+		System.gc();
+		long allocated = allocatedBytes();
+
+		RevisedSimplex solver = model.program.newSolver();
+		int status = solver.solve();
+
+		allocated = allocatedBytes() - allocated;
+
+		Result result = new Result();
+		result.model = model.name;
+		result.status = status;
+		result.objective = (status == RevisedSimplex.OPTIMAL) ? solver.objectiveValue + model.objectiveConstant : Double.NaN;
+		result.iterations = solver.statistics.iterations;
+		result.phaseOneIterations = solver.statistics.phaseOneIterations;
+		result.phaseOneTime = solver.statistics.phaseOneTime / 1e6;
+		result.phaseTwoTime = (solver.statistics.solveTime - solver.statistics.phaseOneTime) / 1e6;
+		result.peakMemory = (allocated < 0) ? Double.NaN : allocated / (1024.0 * 1024.0);
+		return result;
+	}
+
+	/*
+	 * Bytes allocated by this thread so far, -1 if the JVM doesn't count them.
+	 */
+	private static long allocatedBytes() {
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		if (!(threads instanceof com.sun.management.ThreadMXBean))
+			return -1;
+		return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	/**
+	 * Adds to the result every way in which it regressed from the baseline.
+	 *
+	 * @param result
+	 * @param base
+	 * @param comparesMeasurements
+	 *            whether time and memory are compared too
+	 */
+	void compare(Result result, Result base, boolean comparesMeasurements) {
+		if (result.status != base.status) {
+			result.regressions.add("status " + statusName(base.status) + " -> " + statusName(result.status));
+			return;
+		}
+		if (result.status == RevisedSimplex.OPTIMAL
+				&& Math.abs(result.objective - base.objective) > OBJECTIVE_TOLERANCE * Math.max(1, Math.abs(base.objective)))
+			result.regressions.add("objective");
+		if (result.iterations > base.iterations * (1 + threshold))
+			result.regressions.add("iterations");
+		if (!comparesMeasurements)
+			return;
+		if (result.time() > base.time() * (1 + threshold) && result.time() - base.time() > minTime)
+			result.regressions.add("time");
+		if (result.peakMemory > base.peakMemory * (1 + threshold) && result.peakMemory - base.peakMemory > MIN_MEMORY)
+			result.regressions.add("memory");
+	}
+
+	private void printTable(List<Model> models, List<Result> results, Map<String, Result> baseline) {
+		System.out.println();
+		System.out.println(String.format("%-24s %6s %6s %7s  %-10s %16s %7s %6s %10s %10s %8s %8s  %s", "Model", "Rows", "Cols",
+				"Nonzero", "Status", "Objective", "Iters", "Ph1", "Ph1 ms", "Ph2 ms", "Peak MB", "Time", "Regressions"));
+
+		for (int k = 0; k < results.size(); k++) {
+			LinearProgram program = models.get(k).program;
+			Result result = results.get(k);
+			Result base = baseline.get(result.model);
+
+			String change;
+			if (base == null)
+				change = "new";
+			else if (Double.isNaN(base.time()))
+				change = "-";
+			else
+				change = String.format(Locale.ROOT, "%+.1f%%", 100 * (result.time() / base.time() - 1));
+			System.out.println(String.format(Locale.ROOT, "%-24s %6d %6d %7d  %-10s %16.8g %7d %6d %10.3f %10.3f %8.3f %8s  %s", result.model,
+					program.numConstraints, program.numVariables, program.A.nonZeros(), statusName(result.status), result.objective,
+					result.iterations, result.phaseOneIterations, result.phaseOneTime, result.phaseTwoTime, result.peakMemory, change,
+					String.join(", ", result.regressions)));
+		}
+	}
+
+	/**
+	 * The models of the built in corpus, generated by LpGenerator: both
+	 * structures without phase 1 and both with one, each small and larger,
+	 * and each larger one degenerate.
+	 *
+	 * @return the models
+	 */
+	public static List<Model> corpus() {
+		List<Model> models = new ArrayList<Model>();
+		generate(models, LpGenerator.RANDOM, 100, 0.05, 0);
+		generate(models, LpGenerator.RANDOM, 200, 0.05, 0.5);
+		generate(models, LpGenerator.STAIRCASE, 200, 0.05, 0);
+		generate(models, LpGenerator.STAIRCASE, 400, 0.05, 0.5);
+		generate(models, LpGenerator.TRANSPORT, 40, 0, 0);
+		generate(models, LpGenerator.TRANSPORT, 80, 0, 0.2);
+		generate(models, LpGenerator.MIXED, 100, 0.05, 0);
+		generate(models, LpGenerator.MIXED, 200, 0.05, 0.3);
+		return models;
+	}
+
+	private static void generate(List<Model> models, String structure, int size, double density, double degeneracy) {
+		String name = structure + "-" + size + ((degeneracy > 0) ? "-degenerate" : "");
+		models.add(new Model(name, LpGenerator.generate(structure, size, density, degeneracy, 1)));
+	}
+
+	/**
+	 * Reads every model of the directory, in the order of their names. Files
+	 * ending in .mps, .lp or .rslp, optionally followed by .gz for the first
+	 * two, are models, others are skipped.
+	 *
+	 * @param directory
+	 * @return the models, named after their files without the extensions
+	 * @throws IOException
+	 */
+	public static List<Model> read(String directory) throws IOException {
+		File[] files = new File(directory).listFiles();
+		if (files == null)
+			throw new IOException("can't list " + directory);
+		Arrays.sort(files);
+
+		List<Model> models = new ArrayList<Model>();
+		for (File file : files) {
+			String fileName = file.getName().toLowerCase();
+			String base = fileName.endsWith(".gz") ? fileName.substring(0, fileName.length() - 3) : fileName;
+			Model model;
+
+			if (base.endsWith(".mps")) {
+				MpsReader reader = new MpsReader();
+				try (InputStream in = open(file)) {
+					model = new Model(file.getName().substring(0, base.length() - 4), reader.read(in));
+				}
+				model.objectiveConstant = reader.objectiveConstant;
+			} else if (base.endsWith(".lp")) {
+				LpReader reader = new LpReader();
+				try (InputStream in = open(file)) {
+					model = new Model(file.getName().substring(0, base.length() - 3), reader.read(in));
+				}
+				model.objectiveConstant = reader.objectiveConstant;
+			} else if (fileName.endsWith(".rslp")) {
+				BinaryModel reader = new BinaryModel();
+				model = new Model(file.getName().substring(0, fileName.length() - 5), reader.map(file.getPath()));
+				model.objectiveConstant = reader.objectiveConstant;
+			} else
+				continue;
+			models.add(model);
+		}
+		return models;
+	}
+
+	private static InputStream open(File file) throws IOException {
+		InputStream in = new FileInputStream(file);
+		return file.getName().endsWith(".gz") ? new GZIPInputStream(in, 1 << 16) : in;
+	}
+
+	/**
+	 * Writes the results as a baseline, a tab separated table with a line per
+	 * model. Objectives are written so that they're read back exactly.
+	 *
+	 * @param results
+	 * @param fileName
+	 * @throws IOException
+	 */
+	public static void writeBaseline(List<Result> results, String fileName) throws IOException {
+		try (PrintWriter out = new PrintWriter(fileName, "UTF-8")) {
+			out.println("# model\tstatus\tobjective\titerations\tphase 1 iterations\tphase 1 ms\tphase 2 ms\tpeak MB");
+			for (Result result : results)
+				out.println(String.format(Locale.ROOT, "%s\t%s\t%s\t%d\t%d\t%.3f\t%.3f\t%.3f", result.model, statusName(result.status),
+						Double.toString(result.objective), result.iterations, result.phaseOneIterations, result.phaseOneTime,
+						result.phaseTwoTime, result.peakMemory));
+		}
+	}
+
+	/**
+	 * Reads a baseline written by writeBaseline(), or one whose lines stop
+	 * after the phase 1 iterations, without the columns that depend on the
+	 * machine.
+	 *
+	 * @param fileName
+	 * @return the results of the baseline, by model
+	 * @throws IOException
+	 *             if the file can't be read or a line is malformed
+	 */
+	public static Map<String, Result> readBaseline(String fileName) throws IOException {
+		Map<String, Result> baseline = new HashMap<String, Result>();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(fileName), StandardCharsets.UTF_8))) {
+			String line;
+			int lineNumber = 0;
+			while ((line = reader.readLine()) != null) {
+				lineNumber++;
+				if (line.isEmpty() || line.startsWith("#"))
+					continue;
+
+				String[] fields = line.split("\t");
+				if (fields.length != 5 && fields.length != 8)
+					throw new IOException(fileName + ":" + lineNumber + ": expected 5 or 8 fields, found " + fields.length);
+				try {
+					Result result = new Result();
+					result.model = fields[0];
+					result.status = statusCode(fields[1]);
+					result.objective = Double.parseDouble(fields[2]);
+					result.iterations = Integer.parseInt(fields[3]);
+					result.phaseOneIterations = Integer.parseInt(fields[4]);
+					result.phaseOneTime = (fields.length == 8) ? Double.parseDouble(fields[5]) : Double.NaN;
+					result.phaseTwoTime = (fields.length == 8) ? Double.parseDouble(fields[6]) : Double.NaN;
+					result.peakMemory = (fields.length == 8) ? Double.parseDouble(fields[7]) : Double.NaN;
+					baseline.put(result.model, result);
+				} catch (IllegalArgumentException e) {
+					throw new IOException(fileName + ":" + lineNumber + ": " + e.getMessage());
+				}
+			}
+		}
+		return baseline;
+	}
+
+	private static String statusName(int status) {
+		switch (status) {
+		case RevisedSimplex.OPTIMAL:
+			return "optimal";
+		case RevisedSimplex.INFEASIBLE:
+			return "infeasible";
+		case RevisedSimplex.UNBOUNDED:
+			return "unbounded";
+		default:
+			return Integer.toString(status);
+		}
+	}
+
+	private static int statusCode(String name) {
+		switch (name) {
+		case "optimal":
+			return RevisedSimplex.OPTIMAL;
+		case "infeasible":
+			return RevisedSimplex.INFEASIBLE;
+		case "unbounded":
+			return RevisedSimplex.UNBOUNDED;
+		default:
+			return Integer.parseInt(name);
+		}
+	}
+}
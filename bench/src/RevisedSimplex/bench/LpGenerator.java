@@ -0,0 +1,219 @@
+package RevisedSimplex.bench;
+
+import java.util.Random;
+
+import RevisedSimplex.util.LinearProgram;
+
+/**
+ * Generators of feasible and bounded linear programs for the benchmarks. The
+ * same parameters and seed always give the same program.
+ *
+ * - random: every entry of A is nonzero with probability density.
+ * - staircase: a multi-period model, whose rows and columns are split into
+ * periods. A row of period t has entries for the columns of period t, with
+ * probability density, and -1 entries linking it to a few columns of period
+ * t - 1, as stock carried over. It's sparse, structured and far from random.
+ *
+ * Both maximize a positive objective subject to L constraints with
+ * nonnegative right hand sides, so the origin is a feasible start, and every
+ * column has a positive entry in a constraint that bounds it. The others
+ * need a phase 1:
+ *
+ * - transport: a transportation problem, which ships from sources with L
+ * supply rows to sinks with G demand rows at the least cost, over every arc.
+ * - mixed: a random sparse matrix with entries of both signs, L, G and E rows,
+ * and bounds on every variable, some of them negative. The right hand sides
+ * are those of a point within the bounds, so the program is feasible.
+ *
+ * The degeneracy is the fraction of constraints with a zero right hand side,
+ * or that are tight at the planted point of a mixed program. Each one of them
+ * leads to ties in the ratio test and to pivots that don't move the objective.
+ *
+ */
+public class LpGenerator {
+	public static final String RANDOM = "random";
+	public static final String STAIRCASE = "staircase";
+	public static final String TRANSPORT = "transport";
+	public static final String MIXED = "mixed";
+
+	/**
+	 * Generates a program of the given structure with size constraints and
+	 * 2 * size variables, except for a transportation problem, which has
+	 * size / 2 sources, the other rows being sinks, and an arc between every
+	 * source and sink.
+	 *
+	 * @param structure
+	 *            RANDOM, STAIRCASE, TRANSPORT or MIXED
+	 * @param size
+	 * @param density
+	 *            ignored by TRANSPORT
+	 * @param degeneracy
+	 * @param seed
+	 * @return the program
+	 */
+	public static LinearProgram generate(String structure, int size, double density, double degeneracy, long seed) {
+		switch (structure) {
+		case RANDOM:
+			return random(size, 2 * size, density, degeneracy, seed);
+		case STAIRCASE:
+			return staircase(size, 2 * size, Math.max(2, size / 20), density, degeneracy, seed);
+		case TRANSPORT:
+			return transport(size / 2, size - size / 2, degeneracy, seed);
+		case MIXED:
+			return mixed(size, 2 * size, density, degeneracy, seed);
+		default:
+			throw new IllegalArgumentException("unknown structure " + structure);
+		}
+	}
+
+	/**
+	 * @param m
+	 * @param n
+	 * @param density
+	 * @param degeneracy
+	 * @param seed
+	 * @return a program with a random sparse constraint matrix
+	 */
+	public static LinearProgram random(int m, int n, double density, double degeneracy, long seed) {
+		Random random = new Random(seed);
+		LinearProgram.Builder builder = new LinearProgram.Builder(n, m);
+
+		for (int j = 0; j < n; j++) {
+			// every column gets at least one entry, so it's bounded
+			builder.setCoefficient(random.nextInt(m), j, 1 + random.nextInt(20));
+			builder.setCost(j, 1 + random.nextInt(30));
+		}
+		for (int i = 0; i < m; i++) {
+			for (int j = 0; j < n; j++)
+				if (random.nextDouble() < density)
+					builder.setCoefficient(i, j, 1 + random.nextInt(20));
+			builder.setConstraint(i, rightHandSide(random, degeneracy), 0);
+		}
+		return builder.minimize(false).build();
+	}
+
+	/**
+	 * @param m
+	 * @param n
+	 * @param periods
+	 * @param density
+	 *            density of the blocks on the diagonal
+	 * @param degeneracy
+	 * @param seed
+	 * @return a multi-period program with a staircase constraint matrix
+	 */
+	public static LinearProgram staircase(int m, int n, int periods, double density, double degeneracy, long seed) {
+		Random random = new Random(seed);
+		LinearProgram.Builder builder = new LinearProgram.Builder(n, m);
+
+		for (int t = 0; t < periods; t++) {
+			int firstRow = t * m / periods;
+			int endRow = (t + 1) * m / periods;
+			int firstCol = t * n / periods;
+			int endCol = (t + 1) * n / periods;
+
+			for (int j = firstCol; j < endCol; j++) {
+				builder.setCoefficient(firstRow + random.nextInt(endRow - firstRow), j, 1 + random.nextInt(20));
+				builder.setCost(j, 1 + random.nextInt(30));
+			}
+			for (int i = firstRow; i < endRow; i++) {
+				for (int j = firstCol; j < endCol; j++)
+					if (random.nextDouble() < density)
+						builder.setCoefficient(i, j, 1 + random.nextInt(20));
+
+				// stock of the previous period, which loosens this row
+				if (t > 0) {
+					int previous = (t - 1) * n / periods;
+					builder.setCoefficient(i, previous + random.nextInt(firstCol - previous), -1);
+				}
+				builder.setConstraint(i, rightHandSide(random, degeneracy), 0);
+			}
+		}
+		return builder.minimize(false).build();
+	}
+
+	/**
+	 * @param sources
+	 * @param sinks
+	 * @param degeneracy
+	 *            fraction of the sinks without demand
+	 * @param seed
+	 * @return a transportation problem, whose supply exceeds the demand
+	 */
+	public static LinearProgram transport(int sources, int sinks, double degeneracy, long seed) {
+		Random random = new Random(seed);
+		LinearProgram.Builder builder = new LinearProgram.Builder(sources * sinks, sources + sinks);
+		int demand = 0;
+
+		for (int j = 0; j < sinks; j++) {
+			int quantity = (random.nextDouble() < degeneracy) ? 0 : 10 + random.nextInt(90);
+			builder.setConstraint(sources + j, quantity, 1);
+			demand += quantity;
+		}
+		// each source supplies its share of the demand and 10% more
+		for (int i = 0; i < sources; i++)
+			builder.setConstraint(i, 11 * demand / (10 * sources) + 1 + random.nextInt(20), 0);
+
+		for (int i = 0; i < sources; i++)
+			for (int j = 0; j < sinks; j++) {
+				int arc = i * sinks + j;
+				builder.setCoefficient(i, arc, 1);
+				builder.setCoefficient(sources + j, arc, 1);
+				builder.setCost(arc, 1 + random.nextInt(50));
+			}
+		return builder.minimize(true).build();
+	}
+
+	/**
+	 * @param m
+	 * @param n
+	 * @param density
+	 * @param degeneracy
+	 *            fraction of the rows that are tight at the planted point
+	 * @param seed
+	 * @return a program with rows of every type and bounded variables
+	 */
+	public static LinearProgram mixed(int m, int n, double density, double degeneracy, long seed) {
+		Random random = new Random(seed);
+		LinearProgram.Builder builder = new LinearProgram.Builder(n, m);
+		double[][] rows = new double[m][n];
+		double[] point = new double[n];
+
+		for (int j = 0; j < n; j++) {
+			double lower = (random.nextInt(4) == 0) ? -random.nextInt(20) : 0;
+			double upper = lower + 5 + random.nextInt(45);
+			builder.setBounds(j, lower, upper);
+			point[j] = lower + random.nextInt((int) (upper - lower) + 1);
+			builder.setCost(j, random.nextInt(61) - 30);
+
+			// every column gets at least one entry
+			rows[random.nextInt(m)][j] = entry(random);
+		}
+		for (int i = 0; i < m; i++) {
+			double activity = 0;
+			for (int j = 0; j < n; j++) {
+				if (random.nextDouble() < density)
+					rows[i][j] = entry(random);
+				if (rows[i][j] != 0)
+					builder.setCoefficient(i, j, rows[i][j]);
+				activity += rows[i][j] * point[j];
+			}
+
+			// half L, 30% G and 20% E rows
+			int type = random.nextInt(10);
+			type = (type < 5) ? 0 : (type < 8) ? 1 : 2;
+			double slack = (type == 2 || random.nextDouble() < degeneracy) ? 0 : 1 + random.nextInt(50);
+			builder.setConstraint(i, (type == 0) ? activity + slack : activity - slack, type);
+		}
+		return builder.minimize(true).build();
+	}
+
+	private static double entry(Random random) {
+		int value = 1 + random.nextInt(10);
+		return random.nextBoolean() ? value : -value;
+	}
+
+	private static double rightHandSide(Random random, double degeneracy) {
+		return (random.nextDouble() < degeneracy) ? 0 : 100 + random.nextInt(100);
+	}
+}
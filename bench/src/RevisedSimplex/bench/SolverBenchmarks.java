@@ -0,0 +1,305 @@
+package RevisedSimplex.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import RevisedSimplex.util.Kernels;
+import RevisedSimplex.util.LUFactorization;
+import RevisedSimplex.util.LinearProgram;
+import RevisedSimplex.util.Matrix;
+import RevisedSimplex.util.OffHeapLUFactorization;
+import RevisedSimplex.util.OffHeapSparseMatrix;
+import RevisedSimplex.util.RevisedSimplex;
+
+/**
+ * JMH microbenchmarks of the kernels of the solver, each one in isolation,
+ * and of full solves. The kernels run on a solver stopped halfway to the
+ * optimum of a generated program, right before its ratio test, so they see a
+ * realistic basis:
+ *
+ * matrixSolve          Matrix.solve() on the basis, the dense elimination
+ *                      that computed yB before the LU factorization
+ * refactor             makeB() and the LU factorization of the basis
+ * makeB                gathering the basic columns into the factorization
+ * ftran, btran         solves with the factored basis
+ * basisUpdate          a basis change of the factorization, i.e. one eta
+ * reducedCosts         calculateReducedCosts(), pricing every column
+ * leavingVariable      the ratio test
+ * iterate              solve() of the program, i.e. the whole iterate()
+ *                      loop; the solver and its factorization are allocated
+ *                      once, and the program is loaded again before every
+ *                      solve, outside of the timing. The secondary result
+ *                      iterate:iterations is the time per simplex iteration.
+ *
+ * The parameters are the structure of the generated program, random or
+ * staircase (see LpGenerator), its size, i.e. its number of constraints, the
+ * density of its constraint matrix, its degeneracy and whether the constraint
+ * matrix and the factorization are kept on the heap or off it. To build and
+ * run the benchmarks, from the root of the project:
+ *
+ * mvn install -DskipTests
+ * mvn -f bench/pom.xml package
+ * java -jar bench/target/benchmarks.jar SolverBenchmarks [JMH options]
+ *
+ * e.g. -p backing=offheap -p size=400 changes the parameters, and -rf json
+ * writes the results as JSON.
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SolverBenchmarks {
+
+	/**
+	 * The program generated for the parameters.
+	 */
+	@State(Scope.Benchmark)
+	public static class Program {
+		@Param({ LpGenerator.RANDOM, LpGenerator.STAIRCASE })
+		public String structure;
+
+		@Param({ "100", "200" })
+		public int size;
+
+		@Param({ "0.05" })
+		public double density;
+
+		@Param({ "0", "0.5" })
+		public double degeneracy;
+
+		@Param({ "heap" })
+		public String backing;
+
+		LinearProgram program;
+		boolean isOffHeap;
+
+		@Setup(Level.Trial)
+		public void generate() {
+			switch (backing) {
+			case "heap":
+				isOffHeap = false;
+				break;
+			case "offheap":
+				isOffHeap = true;
+				break;
+			default:
+				throw new IllegalArgumentException("unknown backing " + backing);
+			}
+
+			program = LpGenerator.generate(structure, size, density, degeneracy, 1);
+			if (isOffHeap)
+				program = new LinearProgram(OffHeapSparseMatrix.copyOf(program.A), program.b, program.constraintType, program.cost,
+						program.isMinimize, program.lowerBound, program.upperBound);
+		}
+
+		/**
+		 * @return a solver for the program, which isn't loaded yet
+		 */
+		RevisedSimplex newSolver() {
+			RevisedSimplex lp = new RevisedSimplex(program.numVariables, program.numConstraints);
+			if (isOffHeap)
+				lp.basisFactor = new OffHeapLUFactorization(program.numConstraints);
+			return lp;
+		}
+
+		/**
+		 * Loads the program into a new solver and stops it halfway, right
+		 * before a ratio test.
+		 *
+		 * @return the solver
+		 */
+		RevisedSimplex halfway() {
+			RevisedSimplex scratch = this.newSolver();
+			program.load(scratch);
+			scratch.solve();
+			close(scratch);
+
+			// iterate() alone may take another path than solve(), so fewer pivots
+			// are tried if the optimum comes first
+			for (int pivots = scratch.statistics.iterations / 2; pivots >= 0; pivots /= 2) {
+				RevisedSimplex lp = this.newSolver();
+				program.load(lp);
+				if (Kernels.prepare(lp, pivots))
+					return lp;
+				close(lp);
+				if (pivots == 0)
+					break;
+			}
+			throw new IllegalStateException("the " + structure + " program of size " + size + " is solved before its first ratio test");
+		}
+	}
+
+	/**
+	 * A solver stopped halfway, for the kernels.
+	 */
+	@State(Scope.Thread)
+	public static class Halfway {
+		RevisedSimplex lp;
+		double[] result;
+
+		// the leaving row of the ratio test, replaced by basisUpdate
+		int row;
+
+		@Setup(Level.Trial)
+		public void prepare(Program program) {
+			lp = program.halfway();
+			result = new double[lp.numConstraints];
+			row = Math.max(0, Kernels.leavingVariable(lp));
+		}
+
+		@TearDown(Level.Trial)
+		public void close() {
+			SolverBenchmarks.close(lp);
+		}
+	}
+
+	/**
+	 * The basis of a solver stopped halfway as a dense matrix, for the
+	 * elimination of Matrix.
+	 */
+	@State(Scope.Thread)
+	public static class DenseBasis {
+		double[][] basis;
+		Matrix matrix;
+		double[] column;
+		double[] rhs;
+		double[] result;
+
+		@Setup(Level.Trial)
+		public void prepare(Program program) {
+			RevisedSimplex lp = program.halfway();
+			int m = lp.numConstraints;
+			basis = new double[m][m];
+			for (int i = 0; i < m; i++)
+				for (int j = 0; j < m; j++)
+					basis[i][j] = lp.coefficient(i, lp.BasicVariables[j]);
+			matrix = new Matrix(m);
+			column = lp.colOfA.clone();
+			rhs = new double[m];
+			result = new double[m];
+			close(lp);
+		}
+	}
+
+	/**
+	 * A solver loaded with the program, for full solves.
+	 */
+	@State(Scope.Thread)
+	public static class Loaded {
+		LinearProgram program;
+		RevisedSimplex lp;
+
+		@Setup(Level.Trial)
+		public void allocate(Program program) {
+			this.program = program.program;
+			lp = program.newSolver();
+		}
+
+		@Setup(Level.Invocation)
+		public void load() {
+			program.load(lp);
+		}
+
+		@TearDown(Level.Trial)
+		public void close() {
+			SolverBenchmarks.close(lp);
+		}
+	}
+
+	/**
+	 * Simplex iterations of the solves, which JMH reports as a secondary
+	 * result, per iteration.
+	 */
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	@State(Scope.Thread)
+	public static class Iterations {
+		public long iterations;
+
+		@Setup(Level.Iteration)
+		public void clear() {
+			iterations = 0;
+		}
+	}
+
+	@Benchmark
+	public double matrixSolve(DenseBasis state) {
+		// solve() eliminates in place, so it gets a fresh copy
+		for (int i = 0; i < state.basis.length; i++)
+			System.arraycopy(state.basis[i], 0, state.matrix.A[i], 0, state.basis.length);
+		System.arraycopy(state.column, 0, state.rhs, 0, state.column.length);
+		state.matrix.solve(state.result, state.rhs);
+		return state.result[0];
+	}
+
+	@Benchmark
+	public boolean refactor(Halfway state) {
+		Kernels.refactor(state.lp);
+		return state.lp.basisFactor.isSingular();
+	}
+
+	@Benchmark
+	public void makeB(Halfway state) {
+		Kernels.makeB(state.lp);
+	}
+
+	@Benchmark
+	public double ftran(Halfway state) {
+		state.lp.basisFactor.ftran(state.result, state.lp.colOfA);
+		return state.result[0];
+	}
+
+	@Benchmark
+	public double btran(Halfway state) {
+		state.lp.basisFactor.btran(state.result, state.lp.costOfBasicVars);
+		return state.result[0];
+	}
+
+	@Benchmark
+	public int basisUpdate(Halfway state) {
+		// the same eta over and over, until the eta file is full
+		LUFactorization factor = (LUFactorization) state.lp.basisFactor;
+		if (factor.needsRefactor())
+			Kernels.clearEtaFile(factor);
+		factor.update(state.row, state.lp.yB);
+		return factor.numUpdates;
+	}
+
+	@Benchmark
+	public double reducedCosts(Halfway state) {
+		Kernels.calculateReducedCosts(state.lp);
+		return state.lp.reducedCost[0];
+	}
+
+	@Benchmark
+	public int leavingVariable(Halfway state) {
+		return Kernels.leavingVariable(state.lp);
+	}
+
+	@Benchmark
+	public double iterate(Loaded state, Iterations counters) {
+		state.lp.solve();
+		counters.iterations += state.lp.statistics.iterations;
+		return state.lp.objectiveValue;
+	}
+
+	private static void close(RevisedSimplex lp) {
+		if (lp.basisFactor instanceof OffHeapLUFactorization)
+			((OffHeapLUFactorization) lp.basisFactor).close();
+	}
+}
@@ -0,0 +1,85 @@
+package RevisedSimplex.util;
+
+/**
+ * Access to the kernels of the solver that aren't public, for the
+ * benchmarks. It lives in the package of the solver, but in the build of the
+ * benchmarks, so it isn't part of the solver itself, and calls the
+ * package-private members directly.
+ *
+ */
+public final class Kernels {
+	private Kernels() {
+	}
+
+	/**
+	 * Makes the given number of pivots, then goes on step by step up to the
+	 * ratio test, so that the factorization, pi, the reduced costs, the
+	 * entering variable and yB are all those of an actual iteration.
+	 *
+	 * @param lp
+	 *            a solver that has just been initialized
+	 * @param pivots
+	 * @return false if the solver stopped, optimal or unbounded, before that
+	 */
+	public static boolean prepare(RevisedSimplex lp, int pivots) {
+		for (int k = 0; k < pivots; k++)
+			if (lp.iterate() != 0)
+				return false;
+
+		lp.currentStep = 0;
+		while (lp.currentStep != 6)
+			if (lp.iterateOneStep() != 0)
+				return false;
+		return true;
+	}
+
+	/**
+	 * Computes every reduced cost from pi, as if they weren't current.
+	 *
+	 * @param lp
+	 */
+	public static void calculateReducedCosts(RevisedSimplex lp) {
+		lp.reducedCostsCurrent = false;
+		lp.calculateReducedCosts();
+	}
+
+	/**
+	 * The ratio test, which chooses the leaving variable from yB.
+	 *
+	 * @param lp
+	 * @return the row of the leaving variable, -1 for a bound flip
+	 */
+	public static int leavingVariable(RevisedSimplex lp) {
+		lp.leavingVariable();
+		return lp.leavingVar;
+	}
+
+	/**
+	 * Gives the basic columns to the factorization, without factoring them.
+	 *
+	 * @param lp
+	 */
+	public static void makeB(RevisedSimplex lp) {
+		lp.makeB();
+	}
+
+	/**
+	 * Builds and factors the basis matrix from scratch.
+	 *
+	 * @param lp
+	 */
+	public static void refactor(RevisedSimplex lp) {
+		lp.makeB();
+		lp.basisFactor.factor();
+	}
+
+	/**
+	 * Drops the updates of the factorization, so that more can be made
+	 * without factoring the basis again. The factors themselves are kept.
+	 *
+	 * @param factor
+	 */
+	public static void clearEtaFile(LUFactorization factor) {
+		factor.clearEtaFile();
+	}
+}
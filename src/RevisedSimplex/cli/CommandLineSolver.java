@@ -0,0 +1,271 @@
+package RevisedSimplex.cli;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+import RevisedSimplex.io.BinaryModel;
+import RevisedSimplex.io.LpReader;
+import RevisedSimplex.io.MpsReader;
+import RevisedSimplex.util.DantzigPricing;
+import RevisedSimplex.util.DevexPricing;
+import RevisedSimplex.util.LinearProgram;
+import RevisedSimplex.util.MultiplePricing;
+import RevisedSimplex.util.OffHeapLUFactorization;
+import RevisedSimplex.util.OffHeapSparseMatrix;
+import RevisedSimplex.util.PartialPricing;
+import RevisedSimplex.util.PricingStrategy;
+import RevisedSimplex.util.RevisedSimplex;
+import RevisedSimplex.util.Scaling;
+import RevisedSimplex.util.SteepestEdgePricing;
+
+/**
+ * Solves a linear program from a file without the GUI, and prints the status,
+ * the objective value, the solution and the time taken. Usage:
+ *
+ * java RevisedSimplex.cli.CommandLineSolver [options] model.mps
+ *
+ * Files ending in .lp or .lp.gz are read as LP files, files ending in .rslp are
+ * mapped as binary models, any other is read as an MPS file. Files ending in
+ * .gz are decompressed while they're read. The options are:
+ *
+ * --fixed              the MPS file is in fixed format, free by default
+ * --save FILE          write the model to FILE as a binary model, which is
+ *                      much faster to open than the text formats
+ * --pricing RULE       dantzig, partial, multiple, devex or steepest
+ * --scaling METHOD     geometric or equilibration, none by default
+ * --off-heap           keep the constraint matrix and the factors of the basis
+ *                      outside of the heap, which is slower, but spares the
+ *                      garbage collector on very large models
+ * --no-solution        don't print the values of the variables
+ *
+ */
+public class CommandLineSolver {
+	private boolean fixedFormat = false;
+	private String pricing = "dantzig";
+	private String scaling = null;
+	private boolean offHeap = false;
+	private boolean printSolution = true;
+	private String fileName = null;
+	private String saveFileName = null;
+
+	public static void main(String[] args) {
+		CommandLineSolver cli = new CommandLineSolver();
+		try {
+			cli.parseArguments(args);
+		} catch (IllegalArgumentException e) {
+			System.err.println("Error: " + e.getMessage());
+			System.err.println("Usage: java RevisedSimplex.cli.CommandLineSolver [--fixed] [--save FILE] [--pricing RULE] [--scaling METHOD] [--off-heap] [--no-solution] model.mps|model.lp|model.rslp");
+			System.exit(2);
+		}
+
+		try {
+			System.exit(cli.run());
+		} catch (IOException e) {
+			System.err.println("Error reading " + cli.fileName + ": " + e.getMessage());
+		} catch (IllegalArgumentException e) {
+			// e.g. a lower bound above the upper one
+			System.err.println("Error: " + e.getMessage());
+		}
+		System.exit(2);
+	}
+
+	private void parseArguments(String[] args) {
+		for (int i = 0; i < args.length; i++)
+			switch (args[i]) {
+			case "--fixed":
+				fixedFormat = true;
+				break;
+			case "--pricing":
+				if (++i == args.length)
+					throw new IllegalArgumentException("--pricing needs a rule");
+				pricing = args[i];
+				break;
+			case "--scaling":
+				if (++i == args.length)
+					throw new IllegalArgumentException("--scaling needs a method");
+				scaling = args[i];
+				break;
+			case "--save":
+				if (++i == args.length)
+					throw new IllegalArgumentException("--save needs a file name");
+				saveFileName = args[i];
+				break;
+			case "--off-heap":
+				offHeap = true;
+				break;
+			case "--no-solution":
+				printSolution = false;
+				break;
+			default:
+				if (args[i].startsWith("--") || fileName != null)
+					throw new IllegalArgumentException("unexpected argument " + args[i]);
+				fileName = args[i];
+			}
+		if (fileName == null)
+			throw new IllegalArgumentException("no model file given");
+	}
+
+	/**
+	 * Reads, solves and prints the model.
+	 *
+	 * @return the exit code, 0 if the model was solved to optimality
+	 * @throws IOException
+	 */
+	private int run() throws IOException {
+		LinearProgram program;
+		String name = fileName;
+		String[] columnNames;
+		double objectiveConstant;
+		int numIntegerColumns;
+
+		long start = System.nanoTime();
+		if (isBinaryFile(fileName)) {
+			BinaryModel model = new BinaryModel();
+			program = model.map(fileName);
+			columnNames = new String[program.numVariables];
+			for (int j = 0; j < columnNames.length; j++)
+				columnNames[j] = "X" + j;
+			objectiveConstant = model.objectiveConstant;
+			numIntegerColumns = 0;
+		} else
+			try (InputStream in = open(fileName)) {
+				if (isLpFile(fileName)) {
+					LpReader reader = new LpReader();
+					program = reader.read(in);
+					columnNames = reader.columnNames;
+					objectiveConstant = reader.objectiveConstant;
+					numIntegerColumns = reader.numIntegerColumns;
+				} else {
+					MpsReader reader = new MpsReader();
+					reader.fixedFormat = fixedFormat;
+					program = reader.read(in);
+					if (!reader.name.isEmpty())
+						name = reader.name;
+					columnNames = reader.columnNames;
+					objectiveConstant = reader.objectiveConstant;
+					numIntegerColumns = reader.numIntegerColumns;
+				}
+			}
+		long readTime = System.nanoTime() - start;
+
+		if (saveFileName != null) {
+			BinaryModel.write(program, objectiveConstant, saveFileName);
+			System.out.println("Saved as " + saveFileName);
+		}
+
+		System.out.printf("Model %s: %d rows, %d columns, %d nonzeros, read in %.3f ms%n", name, program.numConstraints, program.numVariables,
+				program.A.nonZeros(), readTime / 1e6);
+		if (numIntegerColumns > 0)
+			System.out.printf("%d integer columns are solved as continuous%n", numIntegerColumns);
+
+		RevisedSimplex solver = new RevisedSimplex(program.numVariables, program.numConstraints);
+		if (offHeap) {
+			// a mapped model is off the heap already
+			if (!(program.A instanceof OffHeapSparseMatrix))
+				program = new LinearProgram(OffHeapSparseMatrix.copyOf(program.A), program.b, program.constraintType, program.cost,
+						program.isMinimize, program.lowerBound, program.upperBound);
+			solver.basisFactor = new OffHeapLUFactorization(program.numConstraints);
+		}
+		solver.pricing = pricingRule(pricing);
+		if (scaling != null)
+			solver.scaling = new Scaling(scalingMethod(scaling));
+
+		start = System.nanoTime();
+		program.load(solver);
+		long setupTime = System.nanoTime() - start;
+
+		// phase 1, elimination of the artificial variables and phase 2
+		int status = solver.solve();
+		if (solver.basisFactor instanceof OffHeapLUFactorization)
+			((OffHeapLUFactorization) solver.basisFactor).close();
+
+		switch (status) {
+		case RevisedSimplex.OPTIMAL:
+			System.out.println("Status: optimal");
+			System.out.printf("Objective: %.10g%n", solver.objectiveValue + objectiveConstant);
+			break;
+		case RevisedSimplex.INFEASIBLE:
+			System.out.println("Status: infeasible");
+			break;
+		case RevisedSimplex.UNBOUNDED:
+			System.out.println("Status: unbounded");
+			break;
+		}
+		System.out.printf("Setup: %.3f ms%n", setupTime / 1e6);
+		System.out.println("Solve: " + solver.statistics);
+
+		if (status == RevisedSimplex.OPTIMAL && printSolution) {
+			double[] solution = solver.primalSolution();
+			System.out.println("Solution (nonzero values):");
+			for (int j = 0; j < solution.length; j++)
+				if (solution[j] != 0)
+					System.out.printf("  %-16s %.10g%n", columnNames[j], solution[j]);
+		}
+		return (status == RevisedSimplex.OPTIMAL) ? 0 : 1;
+	}
+
+	/**
+	 * @param name
+	 * @return whether the file is read as an LP file
+	 */
+	static boolean isLpFile(String name) {
+		String lower = name.toLowerCase();
+		return lower.endsWith(".lp") || lower.endsWith(".lp.gz");
+	}
+
+	/**
+	 * @param name
+	 * @return whether the file is mapped as a binary model
+	 */
+	static boolean isBinaryFile(String name) {
+		return name.toLowerCase().endsWith(".rslp");
+	}
+
+	/**
+	 * @param name
+	 * @return a stream over the file, decompressed if its name ends in .gz
+	 * @throws IOException
+	 */
+	static InputStream open(String name) throws IOException {
+		InputStream in = new FileInputStream(name);
+		return name.endsWith(".gz") ? new GZIPInputStream(in, 1 << 16) : in;
+	}
+
+	/**
+	 * @param name
+	 * @return a new instance of the pricing rule with the given name
+	 */
+	static PricingStrategy pricingRule(String name) {
+		switch (name) {
+		case "dantzig":
+			return new DantzigPricing();
+		case "partial":
+			return new PartialPricing();
+		case "multiple":
+			return new MultiplePricing();
+		case "devex":
+			return new DevexPricing();
+		case "steepest":
+			return new SteepestEdgePricing();
+		default:
+			throw new IllegalArgumentException("unknown pricing rule " + name);
+		}
+	}
+
+	/**
+	 * @param name
+	 * @return the scaling method with the given name
+	 */
+	static int scalingMethod(String name) {
+		switch (name) {
+		case "geometric":
+			return Scaling.GEOMETRIC_MEAN;
+		case "equilibration":
+			return Scaling.EQUILIBRATION;
+		default:
+			throw new IllegalArgumentException("unknown scaling method " + name);
+		}
+	}
+}
@@ -116,7 +116,7 @@ public class RevisedSimplexGUI extends Application{
 		GridPane constraintMatrix = new GridPane();
 		for(int i = 0; i < revisedSimplex.numConstraints; ++i){
 			for(int j = 0; j < revisedSimplex.numVariables; ++j){
-				constraintMatrix.add(new Label("" + revisedSimplex.A[i][j] + "\t"), j, i);
+				constraintMatrix.add(new Label("" + revisedSimplex.coefficient(i, j) + "\t"), j, i);
 			}
 		}
 		constraintMatrixBox.getChildren().addAll(constraintLabel, constraintMatrix);
@@ -270,7 +270,7 @@ public class RevisedSimplexGUI extends Application{
 				case 1:
 					for(int i = 0; i < revisedSimplex.numConstraints; ++i){
 						for(int j = 0; j < revisedSimplex.numConstraints; ++j){
-							((Label)getNodeByCoordinate(bMatrix, i, j)).setText("" + revisedSimplex.A[j][revisedSimplex.BasicVariables[i]] + "\t");
+							((Label)getNodeByCoordinate(bMatrix, i, j)).setText("" + revisedSimplex.coefficient(j, revisedSimplex.BasicVariables[i]) + "\t");
 						}
 					}
 					messageBox.getChildren().add(new Label("Updated the B Matrix."));
@@ -518,7 +518,7 @@ public class RevisedSimplexGUI extends Application{
 		
 		for(int i = 0; i < revisedSimplex.numConstraints; ++i){
 			for(int j = 0; j < revisedSimplex.numConstraints; ++j){
-				((Label)getNodeByCoordinate(bMatrix, i, j)).setText("" + revisedSimplex.A[j][revisedSimplex.BasicVariables[i]] + "\t");
+				((Label)getNodeByCoordinate(bMatrix, i, j)).setText("" + revisedSimplex.coefficient(j, revisedSimplex.BasicVariables[i]) + "\t");
 			}
 		}
 		
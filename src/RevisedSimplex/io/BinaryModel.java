@@ -0,0 +1,196 @@
+package RevisedSimplex.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import RevisedSimplex.util.LinearProgram;
+import RevisedSimplex.util.OffHeapSparseMatrix;
+import RevisedSimplex.util.SparseMatrix;
+
+/**
+ * Compact binary format for linear programs, which is opened by mapping the
+ * file into memory instead of parsing it. The constraint matrix is used in
+ * place, straight from the mapped file: it's never copied into the heap, and
+ * its pages are only read once the solver touches them. Only the vectors of
+ * length numRows or numCols are copied.
+ *
+ * Everything is little-endian. The file starts with a header of 64 bytes,
+ *
+ *   0  int     magic number, the bytes "RSLP"
+ *   4  int     version of the format
+ *   8  int     number of rows m
+ *  12  int     number of columns n
+ *  16  long    number of nonzeros nnz
+ *  24  int     flags, 1 if the objective is minimized
+ *  32  double  constant term of the objective
+ *
+ * and the rest of it is zero. The arrays follow the header, the doubles first
+ * so that every array is aligned to its size: b[m], cost[n], lowerBound[n],
+ * upperBound[n], values[nnz], constraintType[m], colStart[n + 1] and
+ * rowIndex[nnz], where the matrix is stored column-wise as in SparseMatrix.
+ * Infinite bounds are stored as infinities.
+ *
+ * A file is written with write(), from a program read from any other format,
+ * and opened with map(); such files end in .rslp by convention. Each array is
+ * mapped on its own, so it can't be larger than 2 GB, i.e. there may be up to
+ * about 268 million nonzeros.
+ *
+ */
+public class BinaryModel {
+	public static final int MAGIC = 'R' | 'S' << 8 | 'L' << 16 | 'P' << 24;
+	public static final int VERSION = 1;
+	public static final int HEADER_SIZE = 64;
+
+	private static final int MINIMIZE = 1;
+
+	/*
+	 * Data of the last file mapped, besides the program itself.
+	 */
+	public double objectiveConstant = 0;
+
+	/**
+	 * Maps the file and creates the program on top of it. The file may be
+	 * closed, moved or deleted afterwards, but it must not be changed while
+	 * the program is in use.
+	 *
+	 * @param fileName
+	 * @return the program, whose constraint matrix lives in the mapped file
+	 * @throws IOException
+	 *             if the file isn't a binary model or is damaged
+	 */
+	public LinearProgram map(String fileName) throws IOException {
+		try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+			if (channel.size() < HEADER_SIZE)
+				throw new IOException("not a binary model, the file is too short");
+			ByteBuffer header = map(channel, 0, HEADER_SIZE);
+
+			if (header.getInt(0) != MAGIC)
+				throw new IOException("not a binary model");
+			if (header.getInt(4) != VERSION)
+				throw new IOException("version " + header.getInt(4) + " of the format is not supported");
+			int m = header.getInt(8);
+			int n = header.getInt(12);
+			long nnz = header.getLong(16);
+			boolean isMinimize = (header.getInt(24) & MINIMIZE) != 0;
+			objectiveConstant = header.getDouble(32);
+
+			if (m < 0 || n < 0 || nnz < 0 || m > Integer.MAX_VALUE / 8 || n >= Integer.MAX_VALUE / 8 || nnz > Integer.MAX_VALUE / 8)
+				throw new IOException("unsupported size " + m + " x " + n + " with " + nnz + " nonzeros");
+			long expected = HEADER_SIZE + 8L * (m + 3L * n + nnz) + 4L * (m + n + 1 + nnz);
+			if (channel.size() != expected)
+				throw new IOException("damaged binary model, " + channel.size() + " bytes instead of " + expected);
+
+			long position = HEADER_SIZE;
+			double[] b = new double[m];
+			map(channel, position, 8 * m).asDoubleBuffer().get(b);
+			position += 8L * m;
+			double[] cost = new double[n];
+			map(channel, position, 8 * n).asDoubleBuffer().get(cost);
+			position += 8L * n;
+			double[] lowerBound = new double[n];
+			map(channel, position, 8 * n).asDoubleBuffer().get(lowerBound);
+			position += 8L * n;
+			double[] upperBound = new double[n];
+			map(channel, position, 8 * n).asDoubleBuffer().get(upperBound);
+			position += 8L * n;
+			DoubleBuffer values = map(channel, position, 8 * (int) nnz).asDoubleBuffer();
+			position += 8 * nnz;
+			int[] constraintType = new int[m];
+			map(channel, position, 4 * m).asIntBuffer().get(constraintType);
+			position += 4L * m;
+			IntBuffer colStart = map(channel, position, 4 * (n + 1)).asIntBuffer();
+			position += 4L * (n + 1);
+			IntBuffer rowIndex = map(channel, position, 4 * (int) nnz).asIntBuffer();
+
+			// the column starts are cheap to check, the row indices would
+			// have to be read in full
+			if (colStart.get(0) != 0 || colStart.get(n) != nnz)
+				throw new IOException("damaged binary model, the columns don't hold " + nnz + " nonzeros");
+			for (int j = 0; j < n; j++)
+				if (colStart.get(j + 1) < colStart.get(j))
+					throw new IOException("damaged binary model, column " + j + " ends before it starts");
+			for (int i = 0; i < m; i++)
+				if (constraintType[i] < 0 || constraintType[i] > 2)
+					throw new IOException("damaged binary model, row " + i + " has type " + constraintType[i]);
+
+			SparseMatrix A = new OffHeapSparseMatrix(m, n, colStart, rowIndex, values);
+			return new LinearProgram(A, b, constraintType, cost, isMinimize, lowerBound, upperBound);
+		}
+	}
+
+	/**
+	 * Writes the program in the binary format.
+	 *
+	 * @param program
+	 * @param objectiveConstant
+	 *            constant term of the objective, as read by the other readers
+	 * @param fileName
+	 * @throws IOException
+	 */
+	public static void write(LinearProgram program, double objectiveConstant, String fileName) throws IOException {
+		SparseMatrix A = program.A;
+		int m = program.numConstraints;
+		int n = program.numVariables;
+		int nnz = A.nonZeros();
+
+		try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+
+			buffer.putInt(MAGIC).putInt(VERSION).putInt(m).putInt(n).putLong(nnz);
+			buffer.putInt(program.isMinimize ? MINIMIZE : 0).putInt(0).putDouble(objectiveConstant);
+			while (buffer.position() < HEADER_SIZE)
+				buffer.put((byte) 0);
+
+			for (double value : program.b)
+				buffer = putDouble(channel, buffer, value);
+			for (double value : program.cost)
+				buffer = putDouble(channel, buffer, value);
+			for (double value : program.lowerBound)
+				buffer = putDouble(channel, buffer, value);
+			for (double value : program.upperBound)
+				buffer = putDouble(channel, buffer, value);
+			for (int k = 0; k < nnz; k++)
+				buffer = putDouble(channel, buffer, A.valueAt(k));
+			for (int type : program.constraintType)
+				buffer = putInt(channel, buffer, type);
+			for (int j = 0; j <= n; j++)
+				buffer = putInt(channel, buffer, A.columnStart(j));
+			for (int k = 0; k < nnz; k++)
+				buffer = putInt(channel, buffer, A.rowAt(k));
+
+			flush(channel, buffer);
+		}
+	}
+
+	private static ByteBuffer map(FileChannel channel, long position, int size) throws IOException {
+		MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+		return buffer.order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	private static ByteBuffer putDouble(FileChannel channel, ByteBuffer buffer, double value) throws IOException {
+		if (buffer.remaining() < 8)
+			flush(channel, buffer);
+		return buffer.putDouble(value);
+	}
+
+	private static ByteBuffer putInt(FileChannel channel, ByteBuffer buffer, int value) throws IOException {
+		if (buffer.remaining() < 4)
+			flush(channel, buffer);
+		return buffer.putInt(value);
+	}
+
+	private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining())
+			channel.write(buffer);
+		buffer.clear();
+	}
+}
@@ -0,0 +1,850 @@
+package RevisedSimplex.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import RevisedSimplex.util.LinearProgram;
+import RevisedSimplex.util.SparseMatrix;
+
+/**
+ * Reader for linear programs in LP text format. Two dialects are understood:
+ *
+ * - the CPLEX one, with sections that start with a keyword,
+ *
+ *   Maximize
+ *    obj: 3 x + 2 y
+ *   Subject To
+ *    c1: x + y <= 4
+ *   Bounds
+ *    -inf <= y <= 10
+ *   End
+ *
+ * - the lp_solve one, with statements that end with a semicolon,
+ *
+ *   max: 3x + 2y;
+ *   c1: x + y <= 4;
+ *   y <= 10;
+ *
+ * The dialect is told from the first statement: "max:" or "min:" start an
+ * lp_solve file, as does an objective without any keyword. In the lp_solve
+ * dialect, a relation without a name between one variable and a constant is a
+ * bound, as it is in the Bounds section of a CPLEX file. Both sides of a
+ * relation may hold terms and constants, and a constraint may have two
+ * relations, as in -5 <= x + y <= 10, which makes it a ranged one. A ranged
+ * constraint becomes two constraints, a G one and an L one. Integer
+ * declarations are accepted, but the solver only solves the continuous
+ * relaxation.
+ *
+ * The text is read in blocks and split into tokens as it goes. Coefficients go
+ * straight into the sparse storage of the constraint matrix, and every
+ * variable name is turned into a String only once, the first time it's seen.
+ *
+ */
+public class LpReader {
+	public static final double INFINITY = 1e30;
+
+	private static final int LE = 0;
+	private static final int GE = 1;
+	private static final int EQ = 2;
+
+	// sections of a CPLEX file
+	private static final int CONSTRAINTS = 0;
+	private static final int BOUNDS = 1;
+	private static final int INTEGERS = 2;
+	private static final int BINARIES = 3;
+	private static final int END = 4;
+
+	/*
+	 * Data of the last file read, besides the program itself.
+	 */
+	public String[] rowNames;
+	public String[] columnNames;
+	public double objectiveConstant = 0;
+	public int numIntegerColumns = 0;
+
+	private Reader in;
+	private char[] buffer = new char[1 << 16];
+	private int position;
+	private int limit;
+	private int tokenStart = -1; // kept in the buffer while it's refilled
+	private int tokenLength;
+	private int tokenLine;
+	private int lineNumber;
+	private int statementLine; // where the statement being read starts
+
+	private boolean semicolons; // lp_solve dialect
+
+	private NameTable columns;
+	private ArrayList<String> rows;
+	private HashSet<String> labels; // names given to constraints in the file
+	private SparseMatrix.Builder entries;
+	private int[] type;
+	private double[] b;
+	private double[] cost;
+	private double[] lowerBound;
+	private double[] upperBound;
+	private boolean[] isInteger;
+	private boolean isMinimize;
+
+	/*
+	 * Terms of the statement being read. Side s holds the terms from
+	 * sideStart[s] to sideStart[s + 1] - 1 and the constant sideConstant[s];
+	 * relation[s] is found between side s and side s + 1.
+	 */
+	private int[] termVariable = new int[16];
+	private double[] termCoefficient = new double[16];
+	private int numTerms;
+	private int[] sideStart = new int[4];
+	private double[] sideConstant = new double[3];
+	private int[] relation = new int[2];
+	private int numSides;
+
+	/**
+	 * Reads a program from the stream, which is not closed.
+	 *
+	 * @param in
+	 * @return the program
+	 * @throws IOException
+	 *             if the stream can't be read or isn't valid LP format
+	 */
+	public LinearProgram read(InputStream in) throws IOException {
+		return this.read(new InputStreamReader(in, StandardCharsets.US_ASCII));
+	}
+
+	/**
+	 * Reads a program from the reader, which is not closed.
+	 *
+	 * @param in
+	 * @return the program
+	 * @throws IOException
+	 *             if the reader fails or the text isn't valid LP format
+	 */
+	public LinearProgram read(Reader in) throws IOException {
+		this.in = in;
+		position = 0;
+		limit = 0;
+		tokenStart = -1;
+		lineNumber = 1;
+		objectiveConstant = 0;
+		numIntegerColumns = 0;
+		columns = new NameTable();
+		rows = new ArrayList<String>();
+		labels = new HashSet<String>();
+		entries = new SparseMatrix.Builder();
+		type = new int[16];
+		b = new double[16];
+		cost = new double[16];
+		lowerBound = new double[16];
+		upperBound = new double[16];
+		Arrays.fill(upperBound, Double.POSITIVE_INFINITY);
+		isInteger = new boolean[16];
+		isMinimize = true;
+
+		this.objective();
+		if (semicolons)
+			this.statements();
+		else
+			this.sections();
+
+		int numColumns = columns.size();
+		for (int j = 0; j < numColumns; j++)
+			if (isInteger[j])
+				numIntegerColumns++;
+		rowNames = rows.toArray(new String[rows.size()]);
+		columnNames = columns.toArray();
+		SparseMatrix A = entries.build(rows.size(), numColumns);
+		entries = null;
+
+		return new LinearProgram(A, Arrays.copyOf(b, rows.size()), Arrays.copyOf(type, rows.size()), Arrays.copyOf(cost, numColumns),
+				isMinimize, Arrays.copyOf(lowerBound, numColumns), Arrays.copyOf(upperBound, numColumns));
+	}
+
+	/**
+	 * Reads the objective, and tells the dialect from it.
+	 *
+	 * @throws IOException
+	 */
+	private void objective() throws IOException {
+		semicolons = true;
+		if (isNameStart(this.next())) {
+			this.readName();
+			boolean isSense = true;
+			if (this.nameIs("max", "maximize", "maximise", "maximum"))
+				isMinimize = false;
+			else if (this.nameIs("min", "minimize", "minimise", "minimum"))
+				isMinimize = true;
+			else
+				isSense = false;
+
+			if (!isSense)
+				this.unread();
+			else if (this.next() == ':')
+				position++;
+			else
+				semicolons = false;
+		}
+
+		if (!semicolons && isNameStart(this.next())) { // objective name
+			this.readName();
+			if (this.next() == ':')
+				position++;
+			else
+				this.unread();
+		}
+
+		this.parseStatement();
+		if (numSides > 1)
+			throw this.error("the objective can't have a relation");
+		for (int k = 0; k < numTerms; k++)
+			cost[termVariable[k]] += termCoefficient[k];
+		objectiveConstant = sideConstant[0];
+	}
+
+	/**
+	 * Reads the statements of an lp_solve file that follow the objective.
+	 *
+	 * @throws IOException
+	 */
+	private void statements() throws IOException {
+		while (this.next() != -1) {
+			String label = null;
+			statementLine = lineNumber;
+
+			if (isNameStart(this.next())) {
+				this.readName();
+				int c = this.next();
+				if (c == ':') {
+					label = this.tokenString();
+					position++;
+				} else if (this.nameIs("int", "bin", "free", "sec", "sin") && (isNameStart(c) || c == ';')) {
+					this.declaration();
+					continue;
+				} else
+					this.unread();
+			}
+
+			this.parseStatement();
+			this.relation(label, label == null);
+		}
+	}
+
+	/**
+	 * Reads an lp_solve declaration, "int" followed by variable names for
+	 * example.
+	 *
+	 * @throws IOException
+	 */
+	private void declaration() throws IOException {
+		boolean isBinary = this.nameIs("bin");
+		boolean isFree = this.nameIs("free");
+		if (this.nameIs("sec", "sin"))
+			throw this.error("semi-continuous variables are not supported");
+
+		while (this.next() != ';') {
+			if (this.next() == ',') {
+				position++;
+				continue;
+			}
+			if (!isNameStart(this.next()))
+				throw this.error("variable name expected");
+			this.readName();
+			int j = this.column();
+			if (isFree) {
+				lowerBound[j] = Double.NEGATIVE_INFINITY;
+				upperBound[j] = Double.POSITIVE_INFINITY;
+			} else {
+				isInteger[j] = true;
+				if (isBinary) {
+					lowerBound[j] = 0;
+					upperBound[j] = 1;
+				}
+			}
+		}
+		position++;
+	}
+
+	/**
+	 * Reads the sections of a CPLEX file that follow the objective.
+	 *
+	 * @throws IOException
+	 */
+	private void sections() throws IOException {
+		int section = -1;
+
+		while (this.next() != -1) {
+			String label = null;
+			statementLine = lineNumber;
+
+			if (isNameStart(this.next())) {
+				this.readName();
+				int keyword = this.keyword();
+				if (keyword == END)
+					return;
+				if (keyword >= 0) {
+					section = keyword;
+					continue;
+				}
+				if (section == INTEGERS || section == BINARIES) {
+					int j = this.column();
+					isInteger[j] = true;
+					if (section == BINARIES) {
+						lowerBound[j] = 0;
+						upperBound[j] = 1;
+					}
+					continue;
+				}
+				if (section == CONSTRAINTS && this.next() == ':') {
+					label = this.tokenString();
+					position++;
+				} else
+					this.unread();
+			}
+
+			if (section == CONSTRAINTS) {
+				this.parseStatement();
+				this.relation(label, false);
+			} else if (section == BOUNDS) {
+				this.parseStatement();
+				if (numSides == 1 && isNameStart(this.next())) {
+					this.readName();
+					if (!this.nameIs("free"))
+						throw this.error("relation expected");
+					int j = this.boundVariable();
+					lowerBound[j] = Double.NEGATIVE_INFINITY;
+					upperBound[j] = Double.POSITIVE_INFINITY;
+				} else
+					this.relation(null, true);
+			} else
+				throw this.error("section keyword expected");
+		}
+	}
+
+	/**
+	 * Tells whether the name just read is a section keyword of a CPLEX file,
+	 * and reads the second word of "subject to" and "such that".
+	 *
+	 * @return the section, END, or -1 if it's not a keyword
+	 * @throws IOException
+	 */
+	private int keyword() throws IOException {
+		if (this.nameIs("subject", "such")) {
+			if (isNameStart(this.next())) {
+				this.readName();
+				if (this.nameIs("to", "that"))
+					return CONSTRAINTS;
+			}
+			throw this.error("subject to expected");
+		}
+		if (this.nameIs("st", "s.t.", "st."))
+			return CONSTRAINTS;
+		if (this.nameIs("bounds", "bound"))
+			return BOUNDS;
+		if (this.nameIs("general", "generals", "gen", "integer", "integers"))
+			return INTEGERS;
+		if (this.nameIs("binary", "binaries", "bin"))
+			return BINARIES;
+		if (this.nameIs("end"))
+			return END;
+		if (this.nameIs("semi-continuous", "semis", "semi", "sos"))
+			throw this.error(this.tokenString() + " sections are not supported");
+		return -1;
+	}
+
+	/**
+	 * Tells whether the name just read starts a section of a CPLEX file,
+	 * without reading any further.
+	 *
+	 * @return true for a section keyword
+	 */
+	private boolean isKeyword() {
+		return this.nameIs("subject", "such", "st", "s.t.", "st.", "bounds", "bound", "general", "generals", "gen", "integer", "integers",
+				"binary", "binaries", "bin", "end", "semi-continuous", "semis", "semi", "sos");
+	}
+
+	/**
+	 * Turns the statement just read into a constraint, or into bounds.
+	 *
+	 * @param label
+	 *            name of the constraint, null if it has none
+	 * @param mayBeBound
+	 *            true if a relation between a single variable and constants
+	 *            is a bound
+	 * @throws IOException
+	 */
+	private void relation(String label, boolean mayBeBound) throws IOException {
+		double lower;
+		double upper;
+
+		if (numSides == 1)
+			throw this.error("relation expected");
+
+		if (numSides == 2) {
+			// terms to the left, constants to the right
+			for (int k = sideStart[1]; k < numTerms; k++)
+				termCoefficient[k] = -termCoefficient[k];
+			double rhs = sideConstant[1] - sideConstant[0];
+			lower = (relation[0] == LE) ? Double.NEGATIVE_INFINITY : rhs;
+			upper = (relation[0] == GE) ? Double.POSITIVE_INFINITY : rhs;
+		} else {
+			if (sideStart[1] > 0 || sideStart[3] > sideStart[2])
+				throw this.error("only the middle of a double relation can have variables");
+			if (relation[0] != relation[1] || relation[0] == EQ)
+				throw this.error("a double relation needs two <= or two >=");
+			double first = sideConstant[0] - sideConstant[1];
+			double last = sideConstant[2] - sideConstant[1];
+			lower = (relation[0] == LE) ? first : last;
+			upper = (relation[0] == LE) ? last : first;
+		}
+		lower = infinite(lower);
+		upper = infinite(upper);
+
+		if (mayBeBound && numTerms == 1) {
+			int j = termVariable[0];
+			double a = termCoefficient[0];
+			if (a == 0)
+				throw this.error("zero coefficient in a bound");
+			if (lower != Double.NEGATIVE_INFINITY || relation[0] != LE || numSides == 3)
+				if (a > 0)
+					lowerBound[j] = lower / a;
+				else
+					upperBound[j] = lower / a;
+			if (upper != Double.POSITIVE_INFINITY || relation[0] != GE || numSides == 3)
+				if (a > 0)
+					upperBound[j] = upper / a;
+				else
+					lowerBound[j] = upper / a;
+			if (lowerBound[j] == Double.POSITIVE_INFINITY)
+				throw this.error(statementLine, "lower bound of " + columns.get(j) + " is +inf");
+			if (upperBound[j] == Double.NEGATIVE_INFINITY)
+				throw this.error(statementLine, "upper bound of " + columns.get(j) + " is -inf");
+			return;
+		}
+		if (mayBeBound && !semicolons)
+			throw this.error("a bound has to be on a single variable");
+		// the two rows of a ranged constraint share its name
+		if (label != null && !labels.add(label))
+			throw this.error(statementLine, "row " + label + " is defined twice");
+
+		if (lower == upper)
+			this.addRow(label, EQ, lower);
+		else {
+			if (lower != Double.NEGATIVE_INFINITY)
+				this.addRow(label, GE, lower);
+			if (upper != Double.POSITIVE_INFINITY)
+				this.addRow(label, LE, upper);
+		}
+	}
+
+	private void addRow(String label, int rowType, double rhs) {
+		int row = rows.size();
+		if (row == type.length) {
+			type = Arrays.copyOf(type, 2 * row);
+			b = Arrays.copyOf(b, 2 * row);
+		}
+		rows.add((label != null) ? label : "R" + (row + 1));
+		type[row] = rowType;
+		b[row] = rhs;
+		for (int k = 0; k < numTerms; k++)
+			entries.add(row, termVariable[k], termCoefficient[k]);
+	}
+
+	/**
+	 * Reads one statement: an expression, optionally followed by one or two
+	 * relations with further expressions. In the CPLEX dialect, the side after
+	 * a relation is a lone constant, unless the side before it had no
+	 * variables; in the lp_solve dialect the statement ends with a semicolon.
+	 *
+	 * @throws IOException
+	 */
+	private void parseStatement() throws IOException {
+		int rel;
+
+		numTerms = 0;
+		numSides = 0;
+		this.parseSide();
+		while ((rel = this.readRelation()) >= 0) {
+			if (numSides == 3)
+				throw this.error("too many relations");
+			relation[numSides - 1] = rel;
+			if (!semicolons && sideStart[numSides - 1] < numTerms)
+				this.parseConstant();
+			else
+				this.parseSide();
+		}
+		sideStart[numSides] = numTerms;
+
+		if (semicolons) {
+			if (this.next() != ';')
+				throw this.error("; expected");
+			position++;
+		}
+	}
+
+	/**
+	 * Reads a sum of terms and constants, up to anything that can't continue
+	 * it.
+	 *
+	 * @throws IOException
+	 */
+	private void parseSide() throws IOException {
+		double constant = 0;
+		boolean first = true;
+
+		sideStart[numSides] = numTerms;
+		while (true) {
+			int c = this.next();
+			double sign = 1;
+			boolean hasSign = (c == '+' || c == '-');
+			if (hasSign) {
+				position++;
+				sign = (c == '-') ? -1 : 1;
+				c = this.next();
+			} else if (!first)
+				break;
+			first = false;
+
+			double coefficient = 1;
+			boolean hasNumber = false;
+			if (isNumberStart(c)) {
+				coefficient = this.readNumber();
+				hasNumber = true;
+				c = this.next();
+				if (c == '*') {
+					position++;
+					c = this.next();
+				}
+			}
+
+			if (isNameStart(c)) {
+				this.readName();
+				if (this.nameIs("inf", "infinity") && !hasNumber) {
+					constant += sign * Double.POSITIVE_INFINITY;
+					continue;
+				}
+				if (!semicolons && this.isKeyword()) {
+					this.unread();
+					if (hasNumber)
+						constant += sign * coefficient;
+					break;
+				}
+				this.addTerm(this.column(), sign * coefficient);
+			} else if (hasNumber)
+				constant += sign * coefficient;
+			else if (hasSign)
+				throw this.error("term expected");
+			else
+				break; // empty side
+		}
+		sideConstant[numSides++] = constant;
+	}
+
+	/**
+	 * Reads a signed constant, possibly infinity, as a side of its own.
+	 *
+	 * @throws IOException
+	 */
+	private void parseConstant() throws IOException {
+		double sign = 1;
+		int c = this.next();
+
+		if (c == '+' || c == '-') {
+			position++;
+			sign = (c == '-') ? -1 : 1;
+			c = this.next();
+		}
+		sideStart[numSides] = numTerms;
+		if (isNumberStart(c))
+			sideConstant[numSides++] = sign * this.readNumber();
+		else if (isNameStart(c)) {
+			this.readName();
+			if (!this.nameIs("inf", "infinity"))
+				throw this.error("constant expected");
+			sideConstant[numSides++] = sign * Double.POSITIVE_INFINITY;
+		} else
+			throw this.error("constant expected");
+	}
+
+	private void addTerm(int variable, double coefficient) {
+		if (numTerms == termVariable.length) {
+			termVariable = Arrays.copyOf(termVariable, 2 * numTerms);
+			termCoefficient = Arrays.copyOf(termCoefficient, 2 * numTerms);
+		}
+		termVariable[numTerms] = variable;
+		termCoefficient[numTerms] = coefficient;
+		numTerms++;
+	}
+
+	/**
+	 * @return the variable of a bound with "free"
+	 * @throws IOException
+	 */
+	private int boundVariable() throws IOException {
+		if (numTerms != 1 || termCoefficient[0] != 1)
+			throw this.error("a bound has to be on a single variable");
+		return termVariable[0];
+	}
+
+	/**
+	 * @return the number of the variable whose name was just read
+	 */
+	private int column() {
+		int j = columns.intern(buffer, tokenStart, tokenLength);
+		if (j == cost.length) {
+			cost = Arrays.copyOf(cost, 2 * j);
+			lowerBound = Arrays.copyOf(lowerBound, 2 * j);
+			upperBound = Arrays.copyOf(upperBound, 2 * j);
+			Arrays.fill(upperBound, j, 2 * j, Double.POSITIVE_INFINITY);
+			isInteger = Arrays.copyOf(isInteger, 2 * j);
+		}
+		return j;
+	}
+
+	/**
+	 * Skips white space and comments.
+	 *
+	 * @return the next character, without reading it, or -1 at the end
+	 * @throws IOException
+	 */
+	private int next() throws IOException {
+		while (true) {
+			if (position == limit && !this.fill())
+				return -1;
+			char c = buffer[position];
+			if (c == '\n') {
+				lineNumber++;
+				position++;
+			} else if (Character.isWhitespace(c))
+				position++;
+			else if (c == '\\' || (c == '/' && this.charAt(1) == '/'))
+				this.skipLine();
+			else if (c == '/' && this.charAt(1) == '*')
+				this.skipComment();
+			else
+				return c;
+		}
+	}
+
+	private void skipLine() throws IOException {
+		while (true) {
+			if (position == limit && !this.fill())
+				return;
+			if (buffer[position] == '\n')
+				return;
+			position++;
+		}
+	}
+
+	private void skipComment() throws IOException {
+		position += 2;
+		while (true) {
+			if (position == limit && !this.fill())
+				throw this.error("unterminated comment");
+			if (buffer[position] == '*' && this.charAt(1) == '/') {
+				position += 2;
+				return;
+			}
+			if (buffer[position] == '\n')
+				lineNumber++;
+			position++;
+		}
+	}
+
+	/**
+	 * @param offset
+	 * @return the character offset places after the current one, -1 past the
+	 *         end
+	 * @throws IOException
+	 */
+	private int charAt(int offset) throws IOException {
+		while (position + offset >= limit)
+			if (!this.fill())
+				return -1;
+		return buffer[position + offset];
+	}
+
+	/**
+	 * Reads more text into the buffer. The token being read, or the one just
+	 * read, is moved to the front so that it stays available.
+	 *
+	 * @return false at the end of the text
+	 * @throws IOException
+	 */
+	private boolean fill() throws IOException {
+		int keep = (tokenStart >= 0) ? Math.min(tokenStart, position) : position;
+		if (keep > 0) {
+			System.arraycopy(buffer, keep, buffer, 0, limit - keep);
+			limit -= keep;
+			position -= keep;
+			if (tokenStart >= 0)
+				tokenStart -= keep;
+		}
+		if (limit == buffer.length)
+			buffer = Arrays.copyOf(buffer, 2 * buffer.length);
+
+		int count = in.read(buffer, limit, buffer.length - limit);
+		if (count <= 0)
+			return false;
+		limit += count;
+		return true;
+	}
+
+	private void readName() throws IOException {
+		tokenStart = position;
+		tokenLine = lineNumber;
+		position++;
+		while (true) {
+			if (position == limit && !this.fill())
+				break;
+			if (!isNamePart(buffer[position]))
+				break;
+			position++;
+		}
+		tokenLength = position - tokenStart;
+	}
+
+	private void unread() {
+		position = tokenStart;
+		lineNumber = tokenLine; // the look ahead may have gone past newlines
+	}
+
+	private String tokenString() {
+		return new String(buffer, tokenStart, tokenLength);
+	}
+
+	/**
+	 * @param keywords
+	 *            in lower case
+	 * @return true if the name just read is one of the keywords, in any case
+	 */
+	private boolean nameIs(String... keywords) {
+		next: for (String keyword : keywords) {
+			if (keyword.length() != tokenLength)
+				continue;
+			for (int k = 0; k < tokenLength; k++)
+				if (Character.toLowerCase(buffer[tokenStart + k]) != keyword.charAt(k))
+					continue next;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Reads a number. Whole numbers of up to 15 digits are converted directly,
+	 * which is exact; anything else goes through Double.parseDouble().
+	 *
+	 * @return its value
+	 * @throws IOException
+	 */
+	private double readNumber() throws IOException {
+		boolean isWhole = true;
+		tokenStart = position;
+		tokenLine = lineNumber;
+
+		while (this.charAt(0) >= '0' && this.charAt(0) <= '9')
+			position++;
+		if (this.charAt(0) == '.') {
+			isWhole = false;
+			position++;
+			while (this.charAt(0) >= '0' && this.charAt(0) <= '9')
+				position++;
+		}
+		int c = this.charAt(0);
+		if (c == 'e' || c == 'E') {
+			int d = this.charAt(1);
+			int digit = (d == '+' || d == '-') ? this.charAt(2) : d;
+			if (digit >= '0' && digit <= '9') {
+				isWhole = false;
+				position += (d == '+' || d == '-') ? 2 : 1;
+				while (this.charAt(0) >= '0' && this.charAt(0) <= '9')
+					position++;
+			}
+		}
+
+		tokenLength = position - tokenStart;
+		if (isWhole && tokenLength <= 15) {
+			long value = 0;
+			for (int k = tokenStart; k < position; k++)
+				value = 10 * value + (buffer[k] - '0');
+			return value;
+		}
+		try {
+			return Double.parseDouble(this.tokenString());
+		} catch (NumberFormatException e) {
+			throw this.error("invalid number " + this.tokenString());
+		}
+	}
+
+	/**
+	 * Reads <=, =<, <, >=, =>, > or =, if that's what comes next.
+	 *
+	 * @return LE, GE or EQ, -1 if there's no relation
+	 * @throws IOException
+	 */
+	private int readRelation() throws IOException {
+		int c = this.next();
+		int d;
+
+		if (c == '<' || c == '>') {
+			position++;
+			if (this.charAt(0) == '=')
+				position++;
+			return (c == '<') ? LE : GE;
+		}
+		if (c == '=') {
+			position++;
+			d = this.charAt(0);
+			if (d == '<' || d == '>') {
+				position++;
+				return (d == '<') ? LE : GE;
+			}
+			if (d == '=')
+				position++;
+			return EQ;
+		}
+		return -1;
+	}
+
+	private static boolean isNumberStart(int c) {
+		return (c >= '0' && c <= '9') || c == '.';
+	}
+
+	private static boolean isNameStart(int c) {
+		return c >= 0 && (Character.isLetter(c) || "_[]'#$%&()!?@`{}|~\"".indexOf(c) >= 0);
+	}
+
+	private static boolean isNamePart(int c) {
+		return isNameStart(c) || (c >= '0' && c <= '9') || c == '.';
+	}
+
+	/**
+	 * @param value
+	 * @return the value, or an infinity if it's beyond INFINITY
+	 */
+	private static double infinite(double value) {
+		if (value >= INFINITY)
+			return Double.POSITIVE_INFINITY;
+		if (value <= -INFINITY)
+			return Double.NEGATIVE_INFINITY;
+		return value;
+	}
+
+	private IOException error(String message) {
+		return this.error(lineNumber, message);
+	}
+
+	/**
+	 * @param line
+	 *            line of the error, when the reader has already gone past it
+	 * @param message
+	 * @return the exception to throw
+	 */
+	private IOException error(int line, String message) {
+		return new IOException("line " + line + ": " + message);
+	}
+}
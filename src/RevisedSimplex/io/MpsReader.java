@@ -0,0 +1,554 @@
+package RevisedSimplex.io;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+import RevisedSimplex.util.LinearProgram;
+import RevisedSimplex.util.SparseMatrix;
+
+/**
+ * Reader for linear programs in MPS format, free or fixed. The file is read
+ * one line at a time and every line is split into its fields right away, so
+ * only the program being built is kept in memory, never the text. The
+ * coefficients go straight into the sparse storage of the constraint matrix.
+ *
+ * In free format the fields are separated by white space, and names can't
+ * contain any. In fixed format the fields are found at their columns, 2-3,
+ * 5-12, 15-22, 25-36, 40-47 and 50-61, and names may contain spaces.
+ *
+ * The sections NAME, OBJSENSE, ROWS, COLUMNS, RHS, RANGES, BOUNDS and ENDATA
+ * are understood. The first N row is the objective, other N rows are dropped.
+ * A ranged row becomes two constraints, a G one for its lower limit and an L
+ * one for its upper limit. Integer markers and integer bounds are accepted,
+ * but the solver only solves the continuous relaxation. Values of 1e30 and
+ * beyond stand for infinity in the bounds. FR makes a column free and MI
+ * takes its lower bound away; so does a negative UP bound of a column that
+ * has no LO bound, as in most readers.
+ *
+ * More information about the format can be found in:
+ *
+ * - "Computational Techniques of the Simplex Method", Maros, Chapter 6
+ *
+ */
+public class MpsReader {
+	public static final double INFINITY = 1e30;
+
+	private static final int NONE = 0;
+	private static final int ROWS = 1;
+	private static final int COLUMNS = 2;
+	private static final int RHS = 3;
+	private static final int RANGES = 4;
+	private static final int BOUNDS = 5;
+	private static final int OBJSENSE = 6;
+
+	// row indices of the N rows
+	private static final int OBJECTIVE = -1;
+	private static final int DROPPED = -2;
+
+	public boolean fixedFormat = false;
+
+	/*
+	 * Data of the last file read, besides the program itself.
+	 */
+	public String name = "";
+	public String[] rowNames;
+	public String[] columnNames;
+	public double objectiveConstant = 0;
+	public int numIntegerColumns = 0;
+
+	private int lineNumber;
+	private int section;
+	private String[] fields = new String[6];
+	private int numFields;
+
+	private HashMap<String, Integer> rowIndex;
+	private HashMap<String, Integer> columnIndex;
+	private ArrayList<String> rows;
+	private ArrayList<String> columns;
+	private String objectiveName;
+	private boolean isMinimize;
+	private boolean isInteger;
+
+	private SparseMatrix.Builder entries;
+	private int[] type;
+	private double[] b;
+	private double[] range;
+	private double[] cost;
+	private double[] lowerBound;
+	private double[] upperBound;
+	private boolean[] hasLowerBound;
+
+	/**
+	 * Reads a program from the stream, which is not closed.
+	 *
+	 * @param in
+	 * @return the program
+	 * @throws IOException
+	 *             if the stream can't be read or isn't valid MPS
+	 */
+	public LinearProgram read(InputStream in) throws IOException {
+		return this.read(new InputStreamReader(in, StandardCharsets.US_ASCII));
+	}
+
+	/**
+	 * Reads a program from the reader, which is not closed.
+	 *
+	 * @param in
+	 * @return the program
+	 * @throws IOException
+	 *             if the reader fails or the text isn't valid MPS
+	 */
+	public LinearProgram read(Reader in) throws IOException {
+		BufferedReader reader = (in instanceof BufferedReader) ? (BufferedReader) in : new BufferedReader(in, 1 << 16);
+		String line;
+
+		name = "";
+		objectiveConstant = 0;
+		numIntegerColumns = 0;
+		lineNumber = 0;
+		section = NONE;
+		rowIndex = new HashMap<String, Integer>();
+		columnIndex = new HashMap<String, Integer>();
+		rows = new ArrayList<String>();
+		columns = new ArrayList<String>();
+		objectiveName = null;
+		isMinimize = true;
+		isInteger = false;
+		entries = new SparseMatrix.Builder();
+		type = new int[16];
+		cost = new double[16];
+		b = null;
+		range = null;
+		lowerBound = null;
+		upperBound = null;
+		hasLowerBound = null;
+
+		while ((line = reader.readLine()) != null) {
+			lineNumber++;
+			if (line.isEmpty() || line.charAt(0) == '*' || line.trim().isEmpty())
+				continue;
+
+			if (line.charAt(0) != ' ' && line.charAt(0) != '\t') {
+				if (this.header(line))
+					break; // ENDATA
+				continue;
+			}
+
+			if (fixedFormat && section != OBJSENSE)
+				this.splitFixed(line);
+			else
+				this.splitFree(line);
+			if (numFields == 0)
+				continue;
+
+			switch (section) {
+			case ROWS:
+				this.row();
+				break;
+			case COLUMNS:
+				this.column();
+				break;
+			case RHS:
+				this.rhsOrRange(b);
+				break;
+			case RANGES:
+				this.rhsOrRange(range);
+				break;
+			case BOUNDS:
+				this.bound();
+				break;
+			case OBJSENSE:
+				this.objectiveSense(fields[0]);
+				break;
+			default:
+				throw this.error("data outside of any section");
+			}
+		}
+
+		this.endRows();
+		this.endColumns();
+		return this.build();
+	}
+
+	/**
+	 * Starts the section of a header line.
+	 *
+	 * @param line
+	 * @return true for ENDATA
+	 * @throws IOException
+	 */
+	private boolean header(String line) throws IOException {
+		this.splitFree(line);
+		String keyword = fields[0];
+		int next;
+
+		if (keyword.equals("NAME")) {
+			name = (numFields > 1) ? line.substring(4).trim() : "";
+			return false;
+		}
+		if (keyword.equals("ENDATA"))
+			return true;
+
+		switch (keyword) {
+		case "OBJSENSE":
+			next = OBJSENSE;
+			break;
+		case "ROWS":
+			next = ROWS;
+			break;
+		case "COLUMNS":
+			next = COLUMNS;
+			break;
+		case "RHS":
+			next = RHS;
+			break;
+		case "RANGES":
+			next = RANGES;
+			break;
+		case "BOUNDS":
+			next = BOUNDS;
+			break;
+		default:
+			throw this.error("unknown section " + keyword);
+		}
+
+		// the rows, then the columns, are complete once a later section starts
+		if (next != OBJSENSE && next >= COLUMNS)
+			this.endRows();
+		if (next != OBJSENSE && next > COLUMNS)
+			this.endColumns();
+		section = next;
+
+		// free format allows the sense on the header line
+		if (next == OBJSENSE && numFields > 1)
+			this.objectiveSense(fields[1]);
+		return false;
+	}
+
+	/**
+	 * Splits a line into the fields of fixed format. Empty fields are kept, so
+	 * that every field is found at the same position as in the line.
+	 *
+	 * @param line
+	 */
+	private void splitFixed(String line) {
+		final int[] start = { 1, 4, 14, 24, 39, 49 };
+		final int[] end = { 3, 12, 22, 36, 47, 61 };
+
+		numFields = 0;
+		for (int f = 0; f < 6; f++) {
+			if (start[f] >= line.length()) {
+				fields[f] = "";
+				continue;
+			}
+			fields[f] = line.substring(start[f], Math.min(end[f], line.length())).trim();
+			if (!fields[f].isEmpty())
+				numFields = f + 1;
+		}
+	}
+
+	/**
+	 * Splits a line at white space, then moves the fields to the positions
+	 * they have in fixed format, depending on the section.
+	 *
+	 * @param line
+	 * @throws IOException
+	 */
+	private void splitFree(String line) throws IOException {
+		int count = 0;
+		int length = line.length();
+		int i = 0;
+		boolean isHeader = line.charAt(0) != ' ' && line.charAt(0) != '\t';
+		String[] tokens = new String[7];
+
+		while (i < length) {
+			while (i < length && Character.isWhitespace(line.charAt(i)))
+				i++;
+			if (i == length)
+				break;
+			int begin = i;
+			while (i < length && !Character.isWhitespace(line.charAt(i)))
+				i++;
+			if (count == tokens.length) {
+				if (isHeader)
+					break;
+				throw this.error("too many fields");
+			}
+			tokens[count++] = line.substring(begin, i);
+		}
+
+		Arrays.fill(fields, "");
+		numFields = count;
+		if (count == 0)
+			return;
+		if (isHeader) {
+			System.arraycopy(tokens, 0, fields, 0, Math.min(count, 6));
+			return;
+		}
+
+		switch (section) {
+		case ROWS: // type, name
+			this.place(tokens, count, 0);
+			break;
+		case COLUMNS: // column, row, value [, row, value]
+			this.place(tokens, count, 1);
+			break;
+		case RHS:
+		case RANGES: // [set,] row, value [, row, value]
+			this.place(tokens, count, (count % 2 == 0) ? 2 : 1);
+			break;
+		case BOUNDS: // type, [set,] column [, value]
+			boolean hasValue = !(tokens[0].equals("FR") || tokens[0].equals("MI") || tokens[0].equals("PL") || tokens[0].equals("BV"));
+			fields[0] = tokens[0];
+			if ((hasValue && count == 3) || (!hasValue && count == 2)) {
+				fields[2] = tokens[1];
+				fields[3] = (count == 3) ? tokens[2] : "";
+			} else {
+				fields[1] = (count > 1) ? tokens[1] : "";
+				fields[2] = (count > 2) ? tokens[2] : "";
+				fields[3] = (count > 3) ? tokens[3] : "";
+			}
+			numFields = 4;
+			break;
+		default:
+			this.place(tokens, count, 0);
+		}
+	}
+
+	private void place(String[] tokens, int count, int first) {
+		for (int k = 0; k < count && first + k < 6; k++)
+			fields[first + k] = tokens[k];
+		numFields = Math.min(first + count, 6);
+	}
+
+	private void objectiveSense(String sense) throws IOException {
+		if (sense.equals("MAX") || sense.equals("MAXIMIZE"))
+			isMinimize = false;
+		else if (sense.equals("MIN") || sense.equals("MINIMIZE"))
+			isMinimize = true;
+		else
+			throw this.error("unknown objective sense " + sense);
+	}
+
+	private void row() throws IOException {
+		String rowType = fields[0];
+		String rowName = fields[1];
+		int index;
+
+		if (rowIndex.containsKey(rowName))
+			throw this.error("row " + rowName + " is defined twice");
+
+		if (rowType.equals("N")) {
+			if (objectiveName == null) {
+				objectiveName = rowName;
+				index = OBJECTIVE;
+			} else
+				index = DROPPED;
+		} else {
+			index = rows.size();
+			if (index == type.length)
+				type = Arrays.copyOf(type, 2 * index);
+			if (rowType.equals("L"))
+				type[index] = 0;
+			else if (rowType.equals("G"))
+				type[index] = 1;
+			else if (rowType.equals("E"))
+				type[index] = 2;
+			else
+				throw this.error("unknown row type " + rowType);
+			rows.add(rowName);
+		}
+		rowIndex.put(rowName, index);
+	}
+
+	private void endRows() {
+		if (b != null)
+			return;
+		b = new double[rows.size()];
+		range = new double[rows.size()];
+		Arrays.fill(range, Double.NaN);
+	}
+
+	private void column() throws IOException {
+		if (fields[2].equals("'MARKER'")) {
+			// the marker is the third field in free format, the fifth in fixed
+			String marker = fields[3].isEmpty() ? fields[4] : fields[3];
+			if (marker.equals("'INTORG'"))
+				isInteger = true;
+			else if (marker.equals("'INTEND'"))
+				isInteger = false;
+			return;
+		}
+
+		Integer col = columnIndex.get(fields[1]);
+		if (col == null) {
+			col = columns.size();
+			columnIndex.put(fields[1], col);
+			columns.add(fields[1]);
+			if (col == cost.length)
+				cost = Arrays.copyOf(cost, 2 * col);
+			if (isInteger)
+				numIntegerColumns++;
+		}
+
+		for (int f = 2; f + 1 < 6 && !fields[f].isEmpty(); f += 2) {
+			int row = this.row(fields[f]);
+			double value = this.number(fields[f + 1]);
+			if (row == OBJECTIVE)
+				cost[col] += value;
+			else if (row >= 0)
+				entries.add(row, col, value);
+		}
+	}
+
+	private void endColumns() {
+		if (lowerBound != null)
+			return;
+		lowerBound = new double[columns.size()];
+		upperBound = new double[columns.size()];
+		hasLowerBound = new boolean[columns.size()];
+		Arrays.fill(upperBound, Double.POSITIVE_INFINITY);
+	}
+
+	private void rhsOrRange(double[] values) throws IOException {
+		for (int f = 2; f + 1 < 6 && !fields[f].isEmpty(); f += 2) {
+			int row = this.row(fields[f]);
+			double value = this.number(fields[f + 1]);
+			if (row == OBJECTIVE) {
+				if (values == b)
+					objectiveConstant = -value;
+			} else if (row >= 0)
+				values[row] = value;
+		}
+	}
+
+	private void bound() throws IOException {
+		String boundType = fields[0];
+		Integer col = columnIndex.get(fields[2]);
+		if (col == null)
+			throw this.error("unknown column " + fields[2]);
+
+		double value = fields[3].isEmpty() ? 0 : this.number(fields[3]);
+		if (value >= INFINITY)
+			value = Double.POSITIVE_INFINITY;
+		else if (value <= -INFINITY)
+			value = Double.NEGATIVE_INFINITY;
+
+		switch (boundType) {
+		case "UP":
+		case "UI":
+			upperBound[col] = value;
+			if (value < 0 && !hasLowerBound[col])
+				lowerBound[col] = Double.NEGATIVE_INFINITY;
+			break;
+		case "LO":
+		case "LI":
+			lowerBound[col] = value;
+			break;
+		case "FX":
+			lowerBound[col] = value;
+			upperBound[col] = value;
+			break;
+		case "FR":
+			lowerBound[col] = Double.NEGATIVE_INFINITY;
+			upperBound[col] = Double.POSITIVE_INFINITY;
+			break;
+		case "MI":
+			lowerBound[col] = Double.NEGATIVE_INFINITY;
+			break;
+		case "PL":
+			upperBound[col] = Double.POSITIVE_INFINITY;
+			break;
+		case "BV":
+			lowerBound[col] = 0;
+			upperBound[col] = 1;
+			break;
+		default:
+			throw this.error("unknown bound type " + boundType);
+		}
+		if (!boundType.equals("UP") && !boundType.equals("UI") && !boundType.equals("PL"))
+			hasLowerBound[col] = true;
+	}
+
+	/**
+	 * Puts the program together. Every ranged row gets a second constraint
+	 * with the same coefficients, appended after the rows of the file.
+	 *
+	 * @return the program
+	 * @throws IOException
+	 *             if the bounds of a column cross
+	 */
+	private LinearProgram build() throws IOException {
+		int numRows = rows.size();
+		int numColumns = columns.size();
+		int numRanges = 0;
+		int[] rangeRow = new int[numRows];
+
+		for (int i = 0; i < numRows; i++)
+			if (!Double.isNaN(range[i]))
+				rangeRow[i] = numRows + numRanges++;
+
+		int[] constraintType = Arrays.copyOf(type, numRows + numRanges);
+		double[] rhs = Arrays.copyOf(b, numRows + numRanges);
+		rowNames = rows.toArray(new String[numRows + numRanges]);
+		for (int i = 0; i < numRows; i++) {
+			if (Double.isNaN(range[i]))
+				continue;
+			double r = Math.abs(range[i]);
+			double lower = (type[i] == 0 || (type[i] == 2 && range[i] < 0)) ? b[i] - r : b[i];
+			constraintType[i] = 1;
+			rhs[i] = lower;
+			constraintType[rangeRow[i]] = 0;
+			rhs[rangeRow[i]] = lower + r;
+			rowNames[rangeRow[i]] = rows.get(i);
+		}
+
+		SparseMatrix A = entries.build(numRows, numColumns);
+		if (numRanges > 0) {
+			for (int j = 0; j < numColumns; j++)
+				for (int k = A.columnStart(j); k < A.columnStart(j + 1); k++)
+					if (!Double.isNaN(range[A.rowAt(k)]))
+						entries.add(rangeRow[A.rowAt(k)], j, A.valueAt(k));
+			A = entries.build(numRows + numRanges, numColumns);
+		}
+		entries = null;
+
+		columnNames = columns.toArray(new String[numColumns]);
+		for (int j = 0; j < numColumns; j++)
+			if (lowerBound[j] > upperBound[j])
+				throw new IOException("column " + columnNames[j] + ": lower bound " + lowerBound[j] + " exceeds its upper bound " + upperBound[j]);
+		return new LinearProgram(A, rhs, constraintType, Arrays.copyOf(cost, numColumns), isMinimize, lowerBound, upperBound);
+	}
+
+	/**
+	 * @param rowName
+	 * @return the index of the row, OBJECTIVE or DROPPED for N rows
+	 * @throws IOException
+	 *             if there is no such row
+	 */
+	private int row(String rowName) throws IOException {
+		Integer row = rowIndex.get(rowName);
+		if (row == null)
+			throw this.error("unknown row " + rowName);
+		return row;
+	}
+
+	private double number(String text) throws IOException {
+		try {
+			return Double.parseDouble(text);
+		} catch (NumberFormatException e) {
+			throw this.error("invalid number " + text);
+		}
+	}
+
+	private IOException error(String message) {
+		return new IOException("line " + lineNumber + ": " + message);
+	}
+}
@@ -0,0 +1,184 @@
+package RevisedSimplex.io;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import RevisedSimplex.util.LinearProgram;
+import RevisedSimplex.util.SparseMatrix;
+
+/**
+ * Writes linear programs as free MPS files, which MpsReader reads back into
+ * the same program. The fields are laid out at the columns of the fixed
+ * format, so files whose names have up to 8 characters and whose values have
+ * up to 12 look like the classic ones, but longer fields are only separated
+ * by spaces, so names must not contain any.
+ *
+ * The objective row is named COST. A maximized objective is written with an
+ * OBJSENSE section, and the constant term of the objective as the negated
+ * right hand side of the objective row. Values are written so that they're
+ * read back exactly, and infinite bounds as MI, PL or FR.
+ *
+ */
+public class MpsWriter {
+	public static final String OBJECTIVE = "COST";
+
+	private static final String[] ROW_TYPES = { "L", "G", "E" };
+
+	/**
+	 * Writes the program to the file, compressed if its name ends in .gz.
+	 *
+	 * @param program
+	 * @param name
+	 *            name of the model, for the NAME section
+	 * @param rowNames
+	 *            null to name the rows R1, R2, ...
+	 * @param columnNames
+	 *            null to name the columns C1, C2, ...
+	 * @param objectiveConstant
+	 * @param fileName
+	 * @throws IOException
+	 */
+	public static void write(LinearProgram program, String name, String[] rowNames, String[] columnNames, double objectiveConstant,
+			String fileName) throws IOException {
+		OutputStream out = new FileOutputStream(fileName);
+		if (fileName.endsWith(".gz"))
+			out = new GZIPOutputStream(out, 1 << 16);
+		try (Writer writer = new OutputStreamWriter(out, StandardCharsets.US_ASCII)) {
+			write(program, name, rowNames, columnNames, objectiveConstant, writer);
+		}
+	}
+
+	/**
+	 * Writes the program to the writer, which is flushed but not closed.
+	 *
+	 * @param program
+	 * @param name
+	 * @param rowNames
+	 * @param columnNames
+	 * @param objectiveConstant
+	 * @param out
+	 * @throws IOException
+	 */
+	public static void write(LinearProgram program, String name, String[] rowNames, String[] columnNames, double objectiveConstant,
+			Writer out) throws IOException {
+		BufferedWriter writer = (out instanceof BufferedWriter) ? (BufferedWriter) out : new BufferedWriter(out, 1 << 16);
+		SparseMatrix A = program.A;
+		int m = program.numConstraints;
+		int n = program.numVariables;
+
+		if (rowNames == null)
+			rowNames = names("R", m);
+		if (columnNames == null)
+			columnNames = names("C", n);
+
+		writer.write("NAME          " + name);
+		writer.newLine();
+		if (!program.isMinimize) {
+			writer.write("OBJSENSE");
+			writer.newLine();
+			writer.write("    MAX");
+			writer.newLine();
+		}
+
+		writer.write("ROWS");
+		writer.newLine();
+		line(writer, "N", OBJECTIVE, null, null);
+		for (int i = 0; i < m; i++)
+			line(writer, ROW_TYPES[program.constraintType[i]], rowNames[i], null, null);
+
+		writer.write("COLUMNS");
+		writer.newLine();
+		for (int j = 0; j < n; j++) {
+			if (program.cost[j] != 0)
+				line(writer, "", columnNames[j], OBJECTIVE, number(program.cost[j]));
+			for (int k = A.columnStart(j); k < A.columnStart(j + 1); k++)
+				line(writer, "", columnNames[j], rowNames[A.rowAt(k)], number(A.valueAt(k)));
+		}
+
+		writer.write("RHS");
+		writer.newLine();
+		if (objectiveConstant != 0)
+			line(writer, "", "RHS", OBJECTIVE, number(-objectiveConstant));
+		for (int i = 0; i < m; i++)
+			if (program.b[i] != 0)
+				line(writer, "", "RHS", rowNames[i], number(program.b[i]));
+
+		writer.write("BOUNDS");
+		writer.newLine();
+		for (int j = 0; j < n; j++) {
+			double lower = program.lowerBound[j];
+			double upper = program.upperBound[j];
+
+			if (lower == upper) {
+				bound(writer, "FX", columnNames[j], lower);
+				continue;
+			}
+			if (lower == Double.NEGATIVE_INFINITY && upper == Double.POSITIVE_INFINITY) {
+				bound(writer, "FR", columnNames[j], Double.NaN);
+				continue;
+			}
+			if (lower == Double.NEGATIVE_INFINITY)
+				bound(writer, "MI", columnNames[j], Double.NaN);
+			else if (lower != 0 || upper < 0)
+				bound(writer, "LO", columnNames[j], lower);
+			if (upper != Double.POSITIVE_INFINITY)
+				bound(writer, "UP", columnNames[j], upper);
+		}
+
+		writer.write("ENDATA");
+		writer.newLine();
+		writer.flush();
+	}
+
+	private static String[] names(String prefix, int count) {
+		String[] names = new String[count];
+		for (int k = 0; k < count; k++)
+			names[k] = prefix + (k + 1);
+		return names;
+	}
+
+	private static void bound(BufferedWriter writer, String type, String column, double value) throws IOException {
+		line(writer, type, "BND", column, Double.isNaN(value) ? null : number(value));
+	}
+
+	/*
+	 * One line at the columns of the fixed format: the type at 2, the first
+	 * name at 5, the second name at 15 and the value at 25.
+	 */
+	private static void line(BufferedWriter writer, String type, String first, String second, String value) throws IOException {
+		StringBuilder line = new StringBuilder(40);
+		line.append(' ').append(type);
+		pad(line, 4).append(first);
+		if (second != null) {
+			pad(line, 14).append(second);
+			if (value != null)
+				pad(line, 24).append(value);
+		}
+		writer.write(line.toString());
+		writer.newLine();
+	}
+
+	private static StringBuilder pad(StringBuilder line, int column) {
+		do
+			line.append(' ');
+		while (line.length() < column);
+		return line;
+	}
+
+	/**
+	 * @param value
+	 * @return the shortest text that is read back as value, without a
+	 *         fraction for whole numbers
+	 */
+	static String number(double value) {
+		if (value == Math.rint(value) && Math.abs(value) < 1e15)
+			return Long.toString((long) value);
+		return Double.toString(value);
+	}
+}
@@ -0,0 +1,124 @@
+package RevisedSimplex.io;
+
+import java.util.Arrays;
+
+/**
+ * Numbers names in the order they're first seen. Names are looked up straight
+ * from the characters of a buffer, so a String is only created the first time
+ * a name appears, not every time it's read.
+ *
+ */
+final class NameTable {
+	private String[] names = new String[16];
+	private int[] hashes = new int[16];
+	private int size = 0;
+
+	// open addressing, slots hold index + 1, 0 is empty
+	private int[] slots = new int[64];
+
+	/**
+	 * Returns the number of the name, adding it if it's new.
+	 *
+	 * @param chars
+	 * @param start
+	 * @param length
+	 * @return the number of the name
+	 */
+	int intern(char[] chars, int start, int length) {
+		int index = this.find(chars, start, length);
+		if (index >= 0)
+			return index;
+		return this.add(new String(chars, start, length));
+	}
+
+	/**
+	 * @param chars
+	 * @param start
+	 * @param length
+	 * @return the number of the name, -1 if it hasn't been seen
+	 */
+	int find(char[] chars, int start, int length) {
+		int hash = hash(chars, start, length);
+		int mask = slots.length - 1;
+
+		for (int slot = hash & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+			int index = slots[slot] - 1;
+			if (hashes[index] == hash && equals(names[index], chars, start, length))
+				return index;
+		}
+		return -1;
+	}
+
+	/**
+	 * Adds a name that isn't in the table yet.
+	 *
+	 * @param name
+	 * @return the number of the name
+	 */
+	int add(String name) {
+		if (size == names.length) {
+			names = Arrays.copyOf(names, 2 * size);
+			hashes = Arrays.copyOf(hashes, 2 * size);
+		}
+		if (2 * (size + 1) > slots.length)
+			this.rehash(2 * slots.length);
+
+		char[] chars = name.toCharArray();
+		names[size] = name;
+		hashes[size] = hash(chars, 0, chars.length);
+		this.insert(size);
+		return size++;
+	}
+
+	/**
+	 * @return number of names
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * @param index
+	 * @return the name with the given number
+	 */
+	String get(int index) {
+		return names[index];
+	}
+
+	/**
+	 * @return the names in the order of their numbers
+	 */
+	String[] toArray() {
+		return Arrays.copyOf(names, size);
+	}
+
+	private void insert(int index) {
+		int mask = slots.length - 1;
+		int slot = hashes[index] & mask;
+		while (slots[slot] != 0)
+			slot = (slot + 1) & mask;
+		slots[slot] = index + 1;
+	}
+
+	private void rehash(int capacity) {
+		slots = new int[capacity];
+		for (int i = 0; i < size; i++)
+			this.insert(i);
+	}
+
+	private static int hash(char[] chars, int start, int length) {
+		int hash = 0;
+		for (int k = start; k < start + length; k++)
+			hash = 31 * hash + chars[k];
+		return hash ^ (hash >>> 16);
+	}
+
+	private static boolean equals(String name, char[] chars, int start, int length) {
+		if (name.length() != length)
+			return false;
+		for (int k = 0; k < length; k++)
+			if (name.charAt(k) != chars[start + k])
+				return false;
+		return true;
+	}
+}
@@ -0,0 +1,47 @@
+package RevisedSimplex.util;
+
+/**
+ * A basis saved from a solve, in terms of the problem as it was given rather
+ * than of the numbering of the variables inside the solver. Every structural
+ * variable is basic or sits at one of its bounds, and every constraint is
+ * basic, if its slack, surplus or artificial variable is basic, or active
+ * otherwise. A snapshot exported after a solve can be imported into a new
+ * solver for the same, or a slightly changed, problem so that it starts from
+ * that basis instead of the slack basis.
+ *
+ */
+public class BasisSnapshot {
+	public static final int AT_LOWER = 0;
+	public static final int AT_UPPER = 1;
+	public static final int BASIC = 2;
+
+	public int[] columnStatus;
+	public int[] rowStatus;
+
+	/**
+	 * Constructor for the snapshot of a problem with the given number of
+	 * variables and constraints. Everything starts at its lower bound.
+	 *
+	 * @param numColumns
+	 * @param numRows
+	 */
+	public BasisSnapshot(int numColumns, int numRows) {
+		columnStatus = new int[numColumns];
+		rowStatus = new int[numRows];
+	}
+
+	/**
+	 * @return the number of basic variables, which has to be the number of
+	 *         constraints for a valid basis
+	 */
+	public int numBasic() {
+		int count = 0;
+		for (int status : columnStatus)
+			if (status == BASIC)
+				count++;
+		for (int status : rowStatus)
+			if (status == BASIC)
+				count++;
+		return count;
+	}
+}
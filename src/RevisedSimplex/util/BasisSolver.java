@@ -0,0 +1,67 @@
+package RevisedSimplex.util;
+
+/**
+ * Linear solves with the basis matrix B. A single factorization of B serves
+ * both directions: FTRAN solves B(x) = b and is used for the transformed
+ * entering column yB, BTRAN solves Bt(x) = c and is used for the simplex
+ * multipliers pi. After a basis change the factorization is updated with the
+ * transformed entering column instead of being computed again.
+ *
+ */
+public interface BasisSolver {
+
+	/**
+	 * Clears the basis matrix held by the factorization. The solver then gives
+	 * its nonzeros with setEntry() and calls factor(), so the basis is built
+	 * straight in the storage of the factorization, without a copy of its own.
+	 */
+	void clearBasis();
+
+	/**
+	 * @param row
+	 * @param col
+	 * @param value
+	 */
+	void setEntry(int row, int col, double value);
+
+	/**
+	 * Factors the basis matrix given since the last clearBasis().
+	 */
+	void factor();
+
+	/**
+	 * Solves Bx = b. b is not modified.
+	 *
+	 * @param x
+	 * @param b
+	 */
+	void ftran(double[] x, double[] b);
+
+	/**
+	 * Solves Bt x = c. c is not modified.
+	 *
+	 * @param x
+	 * @param c
+	 */
+	void btran(double[] x, double[] c);
+
+	/**
+	 * Replaces the basic column at position row by the entering column, given
+	 * already transformed by the current basis.
+	 *
+	 * @param row
+	 * @param column
+	 */
+	void update(int row, double[] column);
+
+	/**
+	 * @return true if the basis should be factored from scratch before the
+	 *         next solve
+	 */
+	boolean needsRefactor();
+
+	/**
+	 * @return true if the last factorization found the basis singular
+	 */
+	boolean isSingular();
+}
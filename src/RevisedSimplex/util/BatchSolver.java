@@ -0,0 +1,169 @@
+package RevisedSimplex.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Solves many independent linear programs on a fixed number of worker
+ * threads. Each worker keeps its own solver and loads the next program into it
+ * as long as the sizes match, so a batch of programs of the same shape
+ * allocates one solver per worker rather than one per program. The workers
+ * share nothing but the programs, which are immutable, so they never wait
+ * for each other.
+ *
+ * The solvers run with their pricing on a single thread, so that the workers
+ * don't compete for the common fork/join pool.
+ *
+ */
+public class BatchSolver {
+	/**
+	 * Result of one program of the batch. status is OPTIMAL, INFEASIBLE or
+	 * UNBOUNDED, or FAILED if the solver threw error. The objective value and
+	 * the solution are only set for OPTIMAL.
+	 *
+	 */
+	public static class Result {
+		public static final int FAILED = 0;
+
+		public int status;
+		public double objectiveValue;
+		public double[] solution;
+		public int iterations;
+		public long solveTime; // in nanoseconds
+		public Throwable error;
+
+		@Override
+		public String toString() {
+			switch (status) {
+			case RevisedSimplex.OPTIMAL:
+				return String.format("optimal %.6g, %d iterations", objectiveValue, iterations);
+			case RevisedSimplex.INFEASIBLE:
+				return "infeasible";
+			case RevisedSimplex.UNBOUNDED:
+				return "unbounded";
+			default:
+				return "failed: " + error;
+			}
+		}
+	}
+
+	public final int numThreads;
+
+	private final ExecutorService pool;
+	private final ThreadLocal<RevisedSimplex> workspace = new ThreadLocal<RevisedSimplex>();
+
+	/**
+	 * Constructor for a batch solver with one worker per core.
+	 */
+	public BatchSolver() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Constructor for a batch solver with the given number of workers.
+	 *
+	 * @param numThreads
+	 */
+	public BatchSolver(int numThreads) {
+		if (numThreads < 1)
+			throw new IllegalArgumentException("At least one worker is needed, not " + numThreads);
+		this.numThreads = numThreads;
+		pool = Executors.newFixedThreadPool(numThreads, new ThreadFactory() {
+			private int count = 0;
+
+			@Override
+			public synchronized Thread newThread(Runnable task) {
+				Thread thread = new Thread(task, "BatchSolver-" + (count++));
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+	}
+
+	/**
+	 * Solves every program of the collection and waits for all of them.
+	 *
+	 * @param programs
+	 * @return one result per program, in the order of the collection
+	 * @throws InterruptedException
+	 *             if the calling thread is interrupted while it waits
+	 */
+	public List<Result> solveAll(Collection<LinearProgram> programs) throws InterruptedException {
+		List<Callable<Result>> tasks = new ArrayList<Callable<Result>>(programs.size());
+		for (final LinearProgram program : programs)
+			tasks.add(new Callable<Result>() {
+				@Override
+				public Result call() {
+					return BatchSolver.this.solve(program);
+				}
+			});
+
+		List<Result> results = new ArrayList<Result>(tasks.size());
+		for (Future<Result> future : pool.invokeAll(tasks))
+			try {
+				results.add(future.get());
+			} catch (ExecutionException e) {
+				// solve() catches everything, this is only for safety
+				Result failed = new Result();
+				failed.error = e.getCause();
+				results.add(failed);
+			}
+		return results;
+	}
+
+	/**
+	 * Stops the workers once the batches that have been started are done.
+	 */
+	public void shutdown() {
+		pool.shutdown();
+	}
+
+	/**
+	 * Solves a single program with the solver of the current worker.
+	 *
+	 * @param program
+	 * @return the result of the program
+	 */
+	private Result solve(LinearProgram program) {
+		Result result = new Result();
+		try {
+			RevisedSimplex solver = this.solverFor(program);
+			program.load(solver);
+			result.status = solver.solve();
+			if (result.status == RevisedSimplex.OPTIMAL) {
+				result.objectiveValue = solver.objectiveValue;
+				result.solution = solver.primalSolution();
+			}
+			result.iterations = solver.statistics.iterations;
+			result.solveTime = solver.statistics.solveTime;
+		} catch (RuntimeException e) {
+			result.status = Result.FAILED;
+			result.error = e;
+			workspace.remove(); // it may have been left in any state
+		}
+		return result;
+	}
+
+	/**
+	 * @param program
+	 * @return the solver of the current worker, replaced by a new one if it
+	 *         doesn't have the size of the program
+	 */
+	private RevisedSimplex solverFor(LinearProgram program) {
+		RevisedSimplex solver = workspace.get();
+		if (solver == null || solver.numConstraints != program.numConstraints
+				|| solver.NonBasicVariables.length != program.numVariables + 2 * program.numConstraints) {
+			solver = new RevisedSimplex(program.numVariables, program.numConstraints);
+			solver.parallelPricingThreshold = Integer.MAX_VALUE;
+			workspace.set(solver);
+		}
+		return solver;
+	}
+}
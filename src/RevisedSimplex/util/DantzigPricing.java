@@ -0,0 +1,22 @@
+package RevisedSimplex.util;
+
+/**
+ * Full pricing with the Dantzig rule. Every reduced cost is computed on every
+ * iteration and the most negative one enters the basis.
+ *
+ */
+public class DantzigPricing implements PricingStrategy {
+
+	@Override
+	public int chooseEntering(RevisedSimplex lp) {
+		return lp.calculateReducedCostsAndEntering();
+	}
+
+	@Override
+	public void update(RevisedSimplex lp) {
+	}
+
+	@Override
+	public void reset() {
+	}
+}
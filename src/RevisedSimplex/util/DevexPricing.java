@@ -0,0 +1,36 @@
+package RevisedSimplex.util;
+
+/**
+ * Devex pricing. The weights are only bounded from below by the update, w_j =
+ * max(w_j, (alpha_rj / alpha_rq)^2 w_q), which needs the pivot row and nothing
+ * else.
+ *
+ * More information can be found in:
+ *
+ * - "Pivot selection methods of the Devex LP code", Harris, 1973
+ *
+ */
+public class DevexPricing extends WeightedPricing {
+
+	@Override
+	public void update(RevisedSimplex lp) {
+		if (weights == null)
+			return;
+
+		int q = lp.NonBasicVariables[lp.enteringVar];
+		int p = lp.BasicVariables[lp.leavingVar];
+		double alphaQ = lp.yB[lp.leavingVar];
+		double weightQ = Math.max(weights[q], this.enteringWeight(lp));
+		double[] alpha = lp.computePivotRow();
+		double ratio;
+
+		for (int i = 0; i < lp.numNonbasic; i++) {
+			if (i == lp.enteringVar || alpha[i] == 0)
+				continue;
+			ratio = alpha[i] / alphaQ;
+			int j = lp.NonBasicVariables[i];
+			weights[j] = Math.max(weights[j], ratio * ratio * weightQ);
+		}
+		weights[p] = Math.max(weightQ / (alphaQ * alphaQ), 1);
+	}
+}
@@ -0,0 +1,304 @@
+package RevisedSimplex.util;
+
+import java.util.Arrays;
+
+/**
+ * LU factorization of the basis matrix B with partial pivoting. The basis is
+ * factored once as PB = LU and, after every basis change, the factors are kept
+ * instead of being recomputed. Each swap appends an eta column to the
+ * factorization (product form update), so that a solve with the updated basis
+ * costs one pass over L and U plus one pass over the eta file. Once the number
+ * of updates reaches the refactorization interval the basis has to be factored
+ * from scratch again, which bounds both the eta file and the round-off that
+ * accumulates in it. The same factors are used for the solves with B (FTRAN)
+ * and with its transpose (BTRAN), so there is no need to keep a copy of Bt.
+ *
+ * More information about the updates can be found in:
+ *
+ * - "Linear Programming", Chvatal, Chapter 24
+ * - "Computational Techniques of the Simplex Method", Maros, Chapter 8
+ *
+ */
+public class LUFactorization implements BasisSolver {
+	public static final int DEFAULT_REFACTOR_INTERVAL = 50;
+
+	public int refactorInterval;
+	public int numUpdates = 0;
+	public int numFactorizations = 0;
+	public boolean isSingular = false;
+
+	int size;
+	private double[][] LU; // L below the diagonal (unit diagonal), U on and above
+	int[] perm; // row i of LU corresponds to row perm[i] of B
+	double[] work;
+	double[] transposeWork;
+
+	/*
+	 * Eta file. Each eta stores the pivot row, the pivot element and the
+	 * nonzeros of the rest of the transformed entering column.
+	 */
+	private int[] etaRow;
+	private double[] etaPivot;
+	private int[] etaStart;
+	private int[] etaIndex;
+	private double[] etaValue;
+
+	/**
+	 * Constructor for the factorization of a size x size basis.
+	 *
+	 * @param size
+	 * @param refactorInterval
+	 */
+	public LUFactorization(int size, int refactorInterval) {
+		this.size = size;
+		this.refactorInterval = refactorInterval;
+
+		perm = new int[size];
+		work = new double[size];
+		transposeWork = new double[size];
+
+		etaRow = new int[refactorInterval + 1];
+		etaPivot = new double[refactorInterval + 1];
+		etaStart = new int[refactorInterval + 2];
+		etaIndex = new int[4 * size + 4];
+		etaValue = new double[4 * size + 4];
+	}
+
+	public LUFactorization(int size) {
+		this(size, DEFAULT_REFACTOR_INTERVAL);
+	}
+
+	/**
+	 * The factors are allocated here the first time, rather than by the
+	 * constructor, so a solver whose factorization is replaced never holds
+	 * them.
+	 */
+	@Override
+	public void clearBasis() {
+		if (LU == null)
+			LU = new double[size][size];
+		else
+			for (double[] row : LU)
+				Arrays.fill(row, 0);
+	}
+
+	@Override
+	public void setEntry(int row, int col, double value) {
+		LU[row][col] = value;
+	}
+
+	/**
+	 * Factors the basis matrix in place, PB = LU, and clears the eta file.
+	 */
+	@Override
+	public void factor() {
+		int swap;
+		double max;
+		double scale;
+		double[] temp;
+
+		isSingular = false;
+		for (int i = 0; i < size; i++)
+			perm[i] = i;
+
+		for (int col = 0; col < size; col++) {
+			max = Math.abs(LU[col][col]);
+			swap = col;
+			for (int i = col + 1; i < size; i++)
+				if (Math.abs(LU[i][col]) > max) {
+					max = Math.abs(LU[i][col]);
+					swap = i;
+				}
+
+			if (swap != col) {
+				temp = LU[swap];
+				LU[swap] = LU[col];
+				LU[col] = temp;
+				int t = perm[swap];
+				perm[swap] = perm[col];
+				perm[col] = t;
+			}
+
+			if (LU[col][col] == 0) {
+				isSingular = true;
+				continue;
+			}
+
+			for (int row = col + 1; row < size; row++) {
+				if (LU[row][col] == 0)
+					continue;
+				scale = LU[row][col] / LU[col][col];
+				LU[row][col] = scale;
+				for (int k = col + 1; k < size; k++)
+					LU[row][k] -= scale * LU[col][k];
+			}
+		}
+
+		this.clearEtaFile();
+	}
+
+	/**
+	 * Starts a new, empty eta file after a factorization from scratch.
+	 */
+	void clearEtaFile() {
+		numUpdates = 0;
+		etaStart[0] = 0;
+		numFactorizations++;
+	}
+
+	/**
+	 * Solves Bx = b for the current (updated) basis. b is not modified.
+	 *
+	 * @param x
+	 * @param b
+	 */
+	@Override
+	public void ftran(double[] x, double[] b) {
+		// forward substitution with L on the permuted right hand side
+		for (int i = 0; i < size; i++) {
+			double value = b[perm[i]];
+			double[] row = LU[i];
+			for (int k = 0; k < i; k++)
+				value -= row[k] * work[k];
+			work[i] = value;
+		}
+
+		// backward substitution with U
+		for (int i = size - 1; i >= 0; i--) {
+			double value = work[i];
+			double[] row = LU[i];
+			for (int k = i + 1; k < size; k++)
+				value -= row[k] * x[k];
+			x[i] = (row[i] != 0) ? value / row[i] : value;
+		}
+
+		this.applyEtaFile(x);
+	}
+
+	/**
+	 * Applies the eta file to x, in the order the updates were made.
+	 *
+	 * @param x
+	 */
+	void applyEtaFile(double[] x) {
+		for (int e = 0; e < numUpdates; e++) {
+			int r = etaRow[e];
+			double t = x[r] / etaPivot[e];
+			if (t != 0)
+				for (int k = etaStart[e]; k < etaStart[e + 1]; k++)
+					x[etaIndex[k]] -= etaValue[k] * t;
+			x[r] = t;
+		}
+	}
+
+	/**
+	 * Solves Bt x = c for the current (updated) basis. c is not modified. The
+	 * eta file is applied in reverse order first, then the transposed LU
+	 * factors are solved row by row so that U and L are still read along their
+	 * rows.
+	 *
+	 * @param x
+	 * @param c
+	 */
+	@Override
+	public void btran(double[] x, double[] c) {
+		double[] z = transposeWork;
+		System.arraycopy(c, 0, z, 0, size);
+		this.applyTransposedEtaFile(z);
+
+		// forward substitution with Ut
+		for (int i = 0; i < size; i++) {
+			double[] row = LU[i];
+			if (row[i] != 0)
+				z[i] /= row[i];
+			double value = z[i];
+			if (value != 0)
+				for (int k = i + 1; k < size; k++)
+					z[k] -= row[k] * value;
+		}
+
+		// backward substitution with Lt
+		for (int i = size - 1; i >= 0; i--) {
+			double[] row = LU[i];
+			double value = z[i];
+			if (value != 0)
+				for (int k = 0; k < i; k++)
+					z[k] -= row[k] * value;
+		}
+
+		for (int i = 0; i < size; i++)
+			x[perm[i]] = z[i];
+	}
+
+	/**
+	 * Applies the transposed eta file to z, in reverse order.
+	 *
+	 * @param z
+	 */
+	void applyTransposedEtaFile(double[] z) {
+		for (int e = numUpdates - 1; e >= 0; e--) {
+			int r = etaRow[e];
+			double value = z[r];
+			for (int k = etaStart[e]; k < etaStart[e + 1]; k++)
+				value -= etaValue[k] * z[etaIndex[k]];
+			z[r] = value / etaPivot[e];
+		}
+	}
+
+	/**
+	 * Replaces the basic column at position row by the entering column. The
+	 * column has to be given already transformed by the current basis, i.e. as
+	 * the solution of B(column) = a_q, which is exactly the yB vector of the
+	 * iteration.
+	 *
+	 * @param row
+	 *            position of the leaving variable in the basis
+	 * @param column
+	 *            transformed entering column
+	 */
+	@Override
+	public void update(int row, double[] column) {
+		int next = etaStart[numUpdates];
+
+		if (numUpdates + 1 >= etaStart.length) {
+			int capacity = 2 * etaStart.length;
+			etaRow = Arrays.copyOf(etaRow, capacity);
+			etaPivot = Arrays.copyOf(etaPivot, capacity);
+			etaStart = Arrays.copyOf(etaStart, capacity + 1);
+		}
+
+		if (next + size > etaIndex.length) {
+			int capacity = Math.max(2 * etaIndex.length, next + size);
+			etaIndex = Arrays.copyOf(etaIndex, capacity);
+			etaValue = Arrays.copyOf(etaValue, capacity);
+		}
+
+		for (int i = 0; i < size; i++)
+			if (i != row && column[i] != 0) {
+				etaIndex[next] = i;
+				etaValue[next] = column[i];
+				next++;
+			}
+
+		etaRow[numUpdates] = row;
+		etaPivot[numUpdates] = column[row];
+		numUpdates++;
+		etaStart[numUpdates] = next;
+	}
+
+	/**
+	 * The factorization has to be recomputed from scratch once the eta file is
+	 * full.
+	 *
+	 * @return true if the next iteration should refactor the basis
+	 */
+	@Override
+	public boolean needsRefactor() {
+		return numUpdates >= refactorInterval;
+	}
+
+	@Override
+	public boolean isSingular() {
+		return isSingular;
+	}
+}
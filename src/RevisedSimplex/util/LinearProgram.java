@@ -0,0 +1,272 @@
+package RevisedSimplex.util;
+
+import java.util.Arrays;
+
+/**
+ * A linear program as it is given to the solver: the constraint matrix of the
+ * structural variables, the right hand sides and types of the constraints,
+ * the costs, the direction of the optimization and the bounds. Once built it
+ * is never modified, so the same instance can be loaded into any number of
+ * solvers, from any number of threads. Its arrays must not be changed by the
+ * callers either.
+ *
+ * A solver loaded from a program doesn't copy the constraint matrix: it works
+ * on the program's own matrix, and on a single row-wise twin of it built on
+ * first use. Each solver only holds what changes while it iterates, i.e. the
+ * right hand side, costs and bounds it may modify, the basis, the solution
+ * vectors and the factorization. Solving scenarios of one large program
+ * concurrently therefore costs one matrix overall, not one per solver. If a
+ * solver scales the problem, it copies the values of the matrix, but still
+ * shares its structure.
+ *
+ * Programs are put together with LinearProgram.Builder, which takes the
+ * constraints the same way as RevisedSimplex does.
+ *
+ */
+public final class LinearProgram {
+	public final int numVariables;
+	public final int numConstraints;
+
+	public final SparseMatrix A;
+	public final double[] b;
+	public final int[] constraintType;
+	public final double[] cost;
+	public final boolean isMinimize;
+	public final double[] lowerBound;
+	public final double[] upperBound;
+
+	private volatile SparseMatrix rowsOfA = null;
+
+	/**
+	 * Constructor for a program whose constraint matrix is already built, as
+	 * by a file reader. The arrays are taken over, not copied, so they must
+	 * not be modified afterwards.
+	 *
+	 * @param A
+	 *            numConstraints x numVariables
+	 * @param b
+	 * @param constraintType
+	 * @param cost
+	 * @param isMinimize
+	 * @param lowerBound
+	 * @param upperBound
+	 */
+	public LinearProgram(SparseMatrix A, double[] b, int[] constraintType, double[] cost, boolean isMinimize, double[] lowerBound,
+			double[] upperBound) {
+		numVariables = A.numCols;
+		numConstraints = A.numRows;
+		this.A = A;
+		this.b = b;
+		this.constraintType = constraintType;
+		this.cost = cost;
+		this.isMinimize = isMinimize;
+		this.lowerBound = lowerBound;
+		this.upperBound = upperBound;
+	}
+
+	private LinearProgram(Builder builder) {
+		numVariables = builder.numVariables;
+		numConstraints = builder.numConstraints;
+		A = builder.entries.build(numConstraints, numVariables);
+		b = builder.b.clone();
+		constraintType = builder.constraintType.clone();
+		cost = builder.cost.clone();
+		isMinimize = builder.isMinimize;
+		lowerBound = builder.lowerBound.clone();
+		upperBound = builder.upperBound.clone();
+	}
+
+	/**
+	 * Loads the program into a solver and initializes it. The solver has to
+	 * have been created for numVariables variables and numConstraints
+	 * constraints; whatever it was solving before is cleared.
+	 *
+	 * @param solver
+	 */
+	public void load(RevisedSimplex solver) {
+		solver.clear(numVariables, numConstraints);
+		solver.program = this;
+
+		for (int j = 0; j < numVariables; j++)
+			if (lowerBound[j] != 0 || upperBound[j] != Double.POSITIVE_INFINITY)
+				solver.setBounds(j, lowerBound[j], upperBound[j]);
+		for (int i = 0; i < numConstraints; i++) {
+			solver.b[i] = b[i];
+			solver.x[i] = b[i];
+			solver.constraintType[i] = constraintType[i];
+		}
+		solver.numConstraintsTaken = numConstraints;
+
+		solver.optimizationType(cost, isMinimize);
+		solver.initialize(numVariables, numConstraints);
+	}
+
+	/**
+	 * Row-wise twin of A, built by the first solver that needs it and shared
+	 * by all of them afterwards.
+	 *
+	 * @return the transpose of A
+	 */
+	SparseMatrix rowsOfA() {
+		SparseMatrix rows = rowsOfA;
+		if (rows == null)
+			synchronized (this) {
+				rows = rowsOfA;
+				if (rows == null)
+					rowsOfA = rows = A.transpose();
+			}
+		return rows;
+	}
+
+	/**
+	 * Creates a solver of the right size and loads the program into it.
+	 *
+	 * @return the initialized solver
+	 */
+	public RevisedSimplex newSolver() {
+		RevisedSimplex solver = new RevisedSimplex(numVariables, numConstraints);
+		this.load(solver);
+		return solver;
+	}
+
+	/**
+	 * Collects the data of a linear program. By default every variable has a
+	 * zero cost and is bounded by 0 from below only, and the objective is
+	 * minimized.
+	 *
+	 */
+	public static class Builder {
+		private int numVariables;
+		private int numConstraints;
+		private int numConstraintsTaken = 0;
+
+		private SparseMatrix.Builder entries = new SparseMatrix.Builder();
+		private double[] b;
+		private int[] constraintType;
+		private double[] cost;
+		private boolean isMinimize = true;
+		private double[] lowerBound;
+		private double[] upperBound;
+
+		/**
+		 * Constructor for a program with the given numbers of variables and
+		 * constraints.
+		 *
+		 * @param numVariables
+		 * @param numConstraints
+		 */
+		public Builder(int numVariables, int numConstraints) {
+			this.numVariables = numVariables;
+			this.numConstraints = numConstraints;
+			b = new double[numConstraints];
+			constraintType = new int[numConstraints];
+			cost = new double[numVariables];
+			lowerBound = new double[numVariables];
+			upperBound = new double[numVariables];
+			Arrays.fill(upperBound, Double.POSITIVE_INFINITY);
+		}
+
+		/**
+		 * Adds the next constraint, with one coefficient per variable, as in
+		 * RevisedSimplex.addConstraint().
+		 *
+		 * @param coefficients
+		 * @param rhs
+		 * @param type
+		 * @return this builder
+		 */
+		public Builder addConstraint(double[] coefficients, double rhs, int type) {
+			for (int j = 0; j < numVariables; j++)
+				entries.add(numConstraintsTaken, j, coefficients[j]);
+			this.setConstraint(numConstraintsTaken, rhs, type);
+			numConstraintsTaken++;
+			return this;
+		}
+
+		/**
+		 * Sets the right hand side and the type of a constraint, whose
+		 * coefficients are given one by one with setCoefficient().
+		 *
+		 * @param row
+		 * @param rhs
+		 * @param type
+		 * @return this builder
+		 */
+		public Builder setConstraint(int row, double rhs, int type) {
+			b[row] = rhs;
+			constraintType[row] = type;
+			return this;
+		}
+
+		/**
+		 * Sets a single coefficient of the constraint matrix. Coefficients
+		 * given more than once for the same position are added up.
+		 *
+		 * @param row
+		 * @param col
+		 * @param value
+		 * @return this builder
+		 */
+		public Builder setCoefficient(int row, int col, double value) {
+			entries.add(row, col, value);
+			return this;
+		}
+
+		/**
+		 * @param col
+		 * @param value
+		 * @return this builder
+		 */
+		public Builder setCost(int col, double value) {
+			cost[col] = value;
+			return this;
+		}
+
+		/**
+		 * Sets every cost and the direction of the optimization, as in
+		 * RevisedSimplex.optimizationType().
+		 *
+		 * @param coefficients
+		 * @param isMinimize
+		 * @return this builder
+		 */
+		public Builder optimizationType(double[] coefficients, boolean isMinimize) {
+			System.arraycopy(coefficients, 0, cost, 0, numVariables);
+			this.isMinimize = isMinimize;
+			return this;
+		}
+
+		/**
+		 * @param isMinimize
+		 * @return this builder
+		 */
+		public Builder minimize(boolean isMinimize) {
+			this.isMinimize = isMinimize;
+			return this;
+		}
+
+		/**
+		 * Sets the bounds of a variable, with the same restrictions as
+		 * RevisedSimplex.setBounds().
+		 *
+		 * @param variable
+		 * @param lower
+		 * @param upper
+		 * @return this builder
+		 */
+		public Builder setBounds(int variable, double lower, double upper) {
+			if (lower > upper)
+				throw new IllegalArgumentException("Lower bound " + lower + " of X" + variable + " exceeds its upper bound " + upper);
+			lowerBound[variable] = lower;
+			upperBound[variable] = upper;
+			return this;
+		}
+
+		/**
+		 * @return the program, which no longer depends on this builder
+		 */
+		public LinearProgram build() {
+			return new LinearProgram(this);
+		}
+	}
+}
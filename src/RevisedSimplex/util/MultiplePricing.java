@@ -0,0 +1,88 @@
+package RevisedSimplex.util;
+
+/**
+ * Multiple pricing. A full pricing pass keeps a shortlist of the most negative
+ * reduced costs, and the following iterations only price the candidates on the
+ * shortlist again, with the new pi. The best remaining candidate enters; once
+ * none of them is attractive any more, a full pass builds a new shortlist.
+ *
+ * The shortlist holds positions in NonBasicVariables. A pivot only changes the
+ * variable at the entering position, which is dropped from the shortlist.
+ *
+ */
+public class MultiplePricing implements PricingStrategy {
+	public static final int DEFAULT_SHORTLIST_SIZE = 8;
+
+	public int shortlistSize;
+	private int[] shortlist;
+	private int numCandidates = 0;
+
+	public MultiplePricing(int shortlistSize) {
+		this.shortlistSize = Math.max(1, shortlistSize);
+		shortlist = new int[this.shortlistSize];
+	}
+
+	public MultiplePricing() {
+		this(DEFAULT_SHORTLIST_SIZE);
+	}
+
+	@Override
+	public int chooseEntering(RevisedSimplex lp) {
+		int best = -1;
+		int bestSlot = -1;
+		double bestValue = 0;
+		double d;
+
+		// minor iteration: price the shortlist only
+		for (int k = 0; k < numCandidates; k++) {
+			d = lp.computeReducedCost(shortlist[k]);
+			if (d < bestValue) {
+				bestValue = d;
+				best = shortlist[k];
+				bestSlot = k;
+			}
+		}
+		if (best >= 0) {
+			shortlist[bestSlot] = shortlist[--numCandidates];
+			return best;
+		}
+
+		// major iteration: full pricing, keep the most negative ones
+		numCandidates = 0;
+		lp.calculateReducedCosts();
+		for (int i = 0; i < lp.numNonbasic; i++) {
+			d = lp.pricedCost(i);
+			if (d >= 0)
+				continue;
+			if (numCandidates < shortlistSize) {
+				shortlist[numCandidates++] = i;
+			} else {
+				int worst = 0;
+				for (int k = 1; k < numCandidates; k++)
+					if (lp.pricedCost(shortlist[k]) > lp.pricedCost(shortlist[worst]))
+						worst = k;
+				if (d < lp.pricedCost(shortlist[worst]))
+					shortlist[worst] = i;
+			}
+		}
+		if (numCandidates == 0)
+			return -1;
+
+		bestSlot = 0;
+		for (int k = 1; k < numCandidates; k++)
+			if (lp.pricedCost(shortlist[k]) < lp.pricedCost(shortlist[bestSlot]))
+				bestSlot = k;
+		best = shortlist[bestSlot];
+		shortlist[bestSlot] = shortlist[--numCandidates];
+		return best;
+	}
+
+	@Override
+	public void update(RevisedSimplex lp) {
+	}
+
+	@Override
+	public void reset() {
+		numCandidates = 0;
+	}
+}
@@ -0,0 +1,250 @@
+package RevisedSimplex.util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+
+/**
+ * LU factorization of the basis matrix whose factors are held outside of the
+ * heap, one direct buffer per row. The factors are the largest and longest
+ * lived data of the solver, size x size doubles, so keeping them off the heap
+ * leaves the garbage collector with nothing but small objects to trace. The
+ * rows are separate buffers, so a basis isn't limited to the 2 GB of a single
+ * buffer, and rows are swapped by swapping the buffers, as LUFactorization
+ * swaps its arrays. The eta file and the work vectors are small and stay in
+ * the heap.
+ *
+ * The buffers are allocated when the first basis is factored. close() frees
+ * them right away; otherwise they're released only when the factorization
+ * itself is garbage collected, which the collector doesn't hurry to do for an
+ * object that looks small to it. Every entry is read
+ * through a buffer, which is slower than an array: the solves and the
+ * factorization take up to about twice as long as with LUFactorization.
+ *
+ */
+public class OffHeapLUFactorization extends LUFactorization implements AutoCloseable {
+	private DoubleBuffer[] rows; // L below the diagonal (unit diagonal), U on and above
+	private ByteBuffer[] memory; // the buffers behind the rows, in no order
+
+	/*
+	 * Unsafe.invokeCleaner(), which frees a direct buffer on Java 9 and later.
+	 * It's null on Java 8, where the cleaner of the buffer is called instead.
+	 */
+	private static final Object UNSAFE;
+	private static final Method INVOKE_CLEANER;
+
+	static {
+		Object unsafe = null;
+		Method invokeCleaner = null;
+		try {
+			Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+			invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+			Field field = unsafeClass.getDeclaredField("theUnsafe");
+			field.setAccessible(true);
+			unsafe = field.get(null);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			invokeCleaner = null;
+		}
+		UNSAFE = unsafe;
+		INVOKE_CLEANER = invokeCleaner;
+	}
+
+	/**
+	 * Constructor for the factorization of a size x size basis.
+	 *
+	 * @param size
+	 * @param refactorInterval
+	 */
+	public OffHeapLUFactorization(int size, int refactorInterval) {
+		super(size, refactorInterval);
+	}
+
+	public OffHeapLUFactorization(int size) {
+		this(size, DEFAULT_REFACTOR_INTERVAL);
+	}
+
+	@Override
+	public void clearBasis() {
+		if (rows == null) {
+			// allocateDirect() returns zeroed memory
+			rows = new DoubleBuffer[size];
+			memory = new ByteBuffer[size];
+			for (int i = 0; i < size; i++) {
+				memory[i] = ByteBuffer.allocateDirect(8 * size).order(ByteOrder.nativeOrder());
+				rows[i] = memory[i].asDoubleBuffer();
+			}
+			return;
+		}
+		for (DoubleBuffer row : rows)
+			for (int k = 0; k < size; k++)
+				row.put(k, 0);
+	}
+
+	@Override
+	public void setEntry(int row, int col, double value) {
+		this.checkOpen();
+		rows[row].put(col, value);
+	}
+
+	@Override
+	public void factor() {
+		int swap;
+		double max;
+		double scale;
+		DoubleBuffer temp;
+
+		this.checkOpen();
+		isSingular = false;
+		for (int i = 0; i < size; i++)
+			perm[i] = i;
+
+		for (int col = 0; col < size; col++) {
+			max = Math.abs(rows[col].get(col));
+			swap = col;
+			for (int i = col + 1; i < size; i++)
+				if (Math.abs(rows[i].get(col)) > max) {
+					max = Math.abs(rows[i].get(col));
+					swap = i;
+				}
+
+			if (swap != col) {
+				temp = rows[swap];
+				rows[swap] = rows[col];
+				rows[col] = temp;
+				int t = perm[swap];
+				perm[swap] = perm[col];
+				perm[col] = t;
+			}
+
+			DoubleBuffer pivotRow = rows[col];
+			double pivot = pivotRow.get(col);
+			if (pivot == 0) {
+				isSingular = true;
+				continue;
+			}
+
+			for (int row = col + 1; row < size; row++) {
+				DoubleBuffer current = rows[row];
+				if (current.get(col) == 0)
+					continue;
+				scale = current.get(col) / pivot;
+				current.put(col, scale);
+				for (int k = col + 1; k < size; k++)
+					current.put(k, current.get(k) - scale * pivotRow.get(k));
+			}
+		}
+
+		this.clearEtaFile();
+	}
+
+	@Override
+	public void ftran(double[] x, double[] b) {
+		this.checkOpen();
+		// forward substitution with L on the permuted right hand side
+		for (int i = 0; i < size; i++) {
+			double value = b[perm[i]];
+			DoubleBuffer row = rows[i];
+			for (int k = 0; k < i; k++)
+				value -= row.get(k) * work[k];
+			work[i] = value;
+		}
+
+		// backward substitution with U
+		for (int i = size - 1; i >= 0; i--) {
+			double value = work[i];
+			DoubleBuffer row = rows[i];
+			for (int k = i + 1; k < size; k++)
+				value -= row.get(k) * x[k];
+			double diagonal = row.get(i);
+			x[i] = (diagonal != 0) ? value / diagonal : value;
+		}
+
+		this.applyEtaFile(x);
+	}
+
+	@Override
+	public void btran(double[] x, double[] c) {
+		this.checkOpen();
+		double[] z = transposeWork;
+		System.arraycopy(c, 0, z, 0, size);
+		this.applyTransposedEtaFile(z);
+
+		// forward substitution with Ut
+		for (int i = 0; i < size; i++) {
+			DoubleBuffer row = rows[i];
+			double diagonal = row.get(i);
+			if (diagonal != 0)
+				z[i] /= diagonal;
+			double value = z[i];
+			if (value != 0)
+				for (int k = i + 1; k < size; k++)
+					z[k] -= row.get(k) * value;
+		}
+
+		// backward substitution with Lt
+		for (int i = size - 1; i >= 0; i--) {
+			DoubleBuffer row = rows[i];
+			double value = z[i];
+			if (value != 0)
+				for (int k = 0; k < i; k++)
+					z[k] -= row.get(k) * value;
+		}
+
+		for (int i = 0; i < size; i++)
+			x[perm[i]] = z[i];
+	}
+
+	/**
+	 * A closed factorization always needs to be factored again, so a solver
+	 * that uses it gives it the basis anew instead of solving with it.
+	 */
+	@Override
+	public boolean needsRefactor() {
+		return rows == null || super.needsRefactor();
+	}
+
+	/**
+	 * Frees the buffers of the factors. The factorization can't be solved with
+	 * until the next basis is factored, for which clearBasis() allocates them
+	 * again; until then its solves throw IllegalStateException.
+	 */
+	@Override
+	public void close() {
+		if (rows == null)
+			return;
+		rows = null;
+		for (ByteBuffer buffer : memory)
+			free(buffer);
+		memory = null;
+	}
+
+	private void checkOpen() {
+		if (rows == null)
+			throw new IllegalStateException("The factorization is closed, clearBasis() has to be called first");
+	}
+
+	/**
+	 * Frees the memory of a direct buffer, with Unsafe.invokeCleaner() or the
+	 * cleaner of the buffer, whichever the JDK has. If neither can be reached,
+	 * the memory is left to the garbage collector.
+	 *
+	 * @param buffer
+	 */
+	private static void free(ByteBuffer buffer) {
+		try {
+			if (INVOKE_CLEANER != null) {
+				INVOKE_CLEANER.invoke(UNSAFE, buffer);
+				return;
+			}
+			Method getCleaner = buffer.getClass().getMethod("cleaner");
+			getCleaner.setAccessible(true);
+			Object cleaner = getCleaner.invoke(buffer);
+			if (cleaner != null)
+				cleaner.getClass().getMethod("clean").invoke(cleaner);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			// left to the garbage collector
+		}
+	}
+}
@@ -0,0 +1,205 @@
+package RevisedSimplex.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * Sparse matrix in the same compressed column storage as SparseMatrix, with
+ * its column starts, row indices and values held in buffers instead of
+ * arrays. The buffers may be mapped from a file, so that a matrix of a binary
+ * model is used in place without being read into the heap, or allocated
+ * outside of the heap. Either way the garbage collector never has to trace or
+ * move the nonzeros.
+ *
+ * The private arrays of SparseMatrix are null here; every method is
+ * overridden to read the buffers. Positions are ints, so a matrix holds at most 2^31 - 1 nonzeros,
+ * and a single buffer can't be larger than 2 GB.
+ *
+ * There is no close(): the memory of the buffers is reclaimed only by the
+ * garbage collector, when the matrix and every other matrix sharing its
+ * buffers are collected, and a mapped file is unmapped only then. The
+ * matrices made by scale() share the structure of this one, so freeing the
+ * buffers of one explicitly would leave the others reading freed memory.
+ *
+ */
+public class OffHeapSparseMatrix extends SparseMatrix {
+	private final IntBuffer starts;
+	private final IntBuffer rows;
+	private final DoubleBuffer entries;
+
+	/**
+	 * Constructor for a matrix whose compressed columns are already stored in
+	 * the given buffers. Only absolute reads are made, so the positions and
+	 * limits of the buffers don't matter, and they may be read-only.
+	 *
+	 * @param numRows
+	 * @param numCols
+	 * @param starts
+	 *            numCols + 1 column starts
+	 * @param rows
+	 * @param entries
+	 */
+	public OffHeapSparseMatrix(int numRows, int numCols, IntBuffer starts, IntBuffer rows, DoubleBuffer entries) {
+		super(numRows, numCols, null, null, null);
+		this.starts = starts;
+		this.rows = rows;
+		this.entries = entries;
+	}
+
+	/**
+	 * Copies the matrix into buffers allocated outside of the heap.
+	 *
+	 * @param matrix
+	 * @return the copy
+	 */
+	public static OffHeapSparseMatrix copyOf(SparseMatrix matrix) {
+		int nnz = matrix.nonZeros();
+		IntBuffer starts = allocateInts(matrix.numCols + 1);
+		IntBuffer rows = allocateInts(nnz);
+		DoubleBuffer entries = allocateDoubles(nnz);
+
+		for (int j = 0; j <= matrix.numCols; j++)
+			starts.put(j, matrix.columnStart(j));
+		for (int k = 0; k < nnz; k++) {
+			rows.put(k, matrix.rowAt(k));
+			entries.put(k, matrix.valueAt(k));
+		}
+		return new OffHeapSparseMatrix(matrix.numRows, matrix.numCols, starts, rows, entries);
+	}
+
+	@Override
+	public int nonZeros() {
+		return starts.get(numCols);
+	}
+
+	@Override
+	public int columnStart(int col) {
+		return starts.get(col);
+	}
+
+	@Override
+	public int rowAt(int k) {
+		return rows.get(k);
+	}
+
+	@Override
+	public double valueAt(int k) {
+		return entries.get(k);
+	}
+
+	@Override
+	public double get(int row, int col) {
+		int low = starts.get(col);
+		int high = starts.get(col + 1) - 1;
+
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			int i = rows.get(middle);
+			if (i < row)
+				low = middle + 1;
+			else if (i > row)
+				high = middle - 1;
+			else
+				return entries.get(middle);
+		}
+		return 0;
+	}
+
+	@Override
+	public double dotColumn(int col, double[] v) {
+		double result = 0;
+		int end = starts.get(col + 1);
+		for (int k = starts.get(col); k < end; k++)
+			result += entries.get(k) * v[rows.get(k)];
+		return result;
+	}
+
+	@Override
+	public void scatterColumn(int col, double[] dense) {
+		for (int i = 0; i < numRows; i++)
+			dense[i] = 0;
+		int end = starts.get(col + 1);
+		for (int k = starts.get(col); k < end; k++)
+			dense[rows.get(k)] = entries.get(k);
+	}
+
+	@Override
+	public void multiplyAdd(double[] v, double[] result) {
+		int k = starts.get(0);
+		for (int j = 0; j < numCols; j++) {
+			int end = starts.get(j + 1);
+			double factor = v[j];
+			if (factor != 0)
+				for (; k < end; k++)
+					result[rows.get(k)] += entries.get(k) * factor;
+			k = end;
+		}
+	}
+
+	@Override
+	public void addColumn(int col, double factor, double[] v) {
+		int end = starts.get(col + 1);
+		for (int k = starts.get(col); k < end; k++)
+			v[rows.get(k)] += entries.get(k) * factor;
+	}
+
+	/**
+	 * Scales in place only if the values are writable, e.g. not if they're
+	 * mapped read-only from a file. A copy is again held outside of the heap.
+	 */
+	@Override
+	public SparseMatrix scale(double[] rowScale, double[] colScale, boolean inPlace) {
+		DoubleBuffer scaled = (inPlace && !entries.isReadOnly()) ? entries : allocateDoubles(this.nonZeros());
+		for (int j = 0; j < numCols; j++) {
+			int end = starts.get(j + 1);
+			for (int k = starts.get(j); k < end; k++)
+				scaled.put(k, entries.get(k) * rowScale[rows.get(k)] * colScale[j]);
+		}
+		return (scaled == entries) ? this : new OffHeapSparseMatrix(numRows, numCols, starts, rows, scaled);
+	}
+
+	/**
+	 * Builds the transpose, i.e. the row-wise twin, outside of the heap as
+	 * well.
+	 */
+	@Override
+	public SparseMatrix transpose() {
+		int nnz = this.nonZeros();
+		IntBuffer start = allocateInts(numRows + 1);
+		IntBuffer index = allocateInts(nnz);
+		DoubleBuffer value = allocateDoubles(nnz);
+
+		int[] next = new int[numRows + 1];
+		for (int k = 0; k < nnz; k++)
+			next[rows.get(k) + 1]++;
+		for (int i = 0; i < numRows; i++)
+			next[i + 1] += next[i];
+		for (int i = 0; i <= numRows; i++)
+			start.put(i, next[i]);
+
+		for (int j = 0; j < numCols; j++) {
+			int end = starts.get(j + 1);
+			for (int k = starts.get(j); k < end; k++) {
+				int position = next[rows.get(k)]++;
+				index.put(position, j);
+				value.put(position, entries.get(k));
+			}
+		}
+
+		return new OffHeapSparseMatrix(numCols, numRows, start, index, value);
+	}
+
+	private static IntBuffer allocateInts(int length) {
+		if (length > Integer.MAX_VALUE / 4)
+			throw new IllegalArgumentException("Buffer of " + length + " ints is larger than 2 GB");
+		return ByteBuffer.allocateDirect(4 * length).order(ByteOrder.nativeOrder()).asIntBuffer();
+	}
+
+	private static DoubleBuffer allocateDoubles(int length) {
+		if (length > Integer.MAX_VALUE / 8)
+			throw new IllegalArgumentException("Buffer of " + length + " doubles is larger than 2 GB");
+		return ByteBuffer.allocateDirect(8 * length).order(ByteOrder.nativeOrder()).asDoubleBuffer();
+	}
+}
@@ -0,0 +1,105 @@
+package RevisedSimplex.util;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Multi-core pricing over the nonbasic columns. Each reduced cost, c_j - pi A_j,
+ * and each entry of the pivot row only depends on its own column, so the
+ * nonbasic variables are split into ranges that are priced by the workers of a
+ * ForkJoinPool. Every worker writes to its own part of the result and returns
+ * the position of its most negative reduced cost; the positions are reduced to
+ * the overall minimum while the tasks are joined. Ties are resolved towards
+ * the lower position, as in the sequential loop, so both give the same
+ * entering variable.
+ *
+ * The solver only takes this path when it has at least
+ * parallelPricingThreshold nonbasic variables. Below that, splitting the work
+ * costs more than it saves.
+ *
+ */
+final class ParallelPricing extends RecursiveTask<Integer> {
+	private static final long serialVersionUID = 1L;
+
+	public static final int DEFAULT_THRESHOLD = 20000;
+
+	// ranges smaller than this are priced by a single worker
+	static final int MINIMUM_RANGE = 2048;
+
+	private static final int REDUCED_COSTS = 0;
+	private static final int PIVOT_ROW = 1;
+
+	private final RevisedSimplex lp;
+	private final int mode;
+	private final int from;
+	private final int to;
+
+	private ParallelPricing(RevisedSimplex lp, int mode, int from, int to) {
+		this.lp = lp;
+		this.mode = mode;
+		this.from = from;
+		this.to = to;
+	}
+
+	/**
+	 * Calculates every reduced cost in parallel.
+	 *
+	 * @param lp
+	 * @return the index of the most negative reduced cost in NonBasicVariables,
+	 *         -1 if none is negative
+	 */
+	static int calculateReducedCosts(RevisedSimplex lp) {
+		return ForkJoinPool.commonPool().invoke(new ParallelPricing(lp, REDUCED_COSTS, 0, lp.numNonbasic));
+	}
+
+	/**
+	 * Calculates every entry of the pivot row in parallel, from the row of
+	 * B^-1 already stored in rowOfBinv.
+	 *
+	 * @param lp
+	 */
+	static void calculatePivotRow(RevisedSimplex lp) {
+		ForkJoinPool.commonPool().invoke(new ParallelPricing(lp, PIVOT_ROW, 0, lp.numNonbasic));
+	}
+
+	@Override
+	protected Integer compute() {
+		if (to - from <= MINIMUM_RANGE) {
+			int best = -1;
+			double bestValue = 0;
+			double d;
+
+			if (mode == PIVOT_ROW) {
+				double[] row = lp.rowOfBinv;
+				for (int i = from; i < to; i++)
+					lp.pivotRow[i] = lp.dotColumn(lp.NonBasicVariables[i], row);
+				return best;
+			}
+
+			double[] pi = lp.pi;
+			for (int i = from; i < to; i++) {
+				d = lp.cost[lp.NonBasicVariables[i]] - lp.dotColumn(lp.NonBasicVariables[i], pi);
+				lp.reducedCost[i] = d;
+				d = lp.pricedCost(i);
+				if (d < bestValue) {
+					bestValue = d;
+					best = i;
+				}
+			}
+			return best;
+		}
+
+		int middle = (from + to) >>> 1;
+		ParallelPricing left = new ParallelPricing(lp, mode, from, middle);
+		ParallelPricing right = new ParallelPricing(lp, mode, middle, to);
+		left.fork();
+		int rightBest = right.compute();
+		int leftBest = left.join();
+
+		if (leftBest < 0)
+			return rightBest;
+		if (rightBest < 0 || lp.pricedCost(leftBest) <= lp.pricedCost(rightBest))
+			return leftBest;
+		return rightBest;
+	}
+}
@@ -0,0 +1,65 @@
+package RevisedSimplex.util;
+
+/**
+ * Partial pricing. The nonbasic variables are split into blocks and only one
+ * block is priced at a time: the most negative reduced cost of the first block
+ * that has any enters the basis, and the next iteration starts from the
+ * following block. The blocks are visited in turns, so each iteration prices a
+ * fraction of the columns at the cost of slightly worse entering choices.
+ *
+ */
+public class PartialPricing implements PricingStrategy {
+	public static final int DEFAULT_NUM_BLOCKS = 8;
+
+	public int numBlocks;
+	private int start = 0;
+
+	public PartialPricing(int numBlocks) {
+		this.numBlocks = Math.max(1, numBlocks);
+	}
+
+	public PartialPricing() {
+		this(DEFAULT_NUM_BLOCKS);
+	}
+
+	@Override
+	public int chooseEntering(RevisedSimplex lp) {
+		int n = lp.numNonbasic;
+		int blockSize = (n + numBlocks - 1) / numBlocks;
+		int minIndex = -1;
+		double minValue = 0;
+		double d;
+
+		if (n == 0)
+			return -1;
+		if (start >= n)
+			start = 0;
+
+		// at most every column once, block by block, wrapping around
+		for (int scanned = 0; scanned < n;) {
+			int end = Math.min(scanned + blockSize, n);
+			for (; scanned < end; scanned++) {
+				int i = (start + scanned) % n;
+				d = lp.computeReducedCost(i);
+				if (d < minValue) {
+					minValue = d;
+					minIndex = i;
+				}
+			}
+			if (minIndex >= 0) {
+				start = (start + scanned) % n;
+				return minIndex;
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public void update(RevisedSimplex lp) {
+	}
+
+	@Override
+	public void reset() {
+		start = 0;
+	}
+}
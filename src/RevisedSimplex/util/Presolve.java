@@ -0,0 +1,691 @@
+package RevisedSimplex.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * Presolve stage that reduces a problem before it is handed to the solver, so
+ * before slack and artificial variables are added by initialize(). The
+ * problem is given the same way as to RevisedSimplex, through addConstraint(),
+ * setBounds() and optimizationType(). presolve() then removes, over and over
+ * until nothing changes:
+ *
+ * - empty rows, after checking that 0 satisfies them,
+ * - singleton rows, which become bounds of their only variable,
+ * - duplicate rows, i.e. rows that are multiples of each other, keeping the
+ * tighter one,
+ * - fixed columns, whose variable has equal lower and upper bounds,
+ * - dominated columns, whose variable can be moved to one of its bounds
+ * without making the objective worse or any constraint harder to satisfy.
+ *
+ * reducedProblem() returns a solver loaded with what's left, and once it's
+ * solved postsolve() maps the solution, the duals and the basis back to the
+ * original rows and columns, undoing the reductions in reverse order.
+ *
+ * More information about the reductions can be found in:
+ *
+ * - "Presolving in linear programming", Andersen & Andersen, Mathematical
+ * Programming 71 (1995)
+ *
+ */
+public class Presolve {
+	public int numVariables;
+	public int numConstraints;
+	public int numConstraintsTaken = 0;
+
+	// problem as it was given
+	private SparseMatrix.Builder entries = new SparseMatrix.Builder();
+	private double[] b;
+	private int[] constraintType;
+	private double[] cost;
+	private boolean isMinimize = true;
+	private double[] lowerBound;
+	private double[] upperBound;
+
+	// number of rows and columns removed by each reduction
+	public int emptyRows = 0;
+	public int singletonRows = 0;
+	public int duplicateRows = 0;
+	public int fixedColumns = 0;
+	public int dominatedColumns = 0;
+
+	/*
+	 * Results of postsolve(), for the original problem.
+	 */
+	public double[] solution;
+	public double[] duals;
+	public BasisSnapshot basis;
+	public double objectiveValue;
+
+	private static final int EMPTY_ROW = 0;
+	private static final int SINGLETON_ROW = 1;
+	private static final int DUPLICATE_ROW = 2;
+	private static final int FIXED_COLUMN = 3;
+	private static final int DOMINATED_COLUMN = 4;
+
+	/*
+	 * Reductions in the order they're made, undone backwards by postsolve().
+	 */
+	private static class Reduction {
+		int kind;
+		int index; // the row or column removed
+		int col; // the variable of a singleton row
+		double value; // the coefficient of a singleton row
+
+		Reduction(int kind, int index, int col, double value) {
+			this.kind = kind;
+			this.index = index;
+			this.col = col;
+			this.value = value;
+		}
+	}
+
+	private ArrayList<Reduction> reductions = new ArrayList<Reduction>();
+
+	// working copy of the problem
+	private SparseMatrix A;
+	private SparseMatrix rowsOfA;
+	private double[] rhs;
+	private int[] type;
+	private double[] lower;
+	private double[] upper;
+	private int[] lowerRow; // singleton row that set the lower bound, or -1
+	private int[] upperRow;
+	private boolean[] rowActive;
+	private boolean[] colActive;
+	private int[] rowCount;
+	private double[] colValue;
+	private boolean[] colAtUpper;
+	private int[] rowMap;
+	private int[] colMap;
+	private int numRowsLeft;
+	private int numColsLeft;
+
+	/**
+	 * Constructor for a problem with the given number of variables and
+	 * constraints.
+	 *
+	 * @param numberOfVariables
+	 * @param numberOfConstraints
+	 */
+	public Presolve(int numberOfVariables, int numberOfConstraints) {
+		numVariables = numberOfVariables;
+		numConstraints = numberOfConstraints;
+		b = new double[numberOfConstraints];
+		constraintType = new int[numberOfConstraints];
+		cost = new double[numberOfVariables];
+		lowerBound = new double[numberOfVariables];
+		upperBound = new double[numberOfVariables];
+		for (int j = 0; j < numberOfVariables; j++)
+			upperBound[j] = Double.POSITIVE_INFINITY;
+	}
+
+	/**
+	 * Adds the next constraint, like RevisedSimplex.addConstraint().
+	 *
+	 * @param coefficients
+	 * @param rhs
+	 * @param type
+	 */
+	public void addConstraint(double[] coefficients, double rhs, int type) {
+		for (int j = 0; j < numVariables; j++)
+			entries.add(numConstraintsTaken, j, coefficients[j]);
+		b[numConstraintsTaken] = rhs;
+		constraintType[numConstraintsTaken] = type;
+		numConstraintsTaken++;
+	}
+
+	/**
+	 * Sets the bounds of a variable, like RevisedSimplex.setBounds().
+	 *
+	 * @param variable
+	 * @param lower
+	 * @param upper
+	 */
+	public void setBounds(int variable, double lower, double upper) {
+		if (lower > upper)
+			throw new IllegalArgumentException("Lower bound " + lower + " of X" + variable + " exceeds its upper bound " + upper);
+		lowerBound[variable] = lower;
+		upperBound[variable] = upper;
+	}
+
+	/**
+	 * Decision for the objective function. Max or Min.
+	 *
+	 * @param coefficients
+	 * @param isMinimize
+	 */
+	public void optimizationType(double[] coefficients, boolean isMinimize) {
+		System.arraycopy(coefficients, 0, cost, 0, numVariables);
+		this.isMinimize = isMinimize;
+	}
+
+	/**
+	 * Applies the reductions until none of them removes anything more.
+	 *
+	 * @return 0 if the reduced problem has to be solved, or
+	 *         RevisedSimplex.INFEASIBLE if presolve has found the problem
+	 *         infeasible
+	 */
+	public int presolve() {
+		boolean changed = true;
+
+		A = entries.build(numConstraints, numVariables);
+		rowsOfA = A.transpose();
+		rhs = b.clone();
+		type = constraintType.clone();
+		lower = lowerBound.clone();
+		upper = upperBound.clone();
+		lowerRow = new int[numVariables];
+		upperRow = new int[numVariables];
+		rowActive = new boolean[numConstraints];
+		colActive = new boolean[numVariables];
+		rowCount = new int[numConstraints];
+		colValue = new double[numVariables];
+		colAtUpper = new boolean[numVariables];
+		reductions.clear();
+		emptyRows = singletonRows = duplicateRows = fixedColumns = dominatedColumns = 0;
+
+		for (int i = 0; i < numConstraints; i++) {
+			rowActive[i] = true;
+			rowCount[i] = rowsOfA.columnStart(i + 1) - rowsOfA.columnStart(i);
+		}
+		for (int j = 0; j < numVariables; j++) {
+			colActive[j] = true;
+			lowerRow[j] = -1;
+			upperRow[j] = -1;
+		}
+
+		while (changed) {
+			changed = false;
+
+			for (int i = 0; i < numConstraints; i++) {
+				if (!rowActive[i])
+					continue;
+				if (rowCount[i] == 0) {
+					if (!this.removeEmptyRow(i))
+						return RevisedSimplex.INFEASIBLE;
+					changed = true;
+				} else if (rowCount[i] == 1) {
+					if (!this.removeSingletonRow(i))
+						return RevisedSimplex.INFEASIBLE;
+					changed = true;
+				}
+			}
+
+			for (int j = 0; j < numVariables; j++) {
+				if (!colActive[j])
+					continue;
+				if (lower[j] == upper[j]) {
+					this.removeColumn(j, false, FIXED_COLUMN);
+					fixedColumns++;
+					changed = true;
+				} else if (this.removeDominatedColumn(j)) {
+					dominatedColumns++;
+					changed = true;
+				}
+			}
+
+			int duplicates = this.removeDuplicateRows();
+			if (duplicates < 0)
+				return RevisedSimplex.INFEASIBLE;
+			if (duplicates > 0)
+				changed = true;
+		}
+
+		// numbering of the rows and columns that are left
+		rowMap = new int[numConstraints];
+		colMap = new int[numVariables];
+		numRowsLeft = 0;
+		numColsLeft = 0;
+		for (int i = 0; i < numConstraints; i++)
+			rowMap[i] = rowActive[i] ? numRowsLeft++ : -1;
+		for (int j = 0; j < numVariables; j++)
+			colMap[j] = colActive[j] ? numColsLeft++ : -1;
+
+		return 0;
+	}
+
+	/**
+	 * An empty row reads 0 <= rhs, 0 >= rhs or 0 = rhs.
+	 *
+	 * @param i
+	 * @return false if the row can't be satisfied
+	 */
+	private boolean removeEmptyRow(int i) {
+		double tolerance = RevisedSimplex.FEASIBILITY_TOLERANCE;
+		if ((type[i] == 0 && rhs[i] < -tolerance) || (type[i] == 1 && rhs[i] > tolerance)
+				|| (type[i] == 2 && Math.abs(rhs[i]) > tolerance))
+			return false;
+
+		rowActive[i] = false;
+		reductions.add(new Reduction(EMPTY_ROW, i, -1, 0));
+		emptyRows++;
+		return true;
+	}
+
+	/**
+	 * A row with a single variable, a x <= rhs, a x >= rhs or a x = rhs, is a
+	 * bound on that variable. The row is remembered as the origin of the bound
+	 * if the bound is tighter than the one before, so that postsolve can give
+	 * its dual back to the row.
+	 *
+	 * @param i
+	 * @return false if the new bound makes the variable infeasible
+	 */
+	private boolean removeSingletonRow(int i) {
+		int j = -1;
+		double a = 0;
+
+		for (int k = rowsOfA.columnStart(i); k < rowsOfA.columnStart(i + 1); k++)
+			if (colActive[rowsOfA.rowAt(k)]) {
+				j = rowsOfA.rowAt(k);
+				a = rowsOfA.valueAt(k);
+				break;
+			}
+
+		double bound = rhs[i] / a;
+		boolean setsUpper = (type[i] == 2) || ((type[i] == 0) == (a > 0));
+		boolean setsLower = (type[i] == 2) || ((type[i] == 1) == (a > 0));
+
+		if (setsUpper && bound < upper[j]) {
+			upper[j] = bound;
+			upperRow[j] = i;
+		}
+		if (setsLower && bound > lower[j]) {
+			lower[j] = bound;
+			lowerRow[j] = i;
+		}
+
+		if (lower[j] > upper[j]) {
+			if (lower[j] - upper[j] > RevisedSimplex.FEASIBILITY_TOLERANCE * (1 + Math.abs(upper[j])))
+				return false;
+			// crossed by round-off only
+			if (lowerRow[j] == i)
+				lower[j] = upper[j];
+			else
+				upper[j] = lower[j];
+		}
+
+		rowActive[i] = false;
+		reductions.add(new Reduction(SINGLETON_ROW, i, j, a));
+		singletonRows++;
+		return true;
+	}
+
+	/**
+	 * Removes a column whose variable is kept at one of its bounds. Its part of
+	 * every row moves to the right hand side.
+	 *
+	 * @param j
+	 * @param atUpper
+	 * @param kind
+	 */
+	private void removeColumn(int j, boolean atUpper, int kind) {
+		double value = atUpper ? upper[j] : lower[j];
+
+		for (int k = A.columnStart(j); k < A.columnStart(j + 1); k++) {
+			int i = A.rowAt(k);
+			if (!rowActive[i])
+				continue;
+			rhs[i] -= A.valueAt(k) * value;
+			rowCount[i]--;
+		}
+
+		colActive[j] = false;
+		colValue[j] = value;
+		colAtUpper[j] = atUpper;
+		reductions.add(new Reduction(kind, j, -1, 0));
+	}
+
+	/**
+	 * A column is dominated if moving its variable towards one of its bounds
+	 * never makes the objective worse and never makes a constraint harder to
+	 * satisfy; there is then an optimal solution with the variable at that
+	 * bound. In terms of the duals, its reduced cost has the right sign
+	 * whatever the duals of its rows are, given their signs. An empty column is
+	 * the simplest case.
+	 *
+	 * @param j
+	 * @return true if the column is removed
+	 */
+	private boolean removeDominatedColumn(int j) {
+		boolean canDecrease = true;
+		boolean canIncrease = true;
+		double c = isMinimize ? cost[j] : -cost[j];
+
+		for (int k = A.columnStart(j); k < A.columnStart(j + 1); k++) {
+			int i = A.rowAt(k);
+			if (!rowActive[i])
+				continue;
+			double a = A.valueAt(k);
+			if (type[i] == 2) {
+				canDecrease = false;
+				canIncrease = false;
+				break;
+			}
+			// a <= row gets easier when a x decreases, a >= row when it increases
+			if ((type[i] == 0) == (a > 0))
+				canIncrease = false;
+			else
+				canDecrease = false;
+		}
+
+		if (c >= 0 && canDecrease && lower[j] != Double.NEGATIVE_INFINITY) {
+			this.removeColumn(j, false, DOMINATED_COLUMN);
+			return true;
+		}
+		if (c <= 0 && canIncrease && upper[j] != Double.POSITIVE_INFINITY) {
+			this.removeColumn(j, true, DOMINATED_COLUMN);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Finds rows that are multiples of each other by hashing every row scaled
+	 * by its first coefficient, and keeps the tighter constraint of each pair.
+	 * A pair of opposite inequalities would be a range, which the solver has
+	 * no row type for, so it is left alone.
+	 *
+	 * @return the number of rows removed, or -1 if a pair contradicts itself
+	 */
+	private int removeDuplicateRows() {
+		int removed = 0;
+		HashMap<Long, Integer> rowsByPattern = new HashMap<Long, Integer>();
+
+		for (int i = 0; i < numConstraints; i++) {
+			if (!rowActive[i] || rowCount[i] < 2)
+				continue;
+
+			long hash = this.rowPattern(i);
+			Integer other = rowsByPattern.get(hash);
+			if (other == null) {
+				rowsByPattern.put(hash, i);
+				continue;
+			}
+
+			double ratio = this.rowRatio(other, i);
+			if (ratio == 0)
+				continue;
+
+			int dropped = this.mergeRows(other, i, ratio);
+			if (dropped == -2)
+				return -1;
+			if (dropped < 0)
+				continue;
+
+			rowActive[dropped] = false;
+			reductions.add(new Reduction(DUPLICATE_ROW, dropped, -1, 0));
+			duplicateRows++;
+			removed++;
+			if (dropped == other)
+				rowsByPattern.put(hash, i);
+		}
+		return removed;
+	}
+
+	/**
+	 * @param i
+	 * @return hash of the columns and the scaled coefficients of the row
+	 */
+	private long rowPattern(int i) {
+		long hash = 17;
+		double first = 0;
+
+		for (int k = rowsOfA.columnStart(i); k < rowsOfA.columnStart(i + 1); k++) {
+			int j = rowsOfA.rowAt(k);
+			if (!colActive[j])
+				continue;
+			if (first == 0)
+				first = rowsOfA.valueAt(k);
+			hash = 31 * hash + j;
+			hash = 31 * hash + Double.doubleToLongBits(rowsOfA.valueAt(k) / first + 0.0);
+		}
+		return hash;
+	}
+
+	/**
+	 * @param i
+	 * @param k
+	 * @return lambda if row k is lambda times row i, 0 otherwise
+	 */
+	private double rowRatio(int i, int k) {
+		int p = rowsOfA.columnStart(i);
+		int q = rowsOfA.columnStart(k);
+		int pEnd = rowsOfA.columnStart(i + 1);
+		int qEnd = rowsOfA.columnStart(k + 1);
+		double ratio = 0;
+
+		while (true) {
+			while (p < pEnd && !colActive[rowsOfA.rowAt(p)])
+				p++;
+			while (q < qEnd && !colActive[rowsOfA.rowAt(q)])
+				q++;
+			if (p == pEnd || q == qEnd)
+				return (p == pEnd && q == qEnd) ? ratio : 0;
+			if (rowsOfA.rowAt(p) != rowsOfA.rowAt(q))
+				return 0;
+			if (ratio == 0)
+				ratio = rowsOfA.valueAt(q) / rowsOfA.valueAt(p);
+			else if (rowsOfA.valueAt(q) != ratio * rowsOfA.valueAt(p))
+				return 0;
+			p++;
+			q++;
+		}
+	}
+
+	/**
+	 * Decides which of the rows i and k = lambda(i) is redundant.
+	 *
+	 * @param i
+	 * @param k
+	 * @param lambda
+	 * @return the row to drop, -1 if both are needed, -2 if they contradict
+	 */
+	private int mergeRows(int i, int k, double lambda) {
+		double tolerance = RevisedSimplex.FEASIBILITY_TOLERANCE * (1 + Math.abs(rhs[i]));
+		double rhsK = rhs[k] / lambda; // row k in the scale of row i
+		int typeK = type[k];
+		if (lambda < 0 && typeK != 2)
+			typeK = 1 - typeK;
+
+		if (type[i] == 2 && typeK == 2)
+			return (Math.abs(rhsK - rhs[i]) <= tolerance) ? k : -2;
+		if (type[i] == 2)
+			return this.satisfies(rhs[i], typeK, rhsK, tolerance) ? k : -2;
+		if (typeK == 2)
+			return this.satisfies(rhsK, type[i], rhs[i], tolerance) ? i : -2;
+		if (type[i] == typeK) {
+			// the looser one goes
+			boolean iIsTighter = (type[i] == 0) ? (rhs[i] <= rhsK) : (rhs[i] >= rhsK);
+			return iIsTighter ? k : i;
+		}
+
+		// opposite inequalities, a range
+		double upperEnd = (type[i] == 0) ? rhs[i] : rhsK;
+		double lowerEnd = (type[i] == 0) ? rhsK : rhs[i];
+		return (lowerEnd > upperEnd + tolerance) ? -2 : -1;
+	}
+
+	/**
+	 * @return true if value satisfies the constraint (type, rhs)
+	 */
+	private boolean satisfies(double value, int type, double rhs, double tolerance) {
+		return (type == 0) ? value <= rhs + tolerance : value >= rhs - tolerance;
+	}
+
+	/**
+	 * Creates a solver loaded with the reduced problem, ready to be solved.
+	 *
+	 * @return the solver of the reduced problem
+	 */
+	public RevisedSimplex reducedProblem() {
+		RevisedSimplex solver = new RevisedSimplex(numColsLeft, numRowsLeft);
+		double[] reducedCost = new double[numColsLeft];
+
+		for (int j = 0; j < numVariables; j++) {
+			if (!colActive[j])
+				continue;
+			reducedCost[colMap[j]] = cost[j];
+			solver.setBounds(colMap[j], lower[j], upper[j]);
+			for (int k = A.columnStart(j); k < A.columnStart(j + 1); k++)
+				if (rowActive[A.rowAt(k)])
+					solver.constraintEntries.add(rowMap[A.rowAt(k)], colMap[j], A.valueAt(k));
+		}
+		for (int i = 0; i < numConstraints; i++)
+			if (rowActive[i]) {
+				solver.b[rowMap[i]] = rhs[i];
+				solver.x[rowMap[i]] = rhs[i];
+				solver.constraintType[rowMap[i]] = type[i];
+			}
+		solver.numConstraintsTaken = numRowsLeft;
+
+		solver.optimizationType(reducedCost, isMinimize);
+		solver.initialize(numColsLeft, numRowsLeft);
+		return solver;
+	}
+
+	/**
+	 * Maps the optimal solution of the reduced problem back to the original
+	 * one: fills in solution, duals, basis and objectiveValue.
+	 *
+	 * @param solver
+	 *            the solver of reducedProblem(), after an optimal solve
+	 */
+	public void postsolve(RevisedSimplex solver) {
+		double[] reducedSolution = solver.primalSolution();
+		double[] reducedDuals = solver.dualSolution();
+		BasisSnapshot reducedBasis = solver.exportBasis();
+		double sign = isMinimize ? 1 : -1;
+
+		solution = new double[numVariables];
+		duals = new double[numConstraints];
+		basis = new BasisSnapshot(numVariables, numConstraints);
+
+		// duals are kept for the minimization form until the end
+		for (int j = 0; j < numVariables; j++)
+			if (colActive[j]) {
+				solution[j] = reducedSolution[colMap[j]];
+				basis.columnStatus[j] = reducedBasis.columnStatus[colMap[j]];
+			}
+		for (int i = 0; i < numConstraints; i++)
+			if (rowActive[i]) {
+				duals[i] = sign * reducedDuals[rowMap[i]];
+				basis.rowStatus[i] = reducedBasis.rowStatus[rowMap[i]];
+			}
+
+		for (int r = reductions.size() - 1; r >= 0; r--) {
+			Reduction reduction = reductions.get(r);
+			int i = reduction.index;
+			int j = reduction.col;
+
+			switch (reduction.kind) {
+			case EMPTY_ROW:
+			case DUPLICATE_ROW:
+				duals[i] = 0;
+				basis.rowStatus[i] = BasisSnapshot.BASIC;
+				break;
+
+			case FIXED_COLUMN:
+			case DOMINATED_COLUMN:
+				solution[i] = colValue[i];
+				basis.columnStatus[i] = colAtUpper[i] ? BasisSnapshot.AT_UPPER : BasisSnapshot.AT_LOWER;
+				break;
+
+			case SINGLETON_ROW:
+				/*
+				 * If the variable sits at the bound that came from this row, the
+				 * row is active: it takes over the reduced cost of the variable
+				 * as its dual, and the variable becomes basic in its place.
+				 */
+				double d = this.reducedCostOf(j, sign);
+				boolean isActive;
+				if (basis.columnStatus[j] == BasisSnapshot.BASIC)
+					isActive = false;
+				else if (lower[j] == upper[j])
+					isActive = this.isActiveForFixed(i, j, d);
+				else
+					isActive = (basis.columnStatus[j] == BasisSnapshot.AT_LOWER) ? lowerRow[j] == i : upperRow[j] == i;
+
+				if (isActive) {
+					duals[i] = d / reduction.value;
+					basis.columnStatus[j] = BasisSnapshot.BASIC;
+					basis.rowStatus[i] = BasisSnapshot.AT_LOWER;
+				} else {
+					duals[i] = 0;
+					basis.rowStatus[i] = BasisSnapshot.BASIC;
+				}
+				break;
+			}
+		}
+
+		/*
+		 * Up to here the nonbasic columns were at the bounds of the reduced
+		 * problem. Those left nonbasic sit at bounds of the original problem,
+		 * since the bounds that came from rows made the variables basic, and
+		 * their status has to say which one for importBasis().
+		 */
+		for (int j = 0; j < numVariables; j++)
+			if (basis.columnStatus[j] != BasisSnapshot.BASIC) {
+				double value = (basis.columnStatus[j] == BasisSnapshot.AT_UPPER) ? upper[j] : lower[j];
+				boolean isAtUpper = (value == upperBound[j] && value != lowerBound[j]);
+				basis.columnStatus[j] = isAtUpper ? BasisSnapshot.AT_UPPER : BasisSnapshot.AT_LOWER;
+			}
+
+		objectiveValue = 0;
+		for (int j = 0; j < numVariables; j++)
+			objectiveValue += cost[j] * solution[j];
+		for (int i = 0; i < numConstraints; i++)
+			duals[i] *= sign;
+	}
+
+	/**
+	 * Decides whether the singleton row i is active for the variable j, which
+	 * presolve fixed and which is still nonbasic. An equality row that fixed
+	 * it is active, as its dual may have any sign, so that its artificial
+	 * variable isn't left in the basis. Otherwise the variable may stay
+	 * nonbasic if it sits at one of its original bounds with a reduced cost of
+	 * the right sign, and if it doesn't, a row that gave it a bound has to be
+	 * active, one whose dual gets the right sign: the row of the lower bound
+	 * if d is positive, that of the upper bound if d is negative, either if d
+	 * is zero.
+	 *
+	 * @param i
+	 * @param j
+	 * @param d
+	 *            reduced cost of j for the minimization form
+	 * @return true if the row is active and j becomes basic
+	 */
+	private boolean isActiveForFixed(int i, int j, double d) {
+		double tolerance = RevisedSimplex.OPTIMALITY_TOLERANCE;
+		double value = lower[j];
+
+		if (type[i] == 2 && (lowerRow[j] == i || upperRow[j] == i))
+			return true;
+		if ((value == lowerBound[j] && d >= -tolerance) || (value == upperBound[j] && d <= tolerance))
+			return false;
+		return (lowerRow[j] == i && d >= -tolerance) || (upperRow[j] == i && d <= tolerance);
+	}
+
+	/**
+	 * @param j
+	 * @param sign
+	 *            1 for minimization, -1 for maximization
+	 * @return the reduced cost of the variable j for the minimization form,
+	 *         with the duals known so far
+	 */
+	private double reducedCostOf(int j, double sign) {
+		double d = sign * cost[j];
+		for (int k = A.columnStart(j); k < A.columnStart(j + 1); k++)
+			d -= A.valueAt(k) * duals[A.rowAt(k)];
+		return d;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("presolve removed %d of %d rows and %d of %d columns: %d empty rows, %d singleton rows, %d duplicate rows, %d fixed columns, %d dominated columns",
+				emptyRows + singletonRows + duplicateRows, numConstraints, fixedColumns + dominatedColumns, numVariables,
+				emptyRows, singletonRows, duplicateRows, fixedColumns, dominatedColumns);
+	}
+}
@@ -0,0 +1,36 @@
+package RevisedSimplex.util;
+
+/**
+ * Rule for choosing the entering variable. A pricing strategy computes as many
+ * reduced costs as it needs, from the current pi of the solver, and picks a
+ * nonbasic variable with a negative one. It's only allowed to report
+ * optimality after it has checked every nonbasic variable.
+ *
+ */
+public interface PricingStrategy {
+
+	/**
+	 * Chooses the entering variable.
+	 *
+	 * @param lp
+	 *            the solver, with pi already up to date
+	 * @return the index of the entering variable in NonBasicVariables, or -1 if
+	 *         no reduced cost is negative, i.e. the solution is optimal
+	 */
+	int chooseEntering(RevisedSimplex lp);
+
+	/**
+	 * Called by updateSolution() right before the entering and leaving
+	 * variables are swapped, while enteringVar, leavingVar and yB still
+	 * describe the pivot and the factorization still holds the old basis.
+	 *
+	 * @param lp
+	 */
+	void update(RevisedSimplex lp);
+
+	/**
+	 * Forgets everything that was kept from previous iterations. It's called
+	 * whenever the basis is set up from scratch.
+	 */
+	void reset();
+}
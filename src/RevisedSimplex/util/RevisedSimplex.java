@@ -17,8 +17,17 @@ package RevisedSimplex.util;
  * 
  */
 import java.lang.Math;
+import java.util.Random;
 
 public class RevisedSimplex {
+	/*
+	 * Results of solve(). iterate() uses the same values for optimal and
+	 * unbounded, and 0 when it should go on.
+	 */
+	public static final int OPTIMAL = 1;
+	public static final int INFEASIBLE = 2;
+	public static final int UNBOUNDED = 3;
+
 	public int numVariables;
 	public int numConstraints;
 	public int numNonbasic;
@@ -36,28 +45,179 @@ public class RevisedSimplex {
 	public double MinRatio;
 	public int NumMinRatio;
 
-	public Matrix Bt;
-	public Matrix B;
+	/*
+	 * Rule used by iterate() for choosing the entering variable. The step by
+	 * step mode always prices every column, since all reduced costs are shown.
+	 */
+	public PricingStrategy pricing = new DantzigPricing();
+
+	/*
+	 * Pricing loops run on several cores once there are at least this many
+	 * nonbasic variables. Smaller problems stay on the sequential loops.
+	 */
+	public int parallelPricingThreshold = ParallelPricing.DEFAULT_THRESHOLD;
+	public SolverStatistics statistics = new SolverStatistics();
+
+	/*
+	 * Once every reduced cost has been computed, pi and the reduced costs are
+	 * updated by each pivot from the pivot row, d_j -= theta * alpha_rj, rather
+	 * than computed again. They're computed from scratch every
+	 * reducedCostRecomputeInterval pivots, and before optimality is reported,
+	 * so that the round-off of the updates can't build up.
+	 */
+	public boolean incrementalReducedCosts = true;
+	public int reducedCostRecomputeInterval = 25;
+	boolean reducedCostsCurrent = false;
+	private int updatesSinceRecompute = 0;
+
+	/*
+	 * Row leavingVar of (B^-1)N, i.e. the pivot row, for the pricing strategies
+	 * that update their data with it. It's computed at most once per pivot.
+	 */
+	double[] rowOfBinv;
+	double[] pivotRow;
+	private double[] unitRow;
+	private boolean isPivotRowCurrent = false;
+
+	/*
+	 * Factorization of the basis matrix B, which holds B itself as well: the
+	 * basis is built straight into it. It may be replaced by an
+	 * OffHeapLUFactorization before the problem is initialized, to keep the
+	 * factors outside of the heap; whoever sets it closes it once the solver
+	 * is done.
+	 */
+	public BasisSolver basisFactor;
+
+	/*
+	 * The factorization of B is only recomputed when it's invalidated, i.e.
+	 * after the basis is set up from scratch, or when its eta file is full.
+	 */
+	boolean isFactorValid = false;
 
 	public double[] costOfBasicVars;
 	public double objectiveValue = 0;
 
-	public double[][] A;
+	/*
+	 * The constraint matrix is stored column-wise with its nonzeros only, and
+	 * only for the structural variables, i.e. the user's own columns. Its
+	 * entries are collected by addConstraint() and compressed in initialize().
+	 */
+	public SparseMatrix A;
+	SparseMatrix.Builder constraintEntries = new SparseMatrix.Builder();
+	public int numStructurals;
+
+	/*
+	 * Set when the problem was loaded from a LinearProgram. Its constraint
+	 * matrix, and the row-wise twin of it, are then used in place and shared
+	 * with every other solver loaded from the same program; the solver only
+	 * owns its vectors and its basis factorization.
+	 */
+	LinearProgram program = null;
+
+	/*
+	 * Row-wise twin of A, used when every reduced cost, or every entry of the
+	 * pivot row, is needed: pi(A) is then computed with one pass over the rows
+	 * of A into rowProduct, and the nonbasic entries are gathered from there.
+	 * It's built on first use.
+	 */
+	public boolean useRowwisePricing = true;
+	SparseMatrix rowsOfA;
+	private double[] rowProduct;
+
+	/*
+	 * If set before initialize(), A, b, the costs and the bounds are scaled
+	 * there, and the solver works on the scaled problem from then on. The
+	 * solution and the duals it returns are unscaled again.
+	 */
+	public Scaling scaling = null;
+
+	/*
+	 * Slack, surplus and artificial variables are not stored in A. Each one of
+	 * them has a unit column, so it's enough to know the row of its nonzero and
+	 * its sign. Variable j >= numStructurals is found at j - numStructurals.
+	 */
+	int[] logicalRow;
+	double[] logicalSign;
+
+	/*
+	 * Tolerances. A basic variable may violate its bounds by up to
+	 * feasibilityTolerance, a reduced cost has to be below
+	 * -optimalityTolerance to be attractive, and no element of yB, or of the
+	 * pivot row, smaller than pivotTolerance in absolute value is pivoted on.
+	 */
+	static final double PIVOT_TOLERANCE = 1e-9;
+	static final double FEASIBILITY_TOLERANCE = 1e-7;
+	static final double OPTIMALITY_TOLERANCE = 1e-9;
+	public double pivotTolerance = PIVOT_TOLERANCE;
+	public double feasibilityTolerance = FEASIBILITY_TOLERANCE;
+	public double optimalityTolerance = OPTIMALITY_TOLERANCE;
 	public double[] b;
 	public int[] constraintType;
+
+	/*
+	 * Bounds of every variable, lower <= x <= upper. A nonbasic variable sits at
+	 * one of its bounds: at the upper one if atUpper is set, otherwise at the
+	 * lower one. Upper bounds are handled by the ratio test, so they don't need
+	 * rows of their own. Slack, surplus and artificial variables are >= 0.
+	 * A free variable, which has neither bound, sits at zero while it's
+	 * nonbasic, and atUpper tells which way it moves once it enters: down if
+	 * it's set, up otherwise.
+	 */
+	public double[] lowerBound;
+	public double[] upperBound;
+	public boolean[] atUpper;
+	boolean leavesAtUpper = false;
+
 	public int[] BasicVariables;
 	public int[] NonBasicVariables;
 	public int[] varType;
 	public double[] colOfA;
 
-	int[] permanentBasis;
-
 	public int enteringVar;
 	public int leavingVar;
 
 	public boolean isMinimize;
 	public boolean ArtificialAdded = false;
 
+	/*
+	 * Perturbation against stalling. Once perturbAfterZeroSteps pivots in a row
+	 * haven't moved the objective, solve() relaxes the bounds of the basic
+	 * variables, and dualSolve() raises the reduced costs of the nonbasic
+	 * ones, by small random amounts relative to perturbationSize. Ties in the
+	 * ratio tests are then unlikely. The original bounds or costs are put back
+	 * once the perturbed problem is solved, and a few cleanup iterations make
+	 * the solution optimal for the original problem.
+	 */
+	public boolean perturbation = true;
+	public int perturbAfterZeroSteps = 30;
+	public double perturbationSize = 1e-6;
+	private int consecutiveZeroSteps = 0;
+	private double[] savedLowerBound;
+	private double[] savedUpperBound;
+	private double[] savedCost;
+	private Random random = new Random(1);
+
+	/*
+	 * Cycling detection. The bases visited since the objective last moved are
+	 * remembered by a hash of their set of basic variables. If one of them
+	 * comes back, or blandAfterZeroSteps pivots in a row don't move the
+	 * objective, the primal iterations switch to Bland's rule, which can't
+	 * cycle, until a pivot moves the objective again.
+	 */
+	public static final int CYCLE_HISTORY = 64;
+
+	public boolean cycleDetection = true;
+	public int blandAfterZeroSteps = 100;
+	public boolean usingBlandsRule = false;
+	private long[] recentBases = new long[CYCLE_HISTORY];
+	private int numRecentBases = 0;
+
+	/*
+	 * Set when an imported basis is dual feasible but not primal feasible, so
+	 * that solve() starts with the dual simplex.
+	 */
+	boolean needsDualPhase = false;
+
 	/*
 	 * We're going to use these variables for the 2nd phase.
 	 */
@@ -86,15 +246,23 @@ public class RevisedSimplex {
 
 		constraintType = new int[numOfConstraints];
 		varType = new int[numOfVars + 2 * numOfConstraints];
+		logicalRow = new int[2 * numOfConstraints];
+		logicalSign = new double[2 * numOfConstraints];
+		lowerBound = new double[numOfVars + 2 * numOfConstraints];
+		upperBound = new double[numOfVars + 2 * numOfConstraints];
+		atUpper = new boolean[numOfVars + 2 * numOfConstraints];
+		for (int i = 0; i < upperBound.length; i++)
+			upperBound[i] = Double.POSITIVE_INFINITY;
 
-		A = new double[numOfConstraints][numOfVars + 3 * numOfConstraints];
 		b = new double[numOfConstraints];
-		Bt = new Matrix(numOfConstraints);
-		B = new Matrix(numOfConstraints);
+		basisFactor = new LUFactorization(numOfConstraints);
 		yB = new double[numOfConstraints];
 		x = new double[numOfConstraints];
 		pi = new double[numOfConstraints];
 		colOfA = new double[numOfConstraints];
+		rowOfBinv = new double[numOfConstraints];
+		unitRow = new double[numOfConstraints];
+		pivotRow = new double[numOfVars + 2 * numOfConstraints];
 
 	}
 
@@ -112,13 +280,16 @@ public class RevisedSimplex {
 		switch (currentStep) {
 		case 0: // update the B matrix
 			numIterations++;
-			this.makeBt();
-			this.makeB();
+			this.refreshFactorization();
+			this.updateBasicCosts();
 			currentStep = 1;
 			return 0; // continue iterating
 
 		case 1: // update pi
-			Bt.solve(pi, costOfBasicVars);
+			// the steps show pi and the reduced costs computed from scratch,
+			// so the optimality check never sees updated ones
+			reducedCostsCurrent = false;
+			basisFactor.btran(pi, costOfBasicVars);
 			currentStep = 2;
 			return 0; // continue iterating
 
@@ -147,10 +318,9 @@ public class RevisedSimplex {
 			return 0; // continue iterating
 
 		case 5: // update yB
-			for (int i = 0; i < numConstraints; i++)
-				colOfA[i] = A[i][NonBasicVariables[enteringVar]];
+			this.scatterColumn(NonBasicVariables[enteringVar], colOfA);
 			// yB = (B^-1)(Ai)
-			B.solve(yB, colOfA);
+			basisFactor.ftran(yB, colOfA);
 			currentStep = 6;
 			return 0; // continue iterating
 
@@ -203,46 +373,619 @@ public class RevisedSimplex {
 
 	public int iterate() {
 		numIterations++;
-		this.makeBt();
-
-		// update Pi (Bt*Pi=cB)
 
-		Bt.solve(pi, costOfBasicVars);
-
-		// calculate reduced costs
-		this.calculateReducedCosts();
-
-		// optimality check
+		// update the factorization of B, only if it's out of date
+		this.refreshFactorization();
+		this.updateBasicCosts();
+
+		// update Pi (Bt*Pi=cB), with the same factorization as yB, unless the
+		// last pivot has already updated it
+		if (!reducedCostsCurrent)
+			basisFactor.btran(pi, costOfBasicVars);
+
+		// calculate reduced costs, check optimality and choose the entering
+		// variable, as the pricing strategy sees fit
+		enteringVar = this.chooseEntering();
+
+		// updated reduced costs are checked against computed ones before the
+		// solution is reported optimal
+		if (enteringVar < 0 && reducedCostsCurrent && updatesSinceRecompute > 0) {
+			reducedCostsCurrent = false;
+			basisFactor.btran(pi, costOfBasicVars);
+			enteringVar = this.chooseEntering();
+		}
 
-		if (!this.optimalityCheck()) {
-			this.enteringVariable(); // if not found yet, choose entering
-										// variable.
-		} else {
+		if (enteringVar < 0) {
 			objectiveValue = this.calculateObjective();
 			return 1; // if optimal solution is found
 		}
 
-		// update B
-		this.makeB();
-
 		// update yB
-		for (int i = 0; i < numConstraints; i++)
-			colOfA[i] = A[i][NonBasicVariables[enteringVar]];
+		this.scatterColumn(NonBasicVariables[enteringVar], colOfA);
 
-		// B = yB * (column of a matrix corresponds to the entering variable)
-		B.solve(yB, colOfA);
+		// B * yB = (column of a matrix corresponds to the entering variable)
+		basisFactor.ftran(yB, colOfA);
 
 		// unboundedness test
 
 		if (!this.testUnboundedness()) {
 			this.leavingVariable();
+			this.countStep(MinRatio);
 			this.updateSolution();
+			if (cycleDetection)
+				this.detectCycling();
 			return 0; // continue iterating
 		} else
 			return 3; // the LP is unbounded.
 
 	}
 
+	/**
+	 * Solves the problem without any user interaction, by iterating through
+	 * the first phase, eliminating the artificial variables and iterating
+	 * through the second phase. The iteration counts and wall times are stored
+	 * in statistics.
+	 * 
+	 * @return OPTIMAL, INFEASIBLE or UNBOUNDED
+	 */
+	public int solve() {
+		int status;
+		long start = System.nanoTime();
+		int startIterations = numIterations;
+
+		if (needsDualPhase) {
+			needsDualPhase = false;
+			return this.dualSolve();
+		}
+
+		statistics.clear();
+		statistics.pricingRule = pricing.getClass().getSimpleName();
+		consecutiveZeroSteps = 0;
+		numRecentBases = 0;
+		usingBlandsRule = false;
+
+		while (true) {
+			status = this.iterate();
+			if (status == 0) {
+				if (perturbation && savedLowerBound == null && consecutiveZeroSteps >= perturbAfterZeroSteps)
+					this.perturbBounds();
+				continue;
+			}
+
+			if (status == OPTIMAL && ArtificialAdded) {
+				statistics.phaseOneIterations = numIterations - startIterations;
+				statistics.phaseOneTime = System.nanoTime() - start;
+
+				if (this.calculateObjective() > feasibilityTolerance) {
+					status = INFEASIBLE;
+					break;
+				}
+				this.eliminateArtificials();
+				continue;
+			}
+			break;
+		}
+
+		if (savedLowerBound != null)
+			status = this.removeBoundPerturbation(status);
+
+		if (status == OPTIMAL)
+			objectiveValue = this.calculateObjective();
+		statistics.iterations = numIterations - startIterations;
+		statistics.solveTime = System.nanoTime() - start;
+		return status;
+	}
+
+	/**
+	 * Returns the dual values of the constraints, pi = cB(B^-1), for the
+	 * objective as it was given; for a maximization problem the signs are
+	 * those of the maximization.
+	 * 
+	 * @return one dual value per constraint
+	 */
+	public double[] dualSolution() {
+		double[] duals = new double[numConstraints];
+
+		this.refreshFactorization();
+		this.updateBasicCosts();
+		basisFactor.btran(duals, costOfBasicVars);
+		if (!isMinimize)
+			for (int i = 0; i < numConstraints; i++)
+				duals[i] = -duals[i];
+		if (scaling != null)
+			for (int i = 0; i < numConstraints; i++)
+				duals[i] *= scaling.rowScale[i];
+		return duals;
+	}
+
+	/**
+	 * One iteration of the dual simplex method. The basis has to be dual
+	 * feasible, i.e. no reduced cost may be attractive, which is the case for
+	 * an optimal basis whose right hand side has been changed. The most
+	 * infeasible basic variable leaves the basis at the bound it violates, and
+	 * the dual ratio test over the pivot row chooses the entering variable that
+	 * keeps every reduced cost unattractive.
+	 * 
+	 * @return 0 to continue, OPTIMAL once every basic variable is within its
+	 *         bounds, INFEASIBLE if the leaving variable can't be brought back
+	 */
+	public int dualIterate() {
+		int var;
+		double direction;
+		double alpha;
+		double ratio;
+		double minRatio = 0;
+		double bestAlpha = 0;
+		double maxInfeasibility = feasibilityTolerance;
+
+		numIterations++;
+
+		this.refreshFactorization();
+		this.updateBasicCosts();
+		if (!reducedCostsCurrent)
+			basisFactor.btran(pi, costOfBasicVars);
+		this.calculateReducedCosts();
+
+		// the most infeasible basic variable leaves
+		leavingVar = -1;
+		for (int i = 0; i < numConstraints; i++) {
+			var = BasicVariables[i];
+			if (lowerBound[var] - x[i] > maxInfeasibility) {
+				maxInfeasibility = lowerBound[var] - x[i];
+				leavingVar = i;
+				leavesAtUpper = false;
+			} else if (x[i] - upperBound[var] > maxInfeasibility) {
+				maxInfeasibility = x[i] - upperBound[var];
+				leavingVar = i;
+				leavesAtUpper = true;
+			}
+		}
+
+		if (leavingVar < 0) {
+			objectiveValue = this.calculateObjective();
+			return OPTIMAL;
+		}
+
+		/*
+		 * Dual ratio test. Moving the nonbasic variable j away from its bound
+		 * changes the leaving variable by -alpha_rj per unit, so only the ones
+		 * that push it towards the violated bound qualify. The smallest ratio
+		 * of reduced cost to pivot element keeps the reduced costs unattractive;
+		 * ties go to the larger pivot element.
+		 */
+		this.computePivotRow();
+		double sign = leavesAtUpper ? 1 : -1;
+
+		enteringVar = -1;
+		for (int i = 0; i < numNonbasic; i++) {
+			var = NonBasicVariables[i];
+			if (lowerBound[var] == upperBound[var])
+				continue;
+			if (this.isFree(var))
+				direction = (sign * pivotRow[i] < 0) ? -1 : 1;
+			else
+				direction = atUpper[var] ? -1 : 1;
+			alpha = sign * direction * pivotRow[i];
+			if (alpha <= pivotTolerance)
+				continue;
+			ratio = Math.max(this.pricedCost(i), 0) / alpha;
+			if (enteringVar < 0 || ratio < minRatio || (ratio == minRatio && alpha > bestAlpha)) {
+				minRatio = ratio;
+				bestAlpha = alpha;
+				enteringVar = i;
+			}
+		}
+
+		if (enteringVar < 0)
+			return INFEASIBLE; // the row can't be satisfied
+
+		var = NonBasicVariables[enteringVar];
+		if (this.isFree(var))
+			atUpper[var] = (sign * pivotRow[enteringVar] < 0);
+		this.scatterColumn(var, colOfA);
+		basisFactor.ftran(yB, colOfA);
+
+		this.countStep(minRatio);
+
+		// step of the entering variable that brings the leaving one to its bound
+		direction = atUpper[var] ? -1 : 1;
+		MinRatio = (x[leavingVar] - (leavesAtUpper ? upperBound[BasicVariables[leavingVar]] : lowerBound[BasicVariables[leavingVar]]))
+				/ (direction * yB[leavingVar]);
+		NumMinRatio = 1;
+		this.updateSolution();
+		return 0;
+	}
+
+	/**
+	 * Re-optimizes the problem with the dual simplex method, starting from the
+	 * current basis. It's meant to be called after solve() has found the
+	 * optimal solution and the right hand side has been changed with
+	 * setRightHandSide(): the basis stays dual feasible, so usually a handful
+	 * of dual pivots restore primal feasibility. A few primal iterations then
+	 * clean up whatever reduced costs the round-off has made attractive.
+	 * 
+	 * @return OPTIMAL, INFEASIBLE or UNBOUNDED
+	 */
+	public int dualSolve() {
+		int status;
+		long start = System.nanoTime();
+		int startIterations = numIterations;
+
+		if (ArtificialAdded)
+			throw new IllegalStateException("The dual simplex needs a basis of the second phase");
+
+		statistics.clear();
+		statistics.pricingRule = "dual simplex";
+		consecutiveZeroSteps = 0;
+
+		this.computeBasicValues();
+		while ((status = this.dualIterate()) == 0)
+			if (perturbation && savedCost == null && consecutiveZeroSteps >= perturbAfterZeroSteps)
+				this.perturbCosts();
+		if (savedCost != null)
+			this.removeCostPerturbation();
+		statistics.phaseOneIterations = numIterations - startIterations;
+		statistics.phaseOneTime = System.nanoTime() - start;
+
+		if (status == OPTIMAL)
+			while ((status = this.iterate()) == 0)
+				;
+
+		if (status == OPTIMAL)
+			objectiveValue = this.calculateObjective();
+		statistics.iterations = numIterations - startIterations;
+		statistics.solveTime = System.nanoTime() - start;
+		return status;
+	}
+
+	/**
+	 * Keeps track of the pivots that don't move the objective: a primal step
+	 * of zero length, or a dual step that doesn't change any reduced cost.
+	 * 
+	 * @param step
+	 */
+	private void countStep(double step) {
+		if (step <= feasibilityTolerance) {
+			statistics.zeroStepPivots++;
+			consecutiveZeroSteps++;
+		} else
+			consecutiveZeroSteps = 0;
+	}
+
+	/**
+	 * Chooses the entering variable with the pricing strategy, or with Bland's
+	 * rule while a cycle is being escaped.
+	 * 
+	 * @return the index of the entering variable in NonBasicVariables, -1 if
+	 *         the solution is optimal
+	 */
+	private int chooseEntering() {
+		if (!usingBlandsRule)
+			return pricing.chooseEntering(this);
+
+		// Bland's rule, the attractive variable with the smallest index
+		int minIndex = -1;
+		this.calculateReducedCosts();
+		for (int i = 0; i < numNonbasic; i++)
+			if (this.pricedCost(i) < 0 && (minIndex < 0 || NonBasicVariables[i] < NonBasicVariables[minIndex]))
+				minIndex = i;
+		return minIndex;
+	}
+
+	/**
+	 * Called after each primal pivot. A pivot that moves the objective ends
+	 * any cycle, so the history is forgotten and the pricing strategy takes
+	 * over again. After a pivot that doesn't, the new basis is looked up among
+	 * the ones visited since the objective last moved.
+	 */
+	private void detectCycling() {
+		if (consecutiveZeroSteps == 0) {
+			numRecentBases = 0;
+			usingBlandsRule = false;
+			return;
+		}
+		if (usingBlandsRule)
+			return;
+
+		long hash = this.basisHash();
+		boolean repeated = false;
+		for (int k = 0; k < Math.min(numRecentBases, CYCLE_HISTORY); k++)
+			if (recentBases[k] == hash)
+				repeated = true;
+		recentBases[numRecentBases++ % CYCLE_HISTORY] = hash;
+
+		if (repeated || consecutiveZeroSteps >= blandAfterZeroSteps) {
+			usingBlandsRule = true;
+			statistics.cycleEscapes++;
+		}
+	}
+
+	/**
+	 * Hash of the set of basic variables, independent of their order, so that
+	 * the same basis always gets the same hash.
+	 * 
+	 * @return the sum of a mixed hash of every basic variable
+	 */
+	private long basisHash() {
+		long hash = 0;
+		for (int i = 0; i < numConstraints; i++) {
+			long h = (BasicVariables[i] + 1) * 0x9E3779B97F4A7C15L;
+			h = (h ^ (h >>> 31)) * 0xBF58476D1CE4E5B9L;
+			hash += h ^ (h >>> 29);
+		}
+		return hash;
+	}
+
+	/**
+	 * Relaxes the bounds of the basic variables by small random amounts, so
+	 * that none of them sits exactly at a bound any more. The current solution
+	 * stays feasible. Artificial and fixed variables are left alone.
+	 */
+	private void perturbBounds() {
+		int var;
+
+		savedLowerBound = lowerBound.clone();
+		savedUpperBound = upperBound.clone();
+		for (int i = 0; i < numConstraints; i++) {
+			var = BasicVariables[i];
+			if (varType[var] == 2 || lowerBound[var] == upperBound[var])
+				continue;
+			if (lowerBound[var] != Double.NEGATIVE_INFINITY)
+				lowerBound[var] -= perturbationSize * (1 + Math.abs(lowerBound[var])) * (1 + random.nextDouble());
+			if (upperBound[var] != Double.POSITIVE_INFINITY)
+				upperBound[var] += perturbationSize * (1 + Math.abs(upperBound[var])) * (1 + random.nextDouble());
+		}
+		consecutiveZeroSteps = 0;
+		statistics.perturbations++;
+	}
+
+	/**
+	 * Puts the original bounds back. The basis that's optimal for the relaxed
+	 * bounds is still dual feasible, so the dual simplex restores primal
+	 * feasibility, and the primal simplex finishes off.
+	 * 
+	 * @param status
+	 *            result of the solve with the relaxed bounds
+	 * @return result for the original bounds
+	 */
+	private int removeBoundPerturbation(int status) {
+		// artificial variables may have been fixed meanwhile
+		for (int j = 0; j < numVariables; j++)
+			if (varType[j] != 2) {
+				lowerBound[j] = savedLowerBound[j];
+				upperBound[j] = savedUpperBound[j];
+			}
+		savedLowerBound = null;
+		savedUpperBound = null;
+
+		this.computeBasicValues();
+		if (status != OPTIMAL || ArtificialAdded)
+			return status;
+
+		while ((status = this.dualIterate()) == 0)
+			;
+		if (status == OPTIMAL)
+			while ((status = this.iterate()) == 0)
+				;
+		return status;
+	}
+
+	/**
+	 * Raises the reduced costs of the nonbasic variables, in the direction
+	 * they're allowed to have, by changing their costs by small random
+	 * amounts. The basis stays dual feasible. Free variables can move both
+	 * ways, so their reduced costs are left at zero.
+	 */
+	private void perturbCosts() {
+		int var;
+		double delta;
+
+		savedCost = cost.clone();
+		for (int i = 0; i < numNonbasic; i++) {
+			var = NonBasicVariables[i];
+			if (lowerBound[var] == upperBound[var] || this.isFree(var))
+				continue;
+			delta = perturbationSize * (1 + Math.abs(cost[var])) * (1 + random.nextDouble());
+			cost[var] += atUpper[var] ? -delta : delta;
+		}
+		reducedCostsCurrent = false;
+		consecutiveZeroSteps = 0;
+		statistics.perturbations++;
+	}
+
+	/**
+	 * Puts the original costs back. Whatever reduced costs become attractive
+	 * are taken care of by the primal iterations that follow.
+	 */
+	private void removeCostPerturbation() {
+		System.arraycopy(savedCost, 0, cost, 0, cost.length);
+		savedCost = null;
+		reducedCostsCurrent = false;
+	}
+
+	/**
+	 * Changes the right hand side of a constraint, keeping the current basis.
+	 * The values of the basic variables are recomputed by dualSolve().
+	 * 
+	 * @param row
+	 * @param value
+	 */
+	public void setRightHandSide(int row, double value) {
+		b[row] = (scaling != null) ? value * scaling.rowScale[row] : value;
+	}
+
+	/**
+	 * Computes the values of the basic variables from scratch, x = B^-1(b -
+	 * N(xN)), where xN holds the bounds the nonbasic variables sit at.
+	 */
+	void computeBasicValues() {
+		int j;
+		double value;
+		double[] residual = new double[numConstraints];
+
+		System.arraycopy(b, 0, residual, 0, numConstraints);
+		for (int i = 0; i < numNonbasic; i++) {
+			j = NonBasicVariables[i];
+			value = this.nonbasicValue(j);
+			if (value == 0)
+				continue;
+			if (j < numStructurals)
+				A.addColumn(j, -value, residual);
+			else
+				residual[logicalRow[j - numStructurals]] -= logicalSign[j - numStructurals] * value;
+		}
+
+		this.refreshFactorization();
+		basisFactor.ftran(x, residual);
+	}
+
+	/**
+	 * Saves the current basis, normally the optimal one, so that a later solve
+	 * of the same or of a slightly changed problem can start from it.
+	 * 
+	 * @return the snapshot of the basis
+	 */
+	public BasisSnapshot exportBasis() {
+		BasisSnapshot basis = new BasisSnapshot(numStructurals, numConstraints);
+
+		for (int i = 0; i < numNonbasic; i++)
+			if (NonBasicVariables[i] < numStructurals)
+				basis.columnStatus[NonBasicVariables[i]] = atUpper[NonBasicVariables[i]] ? BasisSnapshot.AT_UPPER : BasisSnapshot.AT_LOWER;
+		for (int i = 0; i < numConstraints; i++)
+			if (BasicVariables[i] < numStructurals)
+				basis.columnStatus[BasicVariables[i]] = BasisSnapshot.BASIC;
+			else
+				basis.rowStatus[logicalRow[BasicVariables[i] - numStructurals]] = BasisSnapshot.BASIC;
+		return basis;
+	}
+
+	/**
+	 * Replaces the starting basis made by initialize() with the given one. It
+	 * has to be called after initialize() and before the first iteration.
+	 * 
+	 * If the basis is primal feasible, the first phase is skipped altogether
+	 * and solve() goes on with the second one. If it's only dual feasible,
+	 * e.g. the right hand side has changed since it was exported, solve()
+	 * starts with the dual simplex. Otherwise, or if the basis doesn't fit the
+	 * problem or is singular, the basis of initialize() is kept.
+	 * 
+	 * @param basis
+	 * @return true if the basis is used
+	 */
+	public boolean importBasis(BasisSnapshot basis) {
+		int var;
+		int numBasic = 0;
+		int nonbasicIndex = 0;
+		boolean isPrimalFeasible = true;
+		int[] logicalOfRow = new int[numConstraints];
+		boolean[] isBasic = new boolean[numVariables];
+
+		if (basis.columnStatus.length != numStructurals || basis.rowStatus.length != numConstraints
+				|| basis.numBasic() != numConstraints)
+			return false;
+
+		int[] oldBasicVariables = BasicVariables.clone();
+		int[] oldNonBasicVariables = NonBasicVariables.clone();
+		boolean[] oldAtUpper = atUpper.clone();
+		double[] oldX = x.clone();
+
+		// the slack or surplus variable of a row if there is one, its
+		// artificial variable otherwise; slacks are numbered first
+		for (int j = numVariables - 1; j >= numStructurals; j--)
+			logicalOfRow[logicalRow[j - numStructurals]] = j;
+
+		for (int j = 0; j < numStructurals; j++)
+			if (basis.columnStatus[j] == BasisSnapshot.BASIC)
+				isBasic[j] = true;
+			else if (basis.columnStatus[j] == BasisSnapshot.AT_UPPER)
+				atUpper[j] = (upperBound[j] != Double.POSITIVE_INFINITY);
+			else
+				atUpper[j] = (lowerBound[j] == Double.NEGATIVE_INFINITY);
+		for (int i = 0; i < numConstraints; i++)
+			if (basis.rowStatus[i] == BasisSnapshot.BASIC)
+				isBasic[logicalOfRow[i]] = true;
+
+		for (int j = 0; j < numVariables; j++)
+			if (isBasic[j])
+				BasicVariables[numBasic++] = j;
+			else
+				NonBasicVariables[nonbasicIndex++] = j;
+
+		isFactorValid = false;
+		this.computeBasicValues();
+
+		/*
+		 * Artificial variables can only stay in the basis at zero. The other
+		 * basic variables decide whether the first phase is needed at all.
+		 */
+		boolean isUsable = !basisFactor.isSingular();
+		numArtificials = 0;
+		for (int i = 0; i < numConstraints && isUsable; i++) {
+			var = BasicVariables[i];
+			if (varType[var] == 2) {
+				numArtificials++;
+				if (Math.abs(x[i]) > feasibilityTolerance)
+					isUsable = false;
+			} else if (x[i] < lowerBound[var] - feasibilityTolerance || x[i] > upperBound[var] + feasibilityTolerance)
+				isPrimalFeasible = false;
+		}
+
+		if (isUsable && !isPrimalFeasible)
+			isUsable = this.isDualFeasible(ArtificialAdded ? originalCost : cost);
+
+		if (!isUsable) {
+			System.arraycopy(oldBasicVariables, 0, BasicVariables, 0, numConstraints);
+			System.arraycopy(oldNonBasicVariables, 0, NonBasicVariables, 0, oldNonBasicVariables.length);
+			System.arraycopy(oldAtUpper, 0, atUpper, 0, atUpper.length);
+			System.arraycopy(oldX, 0, x, 0, numConstraints);
+			numArtificials = 0;
+			for (int i = 0; i < numConstraints; i++)
+				if (varType[BasicVariables[i]] == 2)
+					numArtificials++;
+			isFactorValid = false;
+			return false;
+		}
+
+		// the artificial variables are at zero, so the first phase is over
+		if (ArtificialAdded)
+			this.eliminateArtificials();
+		needsDualPhase = !isPrimalFeasible;
+		reducedCostsCurrent = false;
+		pricing.reset();
+		return true;
+	}
+
+	/**
+	 * Checks whether no reduced cost of the current basis is attractive for
+	 * the given costs. Artificial variables aren't priced.
+	 * 
+	 * @param costs
+	 * @return true if the basis is dual feasible
+	 */
+	private boolean isDualFeasible(double[] costs) {
+		int j;
+		double d;
+
+		this.refreshFactorization();
+		for (int i = 0; i < numConstraints; i++)
+			costOfBasicVars[i] = costs[BasicVariables[i]];
+		basisFactor.btran(pi, costOfBasicVars);
+
+		for (int i = 0; i < numNonbasic; i++) {
+			j = NonBasicVariables[i];
+			if (varType[j] == 2 || lowerBound[j] == upperBound[j])
+				continue;
+			d = costs[j] - this.dotColumn(j, pi);
+			if (this.isFree(j))
+				d = -Math.abs(d);
+			else if (atUpper[j])
+				d = -d;
+			if (d < -optimalityTolerance)
+				return false;
+		}
+		return true;
+	}
+
 	/**
 	 * At each iteration, our B matrix and right hand side values changes, so
 	 * does the value of the objective function. It simply does z = (cB*xB)
@@ -252,40 +995,153 @@ public class RevisedSimplex {
 
 	public double calculateObjective() {
 		double value = 0;
-		if (isMinimize == true)
-			for (int i = 0; i < numConstraints; i++)
-				value += (x[i] * cost[BasicVariables[i]]);
-		else
-			for (int i = 0; i < numConstraints; i++)
-				value -= (x[i] * cost[BasicVariables[i]]);
+		for (int i = 0; i < numConstraints; i++)
+			value += (x[i] * cost[BasicVariables[i]]);
 
-		return value;
+		// nonbasic variables away from zero, because of their bounds
+		for (int i = 0; i < numNonbasic; i++) {
+			double nonbasicValue = this.nonbasicValue(NonBasicVariables[i]);
+			if (nonbasicValue != 0)
+				value += nonbasicValue * cost[NonBasicVariables[i]];
+		}
+
+		return (isMinimize == true) ? value : -value;
+	}
+
+	/**
+	 * @param j
+	 *            a nonbasic variable
+	 * @return the bound that the nonbasic variable sits at, zero for a free
+	 *         variable
+	 */
+	double nonbasicValue(int j) {
+		if (this.isFree(j))
+			return 0;
+		return atUpper[j] ? upperBound[j] : lowerBound[j];
+	}
+
+	/**
+	 * @param j
+	 * @return true if the variable has neither a lower nor an upper bound
+	 */
+	final boolean isFree(int j) {
+		return lowerBound[j] == Double.NEGATIVE_INFINITY && upperBound[j] == Double.POSITIVE_INFINITY;
+	}
+
+	/**
+	 * Direction of the entering variable. A free one moves against the sign
+	 * of its reduced cost, which is recorded in atUpper for the update that
+	 * follows.
+	 * 
+	 * @return 1 if the entering variable increases, -1 if it decreases
+	 */
+	private double enteringDirection() {
+		int entering = NonBasicVariables[enteringVar];
+		if (this.isFree(entering))
+			atUpper[entering] = (reducedCost[enteringVar] > 0);
+		return atUpper[entering] ? -1 : 1;
+	}
+
+	/**
+	 * Returns the values of the structural variables, i.e. the variables of
+	 * the problem as it was given, in the current solution.
+	 * 
+	 * @return the solution vector
+	 */
+	public double[] primalSolution() {
+		double[] solution = new double[numStructurals];
+		for (int i = 0; i < numNonbasic; i++)
+			if (NonBasicVariables[i] < numStructurals)
+				solution[NonBasicVariables[i]] = this.nonbasicValue(NonBasicVariables[i]);
+		for (int i = 0; i < numConstraints; i++)
+			if (BasicVariables[i] < numStructurals)
+				solution[BasicVariables[i]] = x[i];
+		if (scaling != null)
+			for (int j = 0; j < numStructurals; j++)
+				solution[j] *= scaling.colScale[j];
+		return solution;
 	}
 
 	/**
 	 * Decides the variable to be taken out from the basis by finding using the
-	 * minimum ratio test.
+	 * minimum ratio test. The entering variable moves away from its bound, up
+	 * from the lower one or down from the upper one, and each basic variable
+	 * limits the step by the bound it moves towards. If the entering variable
+	 * reaches its own opposite bound first, the basis stays the same and the
+	 * variable only flips to that bound; leavingVar is -1 then.
+	 * 
+	 * The test is done in two passes, as proposed by Harris. The first pass
+	 * finds the largest step that keeps every basic variable within its bounds
+	 * relaxed by feasibilityTolerance. The second pass chooses, among the
+	 * variables that block before that step, the one with the largest pivot
+	 * element |yB[i]|. Near ties are thus broken in favor of stable pivots,
+	 * and elements below pivotTolerance are never pivoted on. While Bland's
+	 * rule is in use, the candidate with the smallest index is chosen instead.
+	 * NumMinRatio is the number of candidates of the second pass.
 	 * 
 	 */
-	private void leavingVariable() {
-		double rat;
+	void leavingVariable() {
+		double delta;
+		double ratio;
+		double maxRatio = Double.POSITIVE_INFINITY;
+		double maxPivot = 0;
+		int var;
 		int minIndex = -1;
+		int entering = NonBasicVariables[enteringVar];
+		double direction = this.enteringDirection();
+		double range = upperBound[entering] - lowerBound[entering];
 
 		NumMinRatio = 0;
 
+		// first pass, the step with relaxed bounds
+		for (int i = 0; i < numConstraints; i++) {
+			// x[i] decreases by delta for each unit of step
+			delta = direction * yB[i];
+			var = BasicVariables[i];
+			if (delta > pivotTolerance && lowerBound[var] != Double.NEGATIVE_INFINITY)
+				ratio = (x[i] - lowerBound[var] + feasibilityTolerance) / delta;
+			else if (delta < -pivotTolerance && upperBound[var] != Double.POSITIVE_INFINITY)
+				ratio = (upperBound[var] - x[i] + feasibilityTolerance) / -delta;
+			else
+				continue;
+			if (ratio < maxRatio)
+				maxRatio = ratio;
+		}
+
+		// bound flip of the entering variable
+		if (range <= maxRatio) {
+			MinRatio = range;
+			NumMinRatio = 1;
+			leavingVar = -1;
+			return;
+		}
+
+		// second pass, the largest pivot element among the blocking variables
 		for (int i = 0; i < numConstraints; i++) {
-			if (yB[i] > 0) {
-				rat = x[i] / yB[i];
-				if (NumMinRatio == 0) {
-					MinRatio = rat;
-					minIndex = i;
-					NumMinRatio = 1;
-				} else if (rat < MinRatio) {
-					MinRatio = rat;
+			delta = direction * yB[i];
+			var = BasicVariables[i];
+			if (delta > pivotTolerance && lowerBound[var] != Double.NEGATIVE_INFINITY)
+				ratio = (x[i] - lowerBound[var]) / delta;
+			else if (delta < -pivotTolerance && upperBound[var] != Double.POSITIVE_INFINITY)
+				ratio = (upperBound[var] - x[i]) / -delta;
+			else
+				continue;
+			if (ratio > maxRatio)
+				continue;
+
+			NumMinRatio++;
+			if (usingBlandsRule) {
+				// Bland's rule, the blocking variable with the smallest index
+				if (minIndex < 0 || var < BasicVariables[minIndex]) {
+					MinRatio = Math.max(ratio, 0);
+					leavesAtUpper = (delta < 0);
 					minIndex = i;
-					NumMinRatio = 1;
-				} else if (rat == MinRatio)
-					NumMinRatio++;
+				}
+			} else if (Math.abs(delta) > maxPivot) {
+				maxPivot = Math.abs(delta);
+				MinRatio = Math.max(ratio, 0);
+				leavesAtUpper = (delta < 0);
+				minIndex = i;
 			}
 		}
 
@@ -299,83 +1155,287 @@ public class RevisedSimplex {
 	 */
 	private void updateSolution() {
 		int temp;
+		int entering = NonBasicVariables[enteringVar];
+		double direction = atUpper[entering] ? -1 : 1;
 
 		// Xi = Xi_old - cB*B^-1
 		for (int i = 0; i < numConstraints; i++)
-			x[i] -= (MinRatio * yB[i]);
+			x[i] -= (direction * MinRatio * yB[i]);
+
+		if (leavingVar < 0) { // bound flip, the basis stays the same
+			atUpper[entering] = !atUpper[entering];
+			statistics.boundFlips++;
+			return;
+		}
 
-		x[leavingVar] = MinRatio;
+		x[leavingVar] = this.nonbasicValue(entering) + direction * MinRatio;
+		atUpper[entering] = false;
+		atUpper[BasicVariables[leavingVar]] = leavesAtUpper;
 
 		if (varType[BasicVariables[leavingVar]] == 2) // artificial
 			numArtificials--;
 		if (varType[NonBasicVariables[enteringVar]] == 2) // artificial
 			numArtificials++;
 
+		pricing.update(this);
+
+		if (reducedCostsCurrent) {
+			if (++updatesSinceRecompute >= reducedCostRecomputeInterval)
+				reducedCostsCurrent = false;
+			else
+				this.updateReducedCosts();
+		}
+
 		temp = BasicVariables[leavingVar];
 		BasicVariables[leavingVar] = NonBasicVariables[enteringVar];
 		NonBasicVariables[enteringVar] = temp;
 
+		// yB is the entering column transformed by the old basis
+		basisFactor.update(leavingVar, yB);
+		isPivotRowCurrent = false;
+
 	}
 
 	/**
-	 * Calculates reduced costs vector, (c - cB * B^-1 * A)
+	 * Calculates reduced costs vector, (c - cB * B^-1 * A). Each column is
+	 * multiplied with pi over its nonzeros only.
 	 * 
 	 */
-	private void calculateReducedCosts() {
-		for (int i = 0; i < numNonbasic; i++) {
-			for (int j = 0; j < numConstraints; j++)
-				colOfA[j] = A[j][NonBasicVariables[i]];
+	void calculateReducedCosts() {
+		if (reducedCostsCurrent)
+			return;
+		this.reducedCostsComputed();
+
+		if (numNonbasic >= parallelPricingThreshold) {
+			ParallelPricing.calculateReducedCosts(this);
+			return;
+		}
 
-			reducedCost[i] = cost[NonBasicVariables[i]] - this.Dot(pi, colOfA, numConstraints);
+		if (useRowwisePricing) {
+			this.multiplyRowwise(pi);
+			for (int i = 0; i < numNonbasic; i++) {
+				int j = NonBasicVariables[i];
+				if (j < numStructurals)
+					reducedCost[i] = cost[j] - rowProduct[j];
+				else
+					reducedCost[i] = cost[j] - this.dotColumn(j, pi);
+			}
+			return;
 		}
+
+		for (int i = 0; i < numNonbasic; i++)
+			reducedCost[i] = cost[NonBasicVariables[i]] - this.dotColumn(NonBasicVariables[i], pi);
 	}
 
 	/**
-	 * Even though every non basic variable that has negative c - cB*B^-1*A
-	 * value (reduced cost) will do fine. However, it's written in a way that it
-	 * chooses the one with the lowest reduced cost.
+	 * Marks the reduced costs as computed from scratch, so that the following
+	 * pivots can update them.
 	 */
-	private void enteringVariable() {
-		int minIndex = 0;
-		double minValue = 999999;
+	private void reducedCostsComputed() {
+		reducedCostsCurrent = incrementalReducedCosts;
+		updatesSinceRecompute = 0;
+	}
+
+	/**
+	 * Updates pi and the reduced costs for the pivot that is about to be made.
+	 * With theta = d_q / alpha_rq, every reduced cost changes by -theta times
+	 * its entry of the pivot row, the leaving variable gets -theta, and pi
+	 * changes by theta times row r of B^-1.
+	 */
+	private void updateReducedCosts() {
+		double[] alpha = this.computePivotRow();
+		double theta = reducedCost[enteringVar] / yB[leavingVar];
 
 		for (int i = 0; i < numNonbasic; i++)
-			if (reducedCost[i] < 0 && reducedCost[i] < minValue) {
-				minValue = reducedCost[i];
-				minIndex = i;
-			}
+			if (alpha[i] != 0)
+				reducedCost[i] -= theta * alpha[i];
+		reducedCost[enteringVar] = -theta;
 
-		enteringVar = minIndex;
+		for (int i = 0; i < numConstraints; i++)
+			pi[i] += theta * rowOfBinv[i];
+	}
+
+	/**
+	 * Computes v(A) for the structural columns into rowProduct, row by row.
+	 * 
+	 * @param v
+	 * @return rowProduct
+	 */
+	double[] multiplyRowwise(double[] v) {
+		if (rowsOfA == null) {
+			rowsOfA = (program != null && scaling == null) ? program.rowsOfA() : A.transpose();
+			rowProduct = new double[numStructurals];
+		}
+
+		for (int j = 0; j < numStructurals; j++)
+			rowProduct[j] = 0;
+		rowsOfA.multiplyAdd(v, rowProduct);
+		return rowProduct;
+	}
+
+	/**
+	 * Calculates every reduced cost and chooses the most negative one at the
+	 * same time, in parallel for large problems.
+	 * 
+	 * @return the index of the entering variable in NonBasicVariables, -1 if
+	 *         the solution is optimal
+	 */
+	int calculateReducedCostsAndEntering() {
+		if (!reducedCostsCurrent && numNonbasic >= parallelPricingThreshold) {
+			this.reducedCostsComputed();
+			return ParallelPricing.calculateReducedCosts(this);
+		}
 
+		this.calculateReducedCosts();
+		if (this.optimalityCheck())
+			return -1;
+		this.enteringVariable();
+		return enteringVar;
 	}
 
 	/**
-	 * Check if the given element i is in the basis.
+	 * Calculates the reduced cost of a single nonbasic variable, for the
+	 * pricing strategies that don't need all of them.
 	 * 
 	 * @param i
-	 * @param BasisSize
-	 * @param basis
-	 * @return
+	 *            index of the variable in NonBasicVariables
+	 * @return the reduced cost as seen by pricedCost(), the reduced cost itself
+	 *         is stored in reducedCost
+	 */
+	double computeReducedCost(int i) {
+		reducedCost[i] = cost[NonBasicVariables[i]] - this.dotColumn(NonBasicVariables[i], pi);
+		return this.pricedCost(i);
+	}
+
+	/**
+	 * Computes the pivot row, alpha_rj = (row r of B^-1)(A_j) for every
+	 * nonbasic variable j, where r is the position of the leaving variable. It
+	 * has to be called before the basis is updated.
+	 * 
+	 * @return pivotRow, indexed like NonBasicVariables
+	 */
+	double[] computePivotRow() {
+		if (isPivotRowCurrent)
+			return pivotRow;
+
+		unitRow[leavingVar] = 1;
+		basisFactor.btran(rowOfBinv, unitRow);
+		unitRow[leavingVar] = 0;
+
+		if (numNonbasic >= parallelPricingThreshold)
+			ParallelPricing.calculatePivotRow(this);
+		else if (useRowwisePricing) {
+			this.multiplyRowwise(rowOfBinv);
+			for (int i = 0; i < numNonbasic; i++) {
+				int j = NonBasicVariables[i];
+				pivotRow[i] = (j < numStructurals) ? rowProduct[j] : this.dotColumn(j, rowOfBinv);
+			}
+		} else
+			for (int i = 0; i < numNonbasic; i++)
+				pivotRow[i] = this.dotColumn(NonBasicVariables[i], rowOfBinv);
+
+		isPivotRowCurrent = true;
+		return pivotRow;
+	}
+
+	/**
+	 * Multiplies the column of the given variable with the vector v. The column
+	 * of a slack, surplus or artificial variable is a unit column, so only one
+	 * entry of v is needed.
+	 * 
+	 * @param col
+	 * @param v
+	 * @return the dot product of the column and v
+	 */
+	double dotColumn(int col, double[] v) {
+		if (col < numStructurals)
+			return A.dotColumn(col, v);
+		return logicalSign[col - numStructurals] * v[logicalRow[col - numStructurals]];
+	}
+
+	/**
+	 * Copies the column of the given variable into the dense vector dense.
+	 * 
+	 * @param col
+	 * @param dense
 	 */
-	private boolean isBasic(int i, int BasisSize, int[] basis) {
-		for (int j = 0; j < BasisSize; j++) {
-			if (basis[j] == i)
-				return true;
+	private void scatterColumn(int col, double[] dense) {
+		if (col < numStructurals) {
+			A.scatterColumn(col, dense);
+			return;
 		}
-		return false;
+		for (int i = 0; i < numConstraints; i++)
+			dense[i] = 0;
+		dense[logicalRow[col - numStructurals]] = logicalSign[col - numStructurals];
+	}
+
+	/**
+	 * Reduced cost of a nonbasic variable as the pricing sees it: negative if
+	 * moving the variable away from its bound improves the objective. That's a
+	 * negative reduced cost at the lower bound and a positive one at the upper
+	 * bound. A free variable can move either way, so any nonzero reduced cost
+	 * makes it attractive. Fixed variables can't move, so they're never
+	 * attractive, and neither are reduced costs within optimalityTolerance of
+	 * zero, which are returned as zero.
+	 * 
+	 * @param i
+	 *            index of the variable in NonBasicVariables
+	 * @return the reduced cost with the sign of the direction the variable can
+	 *         move in
+	 */
+	final double pricedCost(int i) {
+		int j = NonBasicVariables[i];
+		if (upperBound[j] == lowerBound[j])
+			return 0;
+		double d;
+		if (this.isFree(j))
+			d = -Math.abs(reducedCost[i]);
+		else
+			d = atUpper[j] ? -reducedCost[i] : reducedCost[i];
+		return (d < 0 && d >= -optimalityTolerance) ? 0 : d;
+	}
+
+	/**
+	 * Even though every non basic variable that has negative c - cB*B^-1*A
+	 * value (reduced cost) will do fine. However, it's written in a way that it
+	 * chooses the one with the lowest reduced cost.
+	 */
+	void enteringVariable() {
+		int minIndex = 0;
+		double minValue = 0;
+
+		for (int i = 0; i < numNonbasic; i++)
+			if (this.pricedCost(i) < minValue) {
+				minValue = this.pricedCost(i);
+				minIndex = i;
+			}
+
+		enteringVar = minIndex;
+
 	}
 
 	/**
 	 * If yB > 0 for all basic variables, the lp is unbounded. The method checks
-	 * whether or not the problem is bounded.
+	 * whether or not the problem is bounded, i.e. whether the entering variable
+	 * can move forever without any variable reaching a bound.
 	 * 
 	 * @return
 	 */
 	private boolean testUnboundedness() {
-		for (int i = 0; i < numConstraints; i++)
-			if (yB[i] > 0) {
+		int entering = NonBasicVariables[enteringVar];
+		double direction = this.enteringDirection();
+		double delta;
+
+		if (upperBound[entering] - lowerBound[entering] != Double.POSITIVE_INFINITY)
+			return false;
+
+		for (int i = 0; i < numConstraints; i++) {
+			delta = direction * yB[i];
+			if (delta > pivotTolerance && lowerBound[BasicVariables[i]] != Double.NEGATIVE_INFINITY)
 				return false;
-			}
+			if (delta < -pivotTolerance && upperBound[BasicVariables[i]] != Double.POSITIVE_INFINITY)
+				return false;
+		}
 		return true;
 	}
 
@@ -384,11 +1444,11 @@ public class RevisedSimplex {
 	 * 
 	 * @return isOptimal boolean value for optimality
 	 */
-	private boolean optimalityCheck() {
+	boolean optimalityCheck() {
 		boolean isOptimal = true;
 
 		for (int i = 0; i < numNonbasic; i++)
-			if (reducedCost[i] < 0) {
+			if (this.pricedCost(i) < 0) {
 				isOptimal = false;
 				return isOptimal;
 			}
@@ -396,24 +1456,43 @@ public class RevisedSimplex {
 	}
 
 	/**
-	 * Updates Bt Matrix
+	 * Updates the costs of the basic variables, cB
 	 */
-
-	private void makeBt() {
-		for (int i = 0; i < numConstraints; i++) {
+	private void updateBasicCosts() {
+		for (int i = 0; i < numConstraints; i++)
 			costOfBasicVars[i] = cost[BasicVariables[i]];
-			for (int j = 0; j < numConstraints; j++)
-				Bt.A[i][j] = A[j][BasicVariables[i]];
+	}
+
+	/**
+	 * Updates B Matrix, i.e. gives the basic columns to the factorization
+	 */
+	void makeB() {
+		basisFactor.clearBasis();
+
+		for (int j = 0; j < numConstraints; j++) {
+			int col = BasicVariables[j];
+			if (col < numStructurals) {
+				for (int k = A.columnStart(col); k < A.columnStart(col + 1); k++)
+					basisFactor.setEntry(A.rowAt(k), j, A.valueAt(k));
+			} else
+				basisFactor.setEntry(logicalRow[col - numStructurals], j, logicalSign[col - numStructurals]);
 		}
 	}
 
 	/**
-	 * Updates B Matrix
+	 * Refactors B from scratch if the basis has been set up since the last
+	 * factorization or the eta file of the factorization is full. Otherwise the
+	 * updated factorization is reused as it is.
 	 */
-	private void makeB() {
-		for (int i = 0; i < numConstraints; i++)
-			for (int j = 0; j < numConstraints; j++)
-				B.A[i][j] = A[i][BasicVariables[j]];
+	private void refreshFactorization() {
+		if (isFactorValid && !basisFactor.needsRefactor())
+			return;
+
+		this.makeB();
+		basisFactor.factor();
+		isFactorValid = true;
+		isPivotRowCurrent = false;
+		statistics.factorizations++;
 	}
 
 	/**
@@ -427,7 +1506,7 @@ public class RevisedSimplex {
 	 */
 	public void addConstraint(double[] coefficients, double rhs, int type) {
 		for (int i = 0; i < numVariables; i++) {
-			A[numConstraintsTaken][i] = coefficients[i];
+			constraintEntries.add(numConstraintsTaken, i, coefficients[i]);
 		}
 		x[numConstraintsTaken] = rhs;
 		b[numConstraintsTaken] = rhs;
@@ -435,6 +1514,48 @@ public class RevisedSimplex {
 		numConstraintsTaken++;
 	}
 
+	/**
+	 * Returns the coefficient of the constraint matrix at the given row and
+	 * column.
+	 * 
+	 * @param row
+	 * @param col
+	 * @return the coefficient, zero if it's not stored
+	 */
+	public double coefficient(int row, int col) {
+		if (col < numStructurals)
+			return A.get(row, col);
+		return (logicalRow[col - numStructurals] == row) ? logicalSign[col - numStructurals] : 0;
+	}
+
+	/**
+	 * Sets up the unit column of a slack, surplus or artificial variable.
+	 * 
+	 * @param col
+	 * @param row
+	 * @param sign
+	 */
+	private void addLogical(int col, int row, double sign) {
+		logicalRow[col - numStructurals] = row;
+		logicalSign[col - numStructurals] = sign;
+	}
+
+	/**
+	 * Sets the bounds of a variable of the problem, lower <= x <= upper. By
+	 * default every variable is bounded by 0 from below only. Either bound, or
+	 * both, may be infinite.
+	 * 
+	 * @param variable
+	 * @param lower
+	 * @param upper
+	 */
+	public void setBounds(int variable, double lower, double upper) {
+		if (lower > upper)
+			throw new IllegalArgumentException("Lower bound " + lower + " of X" + variable + " exceeds its upper bound " + upper);
+		lowerBound[variable] = lower;
+		upperBound[variable] = upper;
+	}
+
 	/**
 	 * Decision for the objective function. Max or Min.
 	 * 
@@ -445,6 +1566,7 @@ public class RevisedSimplex {
 		for (int i = 0; i < numVariables; i++)
 			cost[i] = coefficients[i];
 		this.isMinimize = isMinimize;
+		reducedCostsCurrent = false;
 	}
 
 	/**
@@ -462,9 +1584,37 @@ public class RevisedSimplex {
 
 		int slack;
 		int artificial;
+		double[] residual = new double[numberOfConstraints];
 
 		oldOptimizationType = isMinimize;
 		lastCol = numberOfVariables;
+		numStructurals = numberOfVariables;
+		if (program != null)
+			A = program.A;
+		else
+			A = constraintEntries.build(numberOfConstraints, numStructurals);
+		if (scaling != null)
+			this.applyScaling();
+
+		/*
+		 * Structural variables start nonbasic at one of their bounds, the lower
+		 * one unless there is none, and free ones at zero. The logical
+		 * variables of each row take up the residual b - Ax of that starting
+		 * point.
+		 */
+		for (int j = numStructurals; j < upperBound.length; j++) {
+			lowerBound[j] = 0;
+			upperBound[j] = Double.POSITIVE_INFINITY;
+			atUpper[j] = false;
+		}
+
+		System.arraycopy(b, 0, residual, 0, numberOfConstraints);
+		for (int j = 0; j < numStructurals; j++) {
+			atUpper[j] = (lowerBound[j] == Double.NEGATIVE_INFINITY);
+			double value = this.nonbasicValue(j);
+			if (value != 0)
+				A.addColumn(j, -value, residual);
+		}
 
 		/*
 		 * It is required to multiply all coefficients in the objective function
@@ -484,7 +1634,7 @@ public class RevisedSimplex {
 			switch (constraintType[i]) {
 			case 0: // less than
 				cost[lastCol] = 0;
-				A[i][lastCol] = 1;
+				this.addLogical(lastCol, i, 1);
 				ConstraintVariable[i] = lastCol;
 				varType[lastCol] = 1; // slack or surplus
 				lastCol++;
@@ -492,7 +1642,7 @@ public class RevisedSimplex {
 
 			case 1: // greater than
 				cost[lastCol] = 0;
-				A[i][lastCol] = -1;
+				this.addLogical(lastCol, i, -1);
 				ConstraintVariable[i] = lastCol;
 				varType[lastCol] = 1; // slack or surplus
 				lastCol++;
@@ -508,13 +1658,13 @@ public class RevisedSimplex {
 
 			case 0: // less than
 				// slack variables added to the basis.
-				if (b[i] >= 0) {
+				if (residual[i] >= 0) {
 					BasicVariables[i] = ConstraintVariable[i];
-					x[i] = b[i];
-				} else { /* b[i] < 0 */
+					x[i] = residual[i];
+				} else { /* residual[i] < 0 */
 					// artificial variables added to the basis.
-					A[i][lastCol] = -1;
-					x[i] = -b[i];
+					this.addLogical(lastCol, i, -1);
+					x[i] = -residual[i];
 					varType[lastCol] = 2; // artificial
 					ArtificialAdded = true;
 					BasicVariables[i] = lastCol;
@@ -529,11 +1679,11 @@ public class RevisedSimplex {
 				break;
 
 			case 1: // greater than
-				if (b[i] > 0) {
-					x[i] = b[i];
+				if (residual[i] > 0) {
+					x[i] = residual[i];
 					varType[lastCol] = 2; // artificial
 					ArtificialAdded = true;
-					A[i][lastCol] = 1;
+					this.addLogical(lastCol, i, 1);
 					BasicVariables[i] = lastCol;
 					artificial = ConstraintVariable[i];
 					NonBasicVariables[next] = artificial;
@@ -542,18 +1692,18 @@ public class RevisedSimplex {
 					numArtificials++;
 				} else {
 					BasicVariables[i] = ConstraintVariable[i];
-					x[i] = -b[i];
+					x[i] = -residual[i];
 				}
 				break;
 
 			case 2: // equal to
-				if (b[i] >= 0) {
-					x[i] = b[i];
-					A[i][lastCol] = 1;
+				if (residual[i] >= 0) {
+					x[i] = residual[i];
+					this.addLogical(lastCol, i, 1);
 
 				} else {
-					x[i] = -b[i];
-					A[i][lastCol] = -1;
+					x[i] = -residual[i];
+					this.addLogical(lastCol, i, -1);
 
 				}
 
@@ -568,6 +1718,10 @@ public class RevisedSimplex {
 
 		numNonbasic = lastCol - numConstraints;
 		numVariables = lastCol;
+		rowsOfA = null;
+		reducedCostsCurrent = false;
+		isFactorValid = false;
+		pricing.reset();
 
 		if (numArtificials > 0)
 			this.calculateInitialCosts();
@@ -575,6 +1729,26 @@ public class RevisedSimplex {
 		return true;
 	}
 
+	/**
+	 * Scales the problem with the factors of scaling: row i of A and b[i] are
+	 * multiplied by its row factor, column j of A and its cost by its column
+	 * factor, and the bounds of variable j are divided by it.
+	 */
+	private void applyScaling() {
+		scaling.compute(A);
+
+		// the matrix of a program is shared, so the scaled values are a copy
+		A = A.scale(scaling.rowScale, scaling.colScale, program == null);
+
+		for (int j = 0; j < numStructurals; j++) {
+			cost[j] *= scaling.colScale[j];
+			lowerBound[j] /= scaling.colScale[j];
+			upperBound[j] /= scaling.colScale[j];
+		}
+		for (int i = 0; i < numConstraints; i++)
+			b[i] *= scaling.rowScale[i];
+	}
+
 	/**
 	 * Calculates the costs related to the given problem and, after eliminating
 	 * artificial variables computes the costs for the phase one.
@@ -591,22 +1765,6 @@ public class RevisedSimplex {
 		this.optimizationType(newCoefficients, true); // isMinimize = true
 	}
 
-	/**
-	 * Multiplication method for two vectors and it simply multiplies two
-	 * vectors with size of "n"
-	 * 
-	 * @param row
-	 * @param col
-	 * @param n
-	 * @return
-	 */
-	private double Dot(double[] row, double[] col, int n) {
-		double result = 0;
-		for (int i = 0; i < n; i++)
-			result += row[i] * col[i];
-		return result;
-	}
-
 	/**
 	 * Clear every data being computed so far and sets each field to its default
 	 * value.
@@ -615,9 +1773,8 @@ public class RevisedSimplex {
 	 * @param numberOfConstraints
 	 */
 	public void clear(int numberOfVariables, int numberOfConstraints) {
-		for (int i = 0; i < numConstraints; i++)
-			for (int j = 0; j < numVariables; j++)
-				A[i][j] = 0;
+		constraintEntries.clear();
+		program = null;
 
 		numConstraintsTaken = 0;
 		numVariables = numberOfVariables;
@@ -625,311 +1782,148 @@ public class RevisedSimplex {
 		currentStep = 0;
 		ArtificialAdded = false;
 		numArtificials = 0;
-	}
-
-	/**
-	 * Matrix procedure. More information about the process can be found in the
-	 * following articles:
-	 * 
-	 * Why QR factorization? :
-	 * http://www.sciencedirect.com/science/article/pii/0898122185901907
-	 * 
-	 * Other sources:
-	 * http://e-collection.library.ethz.ch/eserv/eth:47547/eth-47547-01.pdf
-	 * https://arxiv.org/pdf/1408.3518.pdf
-	 * http://www.caam.rice.edu/~timwar/NUDG/Jars/Jama/QRDecomposition.java
-	 * 
-	 * @param basisSize
-	 *            number of elements in the particular part of the basis
-	 * @return
-	 */
-
-	private int AugmentBasis(int basisSize) {
-		int high;
-		int low;
-		int temp;
-
-		double[][] newBMatrix;
-		double NormVector;
-		double v1;
-		double v2;
-		double dtemp;
-		double[] tempVector;
-
-		int rows;
-		int cols;
-
-		rows = numConstraints;
-		cols = numVariables;
-
-		// Defensive programming approach to check for possible errors.
-
-		if (basisSize < 0 || rows <= 0 || cols <= 0) {
-			System.out.println("Ooops, are you sure you have taken any LP course?");
-			return 1;
-		}
-
-		if (basisSize > rows) {
-			System.out.println("There are more elements in the basis than the number of rows!");
-			System.out.println("Basis Size : " + basisSize + " rows : " + rows);
-			return 1;
-		}
-
-		if (rows > cols) {
-			System.out.println("The number of rows is greater than the number of columns");
-			System.out.println("rows : " + rows + " columns : " + cols);
-			return 1;
-		}
-
-		for (int i = 0; i < basisSize; i++) {
-			if (BasicVariables[i] < 0 || BasicVariables[i] >= cols) {
-				System.out.println("Basis element[" + i + "]= " + BasicVariables[i] + " is not in the range");
-				return 1;
-			}
-		}
-
-		if (basisSize == rows) {
-			System.out.println("Basis already has the right number of elements");
-			return 0;
-		}
-
-		newBMatrix = new double[rows][cols];
-		permanentBasis = new int[cols];
-
-		/*
-		 * Now we are going to transfer columns of A to the new B Matrix by
-		 * holding the data of the current basis in the first location. The rest
-		 * will be placed starting from cols-basisSize.
-		 */
-
-		low = 0;
-		high = cols - 1;
-
-		for (int i = 0; i < cols; i++) {
-			if (isBasic(i, basisSize, BasicVariables)) {
-				for (int j = 0; j < rows; j++)
-					newBMatrix[j][low] = A[j][i];
-				permanentBasis[low] = i;
-				low++;
-			} else {
-				for (int j = 0; j < rows; j++)
-					newBMatrix[j][high] = A[j][i];
-				permanentBasis[high] = i;
-				high--;
-			}
-		}
-
-		tempVector = new double[rows];
-
-		// QR factorization
-
-		for (int i = 0; i < basisSize; i++) {
-
-			NormVector = 0;
-			for (int j = i; j < rows; j++)
-				NormVector += newBMatrix[j][i] * newBMatrix[j][i];
-			NormVector = (double) Math.sqrt(NormVector);
-
-			for (int j = i; j < rows; j++)
-				tempVector[j] = newBMatrix[j][i];
-
-			if (tempVector[i] < 0) {
-				newBMatrix[i][i] = NormVector;
-				tempVector[i] -= NormVector;
-			} else {
-				newBMatrix[i][i] = -NormVector;
-				tempVector[i] += NormVector;
-			}
-
-			// set the present column to 0
-			for (int j = i + 1; j < rows; j++)
-				newBMatrix[j][i] = 0;
-
-			v1 = 0;
-			for (int j = i; j < rows; j++)
-				v1 += tempVector[j] * tempVector[j];
-
-			v1 = 2 / v1;
-
-			for (int k = i + 1; k < cols; k++) {
-				v2 = 0;
-				for (int j = i; j < rows; j++)
-					v2 += tempVector[j] * newBMatrix[j][k];
-				v2 *= v1;
-				for (int j = i; j < rows; j++)
-					newBMatrix[j][k] -= v2 * tempVector[j];
-			}
-		}
-
-		/*
-		 * By choosing the largest pivot element in each row, we will form our
-		 * new basis for the next phase.
-		 */
-
-		for (int i = basisSize; i < rows; i++) {
-
-			// the greatest pivot in the row i defines the column
-			v1 = Math.abs(newBMatrix[i][i]);
-			high = i;
-			for (int j = i + 1; j < cols; j++) {
-				if (Math.abs(newBMatrix[i][j]) > v1) {
-					v1 = Math.abs(newBMatrix[i][j]);
-					high = j;
-				}
-			}
-			// swap column high with column i
-			temp = permanentBasis[i];
-			permanentBasis[i] = permanentBasis[high];
-			permanentBasis[high] = temp;
-
-			for (int j = 0; j < rows; j++) {
-				dtemp = newBMatrix[j][i];
-				newBMatrix[j][i] = newBMatrix[j][high];
-				newBMatrix[j][high] = dtemp;
-			}
+		isFactorValid = false;
+		reducedCostsCurrent = false;
 
-			if (i < rows - 1) {
-				NormVector = 0;
-				for (int j = i; j < rows; j++)
-					NormVector += newBMatrix[j][i] * newBMatrix[j][i];
+		// the same perturbations every time, so a reused solver takes the
+		// same path as a new one
+		random.setSeed(1);
 
-				NormVector = (double) Math.sqrt(NormVector);
-
-				for (int j = i; j < rows; j++)
-					tempVector[j] = newBMatrix[j][i];
-
-				if (tempVector[i] < 0) {
-					newBMatrix[i][i] = NormVector;
-					tempVector[i] -= NormVector;
-				} else {
-					newBMatrix[i][i] = -NormVector;
-					tempVector[i] += NormVector;
-				}
-
-				for (int j = i + 1; j < rows; j++)
-					newBMatrix[j][i] = 0;
-
-				v1 = 0;
-				for (int j = i; j < rows; j++)
-					v1 += tempVector[j] * tempVector[j];
-				v1 = 2 / v1;
-
-				for (int k = i + 1; k < cols; k++) {
-					v2 = 0;
-					for (int j = i; j < rows; j++)
-						v2 += tempVector[j] * newBMatrix[j][k];
-					v2 *= v1;
-					for (int j = i; j < rows; j++)
-						newBMatrix[j][k] -= v2 * tempVector[j];
-				}
-			}
+		for (int i = 0; i < upperBound.length; i++) {
+			lowerBound[i] = 0;
+			upperBound[i] = Double.POSITIVE_INFINITY;
+			atUpper[i] = false;
 		}
-
-		return 0;
 	}
 
 	/**
-	 * Eliminates artificial variables after the augmented matrix is created.
+	 * Eliminates artificial variables at the end of the first phase. Every
+	 * artificial variable that is still basic (at zero level) is pivoted out of
+	 * the basis in exchange for a non artificial variable with a nonzero entry
+	 * in its row of (B^-1)N. If there is none, the constraint of that row is
+	 * redundant and the artificial variable stays in the basis at zero; since
+	 * its row of (B^-1)N is zero, it can't move in the second phase.
+	 * Afterwards, the artificial variables are removed from the problem.
 	 */
 	public void eliminateArtificials() {
-		int basicIndex = 0;
 		int nonbasicIndex = 0;
 		int artificialCount = 0;
-		int basicArtificialsCount = 0;
-		double[] temp = new double[numVariables]; // for swap
-		int[] varType = new int[numVariables]; // 1 = basic / 2 = non-basic
-
-		for (int i = 0; i < numNonbasic; i++)
-			varType[NonBasicVariables[i]] = 2; // non basic
+		int firstArtificial;
+		int best;
+		double alpha;
+		double bestAlpha;
+		double[] unit = new double[numConstraints];
+		double[] rowOfBinv = new double[numConstraints];
+		int[] basisPosition = new int[numVariables];
+
+		this.refreshFactorization();
+
+		for (int r = 0; r < numConstraints; r++) {
+			if (varType[BasicVariables[r]] != 2) // not artificial
+				continue;
+
+			// row r of B^-1
+			unit[r] = 1;
+			basisFactor.btran(rowOfBinv, unit);
+			unit[r] = 0;
+
+			best = -1;
+			bestAlpha = 0;
+			for (int i = 0; i < numNonbasic; i++) {
+				if (varType[NonBasicVariables[i]] == 2)
+					continue;
+				alpha = this.dotColumn(NonBasicVariables[i], rowOfBinv);
+				if (Math.abs(alpha) > Math.abs(bestAlpha)) {
+					bestAlpha = alpha;
+					best = i;
+				}
+			}
 
-		for (int i = 0; i < numConstraints; i++) {
-			temp[BasicVariables[i]] = x[i];
-			varType[BasicVariables[i]] = 1; // basic
+			if (best >= 0 && Math.abs(bestAlpha) > pivotTolerance) {
+				// degenerate pivot, the artificial variable leaves at zero
+				enteringVar = best;
+				leavingVar = r;
+				this.scatterColumn(NonBasicVariables[enteringVar], colOfA);
+				basisFactor.ftran(yB, colOfA);
+				MinRatio = 0;
+				leavesAtUpper = false;
+				this.updateSolution();
+			}
 		}
 
+		/*
+		 * Artificial variables are numbered after every other variable. The ones
+		 * left in the basis are renumbered to directly follow the others.
+		 */
 		for (int i = 0; i < numVariables; i++)
-			if (varType[i] != 2) { // if not artificial
-				switch (varType[i]) {
-				case 1: // basic
-					BasicVariables[basicIndex] = i;
-					x[basicIndex] = temp[i];
-					basicIndex++;
-					break;
-				case 2: // non-basic
-					NonBasicVariables[nonbasicIndex] = i;
-					nonbasicIndex++;
-					break;
-				default:
-					System.out.println("There are only two types of variables: basic or non-basic");
-				}
-			} else
+			if (varType[i] == 2)
 				artificialCount++;
+		firstArtificial = numVariables - artificialCount;
 
 		for (int i = 0; i < numVariables; i++)
-			if (varType[i] == 2) { // artificial
-				switch (varType[i]) {
-				case 1: // basic
-					basicArtificialsCount++;
-					BasicVariables[basicIndex] = i;
-					x[basicIndex] = temp[i];
-					basicIndex++;
-					break;
-				case 2:// non basic
-					NonBasicVariables[nonbasicIndex] = i;
-					nonbasicIndex++;
-					break;
-				default:
-					System.out.println("There are only two types of variables: basic or non-basic");
-				}
+			basisPosition[i] = -1;
+		for (int r = 0; r < numConstraints; r++)
+			basisPosition[BasicVariables[r]] = r;
+
+		int next = firstArtificial;
+		for (int j = firstArtificial; j < numVariables; j++)
+			if (basisPosition[j] >= 0) {
+				this.swapVariables(j, next);
+				BasicVariables[basisPosition[j]] = next;
+				// fixed at zero, so that a new right hand side that makes the
+				// row inconsistent is noticed by the dual simplex
+				upperBound[next] = 0;
+				next++;
 			}
 
-		// artificial variable test
-
-		if (basicArtificialsCount > 0) {
-			AugmentBasis(numConstraints - basicArtificialsCount);
-
-			// update everything
-
-			for (int i = 0; i < numVariables; i++)
-				varType[i] = 2; // the rest is non-basic type
-
-			for (int i = 0; i < numConstraints; i++)
-				BasicVariables[i] = permanentBasis[i];
-
-			for (int i = 0; i < numConstraints; i++)
-				varType[BasicVariables[i]] = 1; // basic
-
-			basicIndex = 0;
-			nonbasicIndex = 0;
-
-			for (int i = 0; i < numVariables; i++)
-				switch (varType[i]) {
-				case 1: // basic
-					if (varType[i] == 2) { // artificial
-						System.out.println("Some artificial variables are still here to eliminate");
-					}
-					BasicVariables[basicIndex] = i;
-					x[basicIndex] = temp[i];
-					basicIndex++;
-					break;
-				case 2: // non basic
-					NonBasicVariables[nonbasicIndex] = i;
-					nonbasicIndex++;
-					break;
-				default:
-					System.out.println("There are only two types of variables: basic or non-basic");
-				}
-		}
+		for (int i = 0; i < firstArtificial; i++)
+			if (basisPosition[i] < 0) {
+				NonBasicVariables[nonbasicIndex] = i;
+				nonbasicIndex++;
+			}
 
 		// now the all the artificial variables are eliminated, so the phase 2
 		// can start.
+		numArtificials = next - firstArtificial;
+		numVariables = next;
+		numNonbasic = nonbasicIndex;
 		this.optimizationType(originalCost, oldOptimizationType);
 		this.isMinimize = oldOptimizationType;
 		ArtificialAdded = false;
-		numNonbasic -= artificialCount;
-		numVariables -= artificialCount;
 		currentStep = 0;
+		isFactorValid = false;
+		pricing.reset();
+
+	}
+
+	/**
+	 * Exchanges the numbers of two slack, surplus or artificial variables.
+	 * 
+	 * @param i
+	 * @param j
+	 */
+	private void swapVariables(int i, int j) {
+		int itemp;
+		double dtemp;
+
+		if (i == j)
+			return;
+
+		itemp = logicalRow[i - numStructurals];
+		logicalRow[i - numStructurals] = logicalRow[j - numStructurals];
+		logicalRow[j - numStructurals] = itemp;
+
+		dtemp = logicalSign[i - numStructurals];
+		logicalSign[i - numStructurals] = logicalSign[j - numStructurals];
+		logicalSign[j - numStructurals] = dtemp;
+
+		itemp = varType[i];
+		varType[i] = varType[j];
+		varType[j] = itemp;
 
+		dtemp = originalCost[i];
+		originalCost[i] = originalCost[j];
+		originalCost[j] = dtemp;
 	}
 
 }
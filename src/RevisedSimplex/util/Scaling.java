@@ -0,0 +1,165 @@
+package RevisedSimplex.util;
+
+/**
+ * Row and column scale factors for the constraint matrix. The scaled problem
+ * uses RAC in place of A, Rb in place of b and Cc in place of the costs, where
+ * R and C are the diagonal matrices of the row and column factors, so that
+ * its variables are those of the original problem divided by the column
+ * factors. Nonzeros of similar magnitude keep the solves with the basis
+ * accurate, which avoids wrong-signed reduced costs and tiny pivots.
+ *
+ * Two methods are available:
+ *
+ * - GEOMETRIC_MEAN divides every row, then every column, by the geometric
+ * mean of its largest and smallest entry, pass after pass, until the spread
+ * of the entries stops improving,
+ *
+ * - EQUILIBRATION divides every row, then every column, by its largest entry,
+ * so that the largest entry of each one is 1.
+ *
+ * The factors are rounded to powers of 2, which makes scaling and unscaling
+ * exact.
+ *
+ * More information about scaling can be found in:
+ *
+ * - "Computational Techniques of the Simplex Method", Maros, Chapter 7
+ *
+ */
+public class Scaling {
+	public static final int GEOMETRIC_MEAN = 0;
+	public static final int EQUILIBRATION = 1;
+
+	public static final int DEFAULT_MAX_PASSES = 8;
+
+	public int method;
+	public int maxPasses = DEFAULT_MAX_PASSES;
+
+	/*
+	 * Another geometric mean pass is only made if the last one has reduced the
+	 * spread, i.e. the ratio of the largest to the smallest scaled entry, to
+	 * less than this fraction of what it was.
+	 */
+	public double convergence = 0.9;
+
+	public double[] rowScale;
+	public double[] colScale;
+
+	public Scaling(int method) {
+		this.method = method;
+	}
+
+	/**
+	 * Computes the scale factors of the given matrix, which is not modified.
+	 *
+	 * @param A
+	 */
+	public void compute(SparseMatrix A) {
+		rowScale = new double[A.numRows];
+		colScale = new double[A.numCols];
+		for (int i = 0; i < A.numRows; i++)
+			rowScale[i] = 1;
+		for (int j = 0; j < A.numCols; j++)
+			colScale[j] = 1;
+
+		if (method == GEOMETRIC_MEAN) {
+			double spread = this.spread(A);
+			for (int pass = 0; pass < maxPasses; pass++) {
+				this.geometricMeanPass(A);
+				double newSpread = this.spread(A);
+				if (newSpread > convergence * spread)
+					break;
+				spread = newSpread;
+			}
+		} else
+			this.equilibrate(A);
+
+		for (int i = 0; i < A.numRows; i++)
+			rowScale[i] = this.powerOfTwo(rowScale[i]);
+		for (int j = 0; j < A.numCols; j++)
+			colScale[j] = this.powerOfTwo(colScale[j]);
+	}
+
+	/**
+	 * One pass over the rows, then over the columns, each one divided by the
+	 * geometric mean of its largest and smallest scaled entry.
+	 *
+	 * @param A
+	 */
+	private void geometricMeanPass(SparseMatrix A) {
+		double[] rowMax = new double[A.numRows];
+		double[] rowMin = new double[A.numRows];
+		double value;
+
+		for (int i = 0; i < A.numRows; i++)
+			rowMin[i] = Double.POSITIVE_INFINITY;
+		for (int j = 0; j < A.numCols; j++)
+			for (int k = A.columnStart(j); k < A.columnStart(j + 1); k++) {
+				value = Math.abs(A.valueAt(k)) * colScale[j];
+				rowMax[A.rowAt(k)] = Math.max(rowMax[A.rowAt(k)], value);
+				rowMin[A.rowAt(k)] = Math.min(rowMin[A.rowAt(k)], value);
+			}
+		for (int i = 0; i < A.numRows; i++)
+			if (rowMax[i] > 0)
+				rowScale[i] = 1 / Math.sqrt(rowMax[i] * rowMin[i]);
+
+		for (int j = 0; j < A.numCols; j++) {
+			double max = 0;
+			double min = Double.POSITIVE_INFINITY;
+			for (int k = A.columnStart(j); k < A.columnStart(j + 1); k++) {
+				value = Math.abs(A.valueAt(k)) * rowScale[A.rowAt(k)];
+				max = Math.max(max, value);
+				min = Math.min(min, value);
+			}
+			if (max > 0)
+				colScale[j] = 1 / Math.sqrt(max * min);
+		}
+	}
+
+	/**
+	 * Scales the largest entry of every row, then of every column, to 1.
+	 *
+	 * @param A
+	 */
+	private void equilibrate(SparseMatrix A) {
+		double[] rowMax = new double[A.numRows];
+
+		for (int k = 0; k < A.nonZeros(); k++)
+			rowMax[A.rowAt(k)] = Math.max(rowMax[A.rowAt(k)], Math.abs(A.valueAt(k)));
+		for (int i = 0; i < A.numRows; i++)
+			if (rowMax[i] > 0)
+				rowScale[i] = 1 / rowMax[i];
+
+		for (int j = 0; j < A.numCols; j++) {
+			double max = 0;
+			for (int k = A.columnStart(j); k < A.columnStart(j + 1); k++)
+				max = Math.max(max, Math.abs(A.valueAt(k)) * rowScale[A.rowAt(k)]);
+			if (max > 0)
+				colScale[j] = 1 / max;
+		}
+	}
+
+	/**
+	 * @param A
+	 * @return the ratio of the largest to the smallest scaled entry
+	 */
+	private double spread(SparseMatrix A) {
+		double max = 0;
+		double min = Double.POSITIVE_INFINITY;
+
+		for (int j = 0; j < A.numCols; j++)
+			for (int k = A.columnStart(j); k < A.columnStart(j + 1); k++) {
+				double value = Math.abs(A.valueAt(k)) * rowScale[A.rowAt(k)] * colScale[j];
+				max = Math.max(max, value);
+				min = Math.min(min, value);
+			}
+		return (max > 0) ? max / min : 1;
+	}
+
+	/**
+	 * @param factor
+	 * @return the power of 2 closest to factor, in logarithmic terms
+	 */
+	private double powerOfTwo(double factor) {
+		return Math.pow(2, Math.round(Math.log(factor) / Math.log(2)));
+	}
+}
@@ -0,0 +1,48 @@
+package RevisedSimplex.util;
+
+/**
+ * Counters and timings of a solve. It's filled in by RevisedSimplex.solve() so
+ * that the pricing rules, and the other settings of the solver, can be
+ * compared on the same problem.
+ *
+ */
+public class SolverStatistics {
+	public String pricingRule;
+	public int iterations;
+	public int phaseOneIterations;
+	public int factorizations;
+	public int boundFlips;
+
+	// pivots that didn't move the objective, and perturbations against them
+	public int zeroStepPivots;
+	public int perturbations;
+
+	// switches to Bland's rule after a repeated basis or a long stall
+	public int cycleEscapes;
+
+	// wall times, in nanoseconds
+	public long phaseOneTime;
+	public long solveTime;
+
+	/**
+	 * Sets every counter back to zero.
+	 */
+	public void clear() {
+		iterations = 0;
+		phaseOneIterations = 0;
+		factorizations = 0;
+		boundFlips = 0;
+		zeroStepPivots = 0;
+		perturbations = 0;
+		cycleEscapes = 0;
+		phaseOneTime = 0;
+		solveTime = 0;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s: %d iterations (%d in phase 1), %d zero steps, %d perturbations, %d cycle escapes, %d bound flips, %d factorizations, %.3f ms (%.3f ms in phase 1)",
+				pricingRule, iterations, phaseOneIterations, zeroStepPivots, perturbations, cycleEscapes, boundFlips, factorizations, solveTime / 1e6,
+				phaseOneTime / 1e6);
+	}
+}
@@ -0,0 +1,305 @@
+package RevisedSimplex.util;
+
+import java.util.Arrays;
+
+/**
+ * Sparse matrix stored column by column (compressed sparse column, CSC). Only
+ * the nonzero entries are kept: the entries of column j are found at positions
+ * colStart[j] to colStart[j+1]-1 of rowIndex and values, with the row indices
+ * in increasing order. This is the storage of the constraint matrix A inside
+ * the solver, so extracting a column or multiplying it with a vector takes
+ * time proportional to the nonzeros of that column.
+ *
+ * The row-wise (CSR) twin of a matrix is simply the column-wise storage of its
+ * transpose and can be created with transpose() when it's needed.
+ *
+ * The same storage may also live outside of the heap, see OffHeapSparseMatrix.
+ * The arrays are therefore private, and every user of a matrix reads it
+ * through columnStart(), rowAt() and valueAt() or the other methods of this
+ * class, whichever storage it has.
+ *
+ */
+public class SparseMatrix {
+	public int numRows;
+	public int numCols;
+
+	private final int[] colStart;
+	private final int[] rowIndex;
+	private final double[] values;
+
+	/**
+	 * Constructor for a matrix whose compressed columns are already built.
+	 *
+	 * @param numRows
+	 * @param numCols
+	 * @param colStart
+	 * @param rowIndex
+	 * @param values
+	 */
+	public SparseMatrix(int numRows, int numCols, int[] colStart, int[] rowIndex, double[] values) {
+		this.numRows = numRows;
+		this.numCols = numCols;
+		this.colStart = colStart;
+		this.rowIndex = rowIndex;
+		this.values = values;
+	}
+
+	/**
+	 * @return number of nonzero entries
+	 */
+	public int nonZeros() {
+		return colStart[numCols];
+	}
+
+	/**
+	 * @param col
+	 * @return position of the first entry of the column, the entries of col
+	 *         end where those of col + 1 start
+	 */
+	public int columnStart(int col) {
+		return colStart[col];
+	}
+
+	/**
+	 * @param k
+	 * @return row of the entry at position k
+	 */
+	public int rowAt(int k) {
+		return rowIndex[k];
+	}
+
+	/**
+	 * @param k
+	 * @return value of the entry at position k
+	 */
+	public double valueAt(int k) {
+		return values[k];
+	}
+
+	/**
+	 * Returns the entry at the given row and column, zero if it's not stored.
+	 *
+	 * @param row
+	 * @param col
+	 * @return value of the entry
+	 */
+	public double get(int row, int col) {
+		int k = Arrays.binarySearch(rowIndex, colStart[col], colStart[col + 1], row);
+		return (k >= 0) ? values[k] : 0;
+	}
+
+	/**
+	 * Multiplies the column col with the dense vector v.
+	 *
+	 * @param col
+	 * @param v
+	 * @return the dot product of the column and v
+	 */
+	public double dotColumn(int col, double[] v) {
+		double result = 0;
+		for (int k = colStart[col]; k < colStart[col + 1]; k++)
+			result += values[k] * v[rowIndex[k]];
+		return result;
+	}
+
+	/**
+	 * Copies the column col into the dense vector dense, including its zeros.
+	 *
+	 * @param col
+	 * @param dense
+	 */
+	public void scatterColumn(int col, double[] dense) {
+		Arrays.fill(dense, 0, numRows, 0);
+		for (int k = colStart[col]; k < colStart[col + 1]; k++)
+			dense[rowIndex[k]] = values[k];
+	}
+
+	/**
+	 * Adds the matrix-vector product to result, result += (this)v, one column
+	 * at a time. Columns whose entry of v is zero are skipped. On the row-wise
+	 * twin of a matrix A this computes vA with a single pass over the rows of
+	 * A, reading each row contiguously.
+	 *
+	 * @param v
+	 *            vector with one entry per column
+	 * @param result
+	 *            vector with one entry per row
+	 */
+	public void multiplyAdd(double[] v, double[] result) {
+		for (int j = 0; j < numCols; j++) {
+			double factor = v[j];
+			if (factor == 0)
+				continue;
+			for (int k = colStart[j]; k < colStart[j + 1]; k++)
+				result[rowIndex[k]] += values[k] * factor;
+		}
+	}
+
+	/**
+	 * Adds the column col, multiplied by factor, to the dense vector v.
+	 *
+	 * @param col
+	 * @param factor
+	 * @param v
+	 */
+	public void addColumn(int col, double factor, double[] v) {
+		for (int k = colStart[col]; k < colStart[col + 1]; k++)
+			v[rowIndex[k]] += values[k] * factor;
+	}
+
+	/**
+	 * Multiplies entry (i, j) with rowScale[i] * colScale[j]. The scaled values
+	 * are written over the stored ones if inPlace is set, otherwise into a copy
+	 * that shares the row indices and column starts with this matrix.
+	 *
+	 * @param rowScale
+	 * @param colScale
+	 * @param inPlace
+	 * @return the scaled matrix
+	 */
+	public SparseMatrix scale(double[] rowScale, double[] colScale, boolean inPlace) {
+		double[] scaled = inPlace ? values : new double[values.length];
+		for (int j = 0; j < numCols; j++)
+			for (int k = colStart[j]; k < colStart[j + 1]; k++)
+				scaled[k] = values[k] * rowScale[rowIndex[k]] * colScale[j];
+		return inPlace ? this : new SparseMatrix(numRows, numCols, colStart, rowIndex, scaled);
+	}
+
+	/**
+	 * Builds the transpose of the matrix, which is the row-wise (CSR) storage
+	 * of this matrix. Row indices of the result are again sorted.
+	 *
+	 * @return the transposed matrix
+	 */
+	public SparseMatrix transpose() {
+		int nnz = nonZeros();
+		int[] start = new int[numRows + 1];
+		int[] index = new int[nnz];
+		double[] value = new double[nnz];
+
+		for (int k = 0; k < nnz; k++)
+			start[rowIndex[k] + 1]++;
+		for (int i = 0; i < numRows; i++)
+			start[i + 1] += start[i];
+
+		int[] next = Arrays.copyOf(start, numRows);
+		for (int j = 0; j < numCols; j++)
+			for (int k = colStart[j]; k < colStart[j + 1]; k++) {
+				int position = next[rowIndex[k]]++;
+				index[position] = j;
+				value[position] = values[k];
+			}
+
+		return new SparseMatrix(numCols, numRows, start, index, value);
+	}
+
+	/**
+	 * Collects the entries of a matrix in any order, as (row, column, value)
+	 * triplets, and compresses them into columns. Entries given more than once
+	 * for the same position are added up, and left out if they cancel out.
+	 *
+	 */
+	public static class Builder {
+		private int count = 0;
+		private int[] rows = new int[16];
+		private int[] cols = new int[16];
+		private double[] entries = new double[16];
+
+		/**
+		 * Adds the entry (row, col). Zeros are not stored.
+		 *
+		 * @param row
+		 * @param col
+		 * @param value
+		 */
+		public void add(int row, int col, double value) {
+			if (value == 0)
+				return;
+
+			if (count == rows.length) {
+				rows = Arrays.copyOf(rows, 2 * count);
+				cols = Arrays.copyOf(cols, 2 * count);
+				entries = Arrays.copyOf(entries, 2 * count);
+			}
+			rows[count] = row;
+			cols[count] = col;
+			entries[count] = value;
+			count++;
+		}
+
+		/**
+		 * @return number of entries added so far
+		 */
+		public int size() {
+			return count;
+		}
+
+		/**
+		 * Forgets every entry added so far.
+		 */
+		public void clear() {
+			count = 0;
+		}
+
+		/**
+		 * Compresses the entries into a numRows x numCols matrix. Entries that
+		 * lie outside of it are ignored.
+		 *
+		 * @param numRows
+		 * @param numCols
+		 * @return the compressed matrix
+		 */
+		public SparseMatrix build(int numRows, int numCols) {
+			int[] start = new int[numCols + 1];
+
+			// counting sort of the entries by row, then by column, keeps the
+			// rows of every column sorted
+			int[] rowStart = new int[numRows + 1];
+			for (int k = 0; k < count; k++)
+				if (rows[k] < numRows && cols[k] < numCols)
+					rowStart[rows[k] + 1]++;
+			for (int i = 0; i < numRows; i++)
+				rowStart[i + 1] += rowStart[i];
+			int[] byRow = new int[rowStart[numRows]];
+			for (int k = 0; k < count; k++)
+				if (rows[k] < numRows && cols[k] < numCols)
+					byRow[rowStart[rows[k]]++] = k;
+
+			for (int k : byRow)
+				start[cols[k] + 1]++;
+			for (int j = 0; j < numCols; j++)
+				start[j + 1] += start[j];
+			int kept = byRow.length;
+			int[] order = new int[kept];
+			int[] next = Arrays.copyOf(start, numCols);
+			for (int k : byRow)
+				order[next[cols[k]]++] = k;
+
+			// merge duplicates while copying
+			int[] colStart = new int[numCols + 1];
+			int[] rowIndex = new int[kept];
+			double[] values = new double[kept];
+			int nnz = 0;
+			for (int j = 0; j < numCols; j++) {
+				colStart[j] = nnz;
+				for (int p = start[j]; p < start[j + 1]; p++) {
+					int k = order[p];
+					if (nnz > colStart[j] && rowIndex[nnz - 1] == rows[k])
+						values[nnz - 1] += entries[k];
+					else {
+						if (nnz > colStart[j] && values[nnz - 1] == 0)
+							nnz--; // duplicates that cancel out
+						rowIndex[nnz] = rows[k];
+						values[nnz] = entries[k];
+						nnz++;
+					}
+				}
+				if (nnz > colStart[j] && values[nnz - 1] == 0)
+					nnz--;
+			}
+			colStart[numCols] = nnz;
+
+			return new SparseMatrix(numRows, numCols, colStart, Arrays.copyOf(rowIndex, nnz), Arrays.copyOf(values, nnz));
+		}
+	}
+}
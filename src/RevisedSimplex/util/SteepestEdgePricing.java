@@ -0,0 +1,56 @@
+package RevisedSimplex.util;
+
+/**
+ * Projected steepest edge pricing. The weights are the squared norms of the
+ * edge directions restricted to the reference framework, and they are kept
+ * exact by the update of Goldfarb and Reid:
+ *
+ * w_j = max(w_j - 2 (alpha_rj / alpha_rq) a_j tau + (alpha_rj / alpha_rq)^2 w_q,
+ * 1 + (alpha_rj / alpha_rq)^2)
+ *
+ * (the lower bound only counts the entries inside the reference framework)
+ *
+ * where tau solves Bt(tau) = yB, restricted to the reference framework. It
+ * costs one more BTRAN and one more pass over the nonbasic columns than Devex.
+ *
+ * More information can be found in:
+ *
+ * - "A practicable steepest-edge simplex algorithm", Goldfarb & Reid, 1977
+ *
+ */
+public class SteepestEdgePricing extends WeightedPricing {
+	private double[] referenceColumn;
+	private double[] tau;
+
+	@Override
+	public void update(RevisedSimplex lp) {
+		if (weights == null)
+			return;
+
+		int q = lp.NonBasicVariables[lp.enteringVar];
+		int p = lp.BasicVariables[lp.leavingVar];
+		int m = lp.numConstraints;
+		double alphaQ = lp.yB[lp.leavingVar];
+		double weightQ = this.enteringWeight(lp);
+		double[] alpha = lp.computePivotRow();
+		double ratio;
+
+		if (tau == null || tau.length < m) {
+			tau = new double[m];
+			referenceColumn = new double[m];
+		}
+		for (int i = 0; i < m; i++)
+			referenceColumn[i] = inReference[lp.BasicVariables[i]] ? lp.yB[i] : 0;
+		lp.basisFactor.btran(tau, referenceColumn);
+
+		for (int i = 0; i < lp.numNonbasic; i++) {
+			if (i == lp.enteringVar || alpha[i] == 0)
+				continue;
+			ratio = alpha[i] / alphaQ;
+			int j = lp.NonBasicVariables[i];
+			double lowerBound = (inReference[j] ? 1 : 0) + (inReference[p] ? ratio * ratio : 0);
+			weights[j] = Math.max(weights[j] - 2 * ratio * lp.dotColumn(j, tau) + ratio * ratio * weightQ, lowerBound);
+		}
+		weights[p] = Math.max(weightQ / (alphaQ * alphaQ), 1);
+	}
+}
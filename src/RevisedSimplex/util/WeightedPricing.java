@@ -0,0 +1,71 @@
+package RevisedSimplex.util;
+
+/**
+ * Common part of the normalized pricing rules. Every nonbasic variable j has a
+ * weight w_j that approximates the squared norm of its edge direction, and the
+ * variable with the largest d_j^2 / w_j among the negative reduced costs d_j
+ * enters the basis. The norms are measured in a reference framework, the set of
+ * variables that were nonbasic when the weights were last reset, which makes
+ * all the initial weights equal to 1. After every pivot the weights are
+ * updated from the pivot row instead of being computed again.
+ *
+ */
+public abstract class WeightedPricing implements PricingStrategy {
+	protected double[] weights;
+	protected boolean[] inReference;
+
+	@Override
+	public int chooseEntering(RevisedSimplex lp) {
+		int best = -1;
+		double bestValue = 0;
+		double d;
+
+		if (weights == null)
+			this.initialize(lp);
+
+		lp.calculateReducedCosts();
+		for (int i = 0; i < lp.numNonbasic; i++) {
+			d = lp.pricedCost(i);
+			if (d < 0 && d * d > bestValue * weights[lp.NonBasicVariables[i]]) {
+				bestValue = d * d / weights[lp.NonBasicVariables[i]];
+				best = i;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Sets up a new reference framework from the current nonbasic variables.
+	 *
+	 * @param lp
+	 */
+	protected void initialize(RevisedSimplex lp) {
+		weights = new double[lp.numVariables];
+		inReference = new boolean[lp.numVariables];
+		for (int i = 0; i < lp.numVariables; i++)
+			weights[i] = 1;
+		for (int i = 0; i < lp.numNonbasic; i++)
+			inReference[lp.NonBasicVariables[i]] = true;
+	}
+
+	/**
+	 * Weight of the entering variable, measured exactly in the reference
+	 * framework from its transformed column yB.
+	 *
+	 * @param lp
+	 * @return the weight of the entering variable
+	 */
+	protected double enteringWeight(RevisedSimplex lp) {
+		double weight = inReference[lp.NonBasicVariables[lp.enteringVar]] ? 1 : 0;
+		for (int i = 0; i < lp.numConstraints; i++)
+			if (inReference[lp.BasicVariables[i]])
+				weight += lp.yB[i] * lp.yB[i];
+		return weight;
+	}
+
+	@Override
+	public void reset() {
+		weights = null;
+		inReference = null;
+	}
+}
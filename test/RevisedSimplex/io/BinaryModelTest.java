@@ -0,0 +1,128 @@
+package RevisedSimplex.io;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.StringReader;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import RevisedSimplex.util.LinearProgram;
+import RevisedSimplex.util.OffHeapSparseMatrix;
+import RevisedSimplex.util.RevisedSimplex;
+
+public class BinaryModelTest {
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void writtenProgramIsMappedBack() throws IOException {
+		LpReader reader = new LpReader();
+		LinearProgram program = reader.read(new StringReader("max: 3x + 2y - z + 7;\nc1: x + y - z <= 4;\nc2: x + 3y >= -6;\n"
+				+ "c3: x - z = 1;\nx <= 3;\ny >= -2;\nfree z;\n"));
+		String fileName = this.file("small.rslp");
+		BinaryModel.write(program, reader.objectiveConstant, fileName);
+
+		BinaryModel model = new BinaryModel();
+		LinearProgram copy = model.map(fileName);
+		assertEquals(7, model.objectiveConstant, 0);
+		assertTrue(copy.A instanceof OffHeapSparseMatrix);
+		assertSameProgram(program, copy);
+
+		RevisedSimplex solver = program.newSolver();
+		RevisedSimplex mapped = copy.newSolver();
+		assertEquals(solver.solve(), mapped.solve());
+		assertEquals(solver.objectiveValue, mapped.objectiveValue, 0);
+	}
+
+	@Test
+	public void programLargerThanTheWriteBufferIsMappedBack() throws IOException {
+		// about 16000 nonzeros, i.e. 128 KB of values alone
+		Random random = new Random(1);
+		LinearProgram.Builder builder = new LinearProgram.Builder(200, 400);
+		for (int i = 0; i < 400; i++) {
+			builder.setConstraint(i, random.nextInt(100), random.nextInt(3));
+			for (int j = 0; j < 200; j++)
+				if (random.nextDouble() < 0.2)
+					builder.setCoefficient(i, j, random.nextGaussian());
+		}
+		for (int j = 0; j < 200; j++) {
+			builder.setCost(j, random.nextGaussian());
+			builder.setBounds(j, -random.nextInt(3), (j % 2 == 0) ? Double.POSITIVE_INFINITY : random.nextInt(10));
+		}
+		LinearProgram program = builder.build();
+		String fileName = this.file("large.rslp");
+		BinaryModel.write(program, 0, fileName);
+
+		assertSameProgram(program, new BinaryModel().map(fileName));
+	}
+
+	@Test
+	public void otherFilesAreRejected() throws IOException {
+		String fileName = this.file("model.rslp");
+		BinaryModel.write(new LpReader().read(new StringReader("min: x + y;\nc1: x + y >= 1;\n")), 0, fileName);
+		long size = new File(fileName).length();
+
+		try (RandomAccessFile file = new RandomAccessFile(fileName, "rw")) {
+			// version 2, little-endian
+			file.seek(4);
+			file.write(new byte[] { 2, 0, 0, 0 });
+			assertRejected(fileName, "version 2");
+			file.seek(4);
+			file.write(new byte[] { 1, 0, 0, 0 });
+
+			file.setLength(size - 4);
+			assertRejected(fileName, "damaged");
+			file.setLength(size);
+
+			// the first column start, before the three column starts and the two
+			// row indices that end the file
+			file.seek(size - 4 * (3 + 2));
+			file.write(new byte[] { 1, 0, 0, 0 });
+			assertRejected(fileName, "damaged");
+
+			file.setLength(0);
+			file.writeBytes("NAME          NOTBINARY\n" + "ROWS\n" + " N  COST\n" + "COLUMNS\n" + "RHS\n" + "ENDATA\n");
+			assertRejected(fileName, "not a binary model");
+		}
+	}
+
+	private String file(String name) {
+		return new File(folder.getRoot(), name).getPath();
+	}
+
+	private static void assertRejected(String fileName, String message) {
+		try {
+			new BinaryModel().map(fileName);
+			fail("the file was mapped");
+		} catch (IOException e) {
+			assertTrue(e.getMessage(), e.getMessage().contains(message));
+		}
+	}
+
+	private static void assertSameProgram(LinearProgram expected, LinearProgram actual) {
+		assertEquals(expected.numVariables, actual.numVariables);
+		assertEquals(expected.numConstraints, actual.numConstraints);
+		assertEquals(expected.isMinimize, actual.isMinimize);
+		assertArrayEquals(expected.b, actual.b, 0);
+		assertArrayEquals(expected.constraintType, actual.constraintType);
+		assertArrayEquals(expected.cost, actual.cost, 0);
+		assertArrayEquals(expected.lowerBound, actual.lowerBound, 0);
+		assertArrayEquals(expected.upperBound, actual.upperBound, 0);
+		assertEquals(expected.A.nonZeros(), actual.A.nonZeros());
+		for (int j = 0; j <= expected.numVariables; j++)
+			assertEquals(expected.A.columnStart(j), actual.A.columnStart(j));
+		for (int k = 0; k < expected.A.nonZeros(); k++) {
+			assertEquals(expected.A.rowAt(k), actual.A.rowAt(k));
+			assertEquals(expected.A.valueAt(k), actual.A.valueAt(k), 0);
+		}
+	}
+}
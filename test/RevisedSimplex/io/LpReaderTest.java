@@ -0,0 +1,185 @@
+package RevisedSimplex.io;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+import org.junit.Test;
+
+import RevisedSimplex.util.LinearProgram;
+import RevisedSimplex.util.RevisedSimplex;
+
+public class LpReaderTest {
+	private static final double TOLERANCE = 1e-9;
+
+	private static final String CPLEX = "\\ max 3x + 2y, optimal at (3, 1)\n"
+			+ "Maximize\n"
+			+ " obj: 3 x + 2 y + 1\n"
+			+ "Subject To\n"
+			+ " c1: x + y <= 4\n"
+			+ " c2: x + 3 y <= 6\n"
+			+ "Bounds\n"
+			+ " x <= 3\n"
+			+ " -inf <= y <= 10\n"
+			+ "End\n";
+
+	private static final String LP_SOLVE = "/* the same program */\n"
+			+ "max: 3x + 2y + 1;\n"
+			+ "c1: x + y <= 4;\n"
+			+ "c2: x + 3y <= 6;\n"
+			+ "x <= 3;\n"
+			+ "y >= -1e30;\n"
+			+ "y <= 10;\n";
+
+	@Test
+	public void cplexFileIsRead() throws IOException {
+		LpReader reader = new LpReader();
+		LinearProgram program = reader.read(new StringReader(CPLEX));
+
+		assertArrayEquals(new String[] { "x", "y" }, reader.columnNames);
+		assertArrayEquals(new String[] { "c1", "c2" }, reader.rowNames);
+		assertEquals(1, reader.objectiveConstant, 0);
+		assertProgram(program);
+	}
+
+	@Test
+	public void lpSolveFileIsRead() throws IOException {
+		LpReader reader = new LpReader();
+		LinearProgram program = reader.read(new StringReader(LP_SOLVE));
+
+		assertArrayEquals(new String[] { "x", "y" }, reader.columnNames);
+		assertArrayEquals(new String[] { "c1", "c2" }, reader.rowNames);
+		assertEquals(1, reader.objectiveConstant, 0);
+		assertProgram(program);
+	}
+
+	@Test
+	public void textIsReadAcrossBufferRefills() throws IOException {
+		// a reader that hands out one character at a time
+		Reader trickle = new StringReader(CPLEX) {
+			@Override
+			public int read(char[] buffer, int offset, int length) throws IOException {
+				return super.read(buffer, offset, Math.min(length, 1));
+			}
+		};
+		LpReader reader = new LpReader();
+
+		assertProgram(reader.read(trickle));
+		assertArrayEquals(new String[] { "x", "y" }, reader.columnNames);
+	}
+
+	@Test
+	public void rangedConstraintBecomesTwoRows() throws IOException {
+		LinearProgram program = new LpReader().read(new StringReader("min: x + y;\nr: -5 <= x - y <= 10;\n"));
+
+		assertEquals(2, program.numConstraints);
+		assertArrayEquals(new int[] { 1, 0 }, program.constraintType);
+		assertArrayEquals(new double[] { -5, 10 }, program.b, 0);
+	}
+
+	@Test
+	public void termsAreMovedToTheLeftAndConstantsToTheRight() throws IOException {
+		LinearProgram program = new LpReader().read(new StringReader("min: x;\nc: 2x + 3 >= y - 1 + x;\n"));
+
+		assertEquals(1, program.A.get(0, 0), 0);
+		assertEquals(-1, program.A.get(0, 1), 0);
+		assertEquals(1, program.constraintType[0]);
+		assertEquals(-4, program.b[0], 0);
+	}
+
+	@Test
+	public void boundsWithNegativeCoefficientsAndDeclarations() throws IOException {
+		LpReader reader = new LpReader();
+		LinearProgram program = reader.read(new StringReader("min: x + y + z;\nc: x + y + z >= 1;\n-x >= -8;\nfree y;\nint z;\nbin w;\n"));
+
+		assertEquals(1, program.numConstraints);
+		assertEquals(8, program.upperBound[0], 0);
+		assertEquals(Double.NEGATIVE_INFINITY, program.lowerBound[1], 0);
+		assertEquals(Double.POSITIVE_INFINITY, program.upperBound[1], 0);
+		assertEquals(1, program.upperBound[3], 0);
+		assertEquals(2, reader.numIntegerColumns);
+	}
+
+	@Test
+	public void cplexFreeBoundAndGenerals() throws IOException {
+		LpReader reader = new LpReader();
+		LinearProgram program = reader.read(new StringReader("Minimize\n x - y\nSubject To\n x + y >= 2\nBounds\n y free\n"
+				+ "General\n x\nEnd\n"));
+
+		assertArrayEquals(new String[] { "R1" }, reader.rowNames);
+		assertEquals(Double.NEGATIVE_INFINITY, program.lowerBound[1], 0);
+		assertEquals(1, reader.numIntegerColumns);
+	}
+
+	@Test
+	public void errorsGiveTheLine() throws IOException {
+		try {
+			new LpReader().read(new StringReader("max: x;\nc1: x <= 4;\nc2: x + <= 6;\n"));
+			fail("a missing term was accepted");
+		} catch (IOException e) {
+			assertTrue(e.getMessage(), e.getMessage().startsWith("line 3:"));
+		}
+	}
+
+	@Test
+	public void infiniteBoundsOfTheWrongSignAreRejected() {
+		assertRejected("max: x + y;\nc1: x + y <= 4;\nx >= 1e30;\n", "line 3:");
+		assertRejected("Maximize\n x + y\nSubject To\n x + y <= 4\nBounds\n -inf <= y <= -inf\nEnd\n", "line 6:");
+		assertRejected("max: x + y;\nc1: x + y <= 4;\n-x >= 1e30;\n", "line 3:");
+	}
+
+	@Test
+	public void duplicateRowNamesAreRejected() throws IOException {
+		assertRejected("max: x + y;\nc1: x + y <= 4;\nc1: x - y <= 1;\n", "line 3:");
+		assertRejected("Maximize\n x\nSubject To\n c1: x + y <= 4\n c2: x <= 3\n c1: y >= 1\nEnd\n", "line 6:");
+
+		// a ranged constraint is two rows of the same name
+		LpReader reader = new LpReader();
+		reader.read(new StringReader("max: x + y;\nc1: -5 <= x + y <= 4;\n"));
+		assertArrayEquals(new String[] { "c1", "c1" }, reader.rowNames);
+	}
+
+	/**
+	 * Checks that the text is rejected with an error at the given line.
+	 *
+	 * @param text
+	 * @param line
+	 *            start of the message, "line N:"
+	 */
+	private static void assertRejected(String text, String line) {
+		try {
+			new LpReader().read(new StringReader(text));
+			fail("accepted: " + text);
+		} catch (IOException e) {
+			assertTrue(e.getMessage(), e.getMessage().startsWith(line));
+		}
+	}
+
+	/**
+	 * Checks a program read from CPLEX or LP_SOLVE, and solves it.
+	 *
+	 * @param program
+	 */
+	private static void assertProgram(LinearProgram program) {
+		assertEquals(2, program.numVariables);
+		assertEquals(2, program.numConstraints);
+		assertArrayEquals(new double[] { 3, 2 }, program.cost, 0);
+		assertFalse(program.isMinimize);
+		assertArrayEquals(new double[] { 4, 6 }, program.b, 0);
+		assertArrayEquals(new int[] { 0, 0 }, program.constraintType);
+		assertEquals(3, program.A.get(1, 1), 0);
+		assertArrayEquals(new double[] { 0, Double.NEGATIVE_INFINITY }, program.lowerBound, 0);
+		assertArrayEquals(new double[] { 3, 10 }, program.upperBound, 0);
+
+		RevisedSimplex solver = program.newSolver();
+		assertEquals(RevisedSimplex.OPTIMAL, solver.solve());
+		assertEquals(11, solver.objectiveValue, TOLERANCE);
+		assertArrayEquals(new double[] { 3, 1 }, solver.primalSolution(), TOLERANCE);
+	}
+}
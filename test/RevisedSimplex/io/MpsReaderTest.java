@@ -0,0 +1,108 @@
+package RevisedSimplex.io;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import org.junit.Test;
+
+import RevisedSimplex.util.LinearProgram;
+import RevisedSimplex.util.RevisedSimplex;
+
+public class MpsReaderTest {
+	private static final double TOLERANCE = 1e-9;
+
+	/*
+	 * min x + y + z subject to x + y >= -4, y - z <= 6, with the bounds
+	 * appended by each test.
+	 */
+	private static final String MODEL = "NAME          BOUNDS\n"
+			+ "ROWS\n"
+			+ " N  COST\n"
+			+ " G  R1\n"
+			+ " L  R2\n"
+			+ "COLUMNS\n"
+			+ "    X         COST      1   R1        1\n"
+			+ "    Y         COST      1   R1        1\n"
+			+ "    Y         R2        1\n"
+			+ "    Z         COST      1   R2        -1\n"
+			+ "RHS\n"
+			+ "    RHS       R1        -4  R2        6\n"
+			+ "BOUNDS\n";
+
+	@Test
+	public void freeColumnHasNoBounds() throws IOException {
+		LinearProgram program = read(" FR BND       X\n");
+
+		assertEquals(Double.NEGATIVE_INFINITY, program.lowerBound[0], 0);
+		assertEquals(Double.POSITIVE_INFINITY, program.upperBound[0], 0);
+		// x takes up all of R1 below zero, with y at zero
+		RevisedSimplex solver = solve(program);
+		assertEquals(RevisedSimplex.OPTIMAL, solver.solve());
+		assertEquals(-4, solver.objectiveValue, TOLERANCE);
+		assertEquals(-4, solver.primalSolution()[0], TOLERANCE);
+	}
+
+	@Test
+	public void minusInfinityKeepsTheUpperBound() throws IOException {
+		LinearProgram program = read(" UP BND       Z         3\n MI BND       Z\n");
+
+		assertEquals(Double.NEGATIVE_INFINITY, program.lowerBound[2], 0);
+		assertEquals(3, program.upperBound[2], 0);
+		// R2 keeps z above y - 6
+		RevisedSimplex solver = solve(program);
+		assertEquals(RevisedSimplex.OPTIMAL, solver.solve());
+		assertEquals(-6, solver.primalSolution()[2], TOLERANCE);
+	}
+
+	@Test
+	public void negativeUpperBoundWithoutLowerBoundMakesTheLowerOneInfinite() throws IOException {
+		LinearProgram program = read(" UP BND       X         -2\n UP BND       Y         -1\n LO BND       Y         -3\n");
+
+		assertEquals(Double.NEGATIVE_INFINITY, program.lowerBound[0], 0);
+		assertEquals(-2, program.upperBound[0], 0);
+		assertEquals(-3, program.lowerBound[1], 0);
+		assertEquals(-1, program.upperBound[1], 0);
+	}
+
+	@Test
+	public void crossedBoundsNameTheColumn() throws IOException {
+		try {
+			read(" LO BND       Y         5\n UP BND       Y         2\n");
+			fail("crossed bounds were accepted");
+		} catch (IOException e) {
+			assertTrue(e.getMessage(), e.getMessage().contains("column Y"));
+		}
+	}
+
+	@Test
+	public void writtenBoundsAreReadBack() throws IOException {
+		LinearProgram program = read(" FR BND       X\n MI BND       Y\n UP BND       Y         -1\n UP BND       Z         -2\n"
+				+ " LO BND       Z         -5\n");
+		StringWriter text = new StringWriter();
+		MpsWriter.write(program, "BOUNDS", null, null, 0, text);
+		LinearProgram copy = new MpsReader().read(new StringReader(text.toString()));
+
+		assertArrayEquals(program.lowerBound, copy.lowerBound, 0);
+		assertArrayEquals(program.upperBound, copy.upperBound, 0);
+		RevisedSimplex solver = solve(copy);
+		assertEquals(RevisedSimplex.OPTIMAL, solver.solve());
+		// x + y at the lower limit of R1, z at its lower bound
+		assertEquals(-9, solver.objectiveValue, TOLERANCE);
+	}
+
+	private static LinearProgram read(String bounds) throws IOException {
+		return new MpsReader().read(new StringReader(MODEL + bounds + "ENDATA\n"));
+	}
+
+	private static RevisedSimplex solve(LinearProgram program) {
+		RevisedSimplex solver = new RevisedSimplex(program.numVariables, program.numConstraints);
+		program.load(solver);
+		return solver;
+	}
+}
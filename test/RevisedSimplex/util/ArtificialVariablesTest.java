@@ -0,0 +1,52 @@
+package RevisedSimplex.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class ArtificialVariablesTest {
+	private static final double TOLERANCE = 1e-7;
+
+	@Test
+	public void redundantEqualityKeepsItsArtificial() {
+		// min 2x + y + 3z subject to x + y = 4, y + z = 6 and their sum
+		// x + 2y + z = 10, whose artificial can't leave the basis
+		RevisedSimplex solver = new RevisedSimplex(3, 3);
+		solver.addConstraint(new double[] { 1, 1, 0 }, 4, 2);
+		solver.addConstraint(new double[] { 0, 1, 1 }, 6, 2);
+		solver.addConstraint(new double[] { 1, 2, 1 }, 10, 2);
+		solver.optimizationType(new double[] { 2, 1, 3 }, true);
+		solver.initialize(3, 3);
+
+		assertEquals(1, Programs.solve(solver));
+		assertEquals(10, solver.objectiveValue, TOLERANCE);
+		assertArrayEquals(new double[] { 0, 4, 2 }, Programs.solution(solver), TOLERANCE);
+		assertEquals(1, solver.numArtificials);
+		assertArtificialsAreZero(solver);
+	}
+
+	@Test
+	public void duplicatedEqualityKeepsItsArtificial() {
+		// max x + y subject to x + y + z = 5, the same row times two and
+		// x - y = 1
+		RevisedSimplex solver = new RevisedSimplex(3, 3);
+		solver.addConstraint(new double[] { 1, 1, 1 }, 5, 2);
+		solver.addConstraint(new double[] { 2, 2, 2 }, 10, 2);
+		solver.addConstraint(new double[] { 1, -1, 0 }, 1, 2);
+		solver.optimizationType(new double[] { 1, 1, 0 }, false);
+		solver.initialize(3, 3);
+
+		assertEquals(1, Programs.solve(solver));
+		assertEquals(5, solver.objectiveValue, TOLERANCE);
+		assertArrayEquals(new double[] { 3, 2, 0 }, Programs.solution(solver), TOLERANCE);
+		assertEquals(1, solver.numArtificials);
+		assertArtificialsAreZero(solver);
+	}
+
+	static void assertArtificialsAreZero(RevisedSimplex solver) {
+		for (int i = 0; i < solver.numConstraints; i++)
+			if (solver.varType[solver.BasicVariables[i]] == 2)
+				assertEquals("row " + i, 0, solver.x[i], TOLERANCE);
+	}
+}
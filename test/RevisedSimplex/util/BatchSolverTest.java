@@ -0,0 +1,56 @@
+package RevisedSimplex.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class BatchSolverTest {
+	private static final double TOLERANCE = 1e-7;
+
+	@Test
+	public void resultsMatchSolvesOneByOne() throws InterruptedException {
+		// programs of a few shapes, so that the workers both reuse and replace
+		// their solvers
+		List<LinearProgram> programs = new ArrayList<LinearProgram>();
+		for (long seed = 0; seed < 200; seed++)
+			programs.add(Programs.wideProgram(5 + (int) (seed % 3), 10 + (int) (seed % 2), seed));
+
+		BatchSolver batch = new BatchSolver(4);
+		List<BatchSolver.Result> results = batch.solveAll(programs);
+		batch.shutdown();
+
+		assertEquals(programs.size(), results.size());
+		for (int k = 0; k < programs.size(); k++) {
+			RevisedSimplex solver = programs.get(k).newSolver();
+			BatchSolver.Result result = results.get(k);
+			assertEquals("program " + k, solver.solve(), result.status);
+			assertEquals("program " + k, solver.objectiveValue, result.objectiveValue, TOLERANCE * (1 + Math.abs(solver.objectiveValue)));
+			assertArrayEquals("program " + k, solver.primalSolution(), result.solution, TOLERANCE);
+			assertEquals("program " + k, solver.statistics.iterations, result.iterations);
+		}
+	}
+
+	@Test
+	public void failedProgramDoesntStopTheBatch() throws InterruptedException {
+		LinearProgram program = Programs.wideProgram(5, 10, 1);
+		// bounds the builder would have refused, which setBounds() rejects
+		LinearProgram broken = Programs.wideProgram(5, 10, 2);
+		broken.lowerBound[0] = 6;
+
+		BatchSolver batch = new BatchSolver(1);
+		List<BatchSolver.Result> results = batch.solveAll(Arrays.asList(program, broken, program));
+		batch.shutdown();
+
+		assertEquals(RevisedSimplex.OPTIMAL, results.get(0).status);
+		assertEquals(BatchSolver.Result.FAILED, results.get(1).status);
+		assertTrue(results.get(1).error instanceof IllegalArgumentException);
+		assertEquals(RevisedSimplex.OPTIMAL, results.get(2).status);
+		assertEquals(results.get(0).objectiveValue, results.get(2).objectiveValue, 0);
+	}
+}
@@ -0,0 +1,88 @@
+package RevisedSimplex.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class BoundsTest {
+	private static final double TOLERANCE = 1e-7;
+
+	@Test
+	public void variableAtItsUpperBoundIsAFlip() {
+		// max x + y subject to x + y <= 10, with x <= 3 and y <= 4: both
+		// variables go straight to their upper bounds
+		Programs.Program program = new Programs.Program(2, 1);
+		program.A[0] = new double[] { 1, 1 };
+		program.b[0] = 10;
+		program.cost = new double[] { 1, 1 };
+		program.isMinimize = false;
+		program.upper[0] = 3;
+		program.upper[1] = 4;
+
+		RevisedSimplex solver = program.solver();
+		assertEquals(RevisedSimplex.OPTIMAL, solver.solve());
+		assertEquals(7, solver.objectiveValue, TOLERANCE);
+		assertArrayEquals(new double[] { 3, 4 }, solver.primalSolution(), TOLERANCE);
+		assertEquals(2, solver.statistics.boundFlips);
+		assertTrue(solver.atUpper[0] && solver.atUpper[1]);
+	}
+
+	@Test
+	public void negativeLowerBoundsAreKept() {
+		// min x + y subject to x - y >= -1, with x in [-5, 2] and y in [-3, 0]
+		Programs.Program program = new Programs.Program(2, 1);
+		program.A[0] = new double[] { 1, -1 };
+		program.b[0] = -1;
+		program.type[0] = 1;
+		program.cost = new double[] { 1, 1 };
+		program.lower = new double[] { -5, -3 };
+		program.upper = new double[] { 2, 0 };
+
+		RevisedSimplex solver = program.solver();
+		assertEquals(RevisedSimplex.OPTIMAL, solver.solve());
+		assertEquals(-7, solver.objectiveValue, TOLERANCE);
+		assertArrayEquals(new double[] { -4, -3 }, solver.primalSolution(), TOLERANCE);
+	}
+
+	@Test
+	public void boundsMatchBoundsWrittenAsConstraints() {
+		int solved = 0;
+		for (long seed = 0; seed < 500; seed++) {
+			Programs.Program program = Programs.randomProgram(seed);
+			RevisedSimplex bounded = program.solver();
+			int status = bounded.solve();
+
+			// x = lower + x' with x' >= 0, and x' <= upper - lower as a row, an
+			// empty one if there's no upper bound
+			Programs.Program rows = new Programs.Program(program.n, program.m + program.n);
+			rows.isMinimize = program.isMinimize;
+			rows.cost = program.cost;
+			for (int i = 0; i < program.m; i++) {
+				rows.A[i] = program.A[i];
+				rows.type[i] = program.type[i];
+				rows.b[i] = program.b[i];
+				for (int j = 0; j < program.n; j++)
+					rows.b[i] -= program.A[i][j] * program.lower[j];
+			}
+			for (int j = 0; j < program.n; j++)
+				if (program.upper[j] != Double.POSITIVE_INFINITY) {
+					rows.A[program.m + j][j] = 1;
+					rows.b[program.m + j] = program.upper[j] - program.lower[j];
+				}
+			RevisedSimplex reference = rows.solver();
+			assertEquals("seed " + seed, reference.solve(), status);
+			if (status != RevisedSimplex.OPTIMAL)
+				continue;
+
+			double shift = 0;
+			for (int j = 0; j < program.n; j++)
+				shift += program.cost[j] * program.lower[j];
+			assertEquals("seed " + seed, reference.objectiveValue + shift, bounded.objectiveValue, TOLERANCE * (1 + Math.abs(bounded.objectiveValue)));
+			Programs.assertFeasible("seed " + seed, program, bounded.primalSolution());
+			solved++;
+		}
+		assertTrue(solved > 50);
+	}
+}
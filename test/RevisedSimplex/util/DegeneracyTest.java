@@ -0,0 +1,133 @@
+package RevisedSimplex.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class DegeneracyTest {
+	private static final double TOLERANCE = 1e-7;
+
+	@Test
+	public void boundPerturbationKeepsTheOptima() {
+		int perturbations = 0;
+		for (long seed = 0; seed < 500; seed++) {
+			Programs.Program program = Programs.randomProgram(seed);
+			RevisedSimplex plain = program.solver();
+			plain.perturbation = false;
+			int status = plain.solve();
+
+			// perturbed at the first zero step
+			RevisedSimplex perturbed = program.solver();
+			perturbed.perturbAfterZeroSteps = 1;
+			assertEquals("seed " + seed, status, perturbed.solve());
+			if (status == RevisedSimplex.OPTIMAL) {
+				assertEquals("seed " + seed, plain.objectiveValue, perturbed.objectiveValue, TOLERANCE * (1 + Math.abs(plain.objectiveValue)));
+				Programs.assertFeasible("seed " + seed, program, perturbed.primalSolution());
+			}
+			perturbations += perturbed.statistics.perturbations;
+		}
+		assertTrue(perturbations > 50);
+	}
+
+	@Test
+	public void costPerturbationOfTheDualKeepsTheOptima() {
+		int perturbations = 0;
+		for (long seed = 0; seed < 1000; seed++) {
+			Programs.Program program = Programs.randomProgram(seed);
+			RevisedSimplex perturbed = program.solver();
+			if (perturbed.solve() != RevisedSimplex.OPTIMAL)
+				continue;
+
+			Random random = new Random(seed);
+			for (int i = 0; i < program.m; i++) {
+				program.b[i] += random.nextInt(5) - 2;
+				perturbed.setRightHandSide(i, program.b[i]);
+			}
+			perturbed.perturbAfterZeroSteps = 1;
+			int status = perturbed.dualSolve();
+			RevisedSimplex cold = program.solver();
+			assertEquals("seed " + seed, cold.solve(), status);
+			if (status == RevisedSimplex.OPTIMAL) {
+				assertEquals("seed " + seed, cold.objectiveValue, perturbed.objectiveValue, TOLERANCE * (1 + Math.abs(cold.objectiveValue)));
+				Programs.assertFeasible("seed " + seed, program, perturbed.primalSolution());
+			}
+			perturbations += perturbed.statistics.perturbations;
+		}
+		// zero steps of the dual are rare on these programs
+		assertTrue(perturbations > 0);
+	}
+
+	@Test
+	public void blandsRuleKeepsTheOptima() {
+		int escapes = 0;
+		for (long seed = 0; seed < 500; seed++) {
+			Programs.Program program = Programs.randomProgram(seed);
+			RevisedSimplex plain = program.solver();
+			plain.perturbation = false;
+			plain.cycleDetection = false;
+			int status = plain.solve();
+
+			// Bland's rule from the first zero step on
+			RevisedSimplex bland = program.solver();
+			bland.perturbation = false;
+			bland.blandAfterZeroSteps = 1;
+			assertEquals("seed " + seed, status, bland.solve());
+			if (status == RevisedSimplex.OPTIMAL)
+				assertEquals("seed " + seed, plain.objectiveValue, bland.objectiveValue, TOLERANCE * (1 + Math.abs(plain.objectiveValue)));
+			escapes += bland.statistics.cycleEscapes;
+		}
+		assertTrue(escapes > 50);
+	}
+
+	@Test
+	public void bealesExampleIsSolved() {
+		// the classic example on which the textbook simplex method cycles
+		for (boolean cycleDetection : new boolean[] { false, true }) {
+			RevisedSimplex solver = new RevisedSimplex(4, 3);
+			solver.perturbation = false;
+			solver.cycleDetection = cycleDetection;
+			solver.blandAfterZeroSteps = 1;
+			solver.addConstraint(new double[] { 0.25, -8, -1, 9 }, 0, 0);
+			solver.addConstraint(new double[] { 0.5, -12, -0.5, 3 }, 0, 0);
+			solver.addConstraint(new double[] { 0, 0, 1, 0 }, 1, 0);
+			solver.optimizationType(new double[] { -0.75, 20, -0.5, 6 }, true);
+			solver.initialize(4, 3);
+
+			assertEquals(RevisedSimplex.OPTIMAL, solver.solve());
+			assertEquals(-1.25, solver.objectiveValue, TOLERANCE);
+			assertEquals(cycleDetection, solver.statistics.cycleEscapes > 0);
+		}
+	}
+
+	@Test
+	public void repeatedBasisSwitchesToBlandsRule() {
+		// Chvatal's example, on which the largest reduced cost keeps coming
+		// back to the same bases at the degenerate origin
+		RevisedSimplex[] solvers = new RevisedSimplex[2];
+		for (int k = 0; k < 2; k++) {
+			RevisedSimplex solver = new RevisedSimplex(4, 3);
+			solver.perturbation = false;
+			solver.cycleDetection = (k == 1);
+			solver.addConstraint(new double[] { 0.5, -5.5, -2.5, 9 }, 0, 0);
+			solver.addConstraint(new double[] { 0.5, -1.5, -0.5, 1 }, 0, 0);
+			solver.addConstraint(new double[] { 1, 0, 0, 0 }, 1, 0);
+			solver.optimizationType(new double[] { 10, -57, -9, -24 }, false);
+			solver.initialize(4, 3);
+
+			assertEquals(RevisedSimplex.OPTIMAL, solver.solve());
+			assertEquals(1, solver.objectiveValue, TOLERANCE);
+			solvers[k] = solver;
+		}
+		RevisedSimplex plain = solvers[0];
+		RevisedSimplex detecting = solvers[1];
+
+		// the repeated basis, not the count of zero steps, ends the cycle
+		assertEquals(0, plain.statistics.cycleEscapes);
+		assertEquals(1, detecting.statistics.cycleEscapes);
+		assertTrue(detecting.statistics.zeroStepPivots < detecting.blandAfterZeroSteps);
+		assertTrue(detecting.statistics.zeroStepPivots < plain.statistics.zeroStepPivots);
+	}
+}
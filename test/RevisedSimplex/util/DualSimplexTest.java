@@ -0,0 +1,85 @@
+package RevisedSimplex.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class DualSimplexTest {
+	private static final double TOLERANCE = 1e-7;
+
+	@Test
+	public void changedRightHandSideIsReoptimized() {
+		// min x + y subject to x + 2y >= 4, 3x + y >= 6, optimal at (1.6, 1.2)
+		Programs.Program program = new Programs.Program(2, 2);
+		program.A[0] = new double[] { 1, 2 };
+		program.b[0] = 4;
+		program.type[0] = 1;
+		program.A[1] = new double[] { 3, 1 };
+		program.b[1] = 6;
+		program.type[1] = 1;
+		program.cost = new double[] { 1, 1 };
+
+		RevisedSimplex solver = program.solver();
+		assertEquals(RevisedSimplex.OPTIMAL, solver.solve());
+		assertEquals(2.8, solver.objectiveValue, TOLERANCE);
+
+		// the same basis stays optimal, at (0.8, 3.6)
+		solver.setRightHandSide(0, 8);
+		assertEquals(RevisedSimplex.OPTIMAL, solver.dualSolve());
+		assertEquals(4.4, solver.objectiveValue, TOLERANCE);
+		assertArrayEquals(new double[] { 0.8, 3.6 }, solver.primalSolution(), TOLERANCE);
+
+		// x + 2y >= 20 alone is binding, at (0, 10)
+		solver.setRightHandSide(0, 20);
+		assertEquals(RevisedSimplex.OPTIMAL, solver.dualSolve());
+		assertEquals(10, solver.objectiveValue, TOLERANCE);
+		assertArrayEquals(new double[] { 0, 10 }, solver.primalSolution(), TOLERANCE);
+	}
+
+	@Test
+	public void infeasibleRightHandSideIsDetected() {
+		// x + y <= 4 and x >= 1, then x >= 5
+		Programs.Program program = new Programs.Program(2, 2);
+		program.A[0] = new double[] { 1, 1 };
+		program.b[0] = 4;
+		program.A[1] = new double[] { 1, 0 };
+		program.b[1] = 1;
+		program.type[1] = 1;
+		program.cost = new double[] { 1, 2 };
+
+		RevisedSimplex solver = program.solver();
+		assertEquals(RevisedSimplex.OPTIMAL, solver.solve());
+		solver.setRightHandSide(1, 5);
+		assertEquals(RevisedSimplex.INFEASIBLE, solver.dualSolve());
+	}
+
+	@Test
+	public void reoptimizedRandomProgramsMatchAColdSolve() {
+		int reoptimized = 0;
+		for (long seed = 0; seed < 1000; seed++) {
+			Programs.Program program = Programs.randomProgram(seed);
+			RevisedSimplex warm = program.solver();
+			if (warm.solve() != RevisedSimplex.OPTIMAL)
+				continue;
+
+			Random random = new Random(seed);
+			for (int i = 0; i < program.m; i++)
+				if (random.nextBoolean()) {
+					program.b[i] += random.nextInt(7) - 3;
+					warm.setRightHandSide(i, program.b[i]);
+				}
+			int status = warm.dualSolve();
+			RevisedSimplex cold = program.solver();
+			assertEquals("seed " + seed, cold.solve(), status);
+			if (status == RevisedSimplex.OPTIMAL) {
+				assertEquals("seed " + seed, cold.objectiveValue, warm.objectiveValue, TOLERANCE * (1 + Math.abs(cold.objectiveValue)));
+				reoptimized++;
+			}
+		}
+		assertTrue(reoptimized > 100);
+	}
+}
@@ -0,0 +1,87 @@
+package RevisedSimplex.util;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class HarrisRatioTest {
+
+	@Test
+	public void largerPivotWinsANearTie() {
+		// x blocks at 1 on the first row and at 1 + 1e-8 on the second, whose
+		// pivot element is a thousand times larger
+		RevisedSimplex solver = nearTie();
+		stepToTheRatioTest(solver);
+
+		assertEquals(2, solver.NumMinRatio);
+		assertEquals(1, solver.leavingVar);
+		assertEquals(1 + 1e-8, solver.MinRatio, 1e-15);
+	}
+
+	@Test
+	public void zeroToleranceIsTheTextbookRatioTest() {
+		RevisedSimplex solver = nearTie();
+		solver.feasibilityTolerance = 0;
+		stepToTheRatioTest(solver);
+
+		assertEquals(1, solver.NumMinRatio);
+		assertEquals(0, solver.leavingVar);
+		assertEquals(1, solver.MinRatio, 1e-15);
+	}
+
+	@Test
+	public void nearTieStaysWithinTheTolerance() {
+		RevisedSimplex solver = nearTie();
+		assertEquals(RevisedSimplex.OPTIMAL, solver.solve());
+		assertEquals(1, solver.objectiveValue, 1e-7);
+	}
+
+	@Test
+	public void tinyPivotElementsAreNeverChosen() {
+		// the first row would block x at once, but only through 1e-12
+		RevisedSimplex solver = new RevisedSimplex(1, 2);
+		solver.addConstraint(new double[] { 1e-12 }, 0, 0);
+		solver.addConstraint(new double[] { 1 }, 3, 0);
+		solver.optimizationType(new double[] { 1 }, false);
+		solver.initialize(1, 2);
+		stepToTheRatioTest(solver);
+
+		assertEquals(1, solver.leavingVar);
+		assertEquals(3, solver.MinRatio, 0);
+	}
+
+	@Test
+	public void closerUpperBoundIsABoundFlip() {
+		RevisedSimplex solver = new RevisedSimplex(1, 1);
+		solver.setBounds(0, 0, 0.5);
+		solver.addConstraint(new double[] { 1 }, 1, 0);
+		solver.optimizationType(new double[] { 1 }, false);
+		solver.initialize(1, 1);
+		stepToTheRatioTest(solver);
+
+		assertEquals(-1, solver.leavingVar);
+		assertEquals(0.5, solver.MinRatio, 0);
+	}
+
+	/**
+	 * @return max x subject to 0.001x <= 0.001 and x <= 1 + 1e-8
+	 */
+	private static RevisedSimplex nearTie() {
+		RevisedSimplex solver = new RevisedSimplex(1, 2);
+		solver.addConstraint(new double[] { 0.001 }, 0.001, 0);
+		solver.addConstraint(new double[] { 1 }, 1 + 1e-8, 0);
+		solver.optimizationType(new double[] { 1 }, false);
+		solver.initialize(1, 2);
+		return solver;
+	}
+
+	/**
+	 * Steps through the first iteration up to and including the ratio test.
+	 *
+	 * @param solver
+	 */
+	private static void stepToTheRatioTest(RevisedSimplex solver) {
+		while (solver.currentStep != 9 && solver.currentStep != 11)
+			assertEquals(0, solver.iterateOneStep());
+	}
+}
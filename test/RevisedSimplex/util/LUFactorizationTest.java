@@ -0,0 +1,156 @@
+package RevisedSimplex.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class LUFactorizationTest {
+	private static final double TOLERANCE = 1e-9;
+
+	@Test
+	public void ftranSolvesTheBasis() {
+		double[][] B = randomBasis(12, 1);
+		BasisSolver factor = factor(new LUFactorization(12), B);
+		double[] b = randomVector(12, 2);
+		double[] x = new double[12];
+
+		factor.ftran(x, b);
+		assertArrayEquals(b, multiply(B, x), TOLERANCE);
+	}
+
+	@Test
+	public void btranSolvesTheTransposedBasis() {
+		double[][] B = randomBasis(12, 3);
+		BasisSolver factor = factor(new LUFactorization(12), B);
+		double[] c = randomVector(12, 4);
+		double[] x = new double[12];
+
+		factor.btran(x, c);
+		assertArrayEquals(c, multiply(transpose(B), x), TOLERANCE);
+	}
+
+	@Test
+	public void updatesMatchAFactorizationFromScratch() {
+		int size = 10;
+		double[][] B = randomBasis(size, 5);
+		LUFactorization updated = new LUFactorization(size);
+		factor(updated, B);
+		Random random = new Random(6);
+
+		// replace a basic column at a time, as the solver does with yB
+		for (int k = 0; k < 8; k++) {
+			double[] entering = randomVector(size, 10 + k);
+			double[] column = new double[size];
+			updated.ftran(column, entering);
+			int row = random.nextInt(size);
+			updated.update(row, column);
+			for (int i = 0; i < size; i++)
+				B[i][row] = entering[i];
+		}
+		BasisSolver fresh = factor(new LUFactorization(size), B);
+
+		double[] b = randomVector(size, 20);
+		double[] expected = new double[size];
+		double[] actual = new double[size];
+		fresh.ftran(expected, b);
+		updated.ftran(actual, b);
+		assertArrayEquals(expected, actual, 1e-7);
+		fresh.btran(expected, b);
+		updated.btran(actual, b);
+		assertArrayEquals(expected, actual, 1e-7);
+	}
+
+	@Test
+	public void refactorIsNeededOnceTheEtaFileIsFull() {
+		LUFactorization factor = new LUFactorization(4, 2);
+		factor(factor, randomBasis(4, 7));
+		double[] column = { 1, 0, 0, 0 };
+
+		assertFalse(factor.needsRefactor());
+		factor.update(0, column);
+		factor.update(0, column);
+		assertTrue(factor.needsRefactor());
+		factor.factor();
+		assertFalse(factor.needsRefactor());
+	}
+
+	@Test
+	public void singularBasisIsDetected() {
+		double[][] B = randomBasis(5, 8);
+		for (int i = 0; i < 5; i++)
+			B[i][3] = 2 * B[i][1];
+
+		assertTrue(factor(new LUFactorization(5), B).isSingular());
+		assertFalse(factor(new LUFactorization(5), randomBasis(5, 9)).isSingular());
+	}
+
+	/**
+	 * Gives B to the factorization, entry by entry as the solver does, and
+	 * factors it.
+	 *
+	 * @param factor
+	 * @param B
+	 * @return factor
+	 */
+	static BasisSolver factor(BasisSolver factor, double[][] B) {
+		factor.clearBasis();
+		for (int i = 0; i < B.length; i++)
+			for (int j = 0; j < B.length; j++)
+				if (B[i][j] != 0)
+					factor.setEntry(i, j, B[i][j]);
+		factor.factor();
+		return factor;
+	}
+
+	/**
+	 * @param size
+	 * @param seed
+	 * @return a sparse, diagonally dominant and so nonsingular matrix, whose
+	 *         rows are shuffled so that the factorization has to pivot
+	 */
+	static double[][] randomBasis(int size, long seed) {
+		Random random = new Random(seed);
+		double[][] B = new double[size][size];
+		for (int j = 0; j < size; j++) {
+			for (int i = 0; i < size; i++)
+				if (random.nextDouble() < 0.3)
+					B[i][j] = random.nextInt(9) - 4;
+			B[j][j] = size * 5 + random.nextInt(5);
+		}
+		for (int i = size - 1; i > 0; i--) {
+			int other = random.nextInt(i + 1);
+			double[] row = B[i];
+			B[i] = B[other];
+			B[other] = row;
+		}
+		return B;
+	}
+
+	static double[] randomVector(int size, long seed) {
+		Random random = new Random(seed);
+		double[] vector = new double[size];
+		for (int i = 0; i < size; i++)
+			vector[i] = random.nextInt(21) - 10;
+		return vector;
+	}
+
+	static double[] multiply(double[][] A, double[] x) {
+		double[] y = new double[A.length];
+		for (int i = 0; i < A.length; i++)
+			for (int j = 0; j < x.length; j++)
+				y[i] += A[i][j] * x[j];
+		return y;
+	}
+
+	static double[][] transpose(double[][] A) {
+		double[][] T = new double[A[0].length][A.length];
+		for (int i = 0; i < A.length; i++)
+			for (int j = 0; j < A[i].length; j++)
+				T[j][i] = A[i][j];
+		return T;
+	}
+}
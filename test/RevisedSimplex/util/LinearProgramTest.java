@@ -0,0 +1,86 @@
+package RevisedSimplex.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+public class LinearProgramTest {
+	private static final double TOLERANCE = 1e-7;
+
+	@Test
+	public void builtProgramDoesntChangeWithTheBuilder() {
+		LinearProgram.Builder builder = new LinearProgram.Builder(2, 1);
+		builder.addConstraint(new double[] { 1, 1 }, 4, 0).optimizationType(new double[] { 1, 2 }, false);
+		LinearProgram program = builder.build();
+
+		builder.setConstraint(0, 8, 1).setCost(0, 5).setBounds(1, -1, 1).setCoefficient(0, 0, 3);
+		assertArrayEquals(new double[] { 4 }, program.b, 0);
+		assertArrayEquals(new int[] { 0 }, program.constraintType);
+		assertArrayEquals(new double[] { 1, 2 }, program.cost, 0);
+		assertArrayEquals(new double[] { 0, 0 }, program.lowerBound, 0);
+		assertEquals(1, program.A.get(0, 0), 0);
+	}
+
+	@Test
+	public void solversShareTheMatrixAndItsRows() {
+		LinearProgram program = Programs.wideProgram(20, 40, 1);
+		RevisedSimplex first = program.newSolver();
+		RevisedSimplex second = program.newSolver();
+
+		assertEquals(RevisedSimplex.OPTIMAL, first.solve());
+		assertEquals(RevisedSimplex.OPTIMAL, second.solve());
+		assertSame(program.A, first.A);
+		assertSame(program.A, second.A);
+		assertSame(first.rowsOfA, second.rowsOfA);
+		assertEquals(first.objectiveValue, second.objectiveValue, 0);
+	}
+
+	@Test
+	public void scaledSolverLeavesTheProgramAlone() {
+		LinearProgram program = Programs.wideProgram(20, 40, 2);
+		double[] values = new double[program.A.nonZeros()];
+		for (int k = 0; k < values.length; k++)
+			values[k] = program.A.valueAt(k);
+		double[] b = program.b.clone();
+		RevisedSimplex plain = program.newSolver();
+		assertEquals(RevisedSimplex.OPTIMAL, plain.solve());
+
+		RevisedSimplex scaled = new RevisedSimplex(program.numVariables, program.numConstraints);
+		scaled.scaling = new Scaling(Scaling.EQUILIBRATION);
+		program.load(scaled);
+		assertEquals(RevisedSimplex.OPTIMAL, scaled.solve());
+		assertEquals(plain.objectiveValue, scaled.objectiveValue, TOLERANCE * Math.abs(plain.objectiveValue));
+
+		for (int k = 0; k < values.length; k++)
+			assertEquals(values[k], program.A.valueAt(k), 0);
+		assertArrayEquals(b, program.b, 0);
+	}
+
+	@Test
+	public void programsAreSolvedConcurrently() throws InterruptedException {
+		final LinearProgram program = Programs.wideProgram(30, 60, 3);
+		final double[] objectives = new double[8];
+		Thread[] threads = new Thread[objectives.length];
+		for (int t = 0; t < threads.length; t++) {
+			final int index = t;
+			threads[t] = new Thread() {
+				@Override
+				public void run() {
+					RevisedSimplex solver = program.newSolver();
+					solver.solve();
+					objectives[index] = solver.objectiveValue;
+				}
+			};
+			threads[t].start();
+		}
+		for (Thread thread : threads)
+			thread.join();
+
+		RevisedSimplex solver = program.newSolver();
+		assertEquals(RevisedSimplex.OPTIMAL, solver.solve());
+		for (double objective : objectives)
+			assertEquals(solver.objectiveValue, objective, 0);
+	}
+}
@@ -0,0 +1,115 @@
+package RevisedSimplex.util;
+
+import static RevisedSimplex.util.LUFactorizationTest.factor;
+import static RevisedSimplex.util.LUFactorizationTest.randomBasis;
+import static RevisedSimplex.util.LUFactorizationTest.randomVector;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class OffHeapLUFactorizationTest {
+	private static final double TOLERANCE = 1e-9;
+
+	@Test
+	public void solvesLikeTheHeapFactorization() {
+		int size = 15;
+		double[][] B = randomBasis(size, 11);
+		LUFactorization heap = new LUFactorization(size);
+		try (OffHeapLUFactorization offHeap = new OffHeapLUFactorization(size)) {
+			factor(heap, B);
+			factor(offHeap, B);
+			Random random = new Random(12);
+
+			for (int k = 0; k < 6; k++) {
+				double[] b = randomVector(size, 20 + k);
+				assertSameSolves(heap, offHeap, b);
+
+				double[] column = new double[size];
+				heap.ftran(column, randomVector(size, 30 + k));
+				int row = random.nextInt(size);
+				heap.update(row, column);
+				offHeap.update(row, column);
+			}
+		}
+	}
+
+	@Test
+	public void closedFactorizationIsFactoredAgain() {
+		double[][] B = randomBasis(8, 13);
+		LUFactorization heap = new LUFactorization(8);
+		OffHeapLUFactorization offHeap = new OffHeapLUFactorization(8);
+		factor(heap, B);
+		factor(offHeap, B);
+
+		offHeap.close();
+		offHeap.close();
+		factor(offHeap, B);
+		assertSameSolves(heap, offHeap, randomVector(8, 14));
+		offHeap.close();
+	}
+
+	@Test
+	public void singularBasisIsDetected() {
+		double[][] B = randomBasis(6, 15);
+		for (int i = 0; i < 6; i++)
+			B[i][2] = -B[i][4];
+
+		try (OffHeapLUFactorization offHeap = new OffHeapLUFactorization(6)) {
+			assertTrue(factor(offHeap, B).isSingular());
+		}
+	}
+
+	@Test
+	public void closedFactorizationRefusesToSolve() {
+		OffHeapLUFactorization offHeap = new OffHeapLUFactorization(5);
+		factor(offHeap, randomBasis(5, 16));
+		offHeap.close();
+
+		assertTrue(offHeap.needsRefactor());
+		try {
+			offHeap.ftran(new double[5], randomVector(5, 17));
+			fail("a closed factorization was solved with");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void solverRefactorsAClosedFactorization() {
+		Programs.Program program = Programs.mediumProgram(3);
+		RevisedSimplex solver = new RevisedSimplex(program.n, program.m);
+		try (OffHeapLUFactorization offHeap = new OffHeapLUFactorization(program.m)) {
+			solver.basisFactor = offHeap;
+			program.load(solver);
+			assertEquals(RevisedSimplex.OPTIMAL, solver.solve());
+
+			// the re-optimization starts from the basis of the closed factors
+			offHeap.close();
+			program.b[0] += 5;
+			solver.setRightHandSide(0, program.b[0]);
+			assertEquals(RevisedSimplex.OPTIMAL, solver.dualSolve());
+
+			RevisedSimplex cold = program.solver();
+			assertEquals(RevisedSimplex.OPTIMAL, cold.solve());
+			assertEquals(cold.objectiveValue, solver.objectiveValue, 1e-7 * (1 + Math.abs(cold.objectiveValue)));
+		}
+	}
+
+	private static void assertSameSolves(BasisSolver expected, BasisSolver actual, double[] b) {
+		int size = b.length;
+		double[] x = new double[size];
+		double[] y = new double[size];
+
+		expected.ftran(x, b);
+		actual.ftran(y, b);
+		assertArrayEquals(x, y, TOLERANCE);
+		expected.btran(x, b);
+		actual.btran(y, b);
+		assertArrayEquals(x, y, TOLERANCE);
+	}
+}
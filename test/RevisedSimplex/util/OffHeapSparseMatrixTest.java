@@ -0,0 +1,123 @@
+package RevisedSimplex.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class OffHeapSparseMatrixTest {
+	private static final double TOLERANCE = 1e-9;
+
+	@Test
+	public void copyReadsLikeTheOriginal() {
+		SparseMatrix matrix = randomMatrix(7, 9, 1);
+		OffHeapSparseMatrix copy = OffHeapSparseMatrix.copyOf(matrix);
+		double[] v = randomVector(7, 2);
+
+		assertEquals(matrix.nonZeros(), copy.nonZeros());
+		for (int j = 0; j < 9; j++) {
+			for (int i = 0; i < 7; i++)
+				assertEquals(matrix.get(i, j), copy.get(i, j), 0);
+			assertEquals(matrix.dotColumn(j, v), copy.dotColumn(j, v), TOLERANCE);
+
+			double[] expected = new double[7];
+			double[] actual = new double[7];
+			matrix.scatterColumn(j, expected);
+			copy.scatterColumn(j, actual);
+			assertArrayEquals(expected, actual, 0);
+			matrix.addColumn(j, 2.5, expected);
+			copy.addColumn(j, 2.5, actual);
+			assertArrayEquals(expected, actual, TOLERANCE);
+		}
+	}
+
+	@Test
+	public void transposeAndScaleMatchTheHeapMatrix() {
+		SparseMatrix matrix = randomMatrix(6, 10, 3);
+		OffHeapSparseMatrix copy = OffHeapSparseMatrix.copyOf(matrix);
+		double[] rowScale = randomVector(6, 4);
+		double[] colScale = randomVector(10, 5);
+
+		assertSameEntries(matrix.transpose(), copy.transpose());
+		assertSameEntries(matrix.scale(rowScale, colScale, false), copy.scale(rowScale, colScale, false));
+		// the copy is left as it was
+		assertSameEntries(matrix, copy);
+
+		double[] v = randomVector(6, 6);
+		double[] expected = new double[10];
+		double[] actual = new double[10];
+		matrix.transpose().multiplyAdd(v, expected);
+		copy.transpose().multiplyAdd(v, actual);
+		assertArrayEquals(expected, actual, TOLERANCE);
+	}
+
+	@Test
+	public void solverOnOffHeapStorageGivesTheSameSolution() {
+		for (long seed = 0; seed < 200; seed++) {
+			LinearProgram program = linearProgram(Programs.randomProgram(seed));
+			LinearProgram offHeapProgram = new LinearProgram(OffHeapSparseMatrix.copyOf(program.A), program.b, program.constraintType,
+					program.cost, program.isMinimize, program.lowerBound, program.upperBound);
+
+			for (boolean isScaled : new boolean[] { false, true }) {
+				RevisedSimplex heap = new RevisedSimplex(program.numVariables, program.numConstraints);
+				RevisedSimplex offHeap = new RevisedSimplex(program.numVariables, program.numConstraints);
+				try (OffHeapLUFactorization factor = new OffHeapLUFactorization(program.numConstraints)) {
+					offHeap.basisFactor = factor;
+					if (isScaled) {
+						heap.scaling = new Scaling(Scaling.GEOMETRIC_MEAN);
+						offHeap.scaling = new Scaling(Scaling.GEOMETRIC_MEAN);
+					}
+					program.load(heap);
+					offHeapProgram.load(offHeap);
+
+					int status = heap.solve();
+					assertEquals(status, offHeap.solve());
+					if (status == RevisedSimplex.OPTIMAL) {
+						assertEquals(heap.objectiveValue, offHeap.objectiveValue, 1e-7 * (1 + Math.abs(heap.objectiveValue)));
+						assertArrayEquals(heap.primalSolution(), offHeap.primalSolution(), 1e-7);
+					}
+				}
+			}
+		}
+	}
+
+	private static LinearProgram linearProgram(Programs.Program program) {
+		LinearProgram.Builder builder = new LinearProgram.Builder(program.n, program.m);
+		for (int i = 0; i < program.m; i++)
+			builder.addConstraint(program.A[i], program.b[i], program.type[i]);
+		for (int j = 0; j < program.n; j++)
+			builder.setBounds(j, program.lower[j], program.upper[j]);
+		return builder.optimizationType(program.cost, program.isMinimize).build();
+	}
+
+	private static void assertSameEntries(SparseMatrix expected, SparseMatrix actual) {
+		assertEquals(expected.numRows, actual.numRows);
+		assertEquals(expected.numCols, actual.numCols);
+		for (int j = 0; j <= expected.numCols; j++)
+			assertEquals(expected.columnStart(j), actual.columnStart(j));
+		for (int k = 0; k < expected.nonZeros(); k++) {
+			assertEquals(expected.rowAt(k), actual.rowAt(k));
+			assertEquals(expected.valueAt(k), actual.valueAt(k), TOLERANCE);
+		}
+	}
+
+	private static SparseMatrix randomMatrix(int numRows, int numCols, long seed) {
+		Random random = new Random(seed);
+		SparseMatrix.Builder entries = new SparseMatrix.Builder();
+		for (int j = 0; j < numCols; j++)
+			for (int i = 0; i < numRows; i++)
+				if (random.nextDouble() < 0.4)
+					entries.add(i, j, random.nextInt(19) - 9);
+		return entries.build(numRows, numCols);
+	}
+
+	private static double[] randomVector(int size, long seed) {
+		Random random = new Random(seed);
+		double[] vector = new double[size];
+		for (int i = 0; i < size; i++)
+			vector[i] = 0.5 + random.nextDouble();
+		return vector;
+	}
+}
@@ -0,0 +1,41 @@
+package RevisedSimplex.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class ParallelPricingTest {
+	private static final double TOLERANCE = 1e-7;
+
+	@Test
+	public void parallelPricingFollowsTheSequentialPath() {
+		// enough columns to be split among several workers
+		LinearProgram program = Programs.wideProgram(60, 3 * ParallelPricing.MINIMUM_RANGE, 1);
+		RevisedSimplex sequential = program.newSolver();
+		sequential.parallelPricingThreshold = Integer.MAX_VALUE;
+		RevisedSimplex parallel = program.newSolver();
+		parallel.parallelPricingThreshold = 0;
+
+		assertEquals(RevisedSimplex.OPTIMAL, sequential.solve());
+		assertEquals(RevisedSimplex.OPTIMAL, parallel.solve());
+		assertEquals(sequential.statistics.iterations, parallel.statistics.iterations);
+		assertEquals(sequential.objectiveValue, parallel.objectiveValue, TOLERANCE * Math.abs(sequential.objectiveValue));
+		assertArrayEquals(sequential.primalSolution(), parallel.primalSolution(), TOLERANCE);
+	}
+
+	@Test
+	public void parallelPricingOfSmallProgramsIsExact() {
+		for (long seed = 0; seed < 100; seed++) {
+			Programs.Program program = Programs.randomProgram(seed);
+			RevisedSimplex sequential = program.solver();
+			RevisedSimplex parallel = program.solver();
+			parallel.parallelPricingThreshold = 0;
+
+			int status = sequential.solve();
+			assertEquals("seed " + seed, status, parallel.solve());
+			if (status == RevisedSimplex.OPTIMAL)
+				assertEquals("seed " + seed, sequential.objectiveValue, parallel.objectiveValue, TOLERANCE * (1 + Math.abs(sequential.objectiveValue)));
+		}
+	}
+}
@@ -0,0 +1,106 @@
+package RevisedSimplex.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class PresolveTest {
+	private static final double TOLERANCE = 1e-7;
+
+	@Test
+	public void columnFixedAtItsOriginalUpperBoundIsExportedAtUpper() {
+		// x0 in [-2, -1] and -3 x0 <= 3, so presolve fixes x0 at -1
+		Programs.Program program = new Programs.Program(2, 2);
+		program.lower[0] = -2;
+		program.upper[0] = -1;
+		program.A[0] = new double[] { -3, 0 };
+		program.b[0] = 3;
+		program.A[1] = new double[] { 1, 1 };
+		program.b[1] = 4;
+		program.cost = new double[] { -1, -1 };
+
+		Presolve presolve = assertPostsolvedBasisIsOptimal(program);
+		assertEquals(-1, presolve.solution[0], TOLERANCE);
+		assertEquals(BasisSnapshot.AT_UPPER, presolve.basis.columnStatus[0]);
+	}
+
+	@Test
+	public void columnFixedInsideItsBoundsWithZeroReducedCostIsBasic() {
+		// x0 in [0, 5] is fixed at 2 by two singleton rows and its only other
+		// row isn't active, so its reduced cost is zero
+		Programs.Program program = new Programs.Program(2, 3);
+		program.upper[0] = 5;
+		program.A[0] = new double[] { 1, 0 };
+		program.b[0] = 2;
+		program.type[0] = 1;
+		program.A[1] = new double[] { 1, 0 };
+		program.b[1] = 2;
+		program.A[2] = new double[] { 1, 1 };
+		program.b[2] = 20;
+		program.upper[1] = 10;
+		program.cost = new double[] { 0, -1 };
+
+		Presolve presolve = assertPostsolvedBasisIsOptimal(program);
+		assertEquals(2, presolve.solution[0], TOLERANCE);
+		assertEquals(BasisSnapshot.BASIC, presolve.basis.columnStatus[0]);
+	}
+
+	@Test
+	public void postsolvedBasesOfRandomProgramsAreOptimal() {
+		int solved = 0;
+		for (long seed = 0; seed < 1000; seed++) {
+			Programs.Program program = Programs.randomProgram(seed);
+			Presolve presolve = presolve(program);
+			if (presolve.presolve() != 0)
+				continue;
+			RevisedSimplex reduced = presolve.reducedProblem();
+			if (reduced.solve() != RevisedSimplex.OPTIMAL)
+				continue;
+			assertPostsolvedBasisIsOptimal(program);
+			solved++;
+		}
+		assertTrue(solved > 100);
+	}
+
+	/**
+	 * Presolves and solves the program, checks the objective against a solve
+	 * without presolve, and checks that the postsolved basis is taken by the
+	 * solver of the original program and is optimal there.
+	 *
+	 * @param program
+	 * @return the presolve, after postsolve()
+	 */
+	static Presolve assertPostsolvedBasisIsOptimal(Programs.Program program) {
+		Presolve presolve = presolve(program);
+		assertEquals(0, presolve.presolve());
+		RevisedSimplex reduced = presolve.reducedProblem();
+		assertEquals(RevisedSimplex.OPTIMAL, reduced.solve());
+		presolve.postsolve(reduced);
+
+		RevisedSimplex plain = program.solver();
+		assertEquals(RevisedSimplex.OPTIMAL, plain.solve());
+		assertEquals(plain.objectiveValue, presolve.objectiveValue, TOLERANCE * (1 + Math.abs(plain.objectiveValue)));
+
+		RevisedSimplex warm = program.solver();
+		assertEquals(program.m, presolve.basis.numBasic());
+		assertTrue("the postsolved basis isn't used", warm.importBasis(presolve.basis));
+		assertEquals(RevisedSimplex.OPTIMAL, warm.solve());
+		assertEquals(presolve.objectiveValue, warm.objectiveValue, TOLERANCE * (1 + Math.abs(plain.objectiveValue)));
+		return presolve;
+	}
+
+	/**
+	 * @param program
+	 * @return presolve with the program given the same way as to a solver
+	 */
+	static Presolve presolve(Programs.Program program) {
+		Presolve presolve = new Presolve(program.n, program.m);
+		for (int j = 0; j < program.n; j++)
+			presolve.setBounds(j, program.lower[j], program.upper[j]);
+		for (int i = 0; i < program.m; i++)
+			presolve.addConstraint(program.A[i], program.b[i], program.type[i]);
+		presolve.optimizationType(program.cost, program.isMinimize);
+		return presolve;
+	}
+}
@@ -0,0 +1,169 @@
+package RevisedSimplex.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+public class PricingTest {
+	private static final double TOLERANCE = 1e-7;
+
+	@Test
+	public void partialPricingFindsTheSameOptima() {
+		assertSameOptima(() -> new PartialPricing(3));
+	}
+
+	@Test
+	public void multiplePricingFindsTheSameOptima() {
+		assertSameOptima(() -> new MultiplePricing(4));
+	}
+
+	@Test
+	public void devexPricingFindsTheSameOptima() {
+		assertSameOptima(() -> new DevexPricing());
+	}
+
+	@Test
+	public void steepestEdgePricingFindsTheSameOptima() {
+		assertSameOptima(() -> new SteepestEdgePricing());
+	}
+
+	@Test
+	public void statisticsNameTheRuleAndCountTheIterations() {
+		Programs.Program program = Programs.mediumProgram(1);
+		RevisedSimplex solver = new RevisedSimplex(program.n, program.m);
+		solver.pricing = new SteepestEdgePricing();
+		program.load(solver);
+		assertEquals(RevisedSimplex.OPTIMAL, solver.solve());
+
+		SolverStatistics statistics = solver.statistics;
+		assertEquals("SteepestEdgePricing", statistics.pricingRule);
+		assertEquals(solver.numIterations, statistics.iterations);
+		assertTrue(statistics.phaseOneIterations > 0 && statistics.phaseOneIterations < statistics.iterations);
+		assertTrue(statistics.factorizations > 0);
+		assertTrue(statistics.solveTime >= statistics.phaseOneTime);
+	}
+
+	@Test
+	public void incrementalReducedCostsFindTheSameOptima() {
+		int solved = 0;
+		for (long seed = 0; seed < 300; seed++) {
+			Programs.Program program = (seed % 3 == 0) ? Programs.mediumProgram(seed) : Programs.randomProgram(seed);
+			RevisedSimplex computed = program.solver();
+			computed.incrementalReducedCosts = false;
+			int status = computed.solve();
+
+			RevisedSimplex updated = program.solver();
+			RevisedSimplex recomputed = program.solver();
+			recomputed.reducedCostRecomputeInterval = 1;
+			for (RevisedSimplex solver : new RevisedSimplex[] { updated, recomputed }) {
+				assertEquals("seed " + seed, status, solver.solve());
+				if (status == RevisedSimplex.OPTIMAL)
+					assertEquals("seed " + seed, computed.objectiveValue, solver.objectiveValue, TOLERANCE * (1 + Math.abs(computed.objectiveValue)));
+			}
+			if (status == RevisedSimplex.OPTIMAL)
+				solved++;
+		}
+		assertTrue(solved > 100);
+	}
+
+	@Test
+	public void stepsFindTheSameOptima() {
+		for (long seed = 0; seed < 100; seed++) {
+			Programs.Program program = Programs.mediumProgram(seed);
+			RevisedSimplex computed = program.solver();
+			computed.incrementalReducedCosts = false;
+			assertEquals("seed " + seed, RevisedSimplex.OPTIMAL, computed.solve());
+
+			RevisedSimplex stepped = program.solver();
+			assertEquals("seed " + seed, RevisedSimplex.OPTIMAL, Programs.step(stepped));
+			assertEquals("seed " + seed, computed.objectiveValue, stepped.objectiveValue, TOLERANCE * (1 + Math.abs(computed.objectiveValue)));
+		}
+	}
+
+	@Test
+	public void rowwisePricingFindsTheSameOptima() {
+		int solved = 0;
+		for (long seed = 0; seed < 300; seed++) {
+			Programs.Program program = (seed % 3 == 0) ? Programs.mediumProgram(seed) : Programs.randomProgram(seed);
+			RevisedSimplex rowwise = program.solver();
+			int status = rowwise.solve();
+
+			RevisedSimplex columnwise = program.solver();
+			columnwise.useRowwisePricing = false;
+			assertEquals("seed " + seed, status, columnwise.solve());
+			if (status == RevisedSimplex.OPTIMAL) {
+				assertEquals("seed " + seed, columnwise.objectiveValue, rowwise.objectiveValue, TOLERANCE * (1 + Math.abs(columnwise.objectiveValue)));
+				solved++;
+			}
+		}
+		assertTrue(solved > 100);
+	}
+
+	@Test
+	public void rowwiseProductMatchesTheColumns() {
+		for (long seed = 0; seed < 50; seed++) {
+			Programs.Program program = Programs.randomProgram(seed);
+			RevisedSimplex solver = program.solver();
+			Random random = new Random(seed);
+			double[] v = new double[program.m];
+			for (int i = 0; i < v.length; i++)
+				v[i] = random.nextInt(11) - 5;
+
+			double[] product = solver.multiplyRowwise(v);
+			for (int j = 0; j < program.n; j++)
+				assertEquals("seed " + seed + ", column " + j, solver.dotColumn(j, v), product[j], TOLERANCE);
+		}
+	}
+
+	@Test
+	public void rowwiseReducedCostsOfLogicalsMatchTheColumns() {
+		Programs.Program program = Programs.mediumProgram(2);
+		RevisedSimplex solver = program.solver();
+		assertEquals(RevisedSimplex.OPTIMAL, solver.solve());
+		solver.incrementalReducedCosts = false;
+		solver.reducedCostsCurrent = false;
+		solver.calculateReducedCosts();
+		double[] rowwise = solver.reducedCost.clone();
+
+		solver.useRowwisePricing = false;
+		solver.calculateReducedCosts();
+		int logicals = 0;
+		for (int i = 0; i < solver.numNonbasic; i++) {
+			assertEquals("nonbasic " + i, solver.reducedCost[i], rowwise[i], TOLERANCE);
+			if (solver.NonBasicVariables[i] >= solver.numStructurals)
+				logicals++;
+		}
+		assertTrue(logicals > 0);
+	}
+
+	/**
+	 * Solves random programs with the pricing rule and with Dantzig's, and
+	 * checks that both get the same status and objective.
+	 *
+	 * @param rule
+	 *            creates a new instance of the pricing rule for each solve
+	 */
+	static void assertSameOptima(Supplier<PricingStrategy> rule) {
+		int solved = 0;
+		for (long seed = 0; seed < 300; seed++) {
+			Programs.Program program = (seed % 3 == 0) ? Programs.mediumProgram(seed) : Programs.randomProgram(seed);
+			RevisedSimplex dantzig = program.solver();
+			int status = dantzig.solve();
+
+			RevisedSimplex solver = new RevisedSimplex(program.n, program.m);
+			solver.pricing = rule.get();
+			program.load(solver);
+
+			assertEquals("seed " + seed, status, solver.solve());
+			if (status == RevisedSimplex.OPTIMAL) {
+				assertEquals("seed " + seed, dantzig.objectiveValue, solver.objectiveValue, TOLERANCE * (1 + Math.abs(dantzig.objectiveValue)));
+				solved++;
+			}
+		}
+		assertTrue(solved > 100);
+	}
+}
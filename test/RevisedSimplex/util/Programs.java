@@ -0,0 +1,231 @@
+package RevisedSimplex.util;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+/**
+ * Linear programs and helpers shared by the tests of the solver.
+ *
+ */
+final class Programs {
+	private static final double TOLERANCE = 1e-9;
+
+	/**
+	 * A program with a dense constraint matrix: min or max cx subject to the
+	 * rows of Ax and b, of the types of addConstraint(), and to the bounds of
+	 * the variables.
+	 *
+	 */
+	static class Program {
+		int n;
+		int m;
+		double[][] A;
+		double[] b;
+		int[] type;
+		double[] cost;
+		boolean isMinimize;
+		double[] lower;
+		double[] upper;
+
+		Program(int n, int m) {
+			this.n = n;
+			this.m = m;
+			A = new double[m][n];
+			b = new double[m];
+			type = new int[m];
+			cost = new double[n];
+			isMinimize = true;
+			lower = new double[n];
+			upper = new double[n];
+			for (int j = 0; j < n; j++)
+				upper[j] = Double.POSITIVE_INFINITY;
+		}
+
+		/**
+		 * @return a new solver with the program loaded
+		 */
+		RevisedSimplex solver() {
+			return this.load(new RevisedSimplex(n, m));
+		}
+
+		/**
+		 * Loads the program into a solver, which may be set up beforehand.
+		 *
+		 * @param solver
+		 *            a new solver for n variables and m constraints
+		 * @return solver
+		 */
+		RevisedSimplex load(RevisedSimplex solver) {
+			for (int j = 0; j < n; j++)
+				solver.setBounds(j, lower[j], upper[j]);
+			for (int i = 0; i < m; i++)
+				solver.addConstraint(A[i], b[i], type[i]);
+			solver.optimizationType(cost, isMinimize);
+			solver.initialize(n, m);
+			return solver;
+		}
+	}
+
+	private Programs() {
+	}
+
+	/**
+	 * @param seed
+	 * @return a small degenerate program with singleton rows, negative bounds
+	 *         and fixed variables
+	 */
+	static Program randomProgram(long seed) {
+		Random random = new Random(seed);
+		Program program = new Program(2 + random.nextInt(8), 2 + random.nextInt(8));
+
+		for (int i = 0; i < program.m; i++) {
+			if (random.nextInt(3) == 0)
+				program.A[i][random.nextInt(program.n)] = random.nextInt(7) - 3;
+			else
+				for (int j = 0; j < program.n; j++)
+					program.A[i][j] = (random.nextDouble() < 0.5) ? random.nextInt(7) - 2 : 0;
+			program.type[i] = (random.nextInt(3) == 0) ? 1 : (random.nextInt(6) == 0) ? 2 : 0;
+			program.b[i] = (random.nextInt(3) == 0) ? 0 : random.nextInt(9) - 2;
+		}
+		for (int j = 0; j < program.n; j++) {
+			program.cost[j] = random.nextInt(7) - 3;
+			program.lower[j] = -random.nextInt(4);
+			program.upper[j] = (random.nextInt(3) == 0) ? Double.POSITIVE_INFINITY : program.lower[j] + random.nextInt(3);
+		}
+		program.isMinimize = random.nextBoolean();
+		return program;
+	}
+
+	/**
+	 * @param seed
+	 * @return a feasible program of 20 to 40 constraints on twice as many
+	 *         bounded variables, with a few rows that need the first phase
+	 */
+	static Program mediumProgram(long seed) {
+		Random random = new Random(seed);
+		int m = 20 + random.nextInt(21);
+		Program program = new Program(2 * m, m);
+
+		for (int i = 0; i < m; i++) {
+			for (int j = 0; j < program.n; j++)
+				if (random.nextDouble() < 0.3)
+					program.A[i][j] = 1 + random.nextInt(9);
+			program.type[i] = (random.nextInt(5) == 0) ? 1 : 0;
+			program.b[i] = (program.type[i] == 1) ? 1 + random.nextInt(5) : 20 + random.nextInt(80);
+		}
+		for (int j = 0; j < program.n; j++) {
+			program.cost[j] = random.nextInt(11) - 2;
+			program.upper[j] = 10;
+		}
+		program.isMinimize = false;
+		return program;
+	}
+
+	/**
+	 * @param m
+	 * @param n
+	 * @param seed
+	 * @return max cx subject to Ax <= b with a sparse nonnegative A and
+	 *         bounded variables
+	 */
+	static LinearProgram wideProgram(int m, int n, long seed) {
+		Random random = new Random(seed);
+		LinearProgram.Builder builder = new LinearProgram.Builder(n, m);
+		for (int i = 0; i < m; i++)
+			builder.setConstraint(i, 100 + random.nextInt(900), 0);
+		for (int j = 0; j < n; j++) {
+			for (int k = 0; k < 3; k++)
+				builder.setCoefficient(random.nextInt(m), j, 1 + random.nextInt(9));
+			builder.setCost(j, random.nextInt(20));
+			builder.setBounds(j, 0, 5);
+		}
+		builder.minimize(false);
+		return builder.build();
+	}
+
+	/**
+	 * Checks that the solution is within the bounds and the constraints of the
+	 * program.
+	 *
+	 * @param message
+	 * @param program
+	 * @param solution
+	 */
+	static void assertFeasible(String message, Program program, double[] solution) {
+		double tolerance = 1e-7;
+		for (int j = 0; j < program.n; j++)
+			assertTrue(message + ": x" + j, solution[j] >= program.lower[j] - tolerance && solution[j] <= program.upper[j] + tolerance);
+		for (int i = 0; i < program.m; i++) {
+			double activity = 0;
+			for (int j = 0; j < program.n; j++)
+				activity += program.A[i][j] * solution[j];
+			if (program.type[i] != 1)
+				assertTrue(message + ": row " + i, activity <= program.b[i] + tolerance);
+			if (program.type[i] != 0)
+				assertTrue(message + ": row " + i, activity >= program.b[i] - tolerance);
+		}
+	}
+
+	/**
+	 * Solves the program loaded into the solver the way the GUI steps through
+	 * it: the first phase, the elimination of the artificial variables and the
+	 * second phase.
+	 *
+	 * @param solver
+	 * @return 1 if optimal, 2 if infeasible, 3 if unbounded
+	 */
+	static int solve(RevisedSimplex solver) {
+		for (int k = 0; k < 100000; k++) {
+			int status = solver.iterate();
+			if (status == 0)
+				continue;
+
+			if (status == 1 && solver.ArtificialAdded) {
+				if (solver.calculateObjective() > TOLERANCE)
+					return 2;
+				solver.eliminateArtificials();
+				continue;
+			}
+			return status;
+		}
+		throw new AssertionError("no convergence");
+	}
+
+	/**
+	 * Solves the program loaded into the solver step by step, the way the GUI
+	 * goes through an iteration when it shows each step.
+	 *
+	 * @param solver
+	 * @return 1 if optimal, 2 if infeasible, 3 if unbounded
+	 */
+	static int step(RevisedSimplex solver) {
+		for (int k = 0; k < 1000000; k++) {
+			int status = solver.iterateOneStep();
+			if (status == 0)
+				continue;
+
+			if (status == 1 && solver.ArtificialAdded) {
+				if (solver.calculateObjective() > TOLERANCE)
+					return 2;
+				solver.eliminateArtificials();
+				continue;
+			}
+			return status;
+		}
+		throw new AssertionError("no convergence");
+	}
+
+	/**
+	 * @param solver
+	 * @return values of the structural variables in the current basic
+	 *         solution
+	 */
+	static double[] solution(RevisedSimplex solver) {
+		double[] x = new double[solver.numStructurals];
+		for (int i = 0; i < solver.numConstraints; i++)
+			if (solver.BasicVariables[i] < x.length)
+				x[solver.BasicVariables[i]] = solver.x[i];
+		return x;
+	}
+}
@@ -0,0 +1,119 @@
+package RevisedSimplex.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ScalingTest {
+	private static final double TOLERANCE = 1e-7;
+
+	/*
+	 * Rows and columns whose entries are orders of magnitude apart.
+	 */
+	private static final double[][] BADLY_SCALED = { { 1e4, 2e4, 0 }, { 3e-3, 0, 1e-2 }, { 0, 5e2, 7 } };
+
+	@Test
+	public void factorsArePowersOfTwo() {
+		for (int method : new int[] { Scaling.GEOMETRIC_MEAN, Scaling.EQUILIBRATION }) {
+			Scaling scaling = new Scaling(method);
+			scaling.compute(matrix(BADLY_SCALED));
+
+			for (double factor : scaling.rowScale)
+				assertEquals(factor, Math.pow(2, Math.getExponent(factor)), 0);
+			for (double factor : scaling.colScale)
+				assertEquals(factor, Math.pow(2, Math.getExponent(factor)), 0);
+		}
+	}
+
+	@Test
+	public void equilibrationBringsTheLargestEntriesNearOne() {
+		Scaling scaling = new Scaling(Scaling.EQUILIBRATION);
+		scaling.compute(matrix(BADLY_SCALED));
+
+		// up to the rounding of both factors to powers of 2
+		for (int j = 0; j < 3; j++) {
+			double max = 0;
+			for (int i = 0; i < 3; i++)
+				max = Math.max(max, Math.abs(BADLY_SCALED[i][j]) * scaling.rowScale[i] * scaling.colScale[j]);
+			assertTrue("column " + j + ": " + max, max >= 0.5 && max <= 2);
+		}
+	}
+
+	@Test
+	public void geometricMeanReducesTheSpread() {
+		Scaling scaling = new Scaling(Scaling.GEOMETRIC_MEAN);
+		scaling.compute(matrix(BADLY_SCALED));
+
+		double max = 0;
+		double min = Double.POSITIVE_INFINITY;
+		for (int i = 0; i < 3; i++)
+			for (int j = 0; j < 3; j++)
+				if (BADLY_SCALED[i][j] != 0) {
+					double value = Math.abs(BADLY_SCALED[i][j]) * scaling.rowScale[i] * scaling.colScale[j];
+					max = Math.max(max, value);
+					min = Math.min(min, value);
+				}
+		// 2e4 / 3e-3 before
+		assertTrue("spread " + max / min, max / min < 1e3);
+	}
+
+	@Test
+	public void scaledProgramHasTheSameSolutionAndDuals() {
+		// max x + y + z with the rows of BADLY_SCALED, whose optimum is unique
+		Programs.Program program = new Programs.Program(3, 3);
+		program.A = BADLY_SCALED;
+		program.b = new double[] { 5e4, 1, 3e3 };
+		program.cost = new double[] { 1, 1, 1 };
+		program.isMinimize = false;
+		program.upper[0] = 200;
+
+		RevisedSimplex plain = program.solver();
+		assertEquals(RevisedSimplex.OPTIMAL, plain.solve());
+		for (int method : new int[] { Scaling.GEOMETRIC_MEAN, Scaling.EQUILIBRATION }) {
+			RevisedSimplex scaled = scaledSolver(program, method);
+			assertEquals(RevisedSimplex.OPTIMAL, scaled.solve());
+			assertEquals(plain.objectiveValue, scaled.objectiveValue, TOLERANCE * Math.abs(plain.objectiveValue));
+			assertArrayEquals(plain.primalSolution(), scaled.primalSolution(), 1e-6);
+			assertArrayEquals(plain.dualSolution(), scaled.dualSolution(), 1e-9);
+		}
+	}
+
+	@Test
+	public void scaledRandomProgramsHaveTheSameStatusAndObjective() {
+		for (long seed = 0; seed < 500; seed++) {
+			Programs.Program program = Programs.randomProgram(seed);
+			RevisedSimplex plain = program.solver();
+			int status = plain.solve();
+
+			for (int method : new int[] { Scaling.GEOMETRIC_MEAN, Scaling.EQUILIBRATION }) {
+				RevisedSimplex scaled = scaledSolver(program, method);
+				assertEquals("seed " + seed, status, scaled.solve());
+				if (status == RevisedSimplex.OPTIMAL)
+					assertEquals("seed " + seed, plain.objectiveValue, scaled.objectiveValue, TOLERANCE * (1 + Math.abs(plain.objectiveValue)));
+			}
+		}
+	}
+
+	private static RevisedSimplex scaledSolver(Programs.Program program, int method) {
+		RevisedSimplex solver = new RevisedSimplex(program.n, program.m);
+		solver.scaling = new Scaling(method);
+		for (int j = 0; j < program.n; j++)
+			solver.setBounds(j, program.lower[j], program.upper[j]);
+		for (int i = 0; i < program.m; i++)
+			solver.addConstraint(program.A[i], program.b[i], program.type[i]);
+		solver.optimizationType(program.cost, program.isMinimize);
+		solver.initialize(program.n, program.m);
+		return solver;
+	}
+
+	private static SparseMatrix matrix(double[][] dense) {
+		SparseMatrix.Builder builder = new SparseMatrix.Builder();
+		for (int i = 0; i < dense.length; i++)
+			for (int j = 0; j < dense[i].length; j++)
+				if (dense[i][j] != 0)
+					builder.add(i, j, dense[i][j]);
+		return builder.build(dense.length, dense[0].length);
+	}
+}
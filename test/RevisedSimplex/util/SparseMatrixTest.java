@@ -0,0 +1,137 @@
+package RevisedSimplex.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class SparseMatrixTest {
+	@Test
+	public void builderAddsUpDuplicates() {
+		for (long seed = 0; seed < 50; seed++) {
+			Random random = new Random(seed);
+			int numRows = 1 + random.nextInt(8);
+			int numCols = 1 + random.nextInt(8);
+			double[][] dense = new double[numRows][numCols];
+			SparseMatrix.Builder builder = new SparseMatrix.Builder();
+
+			// few distinct positions, so most of them are given more than once
+			for (int k = 0; k < 3 * numRows * numCols; k++) {
+				int row = random.nextInt(numRows);
+				int col = random.nextInt(numCols);
+				double value = random.nextInt(7) - 3;
+				dense[row][col] += value;
+				builder.add(row, col, value);
+			}
+			assertMatches("seed " + seed, dense, builder.build(numRows, numCols));
+		}
+	}
+
+	@Test
+	public void builderDropsZeros() {
+		SparseMatrix.Builder builder = new SparseMatrix.Builder();
+		builder.add(0, 0, 0);
+		builder.add(1, 0, 2);
+		builder.add(1, 0, -2);
+		builder.add(2, 1, 1);
+		builder.add(0, 1, 5);
+		builder.add(0, 1, -5);
+		SparseMatrix matrix = builder.build(3, 2);
+
+		assertEquals(5, builder.size());
+		assertEquals(1, matrix.nonZeros());
+		assertMatches("", new double[][] { { 0, 0 }, { 0, 0 }, { 0, 1 } }, matrix);
+	}
+
+	@Test
+	public void entriesOutsideOfTheMatrixAreIgnored() {
+		SparseMatrix.Builder builder = new SparseMatrix.Builder();
+		builder.add(0, 0, 1);
+		builder.add(2, 0, 3);
+		builder.add(0, 2, 4);
+		builder.add(1, 1, 2);
+
+		assertMatches("", new double[][] { { 1, 0 }, { 0, 2 } }, builder.build(2, 2));
+	}
+
+	@Test
+	public void transposeMatchesTheDenseTranspose() {
+		for (long seed = 0; seed < 50; seed++) {
+			double[][] dense = randomMatrix(seed);
+			SparseMatrix matrix = build(dense);
+			double[][] transposed = new double[dense[0].length][dense.length];
+			for (int i = 0; i < dense.length; i++)
+				for (int j = 0; j < dense[i].length; j++)
+					transposed[j][i] = dense[i][j];
+
+			assertMatches("seed " + seed, transposed, matrix.transpose());
+			assertMatches("seed " + seed, dense, matrix.transpose().transpose());
+		}
+	}
+
+	@Test
+	public void columnsMatchTheDenseColumns() {
+		double[][] dense = randomMatrix(7);
+		SparseMatrix matrix = build(dense);
+		double[] v = new double[dense.length];
+		for (int i = 0; i < v.length; i++)
+			v[i] = i - 2;
+
+		double[] column = new double[dense.length];
+		for (int j = 0; j < dense[0].length; j++) {
+			double dot = 0;
+			for (int i = 0; i < dense.length; i++) {
+				dot += dense[i][j] * v[i];
+				column[i] = dense[i][j];
+			}
+			assertEquals("column " + j, dot, matrix.dotColumn(j, v), 0);
+
+			double[] scattered = new double[dense.length];
+			Arrays.fill(scattered, 9);
+			matrix.scatterColumn(j, scattered);
+			assertArrayEquals("column " + j, column, scattered, 0);
+		}
+	}
+
+	/**
+	 * Checks every entry of the matrix against the dense reference, and that
+	 * only the nonzeros of the reference are stored.
+	 *
+	 * @param message
+	 * @param expected
+	 * @param matrix
+	 */
+	static void assertMatches(String message, double[][] expected, SparseMatrix matrix) {
+		assertEquals(message, expected.length, matrix.numRows);
+		assertEquals(message, expected[0].length, matrix.numCols);
+		int nonZeros = 0;
+		for (int i = 0; i < expected.length; i++)
+			for (int j = 0; j < expected[i].length; j++) {
+				assertEquals(message + ": (" + i + ", " + j + ")", expected[i][j], matrix.get(i, j), 0);
+				if (expected[i][j] != 0)
+					nonZeros++;
+			}
+		assertEquals(message, nonZeros, matrix.nonZeros());
+	}
+
+	static double[][] randomMatrix(long seed) {
+		Random random = new Random(seed);
+		double[][] dense = new double[1 + random.nextInt(10)][1 + random.nextInt(10)];
+		for (int i = 0; i < dense.length; i++)
+			for (int j = 0; j < dense[i].length; j++)
+				if (random.nextDouble() < 0.4)
+					dense[i][j] = 1 + random.nextInt(9);
+		return dense;
+	}
+
+	static SparseMatrix build(double[][] dense) {
+		SparseMatrix.Builder builder = new SparseMatrix.Builder();
+		for (int i = 0; i < dense.length; i++)
+			for (int j = 0; j < dense[i].length; j++)
+				builder.add(i, j, dense[i][j]);
+		return builder.build(dense.length, dense[0].length);
+	}
+}
@@ -0,0 +1,112 @@
+package RevisedSimplex.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class WarmStartTest {
+	private static final double TOLERANCE = 1e-7;
+
+	@Test
+	public void optimalBasisIsExportedInTermsOfTheProgram() {
+		RevisedSimplex solver = program().solver();
+		assertEquals(RevisedSimplex.OPTIMAL, solver.solve());
+		BasisSnapshot basis = solver.exportBasis();
+
+		// both columns are basic, so both rows are active
+		assertArrayEquals(new int[] { BasisSnapshot.BASIC, BasisSnapshot.BASIC }, basis.columnStatus);
+		assertArrayEquals(new int[] { BasisSnapshot.AT_LOWER, BasisSnapshot.AT_LOWER, BasisSnapshot.BASIC }, basis.rowStatus);
+	}
+
+	@Test
+	public void optimalBasisNeedsNoPivots() {
+		Programs.Program program = program();
+		RevisedSimplex cold = program.solver();
+		assertEquals(RevisedSimplex.OPTIMAL, cold.solve());
+
+		RevisedSimplex warm = program.solver();
+		assertTrue(warm.importBasis(cold.exportBasis()));
+		assertEquals(RevisedSimplex.OPTIMAL, warm.solve());
+		assertEquals(cold.objectiveValue, warm.objectiveValue, TOLERANCE);
+		assertEquals(0, warm.statistics.phaseOneIterations);
+		assertEquals(0, warm.statistics.zeroStepPivots);
+		assertTrue(warm.statistics.iterations < cold.statistics.iterations);
+	}
+
+	@Test
+	public void dualFeasibleBasisStartsWithTheDualSimplex() {
+		Programs.Program program = program();
+		RevisedSimplex cold = program.solver();
+		assertEquals(RevisedSimplex.OPTIMAL, cold.solve());
+
+		// with x + 2y >= 20 the old basis is no longer primal feasible
+		program.b[0] = 20;
+		RevisedSimplex warm = program.solver();
+		assertTrue(warm.importBasis(cold.exportBasis()));
+		assertEquals(RevisedSimplex.OPTIMAL, warm.solve());
+		assertEquals("dual simplex", warm.statistics.pricingRule);
+		assertEquals(10, warm.objectiveValue, TOLERANCE);
+	}
+
+	@Test
+	public void unusableBasesAreRejected() {
+		Programs.Program program = program();
+		RevisedSimplex solver = program.solver();
+
+		assertFalse(solver.importBasis(new BasisSnapshot(3, 3)));
+		assertFalse(solver.importBasis(new BasisSnapshot(2, 3)));
+
+		// y basic with x + 2y >= 4 active puts y at 2, which breaks 3x + y >= 6,
+		// and once y pays to grow, lowering the surplus of the first row pays
+		program.cost = new double[] { 1, -1 };
+		BasisSnapshot basis = new BasisSnapshot(2, 3);
+		basis.columnStatus[1] = BasisSnapshot.BASIC;
+		basis.rowStatus[1] = BasisSnapshot.BASIC;
+		basis.rowStatus[2] = BasisSnapshot.BASIC;
+		solver = program.solver();
+		assertFalse(solver.importBasis(basis));
+		// the starting basis is kept
+		assertEquals(RevisedSimplex.OPTIMAL, solver.solve());
+		assertEquals(-10, solver.objectiveValue, TOLERANCE);
+	}
+
+	@Test
+	public void importedBasesOfRandomProgramsAreOptimal() {
+		int imported = 0;
+		for (long seed = 0; seed < 1000; seed++) {
+			Programs.Program program = Programs.randomProgram(seed);
+			RevisedSimplex cold = program.solver();
+			if (cold.solve() != RevisedSimplex.OPTIMAL)
+				continue;
+
+			RevisedSimplex warm = program.solver();
+			assertTrue("seed " + seed, warm.importBasis(cold.exportBasis()));
+			assertEquals("seed " + seed, RevisedSimplex.OPTIMAL, warm.solve());
+			assertEquals("seed " + seed, cold.objectiveValue, warm.objectiveValue, TOLERANCE * (1 + Math.abs(cold.objectiveValue)));
+			assertEquals("seed " + seed, 0, warm.statistics.phaseOneIterations);
+			imported++;
+		}
+		assertTrue(imported > 100);
+	}
+
+	/**
+	 * @return min x + y subject to x + 2y >= 4, 3x + y >= 6 and x + y <= 10,
+	 *         optimal at (1.6, 1.2)
+	 */
+	private static Programs.Program program() {
+		Programs.Program program = new Programs.Program(2, 3);
+		program.A[0] = new double[] { 1, 2 };
+		program.b[0] = 4;
+		program.type[0] = 1;
+		program.A[1] = new double[] { 3, 1 };
+		program.b[1] = 6;
+		program.type[1] = 1;
+		program.A[2] = new double[] { 1, 1 };
+		program.b[2] = 10;
+		program.cost = new double[] { 1, 1 };
+		return program;
+	}
+}